@@ -279,6 +279,32 @@ class DataQuanta[Out: ClassTag](val operator: ElementaryOperator, outputIndex: I
     }
   }
 
+  /**
+    * Feed this instance into a [[SampleOperator]] that samples each stratum, i.e., the data quanta with the same
+    * key, separately.
+    *
+    * @param keyUdf     UDF to extract the stratum from the data quanta
+    * @param sampleSize absolute size of the sample of each stratum
+    * @return a new instance representing the [[SampleOperator]]'s output
+    */
+  def sampleByKey[Key: ClassTag](keyUdf: Out => Key,
+                                 sampleSize: Int,
+                                 seed: Option[Long] = None): DataQuanta[Out] = {
+    val sampleOperator = new SampleOperator(
+      new IntUnaryOperator {
+        override def applyAsInt(operand: Int): Int = sampleSize
+      },
+      dataSetType[Out],
+      SampleOperator.Methods.STRATIFIED,
+      seed.getOrElse(SampleOperator.randomSeed())
+    )
+    sampleOperator.setStratumKeyDescriptor(
+      new TransformationDescriptor(toSerializableFunction(keyUdf), basicDataUnitType[Out], basicDataUnitType[Key])
+    )
+    this.connectTo(sampleOperator, 0)
+    sampleOperator
+  }
+
   /**
     * Assigns this instance a key extractor, which enables some key-based operations.
     *
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.data;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * An approximate value along with bounds that contain the exact value with a certain probability.
+ */
+public class Estimate implements Serializable {
+
+    private final double value;
+
+    private final double lowerBound;
+
+    private final double upperBound;
+
+    private final double confidence;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param value      the approximate value
+     * @param lowerBound lower bound for the exact value
+     * @param upperBound upper bound for the exact value
+     * @param confidence probability that the exact value lies within the bounds
+     */
+    public Estimate(double value, double lowerBound, double upperBound, double confidence) {
+        this.value = value;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.confidence = confidence;
+    }
+
+    public double getValue() {
+        return this.value;
+    }
+
+    public double getLowerBound() {
+        return this.lowerBound;
+    }
+
+    public double getUpperBound() {
+        return this.upperBound;
+    }
+
+    public double getConfidence() {
+        return this.confidence;
+    }
+
+    /**
+     * @return the approximate value rounded to a {@code long}
+     */
+    public long getRoundedValue() {
+        return Math.round(this.value);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+        Estimate that = (Estimate) o;
+        return Double.compare(this.value, that.value) == 0 &&
+                Double.compare(this.lowerBound, that.lowerBound) == 0 &&
+                Double.compare(this.upperBound, that.upperBound) == 0 &&
+                Double.compare(this.confidence, that.confidence) == 0;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.value, this.lowerBound, this.upperBound, this.confidence);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%,.2f (%,.2f..%,.2f, %.1f%%)]",
+                this.getClass().getSimpleName(), this.value, this.lowerBound, this.upperBound, this.confidence * 100);
+    }
+}
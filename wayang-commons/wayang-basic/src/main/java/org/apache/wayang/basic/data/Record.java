@@ -30,6 +30,11 @@ import java.util.Objects;
  */
 public class Record implements Serializable, Copyable<Record> {
 
+    /**
+     * Used by subclasses that provide their own storage.
+     */
+    static final Object[] NO_VALUES = new Object[0];
+
     private Object[] values;
 
     public Record(Object... values) {
@@ -44,14 +49,36 @@ public class Record implements Serializable, Copyable<Record> {
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
-        if (o == null || this.getClass() != o.getClass()) return false;
+        if (!(o instanceof Record)) return false;
         Record record2 = (Record) o;
-        return Arrays.equals(this.values, record2.values);
+        if (this.getClass() == Record.class && record2.getClass() == Record.class) {
+            return Arrays.equals(this.values, record2.values);
+        }
+        return this.equalsFieldwise(record2);
     }
 
+    /**
+     * Compares this instance with another {@link Record} field by field, regardless of their representations.
+     *
+     * @param that the other {@link Record}
+     * @return whether both instances have equal fields
+     */
+    protected final boolean equalsFieldwise(Record that) {
+        final int size = this.size();
+        if (size != that.size()) return false;
+        for (int i = 0; i < size; i++) {
+            if (!Objects.equals(this.getField(i), that.getField(i))) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Subclasses must produce the same hash code for the same fields, as {@link Record}s of different representations
+     * can be equal.
+     */
     @Override
     public int hashCode() {
-        return Objects.hash(Arrays.hashCode(values));
+        return Arrays.hashCode(this.values);
     }
 
     @Override
@@ -72,7 +99,7 @@ public class Record implements Serializable, Copyable<Record> {
     public double getDouble(int index) {
         Object field = this.values[index];
         return ReflectionUtils.toDouble(field);
-       }
+    }
 
     /**
      * Retrieve a field as a {@code long}. It must be castable as such.
@@ -81,9 +108,18 @@ public class Record implements Serializable, Copyable<Record> {
      * @return the {@code long} representation of the field
      */
     public long getLong(int index) {
-        Object field = this.values[index];
-        if (field instanceof Integer) return (Integer) field;
-        else if (field instanceof Long) return (Long) field;
+        return toLong(this.values[index]);
+    }
+
+    /**
+     * Converts a field value to a {@code long}. It must be castable as such.
+     *
+     * @param field the field value
+     * @return the {@code long} representation of the field
+     */
+    protected static long toLong(Object field) {
+        if (field instanceof Long) return (Long) field;
+        else if (field instanceof Integer) return (Integer) field;
         else if (field instanceof Short) return (Short) field;
         else if (field instanceof Byte) return (Byte) field;
         throw new IllegalStateException(String.format("%s cannot be retrieved as long.", field));
@@ -96,7 +132,16 @@ public class Record implements Serializable, Copyable<Record> {
      * @return the {@code int} representation of the field
      */
     public int getInt(int index) {
-        Object field = this.values[index];
+        return toInt(this.values[index]);
+    }
+
+    /**
+     * Converts a field value to an {@code int}. It must be castable as such.
+     *
+     * @param field the field value
+     * @return the {@code int} representation of the field
+     */
+    protected static int toInt(Object field) {
         if (field instanceof Integer) return (Integer) field;
         else if (field instanceof Short) return (Short) field;
         else if (field instanceof Byte) return (Byte) field;
@@ -0,0 +1,453 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.wayang.basic.data;
+
+import org.apache.wayang.core.util.ReflectionUtils;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A fixed-capacity, column-oriented batch of {@link Record}s that share a {@link RecordLayout}. Fixed-width fields
+ * are stored unboxed in one {@code long[]} per field (encoded as in {@link TypedRecord}), so that operators can
+ * process them in tight loops. Columns may be shared among instances, e.g., after a {@link #project(int[], RecordLayout)},
+ * so that instances must not be modified once they have been handed on.
+ */
+public class RecordBatch implements Serializable {
+
+    private final RecordLayout layout;
+
+    private final int capacity;
+
+    private int size;
+
+    /**
+     * One column per primitive slot of the {@link #layout}.
+     */
+    private final long[][] primitiveColumns;
+
+    /**
+     * One column per reference slot of the {@link #layout}.
+     */
+    private final Object[][] referenceColumns;
+
+    /**
+     * Marks {@code null} rows in fixed-width fields. Each column is {@code null} if there are no such rows.
+     */
+    private final long[][] nullColumns;
+
+    /**
+     * Creates a new, empty instance.
+     *
+     * @param layout   the {@link RecordLayout} of the contained {@link Record}s
+     * @param capacity the maximum number of contained {@link Record}s
+     */
+    public RecordBatch(RecordLayout layout, int capacity) {
+        this.layout = layout;
+        this.capacity = capacity;
+        this.primitiveColumns = new long[layout.getNumPrimitives()][capacity];
+        this.referenceColumns = new Object[layout.getNumReferences()][capacity];
+        this.nullColumns = new long[layout.size()][];
+    }
+
+    private RecordBatch(RecordLayout layout, int size,
+                        long[][] primitiveColumns, Object[][] referenceColumns, long[][] nullColumns) {
+        this.layout = layout;
+        this.capacity = size;
+        this.size = size;
+        this.primitiveColumns = primitiveColumns;
+        this.referenceColumns = referenceColumns;
+        this.nullColumns = nullColumns;
+    }
+
+    public RecordLayout getLayout() {
+        return this.layout;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    public boolean isFull() {
+        return this.size == this.capacity;
+    }
+
+    public boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * Appends a {@link Record} to this instance. {@link TypedRecord}s with the same {@link RecordLayout} are copied
+     * without boxing; the fields of other {@link Record}s are converted to the field types.
+     *
+     * @param record the {@link Record} to append
+     */
+    public void add(Record record) {
+        if (this.isFull()) {
+            throw new IllegalStateException(String.format("%s is full.", this));
+        }
+        final int row = this.size;
+        if (record instanceof TypedRecord && this.layout.equals(((TypedRecord) record).getLayout())) {
+            TypedRecord typedRecord = (TypedRecord) record;
+            for (int slot = 0; slot < this.primitiveColumns.length; slot++) {
+                this.primitiveColumns[slot][row] = typedRecord.primitives[slot];
+            }
+            for (int slot = 0; slot < this.referenceColumns.length; slot++) {
+                this.referenceColumns[slot][row] = typedRecord.references[slot];
+            }
+            if (typedRecord.nulls != null) {
+                for (int field = 0; field < this.layout.size(); field++) {
+                    if (this.layout.getKind(field).isFixedWidth() && typedRecord.isNull(field)) {
+                        this.markNull(field, row);
+                    }
+                }
+            }
+        } else {
+            if (record.size() != this.layout.size()) {
+                throw new IllegalArgumentException(String.format("%s does not match %s.", record, this.layout));
+            }
+            for (int field = 0; field < this.layout.size(); field++) {
+                final RecordLayout.FieldKind kind = this.layout.getKind(field);
+                final int slot = this.layout.getSlot(field);
+                final Object value = record.getField(field);
+                if (!kind.isFixedWidth()) {
+                    this.referenceColumns[slot][row] = value;
+                } else if (value == null) {
+                    this.markNull(field, row);
+                } else {
+                    this.primitiveColumns[slot][row] = TypedRecord.encode(kind, value);
+                }
+            }
+        }
+        this.size++;
+    }
+
+    private void markNull(int field, int row) {
+        if (this.nullColumns[field] == null) this.nullColumns[field] = new long[((this.capacity - 1) >>> 6) + 1];
+        this.nullColumns[field][row >>> 6] |= 1L << row;
+    }
+
+    /**
+     * Tells whether a field is {@code null}.
+     *
+     * @param field the index of the field
+     * @param row   the index of the row
+     * @return whether the field is {@code null}
+     */
+    public boolean isNull(int field, int row) {
+        if (!this.layout.getKind(field).isFixedWidth()) {
+            return this.referenceColumns[this.layout.getSlot(field)][row] == null;
+        }
+        final long[] nulls = this.nullColumns[field];
+        return nulls != null && (nulls[row >>> 6] & (1L << row)) != 0;
+    }
+
+    /**
+     * Tells whether a fixed-width field may contain {@code null}s. If not, its column can be processed without
+     * checking {@link #isNull(int, int)}.
+     *
+     * @param field the index of the field
+     * @return whether there may be {@code null}s
+     */
+    public boolean hasNulls(int field) {
+        return !this.layout.getKind(field).isFixedWidth() || this.nullColumns[field] != null;
+    }
+
+    /**
+     * Provides the column of a fixed-width field. Integral values are stored as they are, {@code double}s and
+     * {@code float}s via their canonical bit patterns, {@code boolean}s as {@code 0} and {@code 1}, and {@code null}s
+     * as {@code 0}. Only the first {@link #size()} entries are valid.
+     *
+     * @param field the index of the field
+     * @return the column
+     */
+    public long[] getPrimitiveColumn(int field) {
+        if (!this.layout.getKind(field).isFixedWidth()) {
+            throw new IllegalArgumentException(String.format("Field %d of %s is not fixed-width.", field, this.layout));
+        }
+        return this.primitiveColumns[this.layout.getSlot(field)];
+    }
+
+    /**
+     * Provides the column of a field that is not fixed-width. Only the first {@link #size()} entries are valid.
+     *
+     * @param field the index of the field
+     * @return the column
+     */
+    public Object[] getReferenceColumn(int field) {
+        if (this.layout.getKind(field).isFixedWidth()) {
+            throw new IllegalArgumentException(String.format("Field %d of %s is fixed-width.", field, this.layout));
+        }
+        return this.referenceColumns[this.layout.getSlot(field)];
+    }
+
+    /**
+     * Retrieve a field.
+     *
+     * @param field the index of the field
+     * @param row   the index of the row
+     * @return the (boxed) field value
+     */
+    public Object getField(int field, int row) {
+        final RecordLayout.FieldKind kind = this.layout.getKind(field);
+        final int slot = this.layout.getSlot(field);
+        if (!kind.isFixedWidth()) return this.referenceColumns[slot][row];
+        if (this.isNull(field, row)) return null;
+        return TypedRecord.box(kind, this.primitiveColumns[slot][row]);
+    }
+
+    /**
+     * Materializes a row.
+     *
+     * @param row the index of the row
+     * @return a new {@link TypedRecord} with the fields of the row
+     */
+    public TypedRecord getRecord(int row) {
+        TypedRecord record = new TypedRecord(this.layout);
+        for (int slot = 0; slot < this.primitiveColumns.length; slot++) {
+            record.primitives[slot] = this.primitiveColumns[slot][row];
+        }
+        for (int slot = 0; slot < this.referenceColumns.length; slot++) {
+            record.references[slot] = this.referenceColumns[slot][row];
+        }
+        for (int field = 0; field < this.nullColumns.length; field++) {
+            if (this.nullColumns[field] != null && this.isNull(field, row)) record.markNull(field);
+        }
+        return record;
+    }
+
+    /**
+     * Materializes all rows.
+     *
+     * @return a {@link Stream} of new {@link TypedRecord}s
+     */
+    public Stream<Record> stream() {
+        return IntStream.range(0, this.size).mapToObj(this::getRecord);
+    }
+
+    /**
+     * Creates a new instance that contains the given rows of this instance.
+     *
+     * @param rows     the indices of the rows in ascending order
+     * @param numRows  the number of valid entries in {@code rows}
+     * @return the new instance or this instance if all rows are selected
+     */
+    public RecordBatch select(int[] rows, int numRows) {
+        if (numRows == this.size) return this;
+        final long[][] primitiveColumns = new long[this.primitiveColumns.length][];
+        for (int slot = 0; slot < primitiveColumns.length; slot++) {
+            final long[] column = this.primitiveColumns[slot], selectedColumn = new long[numRows];
+            for (int i = 0; i < numRows; i++) {
+                selectedColumn[i] = column[rows[i]];
+            }
+            primitiveColumns[slot] = selectedColumn;
+        }
+        final Object[][] referenceColumns = new Object[this.referenceColumns.length][];
+        for (int slot = 0; slot < referenceColumns.length; slot++) {
+            final Object[] column = this.referenceColumns[slot], selectedColumn = new Object[numRows];
+            for (int i = 0; i < numRows; i++) {
+                selectedColumn[i] = column[rows[i]];
+            }
+            referenceColumns[slot] = selectedColumn;
+        }
+        final RecordBatch selection = new RecordBatch(
+                this.layout, numRows, primitiveColumns, referenceColumns, new long[this.layout.size()][]
+        );
+        for (int field = 0; field < this.nullColumns.length; field++) {
+            if (this.nullColumns[field] == null) continue;
+            for (int i = 0; i < numRows; i++) {
+                if (this.isNull(field, rows[i])) selection.markNull(field, i);
+            }
+        }
+        return selection;
+    }
+
+    /**
+     * Creates a new instance that contains the given fields of this instance. The columns are not copied.
+     *
+     * @param fieldIndices    the indices of the fields to retain in order of appearance
+     * @param projectedLayout the {@link RecordLayout} of the new instance as per {@link RecordLayout#project(int[])}
+     * @return the new instance
+     */
+    public RecordBatch project(int[] fieldIndices, RecordLayout projectedLayout) {
+        assert projectedLayout.size() == fieldIndices.length;
+        final long[][] primitiveColumns = new long[projectedLayout.getNumPrimitives()][];
+        final Object[][] referenceColumns = new Object[projectedLayout.getNumReferences()][];
+        final long[][] nullColumns = new long[fieldIndices.length][];
+        for (int i = 0; i < fieldIndices.length; i++) {
+            final int field = fieldIndices[i];
+            final int slot = this.layout.getSlot(field), projectedSlot = projectedLayout.getSlot(i);
+            if (this.layout.getKind(field).isFixedWidth()) {
+                primitiveColumns[projectedSlot] = this.primitiveColumns[slot];
+                nullColumns[i] = this.nullColumns[field];
+            } else {
+                referenceColumns[projectedSlot] = this.referenceColumns[slot];
+            }
+        }
+        return new RecordBatch(projectedLayout, this.size, primitiveColumns, referenceColumns, nullColumns);
+    }
+
+    /**
+     * Creates a new {@link RowView} on this instance.
+     *
+     * @return the new {@link RowView}
+     */
+    public RowView createView() {
+        return new RowView();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%d/%d, %s]", this.getClass().getSimpleName(), this.size, this.capacity, this.layout);
+    }
+
+    /**
+     * A reusable {@link Record} view on a row of the enclosing {@link RecordBatch}. It lets row-wise UDFs access
+     * fields without materializing the row; however, UDFs must not retain the view beyond their invocation but
+     * {@link #copy()} it instead.
+     */
+    public class RowView extends Record {
+
+        private int row;
+
+        private RowView() {
+            super(NO_VALUES);
+        }
+
+        /**
+         * Moves this instance to the given row.
+         *
+         * @param row the index of the row
+         * @return this instance
+         */
+        public RowView moveTo(int row) {
+            this.row = row;
+            return this;
+        }
+
+        public int getRow() {
+            return this.row;
+        }
+
+        @Override
+        public TypedRecord copy() {
+            return RecordBatch.this.getRecord(this.row);
+        }
+
+        @Override
+        public Object getField(int index) {
+            return RecordBatch.this.getField(index, this.row);
+        }
+
+        @Override
+        public long getLong(int index) {
+            switch (RecordBatch.this.layout.getKind(index)) {
+                case LONG:
+                case INT:
+                case SHORT:
+                case BYTE:
+                    if (!RecordBatch.this.isNull(index, this.row)) {
+                        return RecordBatch.this.primitiveColumns[RecordBatch.this.layout.getSlot(index)][this.row];
+                    }
+                    // Fall through for null fields.
+                default:
+                    return toLong(this.getField(index));
+            }
+        }
+
+        @Override
+        public int getInt(int index) {
+            switch (RecordBatch.this.layout.getKind(index)) {
+                case INT:
+                case SHORT:
+                case BYTE:
+                    if (!RecordBatch.this.isNull(index, this.row)) {
+                        return (int) RecordBatch.this.primitiveColumns[RecordBatch.this.layout.getSlot(index)][this.row];
+                    }
+                    // Fall through for null fields.
+                default:
+                    return toInt(this.getField(index));
+            }
+        }
+
+        @Override
+        public double getDouble(int index) {
+            final RecordLayout.FieldKind kind = RecordBatch.this.layout.getKind(index);
+            if (kind.isFixedWidth() && kind != RecordLayout.FieldKind.BOOLEAN && !RecordBatch.this.isNull(index, this.row)) {
+                final long value = RecordBatch.this.primitiveColumns[RecordBatch.this.layout.getSlot(index)][this.row];
+                switch (kind) {
+                    case DOUBLE:
+                        return Double.longBitsToDouble(value);
+                    case FLOAT:
+                        return Float.intBitsToFloat((int) value);
+                    default:
+                        return value;
+                }
+            }
+            return ReflectionUtils.toDouble(this.getField(index));
+        }
+
+        @Override
+        public String getString(int index) {
+            final Object field = this.getField(index);
+            return field == null ? null : field.toString();
+        }
+
+        @Override
+        public int size() {
+            return RecordBatch.this.layout.size();
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return this == o || o instanceof Record && this.equalsFieldwise((Record) o);
+        }
+
+        @Override
+        public int hashCode() {
+            int result = 1;
+            for (int field = 0; field < this.size(); field++) {
+                final RecordLayout.FieldKind kind = RecordBatch.this.layout.getKind(field);
+                final int fieldHash;
+                if (!kind.isFixedWidth()) {
+                    fieldHash = Objects.hashCode(RecordBatch.this.getField(field, this.row));
+                } else if (RecordBatch.this.isNull(field, this.row)) {
+                    fieldHash = 0;
+                } else {
+                    fieldHash = TypedRecord.hashField(
+                            kind, RecordBatch.this.primitiveColumns[RecordBatch.this.layout.getSlot(field)][this.row]
+                    );
+                }
+                result = 31 * result + fieldHash;
+            }
+            return result;
+        }
+
+        @Override
+        public String toString() {
+            return this.copy().toString();
+        }
+    }
+
+}
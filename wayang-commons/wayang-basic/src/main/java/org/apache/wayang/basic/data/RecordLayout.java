@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.wayang.basic.data;
+
+import java.io.ObjectStreamException;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Describes how the fields of a {@link TypedRecord} are laid out: Fixed-width fields are stored in a {@code long[]}
+ * and all other fields are stored in an {@code Object[]}. Instances are interned, so that equal layouts are usually
+ * identical.
+ */
+public final class RecordLayout implements Serializable {
+
+    /**
+     * The kinds of fields that can be stored in a {@link TypedRecord}.
+     */
+    public enum FieldKind {
+
+        BOOLEAN, BYTE, SHORT, INT, LONG, FLOAT, DOUBLE, OBJECT;
+
+        /**
+         * Determines the {@link FieldKind} for the given field type.
+         *
+         * @param fieldType a primitive or wrapper class or any other class
+         * @return the {@link FieldKind}
+         */
+        public static FieldKind of(Class<?> fieldType) {
+            if (fieldType == Long.class || fieldType == long.class) return LONG;
+            if (fieldType == Integer.class || fieldType == int.class) return INT;
+            if (fieldType == Double.class || fieldType == double.class) return DOUBLE;
+            if (fieldType == Float.class || fieldType == float.class) return FLOAT;
+            if (fieldType == Boolean.class || fieldType == boolean.class) return BOOLEAN;
+            if (fieldType == Short.class || fieldType == short.class) return SHORT;
+            if (fieldType == Byte.class || fieldType == byte.class) return BYTE;
+            return OBJECT;
+        }
+
+        /**
+         * Tells whether fields of this kind are stored in a primitive slot.
+         *
+         * @return whether this kind is fixed-width
+         */
+        public boolean isFixedWidth() {
+            return this != OBJECT;
+        }
+
+    }
+
+    /**
+     * Interned instances.
+     */
+    private static final Map<List<FieldKind>, RecordLayout> INSTANCES = new ConcurrentHashMap<>();
+
+    /**
+     * The {@link FieldKind}s of the fields in order of appearance.
+     */
+    private final FieldKind[] kinds;
+
+    /**
+     * Maps each field to its index in the primitive or reference storage, respectively. Not transient, because
+     * serializers such as Kryo bypass {@link #readResolve()}.
+     */
+    private final int[] slots;
+
+    /**
+     * Number of primitive and reference slots.
+     */
+    private final int numPrimitives, numReferences;
+
+    private RecordLayout(FieldKind[] kinds) {
+        this.kinds = kinds;
+        this.slots = new int[kinds.length];
+        int numPrimitives = 0, numReferences = 0;
+        for (int i = 0; i < kinds.length; i++) {
+            this.slots[i] = kinds[i].isFixedWidth() ? numPrimitives++ : numReferences++;
+        }
+        this.numPrimitives = numPrimitives;
+        this.numReferences = numReferences;
+    }
+
+    /**
+     * Provides the instance for the given field types.
+     *
+     * @param fieldTypes the types of the fields in order of appearance
+     * @return the interned instance
+     */
+    public static RecordLayout of(Class<?>... fieldTypes) {
+        FieldKind[] kinds = new FieldKind[fieldTypes.length];
+        for (int i = 0; i < fieldTypes.length; i++) {
+            kinds[i] = FieldKind.of(fieldTypes[i]);
+        }
+        return of(kinds);
+    }
+
+    /**
+     * Provides the instance for the given {@link FieldKind}s.
+     *
+     * @param kinds the kinds of the fields in order of appearance
+     * @return the interned instance
+     */
+    public static RecordLayout of(FieldKind... kinds) {
+        return INSTANCES.computeIfAbsent(Arrays.asList(kinds.clone()), key -> new RecordLayout(key.toArray(new FieldKind[0])));
+    }
+
+    /**
+     * Provides the layout of the given fields of this instance.
+     *
+     * @param fieldIndices the indices of the fields to retain in order of appearance
+     * @return the interned instance
+     */
+    public RecordLayout project(int[] fieldIndices) {
+        FieldKind[] projectedKinds = new FieldKind[fieldIndices.length];
+        for (int i = 0; i < fieldIndices.length; i++) {
+            projectedKinds[i] = this.kinds[fieldIndices[i]];
+        }
+        return of(projectedKinds);
+    }
+
+    public int size() {
+        return this.kinds.length;
+    }
+
+    public FieldKind getKind(int index) {
+        return this.kinds[index];
+    }
+
+    /**
+     * Retrieve the index of the given field within the primitive or reference storage, depending on its
+     * {@link FieldKind}.
+     *
+     * @param index the index of the field
+     * @return the slot index
+     */
+    public int getSlot(int index) {
+        return this.slots[index];
+    }
+
+    public int getNumPrimitives() {
+        return this.numPrimitives;
+    }
+
+    public int getNumReferences() {
+        return this.numReferences;
+    }
+
+    /**
+     * Keeps instances interned across serialization.
+     */
+    private Object readResolve() throws ObjectStreamException {
+        return of(this.kinds);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+        return Arrays.equals(this.kinds, ((RecordLayout) o).kinds);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.kinds);
+    }
+
+    @Override
+    public String toString() {
+        return "RecordLayout" + Arrays.toString(this.kinds);
+    }
+
+}
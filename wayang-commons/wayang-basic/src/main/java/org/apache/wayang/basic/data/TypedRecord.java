@@ -0,0 +1,438 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.wayang.basic.data;
+
+import org.apache.wayang.basic.types.RecordType;
+import org.apache.wayang.core.util.ReflectionUtils;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * A {@link Record} that is bound to a {@link RecordLayout}: Fixed-width fields are stored unboxed in a
+ * {@code long[]} and only other fields are stored as references. Hence, typed accessors, {@link #hashCode()} and
+ * {@link #equals(Object)} do not allocate. Instances are equal to plain {@link Record}s with equal fields and
+ * produce the same hash codes.
+ * <p>Fixed-width fields are initially {@code 0} or {@code false}, respectively, and can be set to {@code null}
+ * explicitly.</p>
+ *
+ * @see RecordType#createRecord(Object...)
+ */
+public class TypedRecord extends Record {
+
+    private final RecordLayout layout;
+
+    /**
+     * Stores fixed-width fields. {@code double}s and {@code float}s are stored via their canonical bit patterns.
+     */
+    final long[] primitives;
+
+    /**
+     * Stores all other fields.
+     */
+    final Object[] references;
+
+    /**
+     * Marks {@code null} fixed-width fields or is {@code null} if there are none.
+     */
+    long[] nulls;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param layout the {@link RecordLayout} of the new instance
+     */
+    public TypedRecord(RecordLayout layout) {
+        super(NO_VALUES);
+        this.layout = layout;
+        this.primitives = new long[layout.getNumPrimitives()];
+        this.references = new Object[layout.getNumReferences()];
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param layout the {@link RecordLayout} of the new instance
+     * @param values the fields of the new instance; numbers are converted to the field types
+     */
+    public TypedRecord(RecordLayout layout, Object... values) {
+        this(layout);
+        if (values.length != layout.size()) {
+            throw new IllegalArgumentException(String.format(
+                    "Expected %d values for %s, got %d.", layout.size(), layout, values.length
+            ));
+        }
+        for (int i = 0; i < values.length; i++) {
+            this.setField(i, values[i]);
+        }
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param type   a {@link RecordType} with field types
+     * @param values the fields of the new instance; numbers are converted to the field types
+     */
+    public TypedRecord(RecordType type, Object... values) {
+        this(type.getLayout(), values);
+    }
+
+    /**
+     * Copy constructor.
+     */
+    private TypedRecord(TypedRecord that) {
+        super(NO_VALUES);
+        this.layout = that.layout;
+        this.primitives = that.primitives.clone();
+        this.references = that.references.clone();
+        this.nulls = that.nulls == null ? null : that.nulls.clone();
+    }
+
+    public RecordLayout getLayout() {
+        return this.layout;
+    }
+
+    @Override
+    public TypedRecord copy() {
+        return new TypedRecord(this);
+    }
+
+    /**
+     * Creates a new instance that contains the given fields of this instance without boxing them.
+     *
+     * @param fieldIndices     the indices of the fields to retain in order of appearance
+     * @param projectedLayout  the {@link RecordLayout} of the new instance as per {@link RecordLayout#project(int[])}
+     * @return the new instance
+     */
+    public TypedRecord project(int[] fieldIndices, RecordLayout projectedLayout) {
+        assert projectedLayout.size() == fieldIndices.length;
+        TypedRecord projection = new TypedRecord(projectedLayout);
+        for (int i = 0; i < fieldIndices.length; i++) {
+            final int fieldIndex = fieldIndices[i];
+            final int slot = this.layout.getSlot(fieldIndex), projectedSlot = projectedLayout.getSlot(i);
+            if (this.layout.getKind(fieldIndex).isFixedWidth()) {
+                if (this.isNull(fieldIndex)) projection.markNull(i);
+                else projection.primitives[projectedSlot] = this.primitives[slot];
+            } else {
+                projection.references[projectedSlot] = this.references[slot];
+            }
+        }
+        return projection;
+    }
+
+    @Override
+    public int size() {
+        return this.layout.size();
+    }
+
+    /**
+     * Tells whether a field is {@code null}.
+     *
+     * @param index the index of the field
+     * @return whether the field is {@code null}
+     */
+    public boolean isNull(int index) {
+        final int slot = this.layout.getSlot(index);
+        if (!this.layout.getKind(index).isFixedWidth()) return this.references[slot] == null;
+        return this.nulls != null && (this.nulls[index >>> 6] & (1L << index)) != 0;
+    }
+
+    @Override
+    public Object getField(int index) {
+        final RecordLayout.FieldKind kind = this.layout.getKind(index);
+        final int slot = this.layout.getSlot(index);
+        if (!kind.isFixedWidth()) return this.references[slot];
+        if (this.isNull(index)) return null;
+        return box(kind, this.primitives[slot]);
+    }
+
+    /**
+     * Boxes the encoding of a fixed-width field.
+     *
+     * @param kind  the {@link RecordLayout.FieldKind} of the field
+     * @param value the encoded value
+     * @return the boxed value
+     */
+    static Object box(RecordLayout.FieldKind kind, long value) {
+        switch (kind) {
+            case LONG:
+                return value;
+            case INT:
+                return (int) value;
+            case DOUBLE:
+                return Double.longBitsToDouble(value);
+            case FLOAT:
+                return Float.intBitsToFloat((int) value);
+            case BOOLEAN:
+                return value != 0;
+            case SHORT:
+                return (short) value;
+            case BYTE:
+                return (byte) value;
+            default:
+                throw new IllegalStateException(String.format("Cannot box %s fields.", kind));
+        }
+    }
+
+    /**
+     * Encodes a non-{@code null} value for a fixed-width field.
+     *
+     * @param kind  the {@link RecordLayout.FieldKind} of the field
+     * @param value the value; numbers are converted to the field type
+     * @return the encoded value
+     */
+    static long encode(RecordLayout.FieldKind kind, Object value) {
+        switch (kind) {
+            case DOUBLE:
+                return Double.doubleToLongBits(((Number) value).doubleValue());
+            case FLOAT:
+                return Float.floatToIntBits(((Number) value).floatValue());
+            case BOOLEAN:
+                return ((Boolean) value) ? 1L : 0L;
+            case INT:
+                return ((Number) value).intValue();
+            case SHORT:
+                return ((Number) value).shortValue();
+            case BYTE:
+                return ((Number) value).byteValue();
+            case LONG:
+                return ((Number) value).longValue();
+            default:
+                throw new IllegalStateException(String.format("Cannot encode %s fields.", kind));
+        }
+    }
+
+    /**
+     * Computes the {@link Object#hashCode()} of a boxed fixed-width field from its encoding.
+     *
+     * @param kind  the {@link RecordLayout.FieldKind} of the field
+     * @param value the encoded value
+     * @return the hash code
+     */
+    static int hashField(RecordLayout.FieldKind kind, long value) {
+        switch (kind) {
+            case LONG:
+            case DOUBLE:
+                return Long.hashCode(value);
+            case BOOLEAN:
+                return Boolean.hashCode(value != 0);
+            default:
+                // Integer, Short, Byte, and Float (via its bit pattern) hash to their int value.
+                return (int) value;
+        }
+    }
+
+    @Override
+    public long getLong(int index) {
+        switch (this.layout.getKind(index)) {
+            case LONG:
+            case INT:
+            case SHORT:
+            case BYTE:
+                if (!this.isNull(index)) return this.primitives[this.layout.getSlot(index)];
+                // Fall through for null fields.
+            default:
+                return toLong(this.getField(index));
+        }
+    }
+
+    @Override
+    public int getInt(int index) {
+        switch (this.layout.getKind(index)) {
+            case INT:
+            case SHORT:
+            case BYTE:
+                if (!this.isNull(index)) return (int) this.primitives[this.layout.getSlot(index)];
+                // Fall through for null fields.
+            default:
+                return toInt(this.getField(index));
+        }
+    }
+
+    @Override
+    public double getDouble(int index) {
+        final RecordLayout.FieldKind kind = this.layout.getKind(index);
+        if (kind.isFixedWidth() && kind != RecordLayout.FieldKind.BOOLEAN && !this.isNull(index)) {
+            final long value = this.primitives[this.layout.getSlot(index)];
+            switch (kind) {
+                case DOUBLE:
+                    return Double.longBitsToDouble(value);
+                case FLOAT:
+                    return Float.intBitsToFloat((int) value);
+                default:
+                    return value;
+            }
+        }
+        return ReflectionUtils.toDouble(this.getField(index));
+    }
+
+    @Override
+    public String getString(int index) {
+        final Object field = this.getField(index);
+        return field == null ? null : field.toString();
+    }
+
+    /**
+     * Retrieve a {@code float} field.
+     *
+     * @param index the index of the field
+     * @return the {@code float} value of the field
+     */
+    public float getFloat(int index) {
+        return Float.intBitsToFloat((int) this.primitives[this.requireSlot(index, RecordLayout.FieldKind.FLOAT)]);
+    }
+
+    /**
+     * Retrieve a {@code boolean} field.
+     *
+     * @param index the index of the field
+     * @return the {@code boolean} value of the field
+     */
+    public boolean getBoolean(int index) {
+        return this.primitives[this.requireSlot(index, RecordLayout.FieldKind.BOOLEAN)] != 0;
+    }
+
+    /**
+     * Set a field.
+     *
+     * @param index the index of the field
+     * @param value the new value; numbers are converted to the field type
+     */
+    public void setField(int index, Object value) {
+        final RecordLayout.FieldKind kind = this.layout.getKind(index);
+        final int slot = this.layout.getSlot(index);
+        if (!kind.isFixedWidth()) {
+            this.references[slot] = value;
+            return;
+        }
+        if (value == null) {
+            this.primitives[slot] = 0L;
+            this.markNull(index);
+            return;
+        }
+        this.primitives[slot] = encode(kind, value);
+        this.unmarkNull(index);
+    }
+
+    public void setLong(int index, long value) {
+        this.primitives[this.requireSlot(index, RecordLayout.FieldKind.LONG)] = value;
+        this.unmarkNull(index);
+    }
+
+    public void setInt(int index, int value) {
+        this.primitives[this.requireSlot(index, RecordLayout.FieldKind.INT)] = value;
+        this.unmarkNull(index);
+    }
+
+    public void setDouble(int index, double value) {
+        this.primitives[this.requireSlot(index, RecordLayout.FieldKind.DOUBLE)] = Double.doubleToLongBits(value);
+        this.unmarkNull(index);
+    }
+
+    public void setFloat(int index, float value) {
+        this.primitives[this.requireSlot(index, RecordLayout.FieldKind.FLOAT)] = Float.floatToIntBits(value);
+        this.unmarkNull(index);
+    }
+
+    public void setBoolean(int index, boolean value) {
+        this.primitives[this.requireSlot(index, RecordLayout.FieldKind.BOOLEAN)] = value ? 1L : 0L;
+        this.unmarkNull(index);
+    }
+
+    /**
+     * Retrieves the primitive slot of a field and verifies its {@link RecordLayout.FieldKind}.
+     */
+    private int requireSlot(int index, RecordLayout.FieldKind expectedKind) {
+        final RecordLayout.FieldKind kind = this.layout.getKind(index);
+        if (kind != expectedKind) {
+            throw new IllegalStateException(String.format("Field %d is of kind %s, not %s.", index, kind, expectedKind));
+        }
+        return this.layout.getSlot(index);
+    }
+
+    void markNull(int index) {
+        if (this.nulls == null) this.nulls = new long[((this.layout.size() - 1) >>> 6) + 1];
+        this.nulls[index >>> 6] |= 1L << index;
+    }
+
+    private void unmarkNull(int index) {
+        if (this.nulls != null) this.nulls[index >>> 6] &= ~(1L << index);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o instanceof TypedRecord) {
+            TypedRecord that = (TypedRecord) o;
+            if (this.layout == that.layout || this.layout.equals(that.layout)) {
+                return Arrays.equals(this.primitives, that.primitives)
+                        && isEqualNulls(this.nulls, that.nulls)
+                        && Arrays.equals(this.references, that.references);
+            }
+        }
+        return o instanceof Record && this.equalsFieldwise((Record) o);
+    }
+
+    /**
+     * Compares {@code null} markers, whereby a missing array is equivalent to an array of zeros.
+     */
+    private static boolean isEqualNulls(long[] nulls1, long[] nulls2) {
+        if (nulls1 == null || nulls2 == null) {
+            final long[] nulls = nulls1 == null ? nulls2 : nulls1;
+            if (nulls == null) return true;
+            for (long word : nulls) {
+                if (word != 0) return false;
+            }
+            return true;
+        }
+        return Arrays.equals(nulls1, nulls2);
+    }
+
+    /**
+     * Computes the same value as {@link Arrays#hashCode(Object[])} on the boxed fields, but without boxing.
+     */
+    @Override
+    public int hashCode() {
+        int result = 1;
+        for (int i = 0; i < this.layout.size(); i++) {
+            final RecordLayout.FieldKind kind = this.layout.getKind(i);
+            final int slot = this.layout.getSlot(i);
+            final int fieldHash;
+            if (!kind.isFixedWidth()) {
+                fieldHash = Objects.hashCode(this.references[slot]);
+            } else if (this.isNull(i)) {
+                fieldHash = 0;
+            } else {
+                fieldHash = hashField(kind, this.primitives[slot]);
+            }
+            result = 31 * result + fieldHash;
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("Record[");
+        for (int i = 0; i < this.layout.size(); i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(this.getField(i));
+        }
+        return sb.append(']').toString();
+    }
+
+}
@@ -19,6 +19,8 @@
 package org.apache.wayang.basic.function;
 
 import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.data.RecordLayout;
+import org.apache.wayang.basic.data.TypedRecord;
 import org.apache.wayang.basic.types.RecordType;
 import org.apache.wayang.core.function.FunctionDescriptor;
 import org.apache.wayang.core.function.TransformationDescriptor;
@@ -94,7 +96,7 @@ public class ProjectionDescriptor<Input, Output> extends TransformationDescripto
                 javaImplementation,
                 Arrays.asList(fieldNames),
                 inputType,
-                new RecordType(fieldNames)
+                inputType.project(fieldNames)
         );
     }
 
@@ -143,7 +145,7 @@ public class ProjectionDescriptor<Input, Output> extends TransformationDescripto
 
         private final String fieldName;
 
-        private Field field;
+        private transient Field field;
 
         private PojoImplementation(String fieldName) {
             this.fieldName = fieldName;
@@ -185,6 +187,12 @@ public class ProjectionDescriptor<Input, Output> extends TransformationDescripto
          */
         private final int[] fieldIndices;
 
+        /**
+         * {@link RecordLayout} of projected {@link TypedRecord}s or {@code null} if the input {@link RecordType} has
+         * no field types.
+         */
+        private final RecordLayout projectedLayout;
+
         /**
          * Creates a new instance.
          *
@@ -193,11 +201,17 @@ public class ProjectionDescriptor<Input, Output> extends TransformationDescripto
          */
         private RecordImplementation(RecordType recordType, String... fieldNames) {
             this.fieldIndices = toIndices(recordType, fieldNames);
+            this.projectedLayout = recordType.hasFieldTypes() ?
+                    recordType.getLayout().project(this.fieldIndices) :
+                    null;
         }
 
         @Override
         @SuppressWarnings("unchecked")
         public Record apply(Record input) {
+            if (this.projectedLayout != null && input instanceof TypedRecord) {
+                return ((TypedRecord) input).project(this.fieldIndices, this.projectedLayout);
+            }
             Object[] projectedFields = new Object[this.fieldIndices.length];
             for (int i = 0; i < this.fieldIndices.length; i++) {
                 int fieldIndex = this.fieldIndices[i];
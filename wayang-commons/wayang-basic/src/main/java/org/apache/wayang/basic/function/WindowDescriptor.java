@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.function;
+
+import org.apache.commons.lang3.Validate;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * Describes event-time windows over an unbounded stream of data quanta. Windows span {@link #getSize()}
+ * milliseconds and start every {@link #getSlide()} milliseconds, i.e., they are tumbling if size and slide coincide
+ * and sliding otherwise. Windows are half-open, i.e., {@code [start, start + size)}.
+ * <p>Data quanta may arrive out of timestamp order by up to {@link #getMaxOutOfOrderness()} milliseconds: The
+ * watermark trails the greatest observed timestamp by that bound, and a window is complete once the watermark
+ * reaches its end. Data quanta that arrive after their windows are complete are dropped.</p>
+ */
+public class WindowDescriptor implements Serializable {
+
+    private final long size, slide, maxOutOfOrderness;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param size              the length of each window in milliseconds
+     * @param slide             the distance between window starts in milliseconds
+     * @param maxOutOfOrderness the delay of data quanta in milliseconds that is tolerated
+     */
+    public WindowDescriptor(long size, long slide, long maxOutOfOrderness) {
+        Validate.isTrue(size > 0, "Window size must be positive.");
+        Validate.isTrue(slide > 0 && slide <= size, "Window slide must be positive and must not exceed the size.");
+        Validate.isTrue(maxOutOfOrderness >= 0, "Out-of-orderness must not be negative.");
+        this.size = size;
+        this.slide = slide;
+        this.maxOutOfOrderness = maxOutOfOrderness;
+    }
+
+    /**
+     * Creates a new instance for non-overlapping windows of the given length.
+     *
+     * @param size the length of each window in milliseconds
+     * @return the new instance
+     */
+    public static WindowDescriptor tumbling(long size) {
+        return new WindowDescriptor(size, size, 0L);
+    }
+
+    /**
+     * Creates a new instance for overlapping windows.
+     *
+     * @param size  the length of each window in milliseconds
+     * @param slide the distance between window starts in milliseconds
+     * @return the new instance
+     */
+    public static WindowDescriptor sliding(long size, long slide) {
+        return new WindowDescriptor(size, slide, 0L);
+    }
+
+    /**
+     * Creates a copy of this instance that tolerates the given delay of data quanta.
+     *
+     * @param maxOutOfOrderness the delay of data quanta in milliseconds that is tolerated
+     * @return the new instance
+     */
+    public WindowDescriptor withMaxOutOfOrderness(long maxOutOfOrderness) {
+        return new WindowDescriptor(this.size, this.slide, maxOutOfOrderness);
+    }
+
+    /**
+     * Determines the start of the latest window that contains the given timestamp. Further windows containing it
+     * start every {@link #getSlide()} milliseconds before as long as they do not end before the timestamp.
+     *
+     * @param timestamp the event time of a data quantum
+     * @return the window start
+     */
+    public long getLastWindowStart(long timestamp) {
+        return timestamp - Math.floorMod(timestamp, this.slide);
+    }
+
+    /**
+     * Determines the number of windows that contain any timestamp.
+     *
+     * @return the number of windows per data quantum
+     */
+    public int getNumWindowsPerTimestamp() {
+        return (int) ((this.size + this.slide - 1) / this.slide);
+    }
+
+    /**
+     * Determines the (exclusive) end of a window.
+     *
+     * @param windowStart the start of the window
+     * @return the window end
+     */
+    public long getWindowEnd(long windowStart) {
+        return windowStart + this.size;
+    }
+
+    /**
+     * Determines the watermark, i.e., the event time up to which all data quanta are assumed to have arrived.
+     *
+     * @param maxTimestamp the greatest timestamp observed so far
+     * @return the watermark
+     */
+    public long getWatermark(long maxTimestamp) {
+        return maxTimestamp == Long.MIN_VALUE ? Long.MIN_VALUE : maxTimestamp - this.maxOutOfOrderness;
+    }
+
+    /**
+     * Tells whether a window is complete.
+     *
+     * @param windowStart the start of the window
+     * @param watermark   the current watermark
+     * @return whether no further data quanta are accepted for the window
+     */
+    public boolean isComplete(long windowStart, long watermark) {
+        return this.getWindowEnd(windowStart) <= watermark;
+    }
+
+    public long getSize() {
+        return this.size;
+    }
+
+    public long getSlide() {
+        return this.slide;
+    }
+
+    public long getMaxOutOfOrderness() {
+        return this.maxOutOfOrderness;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+        WindowDescriptor that = (WindowDescriptor) o;
+        return this.size == that.size && this.slide == that.slide && this.maxOutOfOrderness == that.maxOutOfOrderness;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.size, this.slide, this.maxOutOfOrderness);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[size=%d, slide=%d, maxOutOfOrderness=%d]",
+                this.getClass().getSimpleName(), this.size, this.slide, this.maxOutOfOrderness);
+    }
+}
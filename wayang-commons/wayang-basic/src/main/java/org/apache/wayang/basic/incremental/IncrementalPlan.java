@@ -0,0 +1,373 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.incremental;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.wayang.basic.operators.CollectionSource;
+import org.apache.wayang.basic.operators.CountOperator;
+import org.apache.wayang.basic.operators.DistinctOperator;
+import org.apache.wayang.basic.operators.GlobalReduceOperator;
+import org.apache.wayang.basic.operators.LocalCallbackSink;
+import org.apache.wayang.basic.operators.MapOperator;
+import org.apache.wayang.basic.operators.ReduceByOperator;
+import org.apache.wayang.basic.operators.TextFileSource;
+import org.apache.wayang.basic.operators.UnionAllOperator;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.WayangContext;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.api.state.StateStore;
+import org.apache.wayang.core.plan.wayangplan.Operator;
+import org.apache.wayang.core.plan.wayangplan.WayangPlan;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.util.fs.FileSystem;
+import org.apache.wayang.core.util.fs.FileSystems;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Builds {@link WayangPlan}s that recompute their results incrementally over append-only input.
+ * <p>The input is read via {@link #readNewTextFiles(String)}, which only emits the files that previous runs have not
+ * processed yet. Operators with mergeable semantics are applied to this delta and then merged into their results from
+ * the previous run, e.g., via {@link #mergeReduceBy(String, ReduceByOperator)}. As a result, the runtime of the
+ * {@link WayangPlan} depends on the amount of new data rather than all data, while it still yields the same results
+ * as a full recomputation.</p>
+ * <p>The processed files and the merged results are kept under a single key in a {@link StateStore} and are updated
+ * only via {@link #commit()} after a successful execution. The merged results are collected in the driver, so they
+ * should be of moderate size, as is usually the case for aggregates.</p>
+ */
+public class IncrementalPlan {
+
+    private static final Logger logger = LogManager.getLogger(IncrementalPlan.class);
+
+    /**
+     * Identifies the state of this instance in the {@link #stateStore}.
+     */
+    private final String name;
+
+    private final StateStore stateStore;
+
+    /**
+     * The state after the previous run.
+     */
+    private final State previousState;
+
+    /**
+     * The state after this run, which is completed once the execution has finished.
+     */
+    private final State nextState;
+
+    /**
+     * Collect the merged results of this run by their name.
+     */
+    private final Map<String, List<Object>> resultCollectors = new HashMap<>();
+
+    /**
+     * Sinks that collect the {@link #resultCollectors}.
+     */
+    private final List<Operator> stateSinks = new ArrayList<>();
+
+    private boolean isCommitted = false;
+
+    /**
+     * Creates a new instance that uses the default {@link StateStore}.
+     *
+     * @param name          identifies the state of the new instance across runs
+     * @param configuration specifies the default {@link StateStore}
+     */
+    public IncrementalPlan(String name, Configuration configuration) {
+        this(name, StateStore.createDefault(configuration));
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param name       identifies the state of the new instance across runs
+     * @param stateStore keeps the state across runs
+     */
+    public IncrementalPlan(String name, StateStore stateStore) {
+        this.name = name;
+        this.stateStore = stateStore;
+        this.previousState = stateStore.<State>read(name).orElseGet(State::new);
+        this.nextState = new State(this.previousState);
+        logger.info("Continuing {} after {} previous runs.", name, this.previousState.numRuns);
+    }
+
+    /**
+     * Creates an {@link Operator} that emits the lines of all files that have not been processed in previous runs.
+     * Hidden files, i.e., those starting with {@code .} or {@code _}, are skipped, because they might be in progress.
+     * Input must be appended by adding files; data that is appended to a processed file is ignored.
+     *
+     * @param inputUrl URL of a file or of a directory, in which files are looked up recursively
+     * @return the {@link Operator} with the new lines as its only output
+     */
+    public Operator readNewTextFiles(String inputUrl) {
+        return this.readNewTextFiles(inputUrl, "UTF-8");
+    }
+
+    /**
+     * Creates an {@link Operator} that emits the lines of all files that have not been processed in previous runs.
+     *
+     * @param inputUrl URL of a file or of a directory, in which files are looked up recursively
+     * @param encoding the encoding of the files
+     * @return the {@link Operator} with the new lines as its only output
+     * @see #readNewTextFiles(String)
+     */
+    public Operator readNewTextFiles(String inputUrl, String encoding) {
+        final FileSystem fs = FileSystems.requireFileSystem(inputUrl);
+        final List<String> fileUrls = new ArrayList<>();
+        this.collectFiles(fs, inputUrl, fileUrls);
+
+        Operator delta = null;
+        int numNewFiles = 0;
+        long deltaBytes = 0L;
+        for (String fileUrl : fileUrls) {
+            final OptionalLong fileSize = FileSystems.getFileSize(fileUrl);
+            final Long processedSize = this.previousState.processedFiles.get(fileUrl);
+            if (processedSize != null) {
+                if (fileSize.isPresent() && fileSize.getAsLong() != processedSize) {
+                    logger.warn("{} has changed since it was processed; the changes are ignored.", fileUrl);
+                }
+                continue;
+            }
+            this.nextState.processedFiles.put(fileUrl, fileSize.orElse(-1L));
+            numNewFiles++;
+            deltaBytes += fileSize.orElse(0L);
+
+            final TextFileSource source = new TextFileSource(fileUrl, encoding);
+            if (delta == null) {
+                delta = source;
+            } else {
+                final UnionAllOperator<String> union = new UnionAllOperator<>(String.class);
+                delta.connectTo(0, union, 0);
+                source.connectTo(0, union, 1);
+                delta = union;
+            }
+        }
+        logger.info("Found {} new files ({} bytes) in {}.", numNewFiles, deltaBytes, inputUrl);
+
+        return delta == null ? CollectionSource.empty(String.class) : delta;
+    }
+
+    private void collectFiles(FileSystem fs, String url, List<String> collector) {
+        if (!fs.isDirectory(url)) {
+            collector.add(url);
+            return;
+        }
+        fs.listChildren(url).stream()
+                .filter(childUrl -> !isHidden(childUrl))
+                .sorted()
+                .forEach(childUrl -> this.collectFiles(fs, childUrl, collector));
+    }
+
+    private static boolean isHidden(String url) {
+        final String trimmedUrl = url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+        final String fileName = trimmedUrl.substring(trimmedUrl.lastIndexOf('/') + 1);
+        return fileName.startsWith(".") || fileName.startsWith("_");
+    }
+
+    /**
+     * Merges the result of a {@link ReduceByOperator} over the delta input into its result from the previous run.
+     * Its reduce function must be associative and commutative.
+     *
+     * @param resultName identifies the result across runs
+     * @param reduceBy   the {@link ReduceByOperator} that processes the delta input
+     * @return the {@link Operator} that provides the merged result as its only output
+     */
+    public <T, Key> Operator mergeReduceBy(String resultName, ReduceByOperator<T, Key> reduceBy) {
+        final DataSetType<T> type = reduceBy.getType();
+        return this.merge(resultName, reduceBy, type, () -> new ReduceByOperator<>(
+                reduceBy.getKeyDescriptor(), reduceBy.getReduceDescriptor(), type
+        ));
+    }
+
+    /**
+     * Merges the result of a {@link GlobalReduceOperator} over the delta input into its result from the previous run.
+     * Its reduce function must be associative and commutative.
+     *
+     * @param resultName   identifies the result across runs
+     * @param globalReduce the {@link GlobalReduceOperator} that processes the delta input
+     * @return the {@link Operator} that provides the merged result as its only output
+     */
+    public <T> Operator mergeGlobalReduce(String resultName, GlobalReduceOperator<T> globalReduce) {
+        final DataSetType<T> type = globalReduce.getType();
+        return this.merge(resultName, globalReduce, type, () -> new GlobalReduceOperator<>(
+                globalReduce.getReduceDescriptor(), type
+        ));
+    }
+
+    /**
+     * Merges the result of a {@link DistinctOperator} over the delta input into its result from the previous run.
+     *
+     * @param resultName identifies the result across runs
+     * @param distinct   the {@link DistinctOperator} that processes the delta input
+     * @return the {@link Operator} that provides the merged result as its only output
+     */
+    public <T> Operator mergeDistinct(String resultName, DistinctOperator<T> distinct) {
+        final DataSetType<T> type = distinct.getInputType();
+        return this.merge(resultName, distinct, type, () -> new DistinctOperator<>(type));
+    }
+
+    /**
+     * Merges the result of a {@link CountOperator} over the delta input into its result from the previous run.
+     *
+     * @param resultName identifies the result across runs
+     * @param count      the {@link CountOperator} that processes the delta input
+     * @return the {@link Operator} that provides the merged result as its only output
+     */
+    public Operator mergeCount(String resultName, CountOperator<?> count) {
+        final List<Object> previousResult = this.previousState.results.get(resultName);
+        final long previousCount = previousResult == null || previousResult.isEmpty() ? 0L : (Long) previousResult.get(0);
+        final MapOperator<Long, Long> merge = new MapOperator<>(c -> c + previousCount, Long.class, Long.class);
+        merge.setName(String.format("merge %s", resultName));
+        count.connectTo(0, merge, 0);
+        this.collectResult(resultName, merge, DataSetType.createDefault(Long.class));
+        return merge;
+    }
+
+    /**
+     * Merges the output of the given {@link Operator} with its previous result by means of a union and an
+     * {@link Operator} that re-applies the aggregation.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> Operator merge(String resultName,
+                               Operator deltaAggregate,
+                               DataSetType<T> type,
+                               Supplier<Operator> mergeAggregateFactory) {
+        final List<Object> previousResult = this.previousState.results.get(resultName);
+        final Operator result;
+        if (previousResult == null) {
+            result = deltaAggregate;
+        } else {
+            final CollectionSource<T> previousResultSource = new CollectionSource<>((List<T>) previousResult, type);
+            previousResultSource.setName(String.format("previous %s", resultName));
+            final UnionAllOperator<T> union = new UnionAllOperator<>(type);
+            deltaAggregate.connectTo(0, union, 0);
+            previousResultSource.connectTo(0, union, 1);
+            result = mergeAggregateFactory.get();
+            result.setName(String.format("merge %s", resultName));
+            union.connectTo(0, result, 0);
+        }
+        this.collectResult(resultName, result, type);
+        return result;
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> void collectResult(String resultName, Operator result, DataSetType<T> type) {
+        if (this.resultCollectors.containsKey(resultName)) {
+            throw new WayangException(String.format("Result \"%s\" is merged more than once.", resultName));
+        }
+        final List<Object> collector = new ArrayList<>();
+        this.resultCollectors.put(resultName, collector);
+        final LocalCallbackSink<T> stateSink = LocalCallbackSink.createCollectingSink((Collection<T>) collector, type);
+        stateSink.setName(String.format("state %s", resultName));
+        result.connectTo(0, stateSink, 0);
+        this.stateSinks.add(stateSink);
+    }
+
+    /**
+     * Creates a {@link WayangPlan} that also maintains the state of this instance.
+     *
+     * @param sinks the sinks of the {@link WayangPlan}
+     * @return the {@link WayangPlan}
+     */
+    public WayangPlan createWayangPlan(Operator... sinks) {
+        return new WayangPlan(Stream.concat(Arrays.stream(sinks), this.stateSinks.stream()).toArray(Operator[]::new));
+    }
+
+    /**
+     * Persists the state of this instance. Must be called only after the {@link WayangPlan} from
+     * {@link #createWayangPlan(Operator...)} has been executed successfully.
+     */
+    public void commit() {
+        if (this.isCommitted) {
+            throw new WayangException(String.format("%s has already been committed.", this));
+        }
+        this.nextState.results.putAll(this.resultCollectors);
+        this.nextState.numRuns++;
+        this.stateStore.write(this.name, this.nextState);
+        this.isCommitted = true;
+        logger.info("Committed run {} of {}.", this.nextState.numRuns, this.name);
+    }
+
+    /**
+     * Executes the {@link WayangPlan} from {@link #createWayangPlan(Operator...)} and {@link #commit()}s afterwards.
+     *
+     * @param wayangContext executes the {@link WayangPlan}
+     * @param jobName       name of the {@link org.apache.wayang.core.api.Job}
+     * @param sinks         the sinks of the {@link WayangPlan}
+     */
+    public void execute(WayangContext wayangContext, String jobName, Operator... sinks) {
+        wayangContext.execute(jobName, this.createWayangPlan(sinks));
+        this.commit();
+    }
+
+    /**
+     * Discards the state of this instance, so that the next run recomputes everything.
+     */
+    public void reset() {
+        this.stateStore.delete(this.name);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s]", this.getClass().getSimpleName(), this.name);
+    }
+
+    /**
+     * The state of an {@link IncrementalPlan} after a run.
+     */
+    private static class State implements Serializable {
+
+        /**
+         * Maps the URLs of the processed files to their sizes.
+         */
+        private final LinkedHashMap<String, Long> processedFiles;
+
+        /**
+         * Maps the merged results to their names.
+         */
+        private final HashMap<String, List<Object>> results;
+
+        private long numRuns;
+
+        private State() {
+            this.processedFiles = new LinkedHashMap<>();
+            this.results = new HashMap<>();
+        }
+
+        private State(State that) {
+            this.processedFiles = new LinkedHashMap<>(that.processedFiles);
+            this.results = new HashMap<>(that.results);
+            this.numRuns = that.numRuns;
+        }
+
+    }
+
+}
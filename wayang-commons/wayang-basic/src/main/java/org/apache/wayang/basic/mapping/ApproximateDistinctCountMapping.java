@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.mapping;
+
+import org.apache.wayang.basic.data.Estimate;
+import org.apache.wayang.basic.operators.ApproximateDistinctCountOperator;
+import org.apache.wayang.basic.operators.FlatMapOperator;
+import org.apache.wayang.basic.operators.GlobalReduceOperator;
+import org.apache.wayang.basic.operators.MapPartitionsOperator;
+import org.apache.wayang.basic.util.sketch.HyperLogLog;
+import org.apache.wayang.core.function.FlatMapDescriptor;
+import org.apache.wayang.core.function.FunctionDescriptor;
+import org.apache.wayang.core.function.MapPartitionsDescriptor;
+import org.apache.wayang.core.mapping.Mapping;
+import org.apache.wayang.core.mapping.OperatorPattern;
+import org.apache.wayang.core.mapping.PlanTransformation;
+import org.apache.wayang.core.mapping.ReplacementSubplanFactory;
+import org.apache.wayang.core.mapping.SubplanPattern;
+import org.apache.wayang.core.optimizer.ProbabilisticDoubleInterval;
+import org.apache.wayang.core.optimizer.cardinality.DefaultCardinalityEstimator;
+import org.apache.wayang.core.plan.wayangplan.Operator;
+import org.apache.wayang.core.plan.wayangplan.Subplan;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.types.DataUnitType;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * This {@link Mapping} translates an {@link ApproximateDistinctCountOperator} into a {@link Subplan} of basic
+ * {@link Operator}s: Each partition of the input is summarized in a {@link HyperLogLog} sketch, these sketches are
+ * merged, and the merged sketch yields the final {@link Estimate}.
+ */
+public class ApproximateDistinctCountMapping implements Mapping {
+
+    /**
+     * Assumed maximum number of partitions and hence partial sketches.
+     */
+    static final long MAX_NUM_PARTIAL_SKETCHES = 1000L;
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(new PlanTransformation(
+                this.createPattern(),
+                this.createReplacementFactory()
+        ));
+    }
+
+    private SubplanPattern createPattern() {
+        return SubplanPattern.createSingleton(new OperatorPattern<>(
+                "approximateDistinctCount",
+                new ApproximateDistinctCountOperator<>(DataSetType.none(), 0.01d),
+                false
+        ));
+    }
+
+    private ReplacementSubplanFactory createReplacementFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<ApproximateDistinctCountOperator<Object>>(
+                this::createSubplan
+        );
+    }
+
+    private Operator createSubplan(ApproximateDistinctCountOperator<Object> operator, int epoch) {
+        final String operatorBaseName = operator.getName() == null ?
+                "ApproximateDistinctCount" :
+                operator.getName();
+        final int precision = operator.getPrecision();
+
+        // Sketch each partition.
+        MapPartitionsOperator<Object, HyperLogLog> sketcher = new MapPartitionsOperator<>(
+                new MapPartitionsDescriptor<>(
+                        (FunctionDescriptor.SerializableFunction<Iterable<Object>, Iterable<HyperLogLog>>) partition -> {
+                            final HyperLogLog sketch = new HyperLogLog(precision);
+                            for (Object value : partition) {
+                                sketch.add(value);
+                            }
+                            return Collections.singletonList(sketch);
+                        },
+                        operator.getInputType().getDataUnitType().toBasicDataUnitType(),
+                        DataUnitType.createBasic(HyperLogLog.class),
+                        null,
+                        null
+                ),
+                operator.getInputType(),
+                DataSetType.createDefault(HyperLogLog.class)
+        );
+        sketcher.at(epoch);
+        sketcher.setName(String.format("%s (sketch partitions)", operatorBaseName));
+        sketcher.setCardinalityEstimator(0, new DefaultCardinalityEstimator(
+                0.5d, 1, false, inputCards -> Math.max(1L, Math.min(inputCards[0], MAX_NUM_PARTIAL_SKETCHES))
+        ));
+
+        // Merge the partial sketches.
+        GlobalReduceOperator<HyperLogLog> merger = new GlobalReduceOperator<>(HyperLogLog::merge, HyperLogLog.class);
+        merger.at(epoch);
+        merger.setName(String.format("%s (merge sketches)", operatorBaseName));
+        sketcher.connectTo(0, merger, 0);
+
+        // Extract the estimate.
+        FlatMapOperator<HyperLogLog, Estimate> estimator = new FlatMapOperator<>(new FlatMapDescriptor<>(
+                (FunctionDescriptor.SerializableFunction<HyperLogLog, Iterable<Estimate>>)
+                        sketch -> Collections.singletonList(sketch.toEstimate()),
+                HyperLogLog.class, Estimate.class,
+                ProbabilisticDoubleInterval.ofExactly(1)
+        ));
+        estimator.at(epoch);
+        estimator.setName(String.format("%s (estimate)", operatorBaseName));
+        merger.connectTo(0, estimator, 0);
+
+        return Subplan.wrap(
+                Collections.singletonList(sketcher.getInput()),
+                Collections.singletonList(estimator.getOutput()),
+                null
+        ).at(epoch);
+    }
+
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.mapping;
+
+import org.apache.wayang.basic.data.Estimate;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.operators.ApproximateQuantilesOperator;
+import org.apache.wayang.basic.operators.FlatMapOperator;
+import org.apache.wayang.basic.operators.GlobalReduceOperator;
+import org.apache.wayang.basic.operators.MapPartitionsOperator;
+import org.apache.wayang.basic.util.sketch.KllSketch;
+import org.apache.wayang.core.function.FlatMapDescriptor;
+import org.apache.wayang.core.function.FunctionDescriptor;
+import org.apache.wayang.core.function.MapPartitionsDescriptor;
+import org.apache.wayang.core.mapping.Mapping;
+import org.apache.wayang.core.mapping.OperatorPattern;
+import org.apache.wayang.core.mapping.PlanTransformation;
+import org.apache.wayang.core.mapping.ReplacementSubplanFactory;
+import org.apache.wayang.core.mapping.SubplanPattern;
+import org.apache.wayang.core.optimizer.ProbabilisticDoubleInterval;
+import org.apache.wayang.core.optimizer.cardinality.DefaultCardinalityEstimator;
+import org.apache.wayang.core.plan.wayangplan.Operator;
+import org.apache.wayang.core.plan.wayangplan.Subplan;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.types.DataUnitType;
+import org.apache.wayang.core.util.ReflectionUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * This {@link Mapping} translates an {@link ApproximateQuantilesOperator} into a {@link Subplan} of basic
+ * {@link Operator}s: The values of each partition of the input are summarized in a {@link KllSketch}, these sketches
+ * are merged, and the merged sketch yields the quantiles.
+ */
+public class ApproximateQuantilesMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(new PlanTransformation(
+                this.createPattern(),
+                this.createReplacementFactory()
+        ));
+    }
+
+    private SubplanPattern createPattern() {
+        return SubplanPattern.createSingleton(new OperatorPattern<>(
+                "approximateQuantiles",
+                new ApproximateQuantilesOperator<>(null, DataSetType.none(), 0.01d),
+                false
+        ));
+    }
+
+    private ReplacementSubplanFactory createReplacementFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<ApproximateQuantilesOperator<Object>>(
+                this::createSubplan
+        );
+    }
+
+    private Operator createSubplan(ApproximateQuantilesOperator<Object> operator, int epoch) {
+        final String operatorBaseName = operator.getName() == null ?
+                "ApproximateQuantiles" :
+                operator.getName();
+        final Function<Object, Double> valueFunction = operator.getValueDescriptor().getJavaImplementation();
+        final double[] fractions = operator.getFractions();
+        final int k = operator.getK();
+
+        // Sketch each partition.
+        MapPartitionsOperator<Object, KllSketch> sketcher = new MapPartitionsOperator<>(
+                new MapPartitionsDescriptor<>(
+                        (FunctionDescriptor.SerializableFunction<Iterable<Object>, Iterable<KllSketch>>) partition -> {
+                            final KllSketch sketch = new KllSketch(k);
+                            for (Object value : partition) {
+                                sketch.add(valueFunction.apply(value));
+                            }
+                            return Collections.singletonList(sketch);
+                        },
+                        operator.getInputType().getDataUnitType().toBasicDataUnitType(),
+                        DataUnitType.createBasic(KllSketch.class),
+                        null,
+                        null
+                ),
+                operator.getInputType(),
+                DataSetType.createDefault(KllSketch.class)
+        );
+        sketcher.at(epoch);
+        sketcher.setName(String.format("%s (sketch partitions)", operatorBaseName));
+        sketcher.setCardinalityEstimator(0, new DefaultCardinalityEstimator(
+                0.5d, 1, false, inputCards -> Math.max(
+                        1L, Math.min(inputCards[0], ApproximateDistinctCountMapping.MAX_NUM_PARTIAL_SKETCHES)
+                )
+        ));
+
+        // Merge the partial sketches.
+        GlobalReduceOperator<KllSketch> merger = new GlobalReduceOperator<>(KllSketch::merge, KllSketch.class);
+        merger.at(epoch);
+        merger.setName(String.format("%s (merge sketches)", operatorBaseName));
+        sketcher.connectTo(0, merger, 0);
+
+        // Extract the quantiles.
+        FlatMapOperator<KllSketch, Tuple2<Double, Estimate>> extractor = new FlatMapOperator<>(
+                new FlatMapDescriptor<>(
+                        (FunctionDescriptor.SerializableFunction<KllSketch, Iterable<Tuple2<Double, Estimate>>>) sketch -> {
+                            final List<Tuple2<Double, Estimate>> quantiles = new ArrayList<>(fractions.length);
+                            for (double fraction : fractions) {
+                                quantiles.add(new Tuple2<>(fraction, sketch.toEstimate(fraction)));
+                            }
+                            return quantiles;
+                        },
+                        KllSketch.class, ReflectionUtils.specify(Tuple2.class),
+                        ProbabilisticDoubleInterval.ofExactly(fractions.length)
+                )
+        );
+        extractor.at(epoch);
+        extractor.setName(String.format("%s (extract quantiles)", operatorBaseName));
+        merger.connectTo(0, extractor, 0);
+
+        return Subplan.wrap(
+                Collections.singletonList(sketcher.getInput()),
+                Collections.singletonList(extractor.getOutput()),
+                null
+        ).at(epoch);
+    }
+
+}
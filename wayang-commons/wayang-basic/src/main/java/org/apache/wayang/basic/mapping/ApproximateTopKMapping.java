@@ -0,0 +1,136 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.mapping;
+
+import org.apache.wayang.basic.data.Estimate;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.operators.ApproximateTopKOperator;
+import org.apache.wayang.basic.operators.FlatMapOperator;
+import org.apache.wayang.basic.operators.GlobalReduceOperator;
+import org.apache.wayang.basic.operators.MapPartitionsOperator;
+import org.apache.wayang.basic.util.sketch.SpaceSaving;
+import org.apache.wayang.core.function.FlatMapDescriptor;
+import org.apache.wayang.core.function.FunctionDescriptor;
+import org.apache.wayang.core.function.MapPartitionsDescriptor;
+import org.apache.wayang.core.mapping.Mapping;
+import org.apache.wayang.core.mapping.OperatorPattern;
+import org.apache.wayang.core.mapping.PlanTransformation;
+import org.apache.wayang.core.mapping.ReplacementSubplanFactory;
+import org.apache.wayang.core.mapping.SubplanPattern;
+import org.apache.wayang.core.optimizer.cardinality.DefaultCardinalityEstimator;
+import org.apache.wayang.core.plan.wayangplan.Operator;
+import org.apache.wayang.core.plan.wayangplan.Subplan;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.types.DataUnitType;
+import org.apache.wayang.core.util.ReflectionUtils;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * This {@link Mapping} translates an {@link ApproximateTopKOperator} into a {@link Subplan} of basic
+ * {@link Operator}s: Each partition of the input is summarized in a {@link SpaceSaving} sketch, these sketches are
+ * merged, and the merged sketch yields the most frequent elements.
+ */
+public class ApproximateTopKMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Collections.singleton(new PlanTransformation(
+                this.createPattern(),
+                this.createReplacementFactory()
+        ));
+    }
+
+    private SubplanPattern createPattern() {
+        return SubplanPattern.createSingleton(new OperatorPattern<>(
+                "approximateTopK",
+                new ApproximateTopKOperator<>(1, DataSetType.none(), 0.01d),
+                false
+        ));
+    }
+
+    private ReplacementSubplanFactory createReplacementFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<ApproximateTopKOperator<Object>>(this::createSubplan);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Operator createSubplan(ApproximateTopKOperator<Object> operator, int epoch) {
+        final String operatorBaseName = operator.getName() == null ?
+                "ApproximateTopK" :
+                operator.getName();
+        final int k = operator.getK();
+        final int capacity = operator.getCapacity();
+
+        // Sketch each partition.
+        final Class<SpaceSaving<Object>> sketchClass = (Class<SpaceSaving<Object>>) (Class<?>) SpaceSaving.class;
+        MapPartitionsOperator<Object, SpaceSaving<Object>> sketcher = new MapPartitionsOperator<>(
+                new MapPartitionsDescriptor<>(
+                        (FunctionDescriptor.SerializableFunction<Iterable<Object>, Iterable<SpaceSaving<Object>>>) partition -> {
+                            final SpaceSaving<Object> sketch = new SpaceSaving<>(capacity);
+                            for (Object value : partition) {
+                                sketch.add(value);
+                            }
+                            return Collections.singletonList(sketch);
+                        },
+                        operator.getInputType().getDataUnitType().toBasicDataUnitType(),
+                        DataUnitType.createBasic(sketchClass),
+                        null,
+                        null
+                ),
+                operator.getInputType(),
+                DataSetType.createDefault(sketchClass)
+        );
+        sketcher.at(epoch);
+        sketcher.setName(String.format("%s (sketch partitions)", operatorBaseName));
+        sketcher.setCardinalityEstimator(0, new DefaultCardinalityEstimator(
+                0.5d, 1, false, inputCards -> Math.max(
+                        1L, Math.min(inputCards[0], ApproximateDistinctCountMapping.MAX_NUM_PARTIAL_SKETCHES)
+                )
+        ));
+
+        // Merge the partial sketches.
+        GlobalReduceOperator<SpaceSaving<Object>> merger = new GlobalReduceOperator<>(SpaceSaving::merge, sketchClass);
+        merger.at(epoch);
+        merger.setName(String.format("%s (merge sketches)", operatorBaseName));
+        sketcher.connectTo(0, merger, 0);
+
+        // Extract the most frequent elements.
+        FlatMapOperator<SpaceSaving<Object>, Tuple2<Object, Estimate>> extractor = new FlatMapOperator<>(
+                new FlatMapDescriptor<>(
+                        (FunctionDescriptor.SerializableFunction<SpaceSaving<Object>, Iterable<Tuple2<Object, Estimate>>>)
+                                sketch -> sketch.getTopK(k),
+                        sketchClass, ReflectionUtils.specify(Tuple2.class)
+                )
+        );
+        extractor.at(epoch);
+        extractor.setName(String.format("%s (extract top-k)", operatorBaseName));
+        extractor.setCardinalityEstimator(0, new DefaultCardinalityEstimator(
+                0.5d, 1, false, inputCards -> inputCards[0] * k
+        ));
+        merger.connectTo(0, extractor, 0);
+
+        return Subplan.wrap(
+                Collections.singletonList(sketcher.getInput()),
+                Collections.singletonList(extractor.getOutput()),
+                null
+        ).at(epoch);
+    }
+
+}
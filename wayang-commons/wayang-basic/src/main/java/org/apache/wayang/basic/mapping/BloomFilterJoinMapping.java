@@ -0,0 +1,361 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.mapping;
+
+import org.apache.wayang.basic.operators.FilterOperator;
+import org.apache.wayang.basic.operators.GlobalReduceOperator;
+import org.apache.wayang.basic.operators.IntersectOperator;
+import org.apache.wayang.basic.operators.JoinOperator;
+import org.apache.wayang.basic.operators.MapOperator;
+import org.apache.wayang.basic.operators.MapPartitionsOperator;
+import org.apache.wayang.basic.util.sketch.BloomFilter;
+import org.apache.wayang.core.function.ExecutionContext;
+import org.apache.wayang.core.function.FunctionDescriptor;
+import org.apache.wayang.core.function.MapPartitionsDescriptor;
+import org.apache.wayang.core.function.PredicateDescriptor;
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.mapping.Mapping;
+import org.apache.wayang.core.mapping.OperatorPattern;
+import org.apache.wayang.core.mapping.PlanTransformation;
+import org.apache.wayang.core.mapping.ReplacementSubplanFactory;
+import org.apache.wayang.core.mapping.SubplanPattern;
+import org.apache.wayang.core.optimizer.ProbabilisticDoubleInterval;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.core.optimizer.cardinality.DefaultCardinalityEstimator;
+import org.apache.wayang.core.plan.wayangplan.BinaryToUnaryOperator;
+import org.apache.wayang.core.plan.wayangplan.InputSlot;
+import org.apache.wayang.core.plan.wayangplan.Operator;
+import org.apache.wayang.core.plan.wayangplan.OutputSlot;
+import org.apache.wayang.core.plan.wayangplan.Subplan;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.types.DataUnitType;
+import org.apache.wayang.core.util.WayangCollections;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * This {@link Mapping} introduces semi-join reductions as alternatives to {@link JoinOperator}s and
+ * {@link IntersectOperator}s: The keys of one input (the build side) are summarized in a {@link BloomFilter}, which
+ * is broadcast to a {@link FilterOperator} that discards data quanta of the other input (the probe side) that
+ * cannot have a join partner. The optimizer weighs these alternatives against the plain operators via the
+ * selectivity of said {@link FilterOperator}, which it derives from the cardinalities of the build and probe side
+ * (see {@link BloomFilterSizing}).
+ */
+public class BloomFilterJoinMapping implements Mapping {
+
+    @Override
+    public Collection<PlanTransformation> getTransformations() {
+        return Arrays.asList(
+                new PlanTransformation(this.createJoinPattern(), this.createJoinReplacementFactory(0)),
+                new PlanTransformation(this.createJoinPattern(), this.createJoinReplacementFactory(1)),
+                new PlanTransformation(this.createIntersectPattern(), this.createIntersectReplacementFactory())
+        );
+    }
+
+    private SubplanPattern createJoinPattern() {
+        return SubplanPattern.createSingleton(new OperatorPattern<>(
+                "join",
+                new JoinOperator<>(null, null, DataSetType.none(), DataSetType.none()),
+                false
+        ).withAdditionalTest(join -> !isBloomFiltered(join)));
+    }
+
+    private ReplacementSubplanFactory createJoinReplacementFactory(int buildIndex) {
+        return new ReplacementSubplanFactory.OfSingleOperators<JoinOperator<Object, Object, Object>>(
+                (join, epoch) -> this.createJoinSubplan(join, buildIndex, epoch)
+        );
+    }
+
+    private SubplanPattern createIntersectPattern() {
+        return SubplanPattern.createSingleton(new OperatorPattern<>(
+                "intersect",
+                new IntersectOperator<>(DataSetType.none()),
+                false
+        ).withAdditionalTest(intersect -> !isBloomFiltered(intersect)));
+    }
+
+    private ReplacementSubplanFactory createIntersectReplacementFactory() {
+        return new ReplacementSubplanFactory.OfSingleOperators<IntersectOperator<Object>>(
+                (intersect, epoch) -> this.createSubplan(
+                        intersect,
+                        new IntersectOperator<>(intersect.getInputType0()),
+                        1,
+                        value -> value,
+                        value -> value,
+                        epoch
+                )
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private Operator createJoinSubplan(JoinOperator<Object, Object, Object> join, int buildIndex, int epoch) {
+        final FunctionDescriptor.SerializableFunction<Object, Object> keyFunction0 =
+                (FunctionDescriptor.SerializableFunction<Object, Object>) join.getKeyDescriptor0().getJavaImplementation();
+        final FunctionDescriptor.SerializableFunction<Object, Object> keyFunction1 =
+                (FunctionDescriptor.SerializableFunction<Object, Object>) join.getKeyDescriptor1().getJavaImplementation();
+        return this.createSubplan(
+                join,
+                new JoinOperator<>(join.getKeyDescriptor0(), join.getKeyDescriptor1(), join.getInputType0(), join.getInputType1()),
+                buildIndex,
+                buildIndex == 0 ? keyFunction0 : keyFunction1,
+                buildIndex == 0 ? keyFunction1 : keyFunction0,
+                epoch
+        );
+    }
+
+    /**
+     * Creates the semi-join reduction for the given {@code original} {@link Operator}.
+     *
+     * @param original         the {@link BinaryToUnaryOperator} to be replaced
+     * @param copy             equivalent of the {@code original} that is to be put into the reduction
+     * @param buildIndex       the index of the {@link InputSlot} whose keys should populate the {@link BloomFilter}
+     * @param buildKeyFunction extracts keys from the build side
+     * @param probeKeyFunction extracts keys from the probe side
+     * @param epoch            the epoch of the new {@link Operator}s
+     * @return a {@link Subplan} with the reduction
+     */
+    @SuppressWarnings("unchecked")
+    private Operator createSubplan(BinaryToUnaryOperator<?, ?, ?> original,
+                                   BinaryToUnaryOperator<?, ?, ?> copy,
+                                   int buildIndex,
+                                   FunctionDescriptor.SerializableFunction<Object, Object> buildKeyFunction,
+                                   FunctionDescriptor.SerializableFunction<Object, Object> probeKeyFunction,
+                                   int epoch) {
+        final String operatorBaseName = original.getName() == null ?
+                original.getClass().getSimpleName() :
+                original.getName();
+        final int probeIndex = 1 - buildIndex;
+        final DataSetType<Object> buildType = (DataSetType<Object>) original.getInput(buildIndex).getType();
+        final DataSetType<Object> probeType = (DataSetType<Object>) original.getInput(probeIndex).getType();
+        final BloomFilterSizing sizing = new BloomFilterSizing();
+        copy.at(epoch);
+        copy.setName(operatorBaseName);
+
+        // Forward the build side both to the copy and to the Bloom filter.
+        MapOperator<Object, Object> forward = new MapOperator<>(
+                new TransformationDescriptor<>(
+                        value -> value,
+                        buildType.getDataUnitType().toBasicDataUnitType(),
+                        buildType.getDataUnitType().toBasicDataUnitType()
+                ),
+                buildType,
+                buildType
+        );
+        forward.at(epoch);
+        forward.setName(String.format("%s (forward build side)", operatorBaseName));
+        forward.connectTo(0, copy, buildIndex);
+
+        // Build a Bloom filter per partition...
+        MapPartitionsOperator<Object, BloomFilter> filterBuilder = new MapPartitionsOperator<>(
+                new MapPartitionsDescriptor<>(
+                        (FunctionDescriptor.SerializableFunction<Iterable<Object>, Iterable<BloomFilter>>) partition -> {
+                            final BloomFilter bloomFilter = sizing.createBloomFilter();
+                            for (Object value : partition) {
+                                bloomFilter.add(buildKeyFunction.apply(value));
+                            }
+                            return Collections.singletonList(bloomFilter);
+                        },
+                        buildType.getDataUnitType().toBasicDataUnitType(),
+                        DataUnitType.createBasic(BloomFilter.class),
+                        null,
+                        null
+                ),
+                buildType,
+                DataSetType.createDefault(BloomFilter.class)
+        );
+        filterBuilder.at(epoch);
+        filterBuilder.setName(String.format("%s (build Bloom filters)", operatorBaseName));
+        final DefaultCardinalityEstimator filterBuilderCardinalityEstimator = new DefaultCardinalityEstimator(
+                0.5d, 1, false,
+                inputCards -> Math.max(1L, Math.min(inputCards[0], ApproximateDistinctCountMapping.MAX_NUM_PARTIAL_SKETCHES))
+        );
+        filterBuilder.setCardinalityEstimator(0, (optimizationContext, inputEstimates) -> {
+            // Estimating the filter builder (before the Bloom filters are built) is our chance to size them.
+            sizing.setBuildCardinality(inputEstimates[0]);
+            return filterBuilderCardinalityEstimator.estimate(optimizationContext, inputEstimates);
+        });
+        forward.connectTo(0, filterBuilder, 0);
+
+        // ...and merge them.
+        GlobalReduceOperator<BloomFilter> merger = new GlobalReduceOperator<>(BloomFilter::merge, BloomFilter.class);
+        merger.at(epoch);
+        merger.setName(String.format("%s (merge Bloom filters)", operatorBaseName));
+        filterBuilder.connectTo(0, merger, 0);
+
+        // Reduce the probe side.
+        FilterOperator<Object> probeFilter = new FilterOperator<>(
+                new PredicateDescriptor<>(
+                        new BloomFilterProbe<>(probeKeyFunction),
+                        probeType.getDataUnitType().toBasicDataUnitType(),
+                        null,
+                        null
+                ),
+                probeType
+        );
+        probeFilter.setCardinalityEstimator(0, (optimizationContext, inputEstimates) ->
+                sizing.estimateProbeCardinality(inputEstimates[0])
+        );
+        probeFilter.at(epoch);
+        probeFilter.setName(String.format("%s (Bloom filter probe)", operatorBaseName));
+        merger.broadcastTo(0, probeFilter, BloomFilterProbe.BROADCAST_NAME);
+        probeFilter.connectTo(0, copy, probeIndex);
+
+        final InputSlot<?>[] inputs = new InputSlot<?>[2];
+        inputs[buildIndex] = forward.getInput();
+        inputs[probeIndex] = probeFilter.getInput();
+        return Subplan.wrap(
+                Arrays.asList(inputs),
+                Collections.singletonList(copy.getOutput(0)),
+                null
+        ).at(epoch);
+    }
+
+    /**
+     * Tells whether any input of the given {@link Operator} is fed by a {@link BloomFilterProbe}, i.e., whether
+     * it has already undergone a semi-join reduction.
+     */
+    private static boolean isBloomFiltered(Operator operator) {
+        for (InputSlot<?> input : operator.getAllInputs()) {
+            final OutputSlot<?> occupant = input.getOccupant();
+            if (occupant != null
+                    && occupant.getOwner() instanceof FilterOperator
+                    && ((FilterOperator<?>) occupant.getOwner()).getPredicateDescriptor().getJavaImplementation()
+                    instanceof BloomFilterProbe) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Sizes the {@link BloomFilter}s of a semi-join reduction according to the cardinality of the build side and
+     * estimates how many data quanta of the probe side pass them. The build side cardinality is recorded when the
+     * optimizer estimates the Bloom filter builder, i.e., before any {@link BloomFilter} is built. Assuming that the
+     * keys of the smaller side find join partners, the probe side retains up to as many data quanta as the build side
+     * has plus the false positives among the others.
+     */
+    static class BloomFilterSizing implements Serializable {
+
+        /**
+         * The false positive probability the {@link BloomFilter}s are sized for.
+         */
+        static final double FALSE_POSITIVE_PROBABILITY = 0.01d;
+
+        /**
+         * The number of keys to size the {@link BloomFilter}s for if the build side cardinality is unknown, which
+         * makes them occupy 1 MiB.
+         */
+        static final long DEFAULT_NUM_KEYS = 1L << 19;
+
+        /**
+         * The maximum number of keys to size the {@link BloomFilter}s for, which makes them occupy at most 16 MiB.
+         */
+        static final long MAX_NUM_KEYS = 1L << 23;
+
+        /**
+         * Selectivity of the probe side if the build side cardinality is unknown.
+         */
+        private static final ProbabilisticDoubleInterval DEFAULT_PROBE_SELECTIVITY =
+                new ProbabilisticDoubleInterval(0.05, 0.5, 0.5);
+
+        private transient CardinalityEstimate buildCardinality;
+
+        private long numKeys = DEFAULT_NUM_KEYS;
+
+        void setBuildCardinality(CardinalityEstimate buildCardinality) {
+            if (buildCardinality == null || buildCardinality.getCorrectnessProbability() == 0d) return;
+            this.buildCardinality = buildCardinality;
+            this.numKeys = Math.max(1L, Math.min(MAX_NUM_KEYS, buildCardinality.getUpperEstimate()));
+        }
+
+        /**
+         * @return a new, empty {@link BloomFilter} that is sized for the build side
+         */
+        BloomFilter createBloomFilter() {
+            return BloomFilter.create(this.numKeys, FALSE_POSITIVE_PROBABILITY);
+        }
+
+        /**
+         * Estimates the cardinality of the probe side after the {@link BloomFilter} has been applied.
+         *
+         * @param probeCardinality the cardinality of the probe side before
+         * @return the cardinality of the probe side after
+         */
+        CardinalityEstimate estimateProbeCardinality(CardinalityEstimate probeCardinality) {
+            if (this.buildCardinality == null) {
+                return new CardinalityEstimate(
+                        Math.round(probeCardinality.getLowerEstimate() * DEFAULT_PROBE_SELECTIVITY.getLowerEstimate()),
+                        Math.round(probeCardinality.getUpperEstimate() * DEFAULT_PROBE_SELECTIVITY.getUpperEstimate()),
+                        probeCardinality.getCorrectnessProbability() * DEFAULT_PROBE_SELECTIVITY.getCorrectnessProbability()
+                );
+            }
+            // The estimate grows monotonically with both cardinalities.
+            return new CardinalityEstimate(
+                    this.estimateNumRetained(this.buildCardinality.getLowerEstimate(), probeCardinality.getLowerEstimate()),
+                    this.estimateNumRetained(this.buildCardinality.getUpperEstimate(), probeCardinality.getUpperEstimate()),
+                    0.5d * Math.min(
+                            this.buildCardinality.getCorrectnessProbability(),
+                            probeCardinality.getCorrectnessProbability()
+                    )
+            );
+        }
+
+        private long estimateNumRetained(long buildCardinality, long probeCardinality) {
+            // Keys beyond the capacity of the Bloom filters raise their false positive probability.
+            final double falsePositiveProbability = buildCardinality <= MAX_NUM_KEYS ?
+                    FALSE_POSITIVE_PROBABILITY :
+                    Math.min(1d, FALSE_POSITIVE_PROBABILITY * buildCardinality / MAX_NUM_KEYS);
+            final long numMatches = Math.min(buildCardinality, probeCardinality);
+            return numMatches + Math.round((probeCardinality - numMatches) * falsePositiveProbability);
+        }
+    }
+
+    /**
+     * Lets pass only those data quanta whose keys might be contained in a broadcast {@link BloomFilter}.
+     */
+    public static class BloomFilterProbe<T> implements FunctionDescriptor.ExtendedSerializablePredicate<T> {
+
+        /**
+         * Name of the broadcast that provides the {@link BloomFilter}.
+         */
+        public static final String BROADCAST_NAME = "bloomFilter";
+
+        private final FunctionDescriptor.SerializableFunction<T, ?> keyFunction;
+
+        private BloomFilter bloomFilter;
+
+        public BloomFilterProbe(FunctionDescriptor.SerializableFunction<T, ?> keyFunction) {
+            this.keyFunction = keyFunction;
+        }
+
+        @Override
+        public void open(ExecutionContext ctx) {
+            this.bloomFilter = WayangCollections.getSingle(ctx.getBroadcast(BROADCAST_NAME));
+        }
+
+        @Override
+        public boolean test(T value) {
+            return this.bloomFilter.mightContain(this.keyFunction.apply(value));
+        }
+    }
+
+}
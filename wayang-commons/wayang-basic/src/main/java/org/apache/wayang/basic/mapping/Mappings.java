@@ -31,7 +31,11 @@ public class Mappings {
     public static Collection<Mapping> BASIC_MAPPINGS = Arrays.asList(
             new ReduceByMapping(),
             new MaterializedGroupByMapping(),
-            new GlobalReduceMapping()
+            new GlobalReduceMapping(),
+            new ApproximateDistinctCountMapping(),
+            new ApproximateTopKMapping(),
+            new ApproximateQuantilesMapping(),
+            new BloomFilterJoinMapping()
     );
 
     public static Collection<Mapping> GRAPH_MAPPINGS = Arrays.asList(
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.operators;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.wayang.basic.data.Estimate;
+import org.apache.wayang.basic.util.sketch.HyperLogLog;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator;
+import org.apache.wayang.core.optimizer.cardinality.FixedSizeCardinalityEstimator;
+import org.apache.wayang.core.plan.wayangplan.UnaryToUnaryOperator;
+import org.apache.wayang.core.types.DataSetType;
+
+import java.util.Optional;
+
+/**
+ * This operator estimates the number of distinct elements in its input by means of a {@link HyperLogLog} sketch.
+ * Its only output element is an {@link Estimate} with bounds of two standard errors.
+ */
+public class ApproximateDistinctCountOperator<Type> extends UnaryToUnaryOperator<Type, Estimate> {
+
+    /**
+     * Default relative standard error of the estimates.
+     */
+    public static final double DEFAULT_RELATIVE_STANDARD_ERROR = 0.005d;
+
+    /**
+     * The precision of the {@link HyperLogLog} sketches.
+     */
+    protected final int precision;
+
+    /**
+     * Creates a new instance with the {@link #DEFAULT_RELATIVE_STANDARD_ERROR}.
+     *
+     * @param typeClass type of the stream elements
+     */
+    public ApproximateDistinctCountOperator(Class<Type> typeClass) {
+        this(DataSetType.createDefault(typeClass), DEFAULT_RELATIVE_STANDARD_ERROR);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param type                  type of the stream elements
+     * @param relativeStandardError the maximum relative standard error of the estimate
+     */
+    public ApproximateDistinctCountOperator(DataSetType<Type> type, double relativeStandardError) {
+        super(type, DataSetType.createDefault(Estimate.class), false);
+        this.precision = HyperLogLog.getPrecision(relativeStandardError);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public ApproximateDistinctCountOperator(ApproximateDistinctCountOperator<Type> that) {
+        super(that);
+        this.precision = that.getPrecision();
+    }
+
+    public int getPrecision() {
+        return this.precision;
+    }
+
+    @Override
+    public Optional<CardinalityEstimator> createCardinalityEstimator(
+            final int outputIndex,
+            final Configuration configuration) {
+        Validate.inclusiveBetween(0, this.getNumOutputs() - 1, outputIndex);
+        return Optional.of(new FixedSizeCardinalityEstimator(1));
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.operators;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.wayang.basic.data.Estimate;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.util.sketch.KllSketch;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.function.FunctionDescriptor;
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator;
+import org.apache.wayang.core.optimizer.cardinality.FixedSizeCardinalityEstimator;
+import org.apache.wayang.core.plan.wayangplan.UnaryToUnaryOperator;
+import org.apache.wayang.core.types.DataSetType;
+
+import java.util.Optional;
+
+/**
+ * This operator estimates quantiles of numeric values that it extracts from its input elements by means of a
+ * {@link KllSketch}. For each requested quantile, it outputs the quantile (as a fraction in {@code [0, 1]}) along with
+ * an {@link Estimate} of its value, whose bounds are the values at the ranks that are off by the rank error of the
+ * sketch.
+ */
+public class ApproximateQuantilesOperator<Type> extends UnaryToUnaryOperator<Type, Tuple2<Double, Estimate>> {
+
+    /**
+     * Default normalized rank error of the estimates.
+     */
+    public static final double DEFAULT_RANK_ERROR = 0.01d;
+
+    /**
+     * Extracts the values from the input elements.
+     */
+    protected final TransformationDescriptor<Type, Double> valueDescriptor;
+
+    /**
+     * The quantiles to estimate as fractions in {@code [0, 1]}.
+     */
+    protected final double[] fractions;
+
+    /**
+     * The {@code k} of the {@link KllSketch}es.
+     */
+    protected final int k;
+
+    /**
+     * Creates a new instance with the {@link #DEFAULT_RANK_ERROR}.
+     *
+     * @param valueFunction extracts the values from the input elements
+     * @param typeClass     type of the stream elements
+     * @param fractions     the quantiles to estimate as fractions in {@code [0, 1]}
+     */
+    public ApproximateQuantilesOperator(FunctionDescriptor.SerializableFunction<Type, Double> valueFunction,
+                                        Class<Type> typeClass,
+                                        double... fractions) {
+        this(new TransformationDescriptor<>(valueFunction, typeClass, Double.class),
+                DataSetType.createDefault(typeClass), DEFAULT_RANK_ERROR, fractions);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param valueDescriptor extracts the values from the input elements
+     * @param type            type of the stream elements
+     * @param rankError       the normalized rank error of the estimated quantiles
+     * @param fractions       the quantiles to estimate as fractions in {@code [0, 1]}
+     */
+    public ApproximateQuantilesOperator(TransformationDescriptor<Type, Double> valueDescriptor,
+                                        DataSetType<Type> type,
+                                        double rankError,
+                                        double... fractions) {
+        super(type, DataSetType.createDefaultUnchecked(Tuple2.class), false);
+        for (double fraction : fractions) {
+            Validate.inclusiveBetween(0d, 1d, fraction, "Quantiles must be in [0, 1].");
+        }
+        this.valueDescriptor = valueDescriptor;
+        this.fractions = fractions;
+        this.k = KllSketch.getK(rankError);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public ApproximateQuantilesOperator(ApproximateQuantilesOperator<Type> that) {
+        super(that);
+        this.valueDescriptor = that.getValueDescriptor();
+        this.fractions = that.getFractions();
+        this.k = that.getK();
+    }
+
+    public TransformationDescriptor<Type, Double> getValueDescriptor() {
+        return this.valueDescriptor;
+    }
+
+    public double[] getFractions() {
+        return this.fractions;
+    }
+
+    public int getK() {
+        return this.k;
+    }
+
+    @Override
+    public Optional<CardinalityEstimator> createCardinalityEstimator(
+            final int outputIndex,
+            final Configuration configuration) {
+        Validate.inclusiveBetween(0, this.getNumOutputs() - 1, outputIndex);
+        return Optional.of(new FixedSizeCardinalityEstimator(this.fractions.length));
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.operators;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.wayang.basic.data.Estimate;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.util.sketch.SpaceSaving;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator;
+import org.apache.wayang.core.optimizer.cardinality.DefaultCardinalityEstimator;
+import org.apache.wayang.core.plan.wayangplan.UnaryToUnaryOperator;
+import org.apache.wayang.core.types.DataSetType;
+
+import java.util.Optional;
+
+/**
+ * This operator finds the (at most) {@code k} most frequent elements in its input by means of a
+ * {@link SpaceSaving} sketch. It outputs each of them along with an {@link Estimate} of its frequency, whose bounds
+ * are guaranteed to contain the exact frequency.
+ */
+public class ApproximateTopKOperator<Type> extends UnaryToUnaryOperator<Type, Tuple2<Type, Estimate>> {
+
+    /**
+     * Default maximum overestimation of frequencies relative to the input size.
+     */
+    public static final double DEFAULT_MAX_RELATIVE_ERROR = 0.001d;
+
+    protected final int k;
+
+    /**
+     * The capacity of the {@link SpaceSaving} sketches.
+     */
+    protected final int capacity;
+
+    /**
+     * Creates a new instance with the {@link #DEFAULT_MAX_RELATIVE_ERROR}.
+     *
+     * @param k         the number of elements to find
+     * @param typeClass type of the stream elements
+     */
+    public ApproximateTopKOperator(int k, Class<Type> typeClass) {
+        this(k, DataSetType.createDefault(typeClass), DEFAULT_MAX_RELATIVE_ERROR);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param k                the number of elements to find
+     * @param type             type of the stream elements
+     * @param maxRelativeError the maximum overestimation of frequencies relative to the input size
+     */
+    public ApproximateTopKOperator(int k, DataSetType<Type> type, double maxRelativeError) {
+        super(type, DataSetType.createDefaultUnchecked(Tuple2.class), false);
+        Validate.isTrue(k > 0, "k must be positive.");
+        this.k = k;
+        this.capacity = Math.max(k, SpaceSaving.getCapacity(maxRelativeError));
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public ApproximateTopKOperator(ApproximateTopKOperator<Type> that) {
+        super(that);
+        this.k = that.getK();
+        this.capacity = that.getCapacity();
+    }
+
+    public int getK() {
+        return this.k;
+    }
+
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    @Override
+    public Optional<CardinalityEstimator> createCardinalityEstimator(
+            final int outputIndex,
+            final Configuration configuration) {
+        Validate.inclusiveBetween(0, this.getNumOutputs() - 1, outputIndex);
+        return Optional.of(new DefaultCardinalityEstimator(
+                1d, 1, false, inputCards -> Math.min(inputCards[0], this.k)
+        ));
+    }
+}
@@ -26,6 +26,7 @@ import org.apache.wayang.core.function.TransformationDescriptor;
 import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator;
 import org.apache.wayang.core.optimizer.cardinality.DefaultCardinalityEstimator;
 import org.apache.wayang.core.plan.wayangplan.BinaryToUnaryOperator;
+import org.apache.wayang.core.plan.wayangplan.BlockingOperator;
 import org.apache.wayang.core.types.DataSetType;
 
 import java.util.Optional;
@@ -36,7 +37,8 @@ import java.util.Optional;
  * one of the input datasets, then the according group is matched with an empty group.
  */
 public class CoGroupOperator<InputType0, InputType1, Key>
-        extends BinaryToUnaryOperator<InputType0, InputType1, Tuple2<Iterable<InputType0>, Iterable<InputType1>>> {
+        extends BinaryToUnaryOperator<InputType0, InputType1, Tuple2<Iterable<InputType0>, Iterable<InputType1>>>
+        implements BlockingOperator {
 
     private static <InputType0, InputType1> DataSetType<Tuple2<InputType0, InputType1>> createOutputDataSetType() {
         return DataSetType.createDefaultUnchecked(Tuple2.class);
@@ -22,6 +22,7 @@ import org.apache.commons.lang3.Validate;
 import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator;
 import org.apache.wayang.core.optimizer.cardinality.FixedSizeCardinalityEstimator;
+import org.apache.wayang.core.plan.wayangplan.BlockingOperator;
 import org.apache.wayang.core.plan.wayangplan.UnaryToUnaryOperator;
 import org.apache.wayang.core.types.DataSetType;
 
@@ -31,7 +32,7 @@ import java.util.Optional;
 /**
  * This operator returns the count of elements in this stream.
  */
-public class CountOperator<Type> extends UnaryToUnaryOperator<Type, Long> {
+public class CountOperator<Type> extends UnaryToUnaryOperator<Type, Long> implements BlockingOperator {
 
 
     /**
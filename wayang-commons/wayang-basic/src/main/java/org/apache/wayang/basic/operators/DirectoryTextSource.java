@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.operators;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator;
+import org.apache.wayang.core.plan.wayangplan.UnarySource;
+import org.apache.wayang.core.plan.wayangplan.UnboundedSource;
+import org.apache.wayang.core.types.DataSetType;
+
+import java.util.Optional;
+
+/**
+ * This unbounded source watches a directory and outputs the lines of each file that appears in it as data units.
+ * Files that exist when the source starts are read, too. As each file is read only once, files should be moved into
+ * the directory atomically once they are complete.
+ */
+public class DirectoryTextSource extends UnarySource<String> implements UnboundedSource {
+
+    private final String directoryUrl;
+
+    private final String encoding;
+
+    /**
+     * Milliseconds between two listings of the directory.
+     */
+    private final long pollInterval;
+
+    public DirectoryTextSource(String directoryUrl) {
+        this(directoryUrl, "UTF-8", 1000L);
+    }
+
+    public DirectoryTextSource(String directoryUrl, String encoding, long pollInterval) {
+        super(DataSetType.createDefault(String.class));
+        Validate.isTrue(pollInterval > 0, "Poll interval must be positive.");
+        this.directoryUrl = directoryUrl;
+        this.encoding = encoding;
+        this.pollInterval = pollInterval;
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public DirectoryTextSource(DirectoryTextSource that) {
+        super(that);
+        this.directoryUrl = that.getDirectoryUrl();
+        this.encoding = that.getEncoding();
+        this.pollInterval = that.getPollInterval();
+    }
+
+    public String getDirectoryUrl() {
+        return this.directoryUrl;
+    }
+
+    public String getEncoding() {
+        return this.encoding;
+    }
+
+    public long getPollInterval() {
+        return this.pollInterval;
+    }
+
+    @Override
+    public Optional<CardinalityEstimator> createCardinalityEstimator(
+            final int outputIndex,
+            final Configuration configuration) {
+        Validate.inclusiveBetween(0, this.getNumOutputs() - 1, outputIndex);
+        return Optional.of((optimizationContext, inputEstimates) ->
+                UnboundedSource.estimateCardinality(optimizationContext.getConfiguration()));
+    }
+}
@@ -21,6 +21,7 @@ package org.apache.wayang.basic.operators;
 import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator;
 import org.apache.wayang.core.optimizer.cardinality.FixedSizeCardinalityEstimator;
+import org.apache.wayang.core.plan.wayangplan.BlockingOperator;
 import org.apache.wayang.core.plan.wayangplan.UnaryToUnaryOperator;
 import org.apache.wayang.core.types.DataSetType;
 
@@ -29,7 +30,8 @@ import java.util.Optional;
 /**
  * This operator groups the elements of a data set into a single data quantum.
  */
-public class GlobalMaterializedGroupOperator<Type> extends UnaryToUnaryOperator<Type, Iterable<Type>> {
+public class GlobalMaterializedGroupOperator<Type> extends UnaryToUnaryOperator<Type, Iterable<Type>>
+        implements BlockingOperator {
 
     /**
      * Creates a new instance.
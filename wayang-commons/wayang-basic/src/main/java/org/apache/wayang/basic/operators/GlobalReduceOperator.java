@@ -24,6 +24,7 @@ import org.apache.wayang.core.function.FunctionDescriptor;
 import org.apache.wayang.core.function.ReduceDescriptor;
 import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator;
 import org.apache.wayang.core.optimizer.cardinality.FixedSizeCardinalityEstimator;
+import org.apache.wayang.core.plan.wayangplan.BlockingOperator;
 import org.apache.wayang.core.plan.wayangplan.UnaryToUnaryOperator;
 import org.apache.wayang.core.types.BasicDataUnitType;
 import org.apache.wayang.core.types.DataSetType;
@@ -33,7 +34,7 @@ import java.util.Optional;
 /**
  * This operator groups the elements of a data set and aggregates the groups.
  */
-public class GlobalReduceOperator<Type> extends UnaryToUnaryOperator<Type, Type> {
+public class GlobalReduceOperator<Type> extends UnaryToUnaryOperator<Type, Type> implements BlockingOperator {
 
     protected final ReduceDescriptor<Type> reduceDescriptor;
 
@@ -20,6 +20,7 @@ package org.apache.wayang.basic.operators;
 
 import org.apache.wayang.core.function.FunctionDescriptor;
 import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.plan.wayangplan.BlockingOperator;
 import org.apache.wayang.core.plan.wayangplan.UnaryToUnaryOperator;
 import org.apache.wayang.core.types.DataSetType;
 
@@ -31,7 +32,8 @@ import org.apache.wayang.core.types.DataSetType;
  * @see MaterializedGroupByOperator
  * @see ReduceOperator
  */
-public class GroupByOperator<Input, Key> extends UnaryToUnaryOperator<Input, Iterable<Input>> {
+public class GroupByOperator<Input, Key> extends UnaryToUnaryOperator<Input, Iterable<Input>>
+        implements BlockingOperator {
 
     protected final TransformationDescriptor<Input, Key> keyDescriptor;
 
@@ -24,6 +24,7 @@ import org.apache.wayang.core.function.FunctionDescriptor;
 import org.apache.wayang.core.function.TransformationDescriptor;
 import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator;
 import org.apache.wayang.core.optimizer.cardinality.DefaultCardinalityEstimator;
+import org.apache.wayang.core.plan.wayangplan.BlockingOperator;
 import org.apache.wayang.core.plan.wayangplan.UnaryToUnaryOperator;
 import org.apache.wayang.core.types.DataSetType;
 
@@ -32,7 +33,8 @@ import java.util.Optional;
 /**
  * This operator collocates the data units in a data set w.r.t. a key function.
  */
-public class MaterializedGroupByOperator<Type, Key> extends UnaryToUnaryOperator<Type, Iterable<Type>> {
+public class MaterializedGroupByOperator<Type, Key> extends UnaryToUnaryOperator<Type, Iterable<Type>>
+        implements BlockingOperator {
 
     protected final TransformationDescriptor<Type, Key> keyDescriptor;
 
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.operators;
+
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.MessageTypeParser;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.types.RecordType;
+import org.apache.wayang.basic.util.parquet.ParquetSchemas;
+import org.apache.wayang.core.plan.wayangplan.UnarySink;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.types.DataUnitType;
+
+/**
+ * This {@link UnarySink} writes all incoming {@link Record}s to Parquet files.
+ */
+public class ParquetFileSink extends UnarySink<Record> {
+
+    protected final String outputUrl;
+
+    /**
+     * Parquet schema in its textual representation; {@code null} if it should be inferred from the first
+     * {@link Record}.
+     */
+    protected final String schema;
+
+    protected final CompressionCodecName compressionCodec;
+
+    /**
+     * Creates a new instance that infers the Parquet schema from the first incoming {@link Record}. Field names
+     * are taken from the input {@link RecordType}, if any.
+     *
+     * @param outputUrl URL of the Parquet file (or directory of part files) to be written
+     */
+    public ParquetFileSink(String outputUrl) {
+        this(outputUrl, (String) null);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param outputUrl URL of the Parquet file (or directory of part files) to be written
+     * @param schema    Parquet schema of the incoming {@link Record}s, e.g.,
+     *                  {@code message m { required int64 id; optional binary name (UTF8); }}
+     */
+    public ParquetFileSink(String outputUrl, String schema) {
+        this(outputUrl, schema, CompressionCodecName.SNAPPY, DataSetType.createDefault(Record.class));
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param outputUrl        URL of the Parquet file (or directory of part files) to be written
+     * @param schema           Parquet schema of the incoming {@link Record}s or {@code null} to infer it
+     * @param compressionCodec with which the Parquet pages should be compressed
+     * @param type             {@link DataSetType} of the incoming {@link Record}s
+     */
+    public ParquetFileSink(String outputUrl, String schema, CompressionCodecName compressionCodec, DataSetType<Record> type) {
+        super(type);
+        this.outputUrl = outputUrl;
+        this.schema = schema;
+        this.compressionCodec = compressionCodec;
+    }
+
+    /**
+     * Creates a copied instance.
+     *
+     * @param that should be copied
+     */
+    public ParquetFileSink(ParquetFileSink that) {
+        super(that);
+        this.outputUrl = that.outputUrl;
+        this.schema = that.schema;
+        this.compressionCodec = that.compressionCodec;
+    }
+
+    public String getOutputUrl() {
+        return this.outputUrl;
+    }
+
+    public CompressionCodecName getCompressionCodec() {
+        return this.compressionCodec;
+    }
+
+    /**
+     * Provides the Parquet schema to write.
+     *
+     * @param sample the first incoming {@link Record}; only needed if no schema has been specified
+     * @return the {@link MessageType}
+     */
+    public MessageType getSchema(Record sample) {
+        if (this.schema != null) {
+            return MessageTypeParser.parseMessageType(this.schema);
+        }
+        final DataUnitType<Record> dataUnitType = this.getType().getDataUnitType();
+        final String[] fieldNames = dataUnitType instanceof RecordType ?
+                ((RecordType) dataUnitType).getFieldNames() :
+                null;
+        return ParquetSchemas.inferSchema(fieldNames, sample);
+    }
+
+    /**
+     * @return whether the Parquet schema is known without inspecting the incoming {@link Record}s
+     */
+    public boolean isSchemaSpecified() {
+        return this.schema != null;
+    }
+
+}
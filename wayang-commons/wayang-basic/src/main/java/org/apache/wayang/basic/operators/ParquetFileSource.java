@@ -0,0 +1,280 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.operators;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.filter2.compat.RowGroupFilter;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.hadoop.ParquetInputFormat;
+import org.apache.parquet.hadoop.api.ReadSupport;
+import org.apache.parquet.hadoop.metadata.BlockMetaData;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
+import org.apache.parquet.schema.MessageType;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.function.ProjectionDescriptor;
+import org.apache.wayang.basic.types.RecordType;
+import org.apache.wayang.basic.util.parquet.ParquetFiles;
+import org.apache.wayang.basic.util.parquet.ParquetFilters;
+import org.apache.wayang.basic.util.parquet.ParquetSchemas;
+import org.apache.wayang.commons.util.profiledb.model.measurement.TimeMeasurement;
+import org.apache.wayang.core.function.PredicateDescriptor;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.ProbabilisticDoubleInterval;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.core.plan.wayangplan.UnarySource;
+import org.apache.wayang.core.types.DataSetType;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * This source reads Parquet files and outputs their rows as {@link Record}s.
+ * <p>Only the requested columns are read from disk. Moreover, a {@link PredicateDescriptor} can be attached via
+ * {@link #withPredicate(PredicateDescriptor)}: Its SQL implementation is pushed down into Parquet (as far as it
+ * can be translated), so that row groups whose statistics rule out any match are skipped; its Java implementation
+ * is applied to the remaining {@link Record}s. Cardinality estimates are derived from the row counts in the file
+ * footers.</p>
+ */
+public class ParquetFileSource extends UnarySource<Record> {
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final String inputUrl;
+
+    /**
+     * Names of the columns to read; empty to read all columns.
+     */
+    private final String[] columnNames;
+
+    /**
+     * Optional filter on the read {@link Record}s.
+     */
+    private PredicateDescriptor<Record> predicateDescriptor;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param inputUrl    URL of a Parquet file or a directory of such
+     * @param columnNames names of the columns to read; can be omitted to read all columns, but allows to inject
+     *                    schema information into Wayang and avoids reading unneeded columns
+     */
+    public ParquetFileSource(String inputUrl, String... columnNames) {
+        super(createOutputDataSetType(columnNames));
+        this.inputUrl = inputUrl;
+        this.columnNames = columnNames;
+    }
+
+    /**
+     * Creates a new instance that reads only the columns of the given {@link ProjectionDescriptor}.
+     *
+     * @param inputUrl             URL of a Parquet file or a directory of such
+     * @param projectionDescriptor describes the columns to read
+     */
+    public ParquetFileSource(String inputUrl, ProjectionDescriptor<?, Record> projectionDescriptor) {
+        this(inputUrl, projectionDescriptor.getFieldNames().toArray(new String[0]));
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public ParquetFileSource(ParquetFileSource that) {
+        super(that);
+        this.inputUrl = that.getInputUrl();
+        this.columnNames = that.getColumnNames();
+        this.predicateDescriptor = that.getPredicateDescriptor();
+    }
+
+    /**
+     * Constructs an appropriate output {@link DataSetType} for the given column names.
+     *
+     * @param columnNames the column names or an empty array if unknown
+     * @return the output {@link DataSetType}, which will be based upon a {@link RecordType} unless the
+     * {@code columnNames} are empty
+     */
+    private static DataSetType<Record> createOutputDataSetType(String[] columnNames) {
+        return columnNames == null || columnNames.length == 0 ?
+                DataSetType.createDefault(Record.class) :
+                DataSetType.createDefault(new RecordType(columnNames));
+    }
+
+    /**
+     * Filters the read {@link Record}s.
+     *
+     * @param predicateDescriptor the filter; its SQL implementation, if any, is used for pushdown
+     * @return this instance
+     */
+    public ParquetFileSource withPredicate(PredicateDescriptor<Record> predicateDescriptor) {
+        this.predicateDescriptor = predicateDescriptor;
+        return this;
+    }
+
+    public String getInputUrl() {
+        return this.inputUrl;
+    }
+
+    public String[] getColumnNames() {
+        return this.columnNames;
+    }
+
+    public PredicateDescriptor<Record> getPredicateDescriptor() {
+        return this.predicateDescriptor;
+    }
+
+    /**
+     * Determines the Parquet schema to read.
+     *
+     * @param fileSchema the schema of the input files
+     * @return the schema restricted to the requested columns
+     */
+    public MessageType getRequestedSchema(MessageType fileSchema) {
+        return ParquetSchemas.project(fileSchema, Arrays.asList(this.columnNames));
+    }
+
+    /**
+     * Translates the {@link #predicateDescriptor} into a Parquet {@link FilterPredicate}.
+     *
+     * @param requestedSchema the schema of the read {@link Record}s
+     * @return the {@link FilterPredicate} if anything can be pushed down
+     */
+    public Optional<FilterPredicate> getPushedDownPredicate(MessageType requestedSchema) {
+        if (this.predicateDescriptor == null) return Optional.empty();
+        return ParquetFilters.translate(this.predicateDescriptor.getSqlImplementation(), requestedSchema);
+    }
+
+    /**
+     * Sets up the given Hadoop {@link Configuration}, so that Parquet readers and input formats read only the
+     * requested columns and skip row groups and records according to the {@link #predicateDescriptor}.
+     *
+     * @param conf that should be set up
+     * @return the schema of the read records
+     * @throws IOException if the schema of the input files cannot be read
+     */
+    public MessageType configureRead(Configuration conf) throws IOException {
+        final MessageType requestedSchema = this.getRequestedSchema(ParquetFiles.readSchema(this.inputUrl, conf));
+        conf.set(ReadSupport.PARQUET_READ_SCHEMA, requestedSchema.toString());
+        this.getPushedDownPredicate(requestedSchema).ifPresent(
+                filterPredicate -> ParquetInputFormat.setFilterPredicate(conf, filterPredicate)
+        );
+        return requestedSchema;
+    }
+
+    @Override
+    public Optional<org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator> createCardinalityEstimator(
+            final int outputIndex,
+            final org.apache.wayang.core.api.Configuration configuration) {
+        Validate.inclusiveBetween(0, this.getNumOutputs() - 1, outputIndex);
+        return Optional.of(new ParquetFileSource.CardinalityEstimator(configuration));
+    }
+
+    /**
+     * Custom {@link org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator} for
+     * {@link ParquetFileSource}s. It sums up the row counts in the file footers. If there is a predicate, the
+     * estimate is derived from its selectivity and bounded by the rows in the row groups that cannot be skipped.
+     */
+    protected class CardinalityEstimator implements org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator {
+
+        public final CardinalityEstimate FALLBACK_ESTIMATE = new CardinalityEstimate(1000L, 100000000L, 0.7);
+
+        /**
+         * The expected selectivity of the {@link #predicateDescriptor} or {@code null} if there is none.
+         */
+        private final ProbabilisticDoubleInterval selectivity;
+
+        public CardinalityEstimator(org.apache.wayang.core.api.Configuration configuration) {
+            this.selectivity = ParquetFileSource.this.predicateDescriptor == null ?
+                    null :
+                    configuration.getUdfSelectivityProvider().provideFor(ParquetFileSource.this.predicateDescriptor);
+        }
+
+        @Override
+        public CardinalityEstimate estimate(OptimizationContext optimizationContext, CardinalityEstimate... inputEstimates) {
+            Validate.isTrue(ParquetFileSource.this.getNumInputs() == inputEstimates.length);
+
+            // see Job for StopWatch measurements
+            final TimeMeasurement timeMeasurement = optimizationContext.getJob().getStopWatch().start(
+                    "Optimization", "Cardinality&Load Estimation", "Push Estimation", "Estimate source cardinalities"
+            );
+
+            // Query the job cache first to see if there is already an estimate.
+            String jobCacheKey = String.format("%s.estimate(%s, %s)",
+                    this.getClass().getCanonicalName(),
+                    ParquetFileSource.this.inputUrl,
+                    ParquetFileSource.this.predicateDescriptor
+            );
+            CardinalityEstimate cardinalityEstimate = optimizationContext.queryJobCache(jobCacheKey, CardinalityEstimate.class);
+            if (cardinalityEstimate != null) return cardinalityEstimate;
+
+            // Otherwise calculate the cardinality from the footers.
+            long numRows = 0L, numUnskippedRows = 0L;
+            try {
+                final Configuration conf = new Configuration(true);
+                final List<ParquetMetadata> footers = ParquetFiles.readFooters(ParquetFileSource.this.inputUrl, conf);
+                for (ParquetMetadata footer : footers) {
+                    final MessageType requestedSchema = ParquetFileSource.this.getRequestedSchema(
+                            footer.getFileMetaData().getSchema()
+                    );
+                    List<BlockMetaData> blocks = footer.getBlocks();
+                    for (BlockMetaData block : blocks) {
+                        numRows += block.getRowCount();
+                    }
+                    final Optional<FilterPredicate> filterPredicate =
+                            ParquetFileSource.this.getPushedDownPredicate(requestedSchema);
+                    if (filterPredicate.isPresent()) {
+                        blocks = RowGroupFilter.filterRowGroups(
+                                FilterCompat.get(filterPredicate.get()), blocks, requestedSchema
+                        );
+                    }
+                    for (BlockMetaData block : blocks) {
+                        numUnskippedRows += block.getRowCount();
+                    }
+                }
+            } catch (IOException | RuntimeException e) {
+                ParquetFileSource.this.logger.warn("Could not read the footers of {}... deliver fallback estimate.",
+                        ParquetFileSource.this.inputUrl, e);
+                timeMeasurement.stop();
+                return this.FALLBACK_ESTIMATE;
+            }
+
+            if (this.selectivity == null) {
+                cardinalityEstimate = new CardinalityEstimate(numRows, numRows, 1d);
+            } else {
+                cardinalityEstimate = new CardinalityEstimate(
+                        Math.min(numUnskippedRows, (long) (numRows * this.selectivity.getLowerEstimate())),
+                        Math.min(numUnskippedRows, (long) (numRows * this.selectivity.getUpperEstimate())),
+                        this.selectivity.getCorrectnessProbability()
+                );
+            }
+
+            // Cache the result, so that it will not be recalculated again.
+            optimizationContext.putIntoJobCache(jobCacheKey, cardinalityEstimate);
+
+            timeMeasurement.stop();
+            return cardinalityEstimate;
+        }
+    }
+
+}
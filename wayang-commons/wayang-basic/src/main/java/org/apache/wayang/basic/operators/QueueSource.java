@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.operators;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator;
+import org.apache.wayang.core.plan.wayangplan.UnarySource;
+import org.apache.wayang.core.plan.wayangplan.UnboundedSource;
+import org.apache.wayang.core.types.DataSetType;
+
+import java.util.Optional;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * This unbounded source emits the elements that are put into a {@link BlockingQueue} while the plan is running. It
+ * ends once it has been {@link #close() closed} and the queue is drained. It is mainly meant for testing streaming
+ * plans and works only within the JVM of the driver.
+ */
+public class QueueSource<T> extends UnarySource<T> implements UnboundedSource {
+
+    protected final BlockingQueue<T> queue;
+
+    /**
+     * Shared among all copies of this instance, so that closing the original instance ends the execution.
+     */
+    private final AtomicBoolean isClosed;
+
+    public QueueSource(BlockingQueue<T> queue, Class<T> typeClass) {
+        this(queue, DataSetType.createDefault(typeClass));
+    }
+
+    public QueueSource(BlockingQueue<T> queue, DataSetType<T> type) {
+        super(type);
+        this.queue = queue;
+        this.isClosed = new AtomicBoolean(false);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public QueueSource(QueueSource<T> that) {
+        super(that);
+        this.queue = that.getQueue();
+        this.isClosed = that.isClosed;
+    }
+
+    public BlockingQueue<T> getQueue() {
+        return this.queue;
+    }
+
+    /**
+     * Signals that no further elements will be put into the {@link #getQueue() queue}.
+     */
+    public void close() {
+        this.isClosed.set(true);
+    }
+
+    public boolean isClosed() {
+        return this.isClosed.get();
+    }
+
+    @Override
+    public Optional<CardinalityEstimator> createCardinalityEstimator(
+            final int outputIndex,
+            final Configuration configuration) {
+        Validate.inclusiveBetween(0, this.getNumOutputs() - 1, outputIndex);
+        return Optional.of((optimizationContext, inputEstimates) ->
+                UnboundedSource.estimateCardinality(optimizationContext.getConfiguration()));
+    }
+}
@@ -25,6 +25,7 @@ import org.apache.wayang.core.function.ReduceDescriptor;
 import org.apache.wayang.core.function.TransformationDescriptor;
 import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator;
 import org.apache.wayang.core.optimizer.cardinality.DefaultCardinalityEstimator;
+import org.apache.wayang.core.plan.wayangplan.BlockingOperator;
 import org.apache.wayang.core.plan.wayangplan.UnaryToUnaryOperator;
 import org.apache.wayang.core.types.DataSetType;
 
@@ -33,7 +34,7 @@ import java.util.Optional;
 /**
  * This operator groups the elements of a data set and aggregates the groups.
  */
-public class ReduceByOperator<Type, Key> extends UnaryToUnaryOperator<Type, Type> {
+public class ReduceByOperator<Type, Key> extends UnaryToUnaryOperator<Type, Type> implements BlockingOperator {
 
     protected final TransformationDescriptor<Type, Key> keyDescriptor;
 
@@ -20,8 +20,10 @@ package org.apache.wayang.basic.operators;
 
 import org.apache.commons.lang3.Validate;
 import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.function.TransformationDescriptor;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator;
+import org.apache.wayang.core.optimizer.cardinality.DefaultCardinalityEstimator;
 import org.apache.wayang.core.optimizer.cardinality.FixedSizeCardinalityEstimator;
 import org.apache.wayang.core.plan.wayangplan.UnaryToUnaryOperator;
 import org.apache.wayang.core.types.DataSetType;
@@ -59,7 +61,17 @@ public class SampleOperator<Type> extends UnaryToUnaryOperator<Type, Type> {
         /**
          * Reservoir sampling.
          */
-        RESERVOIR;
+        RESERVOIR,
+        /**
+         * Reservoir sampling of each partition, whereupon the partial samples are merged in proportion to the
+         * partition sizes.
+         */
+        PARALLEL_RESERVOIR,
+        /**
+         * Reservoir sampling of each stratum, i.e., of the data quanta with the same key as given by the
+         * {@link #getStratumKeyDescriptor() stratum key}. The sample size applies to each stratum.
+         */
+        STRATIFIED;
     }
 
     /**
@@ -92,6 +104,11 @@ public class SampleOperator<Type> extends UnaryToUnaryOperator<Type, Type> {
 
     private Methods sampleMethod;
 
+    /**
+     * Extracts the stratum of data quanta for {@link Methods#STRATIFIED} sampling.
+     */
+    protected TransformationDescriptor<Type, ?> stratumKeyDescriptor;
+
     /**
      * Creates a new instance with any sampling method.
      *
@@ -154,6 +171,7 @@ public class SampleOperator<Type> extends UnaryToUnaryOperator<Type, Type> {
         this.seedFunction = that.seedFunction;
         this.sampleMethod = that.getSampleMethod();
         this.datasetSize = that.getDatasetSize();
+        this.stratumKeyDescriptor = that.getStratumKeyDescriptor();
     }
 
 
@@ -186,6 +204,20 @@ public class SampleOperator<Type> extends UnaryToUnaryOperator<Type, Type> {
         this.sampleMethod = sampleMethod;
     }
 
+    public TransformationDescriptor<Type, ?> getStratumKeyDescriptor() {
+        return this.stratumKeyDescriptor;
+    }
+
+    /**
+     * Samples each stratum separately, which also sets the sampling method to {@link Methods#STRATIFIED}.
+     *
+     * @param stratumKeyDescriptor extracts the stratum of data quanta
+     */
+    public void setStratumKeyDescriptor(TransformationDescriptor<Type, ?> stratumKeyDescriptor) {
+        this.stratumKeyDescriptor = stratumKeyDescriptor;
+        this.sampleMethod = Methods.STRATIFIED;
+    }
+
     public void setSeedFunction(LongUnaryOperator seedFunction) {
         this.seedFunction = seedFunction;
     }
@@ -219,8 +251,29 @@ public class SampleOperator<Type> extends UnaryToUnaryOperator<Type, Type> {
             final int outputIndex,
             final Configuration configuration) {
         Validate.inclusiveBetween(0, this.getNumOutputs() - 1, outputIndex);
+        if (this.sampleMethod == Methods.STRATIFIED) {
+            // The sample size applies to each stratum. Like the ReduceByOperator, we assume that 10% of the data
+            // quanta have distinct keys, i.e., form a stratum each.
+            final int sampleSize = this.sampleSizeFunction.applyAsInt(0);
+            return Optional.of(new DefaultCardinalityEstimator(0.5d, 1, this.isSupportingBroadcastInputs(),
+                    inputCards -> estimateStratifiedSampleSize(inputCards[0], sampleSize)));
+        }
         // TODO: Incorporate OperatoContext would allow for precise estimation.
         return Optional.of(new FixedSizeCardinalityEstimator(this.sampleSizeFunction.applyAsInt(0)));
     }
-}
 
+    /**
+     * Estimates the size of a {@link Methods#STRATIFIED} sample.
+     *
+     * @param inputCardinality the number of input data quanta
+     * @param sampleSize       the sample size per stratum
+     * @return the estimated sample size over all strata, which is at most the {@code inputCardinality}
+     */
+    static long estimateStratifiedSampleSize(long inputCardinality, int sampleSize) {
+        final long numStrata = Math.max(1L, (long) (inputCardinality * 0.1));
+        final long estimate = numStrata > Long.MAX_VALUE / Math.max(1, sampleSize) ?
+                Long.MAX_VALUE :
+                numStrata * sampleSize;
+        return Math.min(inputCardinality, estimate);
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.operators;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator;
+import org.apache.wayang.core.plan.wayangplan.UnarySource;
+import org.apache.wayang.core.plan.wayangplan.UnboundedSource;
+import org.apache.wayang.core.types.DataSetType;
+
+import java.util.Optional;
+
+/**
+ * This unbounded source connects to a socket and outputs the received lines as data units. It ends when the
+ * connection is closed by the remote side.
+ */
+public class SocketTextSource extends UnarySource<String> implements UnboundedSource {
+
+    private final String hostname;
+
+    private final int port;
+
+    private final String encoding;
+
+    public SocketTextSource(String hostname, int port) {
+        this(hostname, port, "UTF-8");
+    }
+
+    public SocketTextSource(String hostname, int port, String encoding) {
+        super(DataSetType.createDefault(String.class));
+        this.hostname = hostname;
+        this.port = port;
+        this.encoding = encoding;
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public SocketTextSource(SocketTextSource that) {
+        super(that);
+        this.hostname = that.getHostname();
+        this.port = that.getPort();
+        this.encoding = that.getEncoding();
+    }
+
+    public String getHostname() {
+        return this.hostname;
+    }
+
+    public int getPort() {
+        return this.port;
+    }
+
+    public String getEncoding() {
+        return this.encoding;
+    }
+
+    @Override
+    public Optional<CardinalityEstimator> createCardinalityEstimator(
+            final int outputIndex,
+            final Configuration configuration) {
+        Validate.inclusiveBetween(0, this.getNumOutputs() - 1, outputIndex);
+        return Optional.of((optimizationContext, inputEstimates) ->
+                UnboundedSource.estimateCardinality(optimizationContext.getConfiguration()));
+    }
+}
@@ -24,6 +24,7 @@ import org.apache.wayang.core.function.FunctionDescriptor;
 import org.apache.wayang.core.function.TransformationDescriptor;
 import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator;
 import org.apache.wayang.core.optimizer.cardinality.DefaultCardinalityEstimator;
+import org.apache.wayang.core.plan.wayangplan.BlockingOperator;
 import org.apache.wayang.core.plan.wayangplan.UnaryToUnaryOperator;
 import org.apache.wayang.core.types.DataSetType;
 
@@ -33,7 +34,7 @@ import java.util.Optional;
 /**
  * This operator sorts the elements in this dataset.
  */
-public class SortOperator<Type, Key> extends UnaryToUnaryOperator<Type, Type> {
+public class SortOperator<Type, Key> extends UnaryToUnaryOperator<Type, Type> implements BlockingOperator {
 
     protected final TransformationDescriptor<Type, Key> keyDescriptor;
 
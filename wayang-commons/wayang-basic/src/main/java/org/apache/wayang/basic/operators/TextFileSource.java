@@ -24,9 +24,11 @@ import org.apache.wayang.commons.util.profiledb.model.measurement.TimeMeasuremen
 import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.core.plan.wayangplan.EstimationContextProperty;
 import org.apache.wayang.core.plan.wayangplan.UnarySource;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.core.util.LimitedInputStream;
+import org.apache.wayang.core.util.fs.Compression;
 import org.apache.wayang.core.util.fs.FileSystem;
 import org.apache.wayang.core.util.fs.FileSystems;
 import org.apache.logging.log4j.LogManager;
@@ -50,6 +52,13 @@ public class TextFileSource extends UnarySource<String> {
 
     private final String encoding;
 
+    /**
+     * Ratio of uncompressed to compressed bytes of the input file. It is determined lazily and refined by the
+     * {@link CardinalityEstimator}.
+     */
+    @EstimationContextProperty
+    private Double compressionRatio;
+
     public TextFileSource(String inputUrl) {
         this(inputUrl, "UTF-8");
     }
@@ -69,6 +78,7 @@ public class TextFileSource extends UnarySource<String> {
         super(that);
         this.inputUrl = that.getInputUrl();
         this.encoding = that.getEncoding();
+        this.compressionRatio = that.compressionRatio;
     }
 
     public String getInputUrl() {
@@ -87,6 +97,26 @@ public class TextFileSource extends UnarySource<String> {
         return this.encoding;
     }
 
+    /**
+     * @return the {@link Compression} of the input file
+     */
+    public Compression getCompression() {
+        return FileSystems.detectCompression(this.inputUrl);
+    }
+
+    /**
+     * Provides the ratio of uncompressed to compressed bytes of the input file, so that load estimates can
+     * account for decompression.
+     *
+     * @return the compression ratio; {@code 1} for uncompressed files
+     */
+    public double getCompressionRatio() {
+        if (this.compressionRatio == null) {
+            this.compressionRatio = this.getCompression().getDefaultRatio();
+        }
+        return this.compressionRatio;
+    }
+
     /**
      * Custom {@link org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator} for {@link FlatMapOperator}s.
      */
@@ -129,7 +159,10 @@ public class TextFileSource extends UnarySource<String> {
                 return new CardinalityEstimate(0L, 0L, 1d);
             }
 
-            OptionalDouble bytesPerLine = this.estimateBytesPerLine();
+            final Compression compression = FileSystems.detectCompression(TextFileSource.this.inputUrl);
+            OptionalDouble bytesPerLine = this.estimateBytesPerLine(
+                    compression, compression.getRatio(optimizationContext.getConfiguration())
+            );
             if (!bytesPerLine.isPresent()) {
                 TextFileSource.this.logger.warn("Could not determine average line size of {}... deliver fallback estimate.",
                         TextFileSource.this.inputUrl);
@@ -154,38 +187,56 @@ public class TextFileSource extends UnarySource<String> {
         }
 
         /**
-         * Estimate the number of bytes that are in each line of a given file.
+         * Estimate the number of (possibly compressed) bytes that are in each line of a given file.
          *
-         * @return the average number of bytes per line if it could be determined
+         * @param compression      of the file
+         * @param compressionRatio expected ratio of uncompressed to compressed bytes; used if it cannot be observed
+         * @return the average number of bytes per line if it could be determined; as a side effect, the observed
+         * compression ratio is stored in {@link TextFileSource#compressionRatio}
          */
-        private OptionalDouble estimateBytesPerLine() {
+        private OptionalDouble estimateBytesPerLine(Compression compression, double compressionRatio) {
             final Optional<FileSystem> fileSystem = FileSystems.getFileSystem(TextFileSource.this.inputUrl);
             if (fileSystem.isPresent()) {
 
                 // Construct a limited reader for the first x KiB of the file.
                 final int KiB = 1024;
                 final int MiB = 1024 * KiB;
-                try (LimitedInputStream lis = new LimitedInputStream(fileSystem.get().open(TextFileSource.this.inputUrl), 1 * MiB)) {
+                final int limit = compression == Compression.NONE ? 1 * MiB : 4 * MiB;
+                try (LimitedInputStream lis = new LimitedInputStream(fileSystem.get().open(TextFileSource.this.inputUrl), limit)) {
+                    // Count the uncompressed bytes as well to learn the compression ratio.
+                    final LimitedInputStream decompressedLis = new LimitedInputStream(compression.decompress(lis));
                     final BufferedReader bufferedReader = new BufferedReader(
-                            new InputStreamReader(lis, TextFileSource.this.encoding)
+                            new InputStreamReader(decompressedLis, TextFileSource.this.encoding)
                     );
 
                     // Read as much as possible.
                     char[] cbuf = new char[1024];
                     int numReadChars, numLineFeeds = 0;
-                    while ((numReadChars = bufferedReader.read(cbuf)) != -1) {
-                        for (int i = 0; i < numReadChars; i++) {
-                            if (cbuf[i] == '\n') {
-                                numLineFeeds++;
+                    try {
+                        while ((numReadChars = bufferedReader.read(cbuf)) != -1) {
+                            for (int i = 0; i < numReadChars; i++) {
+                                if (cbuf[i] == '\n') {
+                                    numLineFeeds++;
+                                }
                             }
                         }
+                    } catch (IOException e) {
+                        // Decompressors usually complain about the truncated input, but we might have seen enough.
+                        if (compression == Compression.NONE || numLineFeeds == 0) throw e;
                     }
 
                     if (numLineFeeds == 0) {
                         TextFileSource.this.logger.warn("Could not find any newline character in {}.", TextFileSource.this.inputUrl);
                         return OptionalDouble.empty();
                     }
-                    return OptionalDouble.of((double) lis.getNumReadBytes() / numLineFeeds);
+                    if (compression == Compression.NONE) {
+                        return OptionalDouble.of((double) lis.getNumReadBytes() / numLineFeeds);
+                    }
+                    final double observedRatio = lis.getNumReadBytes() == 0 ?
+                            compressionRatio :
+                            (double) decompressedLis.getNumReadBytes() / lis.getNumReadBytes();
+                    TextFileSource.this.compressionRatio = observedRatio;
+                    return OptionalDouble.of((double) decompressedLis.getNumReadBytes() / numLineFeeds / observedRatio);
                 } catch (IOException e) {
                     TextFileSource.this.logger.error("Could not estimate bytes per line of an input file.", e);
                 }
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.operators;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.wayang.basic.function.WindowDescriptor;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.function.FunctionDescriptor;
+import org.apache.wayang.core.function.ReduceDescriptor;
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator;
+import org.apache.wayang.core.optimizer.cardinality.DefaultCardinalityEstimator;
+import org.apache.wayang.core.plan.wayangplan.UnaryToUnaryOperator;
+import org.apache.wayang.core.types.DataSetType;
+
+import java.util.Optional;
+
+/**
+ * This operator groups the elements of a stream by their keys and event-time windows and aggregates the groups.
+ * It emits one aggregate per key and window as soon as the window is complete according to the watermark (see
+ * {@link WindowDescriptor}).
+ */
+public class WindowedReduceByOperator<Type, Key> extends UnaryToUnaryOperator<Type, Type> {
+
+    protected final TransformationDescriptor<Type, Key> keyDescriptor;
+
+    protected final ReduceDescriptor<Type> reduceDescriptor;
+
+    protected final TransformationDescriptor<Type, Long> timestampDescriptor;
+
+    protected final WindowDescriptor windowDescriptor;
+
+    /**
+     * Creates a new instance.
+     */
+    public WindowedReduceByOperator(FunctionDescriptor.SerializableFunction<Type, Key> keyFunction,
+                                    FunctionDescriptor.SerializableBinaryOperator<Type> reduceFunction,
+                                    FunctionDescriptor.SerializableFunction<Type, Long> timestampFunction,
+                                    WindowDescriptor windowDescriptor,
+                                    Class<Key> keyClass,
+                                    Class<Type> typeClass) {
+        this(new TransformationDescriptor<>(keyFunction, typeClass, keyClass),
+                new ReduceDescriptor<>(reduceFunction, typeClass),
+                new TransformationDescriptor<>(timestampFunction, typeClass, Long.class),
+                windowDescriptor);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param keyDescriptor       describes how to extract the key from data units
+     * @param reduceDescriptor    describes the reduction to be performed on the elements
+     * @param timestampDescriptor describes how to extract the event time (in milliseconds) from data units
+     * @param windowDescriptor    describes the windows
+     */
+    public WindowedReduceByOperator(TransformationDescriptor<Type, Key> keyDescriptor,
+                                    ReduceDescriptor<Type> reduceDescriptor,
+                                    TransformationDescriptor<Type, Long> timestampDescriptor,
+                                    WindowDescriptor windowDescriptor) {
+        this(keyDescriptor, reduceDescriptor, timestampDescriptor, windowDescriptor,
+                DataSetType.createDefault(keyDescriptor.getInputType()));
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param keyDescriptor       describes how to extract the key from data units
+     * @param reduceDescriptor    describes the reduction to be performed on the elements
+     * @param timestampDescriptor describes how to extract the event time (in milliseconds) from data units
+     * @param windowDescriptor    describes the windows
+     * @param type                type of the reduce elements (i.e., type of {@link #getInput()} and {@link #getOutput()})
+     */
+    public WindowedReduceByOperator(TransformationDescriptor<Type, Key> keyDescriptor,
+                                    ReduceDescriptor<Type> reduceDescriptor,
+                                    TransformationDescriptor<Type, Long> timestampDescriptor,
+                                    WindowDescriptor windowDescriptor,
+                                    DataSetType<Type> type) {
+        super(type, type, false);
+        this.keyDescriptor = keyDescriptor;
+        this.reduceDescriptor = reduceDescriptor;
+        this.timestampDescriptor = timestampDescriptor;
+        this.windowDescriptor = windowDescriptor;
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public WindowedReduceByOperator(WindowedReduceByOperator<Type, Key> that) {
+        super(that);
+        this.keyDescriptor = that.getKeyDescriptor();
+        this.reduceDescriptor = that.getReduceDescriptor();
+        this.timestampDescriptor = that.getTimestampDescriptor();
+        this.windowDescriptor = that.getWindowDescriptor();
+    }
+
+    public DataSetType<Type> getType() {
+        return this.getInputType();
+    }
+
+    public TransformationDescriptor<Type, Key> getKeyDescriptor() {
+        return this.keyDescriptor;
+    }
+
+    public ReduceDescriptor<Type> getReduceDescriptor() {
+        return this.reduceDescriptor;
+    }
+
+    public TransformationDescriptor<Type, Long> getTimestampDescriptor() {
+        return this.timestampDescriptor;
+    }
+
+    public WindowDescriptor getWindowDescriptor() {
+        return this.windowDescriptor;
+    }
+
+    @Override
+    public Optional<CardinalityEstimator> createCardinalityEstimator(
+            final int outputIndex,
+            final Configuration configuration) {
+        Validate.inclusiveBetween(0, this.getNumOutputs() - 1, outputIndex);
+        // Like for the ReduceByOperator, but each element contributes to several windows if they overlap.
+        final int numWindowsPerTimestamp = this.windowDescriptor == null ?
+                1 :
+                this.windowDescriptor.getNumWindowsPerTimestamp();
+        return Optional.of(new DefaultCardinalityEstimator(
+                0.5d,
+                1,
+                this.isSupportingBroadcastInputs(),
+                inputCards -> (long) (inputCards[0] * 0.1 * numWindowsPerTimestamp)));
+    }
+}
@@ -19,6 +19,8 @@
 package org.apache.wayang.basic.types;
 
 import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.data.RecordLayout;
+import org.apache.wayang.basic.data.TypedRecord;
 import org.apache.wayang.core.types.BasicDataUnitType;
 
 import java.util.Arrays;
@@ -34,6 +36,16 @@ public class RecordType extends BasicDataUnitType<Record> {
      */
     private String[] fieldNames;
 
+    /**
+     * Types of fields in the described {@link Record}s in order of appearance or {@code null} if unknown.
+     */
+    private Class<?>[] fieldTypes;
+
+    /**
+     * Lazily initialized {@link RecordLayout} for the {@link #fieldTypes}.
+     */
+    private transient RecordLayout layout;
+
     /**
      * Creates a new instance.
      *
@@ -44,16 +56,95 @@ public class RecordType extends BasicDataUnitType<Record> {
         this.fieldNames = fieldNames;
     }
 
+    /**
+     * Creates a new instance whose {@link Record}s can be represented as {@link TypedRecord}s.
+     *
+     * @param fieldNames names of fields in the described {@link Record}s in order of appearance
+     * @param fieldTypes types of fields in the described {@link Record}s in order of appearance
+     */
+    public RecordType(String[] fieldNames, Class<?>[] fieldTypes) {
+        this(fieldNames);
+        if (fieldTypes != null && fieldTypes.length != fieldNames.length) {
+            throw new IllegalArgumentException(String.format(
+                    "%d field types given for %d fields.", fieldTypes.length, fieldNames.length
+            ));
+        }
+        this.fieldTypes = fieldTypes;
+    }
+
     public String[] getFieldNames() {
         return this.fieldNames;
     }
 
+    /**
+     * Retrieve the field types.
+     *
+     * @return the types of fields in order of appearance or {@code null} if they are not known
+     */
+    public Class<?>[] getFieldTypes() {
+        return this.fieldTypes;
+    }
+
+    public boolean hasFieldTypes() {
+        return this.fieldTypes != null;
+    }
+
+    /**
+     * Provides the {@link RecordLayout} for {@link TypedRecord}s of this instance.
+     *
+     * @return the {@link RecordLayout}
+     * @throws IllegalStateException if this instance has no field types
+     */
+    public RecordLayout getLayout() {
+        if (this.layout == null) {
+            if (this.fieldTypes == null) {
+                throw new IllegalStateException(String.format("%s does not specify field types.", this));
+            }
+            this.layout = RecordLayout.of(this.fieldTypes);
+        }
+        return this.layout;
+    }
+
+    /**
+     * Creates a {@link Record} of this type, which is a {@link TypedRecord} if field types are known.
+     *
+     * @param values the fields of the new {@link Record}
+     * @return the new {@link Record}
+     */
+    public Record createRecord(Object... values) {
+        return this.fieldTypes == null ? new Record(values) : new TypedRecord(this.getLayout(), values);
+    }
+
+    /**
+     * Creates a new instance that describes the given fields of this instance, including their types if known.
+     *
+     * @param fieldNames names of the fields to retain in order of appearance
+     * @return the new instance
+     */
+    public RecordType project(String... fieldNames) {
+        if (this.fieldTypes == null) {
+            return new RecordType(fieldNames);
+        }
+        Class<?>[] projectedFieldTypes = new Class<?>[fieldNames.length];
+        for (int i = 0; i < fieldNames.length; i++) {
+            projectedFieldTypes[i] = this.fieldTypes[this.getIndex(fieldNames[i])];
+        }
+        return new RecordType(fieldNames, projectedFieldTypes);
+    }
+
     @Override
     public boolean isSupertypeOf(BasicDataUnitType<?> that) {
-        // A RecordType cannot have subtypes.
-        return this.equals(that);
+        // A RecordType cannot have subtypes. Field types are optional, so they only matter if both sides declare them.
+        if (!this.equals(that)) return false;
+        final RecordType thatRecordType = (RecordType) that;
+        return this.fieldTypes == null || thatRecordType.fieldTypes == null
+                || Arrays.equals(this.fieldTypes, thatRecordType.fieldTypes);
     }
 
+    /**
+     * Compares the field names only: The field types merely tell whether {@link Record}s can be represented as
+     * {@link TypedRecord}s, which remain {@link Record}s nonetheless.
+     */
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -65,12 +156,20 @@ public class RecordType extends BasicDataUnitType<Record> {
 
     @Override
     public int hashCode() {
-        return Objects.hash(super.hashCode(), fieldNames);
+        return Objects.hash(super.hashCode(), Arrays.hashCode(fieldNames));
     }
 
     @Override
     public String toString() {
-        return "RecordType" + Arrays.toString(fieldNames);
+        if (this.fieldTypes == null) {
+            return "RecordType" + Arrays.toString(fieldNames);
+        }
+        StringBuilder sb = new StringBuilder("RecordType[");
+        for (int i = 0; i < this.fieldNames.length; i++) {
+            if (i > 0) sb.append(", ");
+            sb.append(this.fieldNames[i]).append(':').append(this.fieldTypes[i].getSimpleName());
+        }
+        return sb.append(']').toString();
     }
 
     /**
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.util.parquet;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FileStatus;
+import org.apache.hadoop.fs.FileSystem;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.metadata.ParquetMetadata;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.apache.parquet.schema.MessageType;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Utilities to locate Parquet files and to read their footers.
+ */
+public class ParquetFiles {
+
+    /**
+     * Lists the Parquet files designated by the given URL. The URL can point either to a single file or to a
+     * directory of part files as written by Spark and Flink; hidden files and metadata files are ignored.
+     *
+     * @param url  points to a Parquet file or a directory of such
+     * @param conf Hadoop {@link Configuration} to access the file system
+     * @return the data files ordered by their paths
+     * @throws IOException if the file system cannot be accessed properly for whatever reason
+     */
+    public static List<Path> listDataFiles(String url, Configuration conf) throws IOException {
+        final Path path = new Path(url);
+        final FileSystem fileSystem = path.getFileSystem(conf);
+        final FileStatus status = fileSystem.getFileStatus(path);
+        if (!status.isDirectory()) {
+            return Collections.singletonList(status.getPath());
+        }
+
+        List<Path> dataFiles = new ArrayList<>();
+        for (FileStatus childStatus : fileSystem.listStatus(path)) {
+            final String name = childStatus.getPath().getName();
+            if (childStatus.isFile() && !name.startsWith("_") && !name.startsWith(".")) {
+                dataFiles.add(childStatus.getPath());
+            }
+        }
+        Collections.sort(dataFiles);
+        return dataFiles;
+    }
+
+    /**
+     * Reads the footers of all Parquet files designated by the given URL.
+     *
+     * @param url  points to a Parquet file or a directory of such
+     * @param conf Hadoop {@link Configuration} to access the file system
+     * @return the {@link ParquetMetadata} of all data files
+     * @throws IOException if the footers cannot be read properly for whatever reason
+     * @see #listDataFiles(String, Configuration)
+     */
+    public static List<ParquetMetadata> readFooters(String url, Configuration conf) throws IOException {
+        List<ParquetMetadata> footers = new ArrayList<>();
+        for (Path dataFile : listDataFiles(url, conf)) {
+            footers.add(readFooter(dataFile, conf));
+        }
+        return footers;
+    }
+
+    /**
+     * Reads the footer of a single Parquet file.
+     *
+     * @param dataFile the Parquet file
+     * @param conf     Hadoop {@link Configuration} to access the file system
+     * @return the {@link ParquetMetadata}
+     * @throws IOException if the footer cannot be read properly for whatever reason
+     */
+    public static ParquetMetadata readFooter(Path dataFile, Configuration conf) throws IOException {
+        try (ParquetFileReader reader = ParquetFileReader.open(HadoopInputFile.fromPath(dataFile, conf))) {
+            return reader.getFooter();
+        }
+    }
+
+    /**
+     * Reads the schema of the Parquet files designated by the given URL. All files are assumed to share it.
+     *
+     * @param url  points to a Parquet file or a directory of such
+     * @param conf Hadoop {@link Configuration} to access the file system
+     * @return the {@link MessageType} of the first data file
+     * @throws IOException if there is no data file or its footer cannot be read properly
+     */
+    public static MessageType readSchema(String url, Configuration conf) throws IOException {
+        final List<Path> dataFiles = listDataFiles(url, conf);
+        if (dataFiles.isEmpty()) {
+            throw new FileNotFoundException(String.format("No Parquet files found at %s.", url));
+        }
+        return readFooter(dataFiles.get(0), conf).getFileMetaData().getSchema();
+    }
+
+}
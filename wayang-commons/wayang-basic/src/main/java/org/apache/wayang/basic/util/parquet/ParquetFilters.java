@@ -0,0 +1,399 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.util.parquet;
+
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.filter2.predicate.Operators;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType;
+import org.apache.parquet.schema.Type;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+/**
+ * Translates simple SQL predicates, as provided by
+ * {@link org.apache.wayang.core.function.PredicateDescriptor#getSqlImplementation()}, into Parquet
+ * {@link FilterPredicate}s, so that Parquet can skip row groups and records.
+ * <p>Supported are comparisons ({@code =, <>, !=, <, <=, >, >=}) of top-level primitive columns with literals,
+ * {@code IS [NOT] NULL}, {@code AND}, {@code OR}, and parentheses. Conjuncts that cannot be translated, e.g., because
+ * they refer to unknown columns, are dropped. Hence, the resulting {@link FilterPredicate} might be weaker than
+ * the SQL predicate and the latter still needs to be applied to the read records.</p>
+ */
+public class ParquetFilters {
+
+    /**
+     * Translates a SQL predicate into a {@link FilterPredicate}.
+     *
+     * @param sqlPredicate the SQL predicate as it would appear in a {@code WHERE} clause
+     * @param schema       the Parquet schema of the records to be filtered
+     * @return the {@link FilterPredicate} or an empty {@link Optional} if nothing can be pushed down
+     */
+    public static Optional<FilterPredicate> translate(String sqlPredicate, MessageType schema) {
+        if (sqlPredicate == null || sqlPredicate.trim().isEmpty()) return Optional.empty();
+        try {
+            final Parser parser = new Parser(tokenize(sqlPredicate), schema);
+            final FilterPredicate filterPredicate = parser.parseDisjunction();
+            parser.expectEnd();
+            return Optional.ofNullable(filterPredicate);
+        } catch (UnsupportedSyntaxException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Signals that a SQL predicate uses unsupported syntax.
+     */
+    private static class UnsupportedSyntaxException extends Exception {
+
+        UnsupportedSyntaxException(String message) {
+            super(message);
+        }
+
+    }
+
+    private enum TokenType {
+        IDENTIFIER, NUMBER, STRING, OPERATOR, LEFT_PARENTHESIS, RIGHT_PARENTHESIS
+    }
+
+    private static class Token {
+
+        final TokenType type;
+
+        final String text;
+
+        Token(TokenType type, String text) {
+            this.type = type;
+            this.text = text;
+        }
+
+        boolean isKeyword(String keyword) {
+            return this.type == TokenType.IDENTIFIER && this.text.equalsIgnoreCase(keyword);
+        }
+
+    }
+
+    private static List<Token> tokenize(String sql) throws UnsupportedSyntaxException {
+        List<Token> tokens = new ArrayList<>();
+        int i = 0;
+        while (i < sql.length()) {
+            final char c = sql.charAt(i);
+            if (Character.isWhitespace(c)) {
+                i++;
+            } else if (c == '(') {
+                tokens.add(new Token(TokenType.LEFT_PARENTHESIS, "("));
+                i++;
+            } else if (c == ')') {
+                tokens.add(new Token(TokenType.RIGHT_PARENTHESIS, ")"));
+                i++;
+            } else if (c == '\'') {
+                // String literal with '' as escaped quote.
+                StringBuilder sb = new StringBuilder();
+                i++;
+                while (true) {
+                    if (i >= sql.length()) throw new UnsupportedSyntaxException("Unterminated string literal.");
+                    if (sql.charAt(i) == '\'') {
+                        if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                            sb.append('\'');
+                            i += 2;
+                        } else {
+                            i++;
+                            break;
+                        }
+                    } else {
+                        sb.append(sql.charAt(i++));
+                    }
+                }
+                tokens.add(new Token(TokenType.STRING, sb.toString()));
+            } else if (c == '"' || c == '`') {
+                // Quoted identifier.
+                final int end = sql.indexOf(c, i + 1);
+                if (end == -1) throw new UnsupportedSyntaxException("Unterminated identifier.");
+                tokens.add(new Token(TokenType.IDENTIFIER, sql.substring(i + 1, end)));
+                i = end + 1;
+            } else if (Character.isDigit(c) || ((c == '-' || c == '.') && i + 1 < sql.length() && Character.isDigit(sql.charAt(i + 1)))) {
+                int end = i + 1;
+                while (end < sql.length() && (Character.isDigit(sql.charAt(end)) || ".eE".indexOf(sql.charAt(end)) != -1
+                        || ((sql.charAt(end) == '-' || sql.charAt(end) == '+') && "eE".indexOf(sql.charAt(end - 1)) != -1))) {
+                    end++;
+                }
+                tokens.add(new Token(TokenType.NUMBER, sql.substring(i, end)));
+                i = end;
+            } else if (Character.isLetter(c) || c == '_') {
+                int end = i + 1;
+                while (end < sql.length() && (Character.isLetterOrDigit(sql.charAt(end)) || sql.charAt(end) == '_')) {
+                    end++;
+                }
+                tokens.add(new Token(TokenType.IDENTIFIER, sql.substring(i, end)));
+                i = end;
+            } else if ("<>!=".indexOf(c) != -1) {
+                int end = i + 1;
+                if (end < sql.length() && "<>=".indexOf(sql.charAt(end)) != -1) end++;
+                final String operator = sql.substring(i, end);
+                switch (operator) {
+                    case "=":
+                    case "<":
+                    case "<=":
+                    case ">":
+                    case ">=":
+                    case "<>":
+                        tokens.add(new Token(TokenType.OPERATOR, operator));
+                        break;
+                    case "!=":
+                        tokens.add(new Token(TokenType.OPERATOR, "<>"));
+                        break;
+                    default:
+                        throw new UnsupportedSyntaxException(String.format("Unknown operator %s.", operator));
+                }
+                i = end;
+            } else {
+                throw new UnsupportedSyntaxException(String.format("Unexpected character '%c'.", c));
+            }
+        }
+        return tokens;
+    }
+
+    /**
+     * Recursive-descent parser for the supported SQL subset. Untranslatable predicates are represented as
+     * {@code null}, i.e., they do not restrict the records.
+     */
+    private static class Parser {
+
+        private final List<Token> tokens;
+
+        private final MessageType schema;
+
+        private int position = 0;
+
+        Parser(List<Token> tokens, MessageType schema) {
+            this.tokens = tokens;
+            this.schema = schema;
+        }
+
+        FilterPredicate parseDisjunction() throws UnsupportedSyntaxException {
+            FilterPredicate predicate = this.parseConjunction();
+            while (this.acceptKeyword("OR")) {
+                final FilterPredicate other = this.parseConjunction();
+                // A disjunction is only restrictive if both sides are.
+                predicate = predicate == null || other == null ? null : FilterApi.or(predicate, other);
+            }
+            return predicate;
+        }
+
+        FilterPredicate parseConjunction() throws UnsupportedSyntaxException {
+            FilterPredicate predicate = this.parsePrimary();
+            while (this.acceptKeyword("AND")) {
+                final FilterPredicate other = this.parsePrimary();
+                if (predicate == null) predicate = other;
+                else if (other != null) predicate = FilterApi.and(predicate, other);
+            }
+            return predicate;
+        }
+
+        FilterPredicate parsePrimary() throws UnsupportedSyntaxException {
+            if (this.peek(TokenType.LEFT_PARENTHESIS)) {
+                this.position++;
+                final FilterPredicate predicate = this.parseDisjunction();
+                this.expect(TokenType.RIGHT_PARENTHESIS);
+                return predicate;
+            }
+            final Token left = this.next();
+            if (this.acceptKeyword("IS")) {
+                final boolean isNegated = this.acceptKeyword("NOT");
+                if (!this.acceptKeyword("NULL") || left.type != TokenType.IDENTIFIER) {
+                    throw new UnsupportedSyntaxException("Malformed IS NULL predicate.");
+                }
+                return this.translateNullCheck(left.text, isNegated);
+            }
+            final Token operator = this.expect(TokenType.OPERATOR);
+            final Token right = this.next();
+            final boolean isLeftLiteral = isLiteral(left), isRightLiteral = isLiteral(right);
+            if (left.type == TokenType.IDENTIFIER && !isLeftLiteral && isRightLiteral) {
+                return this.translateComparison(left.text, operator.text, right);
+            } else if (right.type == TokenType.IDENTIFIER && !isRightLiteral && isLeftLiteral) {
+                return this.translateComparison(right.text, mirror(operator.text), left);
+            } else if (left.type == TokenType.IDENTIFIER && right.type == TokenType.IDENTIFIER) {
+                // Comparisons of two columns cannot be pushed down.
+                return null;
+            }
+            throw new UnsupportedSyntaxException("Expected a comparison of a column and a literal.");
+        }
+
+        private static boolean isLiteral(Token token) {
+            return token.type == TokenType.NUMBER || token.type == TokenType.STRING
+                    || token.isKeyword("TRUE") || token.isKeyword("FALSE");
+        }
+
+        private static String mirror(String operator) {
+            switch (operator) {
+                case "<":
+                    return ">";
+                case "<=":
+                    return ">=";
+                case ">":
+                    return "<";
+                case ">=":
+                    return "<=";
+                default:
+                    return operator;
+            }
+        }
+
+        /**
+         * @return the primitive type of the given top-level column or {@code null} if it cannot be filtered on
+         */
+        private PrimitiveType findColumn(String columnName) {
+            if (!this.schema.containsField(columnName)) return null;
+            final Type type = this.schema.getType(columnName);
+            if (!type.isPrimitive() || type.isRepetition(Type.Repetition.REPEATED)) return null;
+            return type.asPrimitiveType();
+        }
+
+        private FilterPredicate translateNullCheck(String columnName, boolean isNegated) {
+            final PrimitiveType type = this.findColumn(columnName);
+            if (type == null) return null;
+            switch (type.getPrimitiveTypeName()) {
+                case INT32:
+                    return isNegated ?
+                            FilterApi.notEq(FilterApi.intColumn(columnName), null) :
+                            FilterApi.eq(FilterApi.intColumn(columnName), null);
+                case INT64:
+                    return isNegated ?
+                            FilterApi.notEq(FilterApi.longColumn(columnName), null) :
+                            FilterApi.eq(FilterApi.longColumn(columnName), null);
+                case FLOAT:
+                    return isNegated ?
+                            FilterApi.notEq(FilterApi.floatColumn(columnName), null) :
+                            FilterApi.eq(FilterApi.floatColumn(columnName), null);
+                case DOUBLE:
+                    return isNegated ?
+                            FilterApi.notEq(FilterApi.doubleColumn(columnName), null) :
+                            FilterApi.eq(FilterApi.doubleColumn(columnName), null);
+                case BOOLEAN:
+                    return isNegated ?
+                            FilterApi.notEq(FilterApi.booleanColumn(columnName), null) :
+                            FilterApi.eq(FilterApi.booleanColumn(columnName), null);
+                case BINARY:
+                    return isNegated ?
+                            FilterApi.notEq(FilterApi.binaryColumn(columnName), null) :
+                            FilterApi.eq(FilterApi.binaryColumn(columnName), null);
+                default:
+                    return null;
+            }
+        }
+
+        private FilterPredicate translateComparison(String columnName, String operator, Token literal) {
+            final PrimitiveType type = this.findColumn(columnName);
+            if (type == null) return null;
+            try {
+                switch (type.getPrimitiveTypeName()) {
+                    case INT32:
+                        if (literal.type != TokenType.NUMBER) return null;
+                        return compare(FilterApi.intColumn(columnName), operator, Integer.valueOf(literal.text));
+                    case INT64:
+                        if (literal.type != TokenType.NUMBER) return null;
+                        return compare(FilterApi.longColumn(columnName), operator, Long.valueOf(literal.text));
+                    case FLOAT:
+                        if (literal.type != TokenType.NUMBER) return null;
+                        return compare(FilterApi.floatColumn(columnName), operator, Float.valueOf(literal.text));
+                    case DOUBLE:
+                        if (literal.type != TokenType.NUMBER) return null;
+                        return compare(FilterApi.doubleColumn(columnName), operator, Double.valueOf(literal.text));
+                    case BOOLEAN:
+                        if (literal.type != TokenType.IDENTIFIER) return null;
+                        final Boolean value = literal.text.toUpperCase(Locale.ROOT).equals("TRUE");
+                        switch (operator) {
+                            case "=":
+                                return FilterApi.eq(FilterApi.booleanColumn(columnName), value);
+                            case "<>":
+                                return FilterApi.notEq(FilterApi.booleanColumn(columnName), value);
+                            default:
+                                return null;
+                        }
+                    case BINARY:
+                        if (literal.type != TokenType.STRING || type.getOriginalType() != OriginalType.UTF8) return null;
+                        return compare(FilterApi.binaryColumn(columnName), operator, Binary.fromString(literal.text));
+                    default:
+                        return null;
+                }
+            } catch (NumberFormatException e) {
+                // E.g., a fractional literal for an integer column.
+                return null;
+            }
+        }
+
+        private static <T extends Comparable<T>, C extends Operators.Column<T> & Operators.SupportsLtGt>
+        FilterPredicate compare(C column, String operator, T value) {
+            switch (operator) {
+                case "=":
+                    return FilterApi.eq(column, value);
+                case "<>":
+                    return FilterApi.notEq(column, value);
+                case "<":
+                    return FilterApi.lt(column, value);
+                case "<=":
+                    return FilterApi.ltEq(column, value);
+                case ">":
+                    return FilterApi.gt(column, value);
+                case ">=":
+                    return FilterApi.gtEq(column, value);
+                default:
+                    throw new IllegalArgumentException(String.format("Unknown operator %s.", operator));
+            }
+        }
+
+        private boolean peek(TokenType type) {
+            return this.position < this.tokens.size() && this.tokens.get(this.position).type == type;
+        }
+
+        private boolean acceptKeyword(String keyword) {
+            if (this.position < this.tokens.size() && this.tokens.get(this.position).isKeyword(keyword)) {
+                this.position++;
+                return true;
+            }
+            return false;
+        }
+
+        private Token next() throws UnsupportedSyntaxException {
+            if (this.position >= this.tokens.size()) throw new UnsupportedSyntaxException("Unexpected end.");
+            return this.tokens.get(this.position++);
+        }
+
+        private Token expect(TokenType type) throws UnsupportedSyntaxException {
+            final Token token = this.next();
+            if (token.type != type) {
+                throw new UnsupportedSyntaxException(String.format("Expected %s, found %s.", type, token.text));
+            }
+            return token;
+        }
+
+        void expectEnd() throws UnsupportedSyntaxException {
+            if (this.position < this.tokens.size()) {
+                throw new UnsupportedSyntaxException(String.format("Unexpected %s.", this.tokens.get(this.position).text));
+            }
+        }
+
+    }
+
+}
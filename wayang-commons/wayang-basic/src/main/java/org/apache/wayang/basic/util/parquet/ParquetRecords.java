@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.util.parquet;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.example.data.simple.SimpleGroup;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.Type;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Utilities to convert between Parquet {@link Group}s and {@link Record}s.
+ * <p>Primitive values are mapped to their Java counterparts, UTF-8 strings to {@link String}s and other binaries to
+ * {@code byte[]}s. Nested groups become nested {@link Record}s and repeated fields become {@link List}s.</p>
+ */
+public class ParquetRecords {
+
+    /**
+     * Converts a {@link Group} into a {@link Record}.
+     *
+     * @param group       the {@link Group}
+     * @param columnNames names of the fields to be put into the {@link Record} in that order or {@code null} to
+     *                    take all fields of the {@link Group}
+     * @return the {@link Record}
+     */
+    public static Record toRecord(Group group, String[] columnNames) {
+        final GroupType type = group.getType();
+        final int numFields = columnNames == null ? type.getFieldCount() : columnNames.length;
+        Object[] values = new Object[numFields];
+        for (int i = 0; i < numFields; i++) {
+            final int fieldIndex = columnNames == null ? i : type.getFieldIndex(columnNames[i]);
+            values[i] = readField(group, fieldIndex);
+        }
+        return new Record(values);
+    }
+
+    private static Object readField(Group group, int fieldIndex) {
+        final Type fieldType = group.getType().getType(fieldIndex);
+        final int numValues = group.getFieldRepetitionCount(fieldIndex);
+        if (fieldType.isRepetition(Type.Repetition.REPEATED)) {
+            List<Object> values = new ArrayList<>(numValues);
+            for (int i = 0; i < numValues; i++) {
+                values.add(readValue(group, fieldIndex, i, fieldType));
+            }
+            return values;
+        }
+        return numValues == 0 ? null : readValue(group, fieldIndex, 0, fieldType);
+    }
+
+    private static Object readValue(Group group, int fieldIndex, int index, Type fieldType) {
+        if (!fieldType.isPrimitive()) {
+            return toRecord(group.getGroup(fieldIndex, index), null);
+        }
+        switch (fieldType.asPrimitiveType().getPrimitiveTypeName()) {
+            case INT32:
+                return group.getInteger(fieldIndex, index);
+            case INT64:
+                return group.getLong(fieldIndex, index);
+            case FLOAT:
+                return group.getFloat(fieldIndex, index);
+            case DOUBLE:
+                return group.getDouble(fieldIndex, index);
+            case BOOLEAN:
+                return group.getBoolean(fieldIndex, index);
+            case BINARY:
+                if (isString(fieldType)) return group.getString(fieldIndex, index);
+                // Otherwise, fall through.
+            default:
+                return group.getBinary(fieldIndex, index).getBytes();
+        }
+    }
+
+    private static boolean isString(Type fieldType) {
+        final OriginalType originalType = fieldType.getOriginalType();
+        return originalType == OriginalType.UTF8 || originalType == OriginalType.ENUM || originalType == OriginalType.JSON;
+    }
+
+    /**
+     * Converts a {@link Record} into a {@link Group}. The fields of the {@link Record} are matched by position
+     * with the fields of the {@code schema}.
+     *
+     * @param record the {@link Record}
+     * @param schema the Parquet schema of the {@link Group}
+     * @return the {@link Group}
+     */
+    public static Group toGroup(Record record, MessageType schema) {
+        final Group group = new SimpleGroup(schema);
+        writeFields(record, group);
+        return group;
+    }
+
+    private static void writeFields(Record record, Group group) {
+        final GroupType type = group.getType();
+        if (record.size() != type.getFieldCount()) {
+            throw new IllegalArgumentException(String.format("%s does not comply with %s.", record, type));
+        }
+        for (int fieldIndex = 0; fieldIndex < record.size(); fieldIndex++) {
+            final Object value = record.getField(fieldIndex);
+            final Type fieldType = type.getType(fieldIndex);
+            if (value == null) {
+                if (fieldType.isRepetition(Type.Repetition.REQUIRED)) {
+                    throw new IllegalArgumentException(String.format(
+                            "Required field %s of %s must not be null.", fieldType.getName(), record
+                    ));
+                }
+            } else if (fieldType.isRepetition(Type.Repetition.REPEATED) && value instanceof Collection) {
+                for (Object element : (Collection<?>) value) {
+                    writeValue(group, fieldIndex, fieldType, element);
+                }
+            } else {
+                writeValue(group, fieldIndex, fieldType, value);
+            }
+        }
+    }
+
+    private static void writeValue(Group group, int fieldIndex, Type fieldType, Object value) {
+        if (!fieldType.isPrimitive()) {
+            writeFields((Record) value, group.addGroup(fieldIndex));
+            return;
+        }
+        switch (fieldType.asPrimitiveType().getPrimitiveTypeName()) {
+            case INT32:
+                group.add(fieldIndex, ((Number) value).intValue());
+                break;
+            case INT64:
+                group.add(fieldIndex, ((Number) value).longValue());
+                break;
+            case FLOAT:
+                group.add(fieldIndex, ((Number) value).floatValue());
+                break;
+            case DOUBLE:
+                group.add(fieldIndex, ((Number) value).doubleValue());
+                break;
+            case BOOLEAN:
+                group.add(fieldIndex, (Boolean) value);
+                break;
+            default:
+                group.add(fieldIndex, value instanceof byte[] ?
+                        Binary.fromConstantByteArray((byte[]) value) :
+                        Binary.fromString(value.toString()));
+        }
+    }
+
+    /**
+     * Tells whether converting the {@link Record} with {@link #toGroup(Record, MessageType)} and back with
+     * {@link #toRecord(Group, String[])} yields an equal {@link Record}, i.e., whether all fields are flat and of
+     * the exact Java types that the {@code schema} is read back as.
+     *
+     * @param record the {@link Record}
+     * @param schema the Parquet schema of the {@link Group}
+     * @return whether the conversion is lossless
+     */
+    public static boolean isLosslessConvertible(Record record, MessageType schema) {
+        if (record.size() != schema.getFieldCount()) return false;
+        for (int fieldIndex = 0; fieldIndex < record.size(); fieldIndex++) {
+            final Object value = record.getField(fieldIndex);
+            final Type fieldType = schema.getType(fieldIndex);
+            if (value == null) {
+                if (fieldType.isRepetition(Type.Repetition.REQUIRED)) return false;
+                continue;
+            }
+            if (!fieldType.isPrimitive() || fieldType.isRepetition(Type.Repetition.REPEATED)) return false;
+            final Class<?> readClass;
+            switch (fieldType.asPrimitiveType().getPrimitiveTypeName()) {
+                case INT32:
+                    readClass = Integer.class;
+                    break;
+                case INT64:
+                    readClass = Long.class;
+                    break;
+                case FLOAT:
+                    readClass = Float.class;
+                    break;
+                case DOUBLE:
+                    readClass = Double.class;
+                    break;
+                case BOOLEAN:
+                    readClass = Boolean.class;
+                    break;
+                case BINARY:
+                    readClass = isString(fieldType) ? String.class : byte[].class;
+                    break;
+                default:
+                    return false;
+            }
+            if (value.getClass() != readClass) return false;
+        }
+        return true;
+    }
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.util.parquet;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.types.RecordType;
+import org.apache.parquet.schema.GroupType;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.OriginalType;
+import org.apache.parquet.schema.PrimitiveType.PrimitiveTypeName;
+import org.apache.parquet.schema.Type;
+import org.apache.parquet.schema.Types;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Utilities to translate between Parquet schemas and {@link RecordType}s.
+ */
+public class ParquetSchemas {
+
+    /**
+     * Name of the {@link MessageType}s created by Wayang.
+     */
+    public static final String MESSAGE_NAME = "wayang_record";
+
+    /**
+     * Restricts a {@link MessageType} to the given columns, thereby ordering them as requested. Only the requested
+     * columns will be read from disk.
+     *
+     * @param schema      the full schema
+     * @param columnNames names of top-level fields to retain; an empty {@link Collection} retains all fields
+     * @return the projected {@link MessageType}
+     */
+    public static MessageType project(MessageType schema, Collection<String> columnNames) {
+        if (columnNames.isEmpty()) return schema;
+        List<Type> fields = new ArrayList<>(columnNames.size());
+        for (String columnName : columnNames) {
+            if (!schema.containsField(columnName)) {
+                throw new IllegalArgumentException(String.format("No column \"%s\" in %s.", columnName, schema));
+            }
+            fields.add(schema.getType(columnName));
+        }
+        return new MessageType(schema.getName(), fields);
+    }
+
+    /**
+     * Provides the names of the top-level fields of a Parquet schema.
+     *
+     * @param schema the Parquet schema
+     * @return the field names in order of appearance
+     */
+    public static String[] getFieldNames(GroupType schema) {
+        String[] fieldNames = new String[schema.getFieldCount()];
+        for (int i = 0; i < fieldNames.length; i++) {
+            fieldNames[i] = schema.getType(i).getName();
+        }
+        return fieldNames;
+    }
+
+    /**
+     * Creates a {@link RecordType} that corresponds to the given Parquet schema.
+     *
+     * @param schema the Parquet schema
+     * @return the {@link RecordType}
+     */
+    public static RecordType toRecordType(GroupType schema) {
+        return new RecordType(getFieldNames(schema));
+    }
+
+    /**
+     * Infers a Parquet schema from a sample {@link Record}. All fields are optional; fields whose type cannot be
+     * inferred (in particular {@code null}s) are stored as UTF-8 strings.
+     *
+     * @param fieldNames names of the fields or {@code null} to name them {@code f0}, {@code f1}, ...
+     * @param sample     a representative {@link Record}
+     * @return the inferred {@link MessageType}
+     */
+    public static MessageType inferSchema(String[] fieldNames, Record sample) {
+        if (fieldNames != null && fieldNames.length != sample.size()) {
+            throw new IllegalArgumentException(String.format(
+                    "%s does not have the fields %s.", sample, String.join(", ", fieldNames)
+            ));
+        }
+        final Types.MessageTypeBuilder builder = Types.buildMessage();
+        for (int i = 0; i < sample.size(); i++) {
+            final String fieldName = fieldNames == null ? "f" + i : fieldNames[i];
+            builder.addField(inferType(fieldName, sample.getField(i)));
+        }
+        return builder.named(MESSAGE_NAME);
+    }
+
+    private static Type inferType(String fieldName, Object value) {
+        if (value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return Types.optional(PrimitiveTypeName.INT32).named(fieldName);
+        } else if (value instanceof Long) {
+            return Types.optional(PrimitiveTypeName.INT64).named(fieldName);
+        } else if (value instanceof Float) {
+            return Types.optional(PrimitiveTypeName.FLOAT).named(fieldName);
+        } else if (value instanceof Double) {
+            return Types.optional(PrimitiveTypeName.DOUBLE).named(fieldName);
+        } else if (value instanceof Boolean) {
+            return Types.optional(PrimitiveTypeName.BOOLEAN).named(fieldName);
+        } else if (value instanceof byte[]) {
+            return Types.optional(PrimitiveTypeName.BINARY).named(fieldName);
+        }
+        return Types.optional(PrimitiveTypeName.BINARY).as(OriginalType.UTF8).named(fieldName);
+    }
+
+}
@@ -0,0 +1,167 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.util.sketch;
+
+import org.apache.commons.lang3.Validate;
+
+import java.io.Serializable;
+
+/**
+ * Bloom filter to test whether values might have been added. It derives its hash functions from a single 64-bit
+ * hash (see {@link Hashing}) via double hashing. Instances can be merged if they have the same number of bits and
+ * hash functions.
+ */
+public class BloomFilter implements Serializable {
+
+    /**
+     * The bits; their number is a power of two.
+     */
+    private final long[] bits;
+
+    private final int numHashFunctions;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param log2NumBits      the binary logarithm of the number of bits, between {@code 6} and {@code 32}
+     * @param numHashFunctions the number of hash functions, between {@code 1} and {@code 16}
+     */
+    public BloomFilter(int log2NumBits, int numHashFunctions) {
+        Validate.inclusiveBetween(6, 32, log2NumBits, "The number of bits must be between 2^6 and 2^32.");
+        Validate.inclusiveBetween(1, 16, numHashFunctions, "The number of hash functions must be between 1 and 16.");
+        this.bits = new long[1 << (log2NumBits - 6)];
+        this.numHashFunctions = numHashFunctions;
+    }
+
+    /**
+     * Creates a new instance that has a certain false positive probability for a certain number of values.
+     *
+     * @param expectedNumValues        the expected number of values to be added
+     * @param falsePositiveProbability the desired false positive probability
+     * @return the new instance
+     */
+    public static BloomFilter create(long expectedNumValues, double falsePositiveProbability) {
+        Validate.isTrue(expectedNumValues > 0, "The expected number of values must be positive.");
+        Validate.isTrue(falsePositiveProbability > 0 && falsePositiveProbability < 1,
+                "The false positive probability must be in (0, 1).");
+        final double optimalNumBits =
+                -expectedNumValues * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2));
+        final int log2NumBits = Math.max(6, Math.min(32, (int) Math.ceil(Math.log(optimalNumBits) / Math.log(2))));
+        final double numBits = Math.pow(2, log2NumBits);
+        final int numHashFunctions = (int) Math.round(numBits / expectedNumValues * Math.log(2));
+        return new BloomFilter(log2NumBits, Math.max(1, Math.min(16, numHashFunctions)));
+    }
+
+    /**
+     * Adds a value to this instance.
+     *
+     * @param value the value
+     */
+    public void add(Object value) {
+        this.addHash(Hashing.hash64(value));
+    }
+
+    /**
+     * Adds a value to this instance by means of its 64-bit hash.
+     *
+     * @param hash the hash of the value
+     */
+    public void addHash(long hash) {
+        final long mask = this.getNumBits() - 1;
+        long combinedHash = hash;
+        for (int i = 0; i < this.numHashFunctions; i++) {
+            final long bit = combinedHash & mask;
+            this.bits[(int) (bit >>> 6)] |= 1L << bit;
+            combinedHash += (hash >>> 32) | 1L;
+        }
+    }
+
+    /**
+     * Tests whether a value might have been added to this instance.
+     *
+     * @param value the value
+     * @return {@code false} if the value has not been added for sure
+     */
+    public boolean mightContain(Object value) {
+        return this.mightContainHash(Hashing.hash64(value));
+    }
+
+    /**
+     * Tests whether a value might have been added to this instance by means of its 64-bit hash.
+     *
+     * @param hash the hash of the value
+     * @return {@code false} if the value has not been added for sure
+     */
+    public boolean mightContainHash(long hash) {
+        final long mask = this.getNumBits() - 1;
+        long combinedHash = hash;
+        for (int i = 0; i < this.numHashFunctions; i++) {
+            final long bit = combinedHash & mask;
+            if ((this.bits[(int) (bit >>> 6)] & (1L << bit)) == 0) {
+                return false;
+            }
+            combinedHash += (hash >>> 32) | 1L;
+        }
+        return true;
+    }
+
+    /**
+     * Merges another instance into this instance.
+     *
+     * @param that the other instance, which must have the same number of bits and hash functions
+     * @return this instance
+     */
+    public BloomFilter merge(BloomFilter that) {
+        Validate.isTrue(this.bits.length == that.bits.length && this.numHashFunctions == that.numHashFunctions,
+                "Cannot merge Bloom filters with different configurations.");
+        for (int i = 0; i < this.bits.length; i++) {
+            this.bits[i] |= that.bits[i];
+        }
+        return this;
+    }
+
+    /**
+     * Estimates the probability that {@link #mightContain(Object)} reports a value that has not been added.
+     *
+     * @return the false positive probability
+     */
+    public double getFalsePositiveProbability() {
+        long numSetBits = 0;
+        for (long word : this.bits) {
+            numSetBits += Long.bitCount(word);
+        }
+        return Math.pow((double) numSetBits / this.getNumBits(), this.numHashFunctions);
+    }
+
+    public long getNumBits() {
+        return (long) this.bits.length << 6;
+    }
+
+    public int getNumHashFunctions() {
+        return this.numHashFunctions;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%d bits, %d hash functions, fpp=%.4f]",
+                this.getClass().getSimpleName(), this.getNumBits(), this.numHashFunctions,
+                this.getFalsePositiveProbability());
+    }
+
+}
@@ -0,0 +1,81 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.util.sketch;
+
+/**
+ * Hash functions for sketches.
+ */
+public class Hashing {
+
+    private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    /**
+     * Offsets {@code long}s before mixing, so that common values, such as {@code 0}, do not hash to {@code 0}.
+     */
+    private static final long GOLDEN_GAMMA = 0x9e3779b97f4a7c15L;
+
+    private Hashing() {
+    }
+
+    /**
+     * Calculates a 64-bit hash for a value. Numbers and {@link CharSequence}s are hashed in their entirety. Other
+     * values are hashed via their {@link Object#hashCode()}, so that they can have at most {@code 2^32} distinct
+     * hashes, which can lead to underestimations for very large numbers of distinct values.
+     *
+     * @param value the value (may be {@code null})
+     * @return the hash
+     */
+    public static long hash64(Object value) {
+        if (value == null) {
+            return mix(0L);
+        } else if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+            return mix(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            return mix(Double.doubleToLongBits(((Number) value).doubleValue()));
+        } else if (value instanceof CharSequence) {
+            final CharSequence charSequence = (CharSequence) value;
+            long hash = FNV_OFFSET_BASIS;
+            for (int i = 0; i < charSequence.length(); i++) {
+                hash = (hash ^ charSequence.charAt(i)) * FNV_PRIME;
+            }
+            return mix(hash);
+        } else {
+            return mix(value.hashCode());
+        }
+    }
+
+    /**
+     * Spreads the bits of a {@code long} (offset by the golden ratio and then the finalizer of MurmurHash3).
+     *
+     * @param x the {@code long}
+     * @return the mixed {@code long}
+     */
+    public static long mix(long x) {
+        x += GOLDEN_GAMMA;
+        x ^= x >>> 33;
+        x *= 0xff51afd7ed558ccdL;
+        x ^= x >>> 33;
+        x *= 0xc4ceb9fe1a85ec53L;
+        x ^= x >>> 33;
+        return x;
+    }
+
+}
@@ -0,0 +1,192 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.util.sketch;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.wayang.basic.data.Estimate;
+
+import java.io.Serializable;
+
+/**
+ * HyperLogLog sketch to estimate the number of distinct values. It uses 64-bit hashes, so that it does not need
+ * corrections for large cardinalities, and Ertl's improved estimator, which is accurate for small cardinalities,
+ * too, without requiring empirical bias corrections. Instances can be merged if they have the same precision.
+ */
+public class HyperLogLog implements Serializable {
+
+    /**
+     * Constant of the improved estimator, i.e., {@code 1 / (2 ln 2)}.
+     */
+    private static final double ALPHA_INF = 1 / (2 * Math.log(2));
+
+    /**
+     * Number of standard errors that make up the bounds of the {@link Estimate}s, corresponding to a confidence of
+     * about 95%.
+     */
+    private static final double NUM_STANDARD_ERRORS = 2d;
+
+    private static final double CONFIDENCE = 0.954d;
+
+    /**
+     * The precision, i.e., the number of hash bits that select a register.
+     */
+    private final int precision;
+
+    /**
+     * Stores the maximum ranks per register.
+     */
+    private final byte[] registers;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param precision the number of hash bits that select a register, between {@code 4} and {@code 18}; the relative
+     *                  standard error is about {@code 1.04 / sqrt(2^precision)}
+     */
+    public HyperLogLog(int precision) {
+        Validate.inclusiveBetween(4, 18, precision, "Precision must be between 4 and 18.");
+        this.precision = precision;
+        this.registers = new byte[1 << precision];
+    }
+
+    /**
+     * Determines the precision that guarantees a certain relative standard error.
+     *
+     * @param relativeStandardError the desired relative standard error
+     * @return the precision
+     */
+    public static int getPrecision(double relativeStandardError) {
+        Validate.isTrue(relativeStandardError > 0, "The relative standard error must be positive.");
+        final double numRegisters = Math.pow(1.04 / relativeStandardError, 2);
+        return Math.max(4, Math.min(18, (int) Math.ceil(Math.log(numRegisters) / Math.log(2))));
+    }
+
+    /**
+     * Adds a value to this instance.
+     *
+     * @param value the value
+     */
+    public void add(Object value) {
+        this.addHash(Hashing.hash64(value));
+    }
+
+    /**
+     * Adds a value to this instance by means of its 64-bit hash.
+     *
+     * @param hash the hash of the value
+     */
+    public void addHash(long hash) {
+        final int index = (int) (hash >>> (64 - this.precision));
+        final long remainder = hash << this.precision;
+        final int maxRank = 64 - this.precision + 1;
+        final int rank = remainder == 0 ? maxRank : Math.min(Long.numberOfLeadingZeros(remainder) + 1, maxRank);
+        if (rank > this.registers[index]) {
+            this.registers[index] = (byte) rank;
+        }
+    }
+
+    /**
+     * Merges another instance into this instance.
+     *
+     * @param that the other instance, which must have the same precision
+     * @return this instance
+     */
+    public HyperLogLog merge(HyperLogLog that) {
+        Validate.isTrue(this.precision == that.precision, "Cannot merge sketches with precisions %d and %d.",
+                this.precision, that.precision);
+        for (int i = 0; i < this.registers.length; i++) {
+            if (that.registers[i] > this.registers[i]) {
+                this.registers[i] = that.registers[i];
+            }
+        }
+        return this;
+    }
+
+    /**
+     * Estimates the number of distinct values added to this instance.
+     *
+     * @return the estimated number of distinct values
+     */
+    public double estimate() {
+        final int numRegisters = this.registers.length;
+        final int q = 64 - this.precision;
+        final int[] rankCounts = new int[q + 2];
+        for (byte register : this.registers) {
+            rankCounts[register]++;
+        }
+        double z = numRegisters * tau(1 - rankCounts[q + 1] / (double) numRegisters);
+        for (int rank = q; rank >= 1; rank--) {
+            z = 0.5 * (z + rankCounts[rank]);
+        }
+        z += numRegisters * sigma(rankCounts[0] / (double) numRegisters);
+        return ALPHA_INF * numRegisters * numRegisters / z;
+    }
+
+    private static double sigma(double x) {
+        if (x == 1d) return Double.POSITIVE_INFINITY;
+        double y = 1d, z = x, zPrev;
+        do {
+            x *= x;
+            zPrev = z;
+            z += x * y;
+            y += y;
+        } while (z != zPrev);
+        return z;
+    }
+
+    private static double tau(double x) {
+        if (x == 0d || x == 1d) return 0d;
+        double y = 1d, z = 1 - x, zPrev;
+        do {
+            x = Math.sqrt(x);
+            zPrev = z;
+            y *= 0.5;
+            z -= Math.pow(1 - x, 2) * y;
+        } while (z != zPrev);
+        return z / 3;
+    }
+
+    /**
+     * @return the relative standard error of the estimates of this instance
+     */
+    public double getRelativeStandardError() {
+        return 1.04 / Math.sqrt(this.registers.length);
+    }
+
+    /**
+     * Estimates the number of distinct values added to this instance along with error bounds.
+     *
+     * @return the {@link Estimate}
+     */
+    public Estimate toEstimate() {
+        final double estimate = this.estimate();
+        final double error = NUM_STANDARD_ERRORS * this.getRelativeStandardError() * estimate;
+        return new Estimate(estimate, Math.max(0d, estimate - error), estimate + error, CONFIDENCE);
+    }
+
+    public int getPrecision() {
+        return this.precision;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[p=%d, ~%,.0f]", this.getClass().getSimpleName(), this.precision, this.estimate());
+    }
+
+}
@@ -0,0 +1,293 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.util.sketch;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.wayang.basic.data.Estimate;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * KLL sketch (Karnin, Lang, Liberty: "Optimal Quantile Approximation in Streams") to estimate quantiles of
+ * {@code double} values. It keeps a hierarchy of compactors, whereby each item in the compactor of level {@code h}
+ * represents {@code 2^h} values. Full compactors are sorted, and every other item is promoted to the next level.
+ * Instances can be merged.
+ */
+public class KllSketch implements Serializable {
+
+    /**
+     * Factor by which the capacities of the compactors decrease from one level to the next lower one.
+     */
+    private static final double CAPACITY_DECAY = 2d / 3;
+
+    /**
+     * Confidence of the {@link #getNormalizedRankError() rank error}.
+     */
+    private static final double CONFIDENCE = 0.99d;
+
+    /**
+     * Controls the accuracy of this instance via the capacity of its top-level compactor.
+     */
+    private final int k;
+
+    /**
+     * The compactors per level along with their numbers of items.
+     */
+    private double[][] compactors = new double[0][];
+
+    private int[] compactorSizes = new int[0];
+
+    /**
+     * The total number of items in the compactors and the maximum of that number before a compaction is needed.
+     */
+    private int size = 0, maxSize = 0;
+
+    private long numValues = 0L;
+
+    private double min = Double.POSITIVE_INFINITY, max = Double.NEGATIVE_INFINITY;
+
+    /**
+     * Decides which items of a compactor to promote.
+     */
+    private final Random random;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param k controls the accuracy (cf. {@link #getNormalizedRankError()}) and size of the new instance
+     */
+    public KllSketch(int k) {
+        this(k, new Random());
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param k      controls the accuracy (cf. {@link #getNormalizedRankError()}) and size of the new instance
+     * @param random decides which items of a compactor to promote
+     */
+    public KllSketch(int k, Random random) {
+        Validate.isTrue(k >= 8, "k must be at least 8.");
+        this.k = k;
+        this.random = random;
+        this.grow();
+    }
+
+    /**
+     * Determines the {@code k} that guarantees a certain normalized rank error.
+     *
+     * @param normalizedRankError the desired normalized rank error
+     * @return the {@code k}
+     */
+    public static int getK(double normalizedRankError) {
+        Validate.isTrue(normalizedRankError > 0, "The rank error must be positive.");
+        return Math.max(8, (int) Math.ceil(Math.pow(2.296 / normalizedRankError, 1 / 0.9723)));
+    }
+
+    /**
+     * Adds a value to this instance.
+     *
+     * @param value the value
+     */
+    public void add(double value) {
+        this.append(0, value);
+        this.numValues++;
+        this.min = Math.min(this.min, value);
+        this.max = Math.max(this.max, value);
+        if (this.size >= this.maxSize) {
+            this.compress();
+        }
+    }
+
+    /**
+     * Merges another instance into this instance.
+     *
+     * @param that the other instance, which should have the same {@code k}
+     * @return this instance
+     */
+    public KllSketch merge(KllSketch that) {
+        while (this.compactors.length < that.compactors.length) {
+            this.grow();
+        }
+        for (int level = 0; level < that.compactors.length; level++) {
+            for (int i = 0; i < that.compactorSizes[level]; i++) {
+                this.append(level, that.compactors[level][i]);
+            }
+        }
+        this.numValues += that.numValues;
+        this.min = Math.min(this.min, that.min);
+        this.max = Math.max(this.max, that.max);
+        while (this.size >= this.maxSize) {
+            this.compress();
+        }
+        return this;
+    }
+
+    private void append(int level, double item) {
+        if (this.compactorSizes[level] == this.compactors[level].length) {
+            this.compactors[level] = Arrays.copyOf(this.compactors[level], Math.max(8, this.compactors[level].length * 2));
+        }
+        this.compactors[level][this.compactorSizes[level]++] = item;
+        this.size++;
+    }
+
+    private int getCapacity(int level) {
+        final int depth = this.compactors.length - level - 1;
+        return (int) Math.ceil(Math.pow(CAPACITY_DECAY, depth) * this.k) + 1;
+    }
+
+    private void grow() {
+        final int numLevels = this.compactors.length + 1;
+        this.compactors = Arrays.copyOf(this.compactors, numLevels);
+        this.compactors[numLevels - 1] = new double[8];
+        this.compactorSizes = Arrays.copyOf(this.compactorSizes, numLevels);
+        this.maxSize = 0;
+        for (int level = 0; level < numLevels; level++) {
+            this.maxSize += this.getCapacity(level);
+        }
+    }
+
+    /**
+     * Compacts the lowest full compactor.
+     */
+    private void compress() {
+        for (int level = 0; level < this.compactors.length; level++) {
+            if (this.compactorSizes[level] >= this.getCapacity(level)) {
+                if (level + 1 == this.compactors.length) {
+                    this.grow();
+                }
+                final double[] compactor = this.compactors[level];
+                final int compactorSize = this.compactorSizes[level];
+                Arrays.sort(compactor, 0, compactorSize);
+                // If there is an odd number of items, the smallest one stays.
+                final int numRemaining = compactorSize % 2;
+                final int offset = numRemaining + (this.random.nextBoolean() ? 1 : 0);
+                this.compactorSizes[level] = numRemaining;
+                this.size -= compactorSize - numRemaining;
+                for (int i = offset; i < compactorSize; i += 2) {
+                    this.append(level + 1, compactor[i]);
+                }
+                return;
+            }
+        }
+    }
+
+    /**
+     * Estimates a quantile of the added values.
+     *
+     * @param fraction the quantile as a fraction in {@code [0, 1]}
+     * @return the estimated quantile or {@link Double#NaN} if there are no values
+     */
+    public double getQuantile(double fraction) {
+        return this.getQuantiles(fraction)[0];
+    }
+
+    /**
+     * Estimates quantiles of the added values.
+     *
+     * @param fractions the quantiles as fractions in {@code [0, 1]}
+     * @return the estimated quantiles or {@link Double#NaN}s if there are no values
+     */
+    public double[] getQuantiles(double... fractions) {
+        final double[] quantiles = new double[fractions.length];
+        if (this.numValues == 0) {
+            Arrays.fill(quantiles, Double.NaN);
+            return quantiles;
+        }
+
+        // Sort all items and determine their cumulative weights.
+        final double[] items = new double[this.size];
+        final int[] levels = new int[this.size];
+        int numItems = 0;
+        for (int level = 0; level < this.compactors.length; level++) {
+            for (int i = 0; i < this.compactorSizes[level]; i++) {
+                items[numItems] = this.compactors[level][i];
+                levels[numItems++] = level;
+            }
+        }
+        final Integer[] order = new Integer[numItems];
+        for (int i = 0; i < numItems; i++) order[i] = i;
+        Arrays.sort(order, (i1, i2) -> Double.compare(items[i1], items[i2]));
+        final long[] cumulativeWeights = new long[numItems];
+        long cumulativeWeight = 0L;
+        for (int i = 0; i < numItems; i++) {
+            cumulativeWeight += 1L << levels[order[i]];
+            cumulativeWeights[i] = cumulativeWeight;
+        }
+
+        for (int i = 0; i < fractions.length; i++) {
+            Validate.inclusiveBetween(0d, 1d, fractions[i], "Quantiles must be in [0, 1].");
+            if (fractions[i] == 0d) {
+                quantiles[i] = this.min;
+            } else if (fractions[i] == 1d) {
+                quantiles[i] = this.max;
+            } else {
+                final double targetWeight = fractions[i] * cumulativeWeight;
+                int index = Arrays.binarySearch(cumulativeWeights, 0, numItems, (long) Math.ceil(targetWeight));
+                if (index < 0) index = -index - 1;
+                quantiles[i] = items[order[Math.min(index, numItems - 1)]];
+            }
+        }
+        return quantiles;
+    }
+
+    /**
+     * Estimates a quantile of the added values along with error bounds.
+     *
+     * @param fraction the quantile as a fraction in {@code [0, 1]}
+     * @return the {@link Estimate}
+     */
+    public Estimate toEstimate(double fraction) {
+        final double error = this.getNormalizedRankError();
+        final double[] quantiles = this.getQuantiles(
+                fraction, Math.max(0d, fraction - error), Math.min(1d, fraction + error)
+        );
+        return new Estimate(quantiles[0], quantiles[1], quantiles[2], CONFIDENCE);
+    }
+
+    /**
+     * Provides the empirical normalized rank error of this instance, i.e., the estimated quantiles have a rank that is
+     * off by at most this fraction of the number of values with a probability of 99%.
+     *
+     * @return the normalized rank error
+     */
+    public double getNormalizedRankError() {
+        return 2.296 / Math.pow(this.k, 0.9723);
+    }
+
+    /**
+     * @return the number of added values
+     */
+    public long getNumValues() {
+        return this.numValues;
+    }
+
+    public int getK() {
+        return this.k;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[k=%d, n=%,d, %d levels]",
+                this.getClass().getSimpleName(), this.k, this.numValues, this.compactors.length);
+    }
+
+}
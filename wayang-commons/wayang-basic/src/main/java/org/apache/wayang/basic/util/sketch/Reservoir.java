@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.util.sketch;
+
+import org.apache.commons.lang3.Validate;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Uniform sample without replacement of a fixed maximum size over a stream of unknown length. Once the reservoir is
+ * full, it follows Li's "Algorithm L" and draws how many values to skip until the next replacement, so that it needs
+ * only {@code O(k (1 + log(n / k)))} random numbers for {@code n} added values and capacity {@code k}. Instances over
+ * disjoint streams can be merged into a uniform sample over their union by drawing from either side in proportion to
+ * the number of values it has seen.
+ */
+public class Reservoir<T> implements Serializable {
+
+    /**
+     * The maximum number of sampled values.
+     */
+    private final int capacity;
+
+    private final ArrayList<T> sample;
+
+    /**
+     * The number of added values.
+     */
+    private long count = 0L;
+
+    /**
+     * The largest of the (virtual) random priorities of the sampled values; a new value replaces a sampled one if its
+     * priority is smaller.
+     */
+    private double maxPriority;
+
+    /**
+     * The {@link #count} at which the next value is put into the full reservoir.
+     */
+    private long nextReplacement;
+
+    private final Random random;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param capacity the maximum number of sampled values
+     * @param seed     for the random number generator
+     */
+    public Reservoir(int capacity, long seed) {
+        this(capacity, new Random(seed));
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param capacity the maximum number of sampled values
+     * @param random   the random number generator, which may be shared with other instances
+     */
+    public Reservoir(int capacity, Random random) {
+        Validate.isTrue(capacity >= 0, "The capacity must not be negative.");
+        this.capacity = capacity;
+        this.sample = new ArrayList<>(Math.min(capacity, 1 << 10));
+        this.random = random;
+    }
+
+    /**
+     * Adds a value to the stream.
+     *
+     * @param value the value
+     */
+    public void add(T value) {
+        this.count++;
+        if (this.count <= this.capacity) {
+            this.sample.add(value);
+            if (this.count == this.capacity) { // the reservoir is full
+                this.initializeSkip();
+            }
+        } else if (this.count == this.nextReplacement) {
+            this.sample.set(this.random.nextInt(this.capacity), value);
+            this.maxPriority *= Math.exp(Math.log(this.nextUniform()) / this.capacity);
+            this.skip();
+        }
+    }
+
+    /**
+     * Draws the maximum priority for a full reservoir after {@link #count} values, i.e., the {@link #capacity}-th
+     * smallest of {@link #count} uniform random numbers, and the next replacement.
+     */
+    private void initializeSkip() {
+        double priority = 0d;
+        for (int i = 0; i < this.capacity; i++) {
+            // The next smallest priority is distributed as the minimum of the remaining ones.
+            priority += (1d - priority) * -Math.expm1(Math.log(this.nextUniform()) / (this.count - i));
+        }
+        this.maxPriority = priority;
+        this.skip();
+    }
+
+    /**
+     * Draws the number of values that do not enter the reservoir, which is geometrically distributed.
+     */
+    private void skip() {
+        final double numSkipped = Math.floor(Math.log(this.nextUniform()) / Math.log1p(-this.maxPriority));
+        this.nextReplacement = numSkipped >= Long.MAX_VALUE - this.count ?
+                Long.MAX_VALUE :
+                this.count + (long) numSkipped + 1;
+    }
+
+    /**
+     * @return a uniform random number in {@code (0, 1]}
+     */
+    private double nextUniform() {
+        return 1d - this.random.nextDouble();
+    }
+
+    /**
+     * Merges another instance over a disjoint stream into this instance.
+     *
+     * @param that the other instance, which must have the same capacity
+     * @return this instance
+     */
+    public Reservoir<T> merge(Reservoir<T> that) {
+        Validate.isTrue(this.capacity == that.capacity, "Cannot merge reservoirs with capacities %d and %d.",
+                this.capacity, that.capacity);
+        if (that.count == 0) return this;
+
+        final long totalCount = this.count + that.count;
+        final int mergedSize = (int) Math.min(this.capacity, totalCount);
+        final List<T> thisCandidates = new ArrayList<>(this.sample), thatCandidates = new ArrayList<>(that.sample);
+        long thisRemaining = this.count, thatRemaining = that.count;
+        this.sample.clear();
+        // Draw without replacement from the union of both streams: Each side holds a uniform sample of its stream
+        // that is at least as large as the number of values we can draw from it.
+        for (int i = 0; i < mergedSize; i++) {
+            final double thisProbability = thisRemaining / (double) (thisRemaining + thatRemaining);
+            if (this.random.nextDouble() < thisProbability) {
+                this.sample.add(this.removeRandom(thisCandidates));
+                thisRemaining--;
+            } else {
+                this.sample.add(this.removeRandom(thatCandidates));
+                thatRemaining--;
+            }
+        }
+
+        this.count = totalCount;
+        if (this.count >= this.capacity && this.capacity > 0) {
+            this.initializeSkip();
+        }
+        return this;
+    }
+
+    private T removeRandom(List<T> values) {
+        final int index = this.random.nextInt(values.size());
+        final T value = values.get(index);
+        values.set(index, values.get(values.size() - 1));
+        values.remove(values.size() - 1);
+        return value;
+    }
+
+    /**
+     * @return the sampled values, which are all added values if there were at most {@link #getCapacity()} many
+     */
+    public List<T> getSample() {
+        return Collections.unmodifiableList(this.sample);
+    }
+
+    /**
+     * @return the number of added values
+     */
+    public long getCount() {
+        return this.count;
+    }
+
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+}
@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.util.sketch;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.wayang.basic.data.Estimate;
+import org.apache.wayang.basic.data.Tuple2;
+
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Space-Saving sketch to find the most frequent values along with their frequencies. It keeps a fixed number of
+ * counters, each of which overestimates the frequency of its value by at most its error and thus by at most
+ * {@code n / capacity} for {@code n} added values. Instances can be merged as described by Agarwal et al. in
+ * "Mergeable Summaries", thereby retaining this guarantee.
+ */
+public class SpaceSaving<T> implements Serializable {
+
+    /**
+     * The maximum number of counters.
+     */
+    private final int capacity;
+
+    /**
+     * The counters form a min-heap on their counts. A counter consists of an item, its count, and the maximum
+     * overestimation of that count.
+     */
+    private final Object[] items;
+
+    private final long[] counts;
+
+    private final long[] errors;
+
+    private int size = 0;
+
+    /**
+     * Locates the counter of each item in the heap.
+     */
+    private final HashMap<Object, Integer> positions;
+
+    /**
+     * The total number of added values.
+     */
+    private long numValues = 0L;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param capacity the maximum number of counters
+     */
+    public SpaceSaving(int capacity) {
+        Validate.isTrue(capacity > 0, "The capacity must be positive.");
+        this.capacity = capacity;
+        this.items = new Object[capacity];
+        this.counts = new long[capacity];
+        this.errors = new long[capacity];
+        this.positions = new HashMap<>(capacity * 2);
+    }
+
+    /**
+     * Determines the capacity that guarantees a certain maximum relative error.
+     *
+     * @param maxRelativeError the maximum overestimation of frequencies relative to the number of added values
+     * @return the capacity
+     */
+    public static int getCapacity(double maxRelativeError) {
+        Validate.isTrue(maxRelativeError > 0 && maxRelativeError <= 1, "The relative error must be in (0, 1].");
+        return (int) Math.ceil(1 / maxRelativeError);
+    }
+
+    /**
+     * Adds a value to this instance.
+     *
+     * @param value the value
+     */
+    public void add(T value) {
+        this.add(value, 1L);
+    }
+
+    /**
+     * Adds a value with a given frequency to this instance.
+     *
+     * @param value     the value
+     * @param frequency the frequency of the value
+     */
+    public void add(T value, long frequency) {
+        this.numValues += frequency;
+        final Integer position = this.positions.get(value);
+        if (position != null) {
+            this.counts[position] += frequency;
+            this.siftDown(position);
+        } else if (this.size < this.capacity) {
+            this.set(this.size, value, frequency, 0L);
+            this.size++;
+            this.siftUp(this.size - 1);
+        } else {
+            // Replace the least frequent value, which might have occurred as often as its counter says.
+            this.positions.remove(this.items[0]);
+            final long minCount = this.counts[0];
+            this.set(0, value, minCount + frequency, minCount);
+            this.siftDown(0);
+        }
+    }
+
+    /**
+     * Merges another instance into this instance.
+     *
+     * @param that the other instance, which must have the same capacity
+     * @return this instance
+     */
+    @SuppressWarnings("unchecked")
+    public SpaceSaving<T> merge(SpaceSaving<T> that) {
+        Validate.isTrue(this.capacity == that.capacity, "Cannot merge sketches with capacities %d and %d.",
+                this.capacity, that.capacity);
+        // Values without a counter might have occurred as often as the least frequent value with a counter.
+        final long thisMinCount = this.size < this.capacity ? 0L : this.counts[0];
+        final long thatMinCount = that.size < that.capacity ? 0L : that.counts[0];
+
+        final Map<Object, long[]> mergedCounters = new HashMap<>(this.size + that.size);
+        for (int i = 0; i < this.size; i++) {
+            mergedCounters.put(this.items[i], new long[]{this.counts[i] + thatMinCount, this.errors[i] + thatMinCount});
+        }
+        for (int i = 0; i < that.size; i++) {
+            final long[] counter = mergedCounters.get(that.items[i]);
+            if (counter == null) {
+                mergedCounters.put(that.items[i], new long[]{that.counts[i] + thisMinCount, that.errors[i] + thisMinCount});
+            } else {
+                counter[0] += that.counts[i] - thatMinCount;
+                counter[1] += that.errors[i] - thatMinCount;
+            }
+        }
+
+        // Keep the most frequent values.
+        final List<Map.Entry<Object, long[]>> entries = new ArrayList<>(mergedCounters.entrySet());
+        entries.sort(Comparator.comparingLong((Map.Entry<Object, long[]> entry) -> entry.getValue()[0]).reversed());
+        this.positions.clear();
+        this.size = 0;
+        for (Map.Entry<Object, long[]> entry : entries.subList(0, Math.min(this.capacity, entries.size()))) {
+            this.set(this.size, (T) entry.getKey(), entry.getValue()[0], entry.getValue()[1]);
+            this.size++;
+        }
+        Arrays.fill(this.items, this.size, this.capacity, null);
+        // A list in descending order is a max-heap, so we need to heapify it.
+        for (int i = this.size / 2 - 1; i >= 0; i--) {
+            this.siftDown(i);
+        }
+        this.numValues += that.numValues;
+        return this;
+    }
+
+    /**
+     * Provides the most frequent values.
+     *
+     * @param k the maximum number of values to provide
+     * @return the values along with {@link Estimate}s of their frequencies, in descending order of frequency
+     */
+    @SuppressWarnings("unchecked")
+    public List<Tuple2<T, Estimate>> getTopK(int k) {
+        final List<Integer> indices = new ArrayList<>(this.size);
+        for (int i = 0; i < this.size; i++) {
+            indices.add(i);
+        }
+        indices.sort(Comparator.comparingLong((Integer i) -> this.counts[i]).reversed());
+        final List<Tuple2<T, Estimate>> topK = new ArrayList<>(Math.min(k, this.size));
+        for (int i : indices.subList(0, Math.min(k, this.size))) {
+            final long count = this.counts[i];
+            topK.add(new Tuple2<>((T) this.items[i], new Estimate(count, count - this.errors[i], count, 1d)));
+        }
+        return topK;
+    }
+
+    /**
+     * @return the number of added values
+     */
+    public long getNumValues() {
+        return this.numValues;
+    }
+
+    public int getCapacity() {
+        return this.capacity;
+    }
+
+    private void set(int position, T item, long count, long error) {
+        this.items[position] = item;
+        this.counts[position] = count;
+        this.errors[position] = error;
+        this.positions.put(item, position);
+    }
+
+    private void siftUp(int position) {
+        while (position > 0) {
+            final int parent = (position - 1) / 2;
+            if (this.counts[parent] <= this.counts[position]) break;
+            this.swap(position, parent);
+            position = parent;
+        }
+    }
+
+    private void siftDown(int position) {
+        while (true) {
+            final int left = 2 * position + 1, right = left + 1;
+            int smallest = position;
+            if (left < this.size && this.counts[left] < this.counts[smallest]) smallest = left;
+            if (right < this.size && this.counts[right] < this.counts[smallest]) smallest = right;
+            if (smallest == position) break;
+            this.swap(position, smallest);
+            position = smallest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        final Object item = this.items[i];
+        final long count = this.counts[i];
+        final long error = this.errors[i];
+        this.items[i] = this.items[j];
+        this.counts[i] = this.counts[j];
+        this.errors[i] = this.errors[j];
+        this.items[j] = item;
+        this.counts[j] = count;
+        this.errors[j] = error;
+        this.positions.put(this.items[i], i);
+        this.positions.put(this.items[j], j);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%d/%d counters, n=%,d]",
+                this.getClass().getSimpleName(), this.size, this.capacity, this.numValues);
+    }
+
+}
@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.wayang.basic.data;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.basic.function.ProjectionDescriptor;
+import org.apache.wayang.basic.types.RecordType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+
+/**
+ * Tests for the {@link TypedRecord}.
+ */
+public class TypedRecordTest {
+
+    private static final RecordType TYPE = new RecordType(
+            new String[]{"id", "name", "score", "count", "flag", "ratio"},
+            new Class<?>[]{Long.class, String.class, Double.class, Integer.class, Boolean.class, Float.class}
+    );
+
+    @Test
+    public void testCompatibilityWithRecord() {
+        final Record typedRecord = TYPE.createRecord(42L, "hello", 0.5d, 7, true, 1.5f);
+        final Record record = new Record(42L, "hello", 0.5d, 7, true, 1.5f);
+
+        Assert.assertTrue(typedRecord instanceof TypedRecord);
+        Assert.assertEquals(record, typedRecord);
+        Assert.assertEquals(typedRecord, record);
+        Assert.assertEquals(record.hashCode(), typedRecord.hashCode());
+        Assert.assertEquals(record.toString(), typedRecord.toString());
+        Assert.assertNotEquals(new Record(42L, "hello", 0.5d, 8, true, 1.5f), typedRecord);
+    }
+
+    @Test
+    public void testAccessors() {
+        final TypedRecord record = new TypedRecord(TYPE, 42, "hello", 0.5d, 7, true, 1.5f);
+
+        Assert.assertEquals(42L, record.getField(0));
+        Assert.assertEquals(42L, record.getLong(0));
+        Assert.assertEquals(42d, record.getDouble(0), 0d);
+        Assert.assertEquals("hello", record.getString(1));
+        Assert.assertEquals(0.5d, record.getDouble(2), 0d);
+        Assert.assertEquals(7, record.getInt(3));
+        Assert.assertEquals(7L, record.getLong(3));
+        Assert.assertTrue(record.getBoolean(4));
+        Assert.assertEquals(1.5f, record.getFloat(5), 0f);
+        Assert.assertEquals("42", record.getString(0));
+        Assert.assertEquals("true", record.getString(4));
+
+        record.setLong(0, -1L);
+        record.setDouble(2, Double.NaN);
+        record.setBoolean(4, false);
+        Assert.assertEquals(new Record(-1L, "hello", Double.NaN, 7, false, 1.5f), record);
+
+        final TypedRecord copy = record.copy();
+        copy.setInt(3, 8);
+        Assert.assertEquals(7, record.getInt(3));
+        Assert.assertEquals(8, copy.getInt(3));
+        Assert.assertNotEquals(record, copy);
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testMismatchingSetter() {
+        new TypedRecord(TYPE, 42L, "hello", 0.5d, 7, true, 1.5f).setInt(0, 1);
+    }
+
+    @Test
+    public void testNulls() {
+        final TypedRecord record = new TypedRecord(TYPE, null, null, 0d, null, false, 0f);
+        Assert.assertTrue(record.isNull(0));
+        Assert.assertTrue(record.isNull(1));
+        Assert.assertFalse(record.isNull(2));
+        Assert.assertNull(record.getField(3));
+        Assert.assertNull(record.getString(1));
+        Assert.assertNull(record.getString(3));
+        Assert.assertEquals("0.0", record.getString(2));
+
+        final Record plainRecord = new Record(null, null, 0d, null, false, 0f);
+        Assert.assertEquals(plainRecord, record);
+        Assert.assertEquals(plainRecord.hashCode(), record.hashCode());
+        Assert.assertNotEquals(new TypedRecord(TYPE, 0L, null, 0d, null, false, 0f), record);
+
+        record.setLong(0, 0L);
+        Assert.assertFalse(record.isNull(0));
+        Assert.assertEquals(new TypedRecord(TYPE, 0L, null, 0d, null, false, 0f), record);
+    }
+
+    @Test
+    public void testProjection() {
+        final ProjectionDescriptor<Record, Record> descriptor = ProjectionDescriptor.createForRecords(TYPE, "score", "id");
+        Assert.assertEquals(
+                new RecordType(new String[]{"score", "id"}, new Class<?>[]{Double.class, Long.class}),
+                descriptor.getOutputType()
+        );
+
+        final Record projection = descriptor.getJavaImplementation().apply(TYPE.createRecord(null, "x", 2d, 1, true, 0f));
+        Assert.assertTrue(projection instanceof TypedRecord);
+        Assert.assertEquals(new Record(2d, null), projection);
+    }
+
+    @Test
+    public void testSerialization() throws IOException, ClassNotFoundException {
+        final Record record = TYPE.createRecord(42L, "hello", null, 7, true, 1.5f);
+
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(record);
+        }
+        final Object deserializedRecord;
+        try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(bos.toByteArray()))) {
+            deserializedRecord = ois.readObject();
+        }
+
+        Assert.assertEquals(record, deserializedRecord);
+        Assert.assertSame(TYPE.getLayout(), ((TypedRecord) deserializedRecord).getLayout());
+    }
+
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.mapping;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.operators.IntersectOperator;
+import org.apache.wayang.basic.operators.JoinOperator;
+import org.apache.wayang.basic.operators.test.TestSink;
+import org.apache.wayang.basic.operators.test.TestSource;
+import org.apache.wayang.basic.util.sketch.BloomFilter;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.core.plan.wayangplan.Operator;
+import org.apache.wayang.core.plan.wayangplan.OperatorAlternative;
+import org.apache.wayang.core.plan.wayangplan.UnarySink;
+import org.apache.wayang.core.plan.wayangplan.UnarySource;
+import org.apache.wayang.core.plan.wayangplan.WayangPlan;
+import org.apache.wayang.core.types.DataSetType;
+
+/**
+ * Test suite for the {@link BloomFilterJoinMapping}.
+ */
+public class BloomFilterJoinMappingTest {
+
+    @Test
+    public void testJoinMapping() {
+        // Construct a plan: (source0, source1) -> join -> sink.
+        UnarySource<Integer> source0 = new TestSource<>(DataSetType.createDefault(Integer.class));
+        UnarySource<Integer> source1 = new TestSource<>(DataSetType.createDefault(Integer.class));
+        JoinOperator<Integer, Integer, Integer> join = new JoinOperator<>(
+                value -> value, value -> value, Integer.class, Integer.class, Integer.class
+        );
+        source0.connectTo(0, join, 0);
+        source1.connectTo(0, join, 1);
+        UnarySink<Tuple2<Integer, Integer>> sink = new TestSink<>(DataSetType.createDefaultUnchecked(Tuple2.class));
+        join.connectTo(0, sink, 0);
+        WayangPlan plan = new WayangPlan(sink);
+
+        // Apply our mapping until it settles.
+        plan.applyTransformations(new BloomFilterJoinMapping().getTransformations());
+
+        // Check that the join has got one alternative per build side.
+        final Operator joinAlternative = sink.getInput(0).getOccupant().getOwner();
+        Assert.assertTrue(joinAlternative instanceof OperatorAlternative);
+        Assert.assertEquals(3, ((OperatorAlternative) joinAlternative).getAlternatives().size());
+        Assert.assertSame(source0, joinAlternative.getInput(0).getOccupant().getOwner());
+        Assert.assertSame(source1, joinAlternative.getInput(1).getOccupant().getOwner());
+    }
+
+    @Test
+    public void testIntersectMapping() {
+        // Construct a plan: (source0, source1) -> intersect -> sink.
+        UnarySource<Integer> source0 = new TestSource<>(DataSetType.createDefault(Integer.class));
+        UnarySource<Integer> source1 = new TestSource<>(DataSetType.createDefault(Integer.class));
+        IntersectOperator<Integer> intersect = new IntersectOperator<>(Integer.class);
+        source0.connectTo(0, intersect, 0);
+        source1.connectTo(0, intersect, 1);
+        UnarySink<Integer> sink = new TestSink<>(DataSetType.createDefault(Integer.class));
+        intersect.connectTo(0, sink, 0);
+        WayangPlan plan = new WayangPlan(sink);
+
+        // Apply our mapping until it settles.
+        plan.applyTransformations(new BloomFilterJoinMapping().getTransformations());
+
+        // Check that the intersect has got exactly one alternative.
+        final Operator intersectAlternative = sink.getInput(0).getOccupant().getOwner();
+        Assert.assertTrue(intersectAlternative instanceof OperatorAlternative);
+        Assert.assertEquals(2, ((OperatorAlternative) intersectAlternative).getAlternatives().size());
+    }
+
+    @Test
+    public void testNonSelectiveJoinIsNotReduced() {
+        final BloomFilterJoinMapping.BloomFilterSizing sizing = new BloomFilterJoinMapping.BloomFilterSizing();
+        // Every probe key can find a join partner among the larger build side.
+        sizing.setBuildCardinality(new CardinalityEstimate(100000, 100000, 0.9));
+        final CardinalityEstimate probeCardinality = new CardinalityEstimate(1000, 2000, 0.9);
+        final CardinalityEstimate filteredCardinality = sizing.estimateProbeCardinality(probeCardinality);
+        Assert.assertEquals(1000, filteredCardinality.getLowerEstimate());
+        Assert.assertEquals(2000, filteredCardinality.getUpperEstimate());
+    }
+
+    @Test
+    public void testSelectiveJoinIsReduced() {
+        final BloomFilterJoinMapping.BloomFilterSizing sizing = new BloomFilterJoinMapping.BloomFilterSizing();
+        sizing.setBuildCardinality(new CardinalityEstimate(100, 100, 0.9));
+        final CardinalityEstimate filteredCardinality =
+                sizing.estimateProbeCardinality(new CardinalityEstimate(100100, 100100, 0.9));
+        // The 100 matches plus 1% false positives among the other 100000 data quanta.
+        Assert.assertEquals(1100, filteredCardinality.getLowerEstimate());
+        Assert.assertEquals(1100, filteredCardinality.getUpperEstimate());
+    }
+
+    @Test
+    public void testBloomFilterSizing() {
+        final BloomFilterJoinMapping.BloomFilterSizing sizing = new BloomFilterJoinMapping.BloomFilterSizing();
+        final long defaultNumBits = sizing.createBloomFilter().getNumBits();
+        Assert.assertEquals(8L * 1024 * 1024, defaultNumBits);
+
+        // Small build sides get small Bloom filters...
+        sizing.setBuildCardinality(new CardinalityEstimate(1000, 1000, 0.9));
+        final BloomFilter smallBloomFilter = sizing.createBloomFilter();
+        Assert.assertTrue(smallBloomFilter.getNumBits() < defaultNumBits);
+        Assert.assertTrue(smallBloomFilter.getNumBits() >= 1000 * 9);
+
+        // ...and large ones are capped.
+        sizing.setBuildCardinality(new CardinalityEstimate(1L << 30, 1L << 30, 0.9));
+        Assert.assertEquals(128L * 1024 * 1024, sizing.createBloomFilter().getNumBits());
+    }
+}
@@ -0,0 +1,40 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link SampleOperator}.
+ */
+public class SampleOperatorTest {
+
+    @Test
+    public void testStratifiedSampleSizeEstimate() {
+        // 10 strata with 5 data quanta each.
+        Assert.assertEquals(50L, SampleOperator.estimateStratifiedSampleSize(100L, 5));
+        // The sample cannot be larger than the input.
+        Assert.assertEquals(100L, SampleOperator.estimateStratifiedSampleSize(100L, 20));
+        // There is at least one stratum.
+        Assert.assertEquals(3L, SampleOperator.estimateStratifiedSampleSize(5L, 3));
+        Assert.assertEquals(0L, SampleOperator.estimateStratifiedSampleSize(0L, 3));
+    }
+
+}
@@ -43,4 +43,19 @@ public class RecordTypeTest {
         Assert.assertTrue(t3.isSupertypeOf(t3));
         Assert.assertFalse(t3.isSupertypeOf(t2));
     }
+
+    @Test
+    public void testTypedAndUntypedAreCompatible() {
+        RecordType untyped = new RecordType("a", "b");
+        RecordType typed = new RecordType(new String[]{"a", "b"}, new Class<?>[]{Integer.class, String.class});
+        RecordType otherlyTyped = new RecordType(new String[]{"a", "b"}, new Class<?>[]{Long.class, String.class});
+
+        Assert.assertEquals(untyped, typed);
+        Assert.assertEquals(untyped.hashCode(), typed.hashCode());
+        Assert.assertTrue(untyped.isSupertypeOf(typed));
+        Assert.assertTrue(typed.isSupertypeOf(untyped));
+        Assert.assertTrue(DataSetType.createDefault(untyped).isSupertypeOf(DataSetType.createDefault(typed)));
+        Assert.assertFalse(typed.isSupertypeOf(otherlyTyped));
+        Assert.assertFalse(typed.isSupertypeOf(new RecordType("a", "c")));
+    }
 }
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.util.parquet;
+
+import org.apache.parquet.filter2.predicate.FilterApi;
+import org.apache.parquet.filter2.predicate.FilterPredicate;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.MessageTypeParser;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Optional;
+
+/**
+ * Tests for the {@link ParquetFilters}.
+ */
+public class ParquetFiltersTest {
+
+    private static final MessageType SCHEMA = MessageTypeParser.parseMessageType(
+            "message test { required int32 a; optional int64 b; optional binary c (UTF8); optional boolean d; }"
+    );
+
+    @Test
+    public void testComparisons() {
+        Assert.assertEquals(
+                Optional.of(FilterApi.and(
+                        FilterApi.gt(FilterApi.intColumn("a"), 5),
+                        FilterApi.eq(FilterApi.binaryColumn("c"), Binary.fromString("it's"))
+                )),
+                ParquetFilters.translate("a > 5 AND c = 'it''s'", SCHEMA)
+        );
+        Assert.assertEquals(
+                Optional.of(FilterApi.or(
+                        FilterApi.ltEq(FilterApi.longColumn("b"), 10L),
+                        FilterApi.notEq(FilterApi.booleanColumn("d"), true)
+                )),
+                ParquetFilters.translate("(10 >= b) OR (d != TRUE)", SCHEMA)
+        );
+        Assert.assertEquals(
+                Optional.of(FilterApi.eq(FilterApi.longColumn("b"), (Long) null)),
+                ParquetFilters.translate("b IS NULL", SCHEMA)
+        );
+    }
+
+    @Test
+    public void testPartialTranslation() {
+        // Untranslatable conjuncts are dropped...
+        final FilterPredicate expected = FilterApi.lt(FilterApi.intColumn("a"), 3);
+        Assert.assertEquals(Optional.of(expected), ParquetFilters.translate("a < 3 AND x = 1", SCHEMA));
+        Assert.assertEquals(Optional.of(expected), ParquetFilters.translate("a < 3 AND a = b", SCHEMA));
+        Assert.assertEquals(Optional.of(expected), ParquetFilters.translate("a < 3 AND a = 1.5", SCHEMA));
+
+        // ...but they render disjunctions untranslatable.
+        Assert.assertEquals(Optional.empty(), ParquetFilters.translate("a < 3 OR x = 1", SCHEMA));
+    }
+
+    @Test
+    public void testUnsupportedSyntax() {
+        Assert.assertEquals(Optional.empty(), ParquetFilters.translate("NOT a = 1", SCHEMA));
+        Assert.assertEquals(Optional.empty(), ParquetFilters.translate("a IN (1, 2)", SCHEMA));
+        Assert.assertEquals(Optional.empty(), ParquetFilters.translate("c LIKE 'x%'", SCHEMA));
+        Assert.assertEquals(Optional.empty(), ParquetFilters.translate("a < 3 AND", SCHEMA));
+        Assert.assertEquals(Optional.empty(), ParquetFilters.translate("", SCHEMA));
+        Assert.assertEquals(Optional.empty(), ParquetFilters.translate(null, SCHEMA));
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.util.sketch;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test suite for {@link BloomFilter}.
+ */
+public class BloomFilterTest {
+
+    @Test
+    public void testNoFalseNegatives() {
+        final BloomFilter bloomFilter = BloomFilter.create(10000, 0.01);
+        for (int i = 0; i < 10000; i++) {
+            bloomFilter.add("key" + i);
+        }
+        for (int i = 0; i < 10000; i++) {
+            Assert.assertTrue(bloomFilter.mightContain("key" + i));
+        }
+    }
+
+    @Test
+    public void testFalsePositiveProbability() {
+        final BloomFilter bloomFilter = BloomFilter.create(10000, 0.01);
+        for (long i = 0; i < 10000; i++) {
+            bloomFilter.add(i);
+        }
+        int numFalsePositives = 0;
+        for (long i = 10000; i < 110000; i++) {
+            if (bloomFilter.mightContain(i)) numFalsePositives++;
+        }
+        Assert.assertTrue(String.format("%d false positives", numFalsePositives), numFalsePositives < 1000);
+        Assert.assertTrue(bloomFilter.getFalsePositiveProbability() < 0.01);
+    }
+
+    @Test
+    public void testMerge() {
+        final BloomFilter bloomFilter1 = new BloomFilter(16, 3), bloomFilter2 = new BloomFilter(16, 3);
+        for (int i = 0; i < 1000; i++) {
+            (i % 2 == 0 ? bloomFilter1 : bloomFilter2).add(i);
+        }
+        bloomFilter1.merge(bloomFilter2);
+        for (int i = 0; i < 1000; i++) {
+            Assert.assertTrue(bloomFilter1.mightContain(i));
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testMergeIncompatible() {
+        new BloomFilter(16, 3).merge(new BloomFilter(17, 3));
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.util.sketch;
+
+import org.apache.wayang.basic.data.Estimate;
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Test suite for {@link HyperLogLog}.
+ */
+public class HyperLogLogTest {
+
+    @Test
+    public void testEstimateSmallAndLargeCardinalities() {
+        for (int numDistinctValues : new int[]{0, 1, 10, 1000, 100000, 1000000}) {
+            final HyperLogLog hyperLogLog = new HyperLogLog(14);
+            for (int i = 0; i < 2 * numDistinctValues; i++) {
+                hyperLogLog.add("value" + (i % numDistinctValues));
+            }
+            final Estimate estimate = hyperLogLog.toEstimate();
+            Assert.assertEquals(numDistinctValues, estimate.getValue(), Math.max(0.5, 0.02 * numDistinctValues));
+            Assert.assertTrue(estimate.getLowerBound() <= numDistinctValues + 0.5);
+            Assert.assertTrue(estimate.getUpperBound() >= numDistinctValues - 0.5);
+        }
+    }
+
+    @Test
+    public void testMerge() {
+        final HyperLogLog hyperLogLog1 = new HyperLogLog(12), hyperLogLog2 = new HyperLogLog(12);
+        final HyperLogLog expectedHyperLogLog = new HyperLogLog(12);
+        for (long i = 0; i < 50000; i++) {
+            (i % 3 == 0 ? hyperLogLog1 : hyperLogLog2).add(i);
+            expectedHyperLogLog.add(i);
+        }
+        Assert.assertEquals(expectedHyperLogLog.estimate(), hyperLogLog1.merge(hyperLogLog2).estimate(), 0d);
+    }
+
+    @Test
+    public void testGetPrecision() {
+        Assert.assertEquals(14, HyperLogLog.getPrecision(0.01));
+        Assert.assertTrue(new HyperLogLog(HyperLogLog.getPrecision(0.01)).getRelativeStandardError() <= 0.01);
+    }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.util.sketch;
+
+import org.apache.wayang.basic.data.Estimate;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Test suite for {@link KllSketch}.
+ */
+public class KllSketchTest {
+
+    @Test
+    public void testQuantiles() {
+        final KllSketch kllSketch1 = new KllSketch(400, new Random(42)), kllSketch2 = new KllSketch(400, new Random(43));
+        final int numValues = 100000;
+        for (int i = 0; i < numValues; i++) {
+            // Add the values in an order that is not sorted.
+            final int value = (int) ((i * 7919L) % numValues);
+            (value % 2 == 0 ? kllSketch1 : kllSketch2).add(value);
+        }
+        final KllSketch kllSketch = kllSketch1.merge(kllSketch2);
+        Assert.assertEquals(numValues, kllSketch.getNumValues());
+
+        final double maxRankError = kllSketch.getNormalizedRankError();
+        Assert.assertTrue(maxRankError < 0.01);
+        for (double fraction : new double[]{0.01, 0.25, 0.5, 0.9, 0.99}) {
+            Assert.assertEquals(fraction * numValues, kllSketch.getQuantile(fraction), maxRankError * numValues);
+            final Estimate estimate = kllSketch.toEstimate(fraction);
+            Assert.assertTrue(estimate.getLowerBound() <= fraction * numValues);
+            Assert.assertTrue(estimate.getUpperBound() >= fraction * numValues);
+        }
+        Assert.assertEquals(0d, kllSketch.getQuantile(0), 0d);
+        Assert.assertEquals(numValues - 1, kllSketch.getQuantile(1), 0d);
+    }
+
+    @Test
+    public void testEmptySketch() {
+        Assert.assertTrue(Double.isNaN(new KllSketch(200).getQuantile(0.5)));
+    }
+
+}
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.util.sketch;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Test suite for {@link Reservoir}.
+ */
+public class ReservoirTest {
+
+    @Test
+    public void testSmallStream() {
+        final Reservoir<Integer> reservoir = new Reservoir<>(5, 42L);
+        for (int i = 0; i < 3; i++) {
+            reservoir.add(i);
+        }
+        Assert.assertEquals(Arrays.asList(0, 1, 2), reservoir.getSample());
+        Assert.assertEquals(3L, reservoir.getCount());
+    }
+
+    @Test
+    public void testUniformity() {
+        final int numValues = 50, capacity = 5, numTrials = 20000;
+        final int[] frequencies = new int[numValues];
+        for (int trial = 0; trial < numTrials; trial++) {
+            final Reservoir<Integer> reservoir = new Reservoir<>(capacity, trial);
+            for (int i = 0; i < numValues; i++) {
+                reservoir.add(i);
+            }
+            this.countSample(reservoir.getSample(), capacity, frequencies);
+        }
+        this.checkUniformity(frequencies, numTrials * capacity / (double) numValues);
+    }
+
+    @Test
+    public void testUniformityAfterMerging() {
+        final int numValues = 50, capacity = 5, numTrials = 20000;
+        final int[] frequencies = new int[numValues];
+        for (int trial = 0; trial < numTrials; trial++) {
+            // Merge unevenly split streams and continue adding values afterwards.
+            final Reservoir<Integer> reservoir1 = new Reservoir<>(capacity, trial);
+            final Reservoir<Integer> reservoir2 = new Reservoir<>(capacity, -trial - 1);
+            for (int i = 0; i < 3; i++) {
+                reservoir1.add(i);
+            }
+            for (int i = 3; i < 30; i++) {
+                reservoir2.add(i);
+            }
+            final Reservoir<Integer> reservoir = reservoir1.merge(reservoir2);
+            for (int i = 30; i < numValues; i++) {
+                reservoir.add(i);
+            }
+            Assert.assertEquals(numValues, reservoir.getCount());
+            this.countSample(reservoir.getSample(), capacity, frequencies);
+        }
+        this.checkUniformity(frequencies, numTrials * capacity / (double) numValues);
+    }
+
+    private void countSample(List<Integer> sample, int capacity, int[] frequencies) {
+        Assert.assertEquals(capacity, sample.size());
+        Assert.assertEquals(capacity, new HashSet<>(sample).size());
+        for (Integer value : sample) {
+            frequencies[value]++;
+        }
+    }
+
+    private void checkUniformity(int[] frequencies, double expectedFrequency) {
+        for (int i = 0; i < frequencies.length; i++) {
+            // The standard deviation is about 42, so this leaves plenty of slack.
+            Assert.assertEquals("Frequency of " + i, expectedFrequency, frequencies[i], 0.1 * expectedFrequency);
+        }
+    }
+
+}
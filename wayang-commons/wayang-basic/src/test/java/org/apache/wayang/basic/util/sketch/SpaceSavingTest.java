@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.basic.util.sketch;
+
+import org.apache.wayang.basic.data.Estimate;
+import org.apache.wayang.basic.data.Tuple2;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Test suite for {@link SpaceSaving}.
+ */
+public class SpaceSavingTest {
+
+    @Test
+    public void testExactCountsWithinCapacity() {
+        final SpaceSaving<String> spaceSaving = new SpaceSaving<>(10);
+        for (String value : "a b a c a b d".split(" ")) {
+            spaceSaving.add(value);
+        }
+        final List<Tuple2<String, Estimate>> topK = spaceSaving.getTopK(2);
+        Assert.assertEquals(2, topK.size());
+        Assert.assertEquals(new Tuple2<>("a", new Estimate(3, 3, 3, 1)), topK.get(0));
+        Assert.assertEquals(new Tuple2<>("b", new Estimate(2, 2, 2, 1)), topK.get(1));
+    }
+
+    @Test
+    public void testErrorBoundsOnSkewedData() {
+        final Random random = new Random(42);
+        final Map<Integer, Long> exactCounts = new HashMap<>();
+        final SpaceSaving<Integer> spaceSaving1 = new SpaceSaving<>(100), spaceSaving2 = new SpaceSaving<>(100);
+        final int numValues = 200000;
+        for (int i = 0; i < numValues; i++) {
+            // Zipf-like distribution over 10000 values.
+            final int value = (int) Math.floor(Math.pow(10000, random.nextDouble())) - 1;
+            exactCounts.merge(value, 1L, Long::sum);
+            (i % 2 == 0 ? spaceSaving1 : spaceSaving2).add(value);
+        }
+        final SpaceSaving<Integer> spaceSaving = spaceSaving1.merge(spaceSaving2);
+        Assert.assertEquals(numValues, spaceSaving.getNumValues());
+
+        final List<Tuple2<Integer, Estimate>> topK = spaceSaving.getTopK(10);
+        Assert.assertEquals(10, topK.size());
+        for (Tuple2<Integer, Estimate> valueAndCount : topK) {
+            final long exactCount = exactCounts.get(valueAndCount.field0);
+            final Estimate estimate = valueAndCount.field1;
+            Assert.assertTrue(estimate.getLowerBound() <= exactCount && exactCount <= estimate.getUpperBound());
+            Assert.assertTrue(estimate.getUpperBound() - estimate.getLowerBound() <= numValues / 100d);
+        }
+        // The most frequent values are 0 and 1.
+        Assert.assertEquals(Integer.valueOf(0), topK.get(0).field0);
+        Assert.assertEquals(Integer.valueOf(1), topK.get(1).field0);
+    }
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.api;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.wayang.core.api.exception.WayangException;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Limits the number of concurrently executing {@link Job}s and their overall estimated load. {@link Job}s are
+ * admitted in the order of their requests. A {@link Job} whose load alone exceeds the limit is admitted when no
+ * other {@link Job} is running, so that it does not starve.
+ */
+public class AdmissionController {
+
+    /**
+     * Configuration key for the maximum number of concurrently executing {@link Job}s; non-positive values do not
+     * impose a limit.
+     */
+    public static final String MAX_JOBS_PROPERTY_KEY = "wayang.core.admission.max-jobs";
+
+    /**
+     * Configuration key for the maximum sum of the estimated execution milliseconds of the concurrently executing
+     * {@link Job}s; non-positive values do not impose a limit.
+     */
+    public static final String MAX_LOAD_PROPERTY_KEY = "wayang.core.admission.max-load";
+
+    /**
+     * Configuration key for the milliseconds that a {@link Job} may wait for its admission; non-positive values
+     * let it wait indefinitely.
+     */
+    public static final String TIMEOUT_PROPERTY_KEY = "wayang.core.admission.timeout";
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final int maxJobs;
+
+    private final double maxLoad;
+
+    private final long timeoutMillis;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private final Condition admissionCondition = this.lock.newCondition();
+
+    /**
+     * {@link Ticket}s that wait for their admission in order of their requests.
+     */
+    private final Deque<Ticket> waitingTickets = new ArrayDeque<>();
+
+    private int numAdmittedJobs = 0;
+
+    private double admittedLoad = 0d;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param maxJobs       the maximum number of concurrently executing {@link Job}s or {@code 0} for no limit
+     * @param maxLoad       the maximum overall estimated load of the concurrently executing {@link Job}s or
+     *                      {@code 0} for no limit
+     * @param timeoutMillis the maximum milliseconds to wait for an admission or {@code 0} for no limit
+     */
+    public AdmissionController(int maxJobs, double maxLoad, long timeoutMillis) {
+        this.maxJobs = maxJobs;
+        this.maxLoad = maxLoad;
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Creates a new instance as specified in the given {@link Configuration}.
+     *
+     * @param configuration provides the limits
+     * @return the new instance
+     */
+    public static AdmissionController fromConfiguration(Configuration configuration) {
+        return new AdmissionController(
+                (int) configuration.getLongProperty(MAX_JOBS_PROPERTY_KEY, 0L),
+                configuration.getDoubleProperty(MAX_LOAD_PROPERTY_KEY, 0d),
+                configuration.getLongProperty(TIMEOUT_PROPERTY_KEY, 0L)
+        );
+    }
+
+    /**
+     * Blocks until the {@link Job} may be executed.
+     *
+     * @param jobId         identifies the {@link Job}
+     * @param estimatedLoad the estimated load of the {@link Job}
+     * @return a {@link Ticket} that must be {@link Ticket#release() released} once the {@link Job} has finished
+     * @throws WayangException if the {@link Job} was not admitted in time or the waiting was interrupted
+     */
+    public Ticket admit(String jobId, double estimatedLoad) throws WayangException {
+        final Ticket ticket = new Ticket(jobId, Math.max(0d, estimatedLoad));
+        final long startNanos = System.nanoTime();
+        this.lock.lock();
+        try {
+            this.waitingTickets.addLast(ticket);
+            long remainingNanos = TimeUnit.MILLISECONDS.toNanos(this.timeoutMillis);
+            while (this.waitingTickets.peekFirst() != ticket || !this.canAdmit(ticket)) {
+                if (this.timeoutMillis <= 0) {
+                    this.admissionCondition.await();
+                } else if (remainingNanos <= 0) {
+                    throw new WayangException(String.format(
+                            "Job %s was not admitted within %d ms (%d jobs running, load %.0f).",
+                            jobId, this.timeoutMillis, this.numAdmittedJobs, this.admittedLoad
+                    ));
+                } else {
+                    remainingNanos = this.admissionCondition.awaitNanos(remainingNanos);
+                }
+            }
+            this.waitingTickets.removeFirst();
+            this.numAdmittedJobs++;
+            this.admittedLoad += ticket.load;
+            ticket.isAdmitted = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WayangException(String.format("Interrupted while waiting for the admission of job %s.", jobId), e);
+        } finally {
+            if (!ticket.isAdmitted) this.waitingTickets.remove(ticket);
+            // The next ticket in line might be admissible now.
+            this.admissionCondition.signalAll();
+            this.lock.unlock();
+        }
+        final long waitMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+        if (waitMillis > 0) {
+            this.logger.info("Admitted job {} (estimated load {}) after waiting {} ms.", jobId, ticket.load, waitMillis);
+        }
+        return ticket;
+    }
+
+    private boolean canAdmit(Ticket ticket) {
+        if (this.numAdmittedJobs == 0) return true;
+        if (this.maxJobs > 0 && this.numAdmittedJobs >= this.maxJobs) return false;
+        return this.maxLoad <= 0 || this.admittedLoad + ticket.load <= this.maxLoad;
+    }
+
+    private void release(Ticket ticket) {
+        this.lock.lock();
+        try {
+            this.numAdmittedJobs--;
+            this.admittedLoad = Math.max(0d, this.admittedLoad - ticket.load);
+            this.admissionCondition.signalAll();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of currently admitted {@link Job}s
+     */
+    public int getNumAdmittedJobs() {
+        this.lock.lock();
+        try {
+            return this.numAdmittedJobs;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * @return the number of {@link Job}s that wait for their admission
+     */
+    public int getNumWaitingJobs() {
+        this.lock.lock();
+        try {
+            return this.waitingTickets.size();
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Describes the admission of a {@link Job}.
+     */
+    public class Ticket {
+
+        private final String jobId;
+
+        private final double load;
+
+        private boolean isAdmitted = false, isReleased = false;
+
+        private Ticket(String jobId, double load) {
+            this.jobId = jobId;
+            this.load = load;
+        }
+
+        public String getJobId() {
+            return this.jobId;
+        }
+
+        /**
+         * Frees the resources of the {@link Job}. Repeated calls have no effect.
+         */
+        public void release() {
+            if (!this.isAdmitted || this.isReleased) return;
+            this.isReleased = true;
+            AdmissionController.this.release(this);
+        }
+    }
+}
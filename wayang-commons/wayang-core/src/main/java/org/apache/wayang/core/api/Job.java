@@ -23,9 +23,9 @@ import org.apache.wayang.commons.util.profiledb.model.Experiment;
 import org.apache.wayang.commons.util.profiledb.model.measurement.TimeMeasurement;
 import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.wayang.core.mapping.PlanTransformation;
-import org.apache.wayang.core.monitor.DisabledMonitor;
-import org.apache.wayang.core.monitor.FileMonitor;
 import org.apache.wayang.core.monitor.Monitor;
+import org.apache.wayang.core.monitor.ProgressPublisher;
+import org.apache.wayang.core.monitor.metrics.ExecutionMetrics;
 import org.apache.wayang.core.optimizer.DefaultOptimizationContext;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.optimizer.ProbabilisticDoubleInterval;
@@ -42,10 +42,13 @@ import org.apache.wayang.core.plan.executionplan.Channel;
 import org.apache.wayang.core.plan.executionplan.ExecutionPlan;
 import org.apache.wayang.core.plan.executionplan.ExecutionStage;
 import org.apache.wayang.core.plan.executionplan.ExecutionTask;
+import org.apache.wayang.core.plan.wayangplan.BlockingOperator;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
 import org.apache.wayang.core.plan.wayangplan.Operator;
 import org.apache.wayang.core.plan.wayangplan.OutputSlot;
 import org.apache.wayang.core.plan.wayangplan.PlanMetrics;
+import org.apache.wayang.core.plan.wayangplan.PlanTraversal;
+import org.apache.wayang.core.plan.wayangplan.UnboundedSource;
 import org.apache.wayang.core.plan.wayangplan.WayangPlan;
 import org.apache.wayang.core.platform.AtomicExecutionGroup;
 import org.apache.wayang.core.platform.Breakpoint;
@@ -57,6 +60,8 @@ import org.apache.wayang.core.platform.FixBreakpoint;
 import org.apache.wayang.core.platform.NoIterationBreakpoint;
 import org.apache.wayang.core.platform.PartialExecution;
 import org.apache.wayang.core.platform.Platform;
+import org.apache.wayang.core.platform.PlatformContextPool;
+import org.apache.wayang.core.platform.checkpoint.CheckpointManager;
 import org.apache.wayang.core.profiling.CardinalityRepository;
 import org.apache.wayang.core.profiling.CostMeasurement;
 import org.apache.wayang.core.profiling.ExecutionLog;
@@ -70,15 +75,19 @@ import org.apache.wayang.core.util.WayangCollections;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
-import java.io.IOException;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
@@ -89,6 +98,17 @@ public class Job extends OneTimeExecutable {
 
     private final Logger logger = LogManager.getLogger(this.getClass());
 
+    /**
+     * {@link WayangPlan}s that are currently being executed. Their {@link Operator}s, in particular loop heads, carry
+     * execution state, so that the same {@link WayangPlan} must not be executed by concurrent instances.
+     */
+    private static final Set<WayangPlan> runningWayangPlans = Collections.newSetFromMap(new ConcurrentHashMap<>());
+
+    /**
+     * Uniquely identifies this instance, e.g., in monitors and shared platform contexts.
+     */
+    private final String id = UUID.randomUUID().toString();
+
     /**
      * Guardian to avoid re-execution.
      */
@@ -159,7 +179,15 @@ public class Job extends OneTimeExecutable {
      */
     private final Set<String> udfJarPaths = new HashSet<>();
 
-    private Monitor monitor;
+    /**
+     * Publishes the progress of this instance asynchronously or is {@code null} if monitoring is disabled.
+     */
+    private final ProgressPublisher progressPublisher;
+
+    /**
+     * Records execution metrics or is {@code null} if metrics are disabled.
+     */
+    private final ExecutionMetrics executionMetrics;
 
     /**
      * Name for this instance.
@@ -184,6 +212,31 @@ public class Job extends OneTimeExecutable {
 
     private final boolean isProactiveReoptimization;
 
+    /**
+     * Admits this instance to run alongside other {@link Job}s of the {@link WayangContext}.
+     */
+    private AdmissionController.Ticket admissionTicket;
+
+    /**
+     * When the execution of this instance started in epoch milliseconds.
+     */
+    private long startMillis;
+
+    /**
+     * Checkpoints the {@link Channel}s between {@link ExecutionStage}s or is {@code null} if checkpointing is disabled.
+     */
+    private CheckpointManager checkpointManager;
+
+    /**
+     * The {@link ExecutionPlan} being executed by this instance.
+     */
+    private ExecutionPlan executionPlan;
+
+    /**
+     * A failed {@link Job} whose completed {@link ExecutionStage}s should be reused or {@code null}.
+     */
+    private Job failedJob;
+
     /**
      * Creates a new instance.
      *
@@ -218,9 +271,35 @@ public class Job extends OneTimeExecutable {
 
         // Configure job monitor.
         if (Monitor.isEnabled(this.configuration)) {
-            this.monitor = monitor == null ? new FileMonitor() : monitor;
+            this.progressPublisher = new ProgressPublisher(
+                    this.configuration,
+                    monitor == null ? Monitor.createConfiguredMonitors(this.configuration) : Collections.singletonList(monitor)
+            );
         } else {
-            this.monitor = new DisabledMonitor();
+            this.progressPublisher = null;
+        }
+        this.executionMetrics = ExecutionMetrics.fromConfiguration(this.configuration);
+        this.checkpointManager = CheckpointManager.fromConfiguration(this.configuration, this.id);
+    }
+
+    /**
+     * Lets this instance continue the execution of a failed {@link Job} for the same {@link WayangPlan} instead of
+     * starting from scratch. It reuses the {@link ExecutionPlan} of the failed {@link Job} and the
+     * {@link ExecutionStage}s that have been completed and checkpointed.
+     *
+     * @param failedJob the failed {@link Job}
+     */
+    void resumeFrom(Job failedJob) {
+        if (failedJob.wayangPlan != this.wayangPlan) {
+            throw new WayangException("Can only resume jobs for the same WayangPlan.");
+        }
+        if (failedJob.executionPlan == null) {
+            this.logger.info("{} has not started executing, so it will be executed from scratch.", failedJob);
+            return;
+        }
+        this.failedJob = failedJob;
+        if (failedJob.checkpointManager != null) {
+            this.checkpointManager = failedJob.checkpointManager;
         }
     }
 
@@ -258,37 +337,90 @@ public class Job extends OneTimeExecutable {
         return executionPlan;
     }
 
-    // TODO: Move outside of Job class
+    /**
+     * Reports the progress of an operator in percent.
+     *
+     * @deprecated use {@link #reportProgress(String, long, long, long, boolean)}
+     */
+    @Deprecated
     public void reportProgress(String opName, Integer progress) {
-        HashMap<String, Integer> partialProgress = new HashMap<>();
-        partialProgress.put(opName, progress);
-        try {
-            this.monitor.updateProgress(partialProgress);
-        } catch (IOException e) {
-            e.printStackTrace();
+        this.reportProgress(opName, progress, 0L, 100L, progress >= 100);
+    }
+
+    /**
+     * Reports the progress of an operator. This does not block, as the progress is published asynchronously.
+     *
+     * @param opName             identifies the operator
+     * @param numRecords         the number of data quanta processed so far
+     * @param numBytes           the number of bytes processed so far or {@code 0} if unknown
+     * @param numExpectedRecords the number of data quanta that the operator is expected to process or {@code -1}
+     * @param isCompleted        whether the operator has finished
+     * @see ProgressPublisher#report(String, long, long, long, boolean)
+     */
+    public void reportProgress(String opName, long numRecords, long numBytes, long numExpectedRecords, boolean isCompleted) {
+        if (this.progressPublisher != null) {
+            this.progressPublisher.report(opName, numRecords, numBytes, numExpectedRecords, isCompleted);
         }
     }
 
+    /**
+     * Tells whether progress reports are published at all, so that executors can skip tracking the progress
+     * otherwise.
+     *
+     * @return whether progress is monitored
+     */
+    public boolean isMonitoringProgress() {
+        return this.progressPublisher != null;
+    }
+
+    /**
+     * Provides the {@link ExecutionMetrics} that executors should record to.
+     *
+     * @return the {@link ExecutionMetrics} or {@code null} if metrics are disabled
+     */
+    public ExecutionMetrics getExecutionMetrics() {
+        return this.executionMetrics;
+    }
+
     @Override
     protected void doExecute() {
         // Make sure that each job is only executed once.
         if (this.hasBeenExecuted.getAndSet(true)) {
             throw new WayangException("Job has already been executed.");
         }
+        if (!runningWayangPlans.add(this.wayangPlan)) {
+            throw new WayangException("The WayangPlan is already being executed by another job.");
+        }
 
+        this.startMillis = System.currentTimeMillis();
         try {
 
-            // Prepare the #wayangPlan for the optimization.
+            int executionId = 0;
+            final ExecutionPlan executionPlan;
             this.optimizationRound.start();
-            this.prepareWayangPlan();
+            if (this.failedJob != null) {
+                // Pick up where the failed job stopped.
+                executionPlan = this.takeOverFailedJob();
+            } else {
+                // Prepare the #wayangPlan for the optimization.
+                this.prepareWayangPlan();
 
-            // Estimate cardinalities and execution times for the #wayangPlan.
-            this.estimateKeyFigures();
+                // Estimate cardinalities and execution times for the #wayangPlan.
+                this.estimateKeyFigures();
 
-            // Get an execution plan.
-            int executionId = 0;
-            ExecutionPlan executionPlan = this.createInitialExecutionPlan();
+                // Starting up platforms with warm contexts comes for free.
+                this.considerWarmPlatforms();
+
+                // Get an execution plan.
+                executionPlan = this.createInitialExecutionPlan();
+            }
+            this.executionPlan = executionPlan;
             this.optimizationRound.stop();
+
+            // Wait until the resources for the execution are available.
+            this.admissionTicket = this.wayangContext.getAdmissionController().admit(
+                    this.id, this.planImplementation.getTimeEstimate().getGeometricMeanEstimate()
+            );
             if (this.experiment != null) {
                 this.experiment.addMeasurement(ExecutionPlanMeasurement.capture(
                         executionPlan,
@@ -296,12 +428,12 @@ public class Job extends OneTimeExecutable {
                 ));
             }
 
-            // TODO: generate run ID. For now we fix this because we can't handle multiple jobs, neither in montoring nor execution.
-            String runId = "1";
-            try {
-                monitor.initialize(this.configuration, runId, executionPlan.toJsonList());
-            } catch (Exception e) {
-                this.logger.warn("Failed to initialize monitor: {}", e);
+            if (this.progressPublisher != null) {
+                try {
+                    this.progressPublisher.start(this.configuration, this.id, executionPlan.toJsonList());
+                } catch (Exception e) {
+                    this.logger.warn("Failed to initialize monitor: {}", e);
+                }
             }
 
 
@@ -320,6 +452,9 @@ public class Job extends OneTimeExecutable {
                 this.optimizationRound.stop();
             }
 
+            // The checkpoints are not needed anymore.
+            if (this.checkpointManager != null) this.checkpointManager.discard();
+
             this.stopWatch.start("Post-processing");
             if (this.configuration.getBooleanProperty("wayang.core.log.enabled")) {
                 this.logExecution();
@@ -329,14 +464,57 @@ public class Job extends OneTimeExecutable {
         } catch (Throwable t) {
             throw new WayangException("Job execution failed.", t);
         } finally {
-            this.stopWatch.stopAll();
-            this.stopWatch.start("Post-processing", "Release Resources");
-            this.releaseResources();
+            try {
+                this.stopWatch.stopAll();
+                this.stopWatch.start("Post-processing", "Release Resources");
+                this.releaseResources();
+            } finally {
+                // Even if releasing the resources fails, the WayangPlan must not stay blocked.
+                runningWayangPlans.remove(this.wayangPlan);
+            }
             this.stopWatch.stop("Post-processing");
             this.logger.info("StopWatch results:\n{}", this.stopWatch.toPrettyString());
         }
     }
 
+    /**
+     * Adopts the optimization state and the {@link ExecutionPlan} of the {@link #failedJob} and prepares the
+     * {@link #crossPlatformExecutor} to skip its reusable {@link ExecutionStage}s.
+     *
+     * @return the {@link ExecutionPlan} to continue
+     */
+    private ExecutionPlan takeOverFailedJob() {
+        this.logger.info("Resuming {}.", this.failedJob);
+        this.optimizationContext = this.failedJob.optimizationContext;
+        this.cardinalityEstimatorManager = this.failedJob.cardinalityEstimatorManager;
+        this.planImplementation = this.failedJob.planImplementation;
+        this.timeEstimates.addAll(this.failedJob.timeEstimates);
+        this.costEstimates.addAll(this.failedJob.costEstimates);
+
+        final InstrumentationStrategy instrumentation = this.configuration.getInstrumentationStrategyProvider().provide();
+        this.crossPlatformExecutor = new CrossPlatformExecutor(this, instrumentation);
+        final CrossPlatformExecutor failedExecutor = this.failedJob.crossPlatformExecutor;
+        this.crossPlatformExecutor.resume(
+                this.failedJob.executionPlan,
+                failedExecutor == null ? Collections.emptySet() : failedExecutor.getCompletedStages(),
+                this.optimizationContext
+        );
+        return this.failedJob.executionPlan;
+    }
+
+    /**
+     * Overrides the start-up times of {@link Platform}s that have a warm context in the {@link PlatformContextPool},
+     * so that the optimizer does not charge their initialization.
+     */
+    private void considerWarmPlatforms() {
+        final PlatformContextPool platformContextPool = this.wayangContext.getPlatformContextPool();
+        if (platformContextPool == null) return;
+        for (Platform platform : platformContextPool.getWarmPlatforms()) {
+            this.logger.debug("{} is warm.", platform);
+            this.configuration.getPlatformStartUpTimeProvider().set(platform, 0L);
+        }
+    }
+
     /**
      * Prepares the {@link #wayangPlan}: prunes unused {@link Operator}s, isolates loops, and applies all available
      * {@link PlanTransformation}s.
@@ -344,16 +522,36 @@ public class Job extends OneTimeExecutable {
     private void prepareWayangPlan() {
         this.logger.info("Preparing plan...");
 
-        // Prepare the WayangPlan for the optimization.
-        this.optimizationRound.start("Prepare", "Prune&Isolate");
-        this.wayangPlan.prepare();
-        this.optimizationRound.stop("Prepare", "Prune&Isolate");
+        // Streaming plans run continuously, so they cannot hand over intermediate results between platforms.
+        final Platform streamingPlatform;
+        final Collection<Operator> restrictedOperators;
+        if (this.isStreaming()) {
+            this.validateStreamingPlan(PlanTraversal.downstream()
+                    .traverse(this.wayangPlan.collectReachableTopLevelSources().stream()
+                            .filter(source -> source instanceof UnboundedSource))
+                    .getTraversedNodes());
+            streamingPlatform = this.getStreamingPlatform();
+            restrictedOperators = this.restrictToStreamingPlatform(streamingPlatform);
+        } else {
+            streamingPlatform = null;
+            restrictedOperators = Collections.emptyList();
+        }
 
-        // Apply the mappings to the plan to form a hyperplan.
-        this.optimizationRound.start("Prepare", "Transformations");
-        final Collection<PlanTransformation> transformations = this.gatherTransformations();
-        this.wayangPlan.applyTransformations(transformations);
-        this.optimizationRound.stop("Prepare", "Transformations");
+        try {
+            // Prepare the WayangPlan for the optimization.
+            this.optimizationRound.start("Prepare", "Prune&Isolate");
+            this.wayangPlan.prepare();
+            this.optimizationRound.stop("Prepare", "Prune&Isolate");
+
+            // Apply the mappings to the plan to form a hyperplan.
+            this.optimizationRound.start("Prepare", "Transformations");
+            final Collection<PlanTransformation> transformations = this.gatherTransformations();
+            this.wayangPlan.applyTransformations(transformations);
+            this.optimizationRound.stop("Prepare", "Transformations");
+        } finally {
+            // The restriction only steers the transformations, so do not leave it on the user's Operators.
+            restrictedOperators.forEach(operator -> operator.removeTargetPlatform(streamingPlatform));
+        }
 
         this.optimizationRound.start("Prepare", "Sanity");
         assert this.wayangPlan.isSane();
@@ -362,6 +560,88 @@ public class Job extends OneTimeExecutable {
         this.optimizationRound.stop("Prepare");
     }
 
+    /**
+     * Tells whether the {@link #wayangPlan} reads from {@link UnboundedSource}s and thus is executed in streaming mode.
+     *
+     * @return whether this instance is a streaming job
+     */
+    public boolean isStreaming() {
+        return this.wayangPlan.collectReachableTopLevelSources().stream()
+                .anyMatch(source -> source instanceof UnboundedSource);
+    }
+
+    /**
+     * Provides the streaming {@link Platform} as specified via {@link UnboundedSource#STREAMING_PLATFORM_KEY}.
+     *
+     * @return the streaming {@link Platform}
+     */
+    private Platform getStreamingPlatform() {
+        final String platformName = this.configuration.getStringProperty(UnboundedSource.STREAMING_PLATFORM_KEY);
+        return this.configuration.getPlatformProvider().provideAll().stream()
+                .filter(platform -> platform.getConfigurationName().equals(platformName))
+                .findAny()
+                .orElseThrow(() -> new WayangException(String.format(
+                        "Streaming platform \"%s\" is not registered.", platformName
+                )));
+    }
+
+    /**
+     * Restricts all {@link Operator}s of the {@link #wayangPlan} that do not have target {@link Platform}s yet to the
+     * streaming {@link Platform}.
+     *
+     * @param streamingPlatform the streaming {@link Platform}
+     * @return the restricted {@link Operator}s
+     */
+    private Collection<Operator> restrictToStreamingPlatform(Platform streamingPlatform) {
+        this.logger.info("Executing streaming plan on {}.", streamingPlatform);
+        final Collection<Operator> restrictedOperators = PlanTraversal.upstream()
+                .traverse(this.wayangPlan.getSinks())
+                .getTraversedNodesWith(operator -> operator.getTargetPlatforms().isEmpty());
+        restrictedOperators.forEach(operator -> operator.addTargetPlatform(streamingPlatform));
+        return restrictedOperators;
+    }
+
+    /**
+     * Makes sure that none of the given {@link Operator}s, which process the output of {@link UnboundedSource}s, is a
+     * {@link BlockingOperator}, as it would never emit any data quanta.
+     *
+     * @param operators that process the output of {@link UnboundedSource}s
+     * @throws WayangException if there is a {@link BlockingOperator}
+     */
+    private void validateStreamingPlan(Collection<? extends Operator> operators) {
+        for (Operator operator : operators) {
+            if (operator instanceof BlockingOperator) {
+                throw new WayangException(String.format(
+                        "%s needs to consume its entire input, but it processes the output of an unbounded source. " +
+                                "Use a windowed operator instead.",
+                        operator
+                ));
+            }
+        }
+    }
+
+    /**
+     * Collects the {@link ExecutionOperator}s of an {@link ExecutionPlan} that process the output of
+     * {@link UnboundedSource}s.
+     *
+     * @param executionPlan the {@link ExecutionPlan}
+     * @return the said {@link ExecutionOperator}s
+     */
+    private static Collection<ExecutionOperator> collectStreamingOperators(ExecutionPlan executionPlan) {
+        final Set<ExecutionTask> visitedTasks = new HashSet<>();
+        final Queue<ExecutionTask> tasksToVisit = executionPlan.collectAllTasks().stream()
+                .filter(task -> task.getOperator() instanceof UnboundedSource)
+                .collect(Collectors.toCollection(LinkedList::new));
+        while (!tasksToVisit.isEmpty()) {
+            final ExecutionTask task = tasksToVisit.poll();
+            if (!visitedTasks.add(task)) continue;
+            for (Channel channel : task.getOutputChannels()) {
+                if (channel != null) tasksToVisit.addAll(channel.getConsumers());
+            }
+        }
+        return visitedTasks.stream().map(ExecutionTask::getOperator).collect(Collectors.toList());
+    }
+
     /**
      * Gather all available {@link PlanTransformation}s from the {@link #configuration}.
      */
@@ -438,6 +718,11 @@ public class Job extends OneTimeExecutable {
         final ExecutionPlan executionPlan = ExecutionPlan.createFrom(executionTaskFlow, this.stageSplittingCriterion);
         this.optimizationRound.stop("Create Initial Execution Plan", "Split Stages");
 
+        // Channel conversions might have introduced further BlockingOperators.
+        if (this.isStreaming()) {
+            this.validateStreamingPlan(collectStreamingOperators(executionPlan));
+        }
+
         this.planImplementation.mergeJunctionOptimizationContexts();
 
         this.planImplementation.logTimeEstimates();
@@ -455,17 +740,47 @@ public class Job extends OneTimeExecutable {
                                                      Set<Channel> openChannels,
                                                      Set<ExecutionStage> executedStages) {
 
-        final PlanImplementation bestPlanImplementation = executionPlans.stream()
-                .reduce((p1, p2) -> {
-                    final double t1 = p1.getSquashedCostEstimate();
-                    final double t2 = p2.getSquashedCostEstimate();
-                    return t1 < t2 ? p1 : p2;
-                })
-                .orElseThrow(() -> new WayangException("Could not find an execution plan."));
+        final long deadlineMillis = this.configuration.getLongProperty("wayang.core.optimizer.deadline", 0L);
+        final PlanImplementation bestPlanImplementation;
+        if (deadlineMillis > 0) {
+            final long remainingMillis = deadlineMillis - (System.currentTimeMillis() - this.startMillis);
+            bestPlanImplementation = pickPlanForDeadline(executionPlans, remainingMillis);
+        } else {
+            bestPlanImplementation = executionPlans.stream()
+                    .reduce((p1, p2) -> {
+                        final double t1 = p1.getSquashedCostEstimate();
+                        final double t2 = p2.getSquashedCostEstimate();
+                        return t1 < t2 ? p1 : p2;
+                    })
+                    .orElseThrow(() -> new WayangException("Could not find an execution plan."));
+        }
         this.logger.info("Picked {} as best plan.", bestPlanImplementation);
         return this.planImplementation = bestPlanImplementation;
     }
 
+    /**
+     * Picks the cheapest {@link PlanImplementation} that meets a deadline even in the worst case of its
+     * {@link TimeEstimate}. If there is none, picks the one with the best worst case, so that plans with uncertain
+     * execution times are avoided.
+     *
+     * @param planImplementations the candidate {@link PlanImplementation}s
+     * @param remainingMillis     the milliseconds left until the deadline
+     * @return the picked {@link PlanImplementation}
+     */
+    static PlanImplementation pickPlanForDeadline(Collection<PlanImplementation> planImplementations,
+                                                  long remainingMillis) {
+        final Optional<PlanImplementation> cheapestTimelyPlan = planImplementations.stream()
+                .filter(plan -> plan.getTimeEstimate().getUpperEstimate() <= remainingMillis)
+                .min(Comparator.comparingDouble(PlanImplementation::getSquashedCostEstimate));
+        if (cheapestTimelyPlan.isPresent()) {
+            return cheapestTimelyPlan.get();
+        }
+        return planImplementations.stream()
+                .min(Comparator.<PlanImplementation>comparingLong(plan -> plan.getTimeEstimate().getUpperEstimate())
+                        .thenComparingDouble(PlanImplementation::getSquashedCostEstimate))
+                .orElseThrow(() -> new WayangException("Could not find an execution plan."));
+    }
+
     /**
      * Go over the given {@link WayangPlan} and update the cardinalities of data being passed between its
      * {@link Operator}s using the given {@link ExecutionState}.
@@ -659,6 +974,8 @@ public class Job extends OneTimeExecutable {
     private void releaseResources() {
         this.wayangContext.getCardinalityRepository().sleep();
         if (this.crossPlatformExecutor != null) this.crossPlatformExecutor.shutdown();
+        if (this.progressPublisher != null) this.progressPublisher.stop();
+        if (this.admissionTicket != null) this.admissionTicket.release();
     }
 
     private void logExecution() {
@@ -817,6 +1134,24 @@ public class Job extends OneTimeExecutable {
         return this.configuration;
     }
 
+    /**
+     * @return the unique identifier of this instance
+     */
+    public String getId() {
+        return this.id;
+    }
+
+    /**
+     * @return the {@link CheckpointManager} of this instance or {@code null} if checkpointing is disabled
+     */
+    public CheckpointManager getCheckpointManager() {
+        return this.checkpointManager;
+    }
+
+    public WayangContext getWayangContext() {
+        return this.wayangContext;
+    }
+
     public Set<String> getUdfJarPaths() {
         return this.udfJarPaths;
     }
@@ -23,7 +23,10 @@ import org.apache.wayang.commons.util.profiledb.model.Subject;
 import org.apache.wayang.core.monitor.Monitor;
 import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator;
 import org.apache.wayang.core.plan.executionplan.ExecutionPlan;
+import org.apache.wayang.core.plan.executionplan.ExecutionStage;
 import org.apache.wayang.core.plan.wayangplan.WayangPlan;
+import org.apache.wayang.core.platform.PlatformContextPool;
+import org.apache.wayang.core.platform.checkpoint.CheckpointManager;
 import org.apache.wayang.core.plugin.Plugin;
 import org.apache.wayang.core.profiling.CardinalityRepository;
 import org.apache.wayang.core.util.ReflectionUtils;
@@ -45,6 +48,16 @@ public class WayangContext {
 
     private final Configuration configuration;
 
+    /**
+     * Keeps the contexts of the platforms warm across {@link Job}s.
+     */
+    private PlatformContextPool platformContextPool = PlatformContextPool.getDefault();
+
+    /**
+     * Limits the {@link Job}s of this instance that execute concurrently.
+     */
+    private AdmissionController admissionController;
+
     public WayangContext() {
         this(new Configuration());
     }
@@ -173,14 +186,85 @@ public class WayangContext {
         return new Job(this, jobName, monitor, wayangPlan, new Experiment("unknown", new Subject("unknown", "unknown")), udfJars);
     }
 
+    /**
+     * Create a new {@link Job} that continues a failed {@link Job}. Completed {@link ExecutionStage}s of the failed
+     * {@link Job} are not executed again as far as their outputs have been checkpointed.
+     *
+     * @param failedJob the failed {@link Job}
+     * @return the new {@link Job}
+     * @see CheckpointManager
+     */
+    public Job createResumingJob(Job failedJob) {
+        final Job job = new Job(
+                this,
+                failedJob.getName(),
+                null,
+                failedJob.getWayangPlan(),
+                failedJob.getExperiment(),
+                failedJob.getUdfJarPaths().toArray(new String[0])
+        );
+        job.resumeFrom(failedJob);
+        return job;
+    }
+
+    /**
+     * Continue a failed {@link Job}.
+     *
+     * @param failedJob the failed {@link Job}
+     * @see #createResumingJob(Job)
+     */
+    public void resume(Job failedJob) {
+        this.createResumingJob(failedJob).execute();
+    }
+
     public Configuration getConfiguration() {
         return this.configuration;
     }
 
-    public CardinalityRepository getCardinalityRepository() {
+    public synchronized CardinalityRepository getCardinalityRepository() {
         if (this.cardinalityRepository == null) {
             this.cardinalityRepository = new CardinalityRepository(this.configuration);
         }
         return this.cardinalityRepository;
     }
+
+    public PlatformContextPool getPlatformContextPool() {
+        return this.platformContextPool;
+    }
+
+    /**
+     * Sets the {@link PlatformContextPool} for the {@link Job}s of this instance. By default, all instances share
+     * {@link PlatformContextPool#getDefault()}.
+     *
+     * @param platformContextPool the {@link PlatformContextPool}
+     * @return this instance
+     */
+    public WayangContext withPlatformContextPool(PlatformContextPool platformContextPool) {
+        this.platformContextPool = platformContextPool;
+        return this;
+    }
+
+    /**
+     * Provides the {@link AdmissionController} for the {@link Job}s of this instance. Unless specified via
+     * {@link #withAdmissionController(AdmissionController)}, it is created from the {@link Configuration}.
+     *
+     * @return the {@link AdmissionController}
+     */
+    public synchronized AdmissionController getAdmissionController() {
+        if (this.admissionController == null) {
+            this.admissionController = AdmissionController.fromConfiguration(this.configuration);
+        }
+        return this.admissionController;
+    }
+
+    /**
+     * Sets the {@link AdmissionController} for the {@link Job}s of this instance.
+     *
+     * @param admissionController the {@link AdmissionController}
+     * @return this instance
+     */
+    public synchronized WayangContext withAdmissionController(AdmissionController admissionController) {
+        this.admissionController = admissionController;
+        return this;
+    }
 }
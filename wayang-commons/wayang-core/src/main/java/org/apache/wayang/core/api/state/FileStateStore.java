@@ -0,0 +1,155 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.api.state;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.util.fs.FileSystem;
+import org.apache.wayang.core.util.fs.FileSystems;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * {@link StateStore} that keeps each state as a serialized file in a directory of some {@link FileSystem}.
+ * <p>As not all {@link FileSystem}s can rename files atomically, every write creates a new version of the state
+ * file and only then deletes the older versions. Reads pick the latest version that can be deserialized, so that
+ * incomplete writes are ignored. There should be only one writer per key at a time, though.</p>
+ */
+public class FileStateStore implements StateStore {
+
+    private static final Logger logger = LogManager.getLogger(FileStateStore.class);
+
+    /**
+     * Keys must be usable as file names.
+     */
+    private static final Pattern KEY_PATTERN = Pattern.compile("[\\w-]+");
+
+    /**
+     * Matches the names of state files, capturing the key and the version.
+     */
+    private static final Pattern FILE_NAME_PATTERN = Pattern.compile("([\\w-]+)\\.(\\d+)\\.state");
+
+    /**
+     * URL of the directory with the state files.
+     */
+    private final String directory;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param directory URL of the directory with the state files; it is created if necessary
+     */
+    public FileStateStore(String directory) {
+        Validate.notBlank(directory, "No directory for the state given (cf. %s).", DIRECTORY_PROPERTY_KEY);
+        this.directory = directory.endsWith("/") ? directory.substring(0, directory.length() - 1) : directory;
+    }
+
+    @Override
+    public <T extends Serializable> Optional<T> read(String key) {
+        final FileSystem fs = FileSystems.requireFileSystem(this.directory);
+        for (long version : this.listVersions(key)) {
+            final String url = this.getFileUrl(key, version);
+            try (InputStream inputStream = fs.open(url);
+                 ObjectInputStream objectInputStream = new ObjectInputStream(inputStream)) {
+                @SuppressWarnings("unchecked")
+                final T state = (T) objectInputStream.readObject();
+                return Optional.of(state);
+            } catch (IOException | ClassNotFoundException e) {
+                logger.warn("Could not read state from {}; falling back to the previous version.", url, e);
+            }
+        }
+        return Optional.empty();
+    }
+
+    @Override
+    public void write(String key, Serializable state) {
+        final List<Long> versions = this.listVersions(key);
+        final long newVersion = versions.isEmpty() ? 0L : versions.get(0) + 1;
+        final String url = this.getFileUrl(key, newVersion);
+        final FileSystem fs = FileSystems.requireFileSystem(this.directory);
+        try (OutputStream outputStream = fs.create(url, true);
+             ObjectOutputStream objectOutputStream = new ObjectOutputStream(outputStream)) {
+            objectOutputStream.writeObject(state);
+        } catch (IOException e) {
+            throw new WayangException(String.format("Could not write state to %s.", url), e);
+        }
+        logger.debug("Wrote state to {}.", url);
+
+        // Only now that the new version is complete, we can discard the old ones.
+        for (long version : versions) {
+            this.deleteQuietly(this.getFileUrl(key, version));
+        }
+    }
+
+    @Override
+    public void delete(String key) {
+        for (long version : this.listVersions(key)) {
+            this.deleteQuietly(this.getFileUrl(key, version));
+        }
+    }
+
+    /**
+     * Lists the versions of the state files for the given key.
+     *
+     * @param key identifies the state
+     * @return the versions in descending order
+     */
+    private List<Long> listVersions(String key) {
+        Validate.isTrue(KEY_PATTERN.matcher(key).matches(), "Illegal state key \"%s\".", key);
+        final FileSystem fs = FileSystems.requireFileSystem(this.directory);
+        if (!fs.isDirectory(this.directory)) return Collections.emptyList();
+        return fs.listChildren(this.directory).stream()
+                .map(childUrl -> FILE_NAME_PATTERN.matcher(childUrl.substring(childUrl.lastIndexOf('/') + 1)))
+                .filter(matcher -> matcher.matches() && matcher.group(1).equals(key))
+                .map(matcher -> Long.parseLong(matcher.group(2)))
+                .sorted(Comparator.reverseOrder())
+                .collect(Collectors.toList());
+    }
+
+    private String getFileUrl(String key, long version) {
+        return String.format("%s/%s.%d.state", this.directory, key, version);
+    }
+
+    private void deleteQuietly(String url) {
+        try {
+            FileSystems.requireFileSystem(url).delete(url, false);
+        } catch (IOException e) {
+            logger.warn("Could not delete {}.", url, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s]", this.getClass().getSimpleName(), this.directory);
+    }
+
+}
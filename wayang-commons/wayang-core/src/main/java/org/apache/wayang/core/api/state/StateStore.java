@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.api.state;
+
+import org.apache.wayang.core.api.Configuration;
+
+import java.io.Serializable;
+import java.util.Optional;
+
+/**
+ * Persists state across {@link org.apache.wayang.core.api.Job}s, e.g., which input has been processed already and
+ * the results of previous runs that later runs can build upon.
+ */
+public interface StateStore {
+
+    /**
+     * Configuration key for the URL of the directory in which the default {@link StateStore} keeps its state.
+     */
+    String DIRECTORY_PROPERTY_KEY = "wayang.core.state.dir";
+
+    /**
+     * Reads the latest state that has been written for the given key.
+     *
+     * @param key identifies the state
+     * @return the state or an empty {@link Optional} if there is none
+     */
+    <T extends Serializable> Optional<T> read(String key);
+
+    /**
+     * Writes the state for the given key. This replaces any previous state atomically: concurrent and later
+     * {@link #read(String)}s see either the previous or the new state, even if the writing fails.
+     *
+     * @param key   identifies the state
+     * @param state the state
+     */
+    void write(String key, Serializable state);
+
+    /**
+     * Deletes the state for the given key, if any.
+     *
+     * @param key identifies the state
+     */
+    void delete(String key);
+
+    /**
+     * Creates the default {@link StateStore} as specified in the given {@link Configuration}.
+     *
+     * @param configuration provides the {@link #DIRECTORY_PROPERTY_KEY}
+     * @return the {@link StateStore}
+     */
+    static StateStore createDefault(Configuration configuration) {
+        return new FileStateStore(configuration.getStringProperty(DIRECTORY_PROPERTY_KEY));
+    }
+
+}
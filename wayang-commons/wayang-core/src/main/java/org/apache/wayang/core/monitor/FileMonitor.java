@@ -31,6 +31,10 @@ import java.util.List;
 import java.util.Map;
 import org.apache.wayang.core.util.json.JSONObject;
 
+/**
+ * {@link Monitor} that writes the execution plan and the progress of a run as JSON files below
+ * {@value #DEFAULT_MONITOR_BASE_URL_PROPERTY_KEY}.
+ */
 public class FileMonitor extends Monitor {
 
     @Override
@@ -53,15 +57,6 @@ public class FileMonitor extends Monitor {
         } catch (UncheckedIOException e) {
             throw e.getCause();
         }
-
-        HashMap<String, Integer> initialProgress = new HashMap<>();
-        for (Map stage: initialExecutionPlan) {
-            for (Map operator: (List<Map>)stage.get("operators")) {
-                initialProgress.put((String)operator.get("name"), 0);
-            }
-        }
-        updateProgress(initialProgress);
-
     }
 
     @Override
@@ -90,4 +85,18 @@ public class FileMonitor extends Monitor {
             throw e.getCause();
         }
     }
+
+    /**
+     * Rewrites the progress file with the given {@link ProgressSnapshot}. As this replaces all details at once, no
+     * progress needs to be retained in this instance.
+     */
+    @Override
+    public void publish(ProgressSnapshot snapshot) throws IOException {
+        final FileSystem progressFile = FileSystems.getFileSystem(progressUrl).get();
+        try (final OutputStreamWriter writer = new OutputStreamWriter(progressFile.create(progressUrl, true))) {
+            writer.write(snapshot.toJson().toString());
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
 }
@@ -19,24 +19,77 @@
 package org.apache.wayang.core.monitor;
 
 import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.util.json.JSONObject;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
 /**
- * TODO: Implement
+ * {@link Monitor} that {@code POST}s the execution plan and the progress of a run as JSON documents to
+ * {@code <base URL>/<run ID>/execplan} and {@code <base URL>/<run ID>/progress}, respectively.
  */
+public class HttpMonitor extends Monitor {
+
+    public static final String HTTP_URL_PROPERTY_KEY = "wayang.core.monitor.http.url";
+
+    public static final String HTTP_TIMEOUT_PROPERTY_KEY = "wayang.core.monitor.http.timeout";
+
+    private int timeoutMillis;
 
-public class HttpMonitor extends Monitor{
     @Override
     public void initialize(Configuration config, String runId, List<Map> initialExecutionPlan) throws IOException {
+        this.initialExecutionPlan = initialExecutionPlan;
+        this.runId = runId;
+        String baseUrl = config.getStringProperty(HTTP_URL_PROPERTY_KEY, "http://localhost:8080/wayang/runs");
+        if (baseUrl.endsWith("/")) baseUrl = baseUrl.substring(0, baseUrl.length() - 1);
+        this.exPlanUrl = baseUrl + "/" + runId + "/execplan";
+        this.progressUrl = baseUrl + "/" + runId + "/progress";
+        this.timeoutMillis = (int) config.getLongProperty(HTTP_TIMEOUT_PROPERTY_KEY, 2000L);
 
+        HashMap<String, Object> jsonPlanMap = new HashMap<>();
+        jsonPlanMap.put("stages", initialExecutionPlan);
+        jsonPlanMap.put("run_id", runId);
+        this.post(this.exPlanUrl, new JSONObject(jsonPlanMap));
     }
 
     @Override
     public void updateProgress(HashMap<String, Integer> partialProgress) throws IOException {
+        HashMap<String, Object> progressBar = new HashMap<>();
+        progressBar.put("run_id", this.runId);
+        progressBar.put("details", partialProgress);
+        this.post(this.progressUrl, new JSONObject(progressBar));
+    }
+
+    @Override
+    public void publish(ProgressSnapshot snapshot) throws IOException {
+        this.post(this.progressUrl, snapshot.toJson());
+    }
 
+    private void post(String url, JSONObject json) throws IOException {
+        final byte[] body = json.toString().getBytes(StandardCharsets.UTF_8);
+        final HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+        try {
+            connection.setRequestMethod("POST");
+            connection.setConnectTimeout(this.timeoutMillis);
+            connection.setReadTimeout(this.timeoutMillis);
+            connection.setDoOutput(true);
+            connection.setFixedLengthStreamingMode(body.length);
+            connection.setRequestProperty("Content-Type", "application/json; charset=utf-8");
+            try (OutputStream out = connection.getOutputStream()) {
+                out.write(body);
+            }
+            final int responseCode = connection.getResponseCode();
+            if (responseCode / 100 != 2) {
+                throw new IOException(String.format("POST to %s failed with HTTP %d.", url, responseCode));
+            }
+        } finally {
+            connection.disconnect();
+        }
     }
 }
@@ -20,11 +20,19 @@ package org.apache.wayang.core.monitor;
 
 import org.apache.wayang.core.api.Configuration;
 
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.util.ReflectionUtils;
+
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+/**
+ * Sink for the progress of a job. Instances are fed asynchronously by a {@link ProgressPublisher}, so they may
+ * perform blocking I/O.
+ */
 public abstract class Monitor {
 
     protected HashMap<String, Integer> progress = new HashMap<>();
@@ -40,7 +48,53 @@ public abstract class Monitor {
 
     public abstract void updateProgress(HashMap<String, Integer> partialProgress) throws IOException;
 
+    /**
+     * Publishes the progress of all operators. By default, this delegates to {@link #updateProgress(HashMap)}.
+     *
+     * @param snapshot the current progress
+     */
+    public void publish(ProgressSnapshot snapshot) throws IOException {
+        this.updateProgress(snapshot.getPercentages());
+    }
+
+    /**
+     * Releases any resources held by this instance. Called once the job has finished.
+     */
+    public void close() throws IOException {
+    }
+
+    /**
+     * Creates the {@link Monitor}s listed under {@value #MONITOR_SINKS_PROPERTY_KEY}. Besides fully qualified class
+     * names, the aliases {@code file}, {@code http}, and {@code zeromq} are supported.
+     */
+    public static List<Monitor> createConfiguredMonitors(Configuration config) {
+        List<Monitor> monitors = new ArrayList<>();
+        for (String sink : config.getStringProperty(MONITOR_SINKS_PROPERTY_KEY, "file").split(",")) {
+            switch (sink.trim()) {
+                case "":
+                    break;
+                case "file":
+                    monitors.add(new FileMonitor());
+                    break;
+                case "http":
+                    monitors.add(new HttpMonitor());
+                    break;
+                case "zeromq":
+                    monitors.add(new ZeroMQMonitor());
+                    break;
+                default:
+                    try {
+                        monitors.add(ReflectionUtils.instantiateDefault(sink.trim()));
+                    } catch (Exception e) {
+                        throw new WayangException(String.format("Could not create monitor \"%s\".", sink), e);
+                    }
+            }
+        }
+        return monitors;
+    }
+
     public static final String DEFAULT_MONITOR_BASE_URL = "file:///var/tmp/wayang/runs";
     public static final String DEFAULT_MONITOR_BASE_URL_PROPERTY_KEY = "wayang.core.monitor.baseurl";
     public static final String MONITOR_ENABLED_PROPERTY_KEY = "wayang.core.monitor.enabled";
+    public static final String MONITOR_SINKS_PROPERTY_KEY = "wayang.core.monitor.sinks";
 }
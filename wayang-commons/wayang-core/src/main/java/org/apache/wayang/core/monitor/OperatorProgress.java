@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.monitor;
+
+/**
+ * Describes how far a single operator has progressed in terms of processed data quanta and bytes.
+ */
+public class OperatorProgress {
+
+    private final String operatorName;
+
+    private final long numRecords, numBytes, numExpectedRecords;
+
+    private final boolean isCompleted;
+
+    public OperatorProgress(String operatorName, long numRecords, long numBytes, long numExpectedRecords, boolean isCompleted) {
+        this.operatorName = operatorName;
+        this.numRecords = numRecords;
+        this.numBytes = numBytes;
+        this.numExpectedRecords = numExpectedRecords;
+        this.isCompleted = isCompleted;
+    }
+
+    public String getOperatorName() {
+        return this.operatorName;
+    }
+
+    /**
+     * @return the number of processed data quanta
+     */
+    public long getNumRecords() {
+        return this.numRecords;
+    }
+
+    /**
+     * @return the number of processed bytes or {@code 0} if unknown
+     */
+    public long getNumBytes() {
+        return this.numBytes;
+    }
+
+    /**
+     * @return the number of data quanta that the operator is expected to process or {@code -1} if unknown
+     */
+    public long getNumExpectedRecords() {
+        return this.numExpectedRecords;
+    }
+
+    public boolean isCompleted() {
+        return this.isCompleted;
+    }
+
+    /**
+     * @return the progress in percent; only completed operators reach {@code 100}
+     */
+    public int getPercentage() {
+        if (this.isCompleted) return 100;
+        if (this.numExpectedRecords <= 0) return 0;
+        return (int) Math.min(99L, this.numRecords * 100L / this.numExpectedRecords);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s: %d/%d records, %d bytes%s]", this.getClass().getSimpleName(),
+                this.operatorName, this.numRecords, this.numExpectedRecords, this.numBytes,
+                this.isCompleted ? ", completed" : "");
+    }
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.monitor;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Bounded, lock-free ring buffer for progress events with any number of producers and a single consumer. Slots
+ * are preallocated, so that offering an event neither locks nor allocates. If the buffer is full, the event is
+ * rejected rather than blocking the producer.
+ */
+public class ProgressEventBuffer {
+
+    /**
+     * Receives drained events.
+     */
+    @FunctionalInterface
+    public interface EventConsumer {
+
+        void accept(String operatorName, long numRecords, long numBytes, long numExpectedRecords, boolean isCompleted);
+
+    }
+
+    /**
+     * A preallocated event. Its {@link #sequence} is set to the claiming sequence number plus one once the
+     * event has been written completely.
+     */
+    private static final class Slot {
+
+        private volatile long sequence;
+
+        private String operatorName;
+
+        private long numRecords, numBytes, numExpectedRecords;
+
+        private boolean isCompleted;
+
+    }
+
+    private final Slot[] slots;
+
+    private final int mask;
+
+    /**
+     * The next sequence number to be claimed by a producer.
+     */
+    private final AtomicLong tail = new AtomicLong();
+
+    /**
+     * The next sequence number to be consumed. Only advanced by the consumer.
+     */
+    private final AtomicLong head = new AtomicLong();
+
+    private final LongAdder numRejected = new LongAdder();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param capacity the minimum number of buffered events; rounded up to the next power of two
+     */
+    public ProgressEventBuffer(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive.");
+        }
+        final int roundedCapacity = Integer.highestOneBit(Math.min(capacity, 1 << 30) * 2 - 1);
+        this.slots = new Slot[roundedCapacity];
+        for (int i = 0; i < roundedCapacity; i++) {
+            this.slots[i] = new Slot();
+        }
+        this.mask = roundedCapacity - 1;
+    }
+
+    /**
+     * Offers an event to this instance. Can be called concurrently.
+     *
+     * @return whether the event was accepted; {@code false} if the buffer is full
+     */
+    public boolean offer(String operatorName, long numRecords, long numBytes, long numExpectedRecords, boolean isCompleted) {
+        long sequence;
+        do {
+            sequence = this.tail.get();
+            if (sequence - this.head.get() >= this.slots.length) {
+                this.numRejected.increment();
+                return false;
+            }
+        } while (!this.tail.compareAndSet(sequence, sequence + 1));
+
+        final Slot slot = this.slots[(int) sequence & this.mask];
+        slot.operatorName = operatorName;
+        slot.numRecords = numRecords;
+        slot.numBytes = numBytes;
+        slot.numExpectedRecords = numExpectedRecords;
+        slot.isCompleted = isCompleted;
+        slot.sequence = sequence + 1;
+        return true;
+    }
+
+    /**
+     * Hands all completely written events in offering order to the {@code consumer}. Must not be called
+     * concurrently.
+     *
+     * @return the number of drained events
+     */
+    public int drain(EventConsumer consumer) {
+        long sequence = this.head.get();
+        int numDrained = 0;
+        while (true) {
+            final Slot slot = this.slots[(int) sequence & this.mask];
+            if (slot.sequence != sequence + 1) break;
+            consumer.accept(slot.operatorName, slot.numRecords, slot.numBytes, slot.numExpectedRecords, slot.isCompleted);
+            slot.operatorName = null;
+            this.head.lazySet(++sequence);
+            numDrained++;
+        }
+        return numDrained;
+    }
+
+    /**
+     * @return the number of events that were rejected so far because this instance was full
+     */
+    public long getNumRejected() {
+        return this.numRejected.sum();
+    }
+
+    public int getCapacity() {
+        return this.slots.length;
+    }
+
+}
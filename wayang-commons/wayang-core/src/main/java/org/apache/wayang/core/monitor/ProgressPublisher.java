@@ -0,0 +1,214 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.monitor;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.wayang.core.api.Configuration;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Decouples progress reporting from the execution: Executors {@link #report(String, long, long, long, boolean)}
+ * progress events into a lock-free {@link ProgressEventBuffer}. A background thread drains it periodically,
+ * coalesces the events per operator, and publishes a {@link ProgressSnapshot} to all {@link Monitor}s if anything
+ * changed.
+ */
+public class ProgressPublisher {
+
+    public static final String PUBLISH_INTERVAL_PROPERTY_KEY = "wayang.core.monitor.publish.interval";
+
+    public static final String BUFFER_CAPACITY_PROPERTY_KEY = "wayang.core.monitor.buffer.capacity";
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final List<Monitor> monitors;
+
+    private final ProgressEventBuffer buffer;
+
+    private final long publishIntervalMillis;
+
+    /**
+     * The coalesced progress per operator. Only accessed by the publishing thread (or after it has been stopped).
+     */
+    private final Map<String, OperatorProgress> operatorProgresses = new LinkedHashMap<>();
+
+    private ScheduledExecutorService publishingService;
+
+    private String runId;
+
+    private volatile boolean isRunning = false;
+
+    private boolean isDirty = false;
+
+    public ProgressPublisher(Configuration configuration, Collection<Monitor> monitors) {
+        this(
+                monitors,
+                (int) configuration.getLongProperty(BUFFER_CAPACITY_PROPERTY_KEY, 4096L),
+                configuration.getLongProperty(PUBLISH_INTERVAL_PROPERTY_KEY, 500L)
+        );
+    }
+
+    public ProgressPublisher(Collection<Monitor> monitors, int bufferCapacity, long publishIntervalMillis) {
+        this.monitors = new ArrayList<>(monitors);
+        this.buffer = new ProgressEventBuffer(bufferCapacity);
+        this.publishIntervalMillis = publishIntervalMillis;
+    }
+
+    /**
+     * Initializes all {@link Monitor}s, publishes the initial (zero) progress of all operators in the execution
+     * plan, and starts the background publishing.
+     *
+     * @param configuration        used to initialize the {@link Monitor}s
+     * @param runId                identifies the run
+     * @param initialExecutionPlan the execution plan in the format of {@code ExecutionPlan#toJsonList()}
+     */
+    public synchronized void start(Configuration configuration, String runId, List<Map> initialExecutionPlan) {
+        if (this.isRunning) {
+            throw new IllegalStateException("Progress publishing has already been started.");
+        }
+        this.runId = runId;
+        for (Monitor monitor : this.monitors) {
+            try {
+                monitor.initialize(configuration, runId, initialExecutionPlan);
+            } catch (Exception e) {
+                this.logger.warn("Failed to initialize monitor {}.", monitor, e);
+            }
+        }
+        for (Map stage : initialExecutionPlan) {
+            final Object operators = stage.get("operators");
+            if (!(operators instanceof List)) continue;
+            for (Object operator : (List<?>) operators) {
+                final String name = (String) ((Map<?, ?>) operator).get("name");
+                if (name != null) {
+                    this.operatorProgresses.putIfAbsent(name, new OperatorProgress(name, 0L, 0L, -1L, false));
+                }
+            }
+        }
+        this.isDirty = true;
+        this.publish();
+
+        this.publishingService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "wayang-progress-publisher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.isRunning = true;
+        this.publishingService.scheduleWithFixedDelay(
+                this::publish, this.publishIntervalMillis, this.publishIntervalMillis, TimeUnit.MILLISECONDS
+        );
+    }
+
+    /**
+     * Reports the progress of an operator. This method is cheap and does not block, so that it can be called on
+     * the execution path. Events that do not complete an operator may be dropped if the publisher falls behind.
+     *
+     * @param operatorName       identifies the operator
+     * @param numRecords         the number of data quanta processed so far
+     * @param numBytes           the number of bytes processed so far or {@code 0} if unknown
+     * @param numExpectedRecords the total number of data quanta that the operator is expected to process or
+     *                           {@code -1} if unknown
+     * @param isCompleted        whether the operator has finished
+     */
+    public void report(String operatorName, long numRecords, long numBytes, long numExpectedRecords, boolean isCompleted) {
+        if (!this.isRunning || operatorName == null) return;
+        while (!this.buffer.offer(operatorName, numRecords, numBytes, numExpectedRecords, isCompleted)
+                && isCompleted && this.isRunning) {
+            // Completions must not get lost, but the publisher drains the buffer soon.
+            Thread.yield();
+        }
+    }
+
+    /**
+     * Drains the buffered events and publishes a new {@link ProgressSnapshot} if there are any changes.
+     */
+    private void publish() {
+        this.buffer.drain(this::coalesce);
+        if (!this.isDirty) return;
+        this.isDirty = false;
+
+        final ProgressSnapshot snapshot = new ProgressSnapshot(
+                this.runId, System.currentTimeMillis(), this.operatorProgresses.values()
+        );
+        for (Monitor monitor : this.monitors) {
+            try {
+                monitor.publish(snapshot);
+            } catch (IOException | RuntimeException e) {
+                this.logger.warn("Monitor {} failed to publish {}.", monitor, snapshot, e);
+            }
+        }
+    }
+
+    private void coalesce(String operatorName, long numRecords, long numBytes, long numExpectedRecords, boolean isCompleted) {
+        final OperatorProgress previous = this.operatorProgresses.get(operatorName);
+        if (previous != null && previous.isCompleted() && !isCompleted) {
+            // Ignore stale events, e.g., from concurrent tasks of the same operator.
+            return;
+        }
+        this.operatorProgresses.put(operatorName, new OperatorProgress(
+                operatorName,
+                numRecords,
+                numBytes,
+                numExpectedRecords < 0 && previous != null ? previous.getNumExpectedRecords() : numExpectedRecords,
+                isCompleted
+        ));
+        this.isDirty = true;
+    }
+
+    /**
+     * Stops the background publishing, publishes the final progress, and closes all {@link Monitor}s.
+     */
+    public synchronized void stop() {
+        if (!this.isRunning) return;
+        this.isRunning = false;
+        this.publishingService.shutdown();
+        try {
+            if (!this.publishingService.awaitTermination(10, TimeUnit.SECONDS)) {
+                this.logger.warn("Progress publishing did not terminate in time.");
+                this.publishingService.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        this.publish();
+        if (this.buffer.getNumRejected() > 0) {
+            this.logger.info("Dropped {} progress events.", this.buffer.getNumRejected());
+        }
+        for (Monitor monitor : this.monitors) {
+            try {
+                monitor.close();
+            } catch (IOException | RuntimeException e) {
+                this.logger.warn("Failed to close monitor {}.", monitor, e);
+            }
+        }
+    }
+
+    public boolean isRunning() {
+        return this.isRunning;
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.monitor;
+
+import org.apache.wayang.core.util.json.JSONObject;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable view on the progress of all operators of a job at some point in time.
+ */
+public class ProgressSnapshot {
+
+    private final String runId;
+
+    private final long timestamp;
+
+    private final List<OperatorProgress> operatorProgresses;
+
+    public ProgressSnapshot(String runId, long timestamp, Collection<OperatorProgress> operatorProgresses) {
+        this.runId = runId;
+        this.timestamp = timestamp;
+        this.operatorProgresses = Collections.unmodifiableList(new ArrayList<>(operatorProgresses));
+    }
+
+    public String getRunId() {
+        return this.runId;
+    }
+
+    public long getTimestamp() {
+        return this.timestamp;
+    }
+
+    public List<OperatorProgress> getOperatorProgresses() {
+        return this.operatorProgresses;
+    }
+
+    /**
+     * @return the overall progress in percent, weighting each operator by its (expected) number of data quanta
+     */
+    public int getOverallPercentage() {
+        if (this.operatorProgresses.isEmpty()) return 0;
+        double weightedPercentages = 0d;
+        long totalWeight = 0L;
+        for (OperatorProgress operatorProgress : this.operatorProgresses) {
+            final long weight = Math.max(1L, Math.max(operatorProgress.getNumRecords(), operatorProgress.getNumExpectedRecords()));
+            weightedPercentages += weight * (double) operatorProgress.getPercentage();
+            totalWeight += weight;
+        }
+        return (int) (weightedPercentages / totalWeight);
+    }
+
+    /**
+     * @return the progress in percent per operator name
+     */
+    public HashMap<String, Integer> getPercentages() {
+        HashMap<String, Integer> percentages = new LinkedHashMap<>();
+        for (OperatorProgress operatorProgress : this.operatorProgresses) {
+            percentages.put(operatorProgress.getOperatorName(), operatorProgress.getPercentage());
+        }
+        return percentages;
+    }
+
+    public JSONObject toJson() {
+        Map<String, Object> details = new LinkedHashMap<>();
+        Map<String, Object> operators = new LinkedHashMap<>();
+        for (OperatorProgress operatorProgress : this.operatorProgresses) {
+            details.put(operatorProgress.getOperatorName(), operatorProgress.getPercentage());
+            Map<String, Object> operator = new LinkedHashMap<>();
+            operator.put("records", operatorProgress.getNumRecords());
+            operator.put("bytes", operatorProgress.getNumBytes());
+            operator.put("expected_records", operatorProgress.getNumExpectedRecords());
+            operator.put("completed", operatorProgress.isCompleted());
+            operators.put(operatorProgress.getOperatorName(), operator);
+        }
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("run_id", this.runId);
+        json.put("timestamp", this.timestamp);
+        json.put("overall", this.getOverallPercentage());
+        json.put("details", details);
+        json.put("operators", operators);
+        return new JSONObject(json);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s, %d%%]", this.getClass().getSimpleName(), this.runId, this.getOverallPercentage());
+    }
+
+}
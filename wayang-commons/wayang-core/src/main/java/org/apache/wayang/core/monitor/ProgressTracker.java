@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.monitor;
+
+import org.apache.wayang.core.api.Job;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the data quanta and bytes that an operator processes while it is running. Every so many data quanta (see
+ * {@value #REPORT_INTERVAL_PROPERTY_KEY}), it reports the counts to the {@link Job}, so that the progress advances
+ * incrementally rather than only when the operator has finished. Can be fed concurrently.
+ */
+public class ProgressTracker {
+
+    public static final String REPORT_INTERVAL_PROPERTY_KEY = "wayang.core.monitor.report.interval";
+
+    private final Job job;
+
+    private final String operatorName;
+
+    private final long numExpectedRecords;
+
+    private final long reportInterval;
+
+    private final AtomicLong numRecords = new AtomicLong(), numBytes = new AtomicLong();
+
+    private final AtomicBoolean isCompleted = new AtomicBoolean(false);
+
+    /**
+     * Creates a new instance.
+     *
+     * @param job                receives the progress reports
+     * @param operatorName       identifies the operator
+     * @param numExpectedRecords the number of data quanta that the operator is expected to process or {@code -1}
+     */
+    public ProgressTracker(Job job, String operatorName, long numExpectedRecords) {
+        this.job = job;
+        this.operatorName = operatorName;
+        this.numExpectedRecords = numExpectedRecords;
+        this.reportInterval = Math.max(1L, job.getConfiguration().getLongProperty(REPORT_INTERVAL_PROPERTY_KEY, 10000L));
+    }
+
+    /**
+     * Reports that the operator has started.
+     */
+    public void start() {
+        this.report();
+    }
+
+    /**
+     * Counts a single processed data quantum.
+     */
+    public void addRecord() {
+        this.addRecords(1L);
+    }
+
+    /**
+     * Counts processed data quanta and reports the progress if a {@link #reportInterval} boundary is crossed.
+     *
+     * @param numRecords the number of processed data quanta
+     */
+    public void addRecords(long numRecords) {
+        if (numRecords <= 0) return;
+        final long newNumRecords = this.numRecords.addAndGet(numRecords);
+        if ((newNumRecords - numRecords) / this.reportInterval != newNumRecords / this.reportInterval) {
+            this.report();
+        }
+    }
+
+    /**
+     * Counts processed bytes. They are reported along with the next data quanta.
+     *
+     * @param numBytes the number of processed bytes
+     */
+    public void addBytes(long numBytes) {
+        if (numBytes > 0) this.numBytes.addAndGet(numBytes);
+    }
+
+    /**
+     * Reports that the operator has finished. Subsequent calls have no effect.
+     */
+    public void complete() {
+        if (this.isCompleted.compareAndSet(false, true)) {
+            this.job.reportProgress(
+                    this.operatorName, this.numRecords.get(), this.numBytes.get(), this.numExpectedRecords, true
+            );
+        }
+    }
+
+    private void report() {
+        if (this.isCompleted.get()) return;
+        this.job.reportProgress(
+                this.operatorName, this.numRecords.get(), this.numBytes.get(), this.numExpectedRecords, false
+        );
+    }
+
+    public long getNumRecords() {
+        return this.numRecords.get();
+    }
+
+    public long getNumBytes() {
+        return this.numBytes.get();
+    }
+
+    public boolean isCompleted() {
+        return this.isCompleted.get();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s: %d records, %d bytes%s]", this.getClass().getSimpleName(),
+                this.operatorName, this.numRecords.get(), this.numBytes.get(), this.isCompleted() ? ", completed" : "");
+    }
+
+}
@@ -19,6 +19,10 @@
 package org.apache.wayang.core.monitor;
 
 import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.util.json.JSONObject;
+import org.zeromq.SocketType;
+import org.zeromq.ZContext;
+import org.zeromq.ZMQ;
 
 import java.io.IOException;
 import java.util.HashMap;
@@ -26,17 +30,77 @@ import java.util.List;
 import java.util.Map;
 
 /**
- * TODO: Implement
+ * {@link Monitor} that publishes the execution plan and the progress of a run on a ZeroMQ {@code PUB} socket.
+ * Each message consists of a topic frame ({@value #EXECPLAN_TOPIC} or {@value #PROGRESS_TOPIC}) and a JSON frame.
  */
-
 public class ZeroMQMonitor extends Monitor {
+
+    public static final String ZEROMQ_ENDPOINT_PROPERTY_KEY = "wayang.core.monitor.zeromq.endpoint";
+
+    public static final String EXECPLAN_TOPIC = "execplan";
+
+    public static final String PROGRESS_TOPIC = "progress";
+
+    private ZContext context;
+
+    private ZMQ.Socket socket;
+
     @Override
     public void initialize(Configuration config, String runId, List<Map> initialExecutionPlan) throws IOException {
+        this.initialExecutionPlan = initialExecutionPlan;
+        this.runId = runId;
+        final String endpoint = config.getStringProperty(ZEROMQ_ENDPOINT_PROPERTY_KEY, "tcp://*:5556");
+        this.context = new ZContext();
+        this.socket = this.context.createSocket(SocketType.PUB);
+        this.socket.setLinger(0);
+        try {
+            this.socket.bind(endpoint);
+        } catch (RuntimeException e) {
+            this.context.close();
+            throw new IOException(String.format("Could not bind to %s.", endpoint), e);
+        }
+
+        HashMap<String, Object> jsonPlanMap = new HashMap<>();
+        jsonPlanMap.put("stages", initialExecutionPlan);
+        jsonPlanMap.put("run_id", runId);
+        this.send(EXECPLAN_TOPIC, new JSONObject(jsonPlanMap));
+    }
 
+    /**
+     * @return the endpoint that this instance is bound to, e.g., with the actual port if a wildcard was configured
+     */
+    public String getEndpoint() {
+        return this.socket == null ? null : this.socket.getLastEndpoint();
     }
 
     @Override
     public void updateProgress(HashMap<String, Integer> partialProgress) throws IOException {
+        HashMap<String, Object> progressBar = new HashMap<>();
+        progressBar.put("run_id", this.runId);
+        progressBar.put("details", partialProgress);
+        this.send(PROGRESS_TOPIC, new JSONObject(progressBar));
+    }
+
+    @Override
+    public void publish(ProgressSnapshot snapshot) throws IOException {
+        this.send(PROGRESS_TOPIC, snapshot.toJson());
+    }
+
+    private void send(String topic, JSONObject json) throws IOException {
+        if (this.socket == null) {
+            throw new IOException("The monitor has not been initialized.");
+        }
+        if (!this.socket.sendMore(topic) || !this.socket.send(json.toString())) {
+            throw new IOException(String.format("Could not publish %s message.", topic));
+        }
+    }
 
+    @Override
+    public void close() {
+        if (this.context != null) {
+            this.context.close();
+            this.context = null;
+            this.socket = null;
+        }
     }
 }
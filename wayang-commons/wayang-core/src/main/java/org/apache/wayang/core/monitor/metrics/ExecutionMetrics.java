@@ -0,0 +1,338 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.monitor.metrics;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.plan.executionplan.ExecutionTask;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.Platform;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/**
+ * Records execution metrics of {@link ExecutionTask}s and {@code ExecutionStage}s in a {@link MetricsRegistry}.
+ * Time is recorded in microseconds and exported in seconds.
+ */
+public class ExecutionMetrics {
+
+    public static final String METRICS_ENABLED_PROPERTY_KEY = "wayang.core.metrics.enabled";
+
+    public static final String JMX_ENABLED_PROPERTY_KEY = "wayang.core.metrics.jmx.enabled";
+
+    public static final String PROMETHEUS_HOST_PROPERTY_KEY = "wayang.core.metrics.prometheus.host";
+
+    public static final String PROMETHEUS_PORT_PROPERTY_KEY = "wayang.core.metrics.prometheus.port";
+
+    private static final double MICROS_PER_SECOND = 1_000_000d;
+
+    private static final Logger logger = LogManager.getLogger(ExecutionMetrics.class);
+
+    private static ExecutionMetrics defaultInstance;
+
+    private static JmxMetricsExporter jmxExporter;
+
+    private static PrometheusMetricsExporter prometheusExporter;
+
+    private final MetricsRegistry registry;
+
+    private final MetricFamily<Counter> taskExecutions, taskRecordsIn, taskRecordsOut, taskBytesRead, taskBytesWritten,
+            taskGcTime, taskSpilledBytes, taskHashTableBytes, stageExecutions, stageRecordsIn, stageRecordsOut,
+            instrumentedChannels, instrumentedRecords, taskRetries, checkpoints, speculativeAttempts;
+
+    private final MetricFamily<Histogram> taskWallTime, taskCpuTime, conversionTime, stageWallTime, checkpointWriteTime;
+
+    private final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+
+    public ExecutionMetrics(MetricsRegistry registry) {
+        this.registry = registry;
+        this.taskExecutions = registry.counter(
+                "wayang_task_executions_total", "Number of executed tasks.", "platform", "operator"
+        );
+        this.taskRecordsIn = registry.counter(
+                "wayang_task_records_in_total", "Data quanta consumed by tasks.", "platform", "operator"
+        );
+        this.taskRecordsOut = registry.counter(
+                "wayang_task_records_out_total", "Data quanta produced by tasks.", "platform", "operator"
+        );
+        this.taskBytesRead = registry.counter(
+                "wayang_task_bytes_read_total", "Bytes read by tasks.", "platform", "operator"
+        );
+        this.taskBytesWritten = registry.counter(
+                "wayang_task_bytes_written_total", "Bytes written by tasks.", "platform", "operator"
+        );
+        this.taskGcTime = registry.counter(
+                "wayang_task_gc_time_milliseconds_total", "Garbage collection time during tasks.", "platform", "operator"
+        );
+        this.taskSpilledBytes = registry.counter(
+                "wayang_task_spilled_bytes_total", "Bytes spilled to disk by tasks.", "platform", "operator"
+        );
+        this.taskHashTableBytes = registry.counter(
+                "wayang_task_hash_table_bytes_total", "Bytes allocated for hash tables by tasks.", "platform", "operator"
+        );
+        this.taskWallTime = registry.histogram(
+                "wayang_task_wall_time_seconds", "Wall-clock time of tasks.", MICROS_PER_SECOND, "platform", "operator"
+        );
+        this.taskCpuTime = registry.histogram(
+                "wayang_task_cpu_time_seconds", "CPU time of tasks.", MICROS_PER_SECOND, "platform", "operator"
+        );
+        this.conversionTime = registry.histogram(
+                "wayang_channel_conversion_time_seconds", "Wall-clock time of channel conversions.", MICROS_PER_SECOND,
+                "platform", "operator"
+        );
+        this.stageExecutions = registry.counter(
+                "wayang_stage_executions_total", "Number of executed stages.", "platform"
+        );
+        this.stageRecordsIn = registry.counter(
+                "wayang_stage_records_in_total", "Data quanta consumed by the start tasks of stages.", "platform"
+        );
+        this.stageRecordsOut = registry.counter(
+                "wayang_stage_records_out_total", "Data quanta produced by the terminal tasks of stages.", "platform"
+        );
+        this.stageWallTime = registry.histogram(
+                "wayang_stage_wall_time_seconds", "Wall-clock time of stages.", MICROS_PER_SECOND, "platform"
+        );
+        this.instrumentedChannels = registry.counter(
+                "wayang_instrumented_channels_total", "Channels instrumented to measure their cardinality.",
+                "platform", "mode"
+        );
+        this.instrumentedRecords = registry.counter(
+                "wayang_instrumented_records_total", "Data quanta counted one by one by the instrumentation.",
+                "platform", "mode"
+        );
+        this.taskRetries = registry.counter(
+                "wayang_task_retries_total", "Repeated attempts to execute failed tasks.", "platform", "operator"
+        );
+        this.checkpoints = registry.counter(
+                "wayang_checkpoints_total", "Channels written to durable storage.", "platform", "format"
+        );
+        this.speculativeAttempts = registry.counter(
+                "wayang_speculative_attempts_total", "Backup attempts launched for slow stages.", "platform", "outcome"
+        );
+        this.checkpointWriteTime = registry.histogram(
+                "wayang_checkpoint_write_time_seconds", "Wall-clock time of writing checkpoints.", MICROS_PER_SECOND,
+                "platform", "format"
+        );
+    }
+
+    /**
+     * Provides the JVM-wide instance if metrics are enabled in the {@link Configuration} and starts the configured
+     * exporters on first use.
+     *
+     * @return the instance or {@code null} if metrics are disabled
+     */
+    public static synchronized ExecutionMetrics fromConfiguration(Configuration configuration) {
+        if (!configuration.getBooleanProperty(METRICS_ENABLED_PROPERTY_KEY, false)) {
+            return null;
+        }
+        if (defaultInstance == null) {
+            defaultInstance = new ExecutionMetrics(MetricsRegistry.getDefault());
+        }
+        if (jmxExporter == null && configuration.getBooleanProperty(JMX_ENABLED_PROPERTY_KEY, true)) {
+            jmxExporter = new JmxMetricsExporter(MetricsRegistry.getDefault());
+            try {
+                jmxExporter.start(JmxMetricsExporter.DEFAULT_OBJECT_NAME);
+            } catch (Exception e) {
+                logger.warn("Could not register metrics with JMX.", e);
+            }
+        }
+        final long port = configuration.getLongProperty(PROMETHEUS_PORT_PROPERTY_KEY, -1L);
+        if (prometheusExporter == null && port >= 0) {
+            prometheusExporter = new PrometheusMetricsExporter(MetricsRegistry.getDefault());
+            final String host = configuration.getStringProperty(PROMETHEUS_HOST_PROPERTY_KEY, "127.0.0.1");
+            try {
+                prometheusExporter.start(host, (int) port);
+                logger.info("Serving metrics on http://{}:{}/metrics.", host, prometheusExporter.getPort());
+            } catch (Exception e) {
+                logger.warn("Could not serve metrics on {}:{}.", host, port, e);
+            }
+        }
+        return defaultInstance;
+    }
+
+    public MetricsRegistry getRegistry() {
+        return this.registry;
+    }
+
+    /**
+     * Captures the resource usage of the current thread before executing a task.
+     *
+     * @return a {@link TaskMeasurement} to be passed to {@link #recordTask(Platform, ExecutionTask, TaskMeasurement, long, long)}
+     */
+    public TaskMeasurement startTask() {
+        return new TaskMeasurement(System.nanoTime(), this.getCurrentThreadCpuTime(), getTotalGcTime());
+    }
+
+    /**
+     * Records a task that has been executed on the current thread after {@link #startTask()}.
+     *
+     * @param numRecordsIn  the number of consumed data quanta or {@code -1} if unknown
+     * @param numRecordsOut the number of produced data quanta or {@code -1} if unknown
+     */
+    public void recordTask(Platform platform,
+                           ExecutionTask task,
+                           TaskMeasurement measurement,
+                           long numRecordsIn,
+                           long numRecordsOut) {
+        final String platformLabel = platform.getName();
+        final String operatorLabel = getOperatorLabel(task.getOperator());
+        final long wallMicros = (System.nanoTime() - measurement.startNanos) / 1000;
+
+        this.taskExecutions.labels(platformLabel, operatorLabel).increment();
+        this.taskWallTime.labels(platformLabel, operatorLabel).record(wallMicros);
+        if (measurement.startCpuNanos >= 0) {
+            final long cpuNanos = this.getCurrentThreadCpuTime() - measurement.startCpuNanos;
+            this.taskCpuTime.labels(platformLabel, operatorLabel).record(cpuNanos / 1000);
+        }
+        final long gcMillis = getTotalGcTime() - measurement.startGcMillis;
+        if (gcMillis > 0) this.taskGcTime.labels(platformLabel, operatorLabel).add(gcMillis);
+        if (numRecordsIn > 0) this.taskRecordsIn.labels(platformLabel, operatorLabel).add(numRecordsIn);
+        if (numRecordsOut > 0) this.taskRecordsOut.labels(platformLabel, operatorLabel).add(numRecordsOut);
+        if (task.getOperator().isAuxiliary()) {
+            this.conversionTime.labels(platformLabel, operatorLabel).record(wallMicros);
+        }
+    }
+
+    /**
+     * Records work that a platform has carried out remotely on behalf of an operator, e.g., reported by the
+     * platform's own task metrics. Negative values are ignored.
+     */
+    public void recordRemoteWork(String platformName,
+                                 String operatorName,
+                                 long cpuNanos,
+                                 long gcMillis,
+                                 long spilledBytes,
+                                 long bytesRead,
+                                 long bytesWritten) {
+        if (cpuNanos >= 0) this.taskCpuTime.labels(platformName, operatorName).record(cpuNanos / 1000);
+        if (gcMillis > 0) this.taskGcTime.labels(platformName, operatorName).add(gcMillis);
+        this.recordSpill(platformName, operatorName, spilledBytes);
+        if (bytesRead > 0) this.taskBytesRead.labels(platformName, operatorName).add(bytesRead);
+        if (bytesWritten > 0) this.taskBytesWritten.labels(platformName, operatorName).add(bytesWritten);
+    }
+
+    /**
+     * Records that an operator has spilled data to disk.
+     */
+    public void recordSpill(String platformName, String operatorName, long spilledBytes) {
+        if (spilledBytes > 0) this.taskSpilledBytes.labels(platformName, operatorName).add(spilledBytes);
+    }
+
+    /**
+     * Records that an operator has allocated a hash table.
+     */
+    public void recordHashTable(String platformName, String operatorName, long hashTableBytes) {
+        if (hashTableBytes > 0) this.taskHashTableBytes.labels(platformName, operatorName).add(hashTableBytes);
+    }
+
+    /**
+     * Records an executed {@code ExecutionStage}.
+     *
+     * @param wallNanos     the wall-clock time of the execution
+     * @param numRecordsIn  the number of data quanta consumed by the start tasks
+     * @param numRecordsOut the number of data quanta produced by the terminal tasks
+     */
+    public void recordStage(Platform platform, long wallNanos, long numRecordsIn, long numRecordsOut) {
+        final String platformLabel = platform.getName();
+        this.stageExecutions.labels(platformLabel).increment();
+        this.stageWallTime.labels(platformLabel).record(wallNanos / 1000);
+        if (numRecordsIn > 0) this.stageRecordsIn.labels(platformLabel).add(numRecordsIn);
+        if (numRecordsOut > 0) this.stageRecordsOut.labels(platformLabel).add(numRecordsOut);
+    }
+
+    /**
+     * Records the instrumentation of a {@code Channel}. The number of individually counted data quanta serves as a
+     * proxy for the instrumentation overhead.
+     *
+     * @param isSampled            whether the cardinality was only approximated
+     * @param numCountedDataQuanta the number of data quanta that were counted one by one
+     */
+    public void recordInstrumentation(Platform platform, boolean isSampled, long numCountedDataQuanta) {
+        final String platformLabel = platform.getName();
+        final String modeLabel = isSampled ? "sampled" : "exact";
+        this.instrumentedChannels.labels(platformLabel, modeLabel).increment();
+        if (numCountedDataQuanta > 0) {
+            this.instrumentedRecords.labels(platformLabel, modeLabel).add(numCountedDataQuanta);
+        }
+    }
+
+    /**
+     * Records that a failed task is executed once more.
+     */
+    public void recordRetry(Platform platform, ExecutionTask task) {
+        this.taskRetries.labels(platform.getName(), getOperatorLabel(task.getOperator())).increment();
+    }
+
+    /**
+     * Records that a {@code Channel} has been checkpointed.
+     *
+     * @param format    the name of the checkpoint format
+     * @param wallNanos the wall-clock time of writing the checkpoint
+     */
+    public void recordCheckpoint(Platform platform, String format, long wallNanos) {
+        this.checkpoints.labels(platform.getName(), format).increment();
+        this.checkpointWriteTime.labels(platform.getName(), format).record(wallNanos / 1000);
+    }
+
+    /**
+     * Records the outcome of a speculative attempt to execute a slow stage.
+     *
+     * @param outcome whether the attempt {@code won}, {@code lost}, or {@code failed}
+     */
+    public void recordSpeculation(Platform platform, String outcome) {
+        this.speculativeAttempts.labels(platform.getName(), outcome).increment();
+    }
+
+    /**
+     * @return the name of the {@code operator} or, if it has none, its class name
+     */
+    public static String getOperatorLabel(ExecutionOperator operator) {
+        return operator.getName() == null ? operator.getClass().getSimpleName() : operator.getName();
+    }
+
+    private long getCurrentThreadCpuTime() {
+        return this.threadMXBean.isCurrentThreadCpuTimeSupported() ? this.threadMXBean.getCurrentThreadCpuTime() : -1L;
+    }
+
+    private static long getTotalGcTime() {
+        long totalGcTime = 0L;
+        for (GarbageCollectorMXBean garbageCollector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            totalGcTime += Math.max(0L, garbageCollector.getCollectionTime());
+        }
+        return totalGcTime;
+    }
+
+    /**
+     * Resource usage of a thread at the start of a task.
+     */
+    public static class TaskMeasurement {
+
+        private final long startNanos, startCpuNanos, startGcMillis;
+
+        private TaskMeasurement(long startNanos, long startCpuNanos, long startGcMillis) {
+            this.startNanos = startNanos;
+            this.startCpuNanos = startCpuNanos;
+            this.startGcMillis = startGcMillis;
+        }
+    }
+
+}
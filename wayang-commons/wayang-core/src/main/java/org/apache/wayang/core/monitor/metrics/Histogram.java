@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.monitor.metrics;
+
+import org.HdrHistogram.ConcurrentHistogram;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * {@link Metric} that tracks the distribution of non-negative values in an HDR histogram, i.e., with a bounded
+ * relative error over the whole value range.
+ */
+public class Histogram implements Metric {
+
+    private final ConcurrentHistogram histogram = new ConcurrentHistogram(3);
+
+    private final LongAdder sum = new LongAdder();
+
+    /**
+     * Recorded values are divided by this factor for export, e.g., to record microseconds but export seconds.
+     */
+    private final double unitScale;
+
+    public Histogram(double unitScale) {
+        this.unitScale = unitScale;
+    }
+
+    public void record(long value) {
+        final long clippedValue = Math.max(0L, value);
+        this.histogram.recordValue(clippedValue);
+        this.sum.add(clippedValue);
+    }
+
+    public long getCount() {
+        return this.histogram.getTotalCount();
+    }
+
+    /**
+     * @return the sum of all recorded values in the export unit
+     */
+    public double getSum() {
+        return this.sum.sum() / this.unitScale;
+    }
+
+    /**
+     * @param percentile in {@code [0, 100]}
+     * @return the value at the given percentile in the export unit
+     */
+    public double getValueAtPercentile(double percentile) {
+        return this.histogram.getValueAtPercentile(percentile) / this.unitScale;
+    }
+
+    public double getMean() {
+        return this.histogram.getMean() / this.unitScale;
+    }
+
+    public double getMax() {
+        return this.histogram.getMaxValue() / this.unitScale;
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.monitor.metrics;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * Exposes the contents of a {@link MetricsRegistry} as a read-only {@link DynamicMBean}. There is one attribute per
+ * {@link Counter} and per statistic of a {@link Histogram}, e.g., {@code wayang_task_wall_time_seconds{...}.p99}.
+ */
+public class JmxMetricsExporter implements DynamicMBean {
+
+    public static final String DEFAULT_OBJECT_NAME = "org.apache.wayang:type=Metrics";
+
+    private final MetricsRegistry registry;
+
+    private ObjectName objectName;
+
+    public JmxMetricsExporter(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Registers this instance with the platform {@link MBeanServer}.
+     */
+    public synchronized void start(String objectName) throws JMException {
+        final ObjectName name = new ObjectName(objectName);
+        final MBeanServer mBeanServer = ManagementFactory.getPlatformMBeanServer();
+        if (mBeanServer.isRegistered(name)) {
+            mBeanServer.unregisterMBean(name);
+        }
+        mBeanServer.registerMBean(this, name);
+        this.objectName = name;
+    }
+
+    public synchronized void stop() throws JMException {
+        if (this.objectName != null) {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(this.objectName);
+            this.objectName = null;
+        }
+    }
+
+    /**
+     * @return suppliers for the current values of all attributes by the attribute names
+     */
+    private Map<String, Supplier<Object>> collectAttributes() {
+        Map<String, Supplier<Object>> attributes = new LinkedHashMap<>();
+        for (MetricFamily<?> family : this.registry.getFamilies()) {
+            for (Map.Entry<List<String>, ? extends Metric> entry : family.getMetrics().entrySet()) {
+                final String name = formatName(family, entry.getKey());
+                final Metric metric = entry.getValue();
+                if (metric instanceof Counter) {
+                    attributes.put(name, ((Counter) metric)::get);
+                } else if (metric instanceof Histogram) {
+                    final Histogram histogram = (Histogram) metric;
+                    attributes.put(name + ".count", histogram::getCount);
+                    attributes.put(name + ".mean", histogram::getMean);
+                    attributes.put(name + ".p50", () -> histogram.getValueAtPercentile(50));
+                    attributes.put(name + ".p99", () -> histogram.getValueAtPercentile(99));
+                    attributes.put(name + ".max", histogram::getMax);
+                }
+            }
+        }
+        return attributes;
+    }
+
+    private static String formatName(MetricFamily<?> family, List<String> labelValues) {
+        if (labelValues.isEmpty()) return family.getName();
+        StringBuilder sb = new StringBuilder(family.getName()).append('{');
+        for (int i = 0; i < labelValues.size(); i++) {
+            if (i > 0) sb.append(',');
+            sb.append(family.getLabelNames().get(i)).append('=').append(labelValues.get(i));
+        }
+        return sb.append('}').toString();
+    }
+
+    @Override
+    public Object getAttribute(String attribute) throws AttributeNotFoundException {
+        final Supplier<Object> supplier = this.collectAttributes().get(attribute);
+        if (supplier == null) {
+            throw new AttributeNotFoundException(attribute);
+        }
+        return supplier.get();
+    }
+
+    @Override
+    public AttributeList getAttributes(String[] attributes) {
+        final Map<String, Supplier<Object>> suppliers = this.collectAttributes();
+        AttributeList attributeList = new AttributeList();
+        for (String attribute : attributes) {
+            final Supplier<Object> supplier = suppliers.get(attribute);
+            if (supplier != null) {
+                attributeList.add(new Attribute(attribute, supplier.get()));
+            }
+        }
+        return attributeList;
+    }
+
+    @Override
+    public void setAttribute(Attribute attribute) {
+        throw new UnsupportedOperationException("Metrics are read-only.");
+    }
+
+    @Override
+    public AttributeList setAttributes(AttributeList attributes) {
+        return new AttributeList();
+    }
+
+    @Override
+    public Object invoke(String actionName, Object[] params, String[] signature) {
+        throw new UnsupportedOperationException("Metrics do not provide operations.");
+    }
+
+    @Override
+    public MBeanInfo getMBeanInfo() {
+        List<MBeanAttributeInfo> attributeInfos = new ArrayList<>();
+        this.collectAttributes().forEach((name, supplier) -> attributeInfos.add(new MBeanAttributeInfo(
+                name,
+                supplier.get().getClass().getName(),
+                name,
+                true,
+                false,
+                false
+        )));
+        return new MBeanInfo(
+                this.getClass().getName(),
+                "Wayang execution metrics",
+                attributeInfos.toArray(new MBeanAttributeInfo[0]),
+                null,
+                null,
+                null
+        );
+    }
+
+}
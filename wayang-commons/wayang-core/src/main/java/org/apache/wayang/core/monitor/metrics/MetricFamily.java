@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.monitor.metrics;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * A named group of {@link Metric}s of the same type that are distinguished by the values of a fixed set of labels.
+ *
+ * @param <M> the type of {@link Metric}s
+ */
+public class MetricFamily<M extends Metric> {
+
+    /**
+     * Describes how the {@link Metric}s are to be interpreted.
+     */
+    public enum Type {
+
+        COUNTER("counter"),
+
+        /**
+         * {@link Histogram}s, which are exported with quantiles, sum, and count.
+         */
+        SUMMARY("summary");
+
+        private final String exportName;
+
+        Type(String exportName) {
+            this.exportName = exportName;
+        }
+
+        public String getExportName() {
+            return this.exportName;
+        }
+    }
+
+    private final String name, help;
+
+    private final Type type;
+
+    private final List<String> labelNames;
+
+    private final Supplier<M> metricFactory;
+
+    private final Map<List<String>, M> metrics = new ConcurrentHashMap<>();
+
+    MetricFamily(String name, String help, Type type, String[] labelNames, Supplier<M> metricFactory) {
+        this.name = name;
+        this.help = help;
+        this.type = type;
+        this.labelNames = Collections.unmodifiableList(Arrays.asList(labelNames.clone()));
+        this.metricFactory = metricFactory;
+    }
+
+    /**
+     * Provides the {@link Metric} for the given label values, creating it if necessary.
+     *
+     * @param labelValues one value for each of the {@link #getLabelNames()}
+     * @return the {@link Metric}
+     */
+    public M labels(String... labelValues) {
+        if (labelValues.length != this.labelNames.size()) {
+            throw new IllegalArgumentException(String.format(
+                    "%s requires values for %s, but got %s.", this.name, this.labelNames, Arrays.toString(labelValues)
+            ));
+        }
+        final List<String> key = Arrays.asList(labelValues);
+        final M metric = this.metrics.get(key);
+        return metric != null ? metric : this.metrics.computeIfAbsent(key, k -> this.metricFactory.get());
+    }
+
+    public String getName() {
+        return this.name;
+    }
+
+    public String getHelp() {
+        return this.help;
+    }
+
+    public Type getType() {
+        return this.type;
+    }
+
+    public List<String> getLabelNames() {
+        return this.labelNames;
+    }
+
+    /**
+     * @return the {@link Metric}s of this instance by their label values
+     */
+    public Map<List<String>, M> getMetrics() {
+        return Collections.unmodifiableMap(this.metrics);
+    }
+
+}
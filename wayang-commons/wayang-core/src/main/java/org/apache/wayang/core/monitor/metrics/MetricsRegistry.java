@@ -0,0 +1,83 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.monitor.metrics;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps track of {@link MetricFamily}s. There is a {@link #getDefault() default instance} per JVM, so that metrics
+ * accumulate over all jobs of a long-running application.
+ */
+public class MetricsRegistry {
+
+    private static final MetricsRegistry defaultInstance = new MetricsRegistry();
+
+    private final Map<String, MetricFamily<?>> families = new ConcurrentHashMap<>();
+
+    public static MetricsRegistry getDefault() {
+        return defaultInstance;
+    }
+
+    /**
+     * Provides the {@link MetricFamily} of {@link Counter}s with the given name, creating it if necessary.
+     */
+    public MetricFamily<Counter> counter(String name, String help, String... labelNames) {
+        return this.register(name, help, MetricFamily.Type.COUNTER, labelNames, Counter::new);
+    }
+
+    /**
+     * Provides the {@link MetricFamily} of {@link Histogram}s with the given name, creating it if necessary.
+     *
+     * @param unitScale recorded values are divided by this factor for export
+     */
+    public MetricFamily<Histogram> histogram(String name, String help, double unitScale, String... labelNames) {
+        return this.register(name, help, MetricFamily.Type.SUMMARY, labelNames, () -> new Histogram(unitScale));
+    }
+
+    @SuppressWarnings("unchecked")
+    private <M extends Metric> MetricFamily<M> register(String name,
+                                                        String help,
+                                                        MetricFamily.Type type,
+                                                        String[] labelNames,
+                                                        Supplier<M> metricFactory) {
+        final MetricFamily<?> family = this.families.computeIfAbsent(
+                name, key -> new MetricFamily<>(name, help, type, labelNames, metricFactory)
+        );
+        if (family.getType() != type || family.getLabelNames().size() != labelNames.length) {
+            throw new IllegalArgumentException(String.format("%s has already been registered differently.", name));
+        }
+        return (MetricFamily<M>) family;
+    }
+
+    /**
+     * @return all registered {@link MetricFamily}s ordered by name
+     */
+    public Collection<MetricFamily<?>> getFamilies() {
+        List<MetricFamily<?>> families = new ArrayList<>(this.families.values());
+        families.sort(Comparator.comparing(MetricFamily::getName));
+        return families;
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.monitor.metrics;
+
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Serves the contents of a {@link MetricsRegistry} in the Prometheus text exposition format under {@code /metrics}.
+ */
+public class PrometheusMetricsExporter {
+
+    public static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final MetricsRegistry registry;
+
+    private HttpServer server;
+
+    public PrometheusMetricsExporter(MetricsRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Starts serving the metrics.
+     *
+     * @param host the host to bind to, e.g., {@code 127.0.0.1}
+     * @param port the port to bind to or {@code 0} for any free port
+     */
+    public synchronized void start(String host, int port) throws IOException {
+        if (this.server != null) {
+            throw new IllegalStateException("The exporter has already been started.");
+        }
+        this.server = HttpServer.create(new InetSocketAddress(host, port), 0);
+        this.server.createContext("/metrics", exchange -> {
+            try {
+                final byte[] body = this.scrape().getBytes(StandardCharsets.UTF_8);
+                exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPE);
+                exchange.sendResponseHeaders(200, body.length);
+                try (OutputStream out = exchange.getResponseBody()) {
+                    out.write(body);
+                }
+            } finally {
+                exchange.close();
+            }
+        });
+        // The dispatcher thread inherits the daemon status from the starting thread and must not keep the JVM alive.
+        final Thread serverThread = new Thread(this.server::start, "wayang-prometheus-exporter");
+        serverThread.setDaemon(true);
+        serverThread.start();
+        try {
+            serverThread.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return the port that this instance serves on or {@code -1} if it is not started
+     */
+    public synchronized int getPort() {
+        return this.server == null ? -1 : this.server.getAddress().getPort();
+    }
+
+    public synchronized void stop() {
+        if (this.server != null) {
+            this.server.stop(0);
+            this.server = null;
+        }
+    }
+
+    /**
+     * @return the current contents of the {@link MetricsRegistry} in the Prometheus text exposition format
+     */
+    public String scrape() {
+        StringWriter writer = new StringWriter();
+        try {
+            write(this.registry, writer);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Writes the contents of a {@link MetricsRegistry} in the Prometheus text exposition format.
+     */
+    public static void write(MetricsRegistry registry, Writer writer) throws IOException {
+        for (MetricFamily<?> family : registry.getFamilies()) {
+            writer.append("# HELP ").append(family.getName()).append(' ').append(escapeHelp(family.getHelp())).append('\n');
+            writer.append("# TYPE ").append(family.getName()).append(' ').append(family.getType().getExportName()).append('\n');
+            for (Map.Entry<List<String>, ? extends Metric> entry : family.getMetrics().entrySet()) {
+                final String labels = formatLabels(family.getLabelNames(), entry.getKey());
+                final Metric metric = entry.getValue();
+                if (metric instanceof Counter) {
+                    writeSample(writer, family.getName(), labels, ((Counter) metric).get());
+                } else if (metric instanceof Histogram) {
+                    final Histogram histogram = (Histogram) metric;
+                    for (double quantile : QUANTILES) {
+                        final String quantileLabel = String.format("quantile=\"%s\"", quantile);
+                        writeSample(
+                                writer,
+                                family.getName(),
+                                labels.isEmpty() ? quantileLabel : labels + "," + quantileLabel,
+                                histogram.getValueAtPercentile(quantile * 100)
+                        );
+                    }
+                    writeSample(writer, family.getName() + "_sum", labels, histogram.getSum());
+                    writeSample(writer, family.getName() + "_count", labels, histogram.getCount());
+                }
+            }
+        }
+    }
+
+    private static void writeSample(Writer writer, String name, String labels, double value) throws IOException {
+        writer.append(name);
+        if (!labels.isEmpty()) writer.append('{').append(labels).append('}');
+        writer.append(' ');
+        if (value == Math.rint(value) && !Double.isInfinite(value) && Math.abs(value) < 1e15) {
+            writer.append(Long.toString((long) value));
+        } else {
+            writer.append(Double.toString(value));
+        }
+        writer.append('\n');
+    }
+
+    private static String formatLabels(List<String> labelNames, List<String> labelValues) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < labelNames.size(); i++) {
+            if (i > 0) sb.append(',');
+            sb.append(labelNames.get(i)).append("=\"").append(escapeLabelValue(labelValues.get(i))).append('"');
+        }
+        return sb.toString();
+    }
+
+    private static String escapeLabelValue(String value) {
+        if (value == null) return "";
+        return value.replace("\\", "\\\\").replace("\"", "\\\"").replace("\n", "\\n");
+    }
+
+    private static String escapeHelp(String help) {
+        return help.replace("\\", "\\\\").replace("\n", "\\n");
+    }
+
+}
@@ -51,9 +51,12 @@ import org.apache.logging.log4j.Logger;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -401,6 +404,12 @@ public abstract class OptimizationContext {
          */
         private ExecutionLineageNode lineage;
 
+        /**
+         * Properties that are only determined when executing the {@link #operator}, e.g., the number of partitions.
+         * They complement the {@link Operator#getEstimationContextProperties()}. Created lazily.
+         */
+        private Map<String, Double> executionProperties;
+
         /**
          * Creates a new instance.
          */
@@ -515,6 +524,8 @@ public abstract class OptimizationContext {
 
         @Override
         public double getDoubleProperty(String propertyKey, double fallback) {
+            final Double executionProperty = this.getExecutionProperty(propertyKey);
+            if (executionProperty != null) return executionProperty;
             try {
                 return ReflectionUtils.toDouble(ReflectionUtils.getProperty(this.operator, propertyKey));
             } catch (Exception e) {
@@ -525,7 +536,35 @@ public abstract class OptimizationContext {
 
         @Override
         public Collection<String> getPropertyKeys() {
-            return this.operator.getEstimationContextProperties();
+            final Collection<String> propertyKeys = this.operator.getEstimationContextProperties();
+            synchronized (this) {
+                if (this.executionProperties == null) return propertyKeys;
+                final Set<String> allPropertyKeys = new HashSet<>(propertyKeys);
+                allPropertyKeys.addAll(this.executionProperties.keySet());
+                return allPropertyKeys;
+            }
+        }
+
+        /**
+         * Records a property that has been determined while executing the {@link #operator}, so that it is logged
+         * along with the execution and can be used for learning {@link LoadProfileEstimator}s.
+         *
+         * @param propertyKey the key of the property
+         * @param value       the value of the property
+         */
+        public synchronized void setExecutionProperty(String propertyKey, double value) {
+            if (this.executionProperties == null) this.executionProperties = new HashMap<>(2);
+            this.executionProperties.put(propertyKey, value);
+        }
+
+        /**
+         * Retrieves a property that has been determined while executing the {@link #operator}.
+         *
+         * @param propertyKey the key of the property
+         * @return the value of the property or {@code null} if it has not been recorded
+         */
+        public synchronized Double getExecutionProperty(String propertyKey) {
+            return this.executionProperties == null ? null : this.executionProperties.get(propertyKey);
         }
 
         /**
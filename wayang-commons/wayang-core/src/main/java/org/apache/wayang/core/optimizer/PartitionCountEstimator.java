@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.optimizer;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.core.platform.Platform;
+
+/**
+ * Determines the number of partitions for the output of a shuffling operator from its estimated input size, so that
+ * small shuffles are coalesced and large ones are spread out. The settings are read per {@link Platform}:
+ * <ul>
+ * <li>{@code wayang.<platform>.partitions.auto}: whether to size partitions at all (otherwise, the default number
+ * of partitions is used),</li>
+ * <li>{@code wayang.<platform>.partitions.target-mb}: the desired size of a partition,</li>
+ * <li>{@code wayang.<platform>.partitions.bytes-per-quantum}: the assumed size of a data quantum, and</li>
+ * <li>{@code wayang.<platform>.partitions.min}/{@code max}: bounds for the number of partitions (non-positive
+ * minimum: the default number of partitions; non-positive maximum: unbounded).</li>
+ * </ul>
+ * The decisions are recorded as the {@link #NUM_PARTITIONS_PROPERTY} of the
+ * {@link OptimizationContext.OperatorContext}s.
+ */
+public class PartitionCountEstimator {
+
+    /**
+     * Execution property of {@link OptimizationContext.OperatorContext}s that holds the number of partitions.
+     */
+    public static final String NUM_PARTITIONS_PROPERTY = "numPartitions";
+
+    private static final Logger logger = LogManager.getLogger(PartitionCountEstimator.class);
+
+    private final boolean isEnabled;
+
+    private final double targetBytes;
+
+    private final double bytesPerDataQuantum;
+
+    private final int minPartitions, maxPartitions;
+
+    private final int defaultNumPartitions;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param configuration        provides the settings
+     * @param platform             whose settings should be used
+     * @param defaultNumPartitions the number of partitions to use if no decision can be made
+     */
+    public PartitionCountEstimator(Configuration configuration, Platform platform, int defaultNumPartitions) {
+        this(configuration, platform, defaultNumPartitions, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param configuration        provides the settings
+     * @param platform             whose settings should be used
+     * @param defaultNumPartitions the number of partitions to use if no decision can be made
+     * @param maxNumPartitions     an upper bound for the number of partitions in addition to the configured one
+     */
+    public PartitionCountEstimator(Configuration configuration,
+                                   Platform platform,
+                                   int defaultNumPartitions,
+                                   int maxNumPartitions) {
+        final String prefix = String.format("wayang.%s.partitions.", platform.getConfigurationName());
+        this.isEnabled = configuration.getBooleanProperty(prefix + "auto", false);
+        this.targetBytes = configuration.getDoubleProperty(prefix + "target-mb", 128d) * 1024 * 1024;
+        this.bytesPerDataQuantum = configuration.getDoubleProperty(prefix + "bytes-per-quantum", 100d);
+        // Unless specified otherwise, do not go below the default parallelism, so as not to leave cores idle.
+        final long minPartitions = configuration.getLongProperty(prefix + "min", 0L);
+        this.minPartitions = (int) Math.max(1L, Math.min(
+                maxNumPartitions,
+                minPartitions <= 0 ? defaultNumPartitions : minPartitions
+        ));
+        final long maxPartitions = configuration.getLongProperty(prefix + "max", 0L);
+        this.maxPartitions = (int) Math.max(
+                this.minPartitions,
+                Math.min(maxNumPartitions, maxPartitions <= 0 ? Integer.MAX_VALUE : maxPartitions)
+        );
+        this.defaultNumPartitions = defaultNumPartitions;
+    }
+
+    /**
+     * Determines the number of partitions for the output of an operator and records it in its
+     * {@link OptimizationContext.OperatorContext}.
+     *
+     * @param operatorContext describes the operator or {@code null}
+     * @return the number of partitions
+     */
+    public int estimate(OptimizationContext.OperatorContext operatorContext) {
+        final int numPartitions = this.estimateWithoutRecording(operatorContext);
+        if (operatorContext != null) {
+            operatorContext.setExecutionProperty(NUM_PARTITIONS_PROPERTY, numPartitions);
+            logger.debug("Using {} partitions for {}.", numPartitions, operatorContext.getOperator());
+        }
+        return numPartitions;
+    }
+
+    private int estimateWithoutRecording(OptimizationContext.OperatorContext operatorContext) {
+        if (!this.isEnabled || operatorContext == null) return this.defaultNumPartitions;
+        final CardinalityEstimate[] inputCardinalities = operatorContext.getInputCardinalities();
+        if (inputCardinalities == null) return this.defaultNumPartitions;
+        double numInputDataQuanta = 0d;
+        for (CardinalityEstimate inputCardinality : inputCardinalities) {
+            // Without trustworthy estimates, we rather stick to the default.
+            if (inputCardinality == null || inputCardinality.getCorrectnessProbability() == 0d) {
+                return this.defaultNumPartitions;
+            }
+            numInputDataQuanta += inputCardinality.getGeometricMeanEstimate();
+        }
+        return this.estimate(numInputDataQuanta);
+    }
+
+    /**
+     * Determines the number of partitions for the given number of data quanta.
+     *
+     * @param numDataQuanta the number of data quanta to be partitioned
+     * @return the number of partitions
+     */
+    public int estimate(double numDataQuanta) {
+        final double numPartitions = Math.ceil(numDataQuanta * this.bytesPerDataQuantum / this.targetBytes);
+        return (int) Math.max(this.minPartitions, Math.min(this.maxPartitions, numPartitions));
+    }
+
+}
@@ -99,6 +99,46 @@ public abstract class LoadProfileToTimeConverter {
 
     }
 
+    /**
+     * Create an instance that additionally charges for the memory that {@link LoadProfile}s require beyond the
+     * given {@link ResourceCapacity}: The excess bytes are converted into time via the disk converter as though
+     * they were moved to disk {@code spillFactor} times. Hence, a spill factor of {@code 2} models writing and reading
+     * spilled data once, while higher values can penalize platforms that do not spill gracefully.
+     *
+     * @param capacity    provides the memory limit
+     * @param spillFactor how often excess bytes are moved to disk
+     * @return the new instance or this instance if the memory is not bounded
+     */
+    public LoadProfileToTimeConverter withMemoryLimit(ResourceCapacity capacity, double spillFactor) {
+        if (!capacity.isMemoryBounded() || spillFactor <= 0d) return this;
+        final long memoryBytes = capacity.getMemoryBytes();
+        final LoadProfileToTimeConverter delegate = this;
+        return new LoadProfileToTimeConverter(this.cpuConverter, this.diskCoverter, this.networkConverter) {
+
+            @Override
+            public TimeEstimate convert(LoadProfile loadProfile) {
+                final LoadEstimate ramUsage = this.sumRamUsage(loadProfile);
+                final TimeEstimate timeEstimate = delegate.convert(loadProfile);
+                if (ramUsage == null || ramUsage.getUpperEstimate() <= memoryBytes) return timeEstimate;
+                final LoadEstimate spilledBytes = new LoadEstimate(
+                        Math.round(Math.max(0L, ramUsage.getLowerEstimate() - memoryBytes) * spillFactor),
+                        Math.round((ramUsage.getUpperEstimate() - memoryBytes) * spillFactor),
+                        ramUsage.getCorrectnessProbability()
+                );
+                return timeEstimate.plus(this.diskCoverter.convert(spilledBytes));
+            }
+
+            private LoadEstimate sumRamUsage(LoadProfile loadProfile) {
+                LoadEstimate ramUsage = loadProfile.getRamUsage();
+                for (LoadProfile subprofile : loadProfile.getSubprofiles()) {
+                    ramUsage = LoadEstimate.add(ramUsage, subprofile.getRamUsage());
+                }
+                return ramUsage;
+            }
+
+        };
+    }
+
     @FunctionalInterface
     public interface ResourceTimeEstimateAggregator {
 
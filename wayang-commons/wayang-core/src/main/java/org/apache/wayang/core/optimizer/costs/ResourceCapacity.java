@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.optimizer.costs;
+
+import org.apache.wayang.core.platform.Platform;
+
+/**
+ * Describes the resources that a {@link Platform} can devote to a job: a number of executors (e.g., machines or
+ * JVMs), each of which has some cores and some memory for processing data quanta.
+ */
+public class ResourceCapacity {
+
+    /**
+     * Describes a {@link Platform} whose resources are unknown. It is not bounded in memory.
+     */
+    public static final ResourceCapacity UNKNOWN = new ResourceCapacity(1, 1, Long.MAX_VALUE);
+
+    private final int numExecutors;
+
+    private final int coresPerExecutor;
+
+    private final long memoryBytesPerExecutor;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param numExecutors           the number of executors
+     * @param coresPerExecutor       the number of cores of each executor
+     * @param memoryBytesPerExecutor the memory of each executor that is available for data quanta
+     */
+    public ResourceCapacity(int numExecutors, int coresPerExecutor, long memoryBytesPerExecutor) {
+        this.numExecutors = Math.max(1, numExecutors);
+        this.coresPerExecutor = Math.max(1, coresPerExecutor);
+        this.memoryBytesPerExecutor = Math.max(0L, memoryBytesPerExecutor);
+    }
+
+    public int getNumExecutors() {
+        return this.numExecutors;
+    }
+
+    public int getCoresPerExecutor() {
+        return this.coresPerExecutor;
+    }
+
+    public long getMemoryBytesPerExecutor() {
+        return this.memoryBytesPerExecutor;
+    }
+
+    /**
+     * @return the number of cores across all executors
+     */
+    public int getNumCores() {
+        return this.numExecutors * this.coresPerExecutor;
+    }
+
+    /**
+     * @return the memory across all executors that is available for data quanta
+     */
+    public long getMemoryBytes() {
+        if (this.memoryBytesPerExecutor > Long.MAX_VALUE / this.numExecutors) return Long.MAX_VALUE;
+        return this.numExecutors * this.memoryBytesPerExecutor;
+    }
+
+    /**
+     * @return whether this instance limits the memory at all
+     */
+    public boolean isMemoryBounded() {
+        return this.getMemoryBytes() < Long.MAX_VALUE;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%dx%d cores, %,d bytes]",
+                this.getClass().getSimpleName(), this.numExecutors, this.coresPerExecutor, this.memoryBytesPerExecutor);
+    }
+}
@@ -83,6 +83,11 @@ public abstract class Channel {
      */
     private boolean isMarkedForInstrumentation = false;
 
+    /**
+     * Flag whether the instrumentation of this instance may approximate the actual cardinality, e.g., by sampling.
+     */
+    private boolean isInstrumentationSampled = false;
+
     /**
      * Other {@link Channel}s that represent the same {@link OutputSlot}-to-{@link InputSlot} connection from a
      * {@link WayangPlan} and share properties such as {@link #getCardinalityEstimate(OptimizationContext)} and {@link #getDataSetType()}.
@@ -232,10 +237,35 @@ public abstract class Channel {
     public void markForInstrumentation() {
         this.withSiblings(false).forEach(channel -> {
             channel.isMarkedForInstrumentation = true;
+            channel.isInstrumentationSampled = false;
             LogManager.getLogger(this.getClass()).debug("Marked {} for instrumentation.", channel);
         });
     }
 
+    /**
+     * Marks this instance for instrumentation, thereby permitting an approximate measurement of its cardinality.
+     * Does not relax an exact instrumentation requested via {@link #markForInstrumentation()}.
+     */
+    public void markForSampledInstrumentation() {
+        if (this.isMarkedForInstrumentation()) return;
+        this.withSiblings(false).forEach(channel -> {
+            channel.isMarkedForInstrumentation = true;
+            channel.isInstrumentationSampled = true;
+            LogManager.getLogger(this.getClass()).debug("Marked {} for sampled instrumentation.", channel);
+        });
+    }
+
+    /**
+     * Tells whether this instance is marked for instrumentation but may approximate its cardinality.
+     *
+     * @return whether the instrumentation may be sampled
+     * @see #markForSampledInstrumentation()
+     */
+    public boolean isInstrumentationSampled() {
+        return this.isMarkedForInstrumentation()
+                && this.withSiblings(false).allMatch(sibling -> !sibling.isMarkedForInstrumentation || sibling.isInstrumentationSampled);
+    }
+
     @Override
     public String toString() {
         return String.format("%s[%s->%s]",
@@ -562,6 +562,12 @@ public interface Operator {
      */
     void addTargetPlatform(Platform platform);
 
+    /**
+     * <i>Optional operation.</i> Lift a restriction to a {@link Platform} as imposed by
+     * {@link #addTargetPlatform(Platform)}.
+     */
+    void removeTargetPlatform(Platform platform);
+
     /**
      * Convenience version of {@link Operator#propagateOutputCardinality(int, OptimizationContext.OperatorContext)},
      * where the adjacent {@link InputSlot}s reside in the same {@link OptimizationContext} as the {@code operatorContext}.
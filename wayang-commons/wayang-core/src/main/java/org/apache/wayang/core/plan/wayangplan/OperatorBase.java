@@ -220,6 +220,11 @@ public abstract class OperatorBase implements Operator {
         this.targetPlatforms.add(platform);
     }
 
+    @Override
+    public void removeTargetPlatform(Platform platform) {
+        this.targetPlatforms.remove(platform);
+    }
+
     @Override
     public void propagateOutputCardinality(int outputIndex,
                                            OptimizationContext.OperatorContext operatorContext,
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.plan.wayangplan;
+
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+
+/**
+ * Marks source {@link Operator}s that emit an unbounded sequence of data quanta, e.g., from a socket or a watched
+ * directory. {@link WayangPlan}s with such sources are executed in streaming mode: all their {@link Operator}s
+ * run continuously on a single streaming platform (see {@value #STREAMING_PLATFORM_KEY}).
+ */
+public interface UnboundedSource extends ElementaryOperator {
+
+    /**
+     * {@link Configuration} key for the name of the platform that executes streaming plans.
+     */
+    String STREAMING_PLATFORM_KEY = "wayang.core.streaming.platform";
+
+    /**
+     * {@link Configuration} key for the number of data quanta that are assumed for an unbounded source.
+     */
+    String STREAMING_CARDINALITY_KEY = "wayang.core.streaming.cardinality";
+
+    /**
+     * Provides the {@link CardinalityEstimate} for unbounded sources. As they do not have a cardinality as such,
+     * the optimizer plans with a configured number of data quanta that is representative for the job's lifetime.
+     *
+     * @param configuration provides the {@value #STREAMING_CARDINALITY_KEY}
+     * @return the {@link CardinalityEstimate}
+     */
+    static CardinalityEstimate estimateCardinality(Configuration configuration) {
+        final long cardinality = configuration.getLongProperty(STREAMING_CARDINALITY_KEY, 1000000L);
+        return new CardinalityEstimate(cardinality / 10, cardinality * 10, 0.5d);
+    }
+
+}
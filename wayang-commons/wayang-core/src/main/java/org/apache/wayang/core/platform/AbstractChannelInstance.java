@@ -18,6 +18,8 @@
 
 package org.apache.wayang.core.platform;
 
+import org.apache.wayang.core.monitor.ProgressTracker;
+import org.apache.wayang.core.monitor.metrics.ExecutionMetrics;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.plan.executionplan.ExecutionTask;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
@@ -43,6 +45,16 @@ public abstract class AbstractChannelInstance extends ExecutionResourceTemplate
 
     private ChannelLineageNode lineage;
 
+    /**
+     * The {@link Executor} that maintains this instance or {@code null} if none.
+     */
+    private final Executor executor;
+
+    /**
+     * Counts the data quanta that the producing {@link ExecutionOperator} emits into this instance or {@code null}.
+     */
+    private ProgressTracker progressTracker;
+
     /**
      * Creates a new instance and registers it with its {@link Executor}.
      *
@@ -55,6 +67,7 @@ public abstract class AbstractChannelInstance extends ExecutionResourceTemplate
                                       OptimizationContext.OperatorContext producerOperatorContext,
                                       int producerOutputIndex) {
         super(executor);
+        this.executor = executor;
         this.lineage = new ChannelLineageNode(this);
         this.producerOperatorContext = producerOperatorContext;
     }
@@ -79,6 +92,38 @@ public abstract class AbstractChannelInstance extends ExecutionResourceTemplate
         this.measuredCardinality = OptionalLong.of(cardinality);
     }
 
+    /**
+     * Reports the instrumentation of this instance to the {@link ExecutionMetrics} of its {@link Executor}, if any.
+     *
+     * @param numCountedDataQuanta the number of data quanta that were counted one by one to measure the cardinality
+     *                             of this instance; {@code 0} if they were not touched for that purpose
+     */
+    protected void recordInstrumentation(long numCountedDataQuanta) {
+        if (!(this.executor instanceof PushExecutorTemplate)) return;
+        final ExecutionMetrics metrics = ((PushExecutorTemplate) this.executor).getExecutionMetrics();
+        if (metrics == null) return;
+        metrics.recordInstrumentation(
+                this.executor.getPlatform(), this.getChannel().isInstrumentationSampled(), numCountedDataQuanta
+        );
+    }
+
+    /**
+     * Lets this instance count the data quanta that are put into it.
+     *
+     * @param progressTracker the {@link ProgressTracker} of the producing {@link ExecutionOperator}
+     */
+    public void setProgressTracker(ProgressTracker progressTracker) {
+        this.progressTracker = progressTracker;
+    }
+
+    /**
+     * @return the {@link ProgressTracker} of the producing {@link ExecutionOperator} or {@code null} if progress is
+     * not tracked
+     */
+    public ProgressTracker getProgressTracker() {
+        return this.progressTracker;
+    }
+
     @Override
     public ChannelLineageNode getLineage() {
         return this.lineage;
@@ -101,7 +101,7 @@ public class CardinalityBreakpoint implements Breakpoint {
      * @param optimizationContext contains {@link CardinalityEstimate}s
      * @return any found {@link CardinalityEstimate} or {@code null} if none could be found
      */
-    private CardinalityEstimate getCardinalityEstimate(Channel channel, OptimizationContext optimizationContext) {
+    public CardinalityEstimate getCardinalityEstimate(Channel channel, OptimizationContext optimizationContext) {
         // Try to find a corresponding Slot for that we have a CardinalityEstimate.
         for (Slot<?> slot : channel.getCorrespondingSlots()) {
             final OptimizationContext.OperatorContext operatorContext = optimizationContext.getOperatorContext(slot.getOwner());
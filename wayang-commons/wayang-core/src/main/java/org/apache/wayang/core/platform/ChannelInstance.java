@@ -83,4 +83,12 @@ public interface ChannelInstance extends ExecutionResource {
      */
     OptimizationContext.OperatorContext getProducerOperatorContext();
 
+    /**
+     * Notifies this instance that it is loop invariant, i.e., that it is consumed in several iterations of a loop
+     * and retained until that loop is finished. Instances can use this to switch to a representation that is
+     * cheaper to retain and to re-read.
+     */
+    default void noteLoopInvariant() {
+    }
+
 }
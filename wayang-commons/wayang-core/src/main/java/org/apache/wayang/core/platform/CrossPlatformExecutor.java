@@ -30,6 +30,8 @@ import org.apache.wayang.core.plan.wayangplan.InputSlot;
 import org.apache.wayang.core.plan.wayangplan.LoopHeadOperator;
 import org.apache.wayang.core.plan.wayangplan.LoopSubplan;
 import org.apache.wayang.core.plan.wayangplan.OutputSlot;
+import org.apache.wayang.core.platform.checkpoint.Checkpoint;
+import org.apache.wayang.core.platform.checkpoint.CheckpointManager;
 import org.apache.wayang.core.profiling.InstrumentationStrategy;
 import org.apache.wayang.core.util.AbstractReferenceCountable;
 import org.apache.wayang.core.util.Formats;
@@ -45,6 +47,7 @@ import java.util.LinkedList;
 import java.util.Map;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 
 /**
@@ -137,6 +140,16 @@ public class CrossPlatformExecutor implements ExecutionState {
      */
     private volatile int completedThreads;
 
+    /**
+     * Milliseconds that it took to execute the {@link #completedStages}.
+     */
+    private final Map<ExecutionStage, Long> stageExecutionMillis = new ConcurrentHashMap<>();
+
+    /**
+     * Launches backup attempts for slow {@link ExecutionStage}s. Created lazily.
+     */
+    private SpeculativeExecution speculativeExecution;
+
     public CrossPlatformExecutor(Job job, InstrumentationStrategy instrumentationStrategy) {
         this.job = job;
         this.instrumentationStrategy = instrumentationStrategy;
@@ -367,7 +380,7 @@ public class CrossPlatformExecutor implements ExecutionState {
         final OptimizationContext optimizationContext = stageActivator.getOptimizationContext();
 
         // Find parts of the stage to instrument.
-        this.instrumentationStrategy.applyTo(stage);
+        this.instrumentationStrategy.applyTo(stage, optimizationContext);
 
         // Obtain an Executor for the stage.
         Executor executor = this.getOrCreateExecutorFor(stage);
@@ -375,26 +388,120 @@ public class CrossPlatformExecutor implements ExecutionState {
         // Have the execution done.
         CrossPlatformExecutor.this.logger.info("Having {} execute {}:\n{}", executor, stage, stage.getPlanAsString("> "));
         long startTime = System.currentTimeMillis();
-        executor.execute(stage, optimizationContext, this);
+        final SpeculativeExecution speculativeExecution = this.getSpeculativeExecution();
+        if (speculativeExecution.isEnabled()) {
+            final Platform platform = stage.getPlatformExecution().getPlatform();
+            speculativeExecution.execute(stage, optimizationContext, this, executor, () -> {
+                final Executor backupExecutor = platform.getExecutorFactory().create(this.job);
+                this.registerGlobal(backupExecutor);
+                return backupExecutor;
+            });
+        } else {
+            executor.execute(stage, optimizationContext, this);
+        }
         long finishTime = System.currentTimeMillis();
         CrossPlatformExecutor.this.logger.info("Executed {} in {}.", stage, Formats.formatDuration(finishTime - startTime, true));
 
         // Remember that we have executed the stage.
         this.completedStages.add(stage);
+        this.stageExecutionMillis.put(stage, finishTime - startTime);
+
+        // Save the outputs of the stage from recomputation if the job should fail later on.
+        final CheckpointManager checkpointManager = this.job.getCheckpointManager();
+        if (checkpointManager != null) {
+            checkpointManager.checkpointOutputs(stage, this, optimizationContext, this.estimateRecomputationMillis(stage));
+        }
 
         if (stage.isLoopHead()) {
             this.getOrCreateLoopContext(stage.getLoop()).scrapPreviousTransitionContext();
         }
     }
 
+    /**
+     * Estimates how long it would take to execute an {@link ExecutionStage} and all its predecessors once more.
+     *
+     * @param stage the {@link ExecutionStage}
+     * @return the estimated milliseconds
+     */
+    private long estimateRecomputationMillis(ExecutionStage stage) {
+        long recomputationMillis = 0L;
+        final Set<ExecutionStage> visitedStages = new HashSet<>();
+        final Queue<ExecutionStage> stagesToVisit = new LinkedList<>();
+        stagesToVisit.add(stage);
+        ExecutionStage nextStage;
+        while ((nextStage = stagesToVisit.poll()) != null) {
+            if (!visitedStages.add(nextStage)) continue;
+            recomputationMillis += this.stageExecutionMillis.getOrDefault(nextStage, 0L);
+            stagesToVisit.addAll(nextStage.getPredecessors());
+        }
+        return recomputationMillis;
+    }
+
+    /**
+     * Takes over the {@link ExecutionStage}s that have been completed by a failed {@link Job}, as far as the
+     * {@link CheckpointManager} of the {@link #job} permits: The reusable {@link ExecutionStage}s count as completed
+     * and the {@link ChannelInstance}s that they pass on to other {@link ExecutionStage}s are restored from their
+     * {@link Checkpoint}s. Must be called before any {@link ExecutionStage} is executed.
+     *
+     * @param executionPlan       the {@link ExecutionPlan} of the failed {@link Job}
+     * @param completedStages     the {@link ExecutionStage}s completed by the failed {@link Job}
+     * @param optimizationContext the {@link OptimizationContext} of the failed {@link Job}
+     */
+    public void resume(ExecutionPlan executionPlan,
+                       Collection<ExecutionStage> completedStages,
+                       OptimizationContext optimizationContext) {
+        assert this.completedStages.isEmpty();
+        final CheckpointManager checkpointManager = this.job.getCheckpointManager();
+        if (checkpointManager != null) {
+            final Set<ExecutionStage> reusableStages = checkpointManager.determineReusableStages(completedStages);
+            for (ExecutionStage stage : reusableStages) {
+                for (Channel channel : stage.getOutboundChannels()) {
+                    if (channel.getConsumers().stream().allMatch(consumer -> reusableStages.contains(consumer.getStage()))) {
+                        continue;
+                    }
+                    final Checkpoint checkpoint = checkpointManager.getCheckpoint(channel);
+                    final ChannelInstance channelInstance = checkpointManager.restore(
+                            checkpoint,
+                            this.getOrCreateExecutorFor(checkpoint.getPlatform()),
+                            optimizationContext.getOperatorContext(channel.getProducer().getOperator())
+                    );
+                    this.register(channelInstance);
+                    // Nothing needs to be executed to obtain the restored ChannelInstance.
+                    channelInstance.getLineage().collectAndMark();
+                }
+            }
+            this.completedStages.addAll(reusableStages);
+            this.logger.info("Resuming with {} of {} completed stages.", reusableStages.size(), completedStages.size());
+        }
+
+        // Loop heads might have been left in an intermediate state by the failed Job.
+        executionPlan.getStages().stream()
+                .filter(stage -> !this.completedStages.contains(stage))
+                .flatMap(stage -> stage.getAllTasks().stream())
+                .map(ExecutionTask::getOperator)
+                .filter(operator -> operator.isLoopHead())
+                .forEach(operator -> ((LoopHeadOperator) operator).setState(LoopHeadOperator.State.NOT_STARTED));
+    }
+
+    private synchronized SpeculativeExecution getSpeculativeExecution() {
+        if (this.speculativeExecution == null) {
+            this.speculativeExecution = new SpeculativeExecution(this.getConfiguration());
+        }
+        return this.speculativeExecution;
+    }
+
     private Executor getOrCreateExecutorFor(ExecutionStage stage) {
+        return this.getOrCreateExecutorFor(stage.getPlatformExecution().getPlatform());
+    }
+
+    private Executor getOrCreateExecutorFor(Platform platform) {
         return this.executors.computeIfAbsent(
-                stage.getPlatformExecution().getPlatform(),
-                platform -> {
+                platform,
+                key -> {
                     // It is important to register the Executor. This way, we ensure that it will also not be disposed
                     // among disconnected PlatformExecutions. The downside is, that we only remove it, once the
                     // execution is done.
-                    final Executor executor = platform.getExecutorFactory().create(this.job);
+                    final Executor executor = key.getExecutorFactory().create(this.job);
                     this.registerGlobal(executor);
                     return executor;
                 }
@@ -877,13 +984,15 @@ public class CrossPlatformExecutor implements ExecutionState {
         }
 
         /**
-         * Registers a loop invariant {@link ExecutionResource} with this instance.
+         * Registers a loop invariant {@link ChannelInstance} with this instance, which retains it until the loop is
+         * finished.
          *
-         * @param loopInvariant the said {@link ExecutionResource}
+         * @param loopInvariant the said {@link ChannelInstance}
          */
-        void registerLoopInvariant(ExecutionResource loopInvariant) {
+        void registerLoopInvariant(ChannelInstance loopInvariant) {
             if (this.loopInvariants.add(loopInvariant)) {
                 loopInvariant.noteObtainedReference();
+                loopInvariant.noteLoopInvariant();
             }
         }
 
@@ -1098,7 +1207,7 @@ public class CrossPlatformExecutor implements ExecutionState {
                 final OptimizationContext optimizationContext = stageActivator.getOptimizationContext();
 
                 // Find parts of the stage to instrument.
-                this.crossPlatformExecutor.instrumentationStrategy.applyTo(stage);
+                this.crossPlatformExecutor.instrumentationStrategy.applyTo(stage, optimizationContext);
 
                 // Obtain an Executor for the stage.
                 final Executor executor = this.crossPlatformExecutor.getOrCreateExecutorFor(stage);
@@ -37,6 +37,17 @@ public interface Executor extends CompositeExecutionResource {
      */
     void execute(ExecutionStage stage, OptimizationContext optimizationContext, ExecutionState executionState);
 
+    /**
+     * Cancels the computations that this instance is running to execute an {@link ExecutionStage} into the given
+     * {@link ExecutionState}, e.g., because a concurrent attempt to execute the same {@link ExecutionStage} has
+     * already succeeded. This is a best effort: the default implementation does nothing, so that the computations
+     * run to completion and only their results are discarded.
+     *
+     * @param executionState that has been passed to {@link #execute(ExecutionStage, OptimizationContext, ExecutionState)}
+     */
+    default void cancel(ExecutionState executionState) {
+    }
+
     /**
      * Releases any instances acquired by this instance to execute {@link ExecutionStage}s.
      */
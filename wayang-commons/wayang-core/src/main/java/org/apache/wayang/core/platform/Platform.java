@@ -22,16 +22,21 @@ import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.api.Job;
 import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.wayang.core.optimizer.costs.LoadProfileToTimeConverter;
+import org.apache.wayang.core.optimizer.costs.ResourceCapacity;
 import org.apache.wayang.core.optimizer.costs.TimeToCostConverter;
 import org.apache.wayang.core.plan.executionplan.Channel;
 import org.apache.wayang.core.plan.executionplan.ExecutionTask;
 import org.apache.wayang.core.plan.executionplan.PlatformExecution;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.checkpoint.ChannelCheckpointer;
 import org.apache.wayang.core.util.JsonSerializables;
 import org.apache.wayang.core.util.JsonSerializer;
 import org.apache.wayang.core.util.ReflectionUtils;
 import org.apache.wayang.core.util.json.JSONObject;
 
+import java.util.Collection;
+import java.util.Collections;
+
 /**
  * A platform describes an execution engine that executes {@link ExecutionOperator}s.
  */
@@ -148,6 +153,26 @@ public abstract class Platform {
         return 0L;
     }
 
+    /**
+     * Describes the resources that this instance can devote to a {@link Job}, so that cost models and
+     * {@link Executor}s can take into account memory limits and the degree of parallelism.
+     *
+     * @param configuration describes the resources
+     * @return the {@link ResourceCapacity}, which is {@link ResourceCapacity#UNKNOWN} by default
+     */
+    public ResourceCapacity getResourceCapacity(Configuration configuration) {
+        return ResourceCapacity.UNKNOWN;
+    }
+
+    /**
+     * Provides the {@link ChannelCheckpointer}s for the {@link Channel}s of this instance.
+     *
+     * @return the {@link ChannelCheckpointer}s
+     */
+    public Collection<ChannelCheckpointer> getChannelCheckpointers() {
+        return Collections.emptyList();
+    }
+
     /**
      * Default {@link JsonSerializer} implementation that stores the {@link Class} of the instance and then
      * tries to deserialize by invoking the static {@code getInstance()} method.
@@ -0,0 +1,298 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.platform;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.Job;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Keeps the execution contexts of {@link Platform}s (e.g., a Spark context) warm across {@link Job}s, so that only
+ * the first {@link Job} has to pay for their initialization. The contexts are reference-counted via {@link Lease}s
+ * and disposed once they have not been leased for a configurable idle time.
+ */
+public class PlatformContextPool {
+
+    /**
+     * Configuration key for the milliseconds that an unused context is kept warm. {@code 0} disposes contexts as
+     * soon as they are not leased anymore, negative values keep them until {@link #evictAll()}.
+     */
+    public static final String IDLE_TIMEOUT_PROPERTY_KEY = "wayang.core.platform.context.idle-timeout";
+
+    private static final PlatformContextPool defaultInstance = new PlatformContextPool();
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    /**
+     * The pooled contexts. There is at most one context per {@link Platform}.
+     */
+    private final Map<Platform, Entry<?>> entries = new HashMap<>();
+
+    /**
+     * <i>Lazy-initialized.</i> Disposes idle contexts.
+     */
+    private ScheduledExecutorService evictionService;
+
+    /**
+     * Provides the JVM-wide instance. As some platforms permit only a single context per JVM, {@link Job}s should
+     * share this instance unless they are isolated otherwise.
+     *
+     * @return the JVM-wide instance
+     */
+    public static PlatformContextPool getDefault() {
+        return defaultInstance;
+    }
+
+    /**
+     * Leases the context of the given {@link Platform}. If there is a warm context with the same {@code contextKey},
+     * it is reused. A warm context with a different {@code contextKey} is replaced unless it is still leased, in
+     * which case it is shared nevertheless.
+     *
+     * @param platform      whose context is requested
+     * @param contextKey    describes the settings of the context
+     * @param configuration provides the idle timeout for the context
+     * @param factory       creates a new context
+     * @param isUsable      tells whether a pooled context can still be used
+     * @param disposer      disposes a context
+     * @return the {@link Lease}, which must be {@link Lease#release() released} after use
+     */
+    public <T> Lease<T> acquire(Platform platform,
+                                String contextKey,
+                                Configuration configuration,
+                                Supplier<T> factory,
+                                Predicate<T> isUsable,
+                                Consumer<T> disposer) {
+        // NB: We create and dispose contexts while holding the lock, as some platforms permit only a single context
+        // at a time.
+        synchronized (this) {
+            @SuppressWarnings("unchecked")
+            Entry<T> entry = (Entry<T>) this.entries.get(platform);
+            if (entry != null && !isUsable.test(entry.context)) {
+                this.logger.info("Discarding unusable context of {}.", platform);
+                this.entries.remove(platform);
+                entry.cancelEviction();
+                entry = null;
+            } else if (entry != null && !Objects.equals(entry.contextKey, contextKey)) {
+                if (entry.numLeases == 0) {
+                    this.logger.info("Replacing idle context of {} because of different settings.", platform);
+                    this.entries.remove(platform);
+                    entry.cancelEviction();
+                    entry.dispose();
+                    entry = null;
+                } else {
+                    this.logger.warn("Sharing the context of {} that is in use. Not all settings might be effective.", platform);
+                }
+            }
+
+            final boolean isWarmStart = entry != null;
+            if (entry == null) {
+                entry = new Entry<>(platform, contextKey, factory.get(), disposer);
+                this.entries.put(platform, entry);
+            } else {
+                this.logger.info("Reusing warm context of {}.", platform);
+            }
+            entry.cancelEviction();
+            entry.numLeases++;
+            entry.idleTimeoutMillis = configuration.getLongProperty(IDLE_TIMEOUT_PROPERTY_KEY, 0L);
+            return new Lease<>(this, entry, isWarmStart);
+        }
+    }
+
+    /**
+     * Tells whether there is a context for the given {@link Platform}, so that it need not be initialized.
+     *
+     * @param platform that should be checked
+     * @return whether the {@link Platform} is warm
+     */
+    public synchronized boolean isWarm(Platform platform) {
+        return this.entries.containsKey(platform);
+    }
+
+    /**
+     * @return the {@link Platform}s that have a context in this instance
+     */
+    public synchronized Collection<Platform> getWarmPlatforms() {
+        return new ArrayList<>(this.entries.keySet());
+    }
+
+    /**
+     * Disposes all contexts that are not leased at the moment.
+     */
+    public synchronized void evictAll() {
+        this.entries.values().removeIf(entry -> {
+            if (entry.numLeases > 0) return false;
+            entry.cancelEviction();
+            entry.dispose();
+            return true;
+        });
+    }
+
+    private synchronized void release(Entry<?> entry) {
+        assert entry.numLeases > 0;
+        if (--entry.numLeases > 0 || this.entries.get(entry.platform) != entry) return;
+        if (entry.idleTimeoutMillis > 0) {
+            entry.eviction = this.getEvictionService().schedule(
+                    () -> this.evictIfIdle(entry), entry.idleTimeoutMillis, TimeUnit.MILLISECONDS
+            );
+        } else if (entry.idleTimeoutMillis == 0) {
+            this.entries.remove(entry.platform);
+            entry.dispose();
+        }
+    }
+
+    private synchronized void evictIfIdle(Entry<?> entry) {
+        if (entry.numLeases > 0 || this.entries.get(entry.platform) != entry) return;
+        this.logger.info("Evicting idle context of {}.", entry.platform);
+        this.entries.remove(entry.platform);
+        entry.dispose();
+    }
+
+    private ScheduledExecutorService getEvictionService() {
+        if (this.evictionService == null) {
+            this.evictionService = Executors.newSingleThreadScheduledExecutor(runnable -> {
+                final Thread thread = new Thread(runnable, "wayang-platform-context-eviction");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return this.evictionService;
+    }
+
+    /**
+     * A pooled context.
+     */
+    private static class Entry<T> {
+
+        private final Platform platform;
+
+        private final String contextKey;
+
+        private final T context;
+
+        private final Consumer<T> disposer;
+
+        /**
+         * Paths of the JAR files that have been registered with the {@link #context}.
+         */
+        private final Set<String> jarPaths = new HashSet<>();
+
+        private int numLeases = 0;
+
+        private long idleTimeoutMillis = 0L;
+
+        private ScheduledFuture<?> eviction;
+
+        private Entry(Platform platform, String contextKey, T context, Consumer<T> disposer) {
+            this.platform = platform;
+            this.contextKey = contextKey;
+            this.context = context;
+            this.disposer = disposer;
+        }
+
+        private void cancelEviction() {
+            if (this.eviction != null) {
+                this.eviction.cancel(false);
+                this.eviction = null;
+            }
+        }
+
+        private void dispose() {
+            try {
+                this.disposer.accept(this.context);
+            } catch (Throwable t) {
+                LogManager.getLogger(PlatformContextPool.class).warn("Disposing the context of {} failed.", this.platform, t);
+            }
+        }
+    }
+
+    /**
+     * Grants access to a pooled context.
+     */
+    public static class Lease<T> {
+
+        private final PlatformContextPool pool;
+
+        private final Entry<T> entry;
+
+        private final boolean isWarmStart;
+
+        private boolean isReleased = false;
+
+        private Lease(PlatformContextPool pool, Entry<T> entry, boolean isWarmStart) {
+            this.pool = pool;
+            this.entry = entry;
+            this.isWarmStart = isWarmStart;
+        }
+
+        /**
+         * Provides the context. This instance must not be released, yet.
+         *
+         * @return the context
+         */
+        public T get() {
+            assert !this.isReleased;
+            return this.entry.context;
+        }
+
+        /**
+         * @return whether the context had already been initialized before this instance was acquired
+         */
+        public boolean isWarmStart() {
+            return this.isWarmStart;
+        }
+
+        /**
+         * Keeps track of the JAR files that are registered with the context, so that each needs to be registered only
+         * once.
+         *
+         * @param path path to the JAR file
+         * @return whether the JAR file has not been registered before and must be registered now
+         */
+        public boolean registerJar(String path) {
+            synchronized (this.pool) {
+                return this.entry.jarPaths.add(path);
+            }
+        }
+
+        /**
+         * Returns the context to the pool. Repeated calls have no effect.
+         */
+        public void release() {
+            if (this.isReleased) return;
+            this.isReleased = true;
+            this.pool.release(this.entry);
+        }
+    }
+}
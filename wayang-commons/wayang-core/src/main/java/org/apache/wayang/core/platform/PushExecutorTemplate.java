@@ -18,27 +18,35 @@
 
 package org.apache.wayang.core.platform;
 
+import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.api.Job;
+import org.apache.wayang.core.monitor.ProgressTracker;
+import org.apache.wayang.core.monitor.metrics.ExecutionMetrics;
 import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
 import org.apache.wayang.core.plan.executionplan.Channel;
 import org.apache.wayang.core.plan.executionplan.ExecutionStage;
 import org.apache.wayang.core.plan.executionplan.ExecutionTask;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
 import org.apache.wayang.core.plan.wayangplan.InputSlot;
 import org.apache.wayang.core.plan.wayangplan.LoopHeadOperator;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
 import org.apache.wayang.core.util.OneTimeExecutable;
 import org.apache.wayang.core.util.WayangCollections;
 import org.apache.wayang.core.util.Tuple;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.OptionalLong;
 import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * {@link Executor} implementation that employs a push model, i.e., data quanta are "pushed"
@@ -46,8 +54,29 @@ import java.util.Set;
  */
 public abstract class PushExecutorTemplate extends ExecutorTemplate {
 
+    /**
+     * Configuration key for the number of times that a failed {@link ExecutionTask} is executed again.
+     */
+    public static final String MAX_RETRIES_PROPERTY_KEY = "wayang.core.executor.retries";
+
+    /**
+     * Configuration key for the milliseconds to wait before the first retry. The waiting time doubles with each
+     * further retry.
+     */
+    public static final String RETRY_BACKOFF_PROPERTY_KEY = "wayang.core.executor.retry.backoff";
+
+    /**
+     * Configuration key for the maximum milliseconds to wait before a retry.
+     */
+    public static final String RETRY_MAX_BACKOFF_PROPERTY_KEY = "wayang.core.executor.retry.max-backoff";
+
     protected final Job job;
 
+    /**
+     * Tracks the progress of {@link ExecutionOperator}s until they have been executed.
+     */
+    private final Map<ExecutionOperator, TrackedExecution> trackedExecutions = new ConcurrentHashMap<>();
+
     public PushExecutorTemplate(Job job) {
         super(job == null ? null : job.getCrossPlatformExecutor());
         this.job = job;
@@ -57,8 +86,25 @@ public abstract class PushExecutorTemplate extends ExecutorTemplate {
     public void execute(ExecutionStage stage, OptimizationContext optimizationContext, ExecutionState executionState) {
         assert !this.isDisposed() : String.format("%s has been disposed.", this);
 
+        final ExecutionMetrics metrics = this.getExecutionMetrics();
+        final long startNanos = System.nanoTime();
         final StageExecution stageExecution = new StageExecution(stage, optimizationContext, executionState);
         stageExecution.executeStage();
+        if (metrics != null) {
+            metrics.recordStage(
+                    this.getPlatform(),
+                    System.nanoTime() - startNanos,
+                    stageExecution.numStageInputRecords,
+                    stageExecution.numStageOutputRecords
+            );
+        }
+    }
+
+    /**
+     * @return the {@link ExecutionMetrics} of the {@link #job} or {@code null} if metrics are disabled
+     */
+    protected ExecutionMetrics getExecutionMetrics() {
+        return this.job == null ? null : this.job.getExecutionMetrics();
     }
 
 
@@ -78,6 +124,58 @@ public abstract class PushExecutorTemplate extends ExecutorTemplate {
         );
     }
 
+    /**
+     * Executes an {@link ExecutionTask} and executes it again with exponential backoff if it fails, as long as
+     * {@link #isRetryable(ExecutionTask, List)} and the configured number of retries permit.
+     *
+     * @param taskActivator           provides the {@link ExecutionTask} and its input dependencies
+     * @param isRequestEagerExecution whether the {@link ExecutionTask} should be executed eagerly if possible
+     * @return the output {@link ChannelInstance}s of the {@link ExecutionTask}
+     */
+    private Tuple<List<ChannelInstance>, PartialExecution> executeWithRetries(TaskActivator taskActivator,
+                                                                            boolean isRequestEagerExecution) {
+        final ExecutionTask task = taskActivator.getTask();
+        for (int numRetries = 0; ; numRetries++) {
+            try {
+                return this.execute(taskActivator, isRequestEagerExecution);
+            } catch (RuntimeException e) {
+                final Configuration configuration = this.job == null ? null : this.job.getConfiguration();
+                if (configuration == null
+                        || numRetries >= configuration.getLongProperty(MAX_RETRIES_PROPERTY_KEY, 0L)
+                        || !this.isRetryable(task, taskActivator.getInputChannelInstances())) {
+                    throw e;
+                }
+                final long backoffMillis = Math.min(
+                        configuration.getLongProperty(RETRY_BACKOFF_PROPERTY_KEY, 1000L) << Math.min(numRetries, 30),
+                        configuration.getLongProperty(RETRY_MAX_BACKOFF_PROPERTY_KEY, 60000L)
+                );
+                this.logger.warn("Executing {} failed. Retrying in {} ms.", task, backoffMillis, e);
+                final ExecutionMetrics metrics = this.getExecutionMetrics();
+                if (metrics != null) metrics.recordRetry(this.getPlatform(), task);
+                try {
+                    Thread.sleep(backoffMillis);
+                } catch (InterruptedException interruptedException) {
+                    Thread.currentThread().interrupt();
+                    throw e;
+                }
+            }
+        }
+    }
+
+    /**
+     * Tells whether a failed {@link ExecutionTask} may be executed again with the same input {@link ChannelInstance}s.
+     * By default, this requires all inputs to be reusable, and {@link LoopHeadOperator}s are never executed again
+     * because they are stateful.
+     *
+     * @param task                  the failed {@link ExecutionTask}
+     * @param inputChannelInstances the input {@link ChannelInstance}s of the {@code task}
+     * @return whether the {@code task} may be retried
+     */
+    protected boolean isRetryable(ExecutionTask task, List<ChannelInstance> inputChannelInstances) {
+        return !task.getOperator().isLoopHead() && inputChannelInstances.stream()
+                .allMatch(channelInstance -> channelInstance == null || channelInstance.getChannel().isReusable());
+    }
+
     /**
      * Executes the given {@code task} and return the output {@link ChannelInstance}s.
      *
@@ -107,6 +205,13 @@ public abstract class PushExecutorTemplate extends ExecutorTemplate {
 
         private final Collection<ChannelInstance> allChannelInstances = new LinkedList<>();
 
+        private final Set<ExecutionTask> startTasks;
+
+        /**
+         * Number of data quanta consumed by the {@link #startTasks} and produced by the {@link #terminalTasks}.
+         */
+        private long numStageInputRecords = 0L, numStageOutputRecords = 0L;
+
         /**
          * State from preceeding executions.
          */
@@ -127,6 +232,7 @@ public abstract class PushExecutorTemplate extends ExecutorTemplate {
 
             // Initialize the terminalTasks.
             this.terminalTasks = WayangCollections.asSet(stage.getTerminalTasks());
+            this.startTasks = WayangCollections.asSet(stage.getStartTasks());
         }
 
         private void scheduleStartTask(ExecutionTask startTask) {
@@ -192,7 +298,21 @@ public abstract class PushExecutorTemplate extends ExecutorTemplate {
          */
         private Tuple<List<ChannelInstance>, PartialExecution> execute(TaskActivator readyActivator, ExecutionTask task) {
             final boolean isRequestEagerExecution = this.terminalTasks.contains(task);
-            return this.executor().execute(readyActivator, isRequestEagerExecution);
+            final ExecutionMetrics metrics = this.executor().getExecutionMetrics();
+            if (metrics == null) {
+                return this.executor().executeWithRetries(readyActivator, isRequestEagerExecution);
+            }
+
+            final ExecutionMetrics.TaskMeasurement measurement = metrics.startTask();
+            final Tuple<List<ChannelInstance>, PartialExecution> result =
+                    this.executor().executeWithRetries(readyActivator, isRequestEagerExecution);
+            final OptimizationContext.OperatorContext operatorContext = readyActivator.getOperatorContext();
+            final long numRecordsIn = getNumInputRecords(readyActivator.getInputChannelInstances(), operatorContext);
+            final long numRecordsOut = getNumOutputRecords(result.getField0(), operatorContext);
+            metrics.recordTask(this.executor().getPlatform(), task, measurement, numRecordsIn, numRecordsOut);
+            if (this.startTasks.contains(task) && numRecordsIn > 0) this.numStageInputRecords += numRecordsIn;
+            if (isRequestEagerExecution && numRecordsOut > 0) this.numStageOutputRecords += numRecordsOut;
+            return result;
         }
 
         /**
@@ -392,6 +512,193 @@ public abstract class PushExecutorTemplate extends ExecutorTemplate {
         }
     }
 
+    /**
+     * Starts tracking the progress of an {@link ExecutionTask}: Its output {@link ChannelInstance}s count the data
+     * quanta that the {@code task} emits, so that the progress is reported while it is running, even if its outputs
+     * are consumed lazily by subsequent tasks.
+     *
+     * @param task                   whose progress should be tracked
+     * @param inputChannelInstances  inputs of the {@code task}
+     * @param outputChannelInstances outputs of the {@code task}
+     * @param operatorContext        provides cardinality estimates for the {@code task}; may be {@code null}
+     * @return the {@link ProgressTracker} or {@code null} if progress is not monitored
+     * @see #completeProgressTracking(ExecutionTask, List, Collection)
+     */
+    protected ProgressTracker startProgressTracking(ExecutionTask task,
+                                                    List<ChannelInstance> inputChannelInstances,
+                                                    ChannelInstance[] outputChannelInstances,
+                                                    OptimizationContext.OperatorContext operatorContext) {
+        if (this.job == null || !this.job.isMonitoringProgress()) return null;
+        final ExecutionOperator operator = task.getOperator();
+        TrackedExecution trackedExecution = this.trackedExecutions.get(operator);
+        if (trackedExecution == null) {
+            // Loop iterations keep counting with the same instance until the loop has been executed.
+            final long numExpectedRecords = outputChannelInstances.length == 0 ?
+                    getNumInputRecords(inputChannelInstances, operatorContext) :
+                    getNumOutputRecords(Arrays.asList(outputChannelInstances), operatorContext);
+            trackedExecution = new TrackedExecution(
+                    new ProgressTracker(this.job, operator.getName(), numExpectedRecords)
+            );
+            this.trackedExecutions.put(operator, trackedExecution);
+            trackedExecution.progressTracker.start();
+        }
+        trackedExecution.outputChannelInstances = outputChannelInstances;
+        for (ChannelInstance outputChannelInstance : outputChannelInstances) {
+            if (outputChannelInstance instanceof AbstractChannelInstance) {
+                ((AbstractChannelInstance) outputChannelInstance).setProgressTracker(trackedExecution.progressTracker);
+            }
+        }
+        return trackedExecution.progressTracker;
+    }
+
+    /**
+     * Completes the progress tracking of all {@link ExecutionOperator}s that have been executed according to the
+     * execution lineage of an {@link ExecutionTask}. Besides the {@code task} itself, these can be lazily executed
+     * upstream {@link ExecutionOperator}s.
+     *
+     * @param task                  that has just been executed
+     * @param inputChannelInstances inputs of the {@code task}
+     * @param executionLineageNodes the executed {@link ExecutionLineageNode}s as reported by the {@code task}
+     */
+    protected void completeProgressTracking(ExecutionTask task,
+                                            List<ChannelInstance> inputChannelInstances,
+                                            Collection<ExecutionLineageNode> executionLineageNodes) {
+        if (this.trackedExecutions.isEmpty()) return;
+
+        // Sinks do not emit data quanta, so we count what they have consumed instead, unless the platform did so.
+        final TrackedExecution taskExecution = this.trackedExecutions.get(task.getOperator());
+        if (taskExecution != null && taskExecution.outputChannelInstances.length == 0
+                && taskExecution.progressTracker.getNumRecords() == 0) {
+            for (ChannelInstance inputChannelInstance : inputChannelInstances) {
+                taskExecution.progressTracker.addRecords(countDataQuanta(inputChannelInstance));
+            }
+        }
+
+        for (ExecutionLineageNode executionLineageNode : executionLineageNodes) {
+            final OptimizationContext.OperatorContext operatorContext = executionLineageNode.getOperatorContext();
+            if (operatorContext == null) continue;
+            final TrackedExecution trackedExecution = this.trackedExecutions.remove(operatorContext.getOperator());
+            if (trackedExecution != null) trackedExecution.complete();
+        }
+    }
+
+    /**
+     * Determines the number of data quanta in a {@link ChannelInstance} as far as they have been counted.
+     *
+     * @return the number of data quanta or {@code 0} if unknown
+     */
+    private static long countDataQuanta(ChannelInstance channelInstance) {
+        if (channelInstance == null) return 0L;
+        final OptionalLong measuredCardinality = channelInstance.getMeasuredCardinality();
+        if (measuredCardinality.isPresent()) return measuredCardinality.getAsLong();
+        if (channelInstance instanceof AbstractChannelInstance) {
+            final ProgressTracker progressTracker = ((AbstractChannelInstance) channelInstance).getProgressTracker();
+            if (progressTracker != null) return progressTracker.getNumRecords();
+        }
+        return 0L;
+    }
+
+    /**
+     * The {@link ProgressTracker} of an {@link ExecutionOperator} that has not been completed yet.
+     */
+    private static class TrackedExecution {
+
+        private final ProgressTracker progressTracker;
+
+        /**
+         * The output {@link ChannelInstance}s of the latest execution of the {@link ExecutionOperator}.
+         */
+        private ChannelInstance[] outputChannelInstances;
+
+        private TrackedExecution(ProgressTracker progressTracker) {
+            this.progressTracker = progressTracker;
+        }
+
+        private void complete() {
+            // Platforms that do not count the data quanta one by one might still have measured them.
+            if (this.progressTracker.getNumRecords() == 0) {
+                for (ChannelInstance outputChannelInstance : this.outputChannelInstances) {
+                    if (outputChannelInstance == null) continue;
+                    outputChannelInstance.getMeasuredCardinality().ifPresent(this.progressTracker::addRecords);
+                }
+            }
+            this.progressTracker.complete();
+        }
+
+    }
+
+    @Override
+    public void dispose() {
+        // Whatever has not been completed via the execution lineage is over now, too.
+        this.trackedExecutions.values().forEach(TrackedExecution::complete);
+        this.trackedExecutions.clear();
+        super.dispose();
+    }
+
+    /**
+     * Determines the number of data quanta that an operator consumes or, if it has no inputs, produces.
+     *
+     * @return the number of data quanta or {@code -1} if unknown
+     */
+    private static long getNumInputRecords(List<ChannelInstance> inputChannelInstances,
+                                           OptimizationContext.OperatorContext operatorContext) {
+        long numRecords = 0L;
+        boolean isKnown = false;
+        for (int inputIndex = 0; inputIndex < inputChannelInstances.size(); inputIndex++) {
+            final ChannelInstance channelInstance = inputChannelInstances.get(inputIndex);
+            final OptionalLong measuredCardinality = channelInstance == null ?
+                    OptionalLong.empty() :
+                    channelInstance.getMeasuredCardinality();
+            if (measuredCardinality.isPresent()) {
+                numRecords += measuredCardinality.getAsLong();
+                isKnown = true;
+            } else if (operatorContext != null && inputIndex < operatorContext.getOperator().getNumInputs()) {
+                final CardinalityEstimate estimate = operatorContext.getInputCardinality(inputIndex);
+                if (estimate != null) {
+                    numRecords += estimate.getGeometricMeanEstimate();
+                    isKnown = true;
+                }
+            }
+        }
+        if (!isKnown && operatorContext != null) {
+            for (CardinalityEstimate estimate : operatorContext.getOutputCardinalities()) {
+                if (estimate != null) {
+                    numRecords += estimate.getGeometricMeanEstimate();
+                    isKnown = true;
+                }
+            }
+        }
+        return isKnown ? numRecords : -1L;
+    }
+
+    /**
+     * Determines the number of data quanta that an operator has produced, measured where possible and estimated
+     * otherwise.
+     *
+     * @return the number of data quanta or {@code -1} if unknown
+     */
+    private static long getNumOutputRecords(List<ChannelInstance> outputChannelInstances,
+                                            OptimizationContext.OperatorContext operatorContext) {
+        long numRecords = 0L;
+        boolean isKnown = false;
+        for (int outputIndex = 0; outputIndex < outputChannelInstances.size(); outputIndex++) {
+            final ChannelInstance channelInstance = outputChannelInstances.get(outputIndex);
+            if (channelInstance == null) continue;
+            final OptionalLong measuredCardinality = channelInstance.getMeasuredCardinality();
+            if (measuredCardinality.isPresent()) {
+                numRecords += measuredCardinality.getAsLong();
+                isKnown = true;
+            } else if (operatorContext != null && outputIndex < operatorContext.getOperator().getNumOutputs()) {
+                final CardinalityEstimate estimate = operatorContext.getOutputCardinality(outputIndex);
+                if (estimate != null) {
+                    numRecords += estimate.getGeometricMeanEstimate();
+                    isKnown = true;
+                }
+            }
+        }
+        return isKnown ? numRecords : -1L;
+    }
+
     /**
      * Provide the {@link Job} that is processed by this instance.
      *
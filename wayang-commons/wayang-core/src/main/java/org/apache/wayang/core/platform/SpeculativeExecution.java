@@ -0,0 +1,340 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.platform;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.monitor.metrics.ExecutionMetrics;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.costs.TimeEstimate;
+import org.apache.wayang.core.plan.executionplan.Channel;
+import org.apache.wayang.core.plan.executionplan.ExecutionStage;
+import org.apache.wayang.core.plan.executionplan.ExecutionTask;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Executes {@link ExecutionStage}s and, if one takes considerably longer than estimated, launches a backup attempt
+ * on a fresh {@link Executor}. Whichever attempt finishes first provides the results of the {@link ExecutionStage},
+ * and the other one is {@link Executor#cancel(ExecutionState) cancelled}.
+ * <p>Only {@link ExecutionStage}s without side effects, outside of loops, and with reusable inputs are executed
+ * speculatively, because both attempts consume the same inputs.</p>
+ * <p>This mitigates stragglers due to transient conditions, such as an overloaded worker or a slow scheduling
+ * decision. The backup attempt runs on the same {@link Platform} as the original one, though, so it does not help if
+ * the {@link Platform} itself is unavailable or slow for the {@link ExecutionStage}: there is no failover to another
+ * {@link Platform}, as that would require re-optimizing the remaining plan while the {@link ExecutionStage} runs.
+ * Also, cancellation is best effort: {@link Executor}s that cannot cancel their computations, such as the ones that
+ * compute in the driver, keep running the losing attempt to completion and only its results are discarded.</p>
+ */
+public class SpeculativeExecution {
+
+    /**
+     * Configuration key for the factor by which an {@link ExecutionStage} must exceed its estimated execution time
+     * before a backup attempt is launched. Non-positive values disable speculative execution.
+     */
+    public static final String SLOWDOWN_PROPERTY_KEY = "wayang.core.speculation.slowdown";
+
+    /**
+     * Configuration key for the minimum milliseconds that an {@link ExecutionStage} must run before a backup attempt
+     * is launched, so as to not duplicate short-running {@link ExecutionStage}s with poor estimates.
+     */
+    public static final String MIN_MILLIS_PROPERTY_KEY = "wayang.core.speculation.min-millis";
+
+    private static final Logger logger = LogManager.getLogger(SpeculativeExecution.class);
+
+    private final Configuration configuration;
+
+    private final double slowdown;
+
+    private final long minMillis;
+
+    /**
+     * Runs the attempts. Threads are daemons, so that lost attempts that cannot be interrupted do not keep the JVM
+     * alive.
+     */
+    private final ExecutorService threadPool = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "wayang-speculation");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    public SpeculativeExecution(Configuration configuration) {
+        this.configuration = configuration;
+        this.slowdown = configuration.getDoubleProperty(SLOWDOWN_PROPERTY_KEY, 0d);
+        this.minMillis = configuration.getLongProperty(MIN_MILLIS_PROPERTY_KEY, 1000L);
+    }
+
+    /**
+     * @return whether this instance might launch backup attempts at all
+     */
+    public boolean isEnabled() {
+        return this.slowdown > 0d;
+    }
+
+    /**
+     * Tells whether an {@link ExecutionStage} may be executed twice concurrently.
+     *
+     * @param stage the {@link ExecutionStage}
+     * @return whether the {@link ExecutionStage} is eligible for speculative execution
+     */
+    public static boolean isSpeculatable(ExecutionStage stage) {
+        if (stage.getLoop() != null) return false;
+        for (ExecutionTask task : stage.getAllTasks()) {
+            if (task.getOperator().isSink()) return false;
+        }
+        for (Channel channel : stage.getInboundChannels()) {
+            if (!channel.isReusable()) return false;
+        }
+        return true;
+    }
+
+    /**
+     * Determines how long to wait for an {@link ExecutionStage} before launching a backup attempt.
+     *
+     * @param stage               the {@link ExecutionStage}
+     * @param optimizationContext provides the {@link TimeEstimate}s of the {@link ExecutionTask}s
+     * @return the milliseconds to wait
+     */
+    public long determineTimeout(ExecutionStage stage, OptimizationContext optimizationContext) {
+        long estimatedMillis = 0L;
+        for (ExecutionTask task : stage.getAllTasks()) {
+            final OptimizationContext.OperatorContext operatorContext =
+                    optimizationContext.getOperatorContext(task.getOperator());
+            if (operatorContext == null) continue;
+            final TimeEstimate timeEstimate = operatorContext.getTimeEstimate();
+            if (timeEstimate != null) estimatedMillis += timeEstimate.getGeometricMeanEstimate();
+        }
+        return Math.max(this.minMillis, Math.round(this.slowdown * estimatedMillis));
+    }
+
+    /**
+     * Executes an {@link ExecutionStage}, speculatively if it is eligible.
+     *
+     * @param stage                 the {@link ExecutionStage}
+     * @param optimizationContext   provides estimates for the {@link ExecutionStage}
+     * @param executionState        provides the inputs and receives the results of the {@link ExecutionStage}
+     * @param executor              the regular {@link Executor} for the {@link ExecutionStage}
+     * @param backupExecutorFactory creates an {@link Executor} for a backup attempt; the caller is responsible for
+     *                              disposing it
+     */
+    public void execute(ExecutionStage stage,
+                        OptimizationContext optimizationContext,
+                        ExecutionState executionState,
+                        Executor executor,
+                        Supplier<Executor> backupExecutorFactory) {
+        if (!this.isEnabled() || !isSpeculatable(stage)) {
+            executor.execute(stage, optimizationContext, executionState);
+            return;
+        }
+
+        final long timeoutMillis = this.determineTimeout(stage, optimizationContext);
+        final CompletionService<Attempt> completionService = new ExecutorCompletionService<>(this.threadPool);
+        final List<Future<Attempt>> futures = new ArrayList<>(2);
+        final List<Attempt> attempts = new ArrayList<>(2);
+        final Attempt primaryAttempt = new Attempt(executor, stage, optimizationContext, executionState);
+        attempts.add(primaryAttempt);
+        futures.add(completionService.submit(primaryAttempt));
+
+        try {
+            Future<Attempt> finishedFuture = completionService.poll(timeoutMillis, TimeUnit.MILLISECONDS);
+            if (finishedFuture == null) {
+                final Executor backupExecutor = backupExecutorFactory.get();
+                logger.info("{} has been running for more than {} ms. Launching a backup attempt on {}.",
+                        stage, timeoutMillis, backupExecutor);
+                final Attempt backupAttempt = new Attempt(backupExecutor, stage, optimizationContext, executionState);
+                attempts.add(backupAttempt);
+                futures.add(completionService.submit(backupAttempt));
+                finishedFuture = completionService.take();
+            }
+
+            Throwable firstFailure = null;
+            for (int numFinishedAttempts = 1; ; numFinishedAttempts++) {
+                try {
+                    final Attempt winner = finishedFuture.get();
+                    for (Attempt attempt : attempts) {
+                        if (attempt != winner) attempt.cancel();
+                    }
+                    for (Future<Attempt> future : futures) {
+                        if (future != finishedFuture) future.cancel(true);
+                    }
+                    winner.commit();
+                    if (attempts.size() > 1) {
+                        this.recordSpeculation(stage, winner == primaryAttempt ? "lost" : "won");
+                    }
+                    return;
+                } catch (ExecutionException e) {
+                    if (firstFailure == null) firstFailure = e.getCause();
+                    if (numFinishedAttempts >= attempts.size()) break;
+                    logger.warn("An attempt to execute {} failed. Waiting for the other one.", stage, e.getCause());
+                    finishedFuture = completionService.take();
+                }
+            }
+            if (attempts.size() > 1) this.recordSpeculation(stage, "failed");
+            if (firstFailure instanceof RuntimeException) throw (RuntimeException) firstFailure;
+            if (firstFailure instanceof Error) throw (Error) firstFailure;
+            throw new WayangException(String.format("Executing %s failed.", stage), firstFailure);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            attempts.forEach(Attempt::cancel);
+            futures.forEach(future -> future.cancel(true));
+            throw new WayangException(String.format("Interrupted while executing %s.", stage), e);
+        }
+    }
+
+    private void recordSpeculation(ExecutionStage stage, String outcome) {
+        final ExecutionMetrics metrics = ExecutionMetrics.fromConfiguration(this.configuration);
+        if (metrics != null) {
+            metrics.recordSpeculation(stage.getPlatformExecution().getPlatform(), outcome);
+        }
+    }
+
+    /**
+     * An attempt to execute an {@link ExecutionStage}. Its results are withheld from the actual
+     * {@link ExecutionState} until it is {@link #commit() committed}.
+     */
+    private static class Attempt implements Callable<Attempt>, ExecutionState {
+
+        private final Executor executor;
+
+        private final ExecutionStage stage;
+
+        private final OptimizationContext optimizationContext;
+
+        private final ExecutionState executionState;
+
+        private final Collection<ChannelInstance> channelInstances = new ArrayList<>();
+
+        private final Collection<ChannelInstance> cardinalityMeasurements = new ArrayList<>();
+
+        private final Collection<PartialExecution> partialExecutions = new ArrayList<>();
+
+        private boolean isFinished = false, isDiscarded = false;
+
+        private Attempt(Executor executor,
+                        ExecutionStage stage,
+                        OptimizationContext optimizationContext,
+                        ExecutionState executionState) {
+            this.executor = executor;
+            this.stage = stage;
+            this.optimizationContext = optimizationContext;
+            this.executionState = executionState;
+        }
+
+        @Override
+        public Attempt call() {
+            try {
+                this.executor.execute(this.stage, this.optimizationContext, this);
+            } finally {
+                synchronized (this) {
+                    this.isFinished = true;
+                    if (this.isDiscarded) this.release();
+                }
+            }
+            return this;
+        }
+
+        /**
+         * Hands over the results of this instance to the actual {@link ExecutionState}.
+         */
+        private synchronized void commit() {
+            for (ChannelInstance channelInstance : this.channelInstances) {
+                this.executionState.register(channelInstance);
+                channelInstance.noteDiscardedReference(true);
+            }
+            this.cardinalityMeasurements.forEach(this.executionState::addCardinalityMeasurement);
+            this.partialExecutions.forEach(this.executionState::add);
+            this.clear();
+        }
+
+        /**
+         * Cancels this instance if it is still running and releases its results once it is finished.
+         */
+        private void cancel() {
+            synchronized (this) {
+                this.isDiscarded = true;
+                if (this.isFinished) {
+                    this.release();
+                    return;
+                }
+            }
+            try {
+                this.executor.cancel(this);
+            } catch (Exception e) {
+                logger.warn("Could not cancel the attempt to execute {} on {}.", this.stage, this.executor, e);
+            }
+        }
+
+        private void release() {
+            this.channelInstances.forEach(channelInstance -> channelInstance.noteDiscardedReference(true));
+            this.clear();
+        }
+
+        private void clear() {
+            this.channelInstances.clear();
+            this.cardinalityMeasurements.clear();
+            this.partialExecutions.clear();
+        }
+
+        @Override
+        public synchronized void register(ChannelInstance channelInstance) {
+            if (this.isDiscarded) return;
+            channelInstance.noteObtainedReference();
+            this.channelInstances.add(channelInstance);
+        }
+
+        @Override
+        public ChannelInstance getChannelInstance(Channel channel) {
+            return this.executionState.getChannelInstance(channel);
+        }
+
+        @Override
+        public synchronized void addCardinalityMeasurement(ChannelInstance channelInstance) {
+            this.cardinalityMeasurements.add(channelInstance);
+        }
+
+        @Override
+        public synchronized Collection<ChannelInstance> getCardinalityMeasurements() {
+            return new ArrayList<>(this.cardinalityMeasurements);
+        }
+
+        @Override
+        public synchronized void add(PartialExecution partialExecution) {
+            this.partialExecutions.add(partialExecution);
+        }
+
+        @Override
+        public synchronized Collection<PartialExecution> getPartialExecutions() {
+            return new ArrayList<>(this.partialExecutions);
+        }
+    }
+
+}
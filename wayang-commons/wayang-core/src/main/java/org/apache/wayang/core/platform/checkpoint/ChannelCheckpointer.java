@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.platform.checkpoint;
+
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.executionplan.Channel;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.Executor;
+import org.apache.wayang.core.platform.Platform;
+
+import java.util.Collection;
+
+/**
+ * Writes {@link ChannelInstance}s of certain {@link Channel}s to durable storage and restores them from there.
+ * {@link Platform}s provide instances via {@link Platform#getChannelCheckpointers()}.
+ */
+public interface ChannelCheckpointer {
+
+    /**
+     * Tells in which {@link CheckpointFormat}s the given {@link Channel} can be checkpointed.
+     *
+     * @param channel the {@link Channel}
+     * @return the {@link CheckpointFormat}s; empty if this instance does not handle the {@link Channel}
+     */
+    Collection<CheckpointFormat> getSupportedFormats(Channel channel);
+
+    /**
+     * Writes the data of a {@link ChannelInstance}.
+     *
+     * @param channelInstance the {@link ChannelInstance}, whose {@link Channel} is supported by this instance
+     * @param checkpoint      describes where and how to write
+     * @throws Exception if the writing failed
+     */
+    void write(ChannelInstance channelInstance, Checkpoint checkpoint) throws Exception;
+
+    /**
+     * Restores a {@link ChannelInstance} from a {@link Checkpoint} that has been written by this instance.
+     *
+     * @param checkpoint              the {@link Checkpoint}
+     * @param executor                an {@link Executor} of the {@link Platform} that provides this instance
+     * @param producerOperatorContext the {@link OptimizationContext.OperatorContext} of the producer of the
+     *                                checkpointed {@link Channel} or {@code null}
+     * @return the restored {@link ChannelInstance}
+     * @throws Exception if the reading failed
+     */
+    ChannelInstance read(Checkpoint checkpoint,
+                         Executor executor,
+                         OptimizationContext.OperatorContext producerOperatorContext) throws Exception;
+
+}
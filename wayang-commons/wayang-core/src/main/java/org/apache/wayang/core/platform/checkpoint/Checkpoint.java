@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.platform.checkpoint;
+
+import org.apache.wayang.core.plan.executionplan.Channel;
+import org.apache.wayang.core.platform.Platform;
+
+import java.util.OptionalLong;
+
+/**
+ * Describes the durably stored data of a {@link Channel}.
+ */
+public class Checkpoint {
+
+    private final Channel channel;
+
+    private final CheckpointFormat format;
+
+    private final String url;
+
+    private final Platform platform;
+
+    private final ChannelCheckpointer checkpointer;
+
+    /**
+     * The number of stored data quanta or {@code -1} if unknown.
+     */
+    private long cardinality = -1L;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param channel      whose data is stored
+     * @param format       in which the data is stored
+     * @param url          where the data is stored
+     * @param platform     that provides the {@code checkpointer}
+     * @param checkpointer that writes and reads the data
+     */
+    public Checkpoint(Channel channel, CheckpointFormat format, String url, Platform platform, ChannelCheckpointer checkpointer) {
+        this.channel = channel;
+        this.format = format;
+        this.url = url;
+        this.platform = platform;
+        this.checkpointer = checkpointer;
+    }
+
+    public Channel getChannel() {
+        return this.channel;
+    }
+
+    public CheckpointFormat getFormat() {
+        return this.format;
+    }
+
+    public String getUrl() {
+        return this.url;
+    }
+
+    public Platform getPlatform() {
+        return this.platform;
+    }
+
+    public ChannelCheckpointer getCheckpointer() {
+        return this.checkpointer;
+    }
+
+    /**
+     * @return the index of the {@link #channel} among the output {@link Channel}s of its producer
+     */
+    public int getProducerOutputIndex() {
+        final Channel[] outputChannels = this.channel.getProducer().getOutputChannels();
+        for (int outputIndex = 0; outputIndex < outputChannels.length; outputIndex++) {
+            if (outputChannels[outputIndex] == this.channel) return outputIndex;
+        }
+        throw new IllegalStateException(String.format("%s is not produced by %s.", this.channel, this.channel.getProducer()));
+    }
+
+    public OptionalLong getCardinality() {
+        return this.cardinality < 0 ? OptionalLong.empty() : OptionalLong.of(this.cardinality);
+    }
+
+    public void setCardinality(long cardinality) {
+        this.cardinality = cardinality;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s, %s]", this.getClass().getSimpleName(), this.format, this.url);
+    }
+}
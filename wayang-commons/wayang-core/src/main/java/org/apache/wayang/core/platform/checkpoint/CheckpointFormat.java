@@ -0,0 +1,49 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.platform.checkpoint;
+
+/**
+ * Storage formats for {@link Checkpoint}s.
+ */
+public enum CheckpointFormat {
+
+    /**
+     * Serialized Java objects in a Hadoop sequence file. Applies to any data quanta.
+     */
+    OBJECT_FILE("objectfile"),
+
+    /**
+     * A columnar file format, which is usually more compact but only applies to structured data quanta.
+     */
+    COLUMNAR("columnar");
+
+    private final String configurationName;
+
+    CheckpointFormat(String configurationName) {
+        this.configurationName = configurationName;
+    }
+
+    /**
+     * @return the name of this instance in configuration keys
+     */
+    public String getConfigurationName() {
+        return this.configurationName;
+    }
+
+}
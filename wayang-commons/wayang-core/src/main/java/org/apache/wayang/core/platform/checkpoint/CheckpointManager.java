@@ -0,0 +1,327 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.platform.checkpoint;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.Job;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.monitor.metrics.ExecutionMetrics;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.core.plan.executionplan.Channel;
+import org.apache.wayang.core.plan.executionplan.ExecutionStage;
+import org.apache.wayang.core.plan.executionplan.ExecutionTask;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.ExecutionState;
+import org.apache.wayang.core.platform.Executor;
+import org.apache.wayang.core.platform.Platform;
+import org.apache.wayang.core.util.fs.FileSystems;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * Checkpoints {@link Channel}s between {@link ExecutionStage}s of a {@link Job}, so that a failed {@link Job} can be
+ * resumed without recomputing its completed {@link ExecutionStage}s.
+ * <p>A {@link Channel} is checkpointed only if writing it is estimated to be considerably cheaper than recomputing it,
+ * and it is written in the {@link CheckpointFormat} with the lowest estimated writing time.</p>
+ */
+public class CheckpointManager {
+
+    /**
+     * Configuration key to enable checkpointing.
+     */
+    public static final String ENABLED_PROPERTY_KEY = "wayang.core.checkpoint.enabled";
+
+    /**
+     * Configuration key for the URL of the directory in which checkpoints are stored.
+     */
+    public static final String DIRECTORY_PROPERTY_KEY = "wayang.core.checkpoint.dir";
+
+    /**
+     * Configuration key for the throughput of writing checkpoints in MB per second.
+     */
+    public static final String WRITE_THROUGHPUT_PROPERTY_KEY = "wayang.core.checkpoint.write-mb-per-s";
+
+    /**
+     * Configuration key for the factor by which the recomputation time must exceed the writing time of a checkpoint.
+     */
+    public static final String MIN_GAIN_PROPERTY_KEY = "wayang.core.checkpoint.min-gain";
+
+    /**
+     * Configuration key to keep the checkpoints after a successful {@link Job}.
+     */
+    public static final String KEEP_PROPERTY_KEY = "wayang.core.checkpoint.keep";
+
+    private static final Logger logger = LogManager.getLogger(CheckpointManager.class);
+
+    private final Configuration configuration;
+
+    /**
+     * URL of the directory for the checkpoints of this instance.
+     */
+    private final String directory;
+
+    private final double bytesPerMilli;
+
+    private final double minGain;
+
+    private final Map<Channel, Checkpoint> checkpoints = new ConcurrentHashMap<>();
+
+    private final AtomicInteger nextCheckpointId = new AtomicInteger(0);
+
+    /**
+     * Creates a new instance.
+     *
+     * @param configuration provides the cost parameters and the {@link Platform}s
+     * @param directory     URL of the directory in which the checkpoints should be stored
+     */
+    public CheckpointManager(Configuration configuration, String directory) {
+        this.configuration = configuration;
+        this.directory = directory;
+        this.bytesPerMilli = configuration.getDoubleProperty(WRITE_THROUGHPUT_PROPERTY_KEY, 100d) * 1024 * 1024 / 1000;
+        this.minGain = configuration.getDoubleProperty(MIN_GAIN_PROPERTY_KEY, 2d);
+    }
+
+    /**
+     * Creates a new instance for a {@link Job} if checkpointing is enabled.
+     *
+     * @param configuration the {@link Configuration} of the {@link Job}
+     * @param jobId         identifies the {@link Job}
+     * @return the new instance or {@code null} if checkpointing is disabled
+     */
+    public static CheckpointManager fromConfiguration(Configuration configuration, String jobId) {
+        if (!configuration.getBooleanProperty(ENABLED_PROPERTY_KEY, false)) return null;
+        final String baseDirectory = configuration.getStringProperty(DIRECTORY_PROPERTY_KEY, "file:///tmp/wayang-checkpoints");
+        return new CheckpointManager(configuration, String.format("%s/%s", baseDirectory, jobId));
+    }
+
+    /**
+     * Estimates the number of bytes of a data quantum in the given {@link CheckpointFormat}.
+     *
+     * @param format the {@link CheckpointFormat}
+     * @return the estimated number of bytes
+     */
+    public double getBytesPerDataQuantum(CheckpointFormat format) {
+        return this.configuration.getDoubleProperty(
+                String.format("wayang.core.checkpoint.%s.bytes-per-record", format.getConfigurationName()),
+                100d
+        );
+    }
+
+    /**
+     * Estimates the milliseconds to write a checkpoint.
+     *
+     * @param format      the {@link CheckpointFormat} of the checkpoint
+     * @param cardinality the number of data quanta to write
+     * @return the estimated milliseconds
+     */
+    public double estimateWriteMillis(CheckpointFormat format, double cardinality) {
+        return cardinality * this.getBytesPerDataQuantum(format) / this.bytesPerMilli;
+    }
+
+    /**
+     * Decides in which {@link CheckpointFormat}s a {@link Channel} is worth checkpointing.
+     *
+     * @param supportedFormats the {@link CheckpointFormat}s that are available for the {@link Channel}
+     * @param cardinality      the number of data quanta in the {@link Channel}
+     * @param recomputeMillis  the milliseconds it would take to recompute the {@link Channel}
+     * @return the worthwhile {@link CheckpointFormat}s in order of their estimated writing time
+     */
+    public List<CheckpointFormat> chooseFormats(Collection<CheckpointFormat> supportedFormats,
+                                                double cardinality,
+                                                long recomputeMillis) {
+        return supportedFormats.stream()
+                .filter(format -> this.minGain * this.estimateWriteMillis(format, cardinality) <= recomputeMillis)
+                .sorted(Comparator.comparingDouble(format -> this.estimateWriteMillis(format, cardinality)))
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Checkpoints the outbound {@link Channel}s of an executed {@link ExecutionStage} where worthwhile. Failing to
+     * write a checkpoint is not fatal.
+     *
+     * @param stage               the executed {@link ExecutionStage}
+     * @param executionState      provides the {@link ChannelInstance}s of the outbound {@link Channel}s
+     * @param optimizationContext provides {@link CardinalityEstimate}s for the outbound {@link Channel}s
+     * @param recomputeMillis     the milliseconds it would take to recompute the {@code stage} and its predecessors
+     */
+    public void checkpointOutputs(ExecutionStage stage,
+                                  ExecutionState executionState,
+                                  OptimizationContext optimizationContext,
+                                  long recomputeMillis) {
+        if (stage.getLoop() != null) return;
+        for (Channel channel : stage.getOutboundChannels()) {
+            if (!channel.isReusable() || this.checkpoints.containsKey(channel)) continue;
+            final ChannelInstance channelInstance = executionState.getChannelInstance(channel);
+            if (channelInstance == null) continue;
+            final double cardinality = this.getCardinality(channelInstance, optimizationContext);
+            if (Double.isNaN(cardinality)) continue;
+            this.checkpoint(channelInstance, cardinality, recomputeMillis);
+        }
+    }
+
+    private double getCardinality(ChannelInstance channelInstance, OptimizationContext optimizationContext) {
+        final OptionalLong measuredCardinality = channelInstance.getMeasuredCardinality();
+        if (measuredCardinality.isPresent()) return measuredCardinality.getAsLong();
+        try {
+            final CardinalityEstimate estimate = channelInstance.getChannel().getCardinalityEstimate(optimizationContext);
+            return estimate == null ? Double.NaN : estimate.getGeometricMeanEstimate();
+        } catch (IllegalStateException e) {
+            return Double.NaN;
+        }
+    }
+
+    private void checkpoint(ChannelInstance channelInstance, double cardinality, long recomputeMillis) {
+        final Channel channel = channelInstance.getChannel();
+        for (Platform platform : this.configuration.getPlatformProvider().provideAll()) {
+            for (ChannelCheckpointer checkpointer : platform.getChannelCheckpointers()) {
+                final List<CheckpointFormat> formats = this.chooseFormats(
+                        checkpointer.getSupportedFormats(channel), cardinality, recomputeMillis
+                );
+                if (formats.isEmpty()) continue;
+                for (CheckpointFormat format : formats) {
+                    final Checkpoint checkpoint = new Checkpoint(
+                            channel,
+                            format,
+                            String.format("%s/%04d-%s", this.directory, this.nextCheckpointId.getAndIncrement(), format.getConfigurationName()),
+                            platform,
+                            checkpointer
+                    );
+                    if (this.write(channelInstance, checkpoint)) return;
+                }
+                return;
+            }
+        }
+    }
+
+    private boolean write(ChannelInstance channelInstance, Checkpoint checkpoint) {
+        final long startNanos = System.nanoTime();
+        try {
+            checkpoint.getCheckpointer().write(channelInstance, checkpoint);
+        } catch (Exception e) {
+            logger.warn("Could not write {} for {}.", checkpoint, channelInstance, e);
+            this.delete(checkpoint.getUrl());
+            return false;
+        }
+        channelInstance.getMeasuredCardinality().ifPresent(checkpoint::setCardinality);
+        this.checkpoints.put(checkpoint.getChannel(), checkpoint);
+        final long writeNanos = System.nanoTime() - startNanos;
+        logger.info("Wrote {} for {} in {} ms.", checkpoint, channelInstance, writeNanos / 1_000_000);
+        final ExecutionMetrics metrics = ExecutionMetrics.fromConfiguration(this.configuration);
+        if (metrics != null) {
+            metrics.recordCheckpoint(checkpoint.getPlatform(), checkpoint.getFormat().getConfigurationName(), writeNanos);
+        }
+        return true;
+    }
+
+    /**
+     * Determines the {@link ExecutionStage}s that need not be executed again when resuming a {@link Job}. These are
+     * the {@code completedStages} whose outbound {@link Channel}s are either consumed only by other such
+     * {@link ExecutionStage}s or have been checkpointed. {@link ExecutionStage}s in loops are always executed again.
+     *
+     * @param completedStages the {@link ExecutionStage}s that have been completed in the failed {@link Job}
+     * @return the reusable {@link ExecutionStage}s
+     */
+    public Set<ExecutionStage> determineReusableStages(Collection<ExecutionStage> completedStages) {
+        final Set<ExecutionStage> reusableStages = completedStages.stream()
+                .filter(stage -> stage.getLoop() == null)
+                .collect(Collectors.toCollection(HashSet::new));
+        boolean isChanged;
+        do {
+            isChanged = reusableStages.removeIf(stage -> stage.getOutboundChannels().stream()
+                    .anyMatch(channel -> !this.checkpoints.containsKey(channel)
+                            && channel.getConsumers().stream()
+                            .map(ExecutionTask::getStage)
+                            .anyMatch(consumerStage -> consumerStage != stage && !reusableStages.contains(consumerStage))
+                    )
+            );
+        } while (isChanged);
+        return reusableStages;
+    }
+
+    /**
+     * Provides the {@link Checkpoint} of a {@link Channel}.
+     *
+     * @param channel the {@link Channel}
+     * @return the {@link Checkpoint} or {@code null} if none
+     */
+    public Checkpoint getCheckpoint(Channel channel) {
+        return this.checkpoints.get(channel);
+    }
+
+    /**
+     * Restores a {@link ChannelInstance} from its {@link Checkpoint}.
+     *
+     * @param checkpoint              the {@link Checkpoint}
+     * @param executor                an {@link Executor} for the {@link Checkpoint#getPlatform()}
+     * @param producerOperatorContext the {@link OptimizationContext.OperatorContext} of the producer of the
+     *                                checkpointed {@link Channel} or {@code null}
+     * @return the restored {@link ChannelInstance}
+     */
+    public ChannelInstance restore(Checkpoint checkpoint,
+                                   Executor executor,
+                                   OptimizationContext.OperatorContext producerOperatorContext) {
+        try {
+            final ChannelInstance channelInstance = checkpoint.getCheckpointer().read(checkpoint, executor, producerOperatorContext);
+            logger.info("Restored {} from {}.", checkpoint.getChannel(), checkpoint);
+            return channelInstance;
+        } catch (Exception e) {
+            throw new WayangException(String.format("Could not restore %s from %s.", checkpoint.getChannel(), checkpoint), e);
+        }
+    }
+
+    /**
+     * Deletes all checkpoints of this instance unless they should be kept as per the {@link Configuration}.
+     */
+    public void discard() {
+        if (this.configuration.getBooleanProperty(KEEP_PROPERTY_KEY, false)) return;
+        this.checkpoints.clear();
+        this.delete(this.directory);
+    }
+
+    private void delete(String url) {
+        FileSystems.getFileSystem(url).ifPresent(fileSystem -> {
+            try {
+                fileSystem.delete(url, true);
+            } catch (Exception e) {
+                logger.warn("Could not delete {}.", url, e);
+            }
+        });
+    }
+
+    /**
+     * @return the {@link Checkpoint}s of this instance
+     */
+    public Collection<Checkpoint> getCheckpoints() {
+        return new ArrayList<>(this.checkpoints.values());
+    }
+}
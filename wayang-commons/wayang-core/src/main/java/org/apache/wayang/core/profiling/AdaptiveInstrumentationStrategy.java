@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.profiling;
+
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.core.plan.executionplan.Channel;
+import org.apache.wayang.core.plan.executionplan.ExecutionStage;
+import org.apache.wayang.core.platform.CardinalityBreakpoint;
+
+/**
+ * Instruments only outbound {@link Channel}s. Those {@link Channel}s whose {@link CardinalityEstimate}s are too
+ * uncertain for a {@link CardinalityBreakpoint} are measured exactly, as the re-optimization depends on them. All
+ * other {@link Channel}s are only sampled.
+ */
+public class AdaptiveInstrumentationStrategy implements InstrumentationStrategy {
+
+    @Override
+    public void applyTo(ExecutionStage stage) {
+        // Without estimates, we cannot tell which Channels are uncertain.
+        stage.getOutboundChannels().forEach(Channel::markForInstrumentation);
+    }
+
+    @Override
+    public void applyTo(ExecutionStage stage, OptimizationContext optimizationContext) {
+        if (optimizationContext == null) {
+            this.applyTo(stage);
+            return;
+        }
+        final CardinalityBreakpoint breakpoint = new CardinalityBreakpoint(optimizationContext.getConfiguration());
+        for (Channel channel : stage.getOutboundChannels()) {
+            final CardinalityEstimate estimate = breakpoint.getCardinalityEstimate(channel, optimizationContext);
+            if (estimate == null || !breakpoint.approves(estimate)) {
+                channel.markForInstrumentation();
+            } else {
+                channel.markForSampledInstrumentation();
+            }
+        }
+    }
+}
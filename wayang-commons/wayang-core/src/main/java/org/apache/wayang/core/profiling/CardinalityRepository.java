@@ -75,7 +75,7 @@ public class CardinalityRepository {
      *                            injected in this {@link OptimizationContext} to guarantee that we capture the most
      *                            possible accurate data
      */
-    public void storeAll(ExecutionState executionState, OptimizationContext optimizationContext) {
+    public synchronized void storeAll(ExecutionState executionState, OptimizationContext optimizationContext) {
         this.logger.info("Storing cardinalities at {}.", this.repositoryPath);
 
 //        executionState.getCardinalityMeasurements().forEach(
@@ -107,7 +107,7 @@ public class CardinalityRepository {
      * Stores the {@code cardinality} for the {@code output} together with its {@link Operator} and input
      * {@link CardinalityEstimate}s.
      */
-    public void store(OutputSlot<?> output, long cardinality, OptimizationContext.OperatorContext operatorContext) {
+    public synchronized void store(OutputSlot<?> output, long cardinality, OptimizationContext.OperatorContext operatorContext) {
         assert output.getOwner() == operatorContext.getOperator() :
                 String.format("Owner of %s is not %s.", output, operatorContext.getOperator());
         if (!operatorContext.getOutputCardinality(output.getIndex()).isExactly(cardinality)) {
@@ -188,7 +188,7 @@ public class CardinalityRepository {
     /**
      * Allows this instance to free its system resources, as they might not be needed in the closer future.
      */
-    public void sleep() {
+    public synchronized void sleep() {
         IOUtils.closeQuietly(this.writer);
         this.writer = null;
     }
@@ -64,6 +64,11 @@ public class ExecutionLog implements AutoCloseable {
      */
     private BufferedWriter writer;
 
+    /**
+     * Serializes writes of all instances.
+     */
+    private static final Object WRITE_LOCK = new Object();
+
     private ExecutionLog(Configuration configuration, String repositoryPath) {
         this.configuration = configuration;
         this.repositoryPath = repositoryPath;
@@ -128,8 +133,12 @@ public class ExecutionLog implements AutoCloseable {
      * Writes the measuremnt to the {@link #repositoryPath}.
      */
     private void write(JSONObject jsonMeasurement) throws IOException {
-        jsonMeasurement.write(this.getWriter());
-        writer.write('\n');
+        // Concurrent jobs might append to the same file, so we write only complete lines.
+        synchronized (WRITE_LOCK) {
+            jsonMeasurement.write(this.getWriter());
+            this.writer.write('\n');
+            this.writer.flush();
+        }
     }
 
     /**
@@ -18,6 +18,7 @@
 
 package org.apache.wayang.core.profiling;
 
+import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.plan.executionplan.Channel;
 import org.apache.wayang.core.plan.executionplan.ExecutionPlan;
 import org.apache.wayang.core.plan.executionplan.ExecutionStage;
@@ -33,4 +34,15 @@ public interface InstrumentationStrategy {
      * @param stage that should be instrumented
      */
     void applyTo(ExecutionStage stage);
+
+    /**
+     * Mark {@link Channel}s within the {@code stage} that should be instrumented. Implementations can override this
+     * method to take the current estimates into account.
+     *
+     * @param stage               that should be instrumented
+     * @param optimizationContext provides the estimates for the {@code stage}
+     */
+    default void applyTo(ExecutionStage stage, OptimizationContext optimizationContext) {
+        this.applyTo(stage);
+    }
 }
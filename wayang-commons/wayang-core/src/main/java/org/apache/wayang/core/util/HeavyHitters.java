@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.util;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Utilities to find heavy hitters, i.e., values that make up a large share of a data set, e.g., in order to detect
+ * skewed join keys.
+ */
+public class HeavyHitters {
+
+    /**
+     * Heavy hitters must occur at least this often in the sample, so that we do not jump to conclusions on tiny
+     * samples.
+     */
+    private static final int MIN_OCCURRENCES = 2;
+
+    /**
+     * Determines the values in a sample that make up at least a certain share of it.
+     *
+     * @param sample       the sampled values (may contain {@code null})
+     * @param minFrequency the minimum share of a heavy hitter in {@code sample}, in {@code (0, 1]}
+     * @return the heavy hitters associated to their share in the {@code sample}
+     */
+    public static <T> Map<T, Double> detect(Iterable<T> sample, double minFrequency) {
+        final Counter<T> counter = new Counter<>();
+        int sampleSize = 0;
+        for (T value : sample) {
+            counter.increment(value);
+            sampleSize++;
+        }
+        final Map<T, Double> heavyHitters = new HashMap<>(4);
+        for (Map.Entry<T, Integer> entry : counter) {
+            final double frequency = entry.getValue() / (double) sampleSize;
+            if (entry.getValue() >= MIN_OCCURRENCES && frequency >= minFrequency) {
+                heavyHitters.put(entry.getKey(), frequency);
+            }
+        }
+        return heavyHitters;
+    }
+
+    /**
+     * Sums up the shares of heavy hitters.
+     *
+     * @param heavyHitters as obtained from {@link #detect(Iterable, double)}
+     * @return the share of the sample that is made up by the {@code heavyHitters}
+     */
+    public static double getMass(Map<?, Double> heavyHitters) {
+        double mass = 0d;
+        for (Double frequency : heavyHitters.values()) {
+            mass += frequency;
+        }
+        return mass;
+    }
+
+    /**
+     * Determines the fraction of a data set that should be sampled to obtain about a certain number of values.
+     *
+     * @param desiredSampleSize the desired number of sampled values
+     * @param dataSetSize       the estimated size of the data set or a non-positive value if unknown
+     * @param fallback          the fraction to use if the {@code dataSetSize} is unknown
+     * @return the sample fraction, at most {@code 1}
+     */
+    public static double getSampleFraction(int desiredSampleSize, long dataSetSize, double fallback) {
+        if (dataSetSize <= 0) return fallback;
+        return Math.min(1d, desiredSampleSize / (double) dataSetSize);
+    }
+
+}
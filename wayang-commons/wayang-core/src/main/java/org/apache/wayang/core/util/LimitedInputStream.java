@@ -57,7 +57,10 @@ public class LimitedInputStream extends InputStream {
      * @return the amount of bytes that can be read or {@code -1} if no bytes must be read any longer
      */
     private int getMaxBytesToRead(int len) {
-        if (this.maxReadBytes != -1 && this.numReadBytes >= this.maxReadBytes) {
+        if (this.maxReadBytes == -1) {
+            return len;
+        }
+        if (this.numReadBytes >= this.maxReadBytes) {
             return -1;
         }
         return (int) Math.min(len, this.maxReadBytes - this.numReadBytes);
@@ -0,0 +1,193 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.util.fs;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.FSDataInputStream;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.compress.BZip2Codec;
+import org.apache.hadoop.io.compress.SplitCompressionInputStream;
+import org.apache.hadoop.io.compress.SplittableCompressionCodec;
+import org.apache.hadoop.util.ReflectionUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link Iterator} over the lines of a {@link FileSplit} of a file in a splittable {@link Compression} format.
+ * As for Hadoop's {@code LineRecordReader}, a {@link FileSplit} is adjusted to the compression blocks; it skips the
+ * first line unless it starts at the beginning of the file and it reads lines as long as the compressed position
+ * has not passed its adjusted end.
+ */
+public class CompressedFileSplitLineIterator implements Iterator<String>, AutoCloseable {
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final SplitCompressionInputStream inputStream;
+
+    /**
+     * Compressed offset after which no more lines should be started.
+     */
+    private final long end;
+
+    private final byte[] buffer = new byte[BUFFER_SIZE];
+
+    private int bufferPosition, bufferLimit;
+
+    private boolean isExhausted = false;
+
+    /**
+     * Collects the bytes of the current line.
+     */
+    private byte[] lineBytes = new byte[256];
+
+    private int lineLength;
+
+    private String next;
+
+    /**
+     * Decodes the lines.
+     */
+    private final Charset charset;
+
+    public CompressedFileSplitLineIterator(FileSplit split, Compression compression) throws IOException {
+        this(split, compression, StandardCharsets.UTF_8);
+    }
+
+    public CompressedFileSplitLineIterator(FileSplit split, Compression compression, Charset charset) throws IOException {
+        this.charset = charset;
+        if (!compression.isSplittable()) {
+            throw new IllegalArgumentException(String.format("%s is not splittable.", compression));
+        }
+        assert compression == Compression.BZIP2;
+
+        final Configuration conf = new Configuration(true);
+        final Path path = new Path(split.getUrl());
+        final FSDataInputStream fileInputStream = path.getFileSystem(conf).open(path);
+        try {
+            final SplittableCompressionCodec codec = ReflectionUtils.newInstance(BZip2Codec.class, conf);
+            this.inputStream = codec.createInputStream(
+                    fileInputStream, null, split.getStart(), split.getEnd(), SplittableCompressionCodec.READ_MODE.BYBLOCK
+            );
+        } catch (IOException e) {
+            fileInputStream.close();
+            throw e;
+        }
+        this.end = this.inputStream.getAdjustedEnd();
+
+        try {
+            if (this.inputStream.getAdjustedStart() != 0) {
+                // Skip the remainder of the line that belongs to the preceding split.
+                this.readLine();
+            }
+            this.advance();
+        } catch (UncheckedIOException e) {
+            this.close();
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Reads the bytes up to the next newline character into {@link #lineBytes}.
+     *
+     * @return whether any byte could be read
+     */
+    private boolean readLine() {
+        this.lineLength = 0;
+        boolean isAnyRead = false;
+        while (this.bufferPosition < this.bufferLimit || this.refill()) {
+            isAnyRead = true;
+            int lineEnd = this.bufferPosition;
+            while (lineEnd < this.bufferLimit && this.buffer[lineEnd] != '\n') lineEnd++;
+            final int numBytes = lineEnd - this.bufferPosition;
+            if (this.lineLength + numBytes > this.lineBytes.length) {
+                this.lineBytes = Arrays.copyOf(this.lineBytes, Math.max(this.lineLength + numBytes, 2 * this.lineBytes.length));
+            }
+            System.arraycopy(this.buffer, this.bufferPosition, this.lineBytes, this.lineLength, numBytes);
+            this.lineLength += numBytes;
+            if (lineEnd < this.bufferLimit) {
+                // Consume the newline character.
+                this.bufferPosition = lineEnd + 1;
+                return true;
+            }
+            this.bufferPosition = this.bufferLimit;
+        }
+        return isAnyRead;
+    }
+
+    private boolean refill() {
+        if (this.isExhausted) return false;
+        try {
+            int numReadBytes;
+            do {
+                numReadBytes = this.inputStream.read(this.buffer, 0, this.buffer.length);
+            } while (numReadBytes == 0);
+            this.bufferPosition = 0;
+            this.bufferLimit = Math.max(0, numReadBytes);
+            this.isExhausted = numReadBytes < 0;
+            return numReadBytes > 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void advance() {
+        this.next = null;
+        try {
+            if (this.inputStream.getPos() <= this.end && this.readLine()) {
+                int length = this.lineLength;
+                if (length > 0 && this.lineBytes[length - 1] == '\r') length--;
+                this.next = new String(this.lineBytes, 0, length, this.charset);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (this.next == null) {
+                this.close();
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.next != null;
+    }
+
+    @Override
+    public String next() {
+        if (!this.hasNext()) throw new NoSuchElementException();
+        final String returnValue = this.next;
+        this.advance();
+        return returnValue;
+    }
+
+    @Override
+    public void close() {
+        this.next = null;
+        this.isExhausted = true;
+        this.bufferPosition = this.bufferLimit = 0;
+        IOUtils.closeQuietly(this.inputStream);
+    }
+}
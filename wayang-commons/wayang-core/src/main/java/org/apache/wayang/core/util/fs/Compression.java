@@ -0,0 +1,246 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.util.fs;
+
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorInputStream;
+import org.apache.commons.compress.compressors.bzip2.BZip2CompressorOutputStream;
+import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorInputStream;
+import org.apache.commons.compress.compressors.lz4.FramedLZ4CompressorOutputStream;
+import org.apache.commons.compress.compressors.zstandard.ZstdCompressorInputStream;
+import org.apache.commons.compress.compressors.zstandard.ZstdCompressorOutputStream;
+import org.apache.wayang.core.api.Configuration;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Locale;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Compression formats that Wayang can read and write files in.
+ */
+public enum Compression {
+
+    NONE(1d, false, new byte[0]) {
+        @Override
+        public InputStream decompress(InputStream inputStream) {
+            return inputStream;
+        }
+
+        @Override
+        public OutputStream compress(OutputStream outputStream) {
+            return outputStream;
+        }
+    },
+
+    GZIP(4d, false, new byte[]{0x1f, (byte) 0x8b}, ".gz", ".gzip") {
+        @Override
+        public InputStream decompress(InputStream inputStream) throws IOException {
+            return new GZIPInputStream(inputStream, BUFFER_SIZE);
+        }
+
+        @Override
+        public OutputStream compress(OutputStream outputStream) throws IOException {
+            return new GZIPOutputStream(outputStream, BUFFER_SIZE);
+        }
+    },
+
+    /**
+     * BZip2 is block-compressed and can therefore be read in {@link FileSplit}s.
+     */
+    BZIP2(5d, true, new byte[]{'B', 'Z', 'h'}, ".bz2") {
+        @Override
+        public InputStream decompress(InputStream inputStream) throws IOException {
+            return new BZip2CompressorInputStream(inputStream, true);
+        }
+
+        @Override
+        public OutputStream compress(OutputStream outputStream) throws IOException {
+            return new BZip2CompressorOutputStream(outputStream);
+        }
+    },
+
+    ZSTD(4.5d, false, new byte[]{0x28, (byte) 0xb5, 0x2f, (byte) 0xfd}, ".zst", ".zstd") {
+        @Override
+        public InputStream decompress(InputStream inputStream) throws IOException {
+            return new ZstdCompressorInputStream(inputStream);
+        }
+
+        @Override
+        public OutputStream compress(OutputStream outputStream) throws IOException {
+            return new ZstdCompressorOutputStream(outputStream);
+        }
+    },
+
+    LZ4(2.5d, false, new byte[]{0x04, 0x22, 0x4d, 0x18}, ".lz4") {
+        @Override
+        public InputStream decompress(InputStream inputStream) throws IOException {
+            return new FramedLZ4CompressorInputStream(inputStream, true);
+        }
+
+        @Override
+        public OutputStream compress(OutputStream outputStream) throws IOException {
+            return new FramedLZ4CompressorOutputStream(outputStream);
+        }
+    };
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    /**
+     * Number of bytes that are needed to detect the {@link Compression} of a file from its contents.
+     */
+    public static final int MAGIC_NUMBER_LENGTH = 10;
+
+    /**
+     * Magic numbers that follow the BZip2 stream header: one for a compressed block (the BCD digits of pi) and one
+     * for the end of an empty stream (the BCD digits of the square root of pi).
+     */
+    private static final byte[][] BZIP2_BLOCK_MAGIC_NUMBERS = {
+            {0x31, 0x41, 0x59, 0x26, 0x53, 0x59},
+            {0x17, 0x72, 0x45, 0x38, 0x50, (byte) 0x90}
+    };
+
+    /**
+     * Typical ratio of uncompressed to compressed bytes.
+     */
+    private final double defaultRatio;
+
+    private final boolean isSplittable;
+
+    private final byte[] magicNumber;
+
+    private final Collection<String> extensions;
+
+    Compression(double defaultRatio, boolean isSplittable, byte[] magicNumber, String... extensions) {
+        this.defaultRatio = defaultRatio;
+        this.isSplittable = isSplittable;
+        this.magicNumber = magicNumber;
+        this.extensions = Collections.unmodifiableList(Arrays.asList(extensions));
+    }
+
+    /**
+     * Wraps the given {@link InputStream} of compressed bytes, so as to provide the uncompressed bytes.
+     *
+     * @param inputStream provides the compressed bytes
+     * @return an {@link InputStream} with the uncompressed bytes
+     * @throws IOException if the stream could not be set up, e.g., because of a corrupt header
+     */
+    public abstract InputStream decompress(InputStream inputStream) throws IOException;
+
+    /**
+     * Wraps the given {@link OutputStream}, so as to compress all bytes written to it.
+     *
+     * @param outputStream that should receive the compressed bytes
+     * @return an {@link OutputStream} that accepts uncompressed bytes
+     * @throws IOException if the stream could not be set up
+     */
+    public abstract OutputStream compress(OutputStream outputStream) throws IOException;
+
+    /**
+     * @return whether files in this format can be decompressed starting at arbitrary {@link FileSplit}s
+     */
+    public boolean isSplittable() {
+        return this.isSplittable;
+    }
+
+    public Collection<String> getExtensions() {
+        return this.extensions;
+    }
+
+    /**
+     * @return the typical ratio of uncompressed to compressed bytes for this format
+     */
+    public double getDefaultRatio() {
+        return this.defaultRatio;
+    }
+
+    /**
+     * Provides the expected ratio of uncompressed to compressed bytes. It can be configured via
+     * {@code wayang.core.fs.compression.<name>.ratio}.
+     *
+     * @param configuration provides the ratio if configured
+     * @return the compression ratio
+     */
+    public double getRatio(Configuration configuration) {
+        if (this == NONE) return 1d;
+        return configuration.getDoubleProperty(
+                String.format("wayang.core.fs.compression.%s.ratio", this.name().toLowerCase(Locale.ROOT)),
+                this.defaultRatio
+        );
+    }
+
+    /**
+     * Determines the {@link Compression} of a file from the extension of its URL.
+     *
+     * @param url the URL of the file
+     * @return the detected {@link Compression}; {@link #NONE} if the extension is unknown
+     */
+    public static Compression detect(String url) {
+        final String lowerCaseUrl = url.trim().toLowerCase(Locale.ROOT);
+        for (Compression compression : values()) {
+            for (String extension : compression.extensions) {
+                if (lowerCaseUrl.endsWith(extension)) return compression;
+            }
+        }
+        return NONE;
+    }
+
+    /**
+     * Determines the {@link Compression} of a file from its first bytes.
+     *
+     * @param header the first (up to {@link #MAGIC_NUMBER_LENGTH}) bytes of the file
+     * @param length the number of valid bytes in the {@code header}
+     * @return the detected {@link Compression}; {@link #NONE} if no magic number matches
+     */
+    public static Compression detect(byte[] header, int length) {
+        for (Compression compression : values()) {
+            final byte[] magicNumber = compression.magicNumber;
+            if (magicNumber.length == 0 || magicNumber.length > length) continue;
+            boolean isMatch = true;
+            for (int i = 0; i < magicNumber.length && isMatch; i++) {
+                isMatch = header[i] == magicNumber[i];
+            }
+            // "BZh" might just as well start a text file, so we check the block size and the block magic number, too.
+            if (compression == BZIP2) isMatch &= isBzip2Header(header, length);
+            if (isMatch) return compression;
+        }
+        return NONE;
+    }
+
+    /**
+     * Checks the block size and the subsequent block magic number of a BZip2 stream header after the "BZh" prefix.
+     */
+    private static boolean isBzip2Header(byte[] header, int length) {
+        if (length < 4 + BZIP2_BLOCK_MAGIC_NUMBERS[0].length) return false;
+        if (header[3] < '1' || header[3] > '9') return false;
+        for (byte[] blockMagicNumber : BZIP2_BLOCK_MAGIC_NUMBERS) {
+            boolean isMatch = true;
+            for (int i = 0; i < blockMagicNumber.length && isMatch; i++) {
+                isMatch = header[4 + i] == blockMagicNumber[i];
+            }
+            if (isMatch) return true;
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.util.fs;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Describes a contiguous byte range of a file together with the hosts that store it.
+ */
+public class FileSplit implements Serializable {
+
+    /**
+     * URL of the file that this instance is a split of.
+     */
+    private final String url;
+
+    /**
+     * Offset of the first byte and number of bytes of this split.
+     */
+    private final long start, length;
+
+    /**
+     * Names of the hosts that store the bytes of this split; might be empty.
+     */
+    private final String[] hosts;
+
+    public FileSplit(String url, long start, long length, String... hosts) {
+        assert start >= 0 && length >= 0;
+        this.url = url;
+        this.start = start;
+        this.length = length;
+        this.hosts = hosts == null ? new String[0] : hosts;
+    }
+
+    public String getUrl() {
+        return this.url;
+    }
+
+    public long getStart() {
+        return this.start;
+    }
+
+    public long getLength() {
+        return this.length;
+    }
+
+    /**
+     * @return the offset right after the last byte of this split
+     */
+    public long getEnd() {
+        return this.start + this.length;
+    }
+
+    public String[] getHosts() {
+        return this.hosts;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || this.getClass() != o.getClass()) return false;
+        FileSplit fileSplit = (FileSplit) o;
+        return this.start == fileSplit.start &&
+                this.length == fileSplit.length &&
+                Objects.equals(this.url, fileSplit.url);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(this.url, this.start, this.length);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[%s:%d+%d@%s]",
+                this.getClass().getSimpleName(), this.url, this.start, this.length, Arrays.toString(this.hosts)
+        );
+    }
+}
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.util.fs;
+
+import org.apache.commons.io.IOUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * {@link Iterator} over the lines of a {@link FileSplit}. A line belongs to the {@link FileSplit} in which it
+ * starts, so that the lines of all {@link FileSplit}s of a file add up to the lines of the whole file. If the
+ * {@link RandomAccessFileSystem} supports it, sufficiently large {@link FileSplit}s are read from a memory mapping.
+ * Lines are separated on the byte level, so the {@link Charset} must encode line breaks as single ASCII bytes.
+ */
+public class FileSplitLineIterator implements Iterator<String>, AutoCloseable {
+
+    /**
+     * {@link FileSplit}s with at least that many bytes are memory-mapped if possible.
+     */
+    private static final long MIN_MAPPING_SIZE = 1L << 20;
+
+    /**
+     * Number of bytes to map beyond the end of a {@link FileSplit} to catch the last line.
+     */
+    private static final long MAPPING_SLACK = 1L << 20;
+
+    private static final int BUFFER_SIZE = 1 << 16;
+
+    private final RandomAccessFileSystem fileSystem;
+
+    private final FileSplit split;
+
+    /**
+     * Provides the next bytes to be read; might be a memory mapping.
+     */
+    private ByteBuffer buffer;
+
+    /**
+     * Refills the {@link #buffer}; {@code null} as long as we are reading from a memory mapping.
+     */
+    private ReadableByteChannel channel;
+
+    /**
+     * Tells whether there are no more bytes beyond the current {@link #buffer} if we are reading from a memory mapping.
+     */
+    private boolean isMappedToEnd;
+
+    /**
+     * Absolute offset in the file of the next byte in the {@link #buffer}.
+     */
+    private long position;
+
+    /**
+     * Collects the bytes of the current line.
+     */
+    private byte[] lineBytes = new byte[256];
+
+    private int lineLength;
+
+    private String next;
+
+    /**
+     * Decodes the lines.
+     */
+    private final Charset charset;
+
+    public FileSplitLineIterator(RandomAccessFileSystem fileSystem, FileSplit split) throws IOException {
+        this(fileSystem, split, StandardCharsets.UTF_8);
+    }
+
+    public FileSplitLineIterator(RandomAccessFileSystem fileSystem, FileSplit split, Charset charset) throws IOException {
+        this.fileSystem = fileSystem;
+        this.charset = charset;
+        this.split = split;
+
+        // Start one byte early to find out whether the first line starts exactly at the beginning of the split.
+        final long readStart = Math.max(0L, split.getStart() - 1);
+        final String url = split.getUrl();
+        if (split.getLength() >= MIN_MAPPING_SIZE && fileSystem.isMappable(url)) {
+            final long fileSize = fileSystem.getFileSize(url);
+            final long mapSize = Math.min(Integer.MAX_VALUE, Math.min(fileSize, split.getEnd() + MAPPING_SLACK) - readStart);
+            this.buffer = fileSystem.map(url, readStart, mapSize);
+            this.isMappedToEnd = readStart + mapSize >= fileSize;
+        } else {
+            this.channel = fileSystem.openChannel(url, readStart);
+            this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            this.buffer.limit(0);
+        }
+        this.position = readStart;
+
+        try {
+            if (split.getStart() > 0) {
+                // Skip the remainder of the line that belongs to the preceding split.
+                this.readLine();
+            }
+            this.advance();
+        } catch (UncheckedIOException e) {
+            this.close();
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Reads the bytes up to the next newline character into {@link #lineBytes}.
+     *
+     * @return whether any byte could be read
+     */
+    private boolean readLine() {
+        this.lineLength = 0;
+        boolean isAnyRead = false;
+        while (this.buffer.hasRemaining() || this.refill()) {
+            isAnyRead = true;
+            final int start = this.buffer.position(), limit = this.buffer.limit();
+            int end = start;
+            while (end < limit && this.buffer.get(end) != '\n') end++;
+            final int numBytes = end - start;
+            this.ensureLineCapacity(this.lineLength + numBytes);
+            this.buffer.get(this.lineBytes, this.lineLength, numBytes);
+            this.lineLength += numBytes;
+            this.position += numBytes;
+            if (end < limit) {
+                // Consume the newline character.
+                this.buffer.get();
+                this.position++;
+                return true;
+            }
+        }
+        return isAnyRead;
+    }
+
+    private void ensureLineCapacity(int capacity) {
+        if (capacity > this.lineBytes.length) {
+            this.lineBytes = Arrays.copyOf(this.lineBytes, Math.max(capacity, 2 * this.lineBytes.length));
+        }
+    }
+
+    /**
+     * Fills the {@link #buffer} with the next bytes.
+     *
+     * @return whether any bytes are available
+     */
+    private boolean refill() {
+        try {
+            if (this.channel == null) {
+                if (this.isMappedToEnd) return false;
+                // The line exceeds the mapping, so we continue with conventional reads.
+                this.channel = this.fileSystem.openChannel(this.split.getUrl(), this.position);
+                this.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+            }
+            this.buffer.clear();
+            int numReadBytes;
+            do {
+                numReadBytes = this.channel.read(this.buffer);
+            } while (numReadBytes == 0);
+            this.buffer.flip();
+            return numReadBytes > 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void advance() {
+        this.next = null;
+        try {
+            if (this.position < this.split.getEnd() && this.readLine()) {
+                int length = this.lineLength;
+                if (length > 0 && this.lineBytes[length - 1] == '\r') length--;
+                this.next = new String(this.lineBytes, 0, length, this.charset);
+            }
+        } finally {
+            if (this.next == null) {
+                this.close();
+            }
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        return this.next != null;
+    }
+
+    @Override
+    public String next() {
+        if (!this.hasNext()) throw new NoSuchElementException();
+        final String returnValue = this.next;
+        this.advance();
+        return returnValue;
+    }
+
+    @Override
+    public void close() {
+        this.next = null;
+        this.buffer = ByteBuffer.allocate(0);
+        this.isMappedToEnd = true;
+        if (this.channel != null) {
+            IOUtils.closeQuietly(this.channel);
+            this.channel = null;
+        }
+    }
+}
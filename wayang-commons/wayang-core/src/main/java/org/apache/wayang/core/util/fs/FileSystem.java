@@ -38,6 +38,15 @@ public interface FileSystem {
      */
     long getFileSize(String fileUrl) throws FileNotFoundException;
 
+    /**
+     * Return the time of the last modification of a given file.
+     *
+     * @param fileUrl URL that identifies the file
+     * @return the modification time in milliseconds since the epoch
+     * @throws FileNotFoundException if the file could not be found
+     */
+    long getLastModified(String fileUrl) throws FileNotFoundException;
+
     /**
      * @return whether this instance is eligible to operate the file specified in the given {@code url}
      */
@@ -24,6 +24,8 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -43,6 +45,11 @@ public class FileSystems {
      */
     private static final LruCache<String, Long> fileSizeCache = new LruCache<>(20);
 
+    /**
+     * Detecting the {@link Compression} of a file might require to read it, so we cache the results as well.
+     */
+    private static final LruCache<String, Compression> compressionCache = new LruCache<>(20);
+
     private static Collection<FileSystem> registeredFileSystems = Arrays.asList(
             new LocalFileSystem(),
             new HadoopFileSystem()
@@ -89,6 +96,44 @@ public class FileSystems {
         return OptionalLong.empty();
     }
 
+    /**
+     * Determine the {@link Compression} of a given file. The file extension is inspected first; if it is not
+     * conclusive, the first bytes of the file are checked for magic numbers.
+     *
+     * @param fileUrl the URL of the file
+     * @return the {@link Compression} of the file or {@link Compression#NONE} if it could not be determined
+     */
+    public static Compression detectCompression(String fileUrl) {
+        Compression compression = Compression.detect(fileUrl);
+        if (compression != Compression.NONE) return compression;
+        compression = compressionCache.get(fileUrl);
+        if (compression == null) {
+            compression = detectCompressionFromContents(fileUrl);
+            compressionCache.put(fileUrl, compression);
+        }
+        return compression;
+    }
+
+    private static Compression detectCompressionFromContents(String fileUrl) {
+        final Optional<FileSystem> fileSystem = FileSystems.getFileSystem(fileUrl);
+        if (!fileSystem.isPresent()) return Compression.NONE;
+        byte[] header = new byte[Compression.MAGIC_NUMBER_LENGTH];
+        int headerLength = 0;
+        try {
+            if (fileSystem.get().isDirectory(fileUrl)) return Compression.NONE;
+            try (InputStream inputStream = fileSystem.get().open(fileUrl)) {
+                int numReadBytes;
+                while (headerLength < header.length
+                        && (numReadBytes = inputStream.read(header, headerLength, header.length - headerLength)) != -1) {
+                    headerLength += numReadBytes;
+                }
+            }
+        } catch (IOException | WayangException e) {
+            LOGGER.warn("Could not inspect the header of {}.", fileUrl, e);
+        }
+        return Compression.detect(header, headerLength);
+    }
+
     /**
      * Systems such as Spark do not produce a single output file often times. That method tries to detect such
      * split object files to reassemble them correctly. As of now assumes either a Spark layout or a single file.
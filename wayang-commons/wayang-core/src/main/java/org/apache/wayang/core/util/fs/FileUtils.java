@@ -23,15 +23,35 @@ import org.apache.wayang.core.api.exception.WayangException;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.UncheckedIOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.Spliterator;
 import java.util.Spliterators;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 public class FileUtils {
 
+    /**
+     * Default maximum number of bytes of the {@link FileSplit}s that files are read in.
+     */
+    public static final long DEFAULT_SPLIT_SIZE = 128L << 20;
+
     /**
      * Creates a {@link Stream} of a lines of the file.
      *
@@ -39,11 +59,48 @@ public class FileUtils {
      * @return the {@link Stream}
      */
     public static Stream<String> streamLines(String path) {
+        return streamLines(path, DEFAULT_SPLIT_SIZE, false);
+    }
+
+    /**
+     * Creates a {@link Stream} of the UTF-8 lines of the file.
+     *
+     * @see #streamLines(String, long, boolean, Charset)
+     */
+    public static Stream<String> streamLines(String path, long maxSplitSize, boolean isParallel) {
+        return streamLines(path, maxSplitSize, isParallel, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a sequential {@link Stream} of a lines of the file. Compressed files are decompressed on the fly. If
+     * the file resides in a {@link RandomAccessFileSystem} and is not compressed or in a splittable
+     * {@link Compression} format, it is read in {@link FileSplit}s, which can be prefetched in parallel.
+     *
+     * @param path         of the file
+     * @param maxSplitSize maximum number of bytes per {@link FileSplit}
+     * @param isParallel   whether the {@link FileSplit}s should be read in parallel
+     * @param charset      in which the file is encoded
+     * @return the {@link Stream}
+     */
+    public static Stream<String> streamLines(String path, long maxSplitSize, boolean isParallel, Charset charset) {
         final FileSystem fileSystem = FileSystems.getFileSystem(path).orElseThrow(
                 () -> new IllegalStateException(String.format("No file system found for %s", path))
         );
+        final Compression compression = FileSystems.detectCompression(path);
+        if (fileSystem instanceof RandomAccessFileSystem && isSplittable(charset)
+                && (compression == Compression.NONE || compression.isSplittable())) {
+            final RandomAccessFileSystem randomAccessFileSystem = (RandomAccessFileSystem) fileSystem;
+            try {
+                final List<FileSplit> splits = randomAccessFileSystem.getSplits(path, maxSplitSize);
+                return compression == Compression.NONE ?
+                        streamLines(randomAccessFileSystem, splits, isParallel, charset) :
+                        streamLines(compression, splits, isParallel, charset);
+            } catch (IOException e) {
+                throw new WayangException(String.format("%s failed to read %s.", FileUtils.class, path), e);
+            }
+        }
         try {
-            Iterator<String> lineIterator = createLineIterator(fileSystem, path);
+            Iterator<String> lineIterator = createLineIterator(compression.decompress(fileSystem.open(path)), charset);
             return StreamSupport.stream(Spliterators.spliteratorUnknownSize(lineIterator, 0), false);
         } catch (IOException e) {
             throw new WayangException(String.format("%s failed to read %s.", FileUtils.class, path), e);
@@ -52,10 +109,207 @@ public class FileUtils {
     }
 
     /**
-     * Creates an {@link Iterator} over the lines of a given {@code path} (that resides in the given {@code fileSystem}).
+     * Tells whether files in the given {@link Charset} can be split at line boundaries without decoding them, i.e.,
+     * whether line breaks are encoded as the single ASCII bytes.
+     */
+    private static boolean isSplittable(Charset charset) {
+        return Arrays.equals("\r\n".getBytes(charset), new byte[]{'\r', '\n'});
+    }
+
+    /**
+     * Creates a {@link Stream} of the UTF-8 lines of the given {@link FileSplit}s.
+     *
+     * @see #streamLines(RandomAccessFileSystem, Collection, boolean, Charset)
+     */
+    public static Stream<String> streamLines(RandomAccessFileSystem fileSystem,
+                                             Collection<FileSplit> splits,
+                                             boolean isParallel) {
+        return streamLines(fileSystem, splits, isParallel, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a sequential {@link Stream} of the lines of the given {@link FileSplit}s.
+     *
+     * @param fileSystem in which the {@link FileSplit}s reside
+     * @param splits     that should be read; the order is retained in the {@link Stream}
+     * @param isParallel whether the {@link FileSplit}s should be read in parallel
+     * @param charset    in which the file is encoded
+     * @return the {@link Stream}
+     */
+    public static Stream<String> streamLines(RandomAccessFileSystem fileSystem,
+                                             Collection<FileSplit> splits,
+                                             boolean isParallel,
+                                             Charset charset) {
+        return streamSplits(splits, split -> streamLines(fileSystem, split, charset), isParallel);
+    }
+
+    /**
+     * Creates a {@link Stream} of the UTF-8 lines of a {@link FileSplit}.
+     *
+     * @see #streamLines(RandomAccessFileSystem, FileSplit, Charset)
+     */
+    public static Stream<String> streamLines(RandomAccessFileSystem fileSystem, FileSplit split) {
+        return streamLines(fileSystem, split, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a {@link Stream} of the lines of a {@link FileSplit}.
+     *
+     * @param fileSystem in which the {@link FileSplit} resides
+     * @param split      that should be read
+     * @param charset    in which the file is encoded
+     * @return the {@link Stream}
+     */
+    public static Stream<String> streamLines(RandomAccessFileSystem fileSystem, FileSplit split, Charset charset) {
+        try {
+            final FileSplitLineIterator lineIterator = new FileSplitLineIterator(fileSystem, split, charset);
+            return StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(lineIterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                    false
+            ).onClose(lineIterator::close);
+        } catch (IOException e) {
+            throw new WayangException(String.format("%s failed to read %s.", FileUtils.class, split), e);
+        }
+    }
+
+    /**
+     * Creates a {@link Stream} of the UTF-8 lines of the given {@link FileSplit}s of a file in a splittable
+     * {@link Compression} format.
+     *
+     * @see #streamLines(Compression, Collection, boolean, Charset)
+     */
+    public static Stream<String> streamLines(Compression compression, Collection<FileSplit> splits, boolean isParallel) {
+        return streamLines(compression, splits, isParallel, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates a sequential {@link Stream} of the lines of the given {@link FileSplit}s of a file in a splittable
+     * {@link Compression} format.
+     *
+     * @param compression of the file
+     * @param splits      that should be read; the order is retained in the {@link Stream}
+     * @param isParallel  whether the {@link FileSplit}s should be read in parallel
+     * @param charset     in which the file is encoded
+     * @return the {@link Stream}
+     */
+    public static Stream<String> streamLines(Compression compression,
+                                             Collection<FileSplit> splits,
+                                             boolean isParallel,
+                                             Charset charset) {
+        return streamSplits(splits, split -> {
+            try {
+                final CompressedFileSplitLineIterator lineIterator =
+                        new CompressedFileSplitLineIterator(split, compression, charset);
+                return StreamSupport.stream(
+                        Spliterators.spliteratorUnknownSize(lineIterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                        false
+                ).onClose(lineIterator::close);
+            } catch (IOException e) {
+                throw new WayangException(String.format("%s failed to read %s.", FileUtils.class, split), e);
+            }
+        }, isParallel);
+    }
+
+    /**
+     * Concatenates the lines of the given {@link FileSplit}s in a sequential {@link Stream}. If requested, the
+     * {@link FileSplit}s are read ahead in parallel, but the {@link Stream} itself stays sequential, so that
+     * downstream operations run in the consumer's thread and see the lines in order.
+     *
+     * @param splits      that should be read; the order is retained in the {@link Stream}
+     * @param splitReader reads a single {@link FileSplit}
+     * @param isParallel  whether the {@link FileSplit}s should be read in parallel
+     * @return the {@link Stream}
+     */
+    private static Stream<String> streamSplits(Collection<FileSplit> splits,
+                                               Function<FileSplit, Stream<String>> splitReader,
+                                               boolean isParallel) {
+        if (!isParallel || splits.size() < 2) {
+            return splits.stream().flatMap(splitReader);
+        }
+        final SplitPrefetcher prefetcher = new SplitPrefetcher(splits, splitReader, ForkJoinPool.getCommonPoolParallelism());
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(prefetcher, Spliterator.ORDERED | Spliterator.NONNULL),
+                false
+        ).onClose(prefetcher::close).flatMap(List::stream);
+    }
+
+    /**
+     * Reads up to a given number of {@link FileSplit}s ahead in the {@link ForkJoinPool#commonPool()} and provides
+     * their lines in the order of the {@link FileSplit}s.
+     */
+    private static class SplitPrefetcher implements Iterator<List<String>> {
+
+        private final Iterator<FileSplit> splitIterator;
+
+        private final Function<FileSplit, Stream<String>> splitReader;
+
+        private final int numPrefetchedSplits;
+
+        private final Queue<CompletableFuture<List<String>>> prefetches = new ArrayDeque<>();
+
+        private SplitPrefetcher(Collection<FileSplit> splits,
+                                Function<FileSplit, Stream<String>> splitReader,
+                                int numPrefetchedSplits) {
+            this.splitIterator = splits.iterator();
+            this.splitReader = splitReader;
+            this.numPrefetchedSplits = Math.max(1, numPrefetchedSplits);
+            this.prefetch();
+        }
+
+        private void prefetch() {
+            while (this.prefetches.size() < this.numPrefetchedSplits && this.splitIterator.hasNext()) {
+                final FileSplit split = this.splitIterator.next();
+                this.prefetches.add(CompletableFuture.supplyAsync(() -> {
+                    try (Stream<String> lines = this.splitReader.apply(split)) {
+                        return lines.collect(Collectors.toList());
+                    }
+                }));
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.prefetches.isEmpty();
+        }
+
+        @Override
+        public List<String> next() {
+            if (!this.hasNext()) throw new NoSuchElementException();
+            final CompletableFuture<List<String>> prefetch = this.prefetches.poll();
+            this.prefetch();
+            try {
+                return prefetch.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+                throw e;
+            }
+        }
+
+        private void close() {
+            this.prefetches.forEach(prefetch -> prefetch.cancel(false));
+            this.prefetches.clear();
+        }
+    }
+
+    /**
+     * Creates an {@link Iterator} over the UTF-8 lines of a given {@link InputStream}.
+     *
+     * @see #createLineIterator(InputStream, Charset)
+     */
+    public static Iterator<String> createLineIterator(InputStream inputStream) throws IOException {
+        return createLineIterator(inputStream, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Creates an {@link Iterator} over the lines of a given {@link InputStream}. The {@link InputStream} is
+     * closed once the {@link Iterator} is exhausted.
+     *
+     * @param inputStream provides the lines
+     * @param charset     in which the lines are encoded
+     * @return the {@link Iterator}
      */
-    private static Iterator<String> createLineIterator(FileSystem fileSystem, String path) throws IOException {
-        final BufferedReader reader = new BufferedReader(new InputStreamReader(fileSystem.open(path), "UTF-8"));
+    public static Iterator<String> createLineIterator(InputStream inputStream, Charset charset) throws IOException {
+        final BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, charset));
         return new Iterator<String>() {
 
             String next;
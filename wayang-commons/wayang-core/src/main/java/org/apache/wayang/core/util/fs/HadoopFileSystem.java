@@ -19,6 +19,8 @@
 package org.apache.wayang.core.util.fs;
 
 import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.BlockLocation;
+import org.apache.hadoop.fs.FSDataInputStream;
 import org.apache.hadoop.fs.FileStatus;
 import org.apache.hadoop.fs.FsUrlStreamHandlerFactory;
 import org.apache.hadoop.fs.Path;
@@ -33,14 +35,16 @@ import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * {@link FileSystem} immplementation for the HDFS.
  */
-public class HadoopFileSystem implements FileSystem {
+public class HadoopFileSystem implements RandomAccessFileSystem {
 
     private final Logger logger = LogManager.getLogger(this.getClass());
 
@@ -88,6 +92,16 @@ public class HadoopFileSystem implements FileSystem {
         }
     }
 
+    @Override
+    public long getLastModified(String fileUrl) throws FileNotFoundException {
+        try {
+            final FileStatus fileStatus = this.getHdfs(fileUrl).getFileStatus(new Path(fileUrl));
+            return fileStatus.getModificationTime();
+        } catch (IOException e) {
+            throw new FileNotFoundException(String.format("Could not access %s.", fileUrl));
+        }
+    }
+
     @Override
     public boolean canHandle(String url) {
         return url.startsWith("hdfs:/");
@@ -98,6 +112,44 @@ public class HadoopFileSystem implements FileSystem {
         return this.getHdfs(url).open(new Path(url));
     }
 
+    @Override
+    public InputStream open(String url, long position) throws IOException {
+        final FSDataInputStream inputStream = this.getHdfs(url).open(new Path(url));
+        try {
+            inputStream.seek(position);
+            return inputStream;
+        } catch (IOException e) {
+            inputStream.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public int read(String url, long position, byte[] buffer, int offset, int length) throws IOException {
+        try (FSDataInputStream inputStream = this.getHdfs(url).open(new Path(url))) {
+            return inputStream.read(position, buffer, offset, length);
+        }
+    }
+
+    @Override
+    public List<FileSplit> getSplits(String url, long maxSplitSize) throws IOException {
+        final org.apache.hadoop.fs.FileSystem hdfs = this.getHdfs(url);
+        final FileStatus fileStatus = hdfs.getFileStatus(new Path(url));
+        final BlockLocation[] blockLocations = hdfs.getFileBlockLocations(fileStatus, 0, fileStatus.getLen());
+        List<FileSplit> splits = new ArrayList<>();
+        if (blockLocations == null || blockLocations.length == 0) {
+            RandomAccessFileSystem.addSplits(url, 0, fileStatus.getLen(), maxSplitSize, new String[0], splits);
+        } else {
+            for (BlockLocation blockLocation : blockLocations) {
+                final long blockStart = blockLocation.getOffset();
+                RandomAccessFileSystem.addSplits(
+                        url, blockStart, blockStart + blockLocation.getLength(), maxSplitSize, blockLocation.getHosts(), splits
+                );
+            }
+        }
+        return splits;
+    }
+
     @Override
     public OutputStream create(String url) throws IOException {
         return this.getHdfs(url).create(new Path(url), true);
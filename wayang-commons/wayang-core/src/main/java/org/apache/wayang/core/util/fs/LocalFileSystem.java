@@ -32,15 +32,24 @@ import java.io.OutputStream;
 import java.net.MalformedURLException;
 import java.net.URISyntaxException;
 import java.net.URL;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
  * {@link FileSystem} implementation for the local file system.
  */
-public class LocalFileSystem implements FileSystem {
+public class LocalFileSystem implements RandomAccessFileSystem {
 
     private static final Logger logger = LogManager.getLogger(LocalFileSystem.class);
 
@@ -122,6 +131,20 @@ public class LocalFileSystem implements FileSystem {
         }
     }
 
+    @Override
+    public long getLastModified(String fileUrl) throws FileNotFoundException {
+        try {
+            File file = toFile(fileUrl);
+            if (!file.exists()) {
+                throw new FileNotFoundException(String.format("Could not find %s.", fileUrl));
+            }
+            return file.lastModified();
+        } catch (MalformedURLException | URISyntaxException e) {
+            logger.error("Illegal URL: \"{}\"", fileUrl);
+            throw new FileNotFoundException("File not found, because the URL is not correct.");
+        }
+    }
+
     @Override
     public boolean canHandle(String urlAsString) {
         if (!urlAsString.startsWith("file:")) return false;
@@ -145,11 +168,93 @@ public class LocalFileSystem implements FileSystem {
         }
     }
 
+    @Override
+    public InputStream open(String url, long position) throws IOException {
+        return Channels.newInputStream(this.openChannel(url, position));
+    }
+
+    @Override
+    public ReadableByteChannel openChannel(String url, long position) throws IOException {
+        final FileChannel channel = this.openFileChannel(url);
+        try {
+            return channel.position(position);
+        } catch (IOException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Opens the file specified in the given {@code url} as a read-only {@link FileChannel}.
+     *
+     * @param url points to the file to be opened
+     * @return the {@link FileChannel}
+     * @throws IOException if the file cannot be accessed properly for whatever reason
+     */
+    public FileChannel openFileChannel(String url) throws IOException {
+        try {
+            return FileChannel.open(toFile(url).toPath(), StandardOpenOption.READ);
+        } catch (URISyntaxException e) {
+            throw new IOException("Could not process the given URL.", e);
+        }
+    }
+
+    @Override
+    public int read(String url, long position, byte[] buffer, int offset, int length) throws IOException {
+        try (FileChannel channel = this.openFileChannel(url)) {
+            return channel.read(ByteBuffer.wrap(buffer, offset, length), position);
+        }
+    }
+
+    @Override
+    public boolean isMappable(String url) {
+        return this.canHandle(url);
+    }
+
+    @Override
+    public MappedByteBuffer map(String url, long position, long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException(String.format("Cannot map %d bytes at once.", size));
+        }
+        // The mapping stays valid after the channel is closed.
+        try (FileChannel channel = this.openFileChannel(url)) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, position, size);
+        }
+    }
+
+    @Override
+    public List<FileSplit> getSplits(String url, long maxSplitSize) throws IOException {
+        try {
+            final File file = toFile(url);
+            if (!file.isFile()) {
+                throw new FileNotFoundException(String.format("%s is not a file.", file));
+            }
+        } catch (URISyntaxException e) {
+            throw new IOException("Could not process the given URL.", e);
+        }
+        final long fileSize = this.getFileSize(url);
+        List<FileSplit> splits = new ArrayList<>((int) Math.min(Integer.MAX_VALUE, fileSize / maxSplitSize + 1));
+        RandomAccessFileSystem.addSplits(url, 0, fileSize, maxSplitSize, new String[]{"localhost"}, splits);
+        return splits;
+    }
+
     @Override
     public OutputStream create(String url) throws IOException {
         return this.create(url, false);
     }
 
+    @Override
+    public WritableByteChannel createChannel(String url) throws IOException {
+        try {
+            return FileChannel.open(
+                    toFile(url).toPath(),
+                    StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE
+            );
+        } catch (URISyntaxException e) {
+            throw new IOException("Could not process the given URL.", e);
+        }
+    }
+
     @Override
     public OutputStream create(String url, Boolean forceCreateParentDirs) throws IOException {
         File file = null;
@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.util.fs;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.List;
+
+/**
+ * {@link FileSystem} that additionally supports positional and ranged reads as well as the enumeration of
+ * {@link FileSplit}s. Implementations that can provide memory-mapped access to their files should override
+ * {@link #isMappable(String)} and {@link #map(String, long, long)}.
+ */
+public interface RandomAccessFileSystem extends FileSystem {
+
+    /**
+     * Opens the file specified in the given {@code url} starting at the given {@code position}.
+     *
+     * @param url      points to the file to be opened
+     * @param position offset of the first byte to be read
+     * @return an {@link InputStream} with the file's contents starting at {@code position}
+     * @throws IOException if the file cannot be accessed properly for whatever reason
+     */
+    InputStream open(String url, long position) throws IOException;
+
+    /**
+     * Opens the file specified in the given {@code url} as a {@link ReadableByteChannel} starting at the given
+     * {@code position}.
+     *
+     * @param url      points to the file to be opened
+     * @param position offset of the first byte to be read
+     * @return the {@link ReadableByteChannel}
+     * @throws IOException if the file cannot be accessed properly for whatever reason
+     */
+    default ReadableByteChannel openChannel(String url, long position) throws IOException {
+        return Channels.newChannel(this.open(url, position));
+    }
+
+    /**
+     * Reads up to {@code length} bytes from the given {@code position} of a file without requiring an open stream.
+     *
+     * @param url      points to the file to be read
+     * @param position offset of the first byte to be read
+     * @param buffer   into which the bytes should be read
+     * @param offset   within the {@code buffer} where the first byte should be put
+     * @param length   maximum number of bytes to read
+     * @return the number of bytes read or {@code -1} if {@code position} is at or beyond the end of the file
+     * @throws IOException if the file cannot be accessed properly for whatever reason
+     */
+    int read(String url, long position, byte[] buffer, int offset, int length) throws IOException;
+
+    /**
+     * Opens the file specified in the given {@code url} for (over-)writing as a {@link WritableByteChannel}.
+     *
+     * @param url points to the file to be created
+     * @return the {@link WritableByteChannel}
+     * @throws IOException if the file cannot be created properly for whatever reason
+     */
+    default WritableByteChannel createChannel(String url) throws IOException {
+        return Channels.newChannel(this.create(url));
+    }
+
+    /**
+     * Tells whether {@link #map(String, long, long)} can be used for the file specified in the given {@code url}.
+     *
+     * @param url points to the file
+     * @return whether the file can be memory-mapped
+     */
+    default boolean isMappable(String url) {
+        return false;
+    }
+
+    /**
+     * Maps a region of the file specified in the given {@code url} into memory (read-only).
+     *
+     * @param url      points to the file to be mapped
+     * @param position offset of the first byte to be mapped
+     * @param size     number of bytes to map; at most {@link Integer#MAX_VALUE}
+     * @return the {@link MappedByteBuffer}
+     * @throws IOException if the file cannot be accessed properly for whatever reason
+     * @see #isMappable(String)
+     */
+    default MappedByteBuffer map(String url, long position, long size) throws IOException {
+        throw new UnsupportedOperationException(String.format("%s cannot map %s.", this, url));
+    }
+
+    /**
+     * Partitions the file specified in the given {@code url} into {@link FileSplit}s. Splits do not cross
+     * storage block boundaries.
+     *
+     * @param url          points to the file to be split
+     * @param maxSplitSize maximum number of bytes per {@link FileSplit}
+     * @return the {@link FileSplit}s ordered by their offset; an empty file yields no {@link FileSplit}s
+     * @throws IOException if the file cannot be accessed properly for whatever reason
+     */
+    List<FileSplit> getSplits(String url, long maxSplitSize) throws IOException;
+
+    /**
+     * Utility to cut the byte range {@code [start, end)} into {@link FileSplit}s of at most {@code maxSplitSize}
+     * bytes and add them to the given {@code collector}.
+     */
+    static void addSplits(String url, long start, long end, long maxSplitSize, String[] hosts, List<FileSplit> collector) {
+        assert maxSplitSize > 0;
+        for (long splitStart = start; splitStart < end; splitStart += maxSplitSize) {
+            collector.add(new FileSplit(url, splitStart, Math.min(maxSplitSize, end - splitStart), hosts));
+        }
+    }
+
+}
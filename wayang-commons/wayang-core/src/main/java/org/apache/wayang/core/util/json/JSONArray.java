@@ -28,6 +28,7 @@ import com.fasterxml.jackson.databind.node.NullNode;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.fasterxml.jackson.databind.node.TextNode;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.function.Consumer;
@@ -92,12 +93,22 @@ public class JSONArray implements Iterable<Object>{
       return (v) ->  node.add((String) v);
     }else if(value instanceof Double){
       return (v) ->  node.add((Double) v);
+    }else if(value instanceof Boolean){
+      return (v) ->  node.add((Boolean) v);
+    }else if(value instanceof Map){
+      return (v) ->  node.add(new JSONObject((Map<String, Object>) v).getNode());
     }else if(value instanceof JsonNode){
       return (v) -> node.add((JsonNode) v);
     }else if(value instanceof JSONArray){
       return (v) -> node.add(((JSONArray)v).getNode());
     }else if(value instanceof JSONObject){
       return (v) -> node.add(((JSONObject)v).getNode());
+    }else if(value instanceof Iterable){
+      return (v) -> {
+        JSONArray array = new JSONArray();
+        ((Iterable<?>) v).forEach(array::put);
+        node.add(array.getNode());
+      };
     }
     throw new WayangException("The type is not recognizable "+ value.getClass());
   }
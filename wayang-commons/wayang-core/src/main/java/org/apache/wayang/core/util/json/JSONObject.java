@@ -242,6 +242,10 @@ public class JSONObject {
       return (k, v) ->  node.put(k, (String) v);
     }else if(value instanceof Double){
       return (k, v) ->  node.put(k, (Double) v);
+    }else if(value instanceof Boolean){
+      return (k, v) ->  node.put(k, (Boolean) v);
+    }else if(value instanceof Map){
+      return (k, v) ->  node.set(k, new JSONObject((Map<String, Object>) v).getNode());
     }else if(value instanceof ObjectNode){
       return (k, v) -> {
         if(node.has(k)){
@@ -274,6 +278,12 @@ public class JSONObject {
           node.set(k, ((JSONObject)v).getNode());
         }
       };
+    }else if(value instanceof Iterable){
+      return (k, v) -> {
+        JSONArray array = new JSONArray();
+        ((Iterable<?>) v).forEach(array::put);
+        node.set(k, array.getNode());
+      };
     }
     throw new WayangException("The type is not recognizable "+ value.getClass());
   }
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.api;
+
+import org.apache.wayang.core.api.exception.WayangException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test suite for {@link AdmissionController}.
+ */
+public class AdmissionControllerTest {
+
+    @Test
+    public void testJobLimit() throws Exception {
+        final AdmissionController controller = new AdmissionController(1, 0, 0);
+        final AdmissionController.Ticket ticket1 = controller.admit("job1", 10);
+
+        final CountDownLatch admitted = new CountDownLatch(1);
+        final Thread thread = new Thread(() -> {
+            controller.admit("job2", 10).release();
+            admitted.countDown();
+        });
+        thread.start();
+
+        Assert.assertFalse(admitted.await(100, TimeUnit.MILLISECONDS));
+        Assert.assertEquals(1, controller.getNumWaitingJobs());
+
+        ticket1.release();
+        Assert.assertTrue(admitted.await(10, TimeUnit.SECONDS));
+        thread.join();
+        Assert.assertEquals(0, controller.getNumAdmittedJobs());
+    }
+
+    @Test
+    public void testLoadLimit() {
+        final AdmissionController controller = new AdmissionController(0, 100, 50);
+        final AdmissionController.Ticket ticket1 = controller.admit("job1", 60);
+        final AdmissionController.Ticket ticket2 = controller.admit("job2", 40);
+        Assert.assertEquals(2, controller.getNumAdmittedJobs());
+
+        try {
+            controller.admit("job3", 1);
+            Assert.fail("Job should not have been admitted.");
+        } catch (WayangException e) {
+            // Expected.
+        }
+        Assert.assertEquals(0, controller.getNumWaitingJobs());
+
+        ticket1.release();
+        ticket1.release();
+        ticket2.release();
+        Assert.assertEquals(0, controller.getNumAdmittedJobs());
+
+        // Oversized jobs run on their own.
+        controller.admit("job4", 1000).release();
+    }
+
+    @Test
+    public void testFifoOrder() throws Exception {
+        final AdmissionController controller = new AdmissionController(0, 100, 0);
+        final AdmissionController.Ticket ticket1 = controller.admit("job1", 80);
+
+        final Thread thread2 = new Thread(() -> controller.admit("job2", 50).release());
+        thread2.start();
+        while (controller.getNumWaitingJobs() < 1) Thread.sleep(1);
+
+        // job3 would fit but must not overtake job2.
+        final Thread thread3 = new Thread(() -> controller.admit("job3", 10).release());
+        thread3.start();
+        while (controller.getNumWaitingJobs() < 2) Thread.sleep(1);
+        Thread.sleep(100);
+        Assert.assertEquals(1, controller.getNumAdmittedJobs());
+        Assert.assertEquals(2, controller.getNumWaitingJobs());
+
+        ticket1.release();
+        thread2.join();
+        thread3.join();
+        Assert.assertEquals(0, controller.getNumAdmittedJobs());
+        Assert.assertEquals(0, controller.getNumWaitingJobs());
+    }
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.api;
+
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.optimizer.costs.TimeEstimate;
+import org.apache.wayang.core.optimizer.enumeration.PlanImplementation;
+import org.apache.wayang.core.plan.wayangplan.BlockingOperator;
+import org.apache.wayang.core.plan.wayangplan.UnboundedSource;
+import org.apache.wayang.core.plan.wayangplan.WayangPlan;
+import org.apache.wayang.core.plan.wayangplan.test.TestMapOperator;
+import org.apache.wayang.core.plan.wayangplan.test.TestSink;
+import org.apache.wayang.core.plan.wayangplan.test.TestSource;
+import org.apache.wayang.core.test.DummyPlatform;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test suite for {@link Job}.
+ */
+public class JobTest {
+
+    /**
+     * {@link TestSource} that pretends to be unbounded.
+     */
+    private static class TestUnboundedSource extends TestSource<Integer> implements UnboundedSource {
+
+        TestUnboundedSource() {
+            super(Integer.class);
+        }
+
+    }
+
+    /**
+     * {@link TestSink} that pretends to need its entire input.
+     */
+    private static class TestBlockingSink extends TestSink<Integer> implements BlockingOperator {
+
+        TestBlockingSink() {
+            super(Integer.class);
+        }
+
+    }
+
+    private static Job createStreamingJob(WayangPlan wayangPlan) {
+        final Configuration configuration = new Configuration();
+        configuration.getPlatformProvider().addToWhitelist(DummyPlatform.getInstance());
+        configuration.setProperty(UnboundedSource.STREAMING_PLATFORM_KEY, DummyPlatform.getInstance().getConfigurationName());
+        return new WayangContext(configuration).createJob("streaming test", wayangPlan);
+    }
+
+    private static PlanImplementation createPlanImplementation(long lowerMillis, long upperMillis, double cost) {
+        final PlanImplementation planImplementation = mock(PlanImplementation.class);
+        when(planImplementation.getTimeEstimate()).thenReturn(new TimeEstimate(lowerMillis, upperMillis, 0.9));
+        when(planImplementation.getSquashedCostEstimate()).thenReturn(cost);
+        return planImplementation;
+    }
+
+    @Test
+    public void testPickPlanForDeadline() {
+        final PlanImplementation cheapButVolatile = createPlanImplementation(100, 10_000, 1d);
+        final PlanImplementation steady = createPlanImplementation(2_000, 3_000, 5d);
+        final PlanImplementation fastButExpensive = createPlanImplementation(1_000, 2_000, 10d);
+        final List<PlanImplementation> planImplementations = Arrays.asList(cheapButVolatile, steady, fastButExpensive);
+
+        // The cheapest plan meets a loose deadline.
+        Assert.assertSame(cheapButVolatile, Job.pickPlanForDeadline(planImplementations, 20_000));
+        // Tighter deadlines rule out plans with a high worst case.
+        Assert.assertSame(steady, Job.pickPlanForDeadline(planImplementations, 5_000));
+        Assert.assertSame(fastButExpensive, Job.pickPlanForDeadline(planImplementations, 2_500));
+        // If no plan meets the deadline, we should pick the one with the best worst case.
+        Assert.assertSame(fastButExpensive, Job.pickPlanForDeadline(planImplementations, 500));
+    }
+
+    @Test
+    public void testIsStreaming() {
+        final TestSink<Integer> boundedSink = new TestSink<>(Integer.class);
+        new TestSource<>(Integer.class).connectTo(0, boundedSink, 0);
+        Assert.assertFalse(createStreamingJob(new WayangPlan(boundedSink)).isStreaming());
+
+        final TestSink<Integer> unboundedSink = new TestSink<>(Integer.class);
+        new TestUnboundedSource().connectTo(0, unboundedSink, 0);
+        Assert.assertTrue(createStreamingJob(new WayangPlan(unboundedSink)).isStreaming());
+    }
+
+    @Test
+    public void testBlockingOperatorOnUnboundedSourceIsRejected() {
+        final TestBlockingSink sink = new TestBlockingSink();
+        new TestUnboundedSource().connectTo(0, sink, 0);
+        try {
+            createStreamingJob(new WayangPlan(sink)).buildInitialExecutionPlan();
+            Assert.fail("Expected the streaming plan to be rejected.");
+        } catch (WayangException e) {
+            Assert.assertTrue(e.getMessage(), e.getMessage().contains("unbounded source"));
+        }
+    }
+
+    @Test
+    public void testBlockingOperatorOnBoundedSourceIsAccepted() {
+        // The blocking sink is fed by a bounded source only, even though the plan is a streaming one.
+        final TestBlockingSink blockingSink = new TestBlockingSink();
+        new TestSource<>(Integer.class).connectTo(0, blockingSink, 0);
+        final TestSink<Integer> streamingSink = new TestSink<>(Integer.class);
+        new TestUnboundedSource().connectTo(0, streamingSink, 0);
+        try {
+            createStreamingJob(new WayangPlan(blockingSink, streamingSink)).buildInitialExecutionPlan();
+        } catch (Throwable t) {
+            // The plan cannot be executed on the dummy platform anyway.
+            Assert.assertFalse(t.getMessage(), t.getMessage() != null && t.getMessage().contains("unbounded source"));
+        }
+    }
+
+    @Test
+    public void testStreamingRestrictionIsUndone() {
+        final TestUnboundedSource source = new TestUnboundedSource();
+        final TestMapOperator<Integer, Integer> map = new TestMapOperator<>(Integer.class, Integer.class);
+        final TestSink<Integer> sink = new TestSink<>(Integer.class);
+        sink.addTargetPlatform(DummyPlatform.getInstance());
+        source.connectTo(0, map, 0);
+        map.connectTo(0, sink, 0);
+        try {
+            createStreamingJob(new WayangPlan(sink)).buildInitialExecutionPlan();
+        } catch (Throwable t) {
+            // The plan cannot be executed on the dummy platform anyway, but it should have been restricted to it.
+            Assert.assertFalse(t.getMessage(), t.getMessage() != null && t.getMessage().contains("not registered"));
+        }
+
+        // Only the user's own restrictions should remain.
+        Assert.assertTrue(source.getTargetPlatforms().isEmpty());
+        Assert.assertTrue(map.getTargetPlatforms().isEmpty());
+        Assert.assertEquals(Collections.singleton(DummyPlatform.getInstance()), sink.getTargetPlatforms());
+    }
+
+}
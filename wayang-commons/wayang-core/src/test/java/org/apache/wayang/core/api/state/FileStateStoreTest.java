@@ -0,0 +1,87 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.api.state;
+
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * Test suite for {@link FileStateStore}.
+ */
+public class FileStateStoreTest {
+
+    private Path directory;
+
+    private FileStateStore stateStore;
+
+    @Before
+    public void setUp() throws IOException {
+        this.directory = Files.createTempDirectory("wayang-state");
+        this.directory.toFile().deleteOnExit();
+        this.stateStore = new FileStateStore(this.directory.toUri().toString());
+    }
+
+    @Test
+    public void testWriteAndRead() {
+        Assert.assertEquals(Optional.empty(), this.stateStore.read("test"));
+
+        this.stateStore.write("test", new ArrayList<>(Arrays.asList(1, 2, 3)));
+        this.stateStore.write("test", new ArrayList<>(Arrays.asList(4, 5)));
+        this.stateStore.write("other", "other state");
+        Assert.assertEquals(Optional.of(Arrays.asList(4, 5)), this.stateStore.read("test"));
+        Assert.assertEquals(Optional.of("other state"), this.stateStore.read("other"));
+        // Old versions are discarded.
+        Assert.assertEquals(2, this.directory.toFile().list().length);
+
+        this.stateStore.delete("test");
+        Assert.assertEquals(Optional.empty(), this.stateStore.read("test"));
+        Assert.assertEquals(Optional.of("other state"), this.stateStore.read("other"));
+    }
+
+    @Test
+    public void testIgnoreIncompleteWrites() throws IOException {
+        this.stateStore.write("test", "complete state");
+        // Simulate a write that failed midway.
+        try (OutputStream outputStream = new FileOutputStream(this.directory.resolve("test.1.state").toFile())) {
+            outputStream.write(new byte[]{(byte) 0xac, (byte) 0xed, 0, 5});
+        }
+        Assert.assertEquals(Optional.of("complete state"), this.stateStore.read("test"));
+
+        // The next write supersedes both versions.
+        this.stateStore.write("test", "new state");
+        Assert.assertEquals(Optional.of("new state"), this.stateStore.read("test"));
+        Assert.assertEquals(1, this.directory.toFile().list().length);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testIllegalKey() {
+        this.stateStore.write("../test", "state");
+    }
+
+}
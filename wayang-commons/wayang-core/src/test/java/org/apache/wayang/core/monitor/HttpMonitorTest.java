@@ -0,0 +1,78 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.monitor;
+
+import com.sun.net.httpserver.HttpServer;
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.core.api.Configuration;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Test suite for the {@link HttpMonitor}.
+ */
+public class HttpMonitorTest {
+
+    @Test
+    public void testPostingToLocalServer() throws IOException {
+        final List<String> requests = new CopyOnWriteArrayList<>();
+        HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/runs", exchange -> {
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            try (InputStream in = exchange.getRequestBody()) {
+                byte[] buffer = new byte[1024];
+                for (int numBytes = in.read(buffer); numBytes != -1; numBytes = in.read(buffer)) {
+                    body.write(buffer, 0, numBytes);
+                }
+            }
+            requests.add(exchange.getRequestURI().getPath() + " " + new String(body.toByteArray(), StandardCharsets.UTF_8));
+            exchange.sendResponseHeaders(204, -1);
+            exchange.close();
+        });
+        server.start();
+        try {
+            Configuration configuration = new Configuration();
+            configuration.setProperty(
+                    HttpMonitor.HTTP_URL_PROPERTY_KEY,
+                    String.format("http://127.0.0.1:%d/runs/", server.getAddress().getPort())
+            );
+            HttpMonitor monitor = new HttpMonitor();
+            monitor.initialize(configuration, "1", Collections.emptyList());
+            ProgressSnapshot snapshot = new ProgressSnapshot("1", 42L, Collections.singletonList(
+                    new OperatorProgress("source", 5L, 0L, 10L, false)
+            ));
+            monitor.publish(snapshot);
+
+            Assert.assertEquals(2, requests.size());
+            Assert.assertTrue(requests.get(0), requests.get(0).startsWith("/runs/1/execplan {"));
+            Assert.assertEquals("/runs/1/progress " + snapshot.toJson(), requests.get(1));
+        } finally {
+            server.stop(0);
+        }
+    }
+
+}
@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.monitor;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.core.api.Configuration;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Test suite for the {@link ProgressPublisher} and the {@link ProgressEventBuffer}.
+ */
+public class ProgressPublisherTest {
+
+    /**
+     * Collects all published {@link ProgressSnapshot}s.
+     */
+    private static class CollectingMonitor extends Monitor {
+
+        private final List<ProgressSnapshot> snapshots = new CopyOnWriteArrayList<>();
+
+        private boolean isClosed = false;
+
+        @Override
+        public void initialize(Configuration config, String runId, List<Map> initialExecutionPlan) {
+        }
+
+        @Override
+        public void updateProgress(HashMap<String, Integer> partialProgress) {
+            Assert.fail("Progress should be published as snapshots.");
+        }
+
+        @Override
+        public void publish(ProgressSnapshot snapshot) {
+            this.snapshots.add(snapshot);
+        }
+
+        @Override
+        public void close() {
+            this.isClosed = true;
+        }
+    }
+
+    private static List<Map> createExecutionPlan(String... operatorNames) {
+        List<Map> operators = new ArrayList<>();
+        for (String operatorName : operatorNames) {
+            Map<String, Object> operator = new HashMap<>();
+            operator.put("name", operatorName);
+            operators.add(operator);
+        }
+        Map<String, Object> stage = new HashMap<>();
+        stage.put("operators", operators);
+        return Collections.singletonList(stage);
+    }
+
+    @Test
+    public void testBufferAcceptsUpToCapacity() {
+        ProgressEventBuffer buffer = new ProgressEventBuffer(3);
+        Assert.assertEquals(4, buffer.getCapacity());
+        for (int i = 0; i < 4; i++) {
+            Assert.assertTrue(buffer.offer("op", i, 0L, -1L, false));
+        }
+        Assert.assertFalse(buffer.offer("op", 4, 0L, -1L, false));
+        Assert.assertEquals(1, buffer.getNumRejected());
+
+        List<Long> drained = new ArrayList<>();
+        Assert.assertEquals(4, buffer.drain((name, numRecords, numBytes, numExpectedRecords, isCompleted) -> drained.add(numRecords)));
+        Assert.assertEquals(Arrays.asList(0L, 1L, 2L, 3L), drained);
+        Assert.assertTrue(buffer.offer("op", 5, 0L, -1L, true));
+        Assert.assertEquals(1, buffer.drain((name, numRecords, numBytes, numExpectedRecords, isCompleted) -> Assert.assertTrue(isCompleted)));
+    }
+
+    @Test
+    public void testConcurrentProducers() throws InterruptedException {
+        final ProgressEventBuffer buffer = new ProgressEventBuffer(1 << 16);
+        final int numThreads = 4, numEvents = 10000;
+        final CountDownLatch startLatch = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < numThreads; t++) {
+            final String operatorName = "op" + t;
+            Thread thread = new Thread(() -> {
+                try {
+                    startLatch.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < numEvents; i++) {
+                    buffer.offer(operatorName, i, 0L, numEvents, false);
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        startLatch.countDown();
+
+        // Drain concurrently and check that the events of each producer arrive completely and in order.
+        final Map<String, Long> lastRecords = new HashMap<>();
+        int numDrained = 0;
+        while (numDrained < numThreads * numEvents) {
+            numDrained += buffer.drain((name, numRecords, numBytes, numExpectedRecords, isCompleted) -> {
+                final Long previous = lastRecords.put(name, numRecords);
+                Assert.assertEquals(previous == null ? 0L : previous + 1, numRecords);
+            });
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        Assert.assertEquals(0, buffer.getNumRejected());
+        Assert.assertEquals(numThreads, lastRecords.size());
+    }
+
+    @Test
+    public void testCoalescingAndFinalPublication() throws IOException {
+        CollectingMonitor monitor = new CollectingMonitor();
+        ProgressPublisher publisher = new ProgressPublisher(Collections.singletonList(monitor), 1024, 60_000L);
+        publisher.start(new Configuration(), "1", createExecutionPlan("source", "map"));
+
+        // The initial snapshot should be published right away.
+        Assert.assertEquals(1, monitor.snapshots.size());
+        Assert.assertEquals(0, monitor.snapshots.get(0).getOverallPercentage());
+        Assert.assertEquals(2, monitor.snapshots.get(0).getOperatorProgresses().size());
+
+        publisher.report("source", 0L, 0L, 100L, false);
+        publisher.report("source", 100L, 2048L, 100L, true);
+        publisher.report("map", 0L, 0L, 300L, false);
+        publisher.report("map", 150L, 0L, -1L, false);
+        publisher.report("source", 50L, 0L, 100L, false); // stale
+        publisher.stop();
+
+        // As the publishing interval is long, all updates should be coalesced into a single final snapshot.
+        Assert.assertFalse(publisher.isRunning());
+        Assert.assertTrue(monitor.isClosed);
+        Assert.assertEquals(2, monitor.snapshots.size());
+        final ProgressSnapshot snapshot = monitor.snapshots.get(1);
+        Map<String, OperatorProgress> progresses = new HashMap<>();
+        snapshot.getOperatorProgresses().forEach(progress -> progresses.put(progress.getOperatorName(), progress));
+        Assert.assertTrue(progresses.get("source").isCompleted());
+        Assert.assertEquals(2048L, progresses.get("source").getNumBytes());
+        Assert.assertEquals(100, progresses.get("source").getPercentage());
+        Assert.assertEquals(300L, progresses.get("map").getNumExpectedRecords());
+        Assert.assertEquals(50, progresses.get("map").getPercentage());
+        Assert.assertEquals((100 * 100 + 300 * 50) / 400, snapshot.getOverallPercentage());
+
+        // Reports after stopping are ignored.
+        publisher.report("map", 300L, 0L, 300L, true);
+        Assert.assertEquals(2, monitor.snapshots.size());
+    }
+
+    @Test
+    public void testSnapshotJson() {
+        ProgressSnapshot snapshot = new ProgressSnapshot("1", 42L, Arrays.asList(
+                new OperatorProgress("a", 10L, 20L, 10L, true),
+                new OperatorProgress("b", 0L, 0L, -1L, false)
+        ));
+        final String json = snapshot.toJson().toString();
+        Assert.assertTrue(json, json.contains("\"details\":{\"a\":100,\"b\":0}"));
+        Assert.assertTrue(json, json.contains("\"a\":{\"records\":10,\"bytes\":20,\"expected_records\":10,\"completed\":true}"));
+        Assert.assertTrue(json, json.contains("\"run_id\":\"1\""));
+    }
+
+}
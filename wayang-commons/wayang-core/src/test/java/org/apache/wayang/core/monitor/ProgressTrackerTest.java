@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.monitor;
+
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.Job;
+import org.apache.wayang.core.test.MockFactory;
+import org.junit.Assert;
+import org.junit.Test;
+import org.mockito.InOrder;
+
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Test suite for the {@link ProgressTracker}.
+ */
+public class ProgressTrackerTest {
+
+    private static Job createJob(long reportInterval) {
+        Configuration configuration = new Configuration();
+        configuration.setProperty(ProgressTracker.REPORT_INTERVAL_PROPERTY_KEY, String.valueOf(reportInterval));
+        return MockFactory.createJob(configuration);
+    }
+
+    @Test
+    public void testReportsIncrementally() {
+        Job job = createJob(10L);
+        ProgressTracker progressTracker = new ProgressTracker(job, "op", 25L);
+        progressTracker.start();
+        progressTracker.addBytes(100L);
+        for (int i = 0; i < 25; i++) {
+            progressTracker.addRecord();
+        }
+        progressTracker.complete();
+
+        InOrder inOrder = inOrder(job);
+        inOrder.verify(job).reportProgress("op", 0L, 0L, 25L, false);
+        inOrder.verify(job).reportProgress("op", 10L, 100L, 25L, false);
+        inOrder.verify(job).reportProgress("op", 20L, 100L, 25L, false);
+        inOrder.verify(job).reportProgress("op", 25L, 100L, 25L, true);
+        verify(job, times(4)).reportProgress(anyString(), anyLong(), anyLong(), anyLong(), anyBoolean());
+    }
+
+    @Test
+    public void testReportsOnceWhenBatchCrossesSeveralIntervals() {
+        Job job = createJob(10L);
+        ProgressTracker progressTracker = new ProgressTracker(job, "op", -1L);
+        progressTracker.addRecords(35L);
+        verify(job, times(1)).reportProgress("op", 35L, 0L, -1L, false);
+    }
+
+    @Test
+    public void testIgnoresCountsAfterCompletion() {
+        Job job = createJob(1L);
+        ProgressTracker progressTracker = new ProgressTracker(job, "op", 1L);
+        progressTracker.complete();
+        progressTracker.addRecords(5L);
+        progressTracker.complete();
+
+        verify(job, times(1)).reportProgress("op", 0L, 0L, 1L, true);
+        verify(job, never()).reportProgress(anyString(), anyLong(), anyLong(), anyLong(), eq(false));
+        Assert.assertTrue(progressTracker.isCompleted());
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.monitor;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.core.api.Configuration;
+import org.zeromq.SocketType;
+import org.zeromq.ZContext;
+import org.zeromq.ZMQ;
+
+import java.io.IOException;
+import java.util.Collections;
+
+/**
+ * Test suite for the {@link ZeroMQMonitor}.
+ */
+public class ZeroMQMonitorTest {
+
+    @Test
+    public void testPublishingToLocalSubscriber() throws IOException {
+        Configuration configuration = new Configuration();
+        configuration.setProperty(ZeroMQMonitor.ZEROMQ_ENDPOINT_PROPERTY_KEY, "tcp://127.0.0.1:*");
+        ZeroMQMonitor monitor = new ZeroMQMonitor();
+        monitor.initialize(configuration, "1", Collections.emptyList());
+
+        try (ZContext context = new ZContext()) {
+            ZMQ.Socket subscriber = context.createSocket(SocketType.SUB);
+            subscriber.setReceiveTimeOut(100);
+            subscriber.connect(monitor.getEndpoint());
+            subscriber.subscribe(ZeroMQMonitor.PROGRESS_TOPIC.getBytes(ZMQ.CHARSET));
+
+            // PUB sockets drop messages until the subscription has arrived, so we publish repeatedly.
+            ProgressSnapshot snapshot = new ProgressSnapshot("1", 42L, Collections.singletonList(
+                    new OperatorProgress("source", 10L, 0L, 10L, true)
+            ));
+            String topic = null;
+            for (int attempt = 0; attempt < 50 && topic == null; attempt++) {
+                monitor.publish(snapshot);
+                topic = subscriber.recvStr();
+            }
+            Assert.assertEquals(ZeroMQMonitor.PROGRESS_TOPIC, topic);
+            Assert.assertTrue(subscriber.hasReceiveMore());
+            Assert.assertEquals(snapshot.toJson().toString(), subscriber.recvStr());
+        } finally {
+            monitor.close();
+        }
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.monitor.metrics;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import javax.management.ObjectName;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Test suite for the {@link MetricsRegistry} and its exporters.
+ */
+public class MetricsRegistryTest {
+
+    private static MetricsRegistry createRegistry() {
+        MetricsRegistry registry = new MetricsRegistry();
+        final MetricFamily<Counter> records = registry.counter("test_records_total", "Records.", "operator");
+        records.labels("map").add(3);
+        records.labels("map").increment();
+        records.labels("say \"hi\"").add(1);
+        final MetricFamily<Histogram> latencies = registry.histogram("test_latency_seconds", "Latency.", 1000d);
+        for (int millis = 1; millis <= 100; millis++) {
+            latencies.labels().record(millis);
+        }
+        return registry;
+    }
+
+    @Test
+    public void testRegistration() {
+        MetricsRegistry registry = createRegistry();
+        Assert.assertSame(registry.counter("test_records_total", "Records.", "operator"),
+                registry.counter("test_records_total", "Other help.", "operator"));
+        Assert.assertEquals(4L, registry.counter("test_records_total", "Records.", "operator").labels("map").get());
+        try {
+            registry.histogram("test_records_total", "Records.", 1d, "operator");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            // Expected.
+        }
+        try {
+            registry.counter("test_records_total", "Records.", "operator").labels("a", "b");
+            Assert.fail();
+        } catch (IllegalArgumentException e) {
+            // Expected.
+        }
+
+        final Histogram histogram = registry.histogram("test_latency_seconds", "Latency.", 1000d).labels();
+        Assert.assertEquals(100L, histogram.getCount());
+        Assert.assertEquals(5.05, histogram.getSum(), 1e-9);
+        Assert.assertEquals(0.05, histogram.getValueAtPercentile(50), 0.001);
+        Assert.assertEquals(0.1, histogram.getMax(), 0.001);
+    }
+
+    @Test
+    public void testPrometheusFormat() throws IOException {
+        PrometheusMetricsExporter exporter = new PrometheusMetricsExporter(createRegistry());
+        final String expectedCounter = "# HELP test_records_total Records.\n" +
+                "# TYPE test_records_total counter\n";
+        final String text = exporter.scrape();
+        Assert.assertTrue(text, text.startsWith("# HELP test_latency_seconds Latency.\n# TYPE test_latency_seconds summary\n"));
+        Assert.assertTrue(text, text.contains("test_latency_seconds{quantile=\"0.5\"} 0.05\n"));
+        Assert.assertTrue(text, text.contains("test_latency_seconds_sum 5.05\n"));
+        Assert.assertTrue(text, text.contains("test_latency_seconds_count 100\n"));
+        Assert.assertTrue(text, text.contains(expectedCounter));
+        Assert.assertTrue(text, text.contains("test_records_total{operator=\"map\"} 4\n"));
+        Assert.assertTrue(text, text.contains("test_records_total{operator=\"say \\\"hi\\\"\"} 1\n"));
+
+        exporter.start("127.0.0.1", 0);
+        try {
+            final HttpURLConnection connection = (HttpURLConnection) new URL(
+                    String.format("http://127.0.0.1:%d/metrics", exporter.getPort())
+            ).openConnection();
+            Assert.assertEquals(200, connection.getResponseCode());
+            Assert.assertEquals(PrometheusMetricsExporter.CONTENT_TYPE, connection.getContentType());
+            ByteArrayOutputStream body = new ByteArrayOutputStream();
+            try (InputStream in = connection.getInputStream()) {
+                byte[] buffer = new byte[1024];
+                for (int numBytes = in.read(buffer); numBytes != -1; numBytes = in.read(buffer)) {
+                    body.write(buffer, 0, numBytes);
+                }
+            }
+            Assert.assertEquals(text, new String(body.toByteArray(), StandardCharsets.UTF_8));
+        } finally {
+            exporter.stop();
+        }
+        Assert.assertEquals(-1, exporter.getPort());
+    }
+
+    @Test
+    public void testJmxExport() throws Exception {
+        JmxMetricsExporter exporter = new JmxMetricsExporter(createRegistry());
+        final String objectName = "org.apache.wayang.test:type=Metrics";
+        exporter.start(objectName);
+        try {
+            final ObjectName name = new ObjectName(objectName);
+            Assert.assertEquals(
+                    4L,
+                    ManagementFactory.getPlatformMBeanServer().getAttribute(name, "test_records_total{operator=map}")
+            );
+            Assert.assertEquals(
+                    100L,
+                    ManagementFactory.getPlatformMBeanServer().getAttribute(name, "test_latency_seconds.count")
+            );
+            Assert.assertEquals(
+                    0.1,
+                    (Double) ManagementFactory.getPlatformMBeanServer().getAttribute(name, "test_latency_seconds.max"),
+                    0.001
+            );
+        } finally {
+            exporter.stop();
+        }
+    }
+
+    @Test
+    public void testRemoteWork() {
+        ExecutionMetrics metrics = new ExecutionMetrics(new MetricsRegistry());
+        metrics.recordRemoteWork("Spark", "map", 2_000_000L, 5L, 100L, 1024L, -1L);
+        metrics.recordSpill("Spark", "map", 28L);
+
+        final MetricsRegistry registry = metrics.getRegistry();
+        Assert.assertEquals(128L, registry.counter("wayang_task_spilled_bytes_total", "", "platform", "operator")
+                .labels("Spark", "map").get());
+        Assert.assertEquals(1024L, registry.counter("wayang_task_bytes_read_total", "", "platform", "operator")
+                .labels("Spark", "map").get());
+        Assert.assertTrue(registry.counter("wayang_task_bytes_written_total", "", "platform", "operator")
+                .getMetrics().isEmpty());
+        Assert.assertEquals(0.002, registry.histogram("wayang_task_cpu_time_seconds", "", 1e6, "platform", "operator")
+                .labels("Spark", "map").getSum(), 1e-9);
+    }
+
+}
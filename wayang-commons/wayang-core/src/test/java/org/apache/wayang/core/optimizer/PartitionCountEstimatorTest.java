@@ -0,0 +1,110 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.optimizer;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.Job;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.core.test.DummyExecutionOperator;
+import org.apache.wayang.core.test.DummyPlatform;
+import org.apache.wayang.core.test.MockFactory;
+
+/**
+ * Test suite for the {@link PartitionCountEstimator}.
+ */
+public class PartitionCountEstimatorTest {
+
+    private static Configuration createConfiguration(boolean isEnabled) {
+        final Configuration configuration = new Configuration();
+        configuration.setProperty("wayang.dummy.partitions.auto", String.valueOf(isEnabled));
+        configuration.setProperty("wayang.dummy.partitions.target-mb", "1");
+        configuration.setProperty("wayang.dummy.partitions.bytes-per-quantum", "1024");
+        configuration.setProperty("wayang.dummy.partitions.min", "2");
+        configuration.setProperty("wayang.dummy.partitions.max", "100");
+        return configuration;
+    }
+
+    @Test
+    public void testEstimateFromNumDataQuanta() {
+        final PartitionCountEstimator estimator =
+                new PartitionCountEstimator(createConfiguration(true), DummyPlatform.getInstance(), 8);
+
+        // 1024 data quanta make up one partition.
+        Assert.assertEquals(2, estimator.estimate(0d));
+        Assert.assertEquals(2, estimator.estimate(1024d));
+        Assert.assertEquals(10, estimator.estimate(10 * 1024d));
+        Assert.assertEquals(11, estimator.estimate(10 * 1024d + 1));
+        Assert.assertEquals(100, estimator.estimate(1e9));
+
+        final PartitionCountEstimator boundedEstimator =
+                new PartitionCountEstimator(createConfiguration(true), DummyPlatform.getInstance(), 8, 4);
+        Assert.assertEquals(4, boundedEstimator.estimate(1e9));
+    }
+
+    @Test
+    public void testDefaultMinimum() {
+        final Configuration configuration = createConfiguration(true);
+        configuration.setProperty("wayang.dummy.partitions.min", "0");
+        final PartitionCountEstimator estimator =
+                new PartitionCountEstimator(configuration, DummyPlatform.getInstance(), 8);
+
+        // Small shuffles still use the default number of partitions, large ones get more.
+        Assert.assertEquals(8, estimator.estimate(1024d));
+        Assert.assertEquals(20, estimator.estimate(20 * 1024d));
+
+        final PartitionCountEstimator boundedEstimator =
+                new PartitionCountEstimator(configuration, DummyPlatform.getInstance(), 8, 4);
+        Assert.assertEquals(4, boundedEstimator.estimate(1024d));
+    }
+
+    @Test
+    public void testEstimateFromOperatorContext() {
+        final Configuration configuration = createConfiguration(true);
+        final Job job = MockFactory.createJob(configuration);
+        final OptimizationContext optimizationContext = new DefaultOptimizationContext(job);
+        final DummyExecutionOperator operator = new DummyExecutionOperator(2, 1, false);
+        final OptimizationContext.OperatorContext operatorContext = optimizationContext.addOneTimeOperator(operator);
+        final PartitionCountEstimator estimator =
+                new PartitionCountEstimator(configuration, DummyPlatform.getInstance(), 8);
+
+        // Without cardinality estimates, we use the default.
+        Assert.assertEquals(8, estimator.estimate(operatorContext));
+
+        operatorContext.setInputCardinality(0, new CardinalityEstimate(10 * 1024, 10 * 1024, 0.9d));
+        operatorContext.setInputCardinality(1, new CardinalityEstimate(0, 10, 0d));
+        Assert.assertEquals(8, estimator.estimate(operatorContext));
+
+        operatorContext.setInputCardinality(1, new CardinalityEstimate(20 * 1024, 20 * 1024, 0.9d));
+        Assert.assertEquals(30, estimator.estimate(operatorContext));
+        Assert.assertEquals(
+                30d,
+                operatorContext.getDoubleProperty(PartitionCountEstimator.NUM_PARTITIONS_PROPERTY, -1d),
+                0d
+        );
+        Assert.assertTrue(operatorContext.getPropertyKeys().contains(PartitionCountEstimator.NUM_PARTITIONS_PROPERTY));
+
+        // If disabled, we always use the default.
+        final PartitionCountEstimator disabledEstimator =
+                new PartitionCountEstimator(createConfiguration(false), DummyPlatform.getInstance(), 8);
+        Assert.assertEquals(8, disabledEstimator.estimate(operatorContext));
+    }
+
+}
@@ -0,0 +1,71 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.optimizer.costs;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link LoadProfileToTimeConverter}.
+ */
+public class LoadProfileToTimeConverterTest {
+
+    private static LoadProfileToTimeConverter createConverter() {
+        return LoadProfileToTimeConverter.createDefault(
+                LoadToTimeConverter.createLinearCoverter(1d),
+                LoadToTimeConverter.createLinearCoverter(0.5d),
+                LoadToTimeConverter.createLinearCoverter(0d),
+                (cpuEstimate, diskEstimate, networkEstimate) -> cpuEstimate.plus(diskEstimate).plus(networkEstimate)
+        );
+    }
+
+    @Test
+    public void testMemoryLimit() {
+        final LoadProfileToTimeConverter converter = createConverter()
+                .withMemoryLimit(new ResourceCapacity(2, 4, 300), 2d);
+        final LoadProfile loadProfile = new LoadProfile(new LoadEstimate(100), new LoadEstimate(400, 1000, 1d));
+
+        // We exceed the 600 bytes of memory by 0 to 400 bytes, which are written and read at 0.5 ms per byte.
+        final TimeEstimate timeEstimate = converter.convert(loadProfile);
+        Assert.assertEquals(100, timeEstimate.getLowerEstimate());
+        Assert.assertEquals(100 + 400, timeEstimate.getUpperEstimate());
+
+        // Nested LoadProfiles require memory, too.
+        loadProfile.nest(new LoadProfile(new LoadEstimate(0), new LoadEstimate(300)));
+        Assert.assertEquals(100 + 100, converter.convert(loadProfile).getLowerEstimate());
+    }
+
+    @Test
+    public void testWithinMemoryLimit() {
+        final LoadProfileToTimeConverter converter = createConverter()
+                .withMemoryLimit(new ResourceCapacity(1, 1, 1000), 2d);
+        final TimeEstimate timeEstimate = converter.convert(
+                new LoadProfile(new LoadEstimate(100), new LoadEstimate(1000))
+        );
+        Assert.assertEquals(100, timeEstimate.getLowerEstimate());
+        Assert.assertEquals(100, timeEstimate.getUpperEstimate());
+    }
+
+    @Test
+    public void testUnknownMemory() {
+        final LoadProfileToTimeConverter converter = createConverter();
+        Assert.assertSame(converter, converter.withMemoryLimit(ResourceCapacity.UNKNOWN, 2d));
+    }
+
+}
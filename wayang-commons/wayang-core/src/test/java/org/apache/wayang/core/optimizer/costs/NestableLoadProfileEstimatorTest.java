@@ -69,6 +69,30 @@ public class NestableLoadProfileEstimatorTest {
         Assert.assertEquals(143, estimate.getOverheadMillis());
     }
 
+    @Test
+    public void testMemoryFootprintOfSmallerInput() {
+        String specification = "{" +
+                "\"in\":2," +
+                "\"out\":1," +
+                "\"p\":0.8," +
+                "\"cpu\":\"${in0 + in1}\"," +
+                "\"ram\":\"${in0 < in1 ? 100*in0 : 100*in1}\"" +
+                "}";
+        final NestableLoadProfileEstimator estimator =
+                LoadProfileEstimators.createFromSpecification(null, specification);
+        final LoadProfile estimate = estimator.estimate(new SimpleEstimationContext(
+                new CardinalityEstimate[]{
+                        new CardinalityEstimate(1000, 1000, 1d), new CardinalityEstimate(10, 20, 1d)
+                },
+                new CardinalityEstimate[]{new CardinalityEstimate(10, 20, 1d)},
+                new HashMap<String, Double>(),
+                1
+        ));
+
+        Assert.assertEquals(100 * 10, estimate.getRamUsage().getLowerEstimate());
+        Assert.assertEquals(100 * 20, estimate.getRamUsage().getUpperEstimate());
+    }
+
     @Test
     public void testFromMathExSpecification() {
         String specification = "{" +
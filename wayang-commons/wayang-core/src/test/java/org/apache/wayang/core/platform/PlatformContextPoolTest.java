@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.platform;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.test.DummyPlatform;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test suite for the {@link PlatformContextPool}.
+ */
+public class PlatformContextPoolTest {
+
+    private final AtomicInteger numCreatedContexts = new AtomicInteger(0);
+
+    private final List<String> disposedContexts = Collections.synchronizedList(new ArrayList<>());
+
+    private PlatformContextPool.Lease<String> acquire(PlatformContextPool pool, String contextKey, long idleTimeout) {
+        final Configuration configuration = new Configuration();
+        configuration.setProperty(PlatformContextPool.IDLE_TIMEOUT_PROPERTY_KEY, String.valueOf(idleTimeout));
+        return pool.acquire(
+                DummyPlatform.getInstance(),
+                contextKey,
+                configuration,
+                () -> contextKey + "#" + this.numCreatedContexts.incrementAndGet(),
+                context -> true,
+                this.disposedContexts::add
+        );
+    }
+
+    @Test
+    public void testReuseAcrossLeases() {
+        final PlatformContextPool pool = new PlatformContextPool();
+        Assert.assertFalse(pool.isWarm(DummyPlatform.getInstance()));
+
+        final PlatformContextPool.Lease<String> lease1 = this.acquire(pool, "a", -1);
+        Assert.assertFalse(lease1.isWarmStart());
+        Assert.assertTrue(lease1.registerJar("udf.jar"));
+        final PlatformContextPool.Lease<String> lease2 = this.acquire(pool, "a", -1);
+        Assert.assertTrue(lease2.isWarmStart());
+        Assert.assertEquals(lease1.get(), lease2.get());
+        Assert.assertFalse(lease2.registerJar("udf.jar"));
+
+        lease1.release();
+        lease2.release();
+        lease2.release();
+        Assert.assertTrue(pool.isWarm(DummyPlatform.getInstance()));
+        Assert.assertTrue(this.acquire(pool, "a", -1).isWarmStart());
+        Assert.assertEquals(1, this.numCreatedContexts.get());
+        Assert.assertTrue(this.disposedContexts.isEmpty());
+    }
+
+    @Test
+    public void testReplacementOfIdleContextWithDifferentSettings() {
+        final PlatformContextPool pool = new PlatformContextPool();
+        final PlatformContextPool.Lease<String> lease1 = this.acquire(pool, "a", -1);
+
+        // Leased contexts are shared...
+        final PlatformContextPool.Lease<String> lease2 = this.acquire(pool, "b", -1);
+        Assert.assertEquals("a#1", lease2.get());
+        lease1.release();
+        lease2.release();
+
+        // ...but idle ones are replaced.
+        final PlatformContextPool.Lease<String> lease3 = this.acquire(pool, "b", -1);
+        Assert.assertFalse(lease3.isWarmStart());
+        Assert.assertEquals("b#2", lease3.get());
+        Assert.assertEquals(1, this.disposedContexts.size());
+        Assert.assertEquals("a#1", this.disposedContexts.get(0));
+
+        lease3.release();
+        pool.evictAll();
+        Assert.assertFalse(pool.isWarm(DummyPlatform.getInstance()));
+        Assert.assertEquals(2, this.disposedContexts.size());
+    }
+
+    @Test
+    public void testEviction() throws InterruptedException {
+        final PlatformContextPool pool = new PlatformContextPool();
+        this.acquire(pool, "a", 0).release();
+        Assert.assertFalse(pool.isWarm(DummyPlatform.getInstance()));
+        Assert.assertEquals(1, this.disposedContexts.size());
+
+        this.acquire(pool, "a", 50).release();
+        Assert.assertTrue(pool.isWarm(DummyPlatform.getInstance()));
+        final long deadline = System.currentTimeMillis() + 10000;
+        while (pool.isWarm(DummyPlatform.getInstance()) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assert.assertFalse(pool.isWarm(DummyPlatform.getInstance()));
+        Assert.assertEquals(2, this.disposedContexts.size());
+    }
+
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.platform;
+
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.executionplan.ExecutionStage;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test suite for {@link SpeculativeExecution}.
+ */
+public class SpeculativeExecutionTest {
+
+    private static ExecutionStage createStage() {
+        final ExecutionStage stage = mock(ExecutionStage.class);
+        when(stage.getLoop()).thenReturn(null);
+        when(stage.getAllTasks()).thenReturn(Collections.emptySet());
+        when(stage.getInboundChannels()).thenReturn(Collections.emptyList());
+        return stage;
+    }
+
+    /**
+     * Creates an {@link Executor} that registers the given {@link ChannelInstance} after the given time.
+     */
+    private static Executor createExecutor(long millis, ChannelInstance output) {
+        final Executor executor = mock(Executor.class);
+        doAnswer(invocation -> {
+            Thread.sleep(millis);
+            ((ExecutionState) invocation.getArgument(2)).register(output);
+            return null;
+        }).when(executor).execute(any(), any(), any());
+        return executor;
+    }
+
+    private static SpeculativeExecution createSpeculativeExecution() {
+        final Configuration configuration = new Configuration();
+        configuration.setProperty(SpeculativeExecution.SLOWDOWN_PROPERTY_KEY, "2");
+        configuration.setProperty(SpeculativeExecution.MIN_MILLIS_PROPERTY_KEY, "100");
+        return new SpeculativeExecution(configuration);
+    }
+
+    private static ExecutionState createExecutionState(List<ChannelInstance> registeredChannelInstances) {
+        final ExecutionState executionState = mock(ExecutionState.class);
+        doAnswer(invocation -> registeredChannelInstances.add(invocation.getArgument(0)))
+                .when(executionState).register(any());
+        return executionState;
+    }
+
+    @Test
+    public void testBackupAttemptWins() {
+        final ChannelInstance slowOutput = mock(ChannelInstance.class), fastOutput = mock(ChannelInstance.class);
+        final Executor slowExecutor = createExecutor(5_000, slowOutput), fastExecutor = createExecutor(10, fastOutput);
+        final List<ChannelInstance> registeredChannelInstances = new ArrayList<>();
+        createSpeculativeExecution().execute(
+                createStage(),
+                mock(OptimizationContext.class),
+                createExecutionState(registeredChannelInstances),
+                slowExecutor,
+                () -> fastExecutor
+        );
+        Assert.assertEquals(Collections.singletonList(fastOutput), registeredChannelInstances);
+
+        // The losing attempt should be cancelled.
+        verify(slowExecutor).cancel(any());
+        verify(fastExecutor, never()).cancel(any());
+    }
+
+    @Test
+    public void testNoBackupAttemptForFastStages() {
+        final ChannelInstance output = mock(ChannelInstance.class);
+        final List<ChannelInstance> registeredChannelInstances = new ArrayList<>();
+        createSpeculativeExecution().execute(
+                createStage(),
+                mock(OptimizationContext.class),
+                createExecutionState(registeredChannelInstances),
+                createExecutor(10, output),
+                () -> {
+                    throw new AssertionError("No backup attempt expected.");
+                }
+        );
+        Assert.assertEquals(Collections.singletonList(output), registeredChannelInstances);
+    }
+
+}
@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.platform.checkpoint;
+
+import org.apache.wayang.core.api.Configuration;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Test suite for {@link CheckpointManager}.
+ */
+public class CheckpointManagerTest {
+
+    private static final List<CheckpointFormat> ALL_FORMATS =
+            Arrays.asList(CheckpointFormat.OBJECT_FILE, CheckpointFormat.COLUMNAR);
+
+    private static CheckpointManager createCheckpointManager() {
+        final Configuration configuration = new Configuration();
+        configuration.setProperty(CheckpointManager.WRITE_THROUGHPUT_PROPERTY_KEY, "1");
+        configuration.setProperty(CheckpointManager.MIN_GAIN_PROPERTY_KEY, "2");
+        configuration.setProperty("wayang.core.checkpoint.objectfile.bytes-per-record", "100");
+        configuration.setProperty("wayang.core.checkpoint.columnar.bytes-per-record", "40");
+        return new CheckpointManager(configuration, "file:///tmp/wayang-checkpoints/test");
+    }
+
+    @Test
+    public void testEstimateWriteMillis() {
+        final CheckpointManager checkpointManager = createCheckpointManager();
+        Assert.assertEquals(
+                1000d, checkpointManager.estimateWriteMillis(CheckpointFormat.OBJECT_FILE, 1024 * 1024 / 100d), 0.001
+        );
+        Assert.assertEquals(
+                400d, checkpointManager.estimateWriteMillis(CheckpointFormat.COLUMNAR, 1024 * 1024 / 100d), 0.001
+        );
+    }
+
+    @Test
+    public void testChooseFormats() {
+        final CheckpointManager checkpointManager = createCheckpointManager();
+        // Writing takes ~95 s for object files and ~38 s for columnar files.
+        final double cardinality = 1e6;
+        Assert.assertEquals(
+                Collections.emptyList(),
+                checkpointManager.chooseFormats(ALL_FORMATS, cardinality, 60_000L)
+        );
+        Assert.assertEquals(
+                Collections.singletonList(CheckpointFormat.COLUMNAR),
+                checkpointManager.chooseFormats(ALL_FORMATS, cardinality, 100_000L)
+        );
+        Assert.assertEquals(
+                Arrays.asList(CheckpointFormat.COLUMNAR, CheckpointFormat.OBJECT_FILE),
+                checkpointManager.chooseFormats(ALL_FORMATS, cardinality, 200_000L)
+        );
+    }
+
+    @Test
+    public void testFromConfiguration() {
+        final Configuration configuration = new Configuration();
+        configuration.setProperty(CheckpointManager.ENABLED_PROPERTY_KEY, "false");
+        Assert.assertNull(CheckpointManager.fromConfiguration(configuration, "job"));
+        configuration.setProperty(CheckpointManager.ENABLED_PROPERTY_KEY, "true");
+        Assert.assertNotNull(CheckpointManager.fromConfiguration(configuration, "job"));
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.util;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+/**
+ * Test suite for {@link HeavyHitters}.
+ */
+public class HeavyHittersTest {
+
+    @Test
+    public void testDetect() {
+        final Map<String, Double> heavyHitters = HeavyHitters.detect(
+                Arrays.asList("a", "b", "a", "c", "a", "d", "b", "e", "f", "g"),
+                0.2d
+        );
+        Assert.assertEquals(2, heavyHitters.size());
+        Assert.assertEquals(0.3d, heavyHitters.get("a"), 0.0001d);
+        Assert.assertEquals(0.2d, heavyHitters.get("b"), 0.0001d);
+        Assert.assertEquals(0.5d, HeavyHitters.getMass(heavyHitters), 0.0001d);
+    }
+
+    @Test
+    public void testDetectRequiresRepeatedValues() {
+        Assert.assertTrue(HeavyHitters.detect(Collections.singletonList("a"), 0.5d).isEmpty());
+        Assert.assertTrue(HeavyHitters.detect(Collections.emptyList(), 0.5d).isEmpty());
+        Assert.assertEquals(0d, HeavyHitters.getMass(Collections.emptyMap()), 0d);
+    }
+
+    @Test
+    public void testGetSampleFraction() {
+        Assert.assertEquals(0.01d, HeavyHitters.getSampleFraction(100, 10000L, 0.5d), 0d);
+        Assert.assertEquals(1d, HeavyHitters.getSampleFraction(100, 10L, 0.5d), 0d);
+        Assert.assertEquals(0.5d, HeavyHitters.getSampleFraction(100, -1L, 0.5d), 0d);
+    }
+
+}
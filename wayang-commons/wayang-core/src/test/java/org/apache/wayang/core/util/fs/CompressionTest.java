@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.util.fs;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link Compression}.
+ */
+public class CompressionTest {
+
+    @Test
+    public void testDetectFromExtension() {
+        Assert.assertEquals(Compression.GZIP, Compression.detect("file:///logs/day1.txt.gz"));
+        Assert.assertEquals(Compression.BZIP2, Compression.detect("hdfs://host/logs/day1.BZ2"));
+        Assert.assertEquals(Compression.ZSTD, Compression.detect("file:///logs/day1.zst"));
+        Assert.assertEquals(Compression.LZ4, Compression.detect("file:///logs/day1.lz4"));
+        Assert.assertEquals(Compression.NONE, Compression.detect("file:///logs/day1.txt"));
+    }
+
+    @Test
+    public void testDetectFromContents() {
+        Assert.assertEquals(Compression.GZIP, Compression.detect(new byte[]{0x1f, (byte) 0x8b, 0x08, 0x00}, 4));
+        Assert.assertEquals(Compression.BZIP2, Compression.detect(
+                new byte[]{'B', 'Z', 'h', '9', 0x31, 0x41, 0x59, 0x26, 0x53, 0x59}, 10
+        ));
+        Assert.assertEquals(Compression.NONE, Compression.detect(new byte[]{'B', 'Z', 'h', '9'}, 4));
+        Assert.assertEquals(Compression.NONE, Compression.detect(new byte[]{'B', 'Z', 'h', 'x'}, 4));
+        Assert.assertEquals(Compression.NONE, Compression.detect(new byte[]{0x1f}, 1));
+    }
+
+    @Test
+    public void testStreamGzippedLines() throws IOException {
+        File file = File.createTempFile("wayang-compression", ".log");
+        file.deleteOnExit();
+        List<String> expectedLines = new ArrayList<>();
+        try (Writer writer = new OutputStreamWriter(
+                Compression.GZIP.compress(new FileOutputStream(file)), StandardCharsets.UTF_8)) {
+            for (int i = 0; i < 1000; i++) {
+                final String line = "line " + i;
+                expectedLines.add(line);
+                writer.write(line);
+                writer.write('\n');
+            }
+        }
+
+        // The file extension does not tell the compression, so it must be detected from the contents.
+        final String url = LocalFileSystem.toURL(file);
+        Assert.assertEquals(Compression.GZIP, FileSystems.detectCompression(url));
+        Assert.assertEquals(expectedLines, FileUtils.streamLines(url).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testTextFileStartingLikeBzip2() throws IOException {
+        File file = File.createTempFile("wayang-compression", ".txt");
+        file.deleteOnExit();
+        final List<String> expectedLines = Arrays.asList("BZh1 is not a compressed file", "second line");
+        Files.write(file.toPath(), expectedLines, StandardCharsets.UTF_8);
+
+        final String url = LocalFileSystem.toURL(file);
+        Assert.assertEquals(Compression.NONE, FileSystems.detectCompression(url));
+        Assert.assertEquals(expectedLines, FileUtils.streamLines(url).collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testDetectBzip2FromContents() throws IOException {
+        for (List<String> expectedLines : Arrays.asList(Arrays.asList("line 1", "line 2"), Collections.<String>emptyList())) {
+            File file = File.createTempFile("wayang-compression", ".log");
+            file.deleteOnExit();
+            try (Writer writer = new OutputStreamWriter(
+                    Compression.BZIP2.compress(new FileOutputStream(file)), StandardCharsets.UTF_8)) {
+                for (String line : expectedLines) {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            }
+
+            final String url = LocalFileSystem.toURL(file);
+            Assert.assertEquals(Compression.BZIP2, FileSystems.detectCompression(url));
+        }
+    }
+
+}
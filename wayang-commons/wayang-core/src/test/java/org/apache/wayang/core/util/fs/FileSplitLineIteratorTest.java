@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.core.util.fs;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for the {@link FileSplitLineIterator}.
+ */
+public class FileSplitLineIteratorTest {
+
+    @Test
+    public void testSplitsYieldAllLines() throws IOException {
+        final List<String> expectedLines = Arrays.asList(
+                "first line", "", "a", "some longer line with ümläuts", "", "", "x", "last line"
+        );
+        File file = File.createTempFile("wayang-splits", ".txt");
+        file.deleteOnExit();
+        Files.write(file.toPath(), String.join("\n", expectedLines).getBytes(StandardCharsets.UTF_8));
+
+        final LocalFileSystem fs = new LocalFileSystem();
+        final String url = LocalFileSystem.toURL(file);
+        for (long splitSize = 1; splitSize <= file.length() + 1; splitSize++) {
+            final List<FileSplit> splits = fs.getSplits(url, splitSize);
+            final List<String> lines = FileUtils.streamLines(fs, splits, false).collect(Collectors.toList());
+            Assert.assertEquals("Split size " + splitSize, expectedLines, lines);
+        }
+    }
+
+    @Test
+    public void testCarriageReturnsAndTrailingNewline() throws IOException {
+        File file = File.createTempFile("wayang-splits", ".txt");
+        file.deleteOnExit();
+        Files.write(file.toPath(), "a\r\nb\r\n\nc\n".getBytes(StandardCharsets.UTF_8));
+
+        final List<String> lines = FileUtils.streamLines(LocalFileSystem.toURL(file), 3, true)
+                .collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList("a", "b", "", "c"), lines);
+    }
+
+    @Test
+    public void testParallelReadingYieldsSequentialOrderedStream() throws IOException {
+        final List<String> expectedLines = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            expectedLines.add("line " + i);
+        }
+        File file = File.createTempFile("wayang-splits", ".txt");
+        file.deleteOnExit();
+        Files.write(file.toPath(), expectedLines, StandardCharsets.UTF_8);
+
+        try (Stream<String> lines = FileUtils.streamLines(LocalFileSystem.toURL(file), 100, true)) {
+            Assert.assertFalse(lines.isParallel());
+            Assert.assertEquals(expectedLines, lines.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testCharset() throws IOException {
+        final List<String> expectedLines = Arrays.asList("Grüße", "Ærø", "plain");
+        for (Charset charset : Arrays.asList(StandardCharsets.ISO_8859_1, StandardCharsets.UTF_16)) {
+            File file = File.createTempFile("wayang-splits", ".txt");
+            file.deleteOnExit();
+            Files.write(file.toPath(), expectedLines, charset);
+
+            final List<String> lines = FileUtils.streamLines(LocalFileSystem.toURL(file), 4, true, charset)
+                    .collect(Collectors.toList());
+            Assert.assertEquals(charset.name(), expectedLines, lines);
+        }
+    }
+
+}
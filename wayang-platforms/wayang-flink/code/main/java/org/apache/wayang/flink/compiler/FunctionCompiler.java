@@ -86,12 +86,8 @@ public class FunctionCompiler {
     public <T> ReduceFunction<T> compile(ReduceDescriptor<T> descriptor) {
         // This is a dummy method but shows the intention of having something compilable in the descriptors.
         BiFunction<T, T, T> reduce_function = descriptor.getJavaImplementation();
-        return new ReduceFunction<T>() {
-            @Override
-            public T reduce(T t, T t1) throws Exception {
-                return reduce_function.apply(t, t1);
-            }
-        };
+        // Use a lambda rather than an anonymous class, as Flink's closure cleaner cannot read the latter's bytecode.
+        return (t, t1) -> reduce_function.apply(t, t1);
     }
 
     public <T> FilterFunction<T> compile(PredicateDescriptor.SerializablePredicate<T> predicateDescriptor) {
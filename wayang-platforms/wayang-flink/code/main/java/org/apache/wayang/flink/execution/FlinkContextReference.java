@@ -24,6 +24,7 @@ import org.apache.flink.api.java.utils.ParameterTool;
 import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.platform.CrossPlatformExecutor;
 import org.apache.wayang.core.platform.ExecutionResourceTemplate;
+import org.apache.wayang.core.platform.PlatformContextPool;
 
 /**
  * Wraps and manages a Flink {@link ExecutionEnvironment} to avoid steady re-creation.
@@ -34,6 +35,11 @@ public class FlinkContextReference extends ExecutionResourceTemplate {
      */
     private ExecutionEnvironment flinkEnviroment;
 
+    /**
+     * The {@link PlatformContextPool.Lease} for the {@link #flinkEnviroment} or {@code null} if it is not pooled.
+     */
+    private PlatformContextPool.Lease<ExecutionEnvironment> lease;
+
     /**
      * Creates a new instance.
      *
@@ -48,6 +54,25 @@ public class FlinkContextReference extends ExecutionResourceTemplate {
         loadConfiguration( crossPlatformExecutor.getConfiguration(), parallelism );
     }
 
+    /**
+     * Creates a new instance that returns the pooled {@link ExecutionEnvironment} on disposal.
+     *
+     * @param lease for the {@link ExecutionEnvironment} to be wrapped
+     */
+    public FlinkContextReference(CrossPlatformExecutor crossPlatformExecutor,
+                                 PlatformContextPool.Lease<ExecutionEnvironment> lease,
+                                 int parallelism) {
+        this(crossPlatformExecutor, lease.get(), parallelism);
+        this.lease = lease;
+    }
+
+    /**
+     * @return whether the {@link ExecutionEnvironment} had already been initialized before this instance was created
+     */
+    public boolean isWarmStart() {
+        return this.lease != null && this.lease.isWarmStart();
+    }
+
 
     /**
      * Provides the {@link ExecutionEnvironment}. This instance must not be disposed, yet.
@@ -60,7 +85,9 @@ public class FlinkContextReference extends ExecutionResourceTemplate {
 
     @Override
     protected void doDispose() throws Throwable {
-
+        if (this.lease != null) {
+            this.lease.release();
+        }
     }
 
     @Override
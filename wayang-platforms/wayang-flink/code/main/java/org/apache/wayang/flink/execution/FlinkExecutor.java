@@ -19,9 +19,12 @@
 package org.apache.wayang.flink.execution;
 
 import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.streaming.api.TimeCharacteristic;
+import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
 import org.apache.wayang.core.api.Job;
 import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.PartitionCountEstimator;
 import org.apache.wayang.core.plan.executionplan.ExecutionTask;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
 import org.apache.wayang.core.platform.ChannelInstance;
@@ -55,6 +58,11 @@ public class FlinkExecutor extends PushExecutorTemplate {
      */
     public ExecutionEnvironment fee;
 
+    /**
+     * The {@link StreamExecutionEnvironment} for streaming plans. <i>Lazy-initialized.</i>
+     */
+    private StreamExecutionEnvironment sfee;
+
     /**
      * Compiler to create flink UDFs.
      */
@@ -70,6 +78,11 @@ public class FlinkExecutor extends PushExecutorTemplate {
      */
     private int numDefaultPartitions;
 
+    /**
+     * Sizes the outputs of shuffling {@link FlinkExecutionOperator}s.
+     */
+    private PartitionCountEstimator partitionCountEstimator;
+
 
     public FlinkExecutor(FlinkPlatform flinkPlatform, Job job) {
         super(job);
@@ -78,6 +91,9 @@ public class FlinkExecutor extends PushExecutorTemplate {
         this.fee = this.flinkContextReference.get();
         this.numDefaultPartitions = (int)this.getConfiguration().getLongProperty("wayang.flink.paralelism");
         this.fee.setParallelism(this.numDefaultPartitions);
+        this.partitionCountEstimator = new PartitionCountEstimator(
+                this.getConfiguration(), this.platform, this.numDefaultPartitions, this.numDefaultPartitions
+        );
         this.flinkContextReference.noteObtainedReference();
     }
 
@@ -95,8 +111,7 @@ public class FlinkExecutor extends PushExecutorTemplate {
         // Execute.
         final Collection<ExecutionLineageNode> executionLineageNodes;
         final Collection<ChannelInstance> producedChannelInstances;
-        // TODO: Use proper progress estimator.
-        this.job.reportProgress(task.getOperator().getName(), 50);
+        this.startProgressTracking(task, inputChannelInstances, outputChannelInstances, producerOperatorContext);
 
         long startTime = System.currentTimeMillis();
         try {
@@ -114,7 +129,7 @@ public class FlinkExecutor extends PushExecutorTemplate {
         }
         long endTime = System.currentTimeMillis();
         long executionDuration = endTime - startTime;
-        this.job.reportProgress(task.getOperator().getName(), 100);
+        this.completeProgressTracking(task, inputChannelInstances, executionLineageNodes);
 
         // Check how much we executed.
         PartialExecution partialExecution = this.createPartialExecution(executionLineageNodes, executionDuration);
@@ -171,7 +186,33 @@ public class FlinkExecutor extends PushExecutorTemplate {
         return this.compiler;
     }
 
+    /**
+     * Provides the {@link StreamExecutionEnvironment} for streaming plans, which works with event time.
+     *
+     * @return the {@link StreamExecutionEnvironment}
+     */
+    public StreamExecutionEnvironment getStreamExecutionEnvironment() {
+        if (this.sfee == null) {
+            this.sfee = this.platform.createStreamExecutionEnvironment(this.job);
+            this.sfee.setStreamTimeCharacteristic(TimeCharacteristic.EventTime);
+        }
+        return this.sfee;
+    }
+
     public int getNumDefaultPartitions(){
         return this.numDefaultPartitions;
     }
+
+    /**
+     * Determines the parallelism for the output of a shuffling {@link FlinkExecutionOperator}. As the
+     * {@link ExecutionEnvironment} might not provide further task slots, it does not exceed the
+     * {@link #getNumDefaultPartitions()}.
+     *
+     * @param operatorContext of the {@link FlinkExecutionOperator}
+     * @return the parallelism
+     * @see PartitionCountEstimator
+     */
+    public int getNumPartitions(OptimizationContext.OperatorContext operatorContext) {
+        return this.partitionCountEstimator.estimate(operatorContext);
+    }
 }
@@ -19,6 +19,14 @@
 package org.apache.wayang.flink.mapping;
 
 import org.apache.wayang.core.mapping.Mapping;
+import org.apache.wayang.flink.mapping.streaming.DirectoryTextSourceMapping;
+import org.apache.wayang.flink.mapping.streaming.SocketTextSourceMapping;
+import org.apache.wayang.flink.mapping.streaming.StreamCallbackSinkMapping;
+import org.apache.wayang.flink.mapping.streaming.StreamFilterMapping;
+import org.apache.wayang.flink.mapping.streaming.StreamFlatMapMapping;
+import org.apache.wayang.flink.mapping.streaming.StreamMapMapping;
+import org.apache.wayang.flink.mapping.streaming.WindowedJoinMapping;
+import org.apache.wayang.flink.mapping.streaming.WindowedReduceByMapping;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -42,6 +50,8 @@ public class Mappings {
             new GroupByMapping(),
             new IntersectMapping(),
             new JoinMapping(),
+            new BroadcastJoinMapping(),
+            new SkewJoinMapping(),
             new LocalCallbackSinkMapping(),
             new LoopMapping(),
             new MapMapping(),
@@ -54,8 +64,18 @@ public class Mappings {
             new SortMapping(),
             new TextFileSinkMapping(),
             new TextFileSourceMapping(),
+            new ParquetFileSourceMapping(),
+            new ParquetFileSinkMapping(),
             new UnionAllMapping(),
-            new ZipWithIdMapping()
+            new ZipWithIdMapping(),
+            new SocketTextSourceMapping(),
+            new DirectoryTextSourceMapping(),
+            new WindowedReduceByMapping(),
+            new WindowedJoinMapping(),
+            new StreamMapMapping(),
+            new StreamFilterMapping(),
+            new StreamFlatMapMapping(),
+            new StreamCallbackSinkMapping()
     );
 
 }
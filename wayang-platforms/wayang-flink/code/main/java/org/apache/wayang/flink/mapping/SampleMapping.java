@@ -53,6 +53,8 @@ public class SampleMapping implements Mapping{
              || op.getSampleMethod() == SampleOperator.Methods.BERNOULLI
              || op.getSampleMethod() == SampleOperator.Methods.ANY
              || op.getSampleMethod() == SampleOperator.Methods.RESERVOIR
+             || op.getSampleMethod() == SampleOperator.Methods.PARALLEL_RESERVOIR
+             || op.getSampleMethod() == SampleOperator.Methods.STRATIFIED
         ); //TODO: check if the zero here affects execution
         return SubplanPattern.createSingleton(operatorPattern);
     }
@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.flink.operators;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.operators.JoinOperator;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.util.ReflectionUtils;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.flink.channels.DataSetChannel;
+import org.apache.wayang.flink.compiler.FunctionCompiler;
+import org.apache.wayang.flink.execution.FlinkExecutor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Flink implementation of the {@link JoinOperator} that broadcasts one input (the build input) to all tasks, which
+ * build a hash table of it and probe it with their share of the other input. In contrast to the
+ * {@link FlinkJoinOperator}, none of the inputs is repartitioned, which pays off if the build input is small, e.g.,
+ * a dimension table.
+ */
+public class FlinkBroadcastJoinOperator<InputType0, InputType1, KeyType>
+        extends JoinOperator<InputType0, InputType1, KeyType>
+        implements FlinkExecutionOperator {
+
+    /**
+     * The index of the input that is broadcast.
+     */
+    private final int buildInputIndex;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param that            the {@link JoinOperator} to be implemented
+     * @param buildInputIndex the index of the input to be broadcast
+     */
+    public FlinkBroadcastJoinOperator(JoinOperator<InputType0, InputType1, KeyType> that, int buildInputIndex) {
+        super(that);
+        Validate.inclusiveBetween(0, 1, buildInputIndex);
+        this.buildInputIndex = buildInputIndex;
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public FlinkBroadcastJoinOperator(FlinkBroadcastJoinOperator<InputType0, InputType1, KeyType> that) {
+        this(that, that.getBuildInputIndex());
+    }
+
+    public int getBuildInputIndex() {
+        return this.buildInputIndex;
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            FlinkExecutor flinkExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final DataSetChannel.Instance input0 = (DataSetChannel.Instance) inputs[0];
+        final DataSetChannel.Instance input1 = (DataSetChannel.Instance) inputs[1];
+        final DataSetChannel.Instance output = (DataSetChannel.Instance) outputs[0];
+
+        final FunctionCompiler compiler = flinkExecutor.getCompiler();
+        final DataSet<Tuple2<InputType0, InputType1>> dataSetOutput = join(
+                input0.provideDataSet(),
+                input1.provideDataSet(),
+                compiler.compileKeySelector(this.keyDescriptor0),
+                compiler.compileKeySelector(this.keyDescriptor1),
+                this.buildInputIndex == 0 ? JoinHint.BROADCAST_HASH_FIRST : JoinHint.BROADCAST_HASH_SECOND,
+                ExecutionConfig.PARALLELISM_DEFAULT
+        );
+
+        output.accept(dataSetOutput, flinkExecutor);
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    /**
+     * Joins two {@link DataSet}s with the given strategy.
+     *
+     * @param dataSet0     the first {@link DataSet} to join
+     * @param dataSet1     the second {@link DataSet} to join
+     * @param keySelector0 extracts the join keys from {@code dataSet0}
+     * @param keySelector1 extracts the join keys from {@code dataSet1}
+     * @param joinHint     tells Flink how to join
+     * @param parallelism  the parallelism of the join or {@link ExecutionConfig#PARALLELISM_DEFAULT}
+     * @return the join product
+     */
+    static <InputType0, InputType1, KeyType> DataSet<Tuple2<InputType0, InputType1>> join(
+            DataSet<InputType0> dataSet0,
+            DataSet<InputType1> dataSet1,
+            KeySelector<InputType0, KeyType> keySelector0,
+            KeySelector<InputType1, KeyType> keySelector1,
+            JoinHint joinHint,
+            int parallelism) {
+        return dataSet0.join(dataSet1, joinHint)
+                .where(keySelector0)
+                .equalTo(keySelector1)
+                .with(new JoinFunction<InputType0, InputType1, Tuple2<InputType0, InputType1>>() {
+                    @Override
+                    public Tuple2<InputType0, InputType1> join(InputType0 dataQuantum0, InputType1 dataQuantum1) {
+                        return new Tuple2<>(dataQuantum0, dataQuantum1);
+                    }
+                })
+                .returns(ReflectionUtils.specify(Tuple2.class))
+                .setParallelism(parallelism);
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new FlinkBroadcastJoinOperator<>(this);
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return String.format("wayang.flink.broadcastjoin.build%d.load", this.buildInputIndex);
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                FlinkExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor0, configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor1, configuration);
+        return optEstimator;
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Arrays.asList(DataSetChannel.DESCRIPTOR, DataSetChannel.DESCRIPTOR_MANY);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public boolean containsAction() {
+        return false;
+    }
+}
@@ -127,7 +127,8 @@ public class FlinkCoGroupOperator<InputType0, InputType1, TypeKey>
                     iterable1.forEach(list1::add);
                     collector.collect( new Tuple2<>(list0, list1));
                 }
-        }).returns(ReflectionUtils.specify(Tuple2.class));
+        }).returns(ReflectionUtils.specify(Tuple2.class))
+        .setParallelism(flinkExecutor.getNumPartitions(operatorContext));
 
         output.accept(datasetOutput, flinkExecutor);
 
@@ -77,7 +77,8 @@ public class FlinkDistinctOperator<Type>
 
         final DataSet<Type> dataSetInput = input.provideDataSet();
 
-        final DataSet<Type> dataSetOutput = dataSetInput.distinct(new KeySelectorDistinct<Type>());
+        final DataSet<Type> dataSetOutput = dataSetInput.distinct(new KeySelectorDistinct<Type>())
+                .setParallelism(flinkExecutor.getNumPartitions(operatorContext));
 
         output.accept(dataSetOutput, flinkExecutor);
 
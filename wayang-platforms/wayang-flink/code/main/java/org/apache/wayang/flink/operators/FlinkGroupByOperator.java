@@ -92,7 +92,7 @@ public class FlinkGroupByOperator<InputType, KeyType> extends GroupByOperator<In
                     iterable.forEach(dataUnitGroup::add);
                     collector.collect(dataUnitGroup);
                 }
-        );
+        ).setParallelism(flinkExecutor.getNumPartitions(operatorContext));
 
         output.accept(dataSetOutput, flinkExecutor);
 
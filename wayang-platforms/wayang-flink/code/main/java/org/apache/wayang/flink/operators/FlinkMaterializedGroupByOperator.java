@@ -90,7 +90,8 @@ public class FlinkMaterializedGroupByOperator<Type, KeyType>
                             iterable.forEach(dataUnitGroup::add);
                             collector.collect(dataUnitGroup);
                         }
-                    );
+                    )
+                    .setParallelism(flinkExecutor.getNumPartitions(operatorContext));
 
         output.accept(dataSetOutput, flinkExecutor);
 
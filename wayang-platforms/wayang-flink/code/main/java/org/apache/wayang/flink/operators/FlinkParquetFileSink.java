@@ -0,0 +1,153 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.flink.operators;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.hadoop.mapreduce.HadoopOutputFormat;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.hadoop.mapreduce.lib.output.FileOutputFormat;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.hadoop.ParquetOutputFormat;
+import org.apache.parquet.hadoop.example.GroupWriteSupport;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.MessageTypeParser;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.operators.ParquetFileSink;
+import org.apache.wayang.basic.util.parquet.ParquetRecords;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.flink.channels.DataSetChannel;
+import org.apache.wayang.flink.execution.FlinkExecutor;
+import org.apache.wayang.flink.platform.FlinkPlatform;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Implementation of the {@link ParquetFileSink} for the {@link FlinkPlatform}. It writes a directory with one
+ * Parquet file per task. If no schema is specified, it is inferred from the first {@link Record}, which requires an
+ * additional Flink job.
+ */
+public class FlinkParquetFileSink extends ParquetFileSink implements FlinkExecutionOperator {
+
+    public FlinkParquetFileSink(String outputUrl, String schema) {
+        super(outputUrl, schema);
+    }
+
+    public FlinkParquetFileSink(ParquetFileSink that) {
+        super(that);
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            FlinkExecutor flinkExecutor,
+            OptimizationContext.OperatorContext operatorContext) throws Exception {
+        assert inputs.length == 1;
+        assert outputs.length == 0;
+
+        final DataSet<Record> inputDataSet = ((DataSetChannel.Instance) inputs[0]).provideDataSet();
+
+        final MessageType schema;
+        if (this.isSchemaSpecified()) {
+            schema = this.getSchema(null);
+        } else {
+            final List<Record> samples = inputDataSet.first(1).collect();
+            if (samples.isEmpty()) {
+                throw new WayangException(String.format(
+                        "Cannot infer the Parquet schema for %s from an empty input; please specify it.", this.outputUrl
+                ));
+            }
+            schema = this.getSchema(samples.get(0));
+        }
+
+        final Job job = Job.getInstance(new Configuration(true));
+        GroupWriteSupport.setSchema(schema, job.getConfiguration());
+        ParquetOutputFormat.setWriteSupportClass(job, GroupWriteSupport.class);
+        ParquetOutputFormat.setCompression(job, this.compressionCodec);
+        FileOutputFormat.setOutputPath(job, new Path(this.outputUrl));
+
+        inputDataSet.map(new GroupFormatter(schema.toString()))
+                .output(new HadoopOutputFormat<>(new ParquetOutputFormat<Group>(), job));
+
+        return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+    }
+
+    /**
+     * Converts {@link Record}s into Parquet {@link Group}s.
+     */
+    private static class GroupFormatter implements MapFunction<Record, Tuple2<Void, Group>> {
+
+        /**
+         * The textual Parquet schema, because {@link MessageType}s are not serializable.
+         */
+        private final String schema;
+
+        private transient MessageType parsedSchema;
+
+        private GroupFormatter(String schema) {
+            this.schema = schema;
+        }
+
+        @Override
+        public Tuple2<Void, Group> map(Record record) throws Exception {
+            if (this.parsedSchema == null) {
+                this.parsedSchema = MessageTypeParser.parseMessageType(this.schema);
+            }
+            return new Tuple2<>(null, ParquetRecords.toGroup(record, this.parsedSchema));
+        }
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Arrays.asList(DataSetChannel.DESCRIPTOR, DataSetChannel.DESCRIPTOR_MANY);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        throw new UnsupportedOperationException("This operator has no outputs.");
+    }
+
+    @Override
+    public boolean containsAction() {
+        return true;
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.flink.parquetfilesink.load";
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new FlinkParquetFileSink(this);
+    }
+
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.flink.operators;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.hadoop.mapreduce.HadoopInputFormat;
+import org.apache.flink.api.java.tuple.Tuple2;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.mapreduce.Job;
+import org.apache.hadoop.mapreduce.lib.input.FileInputFormat;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.hadoop.ParquetInputFormat;
+import org.apache.parquet.hadoop.example.GroupReadSupport;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.operators.ParquetFileSource;
+import org.apache.wayang.basic.util.parquet.ParquetRecords;
+import org.apache.wayang.basic.util.parquet.ParquetSchemas;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.flink.channels.DataSetChannel;
+import org.apache.wayang.flink.execution.FlinkExecutor;
+import org.apache.wayang.flink.platform.FlinkPlatform;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementation of the {@link ParquetFileSource} for the {@link FlinkPlatform}. Row groups are distributed
+ * across tasks via Parquet's {@link ParquetInputFormat}.
+ */
+public class FlinkParquetFileSource extends ParquetFileSource implements FlinkExecutionOperator {
+
+    public FlinkParquetFileSource(String inputUrl, String... columnNames) {
+        super(inputUrl, columnNames);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public FlinkParquetFileSource(ParquetFileSource that) {
+        super(that);
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            FlinkExecutor flinkExecutor,
+            OptimizationContext.OperatorContext operatorContext) throws Exception {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final String url = this.getInputUrl().trim();
+        final Job job = Job.getInstance(new Configuration(true));
+        final String[] columnNames = ParquetSchemas.getFieldNames(this.configureRead(job.getConfiguration()));
+        ParquetInputFormat.setReadSupportClass(job, GroupReadSupport.class);
+        FileInputFormat.addInputPath(job, new Path(url));
+
+        final HadoopInputFormat<Void, Group> inputFormat = new HadoopInputFormat<>(
+                new ParquetInputFormat<>(), Void.class, Group.class, job
+        );
+        DataSet<Record> dataSet = flinkExecutor.fee.createInput(inputFormat)
+                .setParallelism(flinkExecutor.getNumDefaultPartitions())
+                .map(new GroupConverter(columnNames));
+        if (this.getPredicateDescriptor() != null) {
+            // Parquet only skips what the pushed-down predicate rules out, so we apply the exact predicate, too.
+            dataSet = dataSet.filter(flinkExecutor.getCompiler().compile(this.getPredicateDescriptor().getJavaImplementation()));
+        }
+        ((DataSetChannel.Instance) outputs[0]).accept(dataSet, flinkExecutor);
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    /**
+     * Converts Parquet {@link Group}s into {@link Record}s.
+     */
+    private static class GroupConverter implements MapFunction<Tuple2<Void, Group>, Record> {
+
+        private final String[] columnNames;
+
+        private GroupConverter(String[] columnNames) {
+            this.columnNames = columnNames;
+        }
+
+        @Override
+        public Record map(Tuple2<Void, Group> keyAndGroup) throws Exception {
+            return ParquetRecords.toRecord(keyAndGroup.f1, this.columnNames);
+        }
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.flink.parquetfilesource.load";
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(org.apache.wayang.core.api.Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                FlinkExecutionOperator.super.createLoadProfileEstimator(configuration);
+        if (this.getPredicateDescriptor() != null) {
+            LoadProfileEstimators.nestUdfEstimator(optEstimator, this.getPredicateDescriptor(), configuration);
+        }
+        return optEstimator;
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new FlinkParquetFileSource(this);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        throw new UnsupportedOperationException(String.format("%s does not have input channels.", this));
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Arrays.asList(DataSetChannel.DESCRIPTOR, DataSetChannel.DESCRIPTOR_MANY);
+    }
+
+    @Override
+    public boolean containsAction() {
+        return false;
+    }
+
+}
@@ -18,9 +18,15 @@
 
 package org.apache.wayang.flink.operators;
 
+import org.apache.flink.api.common.functions.RichGroupReduceFunction;
+import org.apache.flink.api.common.functions.RichMapPartitionFunction;
 import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.typeutils.GenericTypeInfo;
 import org.apache.flink.api.java.utils.DataSetUtils;
+import org.apache.flink.configuration.Configuration;
+import org.apache.flink.util.Collector;
 import org.apache.wayang.basic.operators.SampleOperator;
+import org.apache.wayang.basic.util.sketch.Reservoir;
 import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
@@ -41,7 +47,8 @@ import java.util.function.IntUnaryOperator;
 import java.util.function.LongUnaryOperator;
 
 /**
- * Flink implementation of the {@link SampleOperator}. Sampling with replacement (i.e., the sample may contain duplicates)
+ * Flink implementation of the {@link SampleOperator}. {@link Methods#RANDOM} sampling is with replacement (i.e., the
+ * sample may contain duplicates), while the reservoir-based methods sample without replacement.
  */
 public class FlinkSampleOperator<Type>
         extends SampleOperator<Type>
@@ -66,10 +73,13 @@ public class FlinkSampleOperator<Type>
         assert that.getSampleMethod() == Methods.RANDOM
                 || that.getSampleMethod() == Methods.BERNOULLI
                 || that.getSampleMethod() == Methods.RESERVOIR
+                || that.getSampleMethod() == Methods.PARALLEL_RESERVOIR
+                || that.getSampleMethod() == Methods.STRATIFIED
                 || that.getSampleMethod() == Methods.ANY;
     }
 
     @Override
+    @SuppressWarnings("unchecked")
     public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
             ChannelInstance[] inputs,
             ChannelInstance[] outputs,
@@ -111,7 +121,21 @@ public class FlinkSampleOperator<Type>
                     dataSetOutput = DataSetUtils.sample(dataSetInput, false, faction, seed).first(sampleSize);
                     break;
                 case RESERVOIR:
-                    dataSetOutput = DataSetUtils.sampleWithSize(dataSetInput, true, sampleSize, seed);
+                case PARALLEL_RESERVOIR:
+                    dataSetOutput = dataSetInput
+                            .mapPartition(new PartitionSampler<>(sampleSize, seed))
+                            .returns(new GenericTypeInfo<>((Class<Reservoir<Type>>) (Class<?>) Reservoir.class))
+                            .reduce(Reservoir::merge)
+                            .flatMap((Reservoir<Type> reservoir, Collector<Type> collector) ->
+                                    reservoir.getSample().forEach(collector::collect))
+                            .returns(dataSetInput.getType());
+                    break;
+                case STRATIFIED:
+                    dataSetOutput = dataSetInput
+                            .groupBy(flinkExecutor.getCompiler().compileKeySelector(this.getStratumKeyDescriptor()))
+                            .reduceGroup(new StratumSampler<>(sampleSize, seed))
+                            .returns(dataSetInput.getType())
+                            .setParallelism(flinkExecutor.getNumPartitions(operatorContext));
                     break;
                 default:
                     throw new WayangException("The option is not valid");
@@ -124,6 +148,59 @@ public class FlinkSampleOperator<Type>
         return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
     }
 
+    /**
+     * Samples a partition into a {@link Reservoir} with a partition-specific seed.
+     */
+    private static class PartitionSampler<Type> extends RichMapPartitionFunction<Type, Reservoir<Type>> {
+
+        private final int sampleSize;
+
+        private final long seed;
+
+        private PartitionSampler(int sampleSize, long seed) {
+            this.sampleSize = sampleSize;
+            this.seed = seed;
+        }
+
+        @Override
+        public void mapPartition(Iterable<Type> values, Collector<Reservoir<Type>> collector) {
+            final Reservoir<Type> reservoir = new Reservoir<>(
+                    this.sampleSize, this.seed + this.getRuntimeContext().getIndexOfThisSubtask() + 1
+            );
+            values.forEach(reservoir::add);
+            collector.collect(reservoir);
+        }
+    }
+
+    /**
+     * Samples each stratum via a {@link Reservoir}.
+     */
+    private static class StratumSampler<Type> extends RichGroupReduceFunction<Type, Type> {
+
+        private final int sampleSize;
+
+        private final long seed;
+
+        private transient Random random;
+
+        private StratumSampler(int sampleSize, long seed) {
+            this.sampleSize = sampleSize;
+            this.seed = seed;
+        }
+
+        @Override
+        public void open(Configuration parameters) {
+            this.random = new Random(this.seed + this.getRuntimeContext().getIndexOfThisSubtask());
+        }
+
+        @Override
+        public void reduce(Iterable<Type> values, Collector<Type> collector) {
+            final Reservoir<Type> reservoir = new Reservoir<>(this.sampleSize, this.random);
+            values.forEach(reservoir::add);
+            reservoir.getSample().forEach(collector::collect);
+        }
+    }
+
     @Override
     protected ExecutionOperator createCopy() {
         return new FlinkSampleOperator<Type>(this);
@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.flink.operators;
+
+import org.apache.flink.api.common.ExecutionConfig;
+import org.apache.flink.api.common.functions.FilterFunction;
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.api.common.operators.base.JoinOperatorBase.JoinHint;
+import org.apache.flink.api.java.DataSet;
+import org.apache.flink.api.java.functions.KeySelector;
+import org.apache.flink.api.java.utils.DataSetUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.operators.JoinOperator;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.util.HeavyHitters;
+import org.apache.wayang.core.util.ReflectionUtils;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.flink.channels.DataSetChannel;
+import org.apache.wayang.flink.compiler.FunctionCompiler;
+import org.apache.wayang.flink.execution.FlinkExecutor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Flink implementation of the {@link JoinOperator} that copes with skewed join keys. It samples the join keys of
+ * both inputs to detect heavy hitters. The data quanta with heavy-hitter keys are joined by broadcasting the
+ * matching data quanta of the other input, so that they are not repartitioned into a single straggling task. All
+ * other data quanta are joined via repartitioning. Without heavy hitters, this operator behaves like the
+ * {@link FlinkJoinOperator}. Note that the samples of both inputs are collected in a separate Flink job, which
+ * executes the upstream of the inputs once more.
+ * <p>The sampling is configured via {@code wayang.flink.skewjoin.sample-size} (the desired number of sampled keys per
+ * input), {@code wayang.flink.skewjoin.sample-fraction} (used if the input cardinality is unknown), and
+ * {@code wayang.flink.skewjoin.heavy-hitter-frequency} (the minimum share of a heavy hitter among the samples).</p>
+ */
+public class FlinkSkewJoinOperator<InputType0, InputType1, KeyType>
+        extends JoinOperator<InputType0, InputType1, KeyType>
+        implements FlinkExecutionOperator {
+
+    /**
+     * Creates a new instance.
+     *
+     * @param that the {@link JoinOperator} to be implemented
+     */
+    public FlinkSkewJoinOperator(JoinOperator<InputType0, InputType1, KeyType> that) {
+        super(that);
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            FlinkExecutor flinkExecutor,
+            OptimizationContext.OperatorContext operatorContext) throws Exception {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final DataSetChannel.Instance input0 = (DataSetChannel.Instance) inputs[0];
+        final DataSetChannel.Instance input1 = (DataSetChannel.Instance) inputs[1];
+        final DataSetChannel.Instance output = (DataSetChannel.Instance) outputs[0];
+
+        final DataSet<InputType0> dataSetInput0 = input0.provideDataSet();
+        final DataSet<InputType1> dataSetInput1 = input1.provideDataSet();
+
+        final FunctionCompiler compiler = flinkExecutor.getCompiler();
+        final KeySelector<InputType0, KeyType> keySelector0 = compiler.compileKeySelector(this.keyDescriptor0);
+        final KeySelector<InputType1, KeyType> keySelector1 = compiler.compileKeySelector(this.keyDescriptor1);
+
+        // Find the heavy hitters of the more skewed input.
+        final List<Map<KeyType, Double>> heavyHittersPerInput = this.sampleHeavyHitters(
+                dataSetInput0, keySelector0, operatorContext.getInputCardinality(0),
+                dataSetInput1, keySelector1, operatorContext.getInputCardinality(1),
+                flinkExecutor
+        );
+        final Map<KeyType, Double> heavyHitters0 = heavyHittersPerInput.get(0);
+        final Map<KeyType, Double> heavyHitters1 = heavyHittersPerInput.get(1);
+        final boolean isSkewedInput0 = HeavyHitters.getMass(heavyHitters0) >= HeavyHitters.getMass(heavyHitters1);
+        final Set<KeyType> heavyHitters = new HashSet<>((isSkewedInput0 ? heavyHitters0 : heavyHitters1).keySet());
+        LogManager.getLogger(this.getClass()).info("Detected {} heavy hitter(s) for {}.", heavyHitters.size(), this);
+
+        // Join the data quanta with regular keys via repartitioning.
+        DataSet<Tuple2<InputType0, InputType1>> dataSetOutput = FlinkBroadcastJoinOperator.join(
+                dataSetInput0.filter(new KeyFilter<>(keySelector0, heavyHitters, false)),
+                dataSetInput1.filter(new KeyFilter<>(keySelector1, heavyHitters, false)),
+                keySelector0,
+                keySelector1,
+                JoinHint.REPARTITION_HASH_SECOND,
+                flinkExecutor.getNumPartitions(operatorContext)
+        );
+
+        // Join the data quanta with heavy-hitter keys by broadcasting the matching data quanta of the other input.
+        if (!heavyHitters.isEmpty()) {
+            dataSetOutput = dataSetOutput.union(FlinkBroadcastJoinOperator.join(
+                    dataSetInput0.filter(new KeyFilter<>(keySelector0, heavyHitters, true)),
+                    dataSetInput1.filter(new KeyFilter<>(keySelector1, heavyHitters, true)),
+                    keySelector0,
+                    keySelector1,
+                    isSkewedInput0 ? JoinHint.BROADCAST_HASH_SECOND : JoinHint.BROADCAST_HASH_FIRST,
+                    ExecutionConfig.PARALLELISM_DEFAULT
+            ));
+        }
+
+        output.accept(dataSetOutput, flinkExecutor);
+
+        return ExecutionOperator.modelQuasiEagerExecution(inputs, outputs, operatorContext);
+    }
+
+    /**
+     * Detects heavy-hitter keys in samples of the given {@link DataSet}s. Both samples are collected in a single
+     * Flink job, so that a common upstream of the inputs is executed only once for sampling.
+     *
+     * @return the heavy hitters of {@code dataSet0} and {@code dataSet1}, respectively
+     */
+    private <T0, T1> List<Map<KeyType, Double>> sampleHeavyHitters(DataSet<T0> dataSet0,
+                                                                   KeySelector<T0, KeyType> keySelector0,
+                                                                   CardinalityEstimate cardinality0,
+                                                                   DataSet<T1> dataSet1,
+                                                                   KeySelector<T1, KeyType> keySelector1,
+                                                                   CardinalityEstimate cardinality1,
+                                                                   FlinkExecutor flinkExecutor) throws Exception {
+        final DataSet<Tuple2<Integer, KeyType>> sampledKeys0 =
+                this.sampleKeys(dataSet0, keySelector0, cardinality0, 0, flinkExecutor);
+        final DataSet<Tuple2<Integer, KeyType>> sampledKeys1 =
+                this.sampleKeys(dataSet1, keySelector1, cardinality1, 1, flinkExecutor);
+
+        final List<List<KeyType>> sampledKeysPerInput = Arrays.asList(new ArrayList<>(), new ArrayList<>());
+        for (Tuple2<Integer, KeyType> sampledKey : sampledKeys0.union(sampledKeys1).collect()) {
+            sampledKeysPerInput.get(sampledKey.field0).add(sampledKey.field1);
+        }
+
+        final double minFrequency = flinkExecutor.getConfiguration()
+                .getDoubleProperty("wayang.flink.skewjoin.heavy-hitter-frequency", 0.01d);
+        return Arrays.asList(
+                HeavyHitters.detect(sampledKeysPerInput.get(0), minFrequency),
+                HeavyHitters.detect(sampledKeysPerInput.get(1), minFrequency)
+        );
+    }
+
+    /**
+     * Samples the join keys of the given {@link DataSet} and tags them with the given input index.
+     */
+    private <T> DataSet<Tuple2<Integer, KeyType>> sampleKeys(DataSet<T> dataSet,
+                                                             KeySelector<T, KeyType> keySelector,
+                                                             CardinalityEstimate cardinality,
+                                                             int inputIndex,
+                                                             FlinkExecutor flinkExecutor) {
+        final Configuration configuration = flinkExecutor.getConfiguration();
+        final long estimatedSize = cardinality == null || cardinality.getCorrectnessProbability() == 0d ?
+                -1L :
+                cardinality.getGeometricMeanEstimate();
+        final double sampleFraction = HeavyHitters.getSampleFraction(
+                (int) configuration.getLongProperty("wayang.flink.skewjoin.sample-size", 10000L),
+                estimatedSize,
+                configuration.getDoubleProperty("wayang.flink.skewjoin.sample-fraction", 0.01d)
+        );
+        return DataSetUtils.sample(dataSet, false, sampleFraction)
+                .map(new KeyTagger<>(keySelector, inputIndex))
+                .returns(ReflectionUtils.specify(Tuple2.class));
+    }
+
+    /**
+     * Extracts the join keys of data quanta and tags them with an input index.
+     */
+    private static class KeyTagger<T, KeyType> implements MapFunction<T, Tuple2<Integer, KeyType>> {
+
+        private final KeySelector<T, KeyType> keySelector;
+
+        private final int inputIndex;
+
+        private KeyTagger(KeySelector<T, KeyType> keySelector, int inputIndex) {
+            this.keySelector = keySelector;
+            this.inputIndex = inputIndex;
+        }
+
+        @Override
+        public Tuple2<Integer, KeyType> map(T dataQuantum) throws Exception {
+            return new Tuple2<>(this.inputIndex, this.keySelector.getKey(dataQuantum));
+        }
+    }
+
+    /**
+     * Retains data quanta depending on whether their keys are heavy hitters.
+     */
+    private static class KeyFilter<T, KeyType> implements FilterFunction<T> {
+
+        private final KeySelector<T, KeyType> keySelector;
+
+        private final Set<KeyType> heavyHitters;
+
+        private final boolean isRetainingHeavyHitters;
+
+        private KeyFilter(KeySelector<T, KeyType> keySelector,
+                          Set<KeyType> heavyHitters,
+                          boolean isRetainingHeavyHitters) {
+            this.keySelector = keySelector;
+            this.heavyHitters = heavyHitters;
+            this.isRetainingHeavyHitters = isRetainingHeavyHitters;
+        }
+
+        @Override
+        public boolean filter(T dataQuantum) throws Exception {
+            return this.heavyHitters.contains(this.keySelector.getKey(dataQuantum)) == this.isRetainingHeavyHitters;
+        }
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new FlinkSkewJoinOperator<>(this);
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.flink.skewjoin.load";
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                FlinkExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor0, configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor1, configuration);
+        return optEstimator;
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Arrays.asList(DataSetChannel.DESCRIPTOR, DataSetChannel.DESCRIPTOR_MANY);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(DataSetChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public boolean containsAction() {
+        return true;
+    }
+}
@@ -18,8 +18,11 @@
 
 package org.apache.wayang.flink.operators;
 
+import org.apache.flink.api.common.io.FileInputFormat;
+import org.apache.flink.api.common.io.compression.InflaterInputStreamFactory;
 import org.apache.flink.api.java.DataSet;
 import org.apache.wayang.basic.operators.TextFileSource;
+import org.apache.wayang.core.monitor.ProgressTracker;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
@@ -27,18 +30,33 @@ import org.apache.wayang.core.platform.ChannelDescriptor;
 import org.apache.wayang.core.platform.ChannelInstance;
 import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
 import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.core.util.fs.Compression;
+import org.apache.wayang.core.util.fs.FileSystems;
 import org.apache.wayang.flink.channels.DataSetChannel;
 import org.apache.wayang.flink.execution.FlinkExecutor;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 /**
  * Provides a {@link Collection} to a Flink job.
  */
 public class FlinkTextFileSource extends TextFileSource implements FlinkExecutionOperator {
 
+    static {
+        // Flink ships decompressors for GZip and BZip2 only.
+        for (Compression compression : Arrays.asList(Compression.ZSTD, Compression.LZ4)) {
+            final CompressionInflaterFactory factory = new CompressionInflaterFactory(compression);
+            for (String extension : factory.getCommonFileExtensions()) {
+                FileInputFormat.registerInflaterInputStreamFactory(extension, factory);
+            }
+        }
+    }
+
     public FlinkTextFileSource(String inputUrl, String encoding) {
         super(inputUrl, encoding);
     }
@@ -72,6 +90,11 @@ public class FlinkTextFileSource extends TextFileSource implements FlinkExecutio
 
         output.accept(dataSet, flinkExecutor);
 
+        final ProgressTracker progressTracker = output.getProgressTracker();
+        if (progressTracker != null) {
+            FileSystems.getFileSize(this.getInputUrl()).ifPresent(progressTracker::addBytes);
+        }
+
         ExecutionLineageNode prepareLineageNode = new ExecutionLineageNode(operatorContext);
         prepareLineageNode.add(LoadProfileEstimators.createFromSpecification(
                 "wayang.flink.textfilesource.load.prepare", flinkExecutor.getConfiguration()
@@ -85,6 +108,31 @@ public class FlinkTextFileSource extends TextFileSource implements FlinkExecutio
         return prepareLineageNode.collectAndMark();
     }
 
+    /**
+     * Makes a {@link Compression} available to Flink's file input formats.
+     */
+    private static class CompressionInflaterFactory implements InflaterInputStreamFactory<InputStream> {
+
+        private final Compression compression;
+
+        private CompressionInflaterFactory(Compression compression) {
+            this.compression = compression;
+        }
+
+        @Override
+        public InputStream create(InputStream in) throws IOException {
+            return this.compression.decompress(in);
+        }
+
+        @Override
+        public Collection<String> getCommonFileExtensions() {
+            // Flink expects the extensions without the leading dot.
+            return this.compression.getExtensions().stream()
+                    .map(extension -> extension.substring(1))
+                    .collect(Collectors.toList());
+        }
+    }
+
     @Override
     protected ExecutionOperator createCopy() {
         return new FlinkTextFileSource(this.getInputUrl(), this.getEncoding());
@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.flink.operators.streaming;
+
+import org.apache.flink.api.common.functions.MapFunction;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.functions.timestamps.BoundedOutOfOrdernessTimestampExtractor;
+import org.apache.flink.streaming.api.windowing.assigners.SlidingEventTimeWindows;
+import org.apache.flink.streaming.api.windowing.assigners.TumblingEventTimeWindows;
+import org.apache.flink.streaming.api.windowing.assigners.WindowAssigner;
+import org.apache.flink.streaming.api.windowing.time.Time;
+import org.apache.flink.streaming.api.windowing.windows.TimeWindow;
+import org.apache.wayang.basic.function.WindowDescriptor;
+import org.apache.wayang.core.api.exception.WayangException;
+
+/**
+ * Translates {@link WindowDescriptor}s into Flink's event-time windowing.
+ */
+public class EventTimeWindows {
+
+    private EventTimeWindows() {
+    }
+
+    /**
+     * Assigns event times and watermarks to a {@link DataStream}.
+     *
+     * @param dataStream         the {@link DataStream}
+     * @param timestampExtractor extracts the event times
+     * @param windowDescriptor   describes the tolerated out-of-orderness
+     * @return the {@link DataStream} with event times
+     */
+    public static <T> DataStream<T> assignTimestamps(DataStream<T> dataStream,
+                                                     MapFunction<T, Long> timestampExtractor,
+                                                     WindowDescriptor windowDescriptor) {
+        return dataStream.assignTimestampsAndWatermarks(new TimestampExtractor<>(
+                timestampExtractor, windowDescriptor.getMaxOutOfOrderness()
+        ));
+    }
+
+    /**
+     * Creates a {@link WindowAssigner} for the windows described by a {@link WindowDescriptor}.
+     *
+     * @param windowDescriptor the {@link WindowDescriptor}
+     * @return the {@link WindowAssigner}
+     */
+    public static WindowAssigner<Object, TimeWindow> createWindowAssigner(WindowDescriptor windowDescriptor) {
+        if (windowDescriptor.getSize() == windowDescriptor.getSlide()) {
+            return TumblingEventTimeWindows.of(Time.milliseconds(windowDescriptor.getSize()));
+        }
+        return SlidingEventTimeWindows.of(
+                Time.milliseconds(windowDescriptor.getSize()), Time.milliseconds(windowDescriptor.getSlide())
+        );
+    }
+
+    /**
+     * Extracts event times via a {@link MapFunction}.
+     */
+    private static class TimestampExtractor<T> extends BoundedOutOfOrdernessTimestampExtractor<T> {
+
+        private final MapFunction<T, Long> timestampExtractor;
+
+        private TimestampExtractor(MapFunction<T, Long> timestampExtractor, long maxOutOfOrderness) {
+            // Flink's watermarks are inclusive, while those of WindowDescriptors are exclusive.
+            super(Time.milliseconds(maxOutOfOrderness + 1));
+            this.timestampExtractor = timestampExtractor;
+        }
+
+        @Override
+        public long extractTimestamp(T element) {
+            try {
+                return this.timestampExtractor.map(element);
+            } catch (Exception e) {
+                throw new WayangException("Could not extract the event time.", e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.flink.operators.streaming;
+
+import org.apache.flink.api.common.typeinfo.BasicTypeInfo;
+import org.apache.flink.api.java.io.TextInputFormat;
+import org.apache.flink.core.fs.Path;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.flink.streaming.api.functions.source.FileProcessingMode;
+import org.apache.wayang.basic.operators.DirectoryTextSource;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.flink.channels.DataStreamChannel;
+import org.apache.wayang.flink.execution.FlinkExecutor;
+import org.apache.wayang.flink.operators.FlinkExecutionOperator;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Flink implementation of the {@link DirectoryTextSource}. Like Flink's file sources in general, it ignores files
+ * whose names start with {@code .} or {@code _}. Note that Flink reads modified files once more.
+ */
+public class FlinkDirectoryTextSource extends DirectoryTextSource implements FlinkExecutionOperator {
+
+    public FlinkDirectoryTextSource(String directoryUrl) {
+        super(directoryUrl);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public FlinkDirectoryTextSource(DirectoryTextSource that) {
+        super(that);
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            FlinkExecutor flinkExecutor,
+            OptimizationContext.OperatorContext operatorContext) throws Exception {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final String url = this.getDirectoryUrl().trim();
+        final TextInputFormat inputFormat = new TextInputFormat(new Path(url));
+        inputFormat.setCharsetName(this.getEncoding());
+        final DataStream<String> dataStream = flinkExecutor.getStreamExecutionEnvironment()
+                .readFile(
+                        inputFormat,
+                        url,
+                        FileProcessingMode.PROCESS_CONTINUOUSLY,
+                        this.getPollInterval(),
+                        BasicTypeInfo.STRING_TYPE_INFO
+                )
+                .name(this.toString());
+        ((DataStreamChannel.Instance) outputs[0]).accept(dataStream);
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.flink.directorytextsource.load";
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new FlinkDirectoryTextSource(this);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        throw new UnsupportedOperationException(String.format("%s does not have input channels.", this));
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Collections.singletonList(DataStreamChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public boolean containsAction() {
+        return false;
+    }
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.flink.operators.streaming;
+
+import org.apache.flink.api.common.functions.JoinFunction;
+import org.apache.flink.api.common.typeinfo.TypeInformation;
+import org.apache.flink.streaming.api.datastream.DataStream;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.function.WindowDescriptor;
+import org.apache.wayang.basic.operators.WindowedJoinOperator;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.util.ReflectionUtils;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.flink.channels.DataStreamChannel;
+import org.apache.wayang.flink.execution.FlinkExecutor;
+import org.apache.wayang.flink.operators.FlinkExecutionOperator;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Flink implementation of the {@link WindowedJoinOperator} on {@link DataStream}s.
+ */
+public class FlinkWindowedJoinOperator<InputType0, InputType1, KeyType>
+        extends WindowedJoinOperator<InputType0, InputType1, KeyType>
+        implements FlinkExecutionOperator {
+
+    /**
+     * Creates a new instance.
+     */
+    public FlinkWindowedJoinOperator(DataSetType<InputType0> inputType0,
+                                     DataSetType<InputType1> inputType1,
+                                     TransformationDescriptor<InputType0, KeyType> keyDescriptor0,
+                                     TransformationDescriptor<InputType1, KeyType> keyDescriptor1,
+                                     TransformationDescriptor<InputType0, Long> timestampDescriptor0,
+                                     TransformationDescriptor<InputType1, Long> timestampDescriptor1,
+                                     WindowDescriptor windowDescriptor) {
+        super(keyDescriptor0, keyDescriptor1, timestampDescriptor0, timestampDescriptor1, windowDescriptor,
+                inputType0, inputType1);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public FlinkWindowedJoinOperator(WindowedJoinOperator<InputType0, InputType1, KeyType> that) {
+        super(that);
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            FlinkExecutor flinkExecutor,
+            OptimizationContext.OperatorContext operatorContext) throws Exception {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final DataStream<InputType0> inputStream0 = EventTimeWindows.assignTimestamps(
+                ((DataStreamChannel.Instance) inputs[0]).provideDataStream(),
+                flinkExecutor.getCompiler().compile(this.timestampDescriptor0),
+                this.windowDescriptor
+        );
+        final DataStream<InputType1> inputStream1 = EventTimeWindows.assignTimestamps(
+                ((DataStreamChannel.Instance) inputs[1]).provideDataStream(),
+                flinkExecutor.getCompiler().compile(this.timestampDescriptor1),
+                this.windowDescriptor
+        );
+        final TypeInformation<Tuple2<InputType0, InputType1>> outputType =
+                TypeInformation.of(ReflectionUtils.specify(Tuple2.class));
+        final DataStream<Tuple2<InputType0, InputType1>> outputStream = inputStream0.join(inputStream1)
+                .where(flinkExecutor.getCompiler().compileKeySelector(this.keyDescriptor0))
+                .equalTo(flinkExecutor.getCompiler().compileKeySelector(this.keyDescriptor1))
+                .window(EventTimeWindows.createWindowAssigner(this.windowDescriptor))
+                .apply(new PairBuilder<>(), outputType);
+        ((DataStreamChannel.Instance) outputs[0]).accept(outputStream);
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    /**
+     * Forms {@link Tuple2}s from join partners.
+     */
+    private static class PairBuilder<T0, T1> implements JoinFunction<T0, T1, Tuple2<T0, T1>> {
+
+        @Override
+        public Tuple2<T0, T1> join(T0 dataQuantum0, T1 dataQuantum1) {
+            return new Tuple2<>(dataQuantum0, dataQuantum1);
+        }
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.flink.windowedjoin.load";
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                FlinkExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor0, configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor1, configuration);
+        return optEstimator;
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new FlinkWindowedJoinOperator<>(this);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Collections.singletonList(DataStreamChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(DataStreamChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public boolean containsAction() {
+        return false;
+    }
+
+}
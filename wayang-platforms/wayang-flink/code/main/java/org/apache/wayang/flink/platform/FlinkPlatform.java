@@ -20,6 +20,7 @@ package org.apache.wayang.flink.platform;
 
 import org.apache.flink.api.java.CollectionEnvironment;
 import org.apache.flink.api.java.ExecutionEnvironment;
+import org.apache.flink.streaming.api.environment.StreamExecutionEnvironment;
 import org.apache.wayang.basic.plugin.WayangBasic;
 import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.api.Job;
@@ -29,6 +30,7 @@ import org.apache.wayang.core.optimizer.costs.LoadToTimeConverter;
 import org.apache.wayang.core.optimizer.costs.TimeToCostConverter;
 import org.apache.wayang.core.platform.Executor;
 import org.apache.wayang.core.platform.Platform;
+import org.apache.wayang.core.platform.PlatformContextPool;
 import org.apache.wayang.core.util.ReflectionUtils;
 import org.apache.wayang.flink.execution.FlinkContextReference;
 import org.apache.wayang.flink.execution.FlinkExecutor;
@@ -39,6 +41,7 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 /**
  * {@link Platform} for Apache Flink.
@@ -80,44 +83,95 @@ public class FlinkPlatform extends Platform {
     }
 
     /**
-     * Configures the single maintained {@link ExecutionEnvironment} according to the {@code job} and returns it.
+     * Configures the single maintained {@link ExecutionEnvironment} according to the {@code job} and returns it. If
+     * the {@code job} has a {@link PlatformContextPool}, a warm {@link ExecutionEnvironment} is reused from there.
      *
      * @return a {@link FlinkContextReference} wrapping the {@link ExecutionEnvironment}
      */
     public FlinkContextReference getFlinkContext(Job job) {
         Configuration conf = job.getConfiguration();
-        if(this.flinkContextReference == null)
-            switch (conf.getStringProperty("wayang.flink.mode.run")) {
+        final String runMode = conf.getStringProperty("wayang.flink.mode.run");
+        final int parallelism = "local".equals(runMode) || "distribution".equals(runMode) ?
+                (int) conf.getLongProperty("wayang.flink.paralelism") :
+                1;
+        final PlatformContextPool platformContextPool =
+                job.getWayangContext() == null ? null : job.getWayangContext().getPlatformContextPool();
+        if (platformContextPool != null) {
+            // Remote environments cannot add JAR files later on, so they are part of the context key.
+            final String[] jars = "distribution".equals(runMode) ? this.getJars(job) : new String[0];
+            final String contextKey = runMode + "|" + this.getMasterAddress(conf, runMode) + "|"
+                    + Arrays.stream(jars).sorted().collect(Collectors.joining(";"));
+            final PlatformContextPool.Lease<ExecutionEnvironment> lease = platformContextPool.acquire(
+                    this,
+                    contextKey,
+                    conf,
+                    () -> this.createExecutionEnvironment(conf, runMode, jars),
+                    executionEnvironment -> true,
+                    executionEnvironment -> {
+                    }
+            );
+            return new FlinkContextReference(job.getCrossPlatformExecutor(), lease, parallelism);
+        }
+
+        if (this.flinkContextReference == null) {
+            final String[] jars = "distribution".equals(runMode) ? this.getJars(job) : new String[0];
+            this.flinkContextReference = new FlinkContextReference(
+                    job.getCrossPlatformExecutor(),
+                    this.createExecutionEnvironment(conf, runMode, jars),
+                    parallelism
+            );
+        }
+        return this.flinkContextReference;
+
+    }
+
+    /**
+     * Creates a {@link StreamExecutionEnvironment} for streaming plans according to the {@code job}. Unlike
+     * {@link ExecutionEnvironment}s, it is not pooled, because it runs a single unbounded Flink job anyway.
+     *
+     * @return the {@link StreamExecutionEnvironment}
+     */
+    public StreamExecutionEnvironment createStreamExecutionEnvironment(Job job) {
+        Configuration conf = job.getConfiguration();
+        final String runMode = conf.getStringProperty("wayang.flink.mode.run");
+        final int parallelism = (int) conf.getLongProperty("wayang.flink.paralelism");
+        switch (runMode) {
             case "local":
-                this.flinkContextReference = new FlinkContextReference(
-                        job.getCrossPlatformExecutor(),
-                        ExecutionEnvironment.createLocalEnvironment(),
-                        (int)conf.getLongProperty("wayang.flink.paralelism")
-                );
-                break;
+                return StreamExecutionEnvironment.createLocalEnvironment(parallelism);
             case "distribution":
-                String[] jars = getJars(job);
-                this.flinkContextReference = new FlinkContextReference(
-                        job.getCrossPlatformExecutor(),
-                        ExecutionEnvironment.createRemoteEnvironment(
-                                conf.getStringProperty("wayang.flink.master"),
-                                Integer.parseInt(conf.getStringProperty("wayang.flink.port")),
-                                jars
-                        ),
-                        (int)conf.getLongProperty("wayang.flink.paralelism")
+                return StreamExecutionEnvironment.createRemoteEnvironment(
+                        conf.getStringProperty("wayang.flink.master"),
+                        Integer.parseInt(conf.getStringProperty("wayang.flink.port")),
+                        parallelism,
+                        this.getJars(job)
                 );
-                break;
             case "collection":
             default:
-                this.flinkContextReference = new FlinkContextReference(
-                        job.getCrossPlatformExecutor(),
-                        new CollectionEnvironment(),
-                        1
+                // There is no collection-based streaming environment.
+                return StreamExecutionEnvironment.createLocalEnvironment(1);
+        }
+    }
+
+    private ExecutionEnvironment createExecutionEnvironment(Configuration conf, String runMode, String[] jars) {
+        switch (runMode) {
+            case "local":
+                return ExecutionEnvironment.createLocalEnvironment();
+            case "distribution":
+                return ExecutionEnvironment.createRemoteEnvironment(
+                        conf.getStringProperty("wayang.flink.master"),
+                        Integer.parseInt(conf.getStringProperty("wayang.flink.port")),
+                        jars
                 );
-                break;
+            case "collection":
+            default:
+                return new CollectionEnvironment();
         }
-        return this.flinkContextReference;
+    }
 
+    private String getMasterAddress(Configuration conf, String runMode) {
+        return "distribution".equals(runMode) ?
+                conf.getStringProperty("wayang.flink.master") + ":" + conf.getStringProperty("wayang.flink.port") :
+                "";
     }
 
     @Override
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.flink.operators;
+
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.Job;
+import org.apache.wayang.core.optimizer.DefaultOptimizationContext;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.wayangplan.Operator;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.CrossPlatformExecutor;
+import org.apache.wayang.core.profiling.FullInstrumentationStrategy;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.flink.channels.DataStreamChannel;
+import org.apache.wayang.flink.execution.FlinkExecutor;
+import org.apache.wayang.flink.operators.streaming.FlinkStreamCallbackSink;
+import org.apache.wayang.flink.platform.FlinkPlatform;
+import org.junit.Before;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test base for {@link FlinkExecutionOperator} tests.
+ */
+public class FlinkOperatorTestBase {
+
+    protected Configuration configuration;
+
+    protected FlinkExecutor flinkExecutor;
+
+    @Before
+    public void setUp() {
+        this.configuration = new Configuration();
+        this.flinkExecutor = (FlinkExecutor) FlinkPlatform.getInstance().getExecutorFactory().create(this.mockJob());
+    }
+
+    Job mockJob() {
+        final Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(this.configuration);
+        when(job.getCrossPlatformExecutor()).thenReturn(new CrossPlatformExecutor(job, new FullInstrumentationStrategy()));
+        return job;
+    }
+
+    protected OptimizationContext.OperatorContext createOperatorContext(Operator operator) {
+        OptimizationContext optimizationContext = new DefaultOptimizationContext(mockJob());
+        return optimizationContext.addOneTimeOperator(operator);
+    }
+
+    protected void evaluate(FlinkExecutionOperator operator,
+                            ChannelInstance[] inputs,
+                            ChannelInstance[] outputs) throws Exception {
+        operator.evaluate(inputs, outputs, this.flinkExecutor, this.createOperatorContext(operator));
+    }
+
+    protected DataStreamChannel.Instance createDataStreamChannelInstance() {
+        return (DataStreamChannel.Instance) DataStreamChannel.DESCRIPTOR
+                .createChannel(null, this.configuration)
+                .createInstance(this.flinkExecutor, null, -1);
+    }
+
+    @SuppressWarnings("unchecked")
+    protected DataStreamChannel.Instance createDataStreamChannelInstance(Collection<?> collection) {
+        final DataStreamChannel.Instance instance = this.createDataStreamChannelInstance();
+        instance.accept(this.flinkExecutor.getStreamExecutionEnvironment().fromCollection((Collection<Object>) collection));
+        return instance;
+    }
+
+    /**
+     * Runs the streaming job that produces the given {@link DataStreamChannel.Instance} via a
+     * {@link FlinkStreamCallbackSink}, which requires the stream to be bounded.
+     *
+     * @return the collected data quanta
+     */
+    protected <T> List<T> collect(DataStreamChannel.Instance instance, Class<T> dataQuantumClass) throws Exception {
+        final List<T> result = new ArrayList<>();
+        final FlinkStreamCallbackSink<T> sink = new FlinkStreamCallbackSink<>(
+                result::add, DataSetType.createDefault(dataQuantumClass)
+        );
+        this.evaluate(sink, new ChannelInstance[]{instance}, new ChannelInstance[0]);
+        return result;
+    }
+
+}
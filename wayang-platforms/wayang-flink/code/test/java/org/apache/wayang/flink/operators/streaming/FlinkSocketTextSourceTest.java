@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.flink.operators.streaming;
+
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.flink.channels.DataStreamChannel;
+import org.apache.wayang.flink.operators.FlinkOperatorTestBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.Charset;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test suite for {@link FlinkSocketTextSource}.
+ */
+public class FlinkSocketTextSourceTest extends FlinkOperatorTestBase {
+
+    @Test(timeout = 60000)
+    public void testExecution() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            final Thread server = new Thread(() -> {
+                // Flink decodes the lines with the default encoding.
+                try (Socket socket = serverSocket.accept();
+                     Writer writer = new OutputStreamWriter(socket.getOutputStream(), Charset.defaultCharset())) {
+                    writer.write("Hello\nWorld\n");
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            server.start();
+
+            FlinkSocketTextSource source = new FlinkSocketTextSource("localhost", serverSocket.getLocalPort());
+            DataStreamChannel.Instance output = this.createDataStreamChannelInstance();
+            this.evaluate(source, new ChannelInstance[0], new ChannelInstance[]{output});
+
+            // The stream ends as soon as the server closes the connection.
+            final List<String> result = this.collect(output, String.class);
+            server.join();
+            Assert.assertEquals(Arrays.asList("Hello", "World"), result);
+        }
+    }
+
+}
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.flink.operators.streaming;
+
+import org.apache.wayang.core.function.FlatMapDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.flink.channels.DataStreamChannel;
+import org.apache.wayang.flink.operators.FlinkOperatorTestBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test suite for {@link FlinkStreamFlatMapOperator}.
+ */
+public class FlinkStreamFlatMapOperatorTest extends FlinkOperatorTestBase {
+
+    @Test
+    public void testExecution() throws Exception {
+        DataStreamChannel.Instance input = this.createDataStreamChannelInstance(Arrays.asList("a b", "c", ""));
+        DataStreamChannel.Instance output = this.createDataStreamChannelInstance();
+
+        FlinkStreamFlatMapOperator<String, String> flatMap = new FlinkStreamFlatMapOperator<>(
+                DataSetType.createDefault(String.class),
+                DataSetType.createDefault(String.class),
+                new FlatMapDescriptor<>(
+                        line -> line.isEmpty() ? Arrays.asList() : Arrays.asList(line.split(" ")),
+                        String.class, String.class
+                )
+        );
+        this.evaluate(flatMap, new ChannelInstance[]{input}, new ChannelInstance[]{output});
+
+        final List<String> result = this.collect(output, String.class);
+        Assert.assertEquals(Arrays.asList("a", "b", "c"), result);
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.flink.operators.streaming;
+
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.flink.channels.DataStreamChannel;
+import org.apache.wayang.flink.operators.FlinkOperatorTestBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test suite for {@link FlinkStreamMapOperator} and {@link FlinkStreamCallbackSink}.
+ */
+public class FlinkStreamMapOperatorTest extends FlinkOperatorTestBase {
+
+    @Test
+    public void testExecution() throws Exception {
+        DataStreamChannel.Instance input = this.createDataStreamChannelInstance(Arrays.asList(1, 2, 3));
+        DataStreamChannel.Instance output = this.createDataStreamChannelInstance();
+
+        FlinkStreamMapOperator<Integer, Integer> map = new FlinkStreamMapOperator<>(
+                DataSetType.createDefault(Integer.class),
+                DataSetType.createDefault(Integer.class),
+                new TransformationDescriptor<>(i -> i * 10, Integer.class, Integer.class)
+        );
+        this.evaluate(map, new ChannelInstance[]{input}, new ChannelInstance[]{output});
+
+        final List<Integer> result = this.collect(output, Integer.class);
+        Assert.assertEquals(Arrays.asList(10, 20, 30), result);
+    }
+
+}
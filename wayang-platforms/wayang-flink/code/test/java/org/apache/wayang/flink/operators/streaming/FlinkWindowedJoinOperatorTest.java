@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.flink.operators.streaming;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.function.WindowDescriptor;
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.flink.channels.DataStreamChannel;
+import org.apache.wayang.flink.operators.FlinkOperatorTestBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Test suite for {@link FlinkWindowedJoinOperator}.
+ */
+public class FlinkWindowedJoinOperatorTest extends FlinkOperatorTestBase {
+
+    @Test
+    public void testExecution() throws Exception {
+        // Prepare {key, timestamp} records.
+        DataStreamChannel.Instance input0 = this.createDataStreamChannelInstance(Arrays.asList(
+                new Record("a", 10L), new Record("b", 20L), new Record("a", 120L)
+        ));
+        DataStreamChannel.Instance input1 = this.createDataStreamChannelInstance(Arrays.asList(
+                new Record("a", 50L), new Record("b", 130L)
+        ));
+        DataStreamChannel.Instance output = this.createDataStreamChannelInstance();
+
+        final DataSetType<Record> recordType = DataSetType.createDefault(Record.class);
+        FlinkWindowedJoinOperator<Record, Record, String> join = new FlinkWindowedJoinOperator<>(
+                recordType,
+                recordType,
+                new TransformationDescriptor<>(record -> record.getString(0), Record.class, String.class),
+                new TransformationDescriptor<>(record -> record.getString(0), Record.class, String.class),
+                new TransformationDescriptor<>(record -> record.getLong(1), Record.class, Long.class),
+                new TransformationDescriptor<>(record -> record.getLong(1), Record.class, Long.class),
+                WindowDescriptor.tumbling(100)
+        );
+        this.evaluate(join, new ChannelInstance[]{input0, input1}, new ChannelInstance[]{output});
+
+        // Only data quanta in the same window are joined.
+        final List<Tuple2> result = this.collect(output, Tuple2.class);
+        Assert.assertEquals(
+                new HashSet<>(Arrays.asList(new Tuple2<>(new Record("a", 10L), new Record("a", 50L)))),
+                new HashSet<>(result)
+        );
+    }
+
+}
@@ -24,7 +24,6 @@ import edu.cmu.graphchi.datablocks.FloatConverter;
 import edu.cmu.graphchi.engine.GraphChiEngine;
 import edu.cmu.graphchi.preprocessing.FastSharder;
 import edu.cmu.graphchi.preprocessing.VertexIdTranslate;
-import edu.cmu.graphchi.vertexdata.VertexAggregator;
 import org.apache.wayang.basic.channels.FileChannel;
 import org.apache.wayang.basic.data.Tuple2;
 import org.apache.wayang.basic.operators.PageRankOperator;
@@ -37,36 +36,59 @@ import org.apache.wayang.core.platform.ChannelDescriptor;
 import org.apache.wayang.core.platform.ChannelInstance;
 import org.apache.wayang.core.platform.Platform;
 import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
-import org.apache.wayang.core.util.ConsumerIteratorAdapter;
 import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.core.util.fs.FileSystem;
 import org.apache.wayang.core.util.fs.FileSystems;
 import org.apache.wayang.core.util.fs.LocalFileSystem;
 import org.apache.wayang.graphchi.platform.GraphChiPlatform;
+import org.apache.wayang.java.channels.CollectionChannel;
+import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
 import java.util.Spliterators;
-import java.util.function.Consumer;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
 
 /**
  * PageRank {@link Operator} implementation for the {@link GraphChiPlatform}.
+ * <p>The shards of input files are cached in {@code wayang.graphchi.tempdir} under a name derived from the file's
+ * path, size, and modification time, so that repeated analytics on the same edge list skip the sharding.
+ * {@link CollectionChannel}s and {@link StreamChannel}s are sharded directly without going through a file.</p>
  */
 public class GraphChiPageRankOperator extends PageRankOperator implements GraphChiExecutionOperator {
 
+    /**
+     * Configuration key for whether the shards of input files should be kept for later runs.
+     */
+    public static final String CACHE_SHARDS_KEY = "wayang.graphchi.shards.cache";
+
+    /**
+     * Serializes the runs on the same shards, as GraphChi keeps its vertex data next to them.
+     */
+    private static final Map<String, Object> graphLocks = new ConcurrentHashMap<>();
+
     private final Logger logger = LogManager.getLogger(this.getClass());
 
     public GraphChiPageRankOperator(Integer numIterations) {
@@ -85,81 +107,91 @@ public class GraphChiPageRankOperator extends PageRankOperator implements GraphC
         assert inputChannelInstances.length == this.getNumInputs();
         assert outputChannelInstances.length == this.getNumOutputs();
 
-        final FileChannel.Instance inputChannelInstance = (FileChannel.Instance) inputChannelInstances[0];
         final StreamChannel.Instance outputChannelInstance = (StreamChannel.Instance) outputChannelInstances[0];
         try {
-            return this.runGraphChi(inputChannelInstance, outputChannelInstance, operatorContext);
+            return this.runGraphChi(inputChannelInstances[0], outputChannelInstance, operatorContext);
         } catch (IOException e) {
             throw new WayangException(String.format("Running %s failed.", this), e);
         }
     }
 
     private Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> runGraphChi(
-            FileChannel.Instance inputFileChannelInstance,
+            ChannelInstance inputChannelInstance,
             StreamChannel.Instance outputChannelInstance,
             OptimizationContext.OperatorContext operatorContext)
             throws IOException {
 
-        assert inputFileChannelInstance.wasProduced();
-
-        final String inputPath = inputFileChannelInstance.getSinglePath();
-        final String actualInputPath = FileSystems.findActualSingleInputPath(inputPath);
-        final FileSystem inputFs = FileSystems.getFileSystem(inputPath).orElseThrow(
-                () -> new WayangException(String.format("Could not identify filesystem for \"%s\".", inputPath))
-        );
-
-        // Create shards.
         Configuration configuration = operatorContext.getOptimizationContext().getConfiguration();
-        String tempDirPath = configuration.getStringProperty("wayang.graphchi.tempdir");
-        Random random = new Random();
-        String tempFilePath = String.format("%s%s%04x-%04x-%04x-%04x.tmp", tempDirPath, File.separator,
-                random.nextInt() & 0xFFFF,
-                random.nextInt() & 0xFFFF,
-                random.nextInt() & 0xFFFF,
-                random.nextInt() & 0xFFFF
-        );
-        final File tempFile = new File(tempFilePath);
-        LocalFileSystem.touch(tempFile);
-        tempFile.deleteOnExit();
-        String graphName = tempFile.toString();
-        // As suggested by GraphChi, we propose to use approximately 1 shard per 1,000,000 edges.
-        final int numShards = 2 + (int) inputFs.getFileSize(actualInputPath) / (10 * 1000000);
-        if (!new File(ChiFilenames.getFilenameIntervals(graphName, numShards)).exists()) {
-            FastSharder sharder = createSharder(graphName, numShards);
-            final InputStream inputStream = inputFs.open(actualInputPath);
-            sharder.shard(inputStream, FastSharder.GraphInputFormat.EDGELIST);
+        final File tempDir = new File(configuration.getStringProperty("wayang.graphchi.tempdir"));
+
+        // Determine the shards.
+        final String graphName;
+        final int numShards;
+        final boolean isCachingShards;
+        if (inputChannelInstance instanceof FileChannel.Instance) {
+            final FileChannel.Instance inputFileChannelInstance = (FileChannel.Instance) inputChannelInstance;
+            assert inputFileChannelInstance.wasProduced();
+            final String actualInputPath = findActualInputPath(inputFileChannelInstance);
+            final FileSystem inputFs = getFileSystem(actualInputPath);
+            final long fileSize = inputFs.getFileSize(actualInputPath);
+            // As suggested by GraphChi, we propose to use approximately 1 shard per 1,000,000 edges.
+            numShards = 2 + (int) (fileSize / (10 * 1000000));
+            isCachingShards = configuration.getBooleanProperty(CACHE_SHARDS_KEY, true);
+            if (isCachingShards) {
+                final String fingerprint = String.format(
+                        "%s|%d|%d", actualInputPath, fileSize, inputFs.getLastModified(actualInputPath)
+                );
+                graphName = new File(tempDir, "wayang-graphchi-"
+                        + UUID.nameUUIDFromBytes(fingerprint.getBytes(StandardCharsets.UTF_8))).toString();
+            } else {
+                graphName = new File(tempDir, "wayang-graphchi-" + UUID.randomUUID()).toString();
+            }
         } else {
-            this.logger.info("Found shards -- no need to preprocess");
+            final long numEdges = inputChannelInstance instanceof CollectionChannel.Instance ?
+                    ((CollectionChannel.Instance) inputChannelInstance).provideCollection().size() :
+                    operatorContext.getInputCardinality(0).getGeometricMeanEstimate();
+            numShards = 2 + (int) (numEdges / 1000000);
+            isCachingShards = false;
+            graphName = new File(tempDir, "wayang-graphchi-" + UUID.randomUUID()).toString();
         }
 
         // Run GraphChi.
-        GraphChiEngine<Float, Float> engine = new GraphChiEngine<>(graphName, numShards);
-        engine.setEdataConverter(new FloatConverter());
-        engine.setVertexDataConverter(new FloatConverter());
-        engine.setModifiesInedges(false); // Important optimization
-        engine.run(new Pagerank(), this.numIterations);
+        final File resultFile = File.createTempFile("wayang-pagerank-", ".vout", tempDir);
+        resultFile.deleteOnExit();
+        final int numVertices;
+        final VertexIdTranslate vertexIdTranslate;
+        final Object graphLock = isCachingShards ? graphLocks.computeIfAbsent(graphName, key -> new Object()) : new Object();
+        synchronized (graphLock) {
+            if (!new File(ChiFilenames.getFilenameIntervals(graphName, numShards)).exists()) {
+                this.shard(inputChannelInstance, createSharder(graphName, numShards));
+            } else {
+                this.logger.info("Found shards for {} -- no need to preprocess", inputChannelInstance);
+            }
 
-        final ConsumerIteratorAdapter<Tuple2<Long, Float>> consumerIteratorAdapter = new ConsumerIteratorAdapter<>();
-        final Consumer<Tuple2<Long, Float>> consumer = consumerIteratorAdapter.getConsumer();
-        final Iterator<Tuple2<Long, Float>> iterator = consumerIteratorAdapter.getIterator();
+            GraphChiEngine<Float, Float> engine = new GraphChiEngine<>(graphName, numShards);
+            engine.setEdataConverter(new FloatConverter());
+            engine.setVertexDataConverter(new FloatConverter());
+            engine.setModifiesInedges(false); // Important optimization
+            engine.run(new Pagerank(), this.numIterations);
+            numVertices = engine.numVertices();
+            vertexIdTranslate = engine.getVertexIdTranslate();
+
+            // Move the vertex data out of the way of subsequent runs on the same shards.
+            Files.move(
+                    new File(ChiFilenames.getFilenameOfVertexData(graphName, new FloatConverter(), false)).toPath(),
+                    resultFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING
+            );
+        }
+        if (!isCachingShards) {
+            deleteGraphFiles(graphName);
+        }
 
         // Output results.
-        VertexIdTranslate trans = engine.getVertexIdTranslate();
-        new Thread(
-                () -> {
-                    try {
-                        VertexAggregator.foreach(engine.numVertices(), graphName, new FloatConverter(),
-                                (vertexId, vertexValue) -> consumer.accept(new Tuple2<>((long) trans.backward(vertexId), vertexValue)));
-                    } catch (IOException e) {
-                        throw new WayangException(e);
-                    } finally {
-                        consumerIteratorAdapter.declareLastAdd();
-                    }
-                },
-                String.format("%s (output)", this)
-        ).start();
-
-        Stream<Tuple2<Long, Float>> outputStream = StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, 0), false);
+        final VertexValueIterator iterator = new VertexValueIterator(resultFile, numVertices, vertexIdTranslate);
+        Stream<Tuple2<Long, Float>> outputStream = StreamSupport.stream(
+                Spliterators.spliterator(iterator, numVertices, Spliterator.ORDERED | Spliterator.NONNULL), false
+        ).onClose(iterator::close);
         outputChannelInstance.accept(outputStream);
 
         // Model what has been executed.
@@ -167,7 +199,7 @@ public class GraphChiPageRankOperator extends PageRankOperator implements GraphC
         mainExecutionLineage.add(LoadProfileEstimators.createFromSpecification(
                 "wayang.graphchi.pagerank.load.main", configuration
         ));
-        mainExecutionLineage.addPredecessor(inputFileChannelInstance.getLineage());
+        mainExecutionLineage.addPredecessor(inputChannelInstance.getLineage());
 
         final ExecutionLineageNode outputExecutionLineage = new ExecutionLineageNode(operatorContext);
         outputExecutionLineage.add(LoadProfileEstimators.createFromSpecification(
@@ -178,6 +210,128 @@ public class GraphChiPageRankOperator extends PageRankOperator implements GraphC
         return mainExecutionLineage.collectAndMark();
     }
 
+    /**
+     * Feeds the edges from the given {@link ChannelInstance} into a {@link FastSharder}.
+     *
+     * @param inputChannelInstance provides the edges
+     * @param sharder              that should create the shards
+     */
+    private void shard(ChannelInstance inputChannelInstance, FastSharder<?, ?> sharder) throws IOException {
+        if (inputChannelInstance instanceof FileChannel.Instance) {
+            final String actualInputPath = findActualInputPath((FileChannel.Instance) inputChannelInstance);
+            try (InputStream inputStream = getFileSystem(actualInputPath).open(actualInputPath)) {
+                sharder.shard(inputStream, FastSharder.GraphInputFormat.EDGELIST);
+            }
+        } else {
+            final Iterator<Tuple2<Long, Long>> edges =
+                    ((JavaChannelInstance) inputChannelInstance).<Tuple2<Long, Long>>provideStream().iterator();
+            while (edges.hasNext()) {
+                final Tuple2<Long, Long> edge = edges.next();
+                sharder.addEdge(toVertexId(edge.field0), toVertexId(edge.field1), null);
+            }
+            sharder.process();
+        }
+    }
+
+    private static int toVertexId(long vertexId) {
+        if (vertexId < 0 || vertexId > Integer.MAX_VALUE) {
+            throw new WayangException(String.format("GraphChi does not support the vertex ID %d.", vertexId));
+        }
+        return (int) vertexId;
+    }
+
+    private static String findActualInputPath(FileChannel.Instance inputFileChannelInstance) {
+        return FileSystems.findActualSingleInputPath(inputFileChannelInstance.getSinglePath());
+    }
+
+    private static FileSystem getFileSystem(String path) {
+        return FileSystems.getFileSystem(path).orElseThrow(
+                () -> new WayangException(String.format("Could not identify filesystem for \"%s\".", path))
+        );
+    }
+
+    /**
+     * Deletes the shards and all other files that GraphChi created for a graph.
+     *
+     * @param graphName the name of the graph
+     */
+    private static void deleteGraphFiles(String graphName) throws IOException {
+        final File graphFile = new File(graphName);
+        final File[] graphFiles = graphFile.getAbsoluteFile().getParentFile().listFiles(
+                file -> file.getName().startsWith(graphFile.getName())
+        );
+        if (graphFiles == null) return;
+        final LocalFileSystem localFileSystem = new LocalFileSystem();
+        for (File file : graphFiles) {
+            localFileSystem.delete(LocalFileSystem.toURL(file), true);
+        }
+    }
+
+    /**
+     * Reads the PageRanks from a GraphChi vertex data file in the thread that consumes them. The file is laid out
+     * like in {@link edu.cmu.graphchi.vertexdata.VertexAggregator#foreach}, i.e., it contains one value per
+     * internal vertex ID. It is deleted once it has been read entirely or the reading is closed.
+     */
+    private static class VertexValueIterator implements Iterator<Tuple2<Long, Float>>, AutoCloseable {
+
+        private final FloatConverter converter = new FloatConverter();
+
+        private final byte[] buffer = new byte[this.converter.sizeOf()];
+
+        private final File file;
+
+        private final DataInputStream inputStream;
+
+        private final int numVertices;
+
+        private final VertexIdTranslate vertexIdTranslate;
+
+        private int nextVertexId = 0;
+
+        private boolean isClosed = false;
+
+        private VertexValueIterator(File file, int numVertices, VertexIdTranslate vertexIdTranslate) throws IOException {
+            this.file = file;
+            this.inputStream = new DataInputStream(new BufferedInputStream(new FileInputStream(file), 1 << 20));
+            this.numVertices = numVertices;
+            this.vertexIdTranslate = vertexIdTranslate;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.nextVertexId < this.numVertices && !this.isClosed) return true;
+            this.close();
+            return false;
+        }
+
+        @Override
+        public Tuple2<Long, Float> next() {
+            if (!this.hasNext()) throw new NoSuchElementException();
+            try {
+                this.inputStream.readFully(this.buffer);
+            } catch (IOException e) {
+                this.close();
+                throw new WayangException(String.format("Could not read the PageRanks from %s.", this.file), e);
+            }
+            final int vertexId = this.nextVertexId++;
+            return new Tuple2<>((long) this.vertexIdTranslate.backward(vertexId), this.converter.getValue(this.buffer));
+        }
+
+        @Override
+        public void close() {
+            if (this.isClosed) return;
+            this.isClosed = true;
+            try {
+                this.inputStream.close();
+            } catch (IOException e) {
+                LogManager.getLogger(this.getClass()).warn("Could not close {}.", this.file, e);
+            }
+            if (!this.file.delete()) {
+                LogManager.getLogger(this.getClass()).warn("Could not delete {}.", this.file);
+            }
+        }
+    }
+
     /**
      * Initialize the sharder-program.
      *
@@ -211,7 +365,7 @@ public class GraphChiPageRankOperator extends PageRankOperator implements GraphC
 
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
-        return Collections.singletonList(FileChannel.HDFS_TSV_DESCRIPTOR);
+        return Arrays.asList(FileChannel.HDFS_TSV_DESCRIPTOR, CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
     }
 
     @Override
@@ -18,9 +18,11 @@
 
 package org.apache.wayang.graphchi.operators;
 
+import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Test;
 import org.apache.wayang.basic.channels.FileChannel;
+import org.apache.wayang.basic.data.Tuple2;
 import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.api.Job;
 import org.apache.wayang.core.optimizer.DefaultOptimizationContext;
@@ -33,9 +35,16 @@ import org.apache.wayang.graphchi.GraphChi;
 import org.apache.wayang.graphchi.execution.GraphChiExecutor;
 import org.apache.wayang.graphchi.platform.GraphChiPlatform;
 import org.apache.wayang.graphchi.operators.GraphChiPageRankOperator;
+import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.StreamChannel;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -89,4 +98,69 @@ public class GraphChiPageRankOperatorTest {
         );
     }
 
+    @Test
+    public void testShardReuseAndCollectionInput() throws Exception {
+        final Configuration configuration = new Configuration();
+        GraphChi.plugin().configure(configuration);
+        final String inputUrl = this.getClass().getResource("/test.edgelist.input").toString();
+
+        // Run twice on the same file, the second time on the cached shards.
+        final Map<Long, Float> pageRanks = this.runPageRank(this.createFileChannelInstance(inputUrl), configuration);
+        final File tempDir = new File(configuration.getStringProperty("wayang.graphchi.tempdir"));
+        Assert.assertTrue(tempDir.list((dir, name) -> name.startsWith("wayang-graphchi-")).length > 0);
+        assertPageRanksEqual(pageRanks, this.runPageRank(this.createFileChannelInstance(inputUrl), configuration));
+
+        // Run on the same edges without going through a file.
+        final List<Tuple2<Long, Long>> edges = Files.lines(Paths.get(this.getClass().getResource("/test.edgelist.input").toURI()))
+                .map(line -> line.split("\\s+"))
+                .map(fields -> new Tuple2<>(Long.parseLong(fields[0]), Long.parseLong(fields[1])))
+                .collect(Collectors.toList());
+        final CollectionChannel.Instance collectionChannelInstance = (CollectionChannel.Instance) CollectionChannel.DESCRIPTOR
+                .createChannel(null, configuration)
+                .createInstance(graphChiExecutor, null, -1);
+        collectionChannelInstance.accept(edges);
+        collectionChannelInstance.getLineage().collectAndMark();
+        assertPageRanksEqual(pageRanks, this.runPageRank(collectionChannelInstance, configuration));
+    }
+
+    private static void assertPageRanksEqual(Map<Long, Float> expected, Map<Long, Float> actual) {
+        Assert.assertEquals(expected.keySet(), actual.keySet());
+        for (Map.Entry<Long, Float> entry : expected.entrySet()) {
+            Assert.assertEquals(entry.getValue(), actual.get(entry.getKey()), 1e-4);
+        }
+    }
+
+    private FileChannel.Instance createFileChannelInstance(String url) {
+        FileChannel.Instance inputChannelInstance =
+                (FileChannel.Instance) new FileChannel(FileChannel.HDFS_TSV_DESCRIPTOR)
+                        .createInstance(graphChiExecutor, null, -1);
+        inputChannelInstance.addPath(url);
+        inputChannelInstance.getLineage().collectAndMark();
+        return inputChannelInstance;
+    }
+
+    private Map<Long, Float> runPageRank(ChannelInstance inputChannelInstance, Configuration configuration) {
+        final GraphChiPageRankOperator graphChiPageRankOperator = new GraphChiPageRankOperator(20);
+
+        final Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(configuration);
+        when(job.getCrossPlatformExecutor()).thenReturn(new CrossPlatformExecutor(job, new FullInstrumentationStrategy()));
+
+        StreamChannel.Instance outputChannelInstance =
+                (StreamChannel.Instance) StreamChannel.DESCRIPTOR
+                        .createChannel(graphChiPageRankOperator.getOutput(), configuration)
+                        .createInstance(graphChiExecutor, null, -1);
+
+        final DefaultOptimizationContext optimizationContext = new DefaultOptimizationContext(job);
+        final OptimizationContext.OperatorContext operatorContext = optimizationContext.addOneTimeOperator(graphChiPageRankOperator);
+
+        graphChiPageRankOperator.execute(
+                new ChannelInstance[]{inputChannelInstance},
+                new ChannelInstance[]{outputChannelInstance},
+                operatorContext
+        );
+        return outputChannelInstance.<Tuple2<Long, Float>>provideStream()
+                .collect(Collectors.toMap(Tuple2::getField0, Tuple2::getField1));
+    }
+
 }
@@ -20,6 +20,7 @@ package org.apache.wayang.java;
 
 import org.apache.wayang.java.platform.JavaPlatform;
 import org.apache.wayang.java.plugin.JavaBasicPlugin;
+import org.apache.wayang.java.plugin.JavaBatchPlugin;
 import org.apache.wayang.java.plugin.JavaChannelConversionPlugin;
 import org.apache.wayang.java.plugin.JavaGraphPlugin;
 
@@ -34,6 +35,8 @@ public class Java {
 
     private final static JavaChannelConversionPlugin CONVERSION_PLUGIN = new JavaChannelConversionPlugin();
 
+    private final static JavaBatchPlugin BATCH_PLUGIN = new JavaBatchPlugin();
+
     /**
      * Retrieve the {@link JavaBasicPlugin}.
      *
@@ -61,6 +64,15 @@ public class Java {
         return CONVERSION_PLUGIN;
     }
 
+    /**
+     * Retrieve the {@link JavaBatchPlugin}.
+     *
+     * @return the {@link JavaBatchPlugin}
+     */
+    public static JavaBatchPlugin batchPlugin() {
+        return BATCH_PLUGIN;
+    }
+
     /**
      * Retrieve the {@link JavaPlatform}.
      *
@@ -19,15 +19,20 @@
 package org.apache.wayang.java.channels;
 
 import org.apache.wayang.basic.channels.FileChannel;
+import org.apache.wayang.basic.data.Record;
 import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.types.RecordType;
 import org.apache.wayang.core.optimizer.channels.ChannelConversion;
 import org.apache.wayang.core.optimizer.channels.DefaultChannelConversion;
+import org.apache.wayang.core.plan.executionplan.Channel;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.java.operators.JavaCollectOperator;
 import org.apache.wayang.java.operators.JavaObjectFileSink;
 import org.apache.wayang.java.operators.JavaObjectFileSource;
 import org.apache.wayang.java.operators.JavaTsvFileSink;
 import org.apache.wayang.java.operators.JavaTsvFileSource;
+import org.apache.wayang.java.operators.batch.JavaBatchRecordsOperator;
+import org.apache.wayang.java.operators.batch.JavaUnbatchRecordsOperator;
 import org.apache.wayang.java.platform.JavaPlatform;
 
 import java.util.Arrays;
@@ -82,6 +87,40 @@ public class ChannelConversions {
             () -> new JavaObjectFileSource<>(DataSetType.createDefault(Void.class))
     );
 
+    public static final ChannelConversion STREAM_TO_RECORD_BATCH = new DefaultChannelConversion(
+            StreamChannel.DESCRIPTOR,
+            RecordBatchChannel.DESCRIPTOR,
+            (sourceChannel, configuration) -> new JavaBatchRecordsOperator(getRecordType(sourceChannel)),
+            "via " + JavaBatchRecordsOperator.class.getSimpleName()
+    );
+
+    public static final ChannelConversion COLLECTION_TO_RECORD_BATCH = new DefaultChannelConversion(
+            CollectionChannel.DESCRIPTOR,
+            RecordBatchChannel.DESCRIPTOR,
+            (sourceChannel, configuration) -> new JavaBatchRecordsOperator(getRecordType(sourceChannel)),
+            "via " + JavaBatchRecordsOperator.class.getSimpleName()
+    );
+
+    public static final ChannelConversion RECORD_BATCH_TO_STREAM = new DefaultChannelConversion(
+            RecordBatchChannel.DESCRIPTOR,
+            StreamChannel.DESCRIPTOR,
+            (sourceChannel, configuration) -> new JavaUnbatchRecordsOperator(getRecordType(sourceChannel)),
+            "via " + JavaUnbatchRecordsOperator.class.getSimpleName()
+    );
+
+    /**
+     * Determines the {@link DataSetType} of a {@link Channel} of {@link Record}s.
+     *
+     * @param channel the {@link Channel} or {@code null}
+     * @return the {@link DataSetType}; {@link RecordType}s are retained to provide field types
+     */
+    @SuppressWarnings("unchecked")
+    private static DataSetType<Record> getRecordType(Channel channel) {
+        return channel == null ?
+                DataSetType.createDefault(Record.class) :
+                (DataSetType<Record>) channel.getDataSetType();
+    }
+
     public static Collection<ChannelConversion> ALL = Arrays.asList(
             STREAM_TO_COLLECTION,
             STREAM_TO_HDFS_OBJECT_FILE,
@@ -91,4 +130,13 @@ public class ChannelConversions {
             STREAM_TO_HDFS_TSV,
             COLLECTION_TO_HDFS_TSV
     );
+
+    /**
+     * {@link ChannelConversion}s for the batch-at-a-time processing of {@link Record}s.
+     */
+    public static Collection<ChannelConversion> BATCH = Arrays.asList(
+            STREAM_TO_RECORD_BATCH,
+            COLLECTION_TO_RECORD_BATCH,
+            RECORD_BATCH_TO_STREAM
+    );
 }
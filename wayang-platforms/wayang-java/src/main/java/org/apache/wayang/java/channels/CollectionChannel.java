@@ -26,7 +26,10 @@ import org.apache.wayang.core.platform.ChannelDescriptor;
 import org.apache.wayang.core.platform.Executor;
 import org.apache.wayang.java.operators.JavaExecutionOperator;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
 import java.util.stream.Stream;
 
 /**
@@ -71,6 +74,7 @@ public class CollectionChannel extends Channel {
         public void accept(Collection<?> collection) {
             this.collection = collection;
             this.setMeasuredCardinality(this.collection.size());
+            if (this.getProgressTracker() != null) this.getProgressTracker().addRecords(this.collection.size());
         }
 
         @SuppressWarnings("unchecked")
@@ -89,6 +93,17 @@ public class CollectionChannel extends Channel {
             return CollectionChannel.this;
         }
 
+        @Override
+        public void noteLoopInvariant() {
+            // The collection is retained and re-read in every iteration, so keep it as a compact, random-access list.
+            if (this.collection instanceof ArrayList) {
+                ((ArrayList<?>) this.collection).trimToSize();
+            } else if (this.collection != null
+                    && !(this.collection instanceof List && this.collection instanceof RandomAccess)) {
+                this.collection = new ArrayList<>(this.collection);
+            }
+        }
+
         @Override
         protected void doDispose() {
             logger.debug("Free {}.", this);
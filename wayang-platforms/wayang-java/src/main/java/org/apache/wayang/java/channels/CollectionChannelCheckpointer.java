@@ -0,0 +1,197 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.channels;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.hadoop.io.BytesWritable;
+import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.io.SequenceFile;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.hadoop.example.GroupReadSupport;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.schema.MessageType;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.types.RecordType;
+import org.apache.wayang.basic.util.parquet.ParquetRecords;
+import org.apache.wayang.basic.util.parquet.ParquetSchemas;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.executionplan.Channel;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.Executor;
+import org.apache.wayang.core.platform.checkpoint.ChannelCheckpointer;
+import org.apache.wayang.core.platform.checkpoint.Checkpoint;
+import org.apache.wayang.core.platform.checkpoint.CheckpointFormat;
+import org.apache.wayang.core.types.DataUnitType;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * {@link ChannelCheckpointer} for {@link CollectionChannel}s. Object files are written in the format of
+ * {@code JavaObjectFileSink}, i.e., as sequence files of serialized chunks of data quanta; {@link Record}s can also
+ * be written as Parquet files.
+ */
+public class CollectionChannelCheckpointer implements ChannelCheckpointer {
+
+    /**
+     * Number of data quanta per serialized chunk in object files.
+     */
+    private static final int CHUNK_SIZE = 10;
+
+    @Override
+    public Collection<CheckpointFormat> getSupportedFormats(Channel channel) {
+        if (!(channel instanceof CollectionChannel)) return Collections.emptyList();
+        if (getRecordType(channel) != null) {
+            return Arrays.asList(CheckpointFormat.OBJECT_FILE, CheckpointFormat.COLUMNAR);
+        }
+        return Collections.singletonList(CheckpointFormat.OBJECT_FILE);
+    }
+
+    /**
+     * Determines the {@link DataUnitType} of a {@link Channel} if it contains {@link Record}s.
+     *
+     * @param channel the {@link Channel}
+     * @return the {@link DataUnitType} or {@code null} if the {@link Channel} does not contain {@link Record}s
+     */
+    private static DataUnitType<?> getRecordType(Channel channel) {
+        final DataUnitType<?> dataUnitType = channel.getDataSetType().getDataUnitType();
+        return dataUnitType.getTypeClass() == Record.class ? dataUnitType : null;
+    }
+
+    @Override
+    public void write(ChannelInstance channelInstance, Checkpoint checkpoint) throws Exception {
+        final Collection<?> collection = ((CollectionChannel.Instance) channelInstance).provideCollection();
+        switch (checkpoint.getFormat()) {
+            case OBJECT_FILE:
+                this.writeObjectFile(collection, checkpoint.getUrl());
+                break;
+            case COLUMNAR:
+                final DataUnitType<?> recordType = getRecordType(checkpoint.getChannel());
+                this.writeParquetFile(
+                        collection,
+                        recordType instanceof RecordType ? ((RecordType) recordType).getFieldNames() : null,
+                        checkpoint.getUrl()
+                );
+                break;
+            default:
+                throw new WayangException(String.format("Unsupported format: %s.", checkpoint.getFormat()));
+        }
+        checkpoint.setCardinality(collection.size());
+    }
+
+    private void writeObjectFile(Collection<?> collection, String url) throws IOException {
+        try (SequenceFile.Writer writer = SequenceFile.createWriter(
+                new Configuration(true),
+                SequenceFile.Writer.file(new Path(url)),
+                SequenceFile.Writer.keyClass(NullWritable.class),
+                SequenceFile.Writer.valueClass(BytesWritable.class)
+        )) {
+            final Iterator<?> iterator = collection.iterator();
+            while (iterator.hasNext()) {
+                final List<Object> chunk = new ArrayList<>(CHUNK_SIZE);
+                while (iterator.hasNext() && chunk.size() < CHUNK_SIZE) {
+                    chunk.add(iterator.next());
+                }
+                final ByteArrayOutputStream bos = new ByteArrayOutputStream();
+                try (ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+                    oos.writeObject(chunk.toArray());
+                }
+                writer.append(NullWritable.get(), new BytesWritable(bos.toByteArray()));
+            }
+        }
+    }
+
+    private void writeParquetFile(Collection<?> collection, String[] fieldNames, String url) throws IOException {
+        if (collection.isEmpty()) {
+            throw new WayangException("Cannot infer a Parquet schema without data quanta.");
+        }
+        final MessageType schema = ParquetSchemas.inferSchema(fieldNames, (Record) collection.iterator().next());
+        try (ParquetWriter<Group> writer = ExampleParquetWriter.builder(new Path(url))
+                .withConf(new Configuration(true))
+                .withType(schema)
+                .withCompressionCodec(CompressionCodecName.SNAPPY)
+                .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+                .build()) {
+            for (Object dataQuantum : collection) {
+                final Record record = (Record) dataQuantum;
+                if (!ParquetRecords.isLosslessConvertible(record, schema)) {
+                    throw new WayangException(String.format("Cannot store %s losslessly as %s.", record, schema));
+                }
+                writer.write(ParquetRecords.toGroup(record, schema));
+            }
+        }
+    }
+
+    @Override
+    public ChannelInstance read(Checkpoint checkpoint,
+                                Executor executor,
+                                OptimizationContext.OperatorContext producerOperatorContext) throws Exception {
+        final List<Object> collection = checkpoint.getFormat() == CheckpointFormat.COLUMNAR ?
+                this.readParquetFile(checkpoint.getUrl()) :
+                this.readObjectFile(checkpoint.getUrl());
+        final CollectionChannel.Instance channelInstance = ((CollectionChannel) checkpoint.getChannel()).createInstance(
+                executor, producerOperatorContext, checkpoint.getProducerOutputIndex()
+        );
+        channelInstance.accept(collection);
+        return channelInstance;
+    }
+
+    private List<Object> readObjectFile(String url) throws IOException, ClassNotFoundException {
+        final List<Object> collection = new ArrayList<>();
+        try (SequenceFile.Reader reader = new SequenceFile.Reader(new Configuration(true), SequenceFile.Reader.file(new Path(url)))) {
+            final NullWritable key = NullWritable.get();
+            final BytesWritable value = new BytesWritable();
+            while (reader.next(key, value)) {
+                try (ObjectInputStream ois = new ObjectInputStream(new ByteArrayInputStream(value.getBytes(), 0, value.getLength()))) {
+                    collection.addAll(Arrays.asList((Object[]) ois.readObject()));
+                }
+            }
+        }
+        return collection;
+    }
+
+    private List<Object> readParquetFile(String url) throws IOException {
+        final List<Object> collection = new ArrayList<>();
+        try (ParquetReader<Group> reader = ParquetReader.builder(new GroupReadSupport(), new Path(url))
+                .withConf(new Configuration(true))
+                .build()) {
+            Group group;
+            while ((group = reader.read()) != null) {
+                collection.add(ParquetRecords.toRecord(group, null));
+            }
+        }
+        return collection;
+    }
+
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.wayang.java.channels;
+
+import org.apache.wayang.basic.data.RecordBatch;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.monitor.ProgressTracker;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.executionplan.Channel;
+import org.apache.wayang.core.plan.wayangplan.OutputSlot;
+import org.apache.wayang.core.platform.AbstractChannelInstance;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.Executor;
+import org.apache.wayang.java.operators.JavaExecutionOperator;
+
+import java.util.OptionalLong;
+import java.util.stream.Stream;
+
+/**
+ * {@link Channel} between two {@link JavaExecutionOperator}s using a {@link Stream} of {@link RecordBatch}es.
+ */
+public class RecordBatchChannel extends Channel {
+
+    public static final ChannelDescriptor DESCRIPTOR = new ChannelDescriptor(RecordBatchChannel.class, false, false);
+
+    public RecordBatchChannel(ChannelDescriptor descriptor, OutputSlot<?> outputSlot) {
+        super(descriptor, outputSlot);
+        assert descriptor == DESCRIPTOR;
+    }
+
+    private RecordBatchChannel(RecordBatchChannel parent) {
+        super(parent);
+    }
+
+    @Override
+    public RecordBatchChannel copy() {
+        return new RecordBatchChannel(this);
+    }
+
+    @Override
+    public Instance createInstance(Executor executor,
+                                   OptimizationContext.OperatorContext producerOperatorContext,
+                                   int producerOutputIndex) {
+        return new Instance(executor, producerOperatorContext, producerOutputIndex);
+    }
+
+    /**
+     * {@link JavaChannelInstance} implementation for {@link RecordBatchChannel}s. Consumers that are not aware of
+     * {@link RecordBatch}es can still {@link #provideStream()} the contained records.
+     */
+    public class Instance extends AbstractChannelInstance implements JavaChannelInstance {
+
+        private Stream<RecordBatch> batches;
+
+        private long cardinality = 0;
+
+        public Instance(Executor executor, OptimizationContext.OperatorContext producerOperatorContext, int producerOutputIndex) {
+            super(executor, producerOperatorContext, producerOutputIndex);
+        }
+
+        public void accept(Stream<RecordBatch> batches) {
+            assert this.batches == null;
+            this.batches = batches;
+            if (this.isMarkedForInstrumentation()) {
+                // Counting per batch rather than per record keeps the instrumentation cheap.
+                this.batches = this.batches.peek(batch -> this.cardinality += batch.size());
+            }
+            final ProgressTracker progressTracker = this.getProgressTracker();
+            if (progressTracker != null) {
+                this.batches = this.batches.peek(batch -> progressTracker.addRecords(batch.size()));
+            }
+        }
+
+        public Stream<RecordBatch> provideBatches() {
+            return this.batches;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <T> Stream<T> provideStream() {
+            return (Stream<T>) this.batches.flatMap(RecordBatch::stream);
+        }
+
+        @Override
+        public Channel getChannel() {
+            return RecordBatchChannel.this;
+        }
+
+        @Override
+        public OptionalLong getMeasuredCardinality() {
+            return this.cardinality == 0 ? super.getMeasuredCardinality() : OptionalLong.of(this.cardinality);
+        }
+
+        @Override
+        protected void doDispose() throws WayangException {
+            if (this.isMarkedForInstrumentation()) {
+                // The batches know their sizes, so no record was counted individually.
+                this.recordInstrumentation(0L);
+            }
+            this.batches = null;
+        }
+    }
+
+}
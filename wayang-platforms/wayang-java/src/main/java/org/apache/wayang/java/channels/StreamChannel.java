@@ -19,6 +19,7 @@
 package org.apache.wayang.java.channels;
 
 import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.monitor.ProgressTracker;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.plan.executionplan.Channel;
 import org.apache.wayang.core.plan.wayangplan.OutputSlot;
@@ -29,7 +30,9 @@ import org.apache.wayang.java.operators.JavaExecutionOperator;
 
 import java.util.Collection;
 import java.util.OptionalLong;
+import java.util.Spliterator;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * {@link Channel} between two {@link JavaExecutionOperator}s using a {@link Stream}.
@@ -117,6 +120,11 @@ public class StreamChannel extends Channel {
         // However, this would require to call Stream#close() on all methods.
         private long cardinality = 0;
 
+        /**
+         * Whether the instrumentation counts the data quanta of the {@link #stream} one by one.
+         */
+        private boolean isCountingDataQuanta = false;
+
         public Instance(Executor executor, OptimizationContext.OperatorContext producerOperatorContext, int producerOutputIndex) {
             super(executor, producerOperatorContext, producerOutputIndex);
         }
@@ -126,10 +134,21 @@ public class StreamChannel extends Channel {
             assert this.stream == null;
             this.stream = stream;
             if (this.isMarkedForInstrumentation()) {
-                this.stream = this.stream.filter(dataQuantum -> {
-                    this.cardinality += 1;
-                    return true;
-                });
+                // If the stream knows its size, we need not touch the data quanta to count them.
+                final Spliterator<T> spliterator = stream.spliterator();
+                final long exactSize = spliterator.getExactSizeIfKnown();
+                this.stream = StreamSupport.stream(spliterator, stream.isParallel()).onClose(stream::close);
+                if (exactSize >= 0) {
+                    this.setMeasuredCardinality(exactSize);
+                    this.isCountingDataQuanta = false;
+                } else {
+                    this.stream = this.stream.peek(dataQuantum -> this.cardinality += 1);
+                    this.isCountingDataQuanta = true;
+                }
+            }
+            final ProgressTracker progressTracker = this.getProgressTracker();
+            if (progressTracker != null) {
+                this.stream = this.stream.peek(dataQuantum -> progressTracker.addRecord());
             }
         }
 
@@ -137,6 +156,7 @@ public class StreamChannel extends Channel {
             assert this.stream == null;
             this.stream = collection.stream();
             this.setMeasuredCardinality(collection.size());
+            if (this.getProgressTracker() != null) this.getProgressTracker().addRecords(collection.size());
         }
 
         @Override
@@ -157,6 +177,9 @@ public class StreamChannel extends Channel {
 
         @Override
         protected void doDispose() throws WayangException {
+            if (this.isMarkedForInstrumentation()) {
+                this.recordInstrumentation(this.isCountingDataQuanta ? this.cardinality : 0L);
+            }
             this.stream = null;
         }
     }
@@ -0,0 +1,480 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.execution;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.exception.WayangException;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.NotSerializableException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Sorts data quanta by a {@link Comparable} key, spilling to disk if they do not fit into memory.
+ * <p>The input is cut into runs of a fixed number of data quanta. If the whole input fits into a single run, it is
+ * sorted in memory. Otherwise, the runs are sorted concurrently, written to temporary files via Java serialization,
+ * and finally merged. If the first run contains data quanta that are not {@link Serializable}, the whole input is
+ * sorted in memory instead.
+ * Keys are extracted only once per data quantum and run; instead of the data quanta, an array of their indices is
+ * sorted, which avoids boxing for integral keys. The sort is stable.</p>
+ */
+public class ExternalSorter<T, K> {
+
+    /**
+     * Configuration key for the maximum number of data quanta per sorted run.
+     */
+    public static final String RUN_SIZE_KEY = "wayang.java.sort.run-size";
+
+    /**
+     * Configuration key for the number of runs that are sorted concurrently.
+     */
+    public static final String PARALLELISM_KEY = "wayang.java.sort.parallelism";
+
+    /**
+     * Configuration key for the directory to spill runs to. Defaults to the system's temporary directory.
+     */
+    public static final String SPILL_DIRECTORY_KEY = "wayang.java.sort.spill-dir";
+
+    /**
+     * Number of written objects after which the {@link ObjectOutputStream} of a run is reset.
+     */
+    private static final int RESET_INTERVAL = 1024;
+
+    private static final Logger logger = LogManager.getLogger(ExternalSorter.class);
+
+    private final Function<T, K> keyExtractor;
+
+    private final int runSize;
+
+    private final int parallelism;
+
+    private final Path spillDirectory;
+
+    private final AtomicLong spilledBytes = new AtomicLong();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param keyExtractor  extracts {@link Comparable} keys from the data quanta
+     * @param configuration provides the {@link #RUN_SIZE_KEY}, {@link #PARALLELISM_KEY}, and
+     *                      {@link #SPILL_DIRECTORY_KEY}
+     */
+    public ExternalSorter(Function<T, K> keyExtractor, Configuration configuration) {
+        this(keyExtractor,
+                (int) configuration.getLongProperty(RUN_SIZE_KEY, 1000000L),
+                (int) configuration.getLongProperty(PARALLELISM_KEY, 1L),
+                configuration.getOptionalStringProperty(SPILL_DIRECTORY_KEY)
+                        .filter(dir -> !dir.trim().isEmpty())
+                        .map(Paths::get)
+                        .orElseGet(() -> Paths.get(System.getProperty("java.io.tmpdir"))));
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param keyExtractor   extracts {@link Comparable} keys from the data quanta
+     * @param runSize        the maximum number of data quanta per run
+     * @param parallelism    the number of runs to sort concurrently
+     * @param spillDirectory the directory to spill runs to
+     */
+    public ExternalSorter(Function<T, K> keyExtractor, int runSize, int parallelism, Path spillDirectory) {
+        if (runSize < 1 || parallelism < 1) {
+            throw new IllegalArgumentException("The run size and parallelism must be positive.");
+        }
+        this.keyExtractor = keyExtractor;
+        this.runSize = runSize;
+        this.parallelism = parallelism;
+        this.spillDirectory = spillDirectory;
+    }
+
+    /**
+     * Sorts the given data quanta. If runs are spilled, their files are deleted as soon as the returned
+     * {@link Stream} has been consumed or closed.
+     *
+     * @param input the data quanta to sort
+     * @return the sorted data quanta
+     */
+    @SuppressWarnings("unchecked")
+    public Stream<T> sort(Stream<T> input) {
+        final Iterator<T> iterator = input.iterator();
+        final Object[] firstRun = this.readRun(iterator);
+        if (!iterator.hasNext()) {
+            return this.sortInMemory(firstRun);
+        }
+        final Object nonSerializable = findNonSerializable(firstRun);
+        if (nonSerializable != null) {
+            logger.warn("Sorting in memory, because {} cannot be spilled (not Serializable).",
+                    nonSerializable.getClass().getName());
+            final List<Object> dataQuanta = new ArrayList<>(Arrays.asList(firstRun));
+            iterator.forEachRemaining(dataQuanta::add);
+            return this.sortInMemory(dataQuanta.toArray());
+        }
+
+        final List<Path> runFiles = this.spillRuns(firstRun, iterator);
+        final RunMerger merger = new RunMerger(runFiles);
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(merger, Spliterator.ORDERED | Spliterator.NONNULL),
+                false
+        ).onClose(merger::close);
+    }
+
+    /**
+     * Sorts the given data quanta in memory.
+     */
+    @SuppressWarnings("unchecked")
+    private Stream<T> sortInMemory(Object[] dataQuanta) {
+        final int[] order = this.sortIndices(dataQuanta);
+        return Arrays.stream(order).mapToObj(index -> (T) dataQuanta[index]);
+    }
+
+    /**
+     * Finds a data quantum that cannot be spilled, because it is not {@link Serializable}.
+     *
+     * @return the data quantum or {@code null} if there is none
+     */
+    private static Object findNonSerializable(Object[] run) {
+        for (Object dataQuantum : run) {
+            if (dataQuantum != null && !(dataQuantum instanceof Serializable)) return dataQuantum;
+        }
+        return null;
+    }
+
+    /**
+     * @return the number of bytes that have been spilled to disk so far
+     */
+    public long getSpilledBytes() {
+        return this.spilledBytes.get();
+    }
+
+    /**
+     * Reads the next run from the given {@link Iterator}.
+     */
+    private Object[] readRun(Iterator<T> iterator) {
+        final List<Object> run = new ArrayList<>(Math.min(this.runSize, 1 << 16));
+        while (run.size() < this.runSize && iterator.hasNext()) {
+            run.add(iterator.next());
+        }
+        return run.toArray();
+    }
+
+    /**
+     * Sorts and writes runs concurrently, but keeps at most {@link #parallelism} runs in flight.
+     *
+     * @return the written run files in input order
+     */
+    private List<Path> spillRuns(Object[] firstRun, Iterator<T> iterator) {
+        final ExecutorService executorService = Executors.newFixedThreadPool(this.parallelism, runnable -> {
+            final Thread thread = new Thread(runnable, "wayang-external-sort");
+            thread.setDaemon(true);
+            return thread;
+        });
+        final Deque<Future<Path>> pendingRuns = new ArrayDeque<>();
+        final List<Path> runFiles = new ArrayList<>();
+        try {
+            Object[] run = firstRun;
+            Object nonSerializable = null;
+            while (run.length > 0) {
+                if (pendingRuns.size() >= this.parallelism) {
+                    runFiles.add(pendingRuns.removeFirst().get());
+                }
+                if ((nonSerializable = findNonSerializable(run)) != null) break;
+                final Object[] runToSpill = run;
+                pendingRuns.addLast(executorService.submit(() -> this.sortAndSpill(runToSpill)));
+                run = this.readRun(iterator);
+            }
+            while (!pendingRuns.isEmpty()) {
+                runFiles.add(pendingRuns.removeFirst().get());
+            }
+            if (nonSerializable != null) {
+                deleteAll(runFiles);
+                throw new WayangException(String.format(
+                        "Cannot spill %s to sort it, as it is not Serializable. Increase %s to sort in memory.",
+                        nonSerializable.getClass().getName(), RUN_SIZE_KEY
+                ));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            deleteAll(runFiles);
+            throw new WayangException("Interrupted while sorting.", e);
+        } catch (ExecutionException e) {
+            deleteAll(runFiles);
+            if (e.getCause() instanceof NotSerializableException) {
+                throw new WayangException(String.format(
+                        "Cannot spill data quanta to sort them, as they contain a non-Serializable %s. "
+                                + "Increase %s to sort in memory.",
+                        e.getCause().getMessage(), RUN_SIZE_KEY
+                ), e.getCause());
+            }
+            throw new WayangException("Could not spill a sorted run.", e.getCause());
+        } finally {
+            executorService.shutdownNow();
+        }
+        logger.info("Spilled {} sorted runs ({} bytes) to {}.",
+                runFiles.size(), this.spilledBytes.get(), this.spillDirectory);
+        return runFiles;
+    }
+
+    /**
+     * Sorts a run and writes it to a temporary file.
+     */
+    private Path sortAndSpill(Object[] run) throws IOException {
+        final int[] order = this.sortIndices(run);
+        final Path runFile = Files.createTempFile(this.spillDirectory, "wayang-sort-", ".run");
+        try (ObjectOutputStream out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(runFile)))) {
+            out.writeInt(order.length);
+            for (int i = 0; i < order.length; i++) {
+                out.writeObject(run[order[i]]);
+                if (i % RESET_INTERVAL == RESET_INTERVAL - 1) out.reset();
+            }
+        } catch (IOException e) {
+            Files.deleteIfExists(runFile);
+            throw e;
+        }
+        this.spilledBytes.addAndGet(Files.size(runFile));
+        return runFile;
+    }
+
+    /**
+     * Determines the stable sort order of the given data quanta.
+     *
+     * @return the indices of the data quanta in sort order
+     */
+    @SuppressWarnings("unchecked")
+    private int[] sortIndices(Object[] run) {
+        final Object[] keys = new Object[run.length];
+        for (int i = 0; i < run.length; i++) {
+            keys[i] = this.keyExtractor.apply((T) run[i]);
+        }
+        final int[] order = new int[run.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+
+        final long[] integralKeys = toIntegralKeys(keys);
+        if (integralKeys != null) {
+            mergeSort(order, (i, j) -> Long.compare(integralKeys[i], integralKeys[j]));
+        } else {
+            mergeSort(order, (i, j) -> ((Comparable<Object>) keys[i]).compareTo(keys[j]));
+        }
+        return order;
+    }
+
+    /**
+     * Unboxes keys that are all of the same integral type.
+     *
+     * @return the unboxed keys or {@code null} if not applicable
+     */
+    private static long[] toIntegralKeys(Object[] keys) {
+        if (keys.length == 0 || keys[0] == null) return null;
+        final Class<?> keyClass = keys[0].getClass();
+        if (keyClass != Long.class && keyClass != Integer.class && keyClass != Short.class && keyClass != Byte.class) {
+            return null;
+        }
+        final long[] integralKeys = new long[keys.length];
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] == null || keys[i].getClass() != keyClass) return null;
+            integralKeys[i] = ((Number) keys[i]).longValue();
+        }
+        return integralKeys;
+    }
+
+    /**
+     * Compares two indices.
+     */
+    @FunctionalInterface
+    private interface IndexComparator {
+
+        int compare(int i, int j);
+
+    }
+
+    /**
+     * Stable merge sort of {@code int}s.
+     */
+    private static void mergeSort(int[] indices, IndexComparator comparator) {
+        int[] source = indices, target = new int[indices.length];
+        for (int width = 1; width < indices.length; width *= 2) {
+            for (int start = 0; start < indices.length; start += 2 * width) {
+                final int middle = Math.min(start + width, indices.length);
+                final int end = Math.min(start + 2 * width, indices.length);
+                int left = start, right = middle, pos = start;
+                while (left < middle && right < end) {
+                    target[pos++] = comparator.compare(source[left], source[right]) <= 0 ?
+                            source[left++] :
+                            source[right++];
+                }
+                while (left < middle) target[pos++] = source[left++];
+                while (right < end) target[pos++] = source[right++];
+            }
+            final int[] swap = source;
+            source = target;
+            target = swap;
+        }
+        if (source != indices) {
+            System.arraycopy(source, 0, indices, 0, indices.length);
+        }
+    }
+
+    private static void deleteAll(Collection<Path> files) {
+        for (Path file : files) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                logger.warn("Could not delete {}.", file, e);
+            }
+        }
+    }
+
+    /**
+     * Reads a spilled run.
+     */
+    private class RunReader implements AutoCloseable {
+
+        private final int runIndex;
+
+        private final Path file;
+
+        private final ObjectInputStream in;
+
+        private int remaining;
+
+        private T current;
+
+        private K currentKey;
+
+        private RunReader(int runIndex, Path file) throws IOException {
+            this.runIndex = runIndex;
+            this.file = file;
+            this.in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(file)));
+            this.remaining = this.in.readInt();
+        }
+
+        /**
+         * Moves to the next data quantum.
+         *
+         * @return whether there was a next data quantum
+         */
+        @SuppressWarnings("unchecked")
+        private boolean advance() throws IOException, ClassNotFoundException {
+            if (this.remaining == 0) {
+                this.close();
+                return false;
+            }
+            this.remaining--;
+            this.current = (T) this.in.readObject();
+            this.currentKey = ExternalSorter.this.keyExtractor.apply(this.current);
+            return true;
+        }
+
+        @Override
+        public void close() {
+            try {
+                this.in.close();
+            } catch (IOException e) {
+                logger.warn("Could not close {}.", this.file, e);
+            }
+            deleteAll(Collections.singleton(this.file));
+        }
+    }
+
+    /**
+     * Merges spilled runs.
+     */
+    private class RunMerger implements Iterator<T> {
+
+        private final PriorityQueue<RunReader> queue;
+
+        private final List<RunReader> readers = new ArrayList<>();
+
+        @SuppressWarnings("unchecked")
+        private RunMerger(List<Path> runFiles) {
+            final Comparator<RunReader> comparator = (reader1, reader2) -> {
+                final int result = ((Comparable<Object>) reader1.currentKey).compareTo(reader2.currentKey);
+                return result != 0 ? result : Integer.compare(reader1.runIndex, reader2.runIndex);
+            };
+            this.queue = new PriorityQueue<>(Math.max(1, runFiles.size()), comparator);
+            try {
+                for (Path runFile : runFiles) {
+                    final RunReader reader = new RunReader(this.readers.size(), runFile);
+                    this.readers.add(reader);
+                    if (reader.advance()) this.queue.add(reader);
+                }
+            } catch (IOException | ClassNotFoundException e) {
+                this.close();
+                deleteAll(runFiles);
+                throw new WayangException("Could not read the sorted runs.", e);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !this.queue.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            final RunReader reader = this.queue.poll();
+            if (reader == null) throw new NoSuchElementException();
+            final T next = reader.current;
+            try {
+                if (reader.advance()) this.queue.add(reader);
+            } catch (IOException | ClassNotFoundException e) {
+                this.close();
+                throw new WayangException(String.format("Could not read the sorted run %s.", reader.file), e);
+            }
+            return next;
+        }
+
+        private void close() {
+            this.queue.clear();
+            this.readers.forEach(RunReader::close);
+        }
+    }
+
+}
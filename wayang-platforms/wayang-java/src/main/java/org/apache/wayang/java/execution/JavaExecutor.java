@@ -21,6 +21,7 @@ package org.apache.wayang.java.execution;
 import org.apache.wayang.core.api.Job;
 import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.wayang.core.function.ExtendedFunction;
+import org.apache.wayang.core.monitor.metrics.ExecutionMetrics;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.plan.executionplan.ExecutionTask;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
@@ -74,8 +75,7 @@ public class JavaExecutor extends PushExecutorTemplate {
         // Execute.
         final Collection<ExecutionLineageNode> executionLineageNodes;
         final Collection<ChannelInstance> producedChannelInstances;
-        // TODO: Use proper progress estimator.
-        this.job.reportProgress(task.getOperator().getName(), 50);
+        this.startProgressTracking(task, inputChannelInstances, outputChannelInstances, producerOperatorContext);
         long startTime = System.currentTimeMillis();
         try {
             final Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> results =
@@ -94,7 +94,7 @@ public class JavaExecutor extends PushExecutorTemplate {
         long endTime = System.currentTimeMillis();
         long executionDuration = endTime - startTime;
 
-        this.job.reportProgress(task.getOperator().getName(), 100);
+        this.completeProgressTracking(task, inputChannelInstances, executionLineageNodes);
 
         // Check how much we executed.
         PartialExecution partialExecution = this.createPartialExecution(executionLineageNodes, executionDuration);
@@ -146,4 +146,30 @@ public class JavaExecutor extends PushExecutorTemplate {
     public FunctionCompiler getCompiler() {
         return this.compiler;
     }
+
+    /**
+     * Records that an operator has spilled data to disk, provided that {@link ExecutionMetrics} are enabled.
+     *
+     * @param operator     the spilling {@link ExecutionOperator}
+     * @param spilledBytes the number of spilled bytes
+     */
+    public void recordSpill(ExecutionOperator operator, long spilledBytes) {
+        final ExecutionMetrics metrics = this.getExecutionMetrics();
+        if (metrics != null) {
+            metrics.recordSpill(this.platform.getName(), ExecutionMetrics.getOperatorLabel(operator), spilledBytes);
+        }
+    }
+
+    /**
+     * Records that an operator has allocated a hash table, provided that {@link ExecutionMetrics} are enabled.
+     *
+     * @param operator       the allocating {@link ExecutionOperator}
+     * @param hashTableBytes the size of the hash table in bytes
+     */
+    public void recordHashTable(ExecutionOperator operator, long hashTableBytes) {
+        final ExecutionMetrics metrics = this.getExecutionMetrics();
+        if (metrics != null) {
+            metrics.recordHashTable(this.platform.getName(), ExecutionMetrics.getOperatorLabel(operator), hashTableBytes);
+        }
+    }
 }
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.hash;
+
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Associates keys with any number of values, e.g., to build the probe table of a hash join. Values with equal keys
+ * are chained via {@code int} arrays rather than stored in per-key collections. Instances are not thread-safe.
+ */
+public class ChainedHashTable<K, V> {
+
+    private static final int NO_ENTRY = -1;
+
+    private final HashIndex<K> index;
+
+    /**
+     * The entries, i.e., all added values.
+     */
+    private final List<V> values;
+
+    /**
+     * Refer from entries to the next entry with the same key.
+     */
+    private int[] nextEntries;
+
+    /**
+     * Refer from key IDs to their first and last entry.
+     */
+    private int[] firstEntries, lastEntries;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param keyClass   the {@link Class} of the keys
+     * @param numEntries the expected number of values or {@code null} if unknown
+     */
+    public ChainedHashTable(Class<?> keyClass, CardinalityEstimate numEntries) {
+        final int capacity = Math.max(16, HashIndex.getPresize(numEntries));
+        this.index = HashIndex.create(keyClass, capacity);
+        this.values = new ArrayList<>(capacity);
+        this.nextEntries = new int[capacity];
+        this.firstEntries = new int[capacity];
+        this.lastEntries = new int[capacity];
+    }
+
+    /**
+     * Adds a value.
+     *
+     * @param key   the key of the {@code value}; may be {@code null}
+     * @param value the value
+     */
+    public void add(K key, V value) {
+        final int entry = this.values.size();
+        this.values.add(value);
+        if (entry == this.nextEntries.length) {
+            this.nextEntries = Arrays.copyOf(this.nextEntries, entry << 1);
+        }
+        this.nextEntries[entry] = NO_ENTRY;
+
+        final int numKeys = this.index.size();
+        final int keyId = this.index.getOrAdd(key);
+        if (keyId == numKeys) {
+            if (keyId == this.firstEntries.length) {
+                this.firstEntries = Arrays.copyOf(this.firstEntries, keyId << 1);
+                this.lastEntries = Arrays.copyOf(this.lastEntries, keyId << 1);
+            }
+            this.firstEntries[keyId] = entry;
+        } else {
+            this.nextEntries[this.lastEntries[keyId]] = entry;
+        }
+        this.lastEntries[keyId] = entry;
+    }
+
+    /**
+     * Retrieves the values for a key.
+     *
+     * @param key the key; may be {@code null}
+     * @return the values in the order they were added
+     */
+    public List<V> get(K key) {
+        final int keyId = this.index.get(key);
+        if (keyId == HashIndex.ABSENT) return Collections.emptyList();
+        int entry = this.firstEntries[keyId];
+        if (this.nextEntries[entry] == NO_ENTRY) return Collections.singletonList(this.values.get(entry));
+        final List<V> matches = new ArrayList<>();
+        for (; entry != NO_ENTRY; entry = this.nextEntries[entry]) {
+            matches.add(this.values.get(entry));
+        }
+        return matches;
+    }
+
+    /**
+     * @return the number of distinct keys
+     */
+    public int getNumKeys() {
+        return this.index.size();
+    }
+
+    /**
+     * Estimates the memory occupied by this instance, exclusive of the keys and values themselves.
+     *
+     * @return the number of bytes
+     */
+    public long getMemoryBytes() {
+        return this.index.getMemoryBytes()
+                + (long) Integer.BYTES * (this.nextEntries.length + this.firstEntries.length + this.lastEntries.length)
+                + (long) ObjectHashIndex.REFERENCE_BYTES * this.values.size();
+    }
+
+}
@@ -0,0 +1,168 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.hash;
+
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+
+/**
+ * Assigns dense IDs {@code 0, 1, 2, ...} to distinct keys in the order of their first appearance. Operators can
+ * thus keep per-key state in plain lists or arrays rather than in {@link java.util.HashMap}s, which spend several
+ * objects per entry. Instances are not thread-safe.
+ *
+ * @see #create(Class, CardinalityEstimate)
+ */
+public abstract class HashIndex<K> {
+
+    /**
+     * Designates that a key is not contained.
+     */
+    public static final int ABSENT = -1;
+
+    /**
+     * Upper bound for the number of elements that data structures are pre-sized for, so that overestimated
+     * cardinalities do not claim excessive memory. They grow beyond that as needed.
+     */
+    private static final int MAX_PRESIZED_ELEMENTS = 1 << 20;
+
+    /**
+     * Assumed number of elements if there is no {@link CardinalityEstimate}.
+     */
+    private static final int DEFAULT_EXPECTED_ELEMENTS = 1000;
+
+    /**
+     * The ID of the {@code null} key.
+     */
+    private int nullKeyId = ABSENT;
+
+    private int size = 0;
+
+    /**
+     * Creates a new instance that is specialized for the given key type.
+     *
+     * @param keyClass     the {@link Class} of the keys
+     * @param expectedSize the expected number of keys or {@code null} if unknown
+     * @return the new instance
+     */
+    public static <K> HashIndex<K> create(Class<?> keyClass, CardinalityEstimate expectedSize) {
+        return create(keyClass, getPresize(expectedSize));
+    }
+
+    /**
+     * Creates a new instance that is specialized for the given key type.
+     *
+     * @param keyClass     the {@link Class} of the keys
+     * @param expectedSize the expected number of keys
+     * @return the new instance
+     */
+    public static <K> HashIndex<K> create(Class<?> keyClass, int expectedSize) {
+        if (IntegralHashIndex.isApplicable(keyClass)) {
+            return new IntegralHashIndex<>(keyClass, expectedSize);
+        }
+        return new ObjectHashIndex<>(expectedSize);
+    }
+
+    /**
+     * Provides the ID of a key and assigns a new one if the key is not yet contained.
+     *
+     * @param key the key; may be {@code null}
+     * @return the ID, which is {@link #size()}{@code - 1} if the key is new
+     */
+    public int getOrAdd(K key) {
+        if (key == null) {
+            if (this.nullKeyId == ABSENT) this.nullKeyId = this.size++;
+            return this.nullKeyId;
+        }
+        final int id = this.putIfAbsent(key, this.size);
+        return id == ABSENT ? this.size++ : id;
+    }
+
+    /**
+     * Adds a key.
+     *
+     * @param key the key; may be {@code null}
+     * @return whether the key was not contained before
+     */
+    public boolean add(K key) {
+        final int oldSize = this.size;
+        this.getOrAdd(key);
+        return this.size > oldSize;
+    }
+
+    /**
+     * Provides the ID of a key.
+     *
+     * @param key the key; may be {@code null}
+     * @return the ID or {@link #ABSENT} if the key is not contained
+     */
+    public int get(K key) {
+        return key == null ? this.nullKeyId : this.getNonNull(key);
+    }
+
+    /**
+     * @return the number of contained keys
+     */
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * Estimates the memory occupied by this instance, exclusive of the keys themselves.
+     *
+     * @return the number of bytes
+     */
+    public abstract long getMemoryBytes();
+
+    /**
+     * Associates a non-{@code null} key with an ID unless the key is already contained.
+     *
+     * @return the ID that was already associated with the key or {@link #ABSENT} if none
+     */
+    protected abstract int putIfAbsent(K key, int id);
+
+    /**
+     * Looks up the ID of a non-{@code null} key.
+     *
+     * @return the ID or {@link #ABSENT} if the key is not contained
+     */
+    protected abstract int getNonNull(K key);
+
+    /**
+     * Determines for how many elements a data structure should be pre-sized.
+     *
+     * @param expectedSize the expected number of elements or {@code null} if unknown
+     * @return the number of elements
+     */
+    static int getPresize(CardinalityEstimate expectedSize) {
+        return expectedSize == null ?
+                DEFAULT_EXPECTED_ELEMENTS :
+                (int) Math.min(MAX_PRESIZED_ELEMENTS, expectedSize.getGeometricMeanEstimate());
+    }
+
+    /**
+     * Determines the capacity of an open-addressing hash table.
+     *
+     * @param expectedSize  the expected number of keys
+     * @param maxLoadFactor the load factor that should not be exceeded
+     * @return a power of two
+     */
+    static int getCapacity(int expectedSize, double maxLoadFactor) {
+        return Integer.highestOneBit(Math.max(4, (int) Math.min(1 << 30, expectedSize / maxLoadFactor)) - 1) << 1;
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.hash;
+
+/**
+ * {@link HashIndex} for {@link Long}, {@link Integer}, {@link Short}, {@link Byte}, or {@link Character} keys, which
+ * are stored as primitive {@code long}s. Keys of any other {@link Class}, e.g., due to an imprecise key type, are
+ * delegated to an {@link ObjectHashIndex}.
+ */
+class IntegralHashIndex<K> extends HashIndex<K> {
+
+    private final Class<?> keyClass;
+
+    private final LongKeyIndex index;
+
+    /**
+     * Indexes keys that are not of the {@link #keyClass}; created lazily.
+     */
+    private ObjectHashIndex<K> otherKeys;
+
+    IntegralHashIndex(Class<?> keyClass, int expectedSize) {
+        assert isApplicable(keyClass);
+        this.keyClass = keyClass;
+        this.index = new LongKeyIndex(expectedSize);
+    }
+
+    /**
+     * Tells whether this class can index keys of the given {@link Class}.
+     */
+    static boolean isApplicable(Class<?> keyClass) {
+        return keyClass == Long.class || keyClass == Integer.class || keyClass == Short.class
+                || keyClass == Byte.class || keyClass == Character.class;
+    }
+
+    @Override
+    protected int putIfAbsent(K key, int id) {
+        if (key.getClass() == this.keyClass) {
+            return this.index.putIfAbsent(toLong(key), id);
+        }
+        if (this.otherKeys == null) {
+            this.otherKeys = new ObjectHashIndex<>(0);
+        }
+        return this.otherKeys.putIfAbsent(key, id);
+    }
+
+    @Override
+    protected int getNonNull(K key) {
+        if (key.getClass() == this.keyClass) {
+            return this.index.get(toLong(key));
+        }
+        return this.otherKeys == null ? ABSENT : this.otherKeys.getNonNull(key);
+    }
+
+    @Override
+    public long getMemoryBytes() {
+        return this.index.getMemoryBytes() + (this.otherKeys == null ? 0L : this.otherKeys.getMemoryBytes());
+    }
+
+    private static long toLong(Object key) {
+        return key instanceof Character ? (Character) key : ((Number) key).longValue();
+    }
+
+}
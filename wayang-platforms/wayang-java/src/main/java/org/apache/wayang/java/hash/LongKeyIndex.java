@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.wayang.java.hash;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash table that maps {@code long} keys to non-negative {@code int}s without boxing.
+ */
+public class LongKeyIndex {
+
+    private static final int ABSENT = -1;
+
+    private static final double MAX_LOAD_FACTOR = 0.5;
+
+    private long[] keys;
+
+    private int[] values;
+
+    private int size;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param expectedSize the expected number of keys
+     */
+    public LongKeyIndex(int expectedSize) {
+        final int capacity = HashIndex.getCapacity(expectedSize, MAX_LOAD_FACTOR);
+        this.keys = new long[capacity];
+        this.values = new int[capacity];
+        Arrays.fill(this.values, ABSENT);
+    }
+
+    /**
+     * Looks up the value for a key.
+     *
+     * @param key the key
+     * @return the value or {@code -1} if the key is not contained
+     */
+    public int get(long key) {
+        final int mask = this.keys.length - 1;
+        for (int pos = mix(key) & mask; ; pos = (pos + 1) & mask) {
+            final int value = this.values[pos];
+            if (value == ABSENT || this.keys[pos] == key) return value;
+        }
+    }
+
+    /**
+     * Associates a value with a key unless the key is already contained.
+     *
+     * @param key   the key
+     * @param value the non-negative value
+     * @return the value that was already associated with the key or {@code -1} if none
+     */
+    public int putIfAbsent(long key, int value) {
+        assert value >= 0;
+        final int mask = this.keys.length - 1;
+        for (int pos = mix(key) & mask; ; pos = (pos + 1) & mask) {
+            final int existingValue = this.values[pos];
+            if (existingValue == ABSENT) {
+                this.keys[pos] = key;
+                this.values[pos] = value;
+                if (++this.size > this.keys.length * MAX_LOAD_FACTOR) this.grow();
+                return ABSENT;
+            } else if (this.keys[pos] == key) {
+                return existingValue;
+            }
+        }
+    }
+
+    /**
+     * Replaces the value of a contained key.
+     *
+     * @param key   the key
+     * @param value the new non-negative value
+     */
+    public void replace(long key, int value) {
+        assert value >= 0;
+        final int mask = this.keys.length - 1;
+        for (int pos = mix(key) & mask; ; pos = (pos + 1) & mask) {
+            if (this.values[pos] == ABSENT) throw new IllegalStateException("Key " + key + " is not contained.");
+            if (this.keys[pos] == key) {
+                this.values[pos] = value;
+                return;
+            }
+        }
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @return the number of bytes occupied by this instance
+     */
+    public long getMemoryBytes() {
+        return (long) this.keys.length * (Long.BYTES + Integer.BYTES);
+    }
+
+    private void grow() {
+        final long[] oldKeys = this.keys;
+        final int[] oldValues = this.values;
+        this.keys = new long[oldKeys.length << 1];
+        this.values = new int[oldValues.length << 1];
+        Arrays.fill(this.values, ABSENT);
+        final int mask = this.keys.length - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldValues[i] == ABSENT) continue;
+            int pos = mix(oldKeys[i]) & mask;
+            while (this.values[pos] != ABSENT) pos = (pos + 1) & mask;
+            this.keys[pos] = oldKeys[i];
+            this.values[pos] = oldValues[i];
+        }
+    }
+
+    /**
+     * Spreads the bits of a key, so that sequential keys do not cluster.
+     */
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+}
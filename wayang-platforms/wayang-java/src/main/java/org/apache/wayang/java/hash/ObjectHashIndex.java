@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.hash;
+
+import java.util.Arrays;
+
+/**
+ * {@link HashIndex} for arbitrary keys, e.g., {@link String}s or {@link org.apache.wayang.basic.data.Tuple2}s. The
+ * keys are stored in an open-addressing hash table along with their hash codes, so that
+ * {@link Object#equals(Object)} is only invoked for keys whose hash codes are equal.
+ */
+class ObjectHashIndex<K> extends HashIndex<K> {
+
+    private static final double MAX_LOAD_FACTOR = 0.5;
+
+    /**
+     * Assumed size of an object reference, i.e., we assume compressed references.
+     */
+    static final int REFERENCE_BYTES = 4;
+
+    private Object[] keys;
+
+    private int[] hashes;
+
+    /**
+     * The IDs of the {@link #keys}; {@link #ABSENT} marks empty slots.
+     */
+    private int[] ids;
+
+    private int numKeys;
+
+    ObjectHashIndex(int expectedSize) {
+        this.allocate(getCapacity(expectedSize, MAX_LOAD_FACTOR));
+    }
+
+    private void allocate(int capacity) {
+        this.keys = new Object[capacity];
+        this.hashes = new int[capacity];
+        this.ids = new int[capacity];
+        Arrays.fill(this.ids, ABSENT);
+    }
+
+    @Override
+    protected int putIfAbsent(K key, int id) {
+        final int hash = spread(key.hashCode());
+        final int mask = this.ids.length - 1;
+        for (int pos = hash & mask; ; pos = (pos + 1) & mask) {
+            final int existingId = this.ids[pos];
+            if (existingId == ABSENT) {
+                this.keys[pos] = key;
+                this.hashes[pos] = hash;
+                this.ids[pos] = id;
+                if (++this.numKeys > this.ids.length * MAX_LOAD_FACTOR) this.grow();
+                return ABSENT;
+            } else if (this.hashes[pos] == hash && key.equals(this.keys[pos])) {
+                return existingId;
+            }
+        }
+    }
+
+    @Override
+    protected int getNonNull(K key) {
+        final int hash = spread(key.hashCode());
+        final int mask = this.ids.length - 1;
+        for (int pos = hash & mask; ; pos = (pos + 1) & mask) {
+            final int id = this.ids[pos];
+            if (id == ABSENT || (this.hashes[pos] == hash && key.equals(this.keys[pos]))) return id;
+        }
+    }
+
+    private void grow() {
+        final Object[] oldKeys = this.keys;
+        final int[] oldHashes = this.hashes;
+        final int[] oldIds = this.ids;
+        this.allocate(oldIds.length << 1);
+        final int mask = this.ids.length - 1;
+        for (int i = 0; i < oldIds.length; i++) {
+            if (oldIds[i] == ABSENT) continue;
+            int pos = oldHashes[i] & mask;
+            while (this.ids[pos] != ABSENT) pos = (pos + 1) & mask;
+            this.keys[pos] = oldKeys[i];
+            this.hashes[pos] = oldHashes[i];
+            this.ids[pos] = oldIds[i];
+        }
+    }
+
+    @Override
+    public long getMemoryBytes() {
+        return (long) this.ids.length * (REFERENCE_BYTES + 2 * Integer.BYTES);
+    }
+
+    /**
+     * Spreads the bits of a hash code, so that poor hash codes, e.g., of small {@link Integer}s, do not cluster.
+     */
+    private static int spread(int hashCode) {
+        final int h = hashCode * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+}
@@ -19,7 +19,17 @@
 package org.apache.wayang.java.mapping;
 
 import org.apache.wayang.core.mapping.Mapping;
+import org.apache.wayang.java.mapping.batch.BatchCountMapping;
+import org.apache.wayang.java.mapping.batch.BatchFilterMapping;
+import org.apache.wayang.java.mapping.batch.BatchJoinMapping;
+import org.apache.wayang.java.mapping.batch.BatchProjectionMapping;
+import org.apache.wayang.java.mapping.batch.BatchReduceByMapping;
 import org.apache.wayang.java.mapping.graph.PageRankMapping;
+import org.apache.wayang.java.mapping.streaming.DirectoryTextSourceMapping;
+import org.apache.wayang.java.mapping.streaming.QueueSourceMapping;
+import org.apache.wayang.java.mapping.streaming.SocketTextSourceMapping;
+import org.apache.wayang.java.mapping.streaming.WindowedJoinMapping;
+import org.apache.wayang.java.mapping.streaming.WindowedReduceByMapping;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -32,6 +42,8 @@ public class Mappings {
     public static Collection<Mapping> BASIC_MAPPINGS = Arrays.asList(
             new TextFileSourceMapping(),
             new TextFileSinkMapping(),
+            new ParquetFileSourceMapping(),
+            new ParquetFileSinkMapping(),
             new MapMapping(),
             new MapPartitionsMapping(),
             new ReduceByMapping(),
@@ -49,16 +61,30 @@ public class Mappings {
             new IntersectMapping(),
             new CartesianMapping(),
             new JoinMapping(),
+            new SortMergeJoinMapping(),
             new CoGroupMapping(),
             new LoopMapping(),
             new DoWhileMapping(),
             new RepeatMapping(),
             new SampleMapping(),
-            new ZipWithIdMapping()
+            new ZipWithIdMapping(),
+            new QueueSourceMapping(),
+            new SocketTextSourceMapping(),
+            new DirectoryTextSourceMapping(),
+            new WindowedReduceByMapping(),
+            new WindowedJoinMapping()
     );
 
     public static Collection<Mapping> GRAPH_MAPPINGS = Arrays.asList(
             new PageRankMapping()
     );
 
+    public static Collection<Mapping> BATCH_MAPPINGS = Arrays.asList(
+            new BatchFilterMapping(),
+            new BatchProjectionMapping(),
+            new BatchReduceByMapping(),
+            new BatchJoinMapping(),
+            new BatchCountMapping()
+    );
+
 }
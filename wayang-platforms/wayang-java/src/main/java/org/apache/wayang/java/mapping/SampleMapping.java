@@ -28,13 +28,15 @@ import org.apache.wayang.core.mapping.SubplanPattern;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.java.operators.JavaRandomSampleOperator;
 import org.apache.wayang.java.operators.JavaReservoirSampleOperator;
+import org.apache.wayang.java.operators.JavaStratifiedSampleOperator;
 import org.apache.wayang.java.platform.JavaPlatform;
 
 import java.util.Collection;
 import java.util.Collections;
 
 /**
- * Mapping from {@link SampleOperator} to {@link JavaRandomSampleOperator}.
+ * Mapping from {@link SampleOperator} to {@link JavaRandomSampleOperator}, {@link JavaReservoirSampleOperator}, and
+ * {@link JavaStratifiedSampleOperator}.
  */
 @SuppressWarnings("unchecked")
 public class SampleMapping implements Mapping {
@@ -54,6 +56,8 @@ public class SampleMapping implements Mapping {
         ).withAdditionalTest(op ->
                 op.getSampleMethod() == SampleOperator.Methods.RANDOM
                         || op.getSampleMethod() == SampleOperator.Methods.RESERVOIR
+                        || op.getSampleMethod() == SampleOperator.Methods.PARALLEL_RESERVOIR
+                        || op.getSampleMethod() == SampleOperator.Methods.STRATIFIED
                         || op.getSampleMethod() == SampleOperator.Methods.ANY
         );
         return SubplanPattern.createSingleton(operatorPattern);
@@ -67,7 +71,10 @@ public class SampleMapping implements Mapping {
                         case RANDOM:
                             return new JavaRandomSampleOperator<>(matchedOperator).at(epoch);
                         case RESERVOIR:
+                        case PARALLEL_RESERVOIR:
                             return new JavaReservoirSampleOperator<>(matchedOperator).at(epoch);
+                        case STRATIFIED:
+                            return new JavaStratifiedSampleOperator<>(matchedOperator).at(epoch);
                         default:
                             throw new WayangException(String.format(
                                     "%s sample method is not yet supported in Java platform.",
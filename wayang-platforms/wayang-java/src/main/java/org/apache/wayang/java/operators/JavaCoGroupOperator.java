@@ -23,7 +23,6 @@ import org.apache.wayang.basic.operators.CoGroupOperator;
 import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.function.TransformationDescriptor;
 import org.apache.wayang.core.optimizer.OptimizationContext;
-import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
 import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
 import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
@@ -36,15 +35,13 @@ import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.hash.HashIndex;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -87,53 +84,51 @@ public class JavaCoGroupOperator<InputType0, InputType1, KeyType>
         final Function<InputType0, KeyType> keyExtractor0 = javaExecutor.getCompiler().compile(this.keyDescriptor0);
         final Function<InputType1, KeyType> keyExtractor1 = javaExecutor.getCompiler().compile(this.keyDescriptor1);
 
-        // Group input 0.
-        final CardinalityEstimate cardinalityEstimate0 = operatorContext.getInputCardinality(0);
-        int expectedNumElements0 = (int) cardinalityEstimate0.getGeometricMeanEstimate();
-        Map<KeyType, Collection<InputType0>> groups0 = new HashMap<>(expectedNumElements0);
-        ((JavaChannelInstance) inputs[0]).<InputType0>provideStream().forEach(dataQuantum0 ->
-                groups0.compute(keyExtractor0.apply(dataQuantum0),
-                        (key, value) -> {
-                            value = value == null ? new LinkedList<>() : value;
-                            value.add(dataQuantum0);
-                            return value;
-                        }
-                )
+        // Group both inputs by a shared key index, so that each ID designates a co-group.
+        final HashIndex<KeyType> index = HashIndex.create(
+                this.keyDescriptor0.getOutputType().getTypeClass(), operatorContext.getOutputCardinality(0)
         );
-
-        // Group input 1.
-        final CardinalityEstimate cardinalityEstimate1 = operatorContext.getInputCardinality(1);
-        int expectedNumElements1 = (int) cardinalityEstimate1.getGeometricMeanEstimate();
-        Map<KeyType, Collection<InputType1>> groups1 = new HashMap<>(expectedNumElements1);
-        ((JavaChannelInstance) inputs[1]).<InputType1>provideStream().forEach(dataQuantum1 ->
-                groups1.compute(keyExtractor1.apply(dataQuantum1),
-                        (key, value) -> {
-                            value = value == null ? new LinkedList<>() : value;
-                            value.add(dataQuantum1);
-                            return value;
-                        }
-                )
+        final List<List<InputType0>> groups0 = new ArrayList<>();
+        final List<List<InputType1>> groups1 = new ArrayList<>();
+        ((JavaChannelInstance) inputs[0]).<InputType0>provideStream().sequential().forEach(dataQuantum0 ->
+                addToGroup(index.getOrAdd(keyExtractor0.apply(dataQuantum0)), dataQuantum0, groups0)
+        );
+        ((JavaChannelInstance) inputs[1]).<InputType1>provideStream().sequential().forEach(dataQuantum1 ->
+                addToGroup(index.getOrAdd(keyExtractor1.apply(dataQuantum1)), dataQuantum1, groups1)
         );
+        javaExecutor.recordHashTable(this, index.getMemoryBytes());
 
         // Create the co-groups.
-        Collection<Tuple2<Iterable<InputType0>, Iterable<InputType1>>> coGroups =
-                new ArrayList<>(expectedNumElements0 + expectedNumElements1);
-        for (Map.Entry<KeyType, Collection<InputType0>> entry : groups0.entrySet()) {
-            Collection<InputType0> group0 = entry.getValue();
-            Collection<InputType1> group1 = groups1.remove(entry.getKey());
+        Collection<Tuple2<Iterable<InputType0>, Iterable<InputType1>>> coGroups = new ArrayList<>(index.size());
+        for (int groupId = 0; groupId < index.size(); groupId++) {
+            final List<InputType0> group0 = groupId < groups0.size() ? groups0.get(groupId) : null;
+            final List<InputType1> group1 = groupId < groups1.size() ? groups1.get(groupId) : null;
             coGroups.add(new Tuple2<>(
-                    group0,
+                    group0 == null ? Collections.emptyList() : group0,
                     group1 == null ? Collections.emptyList() : group1
             ));
         }
-        for (Collection<InputType1> group1 : groups1.values()) {
-            coGroups.add(new Tuple2<>(Collections.emptyList(), group1));
-        }
         ((CollectionChannel.Instance) outputs[0]).accept(coGroups);
 
         return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
     }
 
+    /**
+     * Adds a data quantum to a group.
+     *
+     * @param groupId     the ID of the group
+     * @param dataQuantum the data quantum
+     * @param groups      the groups by their IDs; padded with {@code null}s as needed
+     */
+    private static <T> void addToGroup(int groupId, T dataQuantum, List<List<T>> groups) {
+        while (groups.size() <= groupId) groups.add(null);
+        List<T> group = groups.get(groupId);
+        if (group == null) {
+            groups.set(groupId, group = new ArrayList<>());
+        }
+        group.add(dataQuantum);
+    }
+
     @Override
     public Collection<String> getLoadProfileEstimatorConfigurationKeys() {
         return Collections.singletonList("wayang.java.cogroup.load");
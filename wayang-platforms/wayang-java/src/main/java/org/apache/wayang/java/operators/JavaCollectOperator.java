@@ -23,6 +23,7 @@ import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimator;
 import org.apache.wayang.core.optimizer.cardinality.DefaultCardinalityEstimator;
+import org.apache.wayang.core.plan.wayangplan.BlockingOperator;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
 import org.apache.wayang.core.plan.wayangplan.UnaryToUnaryOperator;
 import org.apache.wayang.core.platform.ChannelDescriptor;
@@ -43,7 +44,8 @@ import java.util.stream.Collectors;
 /**
  * Converts {@link StreamChannel} into a {@link CollectionChannel}
  */
-public class JavaCollectOperator<Type> extends UnaryToUnaryOperator<Type, Type> implements JavaExecutionOperator {
+public class JavaCollectOperator<Type> extends UnaryToUnaryOperator<Type, Type>
+        implements JavaExecutionOperator, BlockingOperator {
 
     public JavaCollectOperator(DataSetType<Type> type) {
         super(type, type, false);
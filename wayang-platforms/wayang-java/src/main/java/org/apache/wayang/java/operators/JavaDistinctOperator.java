@@ -30,6 +30,7 @@ import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.hash.HashIndex;
 
 import java.util.Arrays;
 import java.util.Collection;
@@ -71,7 +72,11 @@ public class JavaDistinctOperator<Type>
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
-        ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).provideStream().distinct());
+        // The HashIndex is not thread-safe, so the input must not be processed in parallel.
+        final HashIndex<Type> index = HashIndex.create(
+                this.getInputType().getDataUnitType().getTypeClass(), operatorContext.getOutputCardinality(0)
+        );
+        ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).<Type>provideStream().sequential().filter(index::add));
 
         return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
     }
@@ -32,14 +32,14 @@ import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.hash.HashIndex;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Set;
-import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -77,7 +77,7 @@ public class JavaIntersectOperator<Type>
 
         // Strategy:
         // 1) Create a probing table for the smaller input. This must be a set to deal with duplicates there.
-        // 2) Probe the greater input against the table. Remove on probing to deal with duplicates there.
+        // 2) Probe the greater input against the table. Mark matches on probing to deal with duplicates there.
 
         final CardinalityEstimate cardinalityEstimate0 = operatorContext.getInputCardinality(0);
         final CardinalityEstimate cardinalityEstimate1 = operatorContext.getOutputCardinality(0);
@@ -98,20 +98,33 @@ public class JavaIntersectOperator<Type>
         final Collection<ExecutionLineageNode> executionLineageNodes = new LinkedList<>();
         final Collection<ChannelInstance> producedChannelInstances = new LinkedList<>();
         final Stream<Type> candidateStream;
-        final Set<Type> probingTable;
+        final HashIndex<Type> probingTable;
         if (isMaterialize0) {
             candidateStream = ((JavaChannelInstance) inputs[0]).provideStream();
-            probingTable = this.createProbingTable(((JavaChannelInstance) inputs[1]).provideStream());
+            probingTable = this.createProbingTable(
+                    ((JavaChannelInstance) inputs[1]).provideStream(), operatorContext.getInputCardinality(1)
+            );
             indexingExecutionLineageNode.addPredecessor(inputs[0].getLineage());
             probingExecutionLineageNode.addPredecessor(inputs[1].getLineage());
         } else {
             candidateStream = ((JavaChannelInstance) inputs[1]).provideStream();
-            probingTable = this.createProbingTable(((JavaChannelInstance) inputs[0]).provideStream());
+            probingTable = this.createProbingTable(
+                    ((JavaChannelInstance) inputs[0]).provideStream(), operatorContext.getInputCardinality(0)
+            );
             indexingExecutionLineageNode.addPredecessor(inputs[1].getLineage());
             probingExecutionLineageNode.addPredecessor(inputs[0].getLineage());
         }
 
-        Stream<Type> intersectStream = candidateStream.filter(probingTable::remove);
+        javaExecutor.recordHashTable(this, probingTable.getMemoryBytes());
+
+        // Neither the HashIndex nor the BitSet are thread-safe, so the inputs must not be processed in parallel.
+        final BitSet matchedIds = new BitSet(probingTable.size());
+        Stream<Type> intersectStream = candidateStream.sequential().filter(candidate -> {
+            final int id = probingTable.get(candidate);
+            if (id == HashIndex.ABSENT || matchedIds.get(id)) return false;
+            matchedIds.set(id);
+            return true;
+        });
         ((StreamChannel.Instance) outputs[0]).accept(intersectStream);
         outputs[0].getLineage().addPredecessor(probingExecutionLineageNode);
 
@@ -120,13 +133,18 @@ public class JavaIntersectOperator<Type>
     }
 
     /**
-     * Creates a new probing table. The can be altered then.
+     * Creates a new probing table.
      *
-     * @param stream for that the probing table should be created
+     * @param stream              for that the probing table should be created
+     * @param cardinalityEstimate the expected number of elements in the {@code stream} or {@code null} if unknown
      * @return the probing table
      */
-    private Set<Type> createProbingTable(Stream<Type> stream) {
-        return stream.collect(Collectors.toSet());
+    private HashIndex<Type> createProbingTable(Stream<Type> stream, CardinalityEstimate cardinalityEstimate) {
+        final HashIndex<Type> probingTable = HashIndex.create(
+                this.getType().getDataUnitType().getTypeClass(), cardinalityEstimate
+        );
+        stream.sequential().forEach(probingTable::add);
+        return probingTable;
     }
 
     @Override
@@ -36,14 +36,13 @@ import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.hash.ChainedHashTable;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Stream;
@@ -108,40 +107,29 @@ public class JavaJoinOperator<InputType0, InputType1, KeyType>
                 cardinalityEstimate0.getGeometricMeanEstimate() <= cardinalityEstimate1.getGeometricMeanEstimate();
 
         if (isMaterialize0) {
-            final int expectedNumElements =
-                    (int) cardinalityEstimate0.getGeometricMeanEstimate();
-            Map<KeyType, Collection<InputType0>> probeTable = new HashMap<>(expectedNumElements);
-            ((JavaChannelInstance) inputs[0]).<InputType0>provideStream().forEach(dataQuantum0 ->
-                    probeTable.compute(keyExtractor0.apply(dataQuantum0),
-                            (key, value) -> {
-                                value = value == null ? new LinkedList<>() : value;
-                                value.add(dataQuantum0);
-                                return value;
-                            }
-                    )
+            final ChainedHashTable<KeyType, InputType0> probeTable = new ChainedHashTable<>(
+                    this.keyDescriptor0.getOutputType().getTypeClass(), cardinalityEstimate0
             );
+            ((JavaChannelInstance) inputs[0]).<InputType0>provideStream().sequential().forEach(dataQuantum0 ->
+                    probeTable.add(keyExtractor0.apply(dataQuantum0), dataQuantum0)
+            );
+            javaExecutor.recordHashTable(this, probeTable.getMemoryBytes());
             joinStream = ((JavaChannelInstance) inputs[1]).<InputType1>provideStream().flatMap(dataQuantum1 ->
-                    probeTable.getOrDefault(keyExtractor1.apply(dataQuantum1), Collections.emptyList()).stream()
+                    probeTable.get(keyExtractor1.apply(dataQuantum1)).stream()
                             .map(dataQuantum0 -> new Tuple2<>(dataQuantum0, dataQuantum1)));
             indexingExecutionLineageNode.addPredecessor(inputs[0].getLineage());
             indexingExecutionLineageNode.collectAndMark(executionLineageNodes, producedChannelInstances);
             probingExecutionLineageNode.addPredecessor(inputs[1].getLineage());
         } else {
-            final int expectedNumElements = cardinalityEstimate1 == null ?
-                    1000 :
-                    (int) cardinalityEstimate1.getGeometricMeanEstimate();
-            Map<KeyType, Collection<InputType1>> probeTable = new HashMap<>(expectedNumElements);
-            ((JavaChannelInstance) inputs[1]).<InputType1>provideStream().forEach(dataQuantum1 ->
-                    probeTable.compute(keyExtractor1.apply(dataQuantum1),
-                            (key, value) -> {
-                                value = value == null ? new LinkedList<>() : value;
-                                value.add(dataQuantum1);
-                                return value;
-                            }
-                    )
+            final ChainedHashTable<KeyType, InputType1> probeTable = new ChainedHashTable<>(
+                    this.keyDescriptor1.getOutputType().getTypeClass(), cardinalityEstimate1
+            );
+            ((JavaChannelInstance) inputs[1]).<InputType1>provideStream().sequential().forEach(dataQuantum1 ->
+                    probeTable.add(keyExtractor1.apply(dataQuantum1), dataQuantum1)
             );
+            javaExecutor.recordHashTable(this, probeTable.getMemoryBytes());
             joinStream = ((JavaChannelInstance) inputs[0]).<InputType0>provideStream().flatMap(dataQuantum0 ->
-                    probeTable.getOrDefault(keyExtractor0.apply(dataQuantum0), Collections.emptyList()).stream()
+                    probeTable.get(keyExtractor0.apply(dataQuantum0)).stream()
                             .map(dataQuantum1 -> new Tuple2<>(dataQuantum0, dataQuantum1)));
             indexingExecutionLineageNode.addPredecessor(inputs[1].getLineage());
             indexingExecutionLineageNode.collectAndMark(executionLineageNodes, producedChannelInstances);
@@ -34,15 +34,15 @@ import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.hash.HashIndex;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
-import java.util.stream.Collectors;
 
 /**
  * Java implementation of the {@link MaterializedGroupByOperator}.
@@ -77,12 +77,18 @@ public class JavaMaterializedGroupByOperator<Type, KeyType>
         assert outputs.length == this.getNumOutputs();
 
         final Function<Type, KeyType> keyExtractor = javaExecutor.getCompiler().compile(this.keyDescriptor);
-        final Map<KeyType, List<Type>> collocation = ((JavaChannelInstance) inputs[0]).<Type>provideStream().collect(
-                Collectors.groupingBy(
-                        keyExtractor,
-                        Collectors.toList())); // Not sure if this is thread-safe... Will we use #parallelStream()?
-
-        ((CollectionChannel.Instance) outputs[0]).accept(collocation.values());
+        final HashIndex<KeyType> index = HashIndex.create(
+                this.keyDescriptor.getOutputType().getTypeClass(), operatorContext.getOutputCardinality(0)
+        );
+        final List<List<Type>> groups = new ArrayList<>();
+        ((JavaChannelInstance) inputs[0]).<Type>provideStream().sequential().forEach(dataQuantum -> {
+            final int groupId = index.getOrAdd(keyExtractor.apply(dataQuantum));
+            if (groupId == groups.size()) groups.add(new ArrayList<>());
+            groups.get(groupId).add(dataQuantum);
+        });
+        javaExecutor.recordHashTable(this, index.getMemoryBytes());
+
+        ((CollectionChannel.Instance) outputs[0]).accept(groups);
 
         return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
     }
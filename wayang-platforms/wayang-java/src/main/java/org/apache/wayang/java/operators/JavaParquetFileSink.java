@@ -0,0 +1,123 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.hadoop.ParquetFileWriter;
+import org.apache.parquet.hadoop.ParquetWriter;
+import org.apache.parquet.hadoop.example.ExampleParquetWriter;
+import org.apache.parquet.schema.MessageType;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.operators.ParquetFileSink;
+import org.apache.wayang.basic.util.parquet.ParquetRecords;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.java.channels.CollectionChannel;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.channels.StreamChannel;
+import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.platform.JavaPlatform;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Implementation of the {@link ParquetFileSink} for the {@link JavaPlatform}. It writes a single Parquet file.
+ */
+public class JavaParquetFileSink extends ParquetFileSink implements JavaExecutionOperator {
+
+    public JavaParquetFileSink(String outputUrl, String schema) {
+        super(outputUrl, schema);
+    }
+
+    public JavaParquetFileSink(ParquetFileSink that) {
+        super(that);
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            JavaExecutor javaExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == 1;
+        assert outputs.length == 0;
+
+        JavaChannelInstance input = (JavaChannelInstance) inputs[0];
+        final Iterator<Record> iterator = input.<Record>provideStream().iterator();
+
+        // The schema might have to be inferred from the first record.
+        final Record first = iterator.hasNext() ? iterator.next() : null;
+        if (first == null && !this.isSchemaSpecified()) {
+            throw new WayangException(String.format(
+                    "Cannot infer the Parquet schema for %s from an empty input; please specify it.", this.outputUrl
+            ));
+        }
+        final MessageType schema = this.getSchema(first);
+
+        try (ParquetWriter<Group> writer = ExampleParquetWriter.builder(new Path(this.outputUrl))
+                .withConf(new Configuration(true))
+                .withType(schema)
+                .withCompressionCodec(this.compressionCodec)
+                .withWriteMode(ParquetFileWriter.Mode.OVERWRITE)
+                .build()) {
+            if (first != null) {
+                writer.write(ParquetRecords.toGroup(first, schema));
+            }
+            while (iterator.hasNext()) {
+                writer.write(ParquetRecords.toGroup(iterator.next(), schema));
+            }
+        } catch (IOException e) {
+            throw new WayangException(String.format("Writing %s failed.", this.outputUrl), e);
+        }
+
+        return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.java.parquetfilesink.load";
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaParquetFileSink(this);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        throw new UnsupportedOperationException();
+    }
+
+}
@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators;
+
+import org.apache.commons.io.IOUtils;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.filter2.compat.FilterCompat;
+import org.apache.parquet.hadoop.ParquetReader;
+import org.apache.parquet.hadoop.example.GroupReadSupport;
+import org.apache.parquet.schema.MessageType;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.operators.ParquetFileSource;
+import org.apache.wayang.basic.util.parquet.ParquetFiles;
+import org.apache.wayang.basic.util.parquet.ParquetRecords;
+import org.apache.wayang.basic.util.parquet.ParquetSchemas;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.java.channels.StreamChannel;
+import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.platform.JavaPlatform;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Implementation of the {@link ParquetFileSource} for the {@link JavaPlatform}.
+ */
+public class JavaParquetFileSource extends ParquetFileSource implements JavaExecutionOperator {
+
+    public JavaParquetFileSource(String inputUrl, String... columnNames) {
+        super(inputUrl, columnNames);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JavaParquetFileSource(ParquetFileSource that) {
+        super(that);
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            JavaExecutor javaExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final String url = this.getInputUrl().trim();
+        final Configuration conf = new Configuration(true);
+        final List<Path> dataFiles;
+        final String[] columnNames;
+        final FilterCompat.Filter filter;
+        try {
+            dataFiles = ParquetFiles.listDataFiles(url, conf);
+            final MessageType requestedSchema = this.configureRead(conf);
+            columnNames = ParquetSchemas.getFieldNames(requestedSchema);
+            filter = this.getPushedDownPredicate(requestedSchema).map(FilterCompat::get).orElse(FilterCompat.NOOP);
+        } catch (IOException e) {
+            throw new WayangException(String.format("Reading %s failed.", url), e);
+        }
+
+        Stream<Record> records = dataFiles.stream().flatMap(dataFile -> streamRecords(dataFile, conf, filter, columnNames));
+        if (this.getPredicateDescriptor() != null) {
+            // Parquet only skips what the pushed-down predicate rules out, so we apply the exact predicate, too.
+            records = records.filter(javaExecutor.getCompiler().compile(this.getPredicateDescriptor()));
+        }
+        ((StreamChannel.Instance) outputs[0]).accept(records);
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    /**
+     * Creates a {@link Stream} of the {@link Record}s in a single Parquet file.
+     */
+    private static Stream<Record> streamRecords(Path dataFile,
+                                                Configuration conf,
+                                                FilterCompat.Filter filter,
+                                                String[] columnNames) {
+        try {
+            final ParquetReader<Group> reader = ParquetReader.builder(new GroupReadSupport(), dataFile)
+                    .withConf(conf)
+                    .withFilter(filter)
+                    .build();
+            final RecordIterator recordIterator = new RecordIterator(reader, columnNames);
+            return StreamSupport.stream(
+                    Spliterators.spliteratorUnknownSize(recordIterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                    false
+            ).onClose(recordIterator::close);
+        } catch (IOException e) {
+            throw new WayangException(String.format("Reading %s failed.", dataFile), e);
+        }
+    }
+
+    /**
+     * {@link Iterator} over the {@link Record}s provided by a {@link ParquetReader}.
+     */
+    private static class RecordIterator implements Iterator<Record>, AutoCloseable {
+
+        private final ParquetReader<Group> reader;
+
+        private final String[] columnNames;
+
+        private Group next;
+
+        RecordIterator(ParquetReader<Group> reader, String[] columnNames) {
+            this.reader = reader;
+            this.columnNames = columnNames;
+            this.advance();
+        }
+
+        private void advance() {
+            try {
+                this.next = this.reader.read();
+            } catch (IOException e) {
+                this.next = null;
+                throw new UncheckedIOException(e);
+            } finally {
+                if (this.next == null) {
+                    this.close();
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null;
+        }
+
+        @Override
+        public Record next() {
+            if (!this.hasNext()) throw new NoSuchElementException();
+            final Record record = ParquetRecords.toRecord(this.next, this.columnNames);
+            this.advance();
+            return record;
+        }
+
+        @Override
+        public void close() {
+            IOUtils.closeQuietly(this.reader);
+        }
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.java.parquetfilesource.load";
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(org.apache.wayang.core.api.Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                JavaExecutionOperator.super.createLoadProfileEstimator(configuration);
+        if (this.getPredicateDescriptor() != null) {
+            LoadProfileEstimators.nestUdfEstimator(optEstimator, this.getPredicateDescriptor(), configuration);
+        }
+        return optEstimator;
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaParquetFileSource(this);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        throw new UnsupportedOperationException(String.format("%s does not have input channels.", this));
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(StreamChannel.DESCRIPTOR);
+    }
+
+}
@@ -19,6 +19,7 @@
 package org.apache.wayang.java.operators;
 
 import org.apache.wayang.basic.operators.SampleOperator;
+import org.apache.wayang.basic.util.sketch.Reservoir;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
 import org.apache.wayang.core.platform.ChannelDescriptor;
@@ -32,24 +33,27 @@ import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
 
 import java.util.Arrays;
-import java.util.BitSet;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Random;
+import java.util.RandomAccess;
+import java.util.Set;
 import java.util.function.IntUnaryOperator;
 import java.util.function.LongUnaryOperator;
 import java.util.function.Predicate;
 
 /**
- * Java implementation of the {@link JavaRandomSampleOperator}. This sampling method is with replacement (i.e., duplicates may appear in the sample).
+ * Java implementation of the {@link SampleOperator} with {@link Methods#RANDOM} sampling. This sampling method is
+ * without replacement. For random-access {@link List}s, such as loop-invariant {@link CollectionChannel}s, it picks the
+ * sampled elements directly. Otherwise, if the dataset size is known, it selects the sample lazily in a single pass;
+ * else, it resorts to a {@link Reservoir}.
  */
 public class JavaRandomSampleOperator<Type>
         extends SampleOperator<Type>
         implements JavaExecutionOperator {
 
-    private Random rand;
-
     /**
      * Creates a new instance.
      *
@@ -79,50 +83,93 @@ public class JavaRandomSampleOperator<Type>
         assert outputs.length == this.getNumOutputs();
 
 
-        Integer sampleSize = (Integer) this.getSampleSize(operatorContext);
-        Long datasetSize = this.isDataSetSizeKnown() ? this.getDatasetSize() :
-                ((CollectionChannel.Instance) inputs[0]).provideCollection().size();
+        final int sampleSize = this.getSampleSize(operatorContext);
+        final long seed = this.getSeed(operatorContext);
+        if (inputs[0] instanceof CollectionChannel.Instance) {
+            final Collection<Type> collection = ((CollectionChannel.Instance) inputs[0]).provideCollection();
+            if (collection instanceof List && collection instanceof RandomAccess && sampleSize < collection.size()) {
+                // Typically, this is a loop-invariant input, so we should not scan it in every iteration.
+                final List<Type> list = (List<Type>) collection;
+                final int[] sampleIndices = drawSortedIndices(sampleSize, list.size(), new Random(seed));
+                ((StreamChannel.Instance) outputs[0]).accept(Arrays.stream(sampleIndices).mapToObj(list::get));
+                return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+            }
+        }
+
+        final long datasetSize;
+        if (this.isDataSetSizeKnown()) {
+            datasetSize = this.getDatasetSize();
+        } else if (inputs[0] instanceof CollectionChannel.Instance) {
+            datasetSize = ((CollectionChannel.Instance) inputs[0]).provideCollection().size();
+        } else {
+            // Without knowing the dataset size, we need to see the whole input before we can emit the sample.
+            final Reservoir<Type> reservoir = new Reservoir<>(sampleSize, seed);
+            ((JavaChannelInstance) inputs[0]).<Type>provideStream().forEach(reservoir::add);
+            ((StreamChannel.Instance) outputs[0]).accept(reservoir.getSample().stream());
+            return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+        }
 
         if (sampleSize >= datasetSize) { //return all
             ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).provideStream());
-        }
-        else {
-            long seed = this.getSeed(operatorContext);
-            rand = new Random(seed);
-
-            final int[] sampleIndices = new int[sampleSize];
-            final BitSet data = new BitSet();
-            for (int i = 0; i < sampleSize; i++) {
-                sampleIndices[i] = rand.nextInt(datasetSize.intValue());
-                while (data.get(sampleIndices[i])) //without replacement
-                    sampleIndices[i] = rand.nextInt(datasetSize.intValue());
-                data.set(sampleIndices[i]);
-            }
-            Arrays.sort(sampleIndices);
-
-            ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).<Type>provideStream().filter(new Predicate<Type>() {
-                        int streamIndex = 0;
-                        int sampleIndex = 0;
-
-                @Override
-                        public boolean test(Type element) {
-                            if (sampleIndex == sampleIndices.length) //we already picked all our samples
-                                return false;
-                            if (streamIndex == sampleIndices[sampleIndex]) {
-                                sampleIndex++;
-                                streamIndex++;
-                                return true;
-                            }
-                            streamIndex++;
-                            return false;
-                        }
-                    })
+        } else {
+            ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).<Type>provideStream()
+                    .filter(new SequentialSelection<>(sampleSize, datasetSize, new Random(seed)))
             );
         }
 
         return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
     }
 
+    /**
+     * Draws distinct indices uniformly at random via Floyd's algorithm, which takes only as many random numbers as
+     * there are indices to draw.
+     *
+     * @param numIndices the number of indices to draw
+     * @param bound      the exclusive upper bound for the indices
+     * @param random     provides randomness
+     * @return the indices in ascending order
+     */
+    static int[] drawSortedIndices(int numIndices, int bound, Random random) {
+        final Set<Integer> indices = new HashSet<>(numIndices * 2);
+        for (int candidate = bound - numIndices; candidate < bound; candidate++) {
+            final int index = random.nextInt(candidate + 1);
+            indices.add(indices.contains(index) ? candidate : index);
+        }
+        final int[] sortedIndices = indices.stream().mapToInt(Integer::intValue).toArray();
+        Arrays.sort(sortedIndices);
+        return sortedIndices;
+    }
+
+    /**
+     * Selects each data quantum with the probability of the number of data quanta still to be selected over the
+     * number of data quanta still to come (Knuth's "Algorithm S"). This yields a uniform sample of the given size
+     * without replacement in a single pass.
+     */
+    private static class SequentialSelection<T> implements Predicate<T> {
+
+        private final Random random;
+
+        private long numRemainingSelections;
+
+        private long numRemainingCandidates;
+
+        private SequentialSelection(long sampleSize, long datasetSize, Random random) {
+            this.numRemainingSelections = sampleSize;
+            this.numRemainingCandidates = datasetSize;
+            this.random = random;
+        }
+
+        @Override
+        public boolean test(T element) {
+            if (this.numRemainingSelections == 0) return false;
+            final boolean isSelected =
+                    this.random.nextDouble() * this.numRemainingCandidates < this.numRemainingSelections;
+            this.numRemainingCandidates--;
+            if (isSelected) this.numRemainingSelections--;
+            return isSelected;
+        }
+    }
+
     @Override
     public Collection<String> getLoadProfileEstimatorConfigurationKeys() {
         return Collections.singletonList("wayang.java.random-sample.load");
@@ -137,10 +184,7 @@ public class JavaRandomSampleOperator<Type>
     @Override
     public List<ChannelDescriptor> getSupportedInputChannels(int index) {
         assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
-        return this.isDataSetSizeKnown() ?
-                Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR) :
-                Collections.singletonList(CollectionChannel.DESCRIPTOR);
-
+        return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
     }
 
     @Override
@@ -35,21 +35,16 @@ import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.hash.HashIndex;
 
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.function.BiConsumer;
 import java.util.function.BinaryOperator;
 import java.util.function.Function;
-import java.util.function.Supplier;
-import java.util.stream.Collector;
-import java.util.stream.Collectors;
 
 /**
  * Java implementation of the {@link ReduceByOperator}.
@@ -93,10 +88,21 @@ public class JavaReduceByOperator<Type, KeyType>
         final BinaryOperator<Type> reduceFunction = javaExecutor.getCompiler().compile(this.reduceDescriptor);
         JavaExecutor.openFunction(this, reduceFunction, inputs, operatorContext);
 
-        final Map<KeyType, Type> reductionResult = ((JavaChannelInstance) inputs[0]).<Type>provideStream().collect(
-                Collectors.groupingBy(keyExtractor, new ReducingCollector<>(reduceFunction))
+        // Neither the HashIndex nor the reductionResult are thread-safe, so the input must not be processed in parallel.
+        final HashIndex<KeyType> index = HashIndex.create(
+                this.keyDescriptor.getOutputType().getTypeClass(), operatorContext.getOutputCardinality(0)
         );
-        ((CollectionChannel.Instance) outputs[0]).accept(reductionResult.values());
+        final List<Type> reductionResult = new ArrayList<>();
+        ((JavaChannelInstance) inputs[0]).<Type>provideStream().sequential().forEach(dataQuantum -> {
+            final int groupId = index.getOrAdd(keyExtractor.apply(dataQuantum));
+            if (groupId == reductionResult.size()) {
+                reductionResult.add(dataQuantum);
+            } else {
+                reductionResult.set(groupId, reduceFunction.apply(reductionResult.get(groupId), dataQuantum));
+            }
+        });
+        javaExecutor.recordHashTable(this, index.getMemoryBytes());
+        ((CollectionChannel.Instance) outputs[0]).accept(reductionResult);
 
         return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
     }
@@ -133,59 +139,4 @@ public class JavaReduceByOperator<Type, KeyType>
         return Collections.singletonList(CollectionChannel.DESCRIPTOR);
     }
 
-    /**
-     * Immitates {@link Collectors#reducing(BinaryOperator)} but assumes that there is always at least one element
-     * in each reduction.
-     */
-    private static class ReducingCollector<T> implements Collector<T, List<T>, T> {
-
-        private final BinaryOperator<T> reduceFunction;
-
-        ReducingCollector(BinaryOperator<T> reduceFunction) {
-            this.reduceFunction = reduceFunction;
-        }
-
-        @Override
-        public Supplier<List<T>> supplier() {
-            return () -> new ArrayList<>(1);
-        }
-
-        @Override
-        public BiConsumer<List<T>, T> accumulator() {
-            return (list, element) -> {
-                if (list.isEmpty()) {
-                    list.add(element);
-                } else {
-                    list.set(0, this.reduceFunction.apply(list.get(0), element));
-                }
-            };
-        }
-
-        @Override
-        public BinaryOperator<List<T>> combiner() {
-            return (list1, list2) -> {
-                if (list1.isEmpty()) {
-                    return list2;
-                } else if (list2.isEmpty()) {
-                    return list2;
-                } else {
-                    list1.set(0, this.reduceFunction.apply(list1.get(0), list2.get(0)));
-                    return list1;
-                }
-            };
-        }
-
-        @Override
-        public Function<List<T>, T> finisher() {
-            return list -> {
-                assert !list.isEmpty();
-                return list.get(0);
-            };
-        }
-
-        @Override
-        public Set<Characteristics> characteristics() {
-            return Collections.emptySet();
-        }
-    }
 }
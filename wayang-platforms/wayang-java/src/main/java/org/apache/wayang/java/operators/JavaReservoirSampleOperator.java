@@ -19,6 +19,7 @@
 package org.apache.wayang.java.operators;
 
 import org.apache.wayang.basic.operators.SampleOperator;
+import org.apache.wayang.basic.util.sketch.Reservoir;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
 import org.apache.wayang.core.platform.ChannelDescriptor;
@@ -35,21 +36,33 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Random;
 import java.util.function.IntUnaryOperator;
 import java.util.function.LongUnaryOperator;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 /**
- * Java implementation of the {@link JavaReservoirSampleOperator}.
+ * Java implementation of the {@link SampleOperator} with {@link Methods#RESERVOIR} and
+ * {@link Methods#PARALLEL_RESERVOIR} sampling. It samples in a single pass without knowing the dataset size. For
+ * the latter method, it splits materialized inputs into fixed-size partitions, samples them in parallel, and merges
+ * the partial {@link Reservoir}s. Streamed inputs are always sampled sequentially.
  */
 public class JavaReservoirSampleOperator<Type>
         extends SampleOperator<Type>
         implements JavaExecutionOperator {
 
-    private Random rand;
+    /**
+     * The number of data quanta per partition for {@link Methods#PARALLEL_RESERVOIR} sampling.
+     */
+    private static final int PARTITION_SIZE = 1 << 16;
+
+    /**
+     * Derives the seeds of the partitions from the seed of the operator (golden ratio increment as in
+     * {@link java.util.SplittableRandom}).
+     */
+    private static final long SEED_INCREMENT = 0x9e3779b97f4a7c15L;
 
     /**
      * Creates a new instance.
@@ -65,7 +78,9 @@ public class JavaReservoirSampleOperator<Type>
      */
     public JavaReservoirSampleOperator(SampleOperator<Type> that) {
         super(that);
-        assert that.getSampleMethod() == Methods.RESERVOIR || that.getSampleMethod() == Methods.ANY;
+        assert that.getSampleMethod() == Methods.RESERVOIR
+                || that.getSampleMethod() == Methods.PARALLEL_RESERVOIR
+                || that.getSampleMethod() == Methods.ANY;
     }
 
     @Override
@@ -78,40 +93,60 @@ public class JavaReservoirSampleOperator<Type>
         assert inputs.length == this.getNumInputs();
         assert outputs.length == this.getNumOutputs();
 
-        int sampleSize = this.getSampleSize(operatorContext);
-
-        if (sampleSize >= datasetSize) { //return all
-            ((CollectionChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).provideStream().collect(Collectors.toList()));
+        final int sampleSize = this.getSampleSize(operatorContext);
+        final Stream<Type> inputStream = ((JavaChannelInstance) inputs[0]).provideStream();
+        if (this.isDataSetSizeKnown() && sampleSize >= this.getDatasetSize()) { //return all
+            ((CollectionChannel.Instance) outputs[0]).accept(inputStream.collect(Collectors.toList()));
+            return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
         }
-        else {
-            long seed = this.getSeed(operatorContext);
-            rand = new Random(seed);
 
-            ((CollectionChannel.Instance) outputs[0]).accept(reservoirSample(rand, ((JavaChannelInstance) inputs[0]).<Type>provideStream().iterator(), sampleSize));
+        final long seed = this.getSeed(operatorContext);
+        final Reservoir<Type> reservoir;
+        if (this.getSampleMethod() == Methods.PARALLEL_RESERVOIR && inputs[0] instanceof CollectionChannel.Instance) {
+            reservoir = sampleInParallel(
+                    ((CollectionChannel.Instance) inputs[0]).provideCollection(), sampleSize, seed
+            );
+        } else {
+            // Streams are sampled sequentially, as parallelizing them would parallelize their whole upstream.
+            reservoir = new Reservoir<>(sampleSize, seed);
+            inputStream.sequential().forEach(reservoir::add);
         }
+        ((CollectionChannel.Instance) outputs[0]).accept(reservoir.getSample());
+
         return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
     }
 
-    private static <T> List<T> reservoirSample(Random rand, Iterator<T> items, long m) {
-        ArrayList<T> res = new ArrayList<T>(Math.toIntExact(m));
-        int count = 0;
-        while (items.hasNext()) {
-            T item = items.next();
-            count++;
-            if (count <= m)
-                res.add(item);
-            else {
-                int r = rand.nextInt(count);
-                if (r < m)
-                    res.set(r, item);
-            }
+    /**
+     * Splits the {@code collection} into partitions of {@link #PARTITION_SIZE} data quanta, samples each with a seed
+     * derived from the {@code seed} and its index, and merges the partial {@link Reservoir}s in partition order.
+     * Hence, the sample depends only on the {@code seed} and not on the thread scheduling.
+     */
+    private static <T> Reservoir<T> sampleInParallel(Collection<T> collection, int sampleSize, long seed) {
+        final List<T> list = collection instanceof List ? (List<T>) collection : new ArrayList<>(collection);
+        final int numPartitions = Math.max(1, (list.size() + PARTITION_SIZE - 1) / PARTITION_SIZE);
+        final List<Reservoir<T>> partialReservoirs = IntStream.range(0, numPartitions).parallel()
+                .mapToObj(partition -> {
+                    final Reservoir<T> partialReservoir =
+                            new Reservoir<>(sampleSize, seed + partition * SEED_INCREMENT);
+                    final int end = (int) Math.min(list.size(), (partition + 1L) * PARTITION_SIZE);
+                    for (T dataQuantum : list.subList(partition * PARTITION_SIZE, end)) {
+                        partialReservoir.add(dataQuantum);
+                    }
+                    return partialReservoir;
+                })
+                .collect(Collectors.toList());
+        final Reservoir<T> reservoir = partialReservoirs.get(0);
+        for (Reservoir<T> partialReservoir : partialReservoirs.subList(1, numPartitions)) {
+            reservoir.merge(partialReservoir);
         }
-        return res;
+        return reservoir;
     }
 
     @Override
     public Collection<String> getLoadProfileEstimatorConfigurationKeys() {
-        return Collections.singleton("wayang.java.reservoir-sample.load");
+        return Collections.singleton(this.getSampleMethod() == Methods.PARALLEL_RESERVOIR ?
+                "wayang.java.parallel-reservoir-sample.load" :
+                "wayang.java.reservoir-sample.load");
     }
 
     @Override
@@ -0,0 +1,303 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators;
+
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.operators.JoinOperator;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.java.channels.CollectionChannel;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.channels.StreamChannel;
+import org.apache.wayang.java.execution.ExternalSorter;
+import org.apache.wayang.java.execution.JavaExecutor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Java implementation of the {@link JoinOperator} that sorts both inputs by their keys and merges them. Inputs that
+ * are already sorted by their keys (see {@link JavaSortOperator#isSortedBy}) are not sorted again. Sorting spills to
+ * disk if necessary, so that, unlike the {@link JavaJoinOperator}, this operator does not need to hold an input in
+ * memory. The keys must be {@link Comparable}.
+ */
+public class JavaSortMergeJoinOperator<InputType0, InputType1, KeyType>
+        extends JoinOperator<InputType0, InputType1, KeyType>
+        implements JavaExecutionOperator {
+
+    /**
+     * Creates a new instance.
+     */
+    public JavaSortMergeJoinOperator(DataSetType<InputType0> inputType0,
+                                     DataSetType<InputType1> inputType1,
+                                     TransformationDescriptor<InputType0, KeyType> keyDescriptor0,
+                                     TransformationDescriptor<InputType1, KeyType> keyDescriptor1) {
+
+        super(keyDescriptor0, keyDescriptor1, inputType0, inputType1);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JavaSortMergeJoinOperator(JoinOperator<InputType0, InputType1, KeyType> that) {
+        super(that);
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            JavaExecutor javaExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final Function<InputType0, KeyType> keyExtractor0 = javaExecutor.getCompiler().compile(this.keyDescriptor0);
+        final Function<InputType1, KeyType> keyExtractor1 = javaExecutor.getCompiler().compile(this.keyDescriptor1);
+
+        final Stream<InputType0> sortedStream0 = this.provideSortedStream(
+                (JavaChannelInstance) inputs[0], this.keyDescriptor0, keyExtractor0, javaExecutor
+        );
+        final Stream<InputType1> sortedStream1 = this.provideSortedStream(
+                (JavaChannelInstance) inputs[1], this.keyDescriptor1, keyExtractor1, javaExecutor
+        );
+
+        final MergeJoinIterator<InputType0, InputType1, KeyType> mergeJoinIterator = new MergeJoinIterator<>(
+                sortedStream0.iterator(), keyExtractor0, sortedStream1.iterator(), keyExtractor1
+        );
+        final Stream<Tuple2<InputType0, InputType1>> joinStream = StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(mergeJoinIterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false
+        ).onClose(() -> {
+            sortedStream0.close();
+            sortedStream1.close();
+        });
+        ((StreamChannel.Instance) outputs[0]).accept(joinStream);
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    /**
+     * Provides the data quanta of the given input sorted by their keys.
+     */
+    private <T> Stream<T> provideSortedStream(JavaChannelInstance input,
+                                              TransformationDescriptor<T, KeyType> keyDescriptor,
+                                              Function<T, KeyType> keyExtractor,
+                                              JavaExecutor javaExecutor) {
+        if (JavaSortOperator.isSortedBy(input.getChannel(), keyDescriptor)) {
+            return input.provideStream();
+        }
+        final ExternalSorter<T, KeyType> sorter = new ExternalSorter<>(keyExtractor, javaExecutor.getConfiguration());
+        final Stream<T> sortedStream = sorter.sort(input.provideStream());
+        javaExecutor.recordSpill(this, sorter.getSpilledBytes());
+        return sortedStream;
+    }
+
+    /**
+     * Joins two {@link Iterator}s that are sorted by their keys.
+     */
+    private static class MergeJoinIterator<InputType0, InputType1, KeyType>
+            implements Iterator<Tuple2<InputType0, InputType1>> {
+
+        private final Iterator<InputType0> iterator0;
+
+        private final Function<InputType0, KeyType> keyExtractor0;
+
+        private final Iterator<InputType1> iterator1;
+
+        private final Function<InputType1, KeyType> keyExtractor1;
+
+        /**
+         * The current data quantum from {@link #iterator0} and its key or {@code null} if exhausted.
+         */
+        private InputType0 current0;
+
+        private KeyType currentKey0;
+
+        /**
+         * The current data quantum from {@link #iterator1} and its key or {@code null} if exhausted.
+         */
+        private InputType1 current1;
+
+        private KeyType currentKey1;
+
+        /**
+         * The data quanta from {@link #iterator1} that share the key {@link #groupKey}, which {@link #current0} is
+         * being joined with.
+         */
+        private final List<InputType1> group = new ArrayList<>();
+
+        private KeyType groupKey;
+
+        private int groupPosition;
+
+        private Tuple2<InputType0, InputType1> next;
+
+        private MergeJoinIterator(Iterator<InputType0> iterator0,
+                                  Function<InputType0, KeyType> keyExtractor0,
+                                  Iterator<InputType1> iterator1,
+                                  Function<InputType1, KeyType> keyExtractor1) {
+            this.iterator0 = iterator0;
+            this.keyExtractor0 = keyExtractor0;
+            this.iterator1 = iterator1;
+            this.keyExtractor1 = keyExtractor1;
+            this.advance0();
+            this.advance1();
+        }
+
+        private void advance0() {
+            if (this.iterator0.hasNext()) {
+                this.current0 = this.iterator0.next();
+                this.currentKey0 = this.keyExtractor0.apply(this.current0);
+            } else {
+                this.current0 = null;
+                this.currentKey0 = null;
+            }
+        }
+
+        private void advance1() {
+            if (this.iterator1.hasNext()) {
+                this.current1 = this.iterator1.next();
+                this.currentKey1 = this.keyExtractor1.apply(this.current1);
+            } else {
+                this.current1 = null;
+                this.currentKey1 = null;
+            }
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <KeyType> int compare(KeyType key0, KeyType key1) {
+            return ((Comparable<KeyType>) key0).compareTo(key1);
+        }
+
+        /**
+         * Finds the next join partners.
+         *
+         * @return whether there are any
+         */
+        private boolean computeNext() {
+            while (true) {
+                // Join the current data quantum from the first input with the current group.
+                if (this.groupPosition < this.group.size()) {
+                    this.next = new Tuple2<>(this.current0, this.group.get(this.groupPosition++));
+                    return true;
+                }
+
+                // Move on to the next data quantum from the first input. It might share the key of the group.
+                if (!this.group.isEmpty()) {
+                    this.advance0();
+                    if (this.current0 != null && compare(this.currentKey0, this.groupKey) == 0) {
+                        this.groupPosition = 0;
+                        continue;
+                    }
+                    this.group.clear();
+                    this.groupKey = null;
+                }
+
+                // Find the next matching keys and gather the group from the second input.
+                if (this.current0 == null || this.current1 == null) {
+                    return false;
+                }
+                final int comparison = compare(this.currentKey0, this.currentKey1);
+                if (comparison < 0) {
+                    this.advance0();
+                } else if (comparison > 0) {
+                    this.advance1();
+                } else {
+                    this.groupKey = this.currentKey1;
+                    do {
+                        this.group.add(this.current1);
+                        this.advance1();
+                    } while (this.current1 != null && compare(this.groupKey, this.currentKey1) == 0);
+                    this.groupPosition = 0;
+                }
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next != null || this.computeNext();
+        }
+
+        @Override
+        public Tuple2<InputType0, InputType1> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            final Tuple2<InputType0, InputType1> next = this.next;
+            this.next = null;
+            return next;
+        }
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.java.sortmergejoin.load";
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                JavaExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor0, configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor1, configuration);
+        return optEstimator;
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaSortMergeJoinOperator<>(this.getInputType0(), this.getInputType1(),
+                this.getKeyDescriptor0(), this.getKeyDescriptor1());
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(StreamChannel.DESCRIPTOR);
+    }
+
+}
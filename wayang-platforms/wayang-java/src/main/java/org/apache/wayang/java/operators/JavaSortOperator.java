@@ -18,9 +18,11 @@
 
 package org.apache.wayang.java.operators;
 
+import org.apache.wayang.basic.function.ProjectionDescriptor;
 import org.apache.wayang.basic.operators.SortOperator;
 import org.apache.wayang.core.function.TransformationDescriptor;
 import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.executionplan.Channel;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
 import org.apache.wayang.core.platform.ChannelDescriptor;
 import org.apache.wayang.core.platform.ChannelInstance;
@@ -30,6 +32,7 @@ import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
+import org.apache.wayang.java.execution.ExternalSorter;
 import org.apache.wayang.java.execution.JavaExecutor;
 
 import java.util.Arrays;
@@ -39,7 +42,8 @@ import java.util.List;
 import java.util.function.Function;
 
 /**
- * Java implementation of the {@link SortOperator}.
+ * Java implementation of the {@link SortOperator}. It sorts via an {@link ExternalSorter}, so that inputs that do not
+ * fit into memory are spilled to disk.
  */
 public class JavaSortOperator<Type, Key>
         extends SortOperator<Type, Key>
@@ -74,11 +78,46 @@ public class JavaSortOperator<Type, Key>
         assert outputs.length == this.getNumOutputs();
 
         final Function<Type, Key> keyExtractor = javaExecutor.getCompiler().compile(this.keyDescriptor);
+        final ExternalSorter<Type, Key> sorter = new ExternalSorter<>(keyExtractor, javaExecutor.getConfiguration());
 
-        ((StreamChannel.Instance) outputs[0]).accept(((JavaChannelInstance) inputs[0]).<Type>provideStream()
-                .sorted((e1, e2) -> ((Comparable)keyExtractor.apply(e1)).compareTo(keyExtractor.apply(e2))));
+        ((StreamChannel.Instance) outputs[0]).accept(sorter.sort(((JavaChannelInstance) inputs[0]).provideStream()));
+        javaExecutor.recordSpill(this, sorter.getSpilledBytes());
 
-        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+        // Sorting drains the input right away.
+        return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+    }
+
+    /**
+     * Tells whether the data quanta in the given {@link Channel} are sorted by the given key, i.e., whether they are
+     * produced by a {@link JavaSortOperator} with the same key, possibly followed by a {@link JavaCollectOperator}.
+     * Keys are considered to be the same if they are specified by the same {@link TransformationDescriptor}, the same
+     * function, or {@link ProjectionDescriptor}s of the same fields.
+     *
+     * @param channel       the {@link Channel}
+     * @param keyDescriptor describes the key
+     * @return whether the data quanta are sorted by the key
+     */
+    public static boolean isSortedBy(Channel channel, TransformationDescriptor<?, ?> keyDescriptor) {
+        final ExecutionOperator producer = channel.getProducerOperator();
+        if (producer instanceof JavaSortOperator) {
+            return isSameKey(((JavaSortOperator<?, ?>) producer).getKeyDescriptor(), keyDescriptor);
+        } else if (producer instanceof JavaCollectOperator && channel.getProducer() != null) {
+            return isSortedBy(channel.getProducer().getInputChannel(0), keyDescriptor);
+        }
+        return false;
+    }
+
+    private static boolean isSameKey(TransformationDescriptor<?, ?> keyDescriptor1,
+                                     TransformationDescriptor<?, ?> keyDescriptor2) {
+        if (keyDescriptor1 == keyDescriptor2
+                || keyDescriptor1.getJavaImplementation() == keyDescriptor2.getJavaImplementation()) {
+            return true;
+        }
+        return keyDescriptor1 instanceof ProjectionDescriptor
+                && keyDescriptor2 instanceof ProjectionDescriptor
+                && ((ProjectionDescriptor<?, ?>) keyDescriptor1).getFieldNames().equals(
+                ((ProjectionDescriptor<?, ?>) keyDescriptor2).getFieldNames()
+        );
     }
 
     @Override
@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators;
+
+import org.apache.wayang.basic.operators.SampleOperator;
+import org.apache.wayang.basic.util.sketch.Reservoir;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.java.channels.CollectionChannel;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.channels.StreamChannel;
+import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.hash.HashIndex;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Java implementation of the {@link SampleOperator} with {@link Methods#STRATIFIED} sampling. It keeps a
+ * {@link Reservoir} per stratum and thus samples in a single pass.
+ */
+public class JavaStratifiedSampleOperator<Type, KeyType>
+        extends SampleOperator<Type>
+        implements JavaExecutionOperator {
+
+    /**
+     * Creates a new instance.
+     *
+     * @param sampleSizeFunction size of the sample of each stratum in dependence of the current iteration number
+     * @param stratumKeyDescriptor extracts the stratum of data quanta
+     */
+    public JavaStratifiedSampleOperator(IntUnaryOperator sampleSizeFunction,
+                                        DataSetType<Type> type,
+                                        LongUnaryOperator seedFunction,
+                                        TransformationDescriptor<Type, KeyType> stratumKeyDescriptor) {
+        super(sampleSizeFunction, type, Methods.STRATIFIED, seedFunction);
+        this.setStratumKeyDescriptor(stratumKeyDescriptor);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JavaStratifiedSampleOperator(SampleOperator<Type> that) {
+        super(that);
+        assert that.getSampleMethod() == Methods.STRATIFIED && that.getStratumKeyDescriptor() != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            JavaExecutor javaExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final TransformationDescriptor<Type, KeyType> keyDescriptor =
+                (TransformationDescriptor<Type, KeyType>) this.getStratumKeyDescriptor();
+        final Function<Type, KeyType> keyExtractor = javaExecutor.getCompiler().compile(keyDescriptor);
+        final HashIndex<KeyType> index = HashIndex.create(
+                keyDescriptor.getOutputType().getTypeClass(), operatorContext.getOutputCardinality(0)
+        );
+        final int sampleSize = this.getSampleSize(operatorContext);
+        final Random random = new Random(this.getSeed(operatorContext));
+        final List<Reservoir<Type>> reservoirs = new ArrayList<>();
+        ((JavaChannelInstance) inputs[0]).<Type>provideStream().forEach(dataQuantum -> {
+            final int stratumId = index.getOrAdd(keyExtractor.apply(dataQuantum));
+            if (stratumId == reservoirs.size()) reservoirs.add(new Reservoir<>(sampleSize, random));
+            reservoirs.get(stratumId).add(dataQuantum);
+        });
+        javaExecutor.recordHashTable(this, index.getMemoryBytes());
+
+        final List<Type> sample = new ArrayList<>();
+        for (Reservoir<Type> reservoir : reservoirs) {
+            sample.addAll(reservoir.getSample());
+        }
+        ((CollectionChannel.Instance) outputs[0]).accept(sample);
+
+        return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.java.stratified-sample.load";
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                JavaExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.getStratumKeyDescriptor(), configuration);
+        return optEstimator;
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaStratifiedSampleOperator<>(this);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Arrays.asList(CollectionChannel.DESCRIPTOR, StreamChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(CollectionChannel.DESCRIPTOR);
+    }
+
+}
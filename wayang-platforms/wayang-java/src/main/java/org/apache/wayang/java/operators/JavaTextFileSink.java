@@ -32,6 +32,7 @@ import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
 import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.core.util.fs.FileSystem;
 import org.apache.wayang.core.util.fs.FileSystems;
+import org.apache.wayang.core.util.fs.RandomAccessFileSystem;
 import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 import org.apache.wayang.java.channels.StreamChannel;
@@ -42,6 +43,9 @@ import java.io.BufferedWriter;
 import java.io.IOException;
 import java.io.OutputStreamWriter;
 import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
@@ -75,7 +79,7 @@ public class JavaTextFileSink<T> extends TextFileSink<T> implements JavaExecutio
         final Function<T, String> formatter = javaExecutor.getCompiler().compile(this.formattingDescriptor);
 
 
-        try (BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(fs.create(this.textFileUrl)))) {
+        try (BufferedWriter writer = new BufferedWriter(this.createWriter(fs), 1 << 16)) {
             input.<T>provideStream().forEach(
                     dataQuantum -> {
                         try {
@@ -93,6 +97,20 @@ public class JavaTextFileSink<T> extends TextFileSink<T> implements JavaExecutio
         return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
     }
 
+    /**
+     * Creates a {@link Writer} for the {@link #textFileUrl}. If possible, it writes directly to a channel.
+     */
+    private Writer createWriter(FileSystem fs) throws IOException {
+        if (fs instanceof RandomAccessFileSystem) {
+            return Channels.newWriter(
+                    ((RandomAccessFileSystem) fs).createChannel(this.textFileUrl),
+                    StandardCharsets.UTF_8.newEncoder(),
+                    -1
+            );
+        }
+        return new OutputStreamWriter(fs.create(this.textFileUrl));
+    }
+
 
     @Override
     public String getLoadProfileEstimatorConfigurationKey() {
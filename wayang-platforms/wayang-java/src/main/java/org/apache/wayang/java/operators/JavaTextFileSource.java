@@ -19,7 +19,9 @@
 package org.apache.wayang.java.operators;
 
 import org.apache.wayang.basic.operators.TextFileSource;
+import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.monitor.ProgressTracker;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
 import org.apache.wayang.core.platform.ChannelDescriptor;
@@ -28,6 +30,8 @@ import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
 import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.core.util.fs.FileSystem;
 import org.apache.wayang.core.util.fs.FileSystems;
+import org.apache.wayang.core.util.fs.FileUtils;
+import org.apache.wayang.core.util.fs.RandomAccessFileSystem;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
 
@@ -35,6 +39,7 @@ import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.nio.charset.Charset;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -73,12 +78,33 @@ public class JavaTextFileSource extends TextFileSource implements JavaExecutionO
                 () -> new WayangException(String.format("Cannot access file system of %s.", url))
         );
 
-        try {
-            final InputStream inputStream = fs.open(url);
-            Stream<String> lines = new BufferedReader(new InputStreamReader(inputStream)).lines();
+        final Charset charset = Charset.forName(this.getEncoding());
+
+        // The bytes of the source file are known upfront, the records are counted as they are streamed.
+        final ProgressTracker progressTracker = ((StreamChannel.Instance) outputs[0]).getProgressTracker();
+        if (progressTracker != null) {
+            FileSystems.getFileSize(url).ifPresent(progressTracker::addBytes);
+        }
+
+        if (fs instanceof RandomAccessFileSystem) {
+            // Read the file split by split, thereby avoiding intermediate stream copies. Compressed files are
+            // decompressed on the fly and are only split if their format allows to.
+            final Configuration configuration = javaExecutor.getConfiguration();
+            Stream<String> lines = FileUtils.streamLines(
+                    url,
+                    configuration.getLongProperty("wayang.java.textfilesource.splitsize", FileUtils.DEFAULT_SPLIT_SIZE),
+                    configuration.getBooleanProperty("wayang.java.textfilesource.parallel", false),
+                    charset
+            );
             ((StreamChannel.Instance) outputs[0]).accept(lines);
-        } catch (IOException e) {
-            throw new WayangException(String.format("Reading %s failed.", url), e);
+        } else {
+            try {
+                final InputStream inputStream = this.getCompression().decompress(fs.open(url));
+                Stream<String> lines = new BufferedReader(new InputStreamReader(inputStream, charset)).lines();
+                ((StreamChannel.Instance) outputs[0]).accept(lines);
+            } catch (IOException e) {
+                throw new WayangException(String.format("Reading %s failed.", url), e);
+            }
         }
 
         ExecutionLineageNode prepareLineageNode = new ExecutionLineageNode(operatorContext);
@@ -0,0 +1,253 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.wayang.java.operators.batch;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.data.RecordBatch;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.operators.JoinOperator;
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.java.channels.RecordBatchChannel;
+import org.apache.wayang.java.channels.StreamChannel;
+import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.hash.LongKeyIndex;
+import org.apache.wayang.java.operators.JavaExecutionOperator;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Batch-at-a-time Java implementation of the {@link JoinOperator} for {@link Record}s whose keys are single integral
+ * fields (see {@link RecordBatches#getIntegralKeyField(TransformationDescriptor)}). The smaller input is indexed in an
+ * unboxed hash table; the other input is probed with its primitive key column.
+ */
+public class JavaBatchJoinOperator<KeyType>
+        extends JoinOperator<Record, Record, KeyType>
+        implements JavaExecutionOperator {
+
+    public JavaBatchJoinOperator(DataSetType<Record> inputType0,
+                                 DataSetType<Record> inputType1,
+                                 TransformationDescriptor<Record, KeyType> keyDescriptor0,
+                                 TransformationDescriptor<Record, KeyType> keyDescriptor1) {
+        super(keyDescriptor0, keyDescriptor1, inputType0, inputType1);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JavaBatchJoinOperator(JoinOperator<Record, Record, KeyType> that) {
+        super(that);
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            JavaExecutor javaExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final int keyField0 = RecordBatches.getIntegralKeyField(this.keyDescriptor0);
+        final int keyField1 = RecordBatches.getIntegralKeyField(this.keyDescriptor1);
+        assert keyField0 >= 0 && keyField1 >= 0;
+
+        final CardinalityEstimate cardinalityEstimate0 = operatorContext.getInputCardinality(0);
+        final CardinalityEstimate cardinalityEstimate1 = operatorContext.getInputCardinality(1);
+        boolean isMaterialize0 = cardinalityEstimate0 != null &&
+                cardinalityEstimate1 != null &&
+                cardinalityEstimate0.getGeometricMeanEstimate() <= cardinalityEstimate1.getGeometricMeanEstimate();
+        final int buildIndex = isMaterialize0 ? 0 : 1, probeIndex = 1 - buildIndex;
+        final CardinalityEstimate buildCardinality = isMaterialize0 ? cardinalityEstimate0 : cardinalityEstimate1;
+
+        ExecutionLineageNode indexingExecutionLineageNode = new ExecutionLineageNode(operatorContext);
+        indexingExecutionLineageNode.add(LoadProfileEstimators.createFromSpecification(
+                "wayang.java.batchjoin.load.indexing", javaExecutor.getConfiguration()
+        ));
+        ExecutionLineageNode probingExecutionLineageNode = new ExecutionLineageNode(operatorContext);
+        probingExecutionLineageNode.add(LoadProfileEstimators.createFromSpecification(
+                "wayang.java.batchjoin.load.probing", javaExecutor.getConfiguration()
+        ));
+        Collection<ExecutionLineageNode> executionLineageNodes = new LinkedList<>();
+        Collection<ChannelInstance> producedChannelInstances = new LinkedList<>();
+
+        final HashTable hashTable = new HashTable(
+                isMaterialize0 ? keyField0 : keyField1,
+                buildCardinality == null ? 1000 : (int) Math.min(buildCardinality.getGeometricMeanEstimate(), 1 << 24)
+        );
+        ((RecordBatchChannel.Instance) inputs[buildIndex]).provideBatches().forEach(hashTable::add);
+        final int probeKeyField = isMaterialize0 ? keyField1 : keyField0;
+        final Stream<Tuple2<Record, Record>> joinStream = ((RecordBatchChannel.Instance) inputs[probeIndex]).provideBatches()
+                .flatMap(batch -> hashTable.probe(batch, probeKeyField, isMaterialize0).stream());
+        indexingExecutionLineageNode.addPredecessor(inputs[buildIndex].getLineage());
+        indexingExecutionLineageNode.collectAndMark(executionLineageNodes, producedChannelInstances);
+        probingExecutionLineageNode.addPredecessor(inputs[probeIndex].getLineage());
+
+        ((StreamChannel.Instance) outputs[0]).accept(joinStream);
+        outputs[0].getLineage().addPredecessor(probingExecutionLineageNode);
+
+        return new Tuple<>(executionLineageNodes, producedChannelInstances);
+    }
+
+    /**
+     * Indexes the rows of {@link RecordBatch}es by their {@code long} keys. Rows with equal keys are chained.
+     */
+    private static class HashTable {
+
+        private static final int NO_ENTRY = -1;
+
+        private final int keyField;
+
+        /**
+         * Maps keys to the most recently added entry with that key.
+         */
+        private final LongKeyIndex index;
+
+        private final List<RecordBatch> batches = new ArrayList<>();
+
+        /**
+         * Describe the entries, i.e., the indexed rows.
+         */
+        private int[] entryBatches, entryRows, nextEntries;
+
+        /**
+         * Lazily materialized entries.
+         */
+        private Record[] entryRecords;
+
+        private int numEntries = 0;
+
+        /**
+         * The most recently added entry with a {@code null} key.
+         */
+        private int nullKeyEntry = NO_ENTRY;
+
+        HashTable(int keyField, int expectedNumEntries) {
+            this.keyField = keyField;
+            this.index = new LongKeyIndex(expectedNumEntries);
+            final int capacity = Math.max(16, Math.min(expectedNumEntries, 1 << 20));
+            this.entryBatches = new int[capacity];
+            this.entryRows = new int[capacity];
+            this.nextEntries = new int[capacity];
+            this.entryRecords = new Record[capacity];
+        }
+
+        void add(RecordBatch batch) {
+            final int batchIndex = this.batches.size();
+            this.batches.add(batch);
+            final long[] keys = batch.getPrimitiveColumn(this.keyField);
+            final boolean hasNulls = batch.hasNulls(this.keyField);
+            for (int row = 0; row < batch.size(); row++) {
+                if (this.numEntries == this.entryRows.length) this.grow();
+                final int entry = this.numEntries++;
+                this.entryBatches[entry] = batchIndex;
+                this.entryRows[entry] = row;
+                if (hasNulls && batch.isNull(this.keyField, row)) {
+                    this.nextEntries[entry] = this.nullKeyEntry;
+                    this.nullKeyEntry = entry;
+                } else {
+                    final int previousEntry = this.index.putIfAbsent(keys[row], entry);
+                    this.nextEntries[entry] = previousEntry;
+                    if (previousEntry != NO_ENTRY) this.index.replace(keys[row], entry);
+                }
+            }
+        }
+
+        private void grow() {
+            final int capacity = this.entryRows.length << 1;
+            this.entryBatches = Arrays.copyOf(this.entryBatches, capacity);
+            this.entryRows = Arrays.copyOf(this.entryRows, capacity);
+            this.nextEntries = Arrays.copyOf(this.nextEntries, capacity);
+            this.entryRecords = Arrays.copyOf(this.entryRecords, capacity);
+        }
+
+        /**
+         * Joins the rows of a {@link RecordBatch} with the indexed rows.
+         *
+         * @param batch          the {@link RecordBatch} to probe
+         * @param keyField       the key field of the {@code batch}
+         * @param isBuildInput0  whether the indexed rows should be the first field of the join products
+         * @return the join products
+         */
+        List<Tuple2<Record, Record>> probe(RecordBatch batch, int keyField, boolean isBuildInput0) {
+            final List<Tuple2<Record, Record>> joinProducts = new ArrayList<>();
+            final long[] keys = batch.getPrimitiveColumn(keyField);
+            final boolean hasNulls = batch.hasNulls(keyField);
+            for (int row = 0; row < batch.size(); row++) {
+                int entry = hasNulls && batch.isNull(keyField, row) ? this.nullKeyEntry : this.index.get(keys[row]);
+                if (entry == NO_ENTRY) continue;
+                final Record probeRecord = batch.getRecord(row);
+                for (; entry != NO_ENTRY; entry = this.nextEntries[entry]) {
+                    final Record buildRecord = this.getRecord(entry);
+                    joinProducts.add(isBuildInput0 ?
+                            new Tuple2<>(buildRecord, probeRecord) :
+                            new Tuple2<>(probeRecord, buildRecord));
+                }
+            }
+            return joinProducts;
+        }
+
+        private Record getRecord(int entry) {
+            Record record = this.entryRecords[entry];
+            if (record == null) {
+                record = this.entryRecords[entry] = this.batches.get(this.entryBatches[entry]).getRecord(this.entryRows[entry]);
+            }
+            return record;
+        }
+    }
+
+    @Override
+    public Collection<String> getLoadProfileEstimatorConfigurationKeys() {
+        return Arrays.asList("wayang.java.batchjoin.load.indexing", "wayang.java.batchjoin.load.probing");
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaBatchJoinOperator<>(this.getInputType0(), this.getInputType1(),
+                this.getKeyDescriptor0(), this.getKeyDescriptor1());
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Collections.singletonList(RecordBatchChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(StreamChannel.DESCRIPTOR);
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.wayang.java.operators.batch;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.data.RecordLayout;
+import org.apache.wayang.basic.function.ProjectionDescriptor;
+import org.apache.wayang.basic.operators.MapOperator;
+import org.apache.wayang.basic.types.RecordType;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.java.channels.RecordBatchChannel;
+import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.operators.JavaExecutionOperator;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Batch-at-a-time Java implementation of the {@link MapOperator} for {@link ProjectionDescriptor}s on
+ * {@link Record}s. Projected batches share their columns with the input batches, so that no data is copied.
+ */
+public class JavaBatchProjectionOperator
+        extends MapOperator<Record, Record>
+        implements JavaExecutionOperator {
+
+    /**
+     * Creates a new instance.
+     *
+     * @param projectionDescriptor describes the projection; its input type must be a {@link RecordType} with field
+     *                             types
+     */
+    public JavaBatchProjectionOperator(ProjectionDescriptor<Record, Record> projectionDescriptor) {
+        super(projectionDescriptor);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JavaBatchProjectionOperator(MapOperator<Record, Record> that) {
+        super(that);
+        assert that.getFunctionDescriptor() instanceof ProjectionDescriptor;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            JavaExecutor javaExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final ProjectionDescriptor<Record, Record> projectionDescriptor =
+                (ProjectionDescriptor<Record, Record>) this.getFunctionDescriptor();
+        final RecordType inputType = (RecordType) projectionDescriptor.getInputType();
+        final int[] fieldIndices = projectionDescriptor.getFieldNames().stream()
+                .mapToInt(inputType::getIndex)
+                .toArray();
+        final RecordLayout projectedLayout = inputType.getLayout().project(fieldIndices);
+
+        ((RecordBatchChannel.Instance) outputs[0]).accept(
+                ((RecordBatchChannel.Instance) inputs[0]).provideBatches()
+                        .map(batch -> batch.project(fieldIndices, projectedLayout))
+        );
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.java.batchprojection.load";
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaBatchProjectionOperator(this);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Collections.singletonList(RecordBatchChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(RecordBatchChannel.DESCRIPTOR);
+    }
+
+}
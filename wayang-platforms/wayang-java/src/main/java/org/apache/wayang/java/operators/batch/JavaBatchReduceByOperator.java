@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.wayang.java.operators.batch;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.data.RecordBatch;
+import org.apache.wayang.basic.operators.ReduceByOperator;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.function.ReduceDescriptor;
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.java.channels.CollectionChannel;
+import org.apache.wayang.java.channels.RecordBatchChannel;
+import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.hash.LongKeyIndex;
+import org.apache.wayang.java.operators.JavaExecutionOperator;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BinaryOperator;
+
+/**
+ * Batch-at-a-time Java implementation of the {@link ReduceByOperator} for {@link Record}s whose key is a single
+ * integral field (see {@link RecordBatches#getIntegralKeyField(TransformationDescriptor)}). Keys are read directly
+ * from the primitive key column and looked up in an unboxed hash table.
+ */
+public class JavaBatchReduceByOperator<KeyType>
+        extends ReduceByOperator<Record, KeyType>
+        implements JavaExecutionOperator {
+
+    public JavaBatchReduceByOperator(DataSetType<Record> type,
+                                     TransformationDescriptor<Record, KeyType> keyDescriptor,
+                                     ReduceDescriptor<Record> reduceDescriptor) {
+        super(keyDescriptor, reduceDescriptor, type);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JavaBatchReduceByOperator(ReduceByOperator<Record, KeyType> that) {
+        super(that);
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            JavaExecutor javaExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final int keyField = RecordBatches.getIntegralKeyField(this.keyDescriptor);
+        assert keyField >= 0;
+        final BinaryOperator<Record> reduceFunction = javaExecutor.getCompiler().compile(this.reduceDescriptor);
+        JavaExecutor.openFunction(this, reduceFunction, inputs, operatorContext);
+
+        final CardinalityEstimate outputCardinality = operatorContext.getOutputCardinality(0);
+        final Aggregation aggregation = new Aggregation(
+                keyField,
+                reduceFunction,
+                outputCardinality == null ? 1000 : (int) Math.min(outputCardinality.getGeometricMeanEstimate(), 1 << 24)
+        );
+        ((RecordBatchChannel.Instance) inputs[0]).provideBatches().forEach(aggregation::add);
+        ((CollectionChannel.Instance) outputs[0]).accept(aggregation.getResults());
+
+        return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+    }
+
+    /**
+     * Reduces {@link RecordBatch}es by their {@code long} keys.
+     */
+    private static class Aggregation {
+
+        private final int keyField;
+
+        private final BinaryOperator<Record> reduceFunction;
+
+        /**
+         * Maps keys to indices in {@link #groups}.
+         */
+        private final LongKeyIndex index;
+
+        private final List<Record> groups;
+
+        /**
+         * The group for {@code null} keys or {@code null} if there is none.
+         */
+        private Record nullGroup;
+
+        Aggregation(int keyField, BinaryOperator<Record> reduceFunction, int expectedNumGroups) {
+            this.keyField = keyField;
+            this.reduceFunction = reduceFunction;
+            this.index = new LongKeyIndex(expectedNumGroups);
+            this.groups = new ArrayList<>(expectedNumGroups);
+        }
+
+        void add(RecordBatch batch) {
+            final long[] keys = batch.getPrimitiveColumn(this.keyField);
+            final boolean hasNulls = batch.hasNulls(this.keyField);
+            final RecordBatch.RowView view = batch.createView();
+            for (int row = 0; row < batch.size(); row++) {
+                view.moveTo(row);
+                if (hasNulls && batch.isNull(this.keyField, row)) {
+                    this.nullGroup = this.nullGroup == null ? view.copy() : this.reduce(this.nullGroup, view);
+                    continue;
+                }
+                final int groupIndex = this.index.putIfAbsent(keys[row], this.groups.size());
+                if (groupIndex < 0) {
+                    this.groups.add(view.copy());
+                } else {
+                    this.groups.set(groupIndex, this.reduce(this.groups.get(groupIndex), view));
+                }
+            }
+        }
+
+        private Record reduce(Record accumulator, RecordBatch.RowView view) {
+            final Record result = this.reduceFunction.apply(accumulator, view);
+            // The view must not escape, as it will be moved on.
+            return result == view ? view.copy() : result;
+        }
+
+        Collection<Record> getResults() {
+            if (this.nullGroup != null) this.groups.add(this.nullGroup);
+            return this.groups;
+        }
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.java.batchreduceby.load";
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                JavaExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.reduceDescriptor, configuration);
+        return optEstimator;
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaBatchReduceByOperator<>(this.getType(), this.getKeyDescriptor(), this.getReduceDescriptor());
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        if (this.getInput(index).isBroadcast()) return Collections.singletonList(CollectionChannel.DESCRIPTOR);
+        return Collections.singletonList(RecordBatchChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(CollectionChannel.DESCRIPTOR);
+    }
+
+}
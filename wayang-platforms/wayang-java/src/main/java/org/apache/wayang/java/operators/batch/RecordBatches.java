@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.wayang.java.operators.batch;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.data.RecordBatch;
+import org.apache.wayang.basic.data.RecordLayout;
+import org.apache.wayang.basic.data.TypedRecord;
+import org.apache.wayang.basic.function.ProjectionDescriptor;
+import org.apache.wayang.basic.types.RecordType;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.types.BasicDataUnitType;
+import org.apache.wayang.core.types.DataSetType;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Utilities for the batch-at-a-time processing of {@link Record}s on the Java platform.
+ */
+public class RecordBatches {
+
+    /**
+     * Configuration key for the number of {@link Record}s per {@link RecordBatch}.
+     */
+    public static final String BATCH_SIZE_KEY = "wayang.java.batch.size";
+
+    private static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private RecordBatches() {
+    }
+
+    public static int getBatchSize(Configuration configuration) {
+        return (int) configuration.getLongProperty(BATCH_SIZE_KEY, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Determines the {@link RecordLayout} of a {@link DataSetType}.
+     *
+     * @param type the {@link DataSetType}
+     * @return the {@link RecordLayout} or {@code null} if the {@link DataSetType} is not based on a
+     * {@link RecordType} with field types
+     */
+    public static RecordLayout getLayout(DataSetType<?> type) {
+        if (type == null) return null;
+        return getLayout(type.getDataUnitType().toBasicDataUnitType());
+    }
+
+    private static RecordLayout getLayout(BasicDataUnitType<?> type) {
+        if (type instanceof RecordType && ((RecordType) type).hasFieldTypes()) {
+            return ((RecordType) type).getLayout();
+        }
+        return null;
+    }
+
+    /**
+     * Determines whether a key descriptor projects a single, integral field of {@link Record}s with known field types,
+     * so that keys can be processed as {@code long}s.
+     *
+     * @param keyDescriptor the key descriptor
+     * @return the index of the key field or {@code -1} if the key descriptor does not qualify
+     */
+    public static int getIntegralKeyField(TransformationDescriptor<?, ?> keyDescriptor) {
+        if (!(keyDescriptor instanceof ProjectionDescriptor)) return -1;
+        final ProjectionDescriptor<?, ?> projectionDescriptor = (ProjectionDescriptor<?, ?>) keyDescriptor;
+        if (projectionDescriptor.getFieldNames().size() != 1) return -1;
+        final RecordLayout layout = getLayout(projectionDescriptor.getInputType());
+        if (layout == null) return -1;
+        final int field = ((RecordType) projectionDescriptor.getInputType()).getIndex(projectionDescriptor.getFieldNames().get(0));
+        switch (layout.getKind(field)) {
+            case LONG:
+            case INT:
+            case SHORT:
+            case BYTE:
+                return field;
+            default:
+                return -1;
+        }
+    }
+
+    /**
+     * Infers a {@link RecordLayout} from a {@link Record}.
+     *
+     * @param record the {@link Record}
+     * @return the {@link RecordLayout} of the {@link Record} if it is a {@link TypedRecord} or otherwise the
+     * {@link RecordLayout} for the classes of its fields
+     */
+    public static RecordLayout inferLayout(Record record) {
+        if (record instanceof TypedRecord) return ((TypedRecord) record).getLayout();
+        Class<?>[] fieldTypes = new Class<?>[record.size()];
+        for (int i = 0; i < fieldTypes.length; i++) {
+            final Object field = record.getField(i);
+            fieldTypes[i] = field == null ? Object.class : field.getClass();
+        }
+        return RecordLayout.of(fieldTypes);
+    }
+
+    /**
+     * Lazily groups {@link Record}s into {@link RecordBatch}es.
+     *
+     * @param records   the {@link Record}s
+     * @param layout    the {@link RecordLayout} of the {@link Record}s or {@code null} to infer it from the first one
+     * @param batchSize the capacity of the {@link RecordBatch}es
+     * @return a {@link Stream} of {@link RecordBatch}es
+     */
+    public static Stream<RecordBatch> batch(Stream<? extends Record> records, RecordLayout layout, int batchSize) {
+        final Iterator<? extends Record> recordIterator = records.iterator();
+        final Iterator<RecordBatch> batchIterator = new Iterator<RecordBatch>() {
+
+            private RecordLayout batchLayout = layout;
+
+            @Override
+            public boolean hasNext() {
+                return recordIterator.hasNext();
+            }
+
+            @Override
+            public RecordBatch next() {
+                if (!this.hasNext()) throw new NoSuchElementException();
+                Record record = recordIterator.next();
+                if (this.batchLayout == null) this.batchLayout = inferLayout(record);
+                final RecordBatch batch = new RecordBatch(this.batchLayout, batchSize);
+                batch.add(record);
+                while (!batch.isFull() && recordIterator.hasNext()) {
+                    batch.add(recordIterator.next());
+                }
+                return batch;
+            }
+        };
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(batchIterator, Spliterator.ORDERED | Spliterator.NONNULL),
+                false
+        ).onClose(records::close);
+    }
+
+}
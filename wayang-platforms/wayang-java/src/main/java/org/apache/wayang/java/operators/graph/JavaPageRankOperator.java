@@ -18,9 +18,6 @@
 
 package org.apache.wayang.java.operators.graph;
 
-import java.util.HashMap;
-import java.util.Map;
-import java.util.function.BiFunction;
 import org.apache.wayang.basic.data.Tuple2;
 import org.apache.wayang.basic.operators.PageRankOperator;
 import org.apache.wayang.core.optimizer.OptimizationContext;
@@ -32,15 +29,14 @@ import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.hash.LongKeyIndex;
 import org.apache.wayang.java.operators.JavaExecutionOperator;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Iterator;
 import java.util.List;
-import java.util.Spliterators;
-import java.util.stream.Stream;
-import java.util.stream.StreamSupport;
 
 /**
  * Java implementation of the {@link PageRankOperator}.
@@ -65,10 +61,7 @@ public class JavaPageRankOperator extends PageRankOperator implements JavaExecut
         StreamChannel.Instance output = (StreamChannel.Instance) outputs[0];
 
         final Collection<Tuple2<Long, Long>> edges = input.provideCollection();
-        final Map<Long, Float> pageRanks = this.pageRank(edges);
-        final Stream<Tuple2<Long, Float>> pageRankStream = pageRanks.entrySet().stream().map(entry -> new Tuple2<>(entry.getKey(), entry.getValue()));
-
-        output.accept(pageRankStream);
+        output.accept(this.pageRank(edges).stream());
 
         return ExecutionOperator.modelQuasiEagerExecution(inputs, outputs, operatorContext);
     }
@@ -79,63 +72,87 @@ public class JavaPageRankOperator extends PageRankOperator implements JavaExecut
      * @param edgeDataSet edges of a graph
      * @return the page ranks
      */
-    //TODO: change for efficient map
-    private Map<Long, Float> pageRank(Collection<Tuple2<Long, Long>> edgeDataSet) {
-        // Get the degress of all vertices and make sure we collect *all* vertices.
-        //TODO: change for efficient map
-        HashMap<Long, Integer> degrees = new HashMap<>();
+    private List<Tuple2<Long, Float>> pageRank(Collection<Tuple2<Long, Long>> edgeDataSet) {
+        // Assign dense IDs to the source vertices and count their degrees. Only these vertices count as vertices.
+        final VertexIndex vertexIndex = new VertexIndex(edgeDataSet.size());
+        final int[] sourceIds = new int[edgeDataSet.size()], targetIds = new int[edgeDataSet.size()];
+        int edgeId = 0;
+        for (Tuple2<Long, Long> edge : edgeDataSet) {
+            sourceIds[edgeId++] = vertexIndex.getOrAdd(edge.field0);
+        }
+        final int numVertices = vertexIndex.size();
+        final int[] degrees = new int[numVertices];
+        for (int sourceId : sourceIds) {
+            degrees[sourceId]++;
+        }
+
+        // Assign IDs to the remaining target vertices, which only receive ranks.
+        edgeId = 0;
         for (Tuple2<Long, Long> edge : edgeDataSet) {
-            this.adjustOrPutValue(degrees, edge.field0, 1, 1, Integer::sum);
-            this.adjustOrPutValue(degrees, edge.field0, 0, 0, Integer::sum);
+            targetIds[edgeId++] = vertexIndex.getOrAdd(edge.field1);
         }
-        int numVertices = degrees.size();
+        final int numRankedVertices = vertexIndex.size();
+
         float initialRank = 1f / numVertices;
         float dampingRank = (1 - this.dampingFactor) / numVertices;
 
-        // Initialize the rank map.
-        //TODO: change for efficient map
-        HashMap<Long, Float> initialRanks = new HashMap<>();
-        degrees.forEach( (k, v) -> {
-            initialRanks.putIfAbsent(k, initialRank);
-        });
-
-        HashMap<Long, Float> currentRanks = initialRanks;
+        // Initialize the ranks.
+        float[] currentRanks = new float[numRankedVertices];
+        Arrays.fill(currentRanks, 0, numVertices, initialRank);
         for (int iteration = 0; iteration < this.getNumIterations(); iteration++) {
             // Add the damping first.
-            //TODO: change for efficient map
-            HashMap<Long, Float> newRanks = new HashMap<Long, Float>(currentRanks.size());
-            degrees.forEach( (k, v) -> {
-                newRanks.putIfAbsent(k, dampingRank);
-            });
+            float[] newRanks = new float[numRankedVertices];
+            Arrays.fill(newRanks, 0, numVertices, dampingRank);
 
             // Now add the other ranks.
-            for (Tuple2<Long, Long> edge : edgeDataSet) {
-                final long sourceVertex = edge.field0;
-                final long targetVertex = edge.field1;
-                final int degree = degrees.get(sourceVertex);
-                final float currentRank = currentRanks.get(sourceVertex);
-                final float partialRank = this.dampingFactor * currentRank / degree;
-                this.adjustOrPutValue(newRanks, targetVertex, partialRank, partialRank, Float::sum);
+            for (edgeId = 0; edgeId < sourceIds.length; edgeId++) {
+                final int sourceId = sourceIds[edgeId];
+                newRanks[targetIds[edgeId]] += this.dampingFactor * currentRanks[sourceId] / degrees[sourceId];
             }
 
             currentRanks = newRanks;
         }
 
-        return currentRanks;
+        // Target vertices without outgoing edges have ranks only after the first iteration.
+        final int numResults = this.getNumIterations() > 0 ? numRankedVertices : numVertices;
+        final List<Tuple2<Long, Float>> pageRanks = new ArrayList<>(numResults);
+        for (int vertexId = 0; vertexId < numResults; vertexId++) {
+            pageRanks.add(new Tuple2<>(vertexIndex.getVertex(vertexId), currentRanks[vertexId]));
+        }
+        return pageRanks;
     }
 
     /**
-     * simulate the process on the Trove4j library
-     * @param key key to modify on the map
-     * @param default_value default value in the case of not key
-     * @param correction element to add the array in the case of the key exist
+     * Assigns dense IDs to vertices.
      */
-    private <T> void adjustOrPutValue(Map<Long, T> map, Long key, T default_value, T correction, BiFunction<T, T, T> update){
-        if(map.containsKey(key)){
-            T value = map.get(key);
-            map.replace(key, update.apply(value, correction) );
-        }else{
-            map.put(key, default_value);
+    private static class VertexIndex {
+
+        private final LongKeyIndex index;
+
+        private long[] vertices;
+
+        VertexIndex(int expectedNumVertices) {
+            this.index = new LongKeyIndex(expectedNumVertices);
+            this.vertices = new long[Math.max(16, expectedNumVertices)];
+        }
+
+        int getOrAdd(long vertex) {
+            final int numVertices = this.index.size();
+            final int existingId = this.index.putIfAbsent(vertex, numVertices);
+            if (existingId >= 0) return existingId;
+            if (numVertices == this.vertices.length) {
+                this.vertices = Arrays.copyOf(this.vertices, numVertices << 1);
+            }
+            this.vertices[numVertices] = vertex;
+            return numVertices;
+        }
+
+        long getVertex(int id) {
+            return this.vertices[id];
+        }
+
+        int size() {
+            return this.index.size();
         }
     }
 
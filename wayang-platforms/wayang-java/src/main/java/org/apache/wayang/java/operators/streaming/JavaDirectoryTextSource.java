@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators.streaming;
+
+import org.apache.wayang.basic.operators.DirectoryTextSource;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.core.util.fs.FileSystem;
+import org.apache.wayang.core.util.fs.FileSystems;
+import org.apache.wayang.java.channels.StreamChannel;
+import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.operators.JavaExecutionOperator;
+
+import java.io.BufferedReader;
+import java.io.InputStreamReader;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Java implementation of the {@link DirectoryTextSource}. Files whose names start with {@code .} or {@code _} are
+ * considered to be in progress and are ignored.
+ */
+public class JavaDirectoryTextSource extends DirectoryTextSource implements JavaExecutionOperator {
+
+    public JavaDirectoryTextSource(String directoryUrl) {
+        super(directoryUrl);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JavaDirectoryTextSource(DirectoryTextSource that) {
+        super(that);
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            JavaExecutor javaExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final String url = this.getDirectoryUrl().trim();
+        final FileSystem fs = FileSystems.getFileSystem(url).orElseThrow(
+                () -> new WayangException(String.format("Cannot access file system of %s.", url))
+        );
+
+        final MicroBatchBuffer.Producer<String> producer = sink -> {
+            final Set<String> readFiles = new HashSet<>();
+            while (!Thread.currentThread().isInterrupted()) {
+                final List<String> newFiles = fs.listChildren(url).stream()
+                        .filter(childUrl -> !readFiles.contains(childUrl) && !isInProgress(childUrl))
+                        .filter(childUrl -> !fs.isDirectory(childUrl))
+                        .sorted()
+                        .collect(Collectors.toList());
+                for (String fileUrl : newFiles) {
+                    try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                            FileSystems.detectCompression(fileUrl).decompress(fs.open(fileUrl)), this.getEncoding()
+                    ))) {
+                        String line;
+                        while ((line = reader.readLine()) != null) {
+                            sink.accept(line);
+                        }
+                    }
+                    readFiles.add(fileUrl);
+                }
+                Thread.sleep(this.getPollInterval());
+            }
+        };
+        ((StreamChannel.Instance) outputs[0]).accept(MicroBatchBuffer.createStream(
+                "directory-source", javaExecutor.getConfiguration(), Collections.singletonList(producer)
+        ));
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    private static boolean isInProgress(String fileUrl) {
+        final String fileName = fileUrl.substring(fileUrl.lastIndexOf('/', fileUrl.length() - 2) + 1);
+        return fileName.startsWith(".") || fileName.startsWith("_");
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.java.directorytextsource.load";
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaDirectoryTextSource(this);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        throw new UnsupportedOperationException(String.format("%s does not have input channels.", this));
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(StreamChannel.DESCRIPTOR);
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators.streaming;
+
+import org.apache.wayang.basic.operators.SocketTextSource;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.java.channels.StreamChannel;
+import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.operators.JavaExecutionOperator;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.Socket;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Java implementation of the {@link SocketTextSource}.
+ */
+public class JavaSocketTextSource extends SocketTextSource implements JavaExecutionOperator {
+
+    public JavaSocketTextSource(String hostname, int port) {
+        super(hostname, port);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JavaSocketTextSource(SocketTextSource that) {
+        super(that);
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            JavaExecutor javaExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        ((StreamChannel.Instance) outputs[0]).accept(MicroBatchBuffer.createStream(
+                "socket-source", javaExecutor.getConfiguration(), Collections.singletonList(new LineReader())
+        ));
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    /**
+     * Reads the lines from the socket until the remote side closes the connection.
+     */
+    private class LineReader implements MicroBatchBuffer.Producer<String> {
+
+        private volatile Socket socket;
+
+        @Override
+        public void produce(Consumer<String> sink) throws IOException {
+            this.socket = new Socket(JavaSocketTextSource.this.getHostname(), JavaSocketTextSource.this.getPort());
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    this.socket.getInputStream(), JavaSocketTextSource.this.getEncoding()
+            ))) {
+                String line;
+                while (!Thread.currentThread().isInterrupted() && (line = reader.readLine()) != null) {
+                    sink.accept(line);
+                }
+            } finally {
+                this.socket.close();
+            }
+        }
+
+        @Override
+        public void cancel() {
+            // Socket reads do not respond to interrupts.
+            final Socket socket = this.socket;
+            if (socket != null) {
+                try {
+                    socket.close();
+                } catch (IOException e) {
+                    // Nothing we can do about it.
+                }
+            }
+        }
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.java.sockettextsource.load";
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaSocketTextSource(this);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        throw new UnsupportedOperationException(String.format("%s does not have input channels.", this));
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(StreamChannel.DESCRIPTOR);
+    }
+
+}
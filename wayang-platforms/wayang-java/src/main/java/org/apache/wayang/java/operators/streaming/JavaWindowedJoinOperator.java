@@ -0,0 +1,148 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators.streaming;
+
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.function.WindowDescriptor;
+import org.apache.wayang.basic.operators.WindowedJoinOperator;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.channels.StreamChannel;
+import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.operators.JavaExecutionOperator;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Java implementation of the {@link WindowedJoinOperator}. Both inputs are consumed concurrently through a bounded
+ * buffer, and the join pairs of each window are emitted as soon as the window is complete.
+ */
+public class JavaWindowedJoinOperator<InputType0, InputType1, KeyType>
+        extends WindowedJoinOperator<InputType0, InputType1, KeyType>
+        implements JavaExecutionOperator {
+
+    /**
+     * Creates a new instance.
+     */
+    public JavaWindowedJoinOperator(DataSetType<InputType0> inputType0,
+                                    DataSetType<InputType1> inputType1,
+                                    TransformationDescriptor<InputType0, KeyType> keyDescriptor0,
+                                    TransformationDescriptor<InputType1, KeyType> keyDescriptor1,
+                                    TransformationDescriptor<InputType0, Long> timestampDescriptor0,
+                                    TransformationDescriptor<InputType1, Long> timestampDescriptor1,
+                                    WindowDescriptor windowDescriptor) {
+        super(keyDescriptor0, keyDescriptor1, timestampDescriptor0, timestampDescriptor1, windowDescriptor,
+                inputType0, inputType1);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JavaWindowedJoinOperator(WindowedJoinOperator<InputType0, InputType1, KeyType> that) {
+        super(that);
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            JavaExecutor javaExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final Function<InputType0, KeyType> keyExtractor0 = javaExecutor.getCompiler().compile(this.keyDescriptor0);
+        final Function<InputType1, KeyType> keyExtractor1 = javaExecutor.getCompiler().compile(this.keyDescriptor1);
+        final Function<InputType0, Long> timestampExtractor0 =
+                javaExecutor.getCompiler().compile(this.timestampDescriptor0);
+        final Function<InputType1, Long> timestampExtractor1 =
+                javaExecutor.getCompiler().compile(this.timestampDescriptor1);
+
+        final Configuration configuration = javaExecutor.getConfiguration();
+        final WindowedJoiner<InputType0, InputType1, KeyType> joiner = new WindowedJoiner<>(
+                ((JavaChannelInstance) inputs[0]).<InputType0>provideStream().iterator(),
+                ((JavaChannelInstance) inputs[1]).<InputType1>provideStream().iterator(),
+                keyExtractor0,
+                keyExtractor1,
+                timestampExtractor0::apply,
+                timestampExtractor1::apply,
+                this.windowDescriptor,
+                MicroBatchBuffer.getCapacity(configuration),
+                MicroBatchBuffer.getBatchSize(configuration)
+        );
+        final Stream<Tuple2<InputType0, InputType1>> outputStream = StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(joiner, Spliterator.ORDERED), false
+        ).onClose(joiner::close);
+        ((StreamChannel.Instance) outputs[0]).accept(outputStream);
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.java.windowedjoin.load";
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                JavaExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor0, configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor1, configuration);
+        return optEstimator;
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaWindowedJoinOperator<>(this);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Collections.singletonList(StreamChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(StreamChannel.DESCRIPTOR);
+    }
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators.streaming;
+
+import org.apache.wayang.basic.function.WindowDescriptor;
+import org.apache.wayang.basic.operators.WindowedReduceByOperator;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.function.ReduceDescriptor;
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.channels.StreamChannel;
+import org.apache.wayang.java.execution.JavaExecutor;
+import org.apache.wayang.java.operators.JavaExecutionOperator;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Java implementation of the {@link WindowedReduceByOperator}. It emits the aggregates of each window as soon as the
+ * window is complete, so that it can process unbounded inputs.
+ */
+public class JavaWindowedReduceByOperator<Type, KeyType>
+        extends WindowedReduceByOperator<Type, KeyType>
+        implements JavaExecutionOperator {
+
+    /**
+     * Creates a new instance.
+     *
+     * @param type                type of the reduce elements (i.e., type of {@link #getInput()} and {@link #getOutput()})
+     * @param keyDescriptor       describes how to extract the key from data units
+     * @param reduceDescriptor    describes the reduction to be performed on the elements
+     * @param timestampDescriptor describes how to extract the event time from data units
+     * @param windowDescriptor    describes the windows
+     */
+    public JavaWindowedReduceByOperator(DataSetType<Type> type,
+                                        TransformationDescriptor<Type, KeyType> keyDescriptor,
+                                        ReduceDescriptor<Type> reduceDescriptor,
+                                        TransformationDescriptor<Type, Long> timestampDescriptor,
+                                        WindowDescriptor windowDescriptor) {
+        super(keyDescriptor, reduceDescriptor, timestampDescriptor, windowDescriptor, type);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public JavaWindowedReduceByOperator(WindowedReduceByOperator<Type, KeyType> that) {
+        super(that);
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            JavaExecutor javaExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final Function<Type, KeyType> keyExtractor = javaExecutor.getCompiler().compile(this.keyDescriptor);
+        final BinaryOperator<Type> reduceFunction = javaExecutor.getCompiler().compile(this.reduceDescriptor);
+        final Function<Type, Long> timestampExtractor = javaExecutor.getCompiler().compile(this.timestampDescriptor);
+        JavaExecutor.openFunction(this, reduceFunction, inputs, operatorContext);
+
+        final WindowedReducer<Type, KeyType> reducer = new WindowedReducer<>(
+                ((JavaChannelInstance) inputs[0]).<Type>provideStream().iterator(),
+                keyExtractor,
+                reduceFunction,
+                timestampExtractor::apply,
+                this.windowDescriptor
+        );
+        final Stream<Type> outputStream = StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(reducer, Spliterator.ORDERED), false
+        );
+        ((StreamChannel.Instance) outputs[0]).accept(outputStream);
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.java.windowedreduceby.load";
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                JavaExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor, configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.reduceDescriptor, configuration);
+        return optEstimator;
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new JavaWindowedReduceByOperator<>(this);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Collections.singletonList(StreamChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(StreamChannel.DESCRIPTOR);
+    }
+
+}
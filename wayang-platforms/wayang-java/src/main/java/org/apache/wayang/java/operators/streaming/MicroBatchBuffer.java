@@ -0,0 +1,240 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators.streaming;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.exception.WayangException;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Decouples {@link Producer}s of an unbounded sequence of data quanta from their consumer via a bounded buffer:
+ * Each {@link Producer} runs in its own thread and blocks when the buffer is full, so that slow consumers throttle
+ * the producers. The consumer takes the data quanta in micro-batches of up to a given size.
+ * <p>The sequence ends once all {@link Producer}s have finished. It ends prematurely if the consuming thread is
+ * interrupted, which is the way to stop a streaming job gracefully. Failures of {@link Producer}s are rethrown
+ * to the consumer.</p>
+ */
+public class MicroBatchBuffer<T> implements Iterator<T> {
+
+    private static final Logger logger = LogManager.getLogger(MicroBatchBuffer.class);
+
+    /**
+     * Signals that a {@link Producer} has finished.
+     */
+    private static final Object END = new Object();
+
+    /**
+     * Produces data quanta for a {@link MicroBatchBuffer}.
+     */
+    @FunctionalInterface
+    public interface Producer<T> {
+
+        /**
+         * Produce data quanta until there are no more.
+         *
+         * @param sink accepts the data quanta; blocks while the buffer is full
+         * @throws Exception if the production failed
+         */
+        void produce(Consumer<T> sink) throws Exception;
+
+        /**
+         * Interrupt the production, e.g., by closing connections. Besides, the producing thread is interrupted.
+         */
+        default void cancel() {
+        }
+
+    }
+
+    private final BlockingQueue<Object> buffer;
+
+    private final int batchSize;
+
+    private final List<Object> batch;
+
+    private int batchIndex = 0;
+
+    private final List<Producer<? extends T>> producers;
+
+    private final List<Thread> producerThreads;
+
+    private final AtomicInteger numActiveProducers;
+
+    private volatile Throwable failure;
+
+    private boolean isExhausted = false;
+
+    /**
+     * Creates a new instance and starts the {@link Producer}s.
+     *
+     * @param name      used to name the producer threads
+     * @param capacity  the maximum number of buffered data quanta
+     * @param batchSize the maximum number of data quanta that are dequeued at once
+     * @param producers the {@link Producer}s
+     */
+    public MicroBatchBuffer(String name, int capacity, int batchSize, List<Producer<? extends T>> producers) {
+        this.buffer = new ArrayBlockingQueue<>(Math.max(1, capacity));
+        this.batchSize = Math.max(1, batchSize);
+        this.batch = new ArrayList<>(this.batchSize);
+        this.producers = producers;
+        this.producerThreads = new ArrayList<>(producers.size());
+        this.numActiveProducers = new AtomicInteger(producers.size());
+        for (Producer<? extends T> producer : producers) {
+            final Thread thread = new Thread(() -> this.runProducer(producer), name);
+            thread.setDaemon(true);
+            this.producerThreads.add(thread);
+        }
+        this.producerThreads.forEach(Thread::start);
+    }
+
+    /**
+     * Creates a {@link Stream} that is fed by the given {@link Producer}s via a new instance.
+     *
+     * @see #MicroBatchBuffer(String, int, int, List)
+     */
+    public static <T> Stream<T> createStream(String name, int capacity, int batchSize,
+                                             List<Producer<? extends T>> producers) {
+        final MicroBatchBuffer<T> buffer = new MicroBatchBuffer<>(name, capacity, batchSize, producers);
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(buffer, Spliterator.ORDERED), false)
+                .onClose(buffer::close);
+    }
+
+    /**
+     * Creates a {@link Stream} that is fed by the given {@link Producer}s via a new instance, which is dimensioned
+     * according to the given {@link Configuration}.
+     *
+     * @see #MicroBatchBuffer(String, int, int, List)
+     */
+    public static <T> Stream<T> createStream(String name, Configuration configuration,
+                                             List<Producer<? extends T>> producers) {
+        return createStream(name, getCapacity(configuration), getBatchSize(configuration), producers);
+    }
+
+    /**
+     * @return the configured maximum number of buffered data quanta
+     */
+    public static int getCapacity(Configuration configuration) {
+        return (int) configuration.getLongProperty("wayang.java.streaming.buffer-capacity", 10000L);
+    }
+
+    /**
+     * @return the configured maximum number of data quanta per micro-batch
+     */
+    public static int getBatchSize(Configuration configuration) {
+        return (int) configuration.getLongProperty("wayang.java.streaming.batch-size", 1000L);
+    }
+
+    private void runProducer(Producer<? extends T> producer) {
+        try {
+            producer.produce(this::put);
+            if (this.numActiveProducers.decrementAndGet() == 0) {
+                this.putEnd();
+            }
+        } catch (Throwable t) {
+            if (!(t instanceof InterruptedException || t instanceof ProducerInterruptedException)) {
+                // Terminate the stream right away rather than waiting for the other producers.
+                this.failure = t;
+                this.putEnd();
+            }
+        }
+    }
+
+    private void putEnd() {
+        try {
+            this.buffer.put(END);
+        } catch (InterruptedException e) {
+            // The consumer closed this instance, so it does not need the end marker.
+        }
+    }
+
+    private void put(T dataQuantum) {
+        try {
+            this.buffer.put(dataQuantum);
+        } catch (InterruptedException e) {
+            throw new ProducerInterruptedException();
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (this.batchIndex < this.batch.size()) return true;
+        if (this.isExhausted) return false;
+
+        // Fetch the next micro-batch.
+        this.batch.clear();
+        this.batchIndex = 0;
+        try {
+            this.batch.add(this.buffer.take());
+            this.buffer.drainTo(this.batch, this.batchSize - 1);
+        } catch (InterruptedException e) {
+            logger.info("Stopping the stream due to an interrupt.");
+            Thread.currentThread().interrupt();
+            this.close();
+            this.batch.clear();
+            return false;
+        }
+        for (int i = 0; i < this.batch.size(); i++) {
+            if (this.batch.get(i) != END) continue;
+            this.batch.subList(i, this.batch.size()).clear();
+            this.isExhausted = true;
+            if (this.failure != null) {
+                this.close();
+                throw new WayangException("Producing the stream failed.", this.failure);
+            }
+            break;
+        }
+        return this.batchIndex < this.batch.size();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T next() {
+        if (!this.hasNext()) throw new NoSuchElementException();
+        return (T) this.batch.get(this.batchIndex++);
+    }
+
+    /**
+     * Stops all {@link Producer}s.
+     */
+    public void close() {
+        this.isExhausted = true;
+        this.producers.forEach(Producer::cancel);
+        this.producerThreads.forEach(Thread::interrupt);
+    }
+
+    /**
+     * Signals that a {@link Producer} was interrupted while waiting for space in the buffer.
+     */
+    private static class ProducerInterruptedException extends RuntimeException {
+    }
+
+}
@@ -0,0 +1,268 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators.streaming;
+
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.function.WindowDescriptor;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Joins the data quanta of two {@link Iterator}s per key and event-time window. Both inputs are consumed
+ * concurrently via a {@link MicroBatchBuffer}, so that an idle input does not block the other one. The watermark
+ * is the minimum of the two inputs' watermarks; an exhausted input does not hold back the watermark anymore. The
+ * join pairs of a window are emitted once the watermark has passed the window.
+ */
+public class WindowedJoiner<T0, T1, K> implements Iterator<Tuple2<T0, T1>> {
+
+    private final MicroBatchBuffer<Tagged> input;
+
+    private final Function<T0, K> keyExtractor0;
+
+    private final Function<T1, K> keyExtractor1;
+
+    private final ToLongFunction<T0> timestampExtractor0;
+
+    private final ToLongFunction<T1> timestampExtractor1;
+
+    private final WindowDescriptor windowDescriptor;
+
+    /**
+     * Data quanta of the open windows by their start.
+     */
+    private final SortedMap<Long, Window<T0, T1, K>> openWindows = new TreeMap<>();
+
+    /**
+     * Join pairs of complete windows that have not yet been emitted.
+     */
+    private final Queue<Tuple2<T0, T1>> completePairs = new ArrayDeque<>();
+
+    private long maxTimestamp0 = Long.MIN_VALUE, maxTimestamp1 = Long.MIN_VALUE;
+
+    private boolean isExhausted0 = false, isExhausted1 = false;
+
+    private long numDroppedDataQuanta = 0L;
+
+    /**
+     * Creates a new instance and starts consuming the inputs.
+     *
+     * @param input0              the first input
+     * @param input1              the second input
+     * @param keyExtractor0       extracts join keys from the first input
+     * @param keyExtractor1       extracts join keys from the second input
+     * @param timestampExtractor0 extracts event times from the first input
+     * @param timestampExtractor1 extracts event times from the second input
+     * @param windowDescriptor    describes the windows
+     * @param bufferCapacity      the maximum number of buffered data quanta of both inputs
+     * @param batchSize           the maximum number of data quanta that are processed at once
+     */
+    public WindowedJoiner(Iterator<T0> input0,
+                          Iterator<T1> input1,
+                          Function<T0, K> keyExtractor0,
+                          Function<T1, K> keyExtractor1,
+                          ToLongFunction<T0> timestampExtractor0,
+                          ToLongFunction<T1> timestampExtractor1,
+                          WindowDescriptor windowDescriptor,
+                          int bufferCapacity,
+                          int batchSize) {
+        this.keyExtractor0 = keyExtractor0;
+        this.keyExtractor1 = keyExtractor1;
+        this.timestampExtractor0 = timestampExtractor0;
+        this.timestampExtractor1 = timestampExtractor1;
+        this.windowDescriptor = windowDescriptor;
+        this.input = new MicroBatchBuffer<>("windowed-join", bufferCapacity, batchSize, Arrays.asList(
+                createProducer(0, input0),
+                createProducer(1, input1)
+        ));
+    }
+
+    private static MicroBatchBuffer.Producer<Tagged> createProducer(int inputIndex, Iterator<?> input) {
+        return sink -> {
+            while (input.hasNext()) {
+                sink.accept(new Tagged(inputIndex, input.next()));
+            }
+            sink.accept(new Tagged(inputIndex, Tagged.END));
+        };
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (this.completePairs.isEmpty()) {
+            if (this.input.hasNext()) {
+                this.add(this.input.next());
+            } else if (!this.openWindows.isEmpty()) {
+                this.emitWindows(Long.MAX_VALUE);
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void add(Tagged tagged) {
+        final long oldWatermark = this.getWatermark();
+        if (tagged.dataQuantum == Tagged.END) {
+            if (tagged.inputIndex == 0) this.isExhausted0 = true;
+            else this.isExhausted1 = true;
+        } else if (tagged.inputIndex == 0) {
+            final T0 dataQuantum = (T0) tagged.dataQuantum;
+            final long timestamp = this.timestampExtractor0.applyAsLong(dataQuantum);
+            final K key = this.keyExtractor0.apply(dataQuantum);
+            if (!this.addToWindows(timestamp, oldWatermark, window -> window.add0(key, dataQuantum))) {
+                this.numDroppedDataQuanta++;
+            }
+            this.maxTimestamp0 = Math.max(this.maxTimestamp0, timestamp);
+        } else {
+            final T1 dataQuantum = (T1) tagged.dataQuantum;
+            final long timestamp = this.timestampExtractor1.applyAsLong(dataQuantum);
+            final K key = this.keyExtractor1.apply(dataQuantum);
+            if (!this.addToWindows(timestamp, oldWatermark, window -> window.add1(key, dataQuantum))) {
+                this.numDroppedDataQuanta++;
+            }
+            this.maxTimestamp1 = Math.max(this.maxTimestamp1, timestamp);
+        }
+
+        final long newWatermark = this.getWatermark();
+        if (newWatermark > oldWatermark) {
+            this.emitWindows(newWatermark);
+        }
+    }
+
+    /**
+     * Adds a data quantum to all its open windows.
+     *
+     * @return whether there was any such window
+     */
+    private boolean addToWindows(long timestamp, long watermark, Consumer<Window<T0, T1, K>> adder) {
+        boolean isAdded = false;
+        for (long windowStart = this.windowDescriptor.getLastWindowStart(timestamp);
+             this.windowDescriptor.getWindowEnd(windowStart) > timestamp;
+             windowStart -= this.windowDescriptor.getSlide()) {
+            if (this.windowDescriptor.isComplete(windowStart, watermark)) break;
+            adder.accept(this.openWindows.computeIfAbsent(windowStart, start -> new Window<>()));
+            isAdded = true;
+        }
+        return isAdded;
+    }
+
+    /**
+     * @return the watermark across both inputs
+     */
+    private long getWatermark() {
+        final long watermark0 = this.isExhausted0 ? Long.MAX_VALUE : this.windowDescriptor.getWatermark(this.maxTimestamp0);
+        final long watermark1 = this.isExhausted1 ? Long.MAX_VALUE : this.windowDescriptor.getWatermark(this.maxTimestamp1);
+        return Math.min(watermark0, watermark1);
+    }
+
+    /**
+     * Moves the join pairs of all windows that are complete w.r.t. the given watermark to the {@link #completePairs}.
+     */
+    private void emitWindows(long watermark) {
+        while (!this.openWindows.isEmpty()) {
+            final Long windowStart = this.openWindows.firstKey();
+            if (watermark != Long.MAX_VALUE && !this.windowDescriptor.isComplete(windowStart, watermark)) break;
+            this.openWindows.remove(windowStart).join(this.completePairs);
+        }
+    }
+
+    @Override
+    public Tuple2<T0, T1> next() {
+        if (!this.hasNext()) throw new NoSuchElementException();
+        return this.completePairs.poll();
+    }
+
+    /**
+     * Stops consuming the inputs.
+     */
+    public void close() {
+        this.input.close();
+    }
+
+    /**
+     * @return the number of data quanta that arrived only after all their windows had been emitted
+     */
+    public long getNumDroppedDataQuanta() {
+        return this.numDroppedDataQuanta;
+    }
+
+    /**
+     * A data quantum along with the index of the input it stems from.
+     */
+    private static class Tagged {
+
+        /**
+         * Signals that an input is exhausted.
+         */
+        private static final Object END = new Object();
+
+        private final int inputIndex;
+
+        private final Object dataQuantum;
+
+        private Tagged(int inputIndex, Object dataQuantum) {
+            this.inputIndex = inputIndex;
+            this.dataQuantum = dataQuantum;
+        }
+    }
+
+    /**
+     * The data quanta of both inputs within a window, grouped by their keys.
+     */
+    private static class Window<T0, T1, K> {
+
+        private final Map<K, List<T0>> dataQuanta0 = new HashMap<>();
+
+        private final Map<K, List<T1>> dataQuanta1 = new HashMap<>();
+
+        private void add0(K key, T0 dataQuantum) {
+            this.dataQuanta0.computeIfAbsent(key, k -> new ArrayList<>()).add(dataQuantum);
+        }
+
+        private void add1(K key, T1 dataQuantum) {
+            this.dataQuanta1.computeIfAbsent(key, k -> new ArrayList<>()).add(dataQuantum);
+        }
+
+        private void join(Queue<Tuple2<T0, T1>> collector) {
+            for (Map.Entry<K, List<T0>> entry : this.dataQuanta0.entrySet()) {
+                final List<T1> matches = this.dataQuanta1.get(entry.getKey());
+                if (matches == null) continue;
+                for (T0 dataQuantum0 : entry.getValue()) {
+                    for (T1 dataQuantum1 : matches) {
+                        collector.add(new Tuple2<>(dataQuantum0, dataQuantum1));
+                    }
+                }
+            }
+        }
+    }
+
+}
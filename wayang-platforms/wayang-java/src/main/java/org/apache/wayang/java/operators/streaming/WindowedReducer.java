@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators.streaming;
+
+import org.apache.wayang.basic.function.WindowDescriptor;
+
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Queue;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Reduces the data quanta of an {@link Iterator} per key and event-time window. The aggregates of a window are
+ * emitted once the watermark has passed the window; the remaining windows are emitted when the input is exhausted.
+ * Data quanta that arrive for windows that have been emitted already are dropped.
+ */
+public class WindowedReducer<T, K> implements Iterator<T> {
+
+    private final Iterator<T> input;
+
+    private final Function<T, K> keyExtractor;
+
+    private final BinaryOperator<T> reduceFunction;
+
+    private final ToLongFunction<T> timestampExtractor;
+
+    private final WindowDescriptor windowDescriptor;
+
+    /**
+     * Aggregates of the open windows by their start.
+     */
+    private final SortedMap<Long, Map<K, T>> openWindows = new TreeMap<>();
+
+    /**
+     * Aggregates of complete windows that have not yet been emitted.
+     */
+    private final Queue<T> completeAggregates = new ArrayDeque<>();
+
+    private long maxTimestamp = Long.MIN_VALUE;
+
+    private long numDroppedDataQuanta = 0L;
+
+    public WindowedReducer(Iterator<T> input,
+                           Function<T, K> keyExtractor,
+                           BinaryOperator<T> reduceFunction,
+                           ToLongFunction<T> timestampExtractor,
+                           WindowDescriptor windowDescriptor) {
+        this.input = input;
+        this.keyExtractor = keyExtractor;
+        this.reduceFunction = reduceFunction;
+        this.timestampExtractor = timestampExtractor;
+        this.windowDescriptor = windowDescriptor;
+    }
+
+    @Override
+    public boolean hasNext() {
+        while (this.completeAggregates.isEmpty()) {
+            if (this.input.hasNext()) {
+                this.add(this.input.next());
+            } else if (!this.openWindows.isEmpty()) {
+                this.emitWindows(Long.MAX_VALUE);
+            } else {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void add(T dataQuantum) {
+        final long timestamp = this.timestampExtractor.applyAsLong(dataQuantum);
+        final long watermark = this.windowDescriptor.getWatermark(this.maxTimestamp);
+        final K key = this.keyExtractor.apply(dataQuantum);
+        boolean isDropped = true;
+        for (long windowStart = this.windowDescriptor.getLastWindowStart(timestamp);
+             this.windowDescriptor.getWindowEnd(windowStart) > timestamp;
+             windowStart -= this.windowDescriptor.getSlide()) {
+            if (this.windowDescriptor.isComplete(windowStart, watermark)) break;
+            this.openWindows.computeIfAbsent(windowStart, start -> new LinkedHashMap<>())
+                    .merge(key, dataQuantum, this.reduceFunction);
+            isDropped = false;
+        }
+        if (isDropped) this.numDroppedDataQuanta++;
+
+        if (timestamp > this.maxTimestamp) {
+            this.maxTimestamp = timestamp;
+            this.emitWindows(this.windowDescriptor.getWatermark(timestamp));
+        }
+    }
+
+    /**
+     * Moves the aggregates of all windows that are complete w.r.t. the given watermark to the
+     * {@link #completeAggregates}.
+     */
+    private void emitWindows(long watermark) {
+        while (!this.openWindows.isEmpty()) {
+            final Long windowStart = this.openWindows.firstKey();
+            if (watermark != Long.MAX_VALUE && !this.windowDescriptor.isComplete(windowStart, watermark)) break;
+            this.completeAggregates.addAll(this.openWindows.remove(windowStart).values());
+        }
+    }
+
+    @Override
+    public T next() {
+        if (!this.hasNext()) throw new NoSuchElementException();
+        return this.completeAggregates.poll();
+    }
+
+    /**
+     * @return the number of data quanta that arrived only after all their windows had been emitted
+     */
+    public long getNumDroppedDataQuanta() {
+        return this.numDroppedDataQuanta;
+    }
+
+}
@@ -21,12 +21,18 @@ package org.apache.wayang.java.platform;
 import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.optimizer.costs.LoadProfileToTimeConverter;
 import org.apache.wayang.core.optimizer.costs.LoadToTimeConverter;
+import org.apache.wayang.core.optimizer.costs.ResourceCapacity;
 import org.apache.wayang.core.optimizer.costs.TimeToCostConverter;
 import org.apache.wayang.core.platform.Executor;
 import org.apache.wayang.core.platform.Platform;
+import org.apache.wayang.core.platform.checkpoint.ChannelCheckpointer;
 import org.apache.wayang.core.util.ReflectionUtils;
+import org.apache.wayang.java.channels.CollectionChannelCheckpointer;
 import org.apache.wayang.java.execution.JavaExecutor;
 
+import java.util.Collection;
+import java.util.Collections;
+
 /**
  * {@link Platform} for a single JVM executor based on the {@link java.util.stream.Stream} library.
  */
@@ -73,6 +79,18 @@ public class JavaPlatform extends Platform {
                 LoadToTimeConverter.createLinearCoverter(0),
                 (cpuEstimate, diskEstimate, networkEstimate) -> cpuEstimate.plus(diskEstimate).plus(networkEstimate),
                 stretch
+        ).withMemoryLimit(
+                this.getResourceCapacity(configuration),
+                configuration.getDoubleProperty("wayang.java.memory.spill-factor", 0d)
+        );
+    }
+
+    @Override
+    public ResourceCapacity getResourceCapacity(Configuration configuration) {
+        return new ResourceCapacity(
+                1,
+                (int) configuration.getLongProperty("wayang.java.cores"),
+                Math.round(Runtime.getRuntime().maxMemory() * configuration.getDoubleProperty("wayang.java.memory.fraction", 1d))
         );
     }
 
@@ -83,4 +101,9 @@ public class JavaPlatform extends Platform {
                 configuration.getDoubleProperty("wayang.java.costs.per-ms")
         );
     }
+
+    @Override
+    public Collection<ChannelCheckpointer> getChannelCheckpointers() {
+        return Collections.singletonList(new CollectionChannelCheckpointer());
+    }
 }
@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.plugin;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.mapping.Mapping;
+import org.apache.wayang.core.optimizer.channels.ChannelConversion;
+import org.apache.wayang.core.plan.wayangplan.Operator;
+import org.apache.wayang.core.platform.Platform;
+import org.apache.wayang.core.plugin.Plugin;
+import org.apache.wayang.java.channels.ChannelConversions;
+import org.apache.wayang.java.channels.RecordBatchChannel;
+import org.apache.wayang.java.mapping.Mappings;
+import org.apache.wayang.java.platform.JavaPlatform;
+
+import java.util.Collection;
+import java.util.Collections;
+
+/**
+ * This {@link Plugin} enables to process {@link Record}s batch-at-a-time on the {@link JavaPlatform}. It complements
+ * the {@link JavaBasicPlugin} with alternative implementations of {@link Operator}s on {@link Record}s with known
+ * field types, which exchange {@link RecordBatchChannel}s.
+ */
+public class JavaBatchPlugin implements Plugin {
+
+    @Override
+    public Collection<Mapping> getMappings() {
+        return Mappings.BATCH_MAPPINGS;
+    }
+
+    @Override
+    public Collection<ChannelConversion> getChannelConversions() {
+        return ChannelConversions.BATCH;
+    }
+
+    @Override
+    public Collection<Platform> getRequiredPlatforms() {
+        return Collections.singleton(JavaPlatform.getInstance());
+    }
+
+    @Override
+    public void setProperties(Configuration configuration) {
+        // Nothing to do, because we already configured the properties in #configureDefaults(...).
+    }
+
+}
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.channels;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.java.test.ChannelFactory;
+
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.RandomAccess;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link CollectionChannel}s.
+ */
+public class CollectionChannelTest {
+
+    private final Configuration configuration = new Configuration();
+
+    @Test
+    public void testLoopInvariantBecomesRandomAccessList() {
+        final CollectionChannel.Instance instance = ChannelFactory.createCollectionChannelInstance(
+                new LinkedHashSet<>(Arrays.asList(3, 1, 2)), this.configuration
+        );
+        instance.noteLoopInvariant();
+
+        Assert.assertTrue(instance.provideCollection() instanceof List);
+        Assert.assertTrue(instance.provideCollection() instanceof RandomAccess);
+        // The data quanta can still be read repeatedly and in their original order.
+        for (int i = 0; i < 2; i++) {
+            Assert.assertEquals(
+                    Arrays.asList(3, 1, 2),
+                    instance.<Integer>provideStream().collect(Collectors.toList())
+            );
+        }
+    }
+
+    @Test
+    public void testRandomAccessListIsKept() {
+        final List<Integer> list = Arrays.asList(1, 2, 3);
+        final CollectionChannel.Instance instance = ChannelFactory.createCollectionChannelInstance(list, this.configuration);
+        instance.noteLoopInvariant();
+
+        Assert.assertSame(list, instance.provideCollection());
+    }
+
+}
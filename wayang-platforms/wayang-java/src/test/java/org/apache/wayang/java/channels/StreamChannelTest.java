@@ -0,0 +1,82 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.channels;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.plan.executionplan.Channel;
+import org.apache.wayang.java.test.ChannelFactory;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for the instrumentation of {@link StreamChannel}s.
+ */
+public class StreamChannelTest {
+
+    private final Configuration configuration = new Configuration();
+
+    @Test
+    public void testSizedStreamIsMeasuredWithoutCounting() {
+        final StreamChannel.Instance instance = ChannelFactory.createStreamChannelInstance(this.configuration);
+        instance.getChannel().markForInstrumentation();
+        instance.accept(Stream.of(1, 2, 3, 4).map(i -> i * 2));
+
+        // The cardinality is known before consuming the stream.
+        Assert.assertEquals(OptionalLong.of(4), instance.getMeasuredCardinality());
+        final List<Integer> result = instance.<Integer>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList(2, 4, 6, 8), result);
+        Assert.assertEquals(OptionalLong.of(4), instance.getMeasuredCardinality());
+    }
+
+    @Test
+    public void testUnsizedStreamIsCounted() {
+        final StreamChannel.Instance instance = ChannelFactory.createStreamChannelInstance(this.configuration);
+        instance.getChannel().markForInstrumentation();
+        instance.accept(Stream.of(1, 2, 3, 4).filter(i -> i % 2 == 0));
+
+        Assert.assertFalse(instance.getMeasuredCardinality().isPresent());
+        final List<Integer> result = instance.<Integer>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList(2, 4), result);
+        Assert.assertEquals(OptionalLong.of(2), instance.getMeasuredCardinality());
+    }
+
+    @Test
+    public void testExactInstrumentationPrevailsOverSampling() {
+        final Channel sampledChannel = ChannelFactory.createStreamChannelInstance(this.configuration).getChannel();
+        Assert.assertFalse(sampledChannel.isInstrumentationSampled());
+        sampledChannel.markForSampledInstrumentation();
+        Assert.assertTrue(sampledChannel.isMarkedForInstrumentation());
+        Assert.assertTrue(sampledChannel.isInstrumentationSampled());
+        sampledChannel.markForInstrumentation();
+        Assert.assertFalse(sampledChannel.isInstrumentationSampled());
+
+        final Channel exactChannel = ChannelFactory.createStreamChannelInstance(this.configuration).getChannel();
+        exactChannel.markForInstrumentation();
+        exactChannel.markForSampledInstrumentation();
+        Assert.assertTrue(exactChannel.isMarkedForInstrumentation());
+        Assert.assertFalse(exactChannel.isInstrumentationSampled());
+    }
+
+}
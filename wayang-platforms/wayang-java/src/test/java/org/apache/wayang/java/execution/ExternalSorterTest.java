@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.execution;
+
+import org.apache.wayang.core.api.exception.WayangException;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for the {@link ExternalSorter}.
+ */
+public class ExternalSorterTest {
+
+    private Path spillDirectory;
+
+    @Before
+    public void setUp() throws IOException {
+        this.spillDirectory = Files.createTempDirectory("wayang-sort");
+        this.spillDirectory.toFile().deleteOnExit();
+    }
+
+    private static List<String> createValues(int numValues) {
+        final Random random = new Random(42);
+        final List<String> values = new ArrayList<>(numValues);
+        for (int i = 0; i < numValues; i++) {
+            values.add(random.nextInt(100) + ":" + i);
+        }
+        return values;
+    }
+
+    private static int getKey(String value) {
+        return Integer.parseInt(value.substring(0, value.indexOf(':')));
+    }
+
+    private long countSpillFiles() throws IOException {
+        try (Stream<Path> files = Files.list(this.spillDirectory)) {
+            return files.count();
+        }
+    }
+
+    @Test
+    public void testInMemorySort() throws IOException {
+        final List<String> values = createValues(1000);
+        final ExternalSorter<String, Integer> sorter =
+                new ExternalSorter<>(ExternalSorterTest::getKey, 1000, 2, this.spillDirectory);
+
+        final List<String> result = sorter.sort(values.stream()).collect(Collectors.toList());
+
+        values.sort(Comparator.comparingInt(ExternalSorterTest::getKey));
+        Assert.assertEquals(values, result);
+        Assert.assertEquals(0L, sorter.getSpilledBytes());
+        Assert.assertEquals(0L, this.countSpillFiles());
+    }
+
+    @Test
+    public void testSpillingSortIsStable() throws IOException {
+        final List<String> values = createValues(1000);
+        final ExternalSorter<String, Integer> sorter =
+                new ExternalSorter<>(ExternalSorterTest::getKey, 64, 3, this.spillDirectory);
+
+        final List<String> result = sorter.sort(values.stream()).collect(Collectors.toList());
+
+        // List#sort is stable, too.
+        values.sort(Comparator.comparingInt(ExternalSorterTest::getKey));
+        Assert.assertEquals(values, result);
+        Assert.assertTrue(sorter.getSpilledBytes() > 0L);
+        Assert.assertEquals(0L, this.countSpillFiles());
+    }
+
+    @Test
+    public void testSpillingSortWithNonIntegralKeys() throws IOException {
+        final List<String> values = createValues(500);
+        final ExternalSorter<String, String> sorter =
+                new ExternalSorter<>(value -> value.substring(value.indexOf(':') + 1), 50, 1, this.spillDirectory);
+
+        final List<String> result = sorter.sort(values.stream()).collect(Collectors.toList());
+
+        values.sort(Comparator.comparing(value -> value.substring(value.indexOf(':') + 1)));
+        Assert.assertEquals(values, result);
+        Assert.assertEquals(0L, this.countSpillFiles());
+    }
+
+    @Test
+    public void testClosingDeletesRuns() throws IOException {
+        final ExternalSorter<String, Integer> sorter =
+                new ExternalSorter<>(ExternalSorterTest::getKey, 10, 2, this.spillDirectory);
+
+        try (Stream<String> result = sorter.sort(createValues(100).stream())) {
+            Assert.assertEquals(10, result.limit(10).count());
+        }
+        Assert.assertEquals(0L, this.countSpillFiles());
+    }
+
+    /**
+     * A data quantum that cannot be spilled.
+     */
+    private static class NonSerializableValue {
+
+        private final int key;
+
+        private NonSerializableValue(int key) {
+            this.key = key;
+        }
+    }
+
+    @Test
+    public void testInMemorySortOfNonSerializables() throws IOException {
+        final ExternalSorter<NonSerializableValue, Integer> sorter =
+                new ExternalSorter<>(value -> value.key, 10, 2, this.spillDirectory);
+
+        final List<Integer> result = sorter.sort(new Random(42).ints(100, 0, 1000).mapToObj(NonSerializableValue::new))
+                .map(value -> value.key)
+                .collect(Collectors.toList());
+
+        Assert.assertEquals(100, result.size());
+        Assert.assertEquals(result.stream().sorted().collect(Collectors.toList()), result);
+        Assert.assertEquals(0L, sorter.getSpilledBytes());
+        Assert.assertEquals(0L, this.countSpillFiles());
+    }
+
+    @Test
+    public void testFailOnSpillingNonSerializables() throws IOException {
+        final ExternalSorter<Object, Integer> sorter =
+                new ExternalSorter<>(Object::hashCode, 10, 2, this.spillDirectory);
+        final Stream<Object> input = Stream.concat(
+                Stream.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11),
+                Stream.of(new NonSerializableValue(12))
+        );
+
+        try {
+            sorter.sort(input);
+            Assert.fail("Expected a WayangException.");
+        } catch (WayangException e) {
+            Assert.assertTrue(e.getMessage().contains(ExternalSorter.RUN_SIZE_KEY));
+        }
+        Assert.assertEquals(0L, this.countSpillFiles());
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.hash;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * Test suite for the {@link HashIndex} and the {@link ChainedHashTable}.
+ */
+public class HashIndexTest {
+
+    /**
+     * Checks that a {@link HashIndex} assigns the same IDs as a {@link HashMap} that counts the distinct keys.
+     */
+    private static <K> void checkAgainstHashMap(HashIndex<K> index, K[] keys) {
+        final Map<K, Integer> expectedIds = new HashMap<>();
+        for (K key : keys) {
+            final Integer expectedId = expectedIds.computeIfAbsent(key, k -> expectedIds.size());
+            Assert.assertEquals(expectedId.intValue(), index.getOrAdd(key));
+        }
+        Assert.assertEquals(expectedIds.size(), index.size());
+        expectedIds.forEach((key, id) -> Assert.assertEquals(id.intValue(), index.get(key)));
+        Assert.assertTrue(index.getMemoryBytes() > 0);
+    }
+
+    @Test
+    public void testIntegralKeys() {
+        final Random random = new Random(42);
+        final Long[] keys = new Long[100000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(10) == 0 ? null : random.nextLong() % 20000L;
+        }
+        final HashIndex<Long> index = HashIndex.create(Long.class, 10);
+        Assert.assertTrue(index instanceof IntegralHashIndex);
+        checkAgainstHashMap(index, keys);
+        Assert.assertEquals(HashIndex.ABSENT, index.get(Long.MAX_VALUE));
+    }
+
+    @Test
+    public void testObjectKeys() {
+        final Random random = new Random(42);
+        final String[] keys = new String[100000];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextInt(10) == 0 ? null : Integer.toString(random.nextInt(20000));
+        }
+        final HashIndex<String> index = HashIndex.create(String.class, null);
+        Assert.assertTrue(index instanceof ObjectHashIndex);
+        checkAgainstHashMap(index, keys);
+        Assert.assertEquals(HashIndex.ABSENT, index.get("x"));
+    }
+
+    @Test
+    public void testImpreciseKeyClass() {
+        // Keys of other classes must not be confused with numerically equal ones.
+        final HashIndex<Object> index = HashIndex.create(Long.class, 10);
+        checkAgainstHashMap(index, new Object[]{1L, 1, "1", 1L, 2, 1, 2L, "1"});
+        Assert.assertEquals(5, index.size());
+    }
+
+    @Test
+    public void testAdd() {
+        final HashIndex<Integer> index = HashIndex.create(Integer.class, 10);
+        Assert.assertTrue(index.add(1));
+        Assert.assertTrue(index.add(null));
+        Assert.assertFalse(index.add(1));
+        Assert.assertFalse(index.add(null));
+        Assert.assertTrue(index.add(2));
+        Assert.assertEquals(3, index.size());
+    }
+
+    @Test
+    public void testChainedHashTable() {
+        final ChainedHashTable<String, Integer> table = new ChainedHashTable<>(String.class, null);
+        for (int i = 0; i < 10000; i++) {
+            table.add(i % 3 == 0 ? null : Integer.toString(i % 100), i);
+        }
+        Assert.assertEquals(101, table.getNumKeys());
+        Assert.assertEquals(Arrays.asList(1, 101, 301), table.get("1").subList(0, 3));
+        Assert.assertEquals(67, table.get("1").size());
+        Assert.assertEquals(3334, table.get(null).size());
+        Assert.assertEquals(Collections.emptyList(), table.get("x"));
+    }
+
+}
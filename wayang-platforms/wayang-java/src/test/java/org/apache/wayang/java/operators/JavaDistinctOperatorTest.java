@@ -24,8 +24,10 @@ import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 
 import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -56,4 +58,26 @@ public class JavaDistinctOperatorTest extends JavaExecutionOperatorTestBase {
 
     }
 
+    @Test
+    public void testExecutionWithParallelInput() {
+        // Prepare test data.
+        Stream<Integer> inputStream = IntStream.range(0, 100000).mapToObj(i -> i % 1000).parallel();
+
+        // Build the distinct operator.
+        JavaDistinctOperator<Integer> distinctOperator =
+                new JavaDistinctOperator<>(
+                        DataSetType.createDefaultUnchecked(Integer.class)
+                );
+
+        // Execute.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(inputStream)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluate(distinctOperator, inputs, outputs);
+
+        // Verify the outcome.
+        final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(1000, result.size());
+        Assert.assertEquals(1000, new HashSet<>(result).size());
+    }
+
 }
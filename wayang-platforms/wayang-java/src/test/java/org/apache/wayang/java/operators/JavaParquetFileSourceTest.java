@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators;
+
+import org.junit.Assert;
+import org.junit.BeforeClass;
+import org.junit.Test;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.core.function.PredicateDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link JavaParquetFileSource} and {@link JavaParquetFileSink}.
+ */
+public class JavaParquetFileSourceTest extends JavaExecutionOperatorTestBase {
+
+    private static final String SCHEMA = "message test { required int64 id; optional binary name (UTF8); optional double score; }";
+
+    private static String parquetFileUrl;
+
+    private static List<Record> records;
+
+    // If this test fails, make sure you have Hadoop installed and it's HADOOP_HOME is set.
+    @BeforeClass
+    public static void writeParquetFile() throws IOException {
+        Path tempDir = Files.createTempDirectory("wayang-java");
+        tempDir.toFile().deleteOnExit();
+        parquetFileUrl = tempDir.resolve("test.parquet").toUri().toString();
+
+        records = new ArrayList<>();
+        for (long id = 0; id < 1000; id++) {
+            records.add(new Record(id, id % 10 == 0 ? null : "name" + id, id / 10d));
+        }
+        final JavaParquetFileSink sink = new JavaParquetFileSink(parquetFileUrl, SCHEMA);
+        evaluate(sink, new ChannelInstance[]{createCollectionChannelInstance(records)}, new ChannelInstance[0]);
+    }
+
+    @Test
+    public void testReadingAllColumns() {
+        JavaParquetFileSource source = new JavaParquetFileSource(parquetFileUrl);
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluate(source, new ChannelInstance[0], outputs);
+
+        final List<Record> result = outputs[0].<Record>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(records, result);
+    }
+
+    @Test
+    public void testProjectionAndPredicate() {
+        JavaParquetFileSource source = new JavaParquetFileSource(parquetFileUrl, "name", "id");
+        source.withPredicate(
+                new PredicateDescriptor<>(record -> record.getLong(1) >= 990L, Record.class)
+                        .withSqlImplementation("id >= 990 AND name IS NOT NULL")
+        );
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluate(source, new ChannelInstance[0], outputs);
+
+        final List<Record> result = outputs[0].<Record>provideStream().collect(Collectors.toList());
+        List<Record> expected = new ArrayList<>();
+        for (long id = 991; id < 1000; id++) {
+            expected.add(new Record("name" + id, id));
+        }
+        Assert.assertEquals(expected, result);
+    }
+
+    @Test
+    public void testUntranslatablePredicate() {
+        JavaParquetFileSource source = new JavaParquetFileSource(parquetFileUrl, "id", "score");
+        source.withPredicate(
+                new PredicateDescriptor<>(record -> record.getLong(0) % 100 == 0, Record.class)
+                        .withSqlImplementation("MOD(id, 100) = 0")
+        );
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluate(source, new ChannelInstance[0], outputs);
+
+        final List<Record> result = outputs[0].<Record>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(
+                Arrays.asList(0L, 100L, 200L, 300L, 400L, 500L, 600L, 700L, 800L, 900L),
+                result.stream().map(record -> record.getField(0)).collect(Collectors.toList())
+        );
+    }
+
+}
@@ -25,8 +25,10 @@ import org.apache.wayang.java.channels.JavaChannelInstance;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -60,6 +62,58 @@ public class JavaRandomSampleOperatorTest extends JavaExecutionOperatorTestBase
 
     }
 
+    @Test
+    public void testExecutionWithUnknownDatasetSize() {
+        // Prepare test data.
+        Stream<Integer> inputStream = Stream.of(1, 2, 3, 4, 5, 6, 7, 8, 9, 10);
+        final int sampleSize = 3;
+
+        JavaRandomSampleOperator<Integer> sampleOperator =
+                new JavaRandomSampleOperator<>(
+                        iteration -> sampleSize,
+                        DataSetType.createDefaultUnchecked(Integer.class),
+                        iteration -> 42L
+                );
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(inputStream)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+
+        // Execute.
+        evaluate(sampleOperator, inputs, outputs);
+
+        // Verify the outcome.
+        final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(sampleSize, result.size());
+        Assert.assertEquals(sampleSize, new HashSet<>(result).size());
+    }
+
+    @Test
+    public void testRandomAccessExecution() {
+        // Prepare test data.
+        final List<Integer> inputList = IntStream.range(0, 100000).boxed().collect(Collectors.toList());
+        final int sampleSize = 100;
+
+        JavaRandomSampleOperator<Integer> sampleOperator =
+                new JavaRandomSampleOperator<>(
+                        iteration -> sampleSize,
+                        DataSetType.createDefaultUnchecked(Integer.class),
+                        iteration -> 42L
+                );
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createCollectionChannelInstance(inputList)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+
+        // Execute.
+        evaluate(sampleOperator, inputs, outputs);
+
+        // Verify the outcome: The sample should consist of distinct data quanta in their original order.
+        final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(sampleSize, result.size());
+        for (int i = 1; i < result.size(); i++) {
+            Assert.assertTrue(result.get(i - 1) < result.get(i));
+        }
+    }
+
     @Test
     public void testUDFExecution() {
         // Prepare test data.
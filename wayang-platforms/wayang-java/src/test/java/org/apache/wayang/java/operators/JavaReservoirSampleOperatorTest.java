@@ -18,13 +18,16 @@
 
 package org.apache.wayang.java.operators;
 
+import org.apache.wayang.basic.operators.SampleOperator;
 import org.junit.Assert;
 import org.junit.Test;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.java.channels.JavaChannelInstance;
 
+import java.util.HashSet;
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 
 /**
@@ -58,6 +61,59 @@ public class JavaReservoirSampleOperatorTest extends JavaExecutionOperatorTestBa
         Assert.assertEquals(sampleSize, result.size());
     }
 
+    @Test
+    public void testExecutionWithUnknownDatasetSize() {
+        // Prepare test data.
+        Stream<Integer> inputStream = IntStream.range(0, 1000).boxed();
+        final int sampleSize = 10;
+
+        JavaReservoirSampleOperator<Integer> sampleOperator =
+                new JavaReservoirSampleOperator<>(
+                        iterationNumber -> sampleSize,
+                        DataSetType.createDefaultUnchecked(Integer.class),
+                        iterationNumber -> 42L
+                );
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(inputStream)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+
+        // Execute.
+        evaluate(sampleOperator, inputs, outputs);
+
+        // Verify the outcome.
+        final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+        Assert.assertEquals(sampleSize, result.size());
+        Assert.assertEquals(sampleSize, new HashSet<>(result).size());
+    }
+
+    @Test
+    public void testParallelExecution() {
+        final List<Integer> result = this.sampleInParallel(IntStream.range(0, 200000).boxed().collect(Collectors.toList()));
+        Assert.assertEquals(100, result.size());
+        Assert.assertEquals(100, new HashSet<>(result).size());
+
+        // The sample depends only on the seed.
+        Assert.assertEquals(result, this.sampleInParallel(IntStream.range(0, 200000).boxed().collect(Collectors.toList())));
+    }
+
+    private List<Integer> sampleInParallel(List<Integer> inputCollection) {
+        JavaReservoirSampleOperator<Integer> sampleOperator =
+                new JavaReservoirSampleOperator<>(
+                        iterationNumber -> 100,
+                        DataSetType.createDefaultUnchecked(Integer.class),
+                        iterationNumber -> 42L
+                );
+        sampleOperator.setSampleMethod(SampleOperator.Methods.PARALLEL_RESERVOIR);
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createCollectionChannelInstance(inputCollection)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+
+        // Execute.
+        evaluate(sampleOperator, inputs, outputs);
+
+        return outputs[0].<Integer>provideStream().collect(Collectors.toList());
+    }
+
     @Test
     public void testLargerSampleExecution() {
         // Prepare test data.
@@ -0,0 +1,112 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.function.ProjectionDescriptor;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.types.DataUnitType;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.execution.ExternalSorter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for {@link JavaSortMergeJoinOperator}.
+ */
+public class JavaSortMergeJoinOperatorTest extends JavaExecutionOperatorTestBase {
+
+    private static JavaSortMergeJoinOperator<Tuple2<Integer, String>, Tuple2<String, Integer>, Integer> createJoin() {
+        return new JavaSortMergeJoinOperator<>(
+                DataSetType.createDefaultUnchecked(Tuple2.class),
+                DataSetType.createDefaultUnchecked(Tuple2.class),
+                new ProjectionDescriptor<>(
+                        DataUnitType.createBasicUnchecked(Tuple2.class),
+                        DataUnitType.createBasic(Integer.class),
+                        "field0"),
+                new ProjectionDescriptor<>(
+                        DataUnitType.createBasicUnchecked(Tuple2.class),
+                        DataUnitType.createBasic(Integer.class),
+                        "field1"));
+    }
+
+    private static List<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> join(
+            List<Tuple2<Integer, String>> input0,
+            List<Tuple2<String, Integer>> input1) {
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                createStreamChannelInstance(input0.stream()),
+                createStreamChannelInstance(input1.stream())
+        };
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluate(createJoin(), inputs, outputs);
+        return outputs[0].<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>>provideStream()
+                .collect(Collectors.toList());
+    }
+
+    @Test
+    public void testExecution() {
+        final List<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> result = join(
+                Arrays.asList(new Tuple2<>(3, "e"), new Tuple2<>(1, "b"), new Tuple2<>(2, "d"), new Tuple2<>(1, "c")),
+                Arrays.asList(new Tuple2<>("w", 4), new Tuple2<>("x", 1), new Tuple2<>("z", 2), new Tuple2<>("y", 1))
+        );
+
+        // The join partners are ordered by key and, for equal keys, by input order.
+        final List<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> expectedResult = Arrays.asList(
+                new Tuple2<>(new Tuple2<>(1, "b"), new Tuple2<>("x", 1)),
+                new Tuple2<>(new Tuple2<>(1, "b"), new Tuple2<>("y", 1)),
+                new Tuple2<>(new Tuple2<>(1, "c"), new Tuple2<>("x", 1)),
+                new Tuple2<>(new Tuple2<>(1, "c"), new Tuple2<>("y", 1)),
+                new Tuple2<>(new Tuple2<>(2, "d"), new Tuple2<>("z", 2))
+        );
+        Assert.assertEquals(expectedResult, result);
+    }
+
+    @Test
+    public void testExecutionWithSpilling() {
+        final List<Tuple2<Integer, String>> input0 = new ArrayList<>();
+        final List<Tuple2<String, Integer>> input1 = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            input0.add(new Tuple2<>((i * 7) % 20, "a" + i));
+            input1.add(new Tuple2<>("b" + i, (i * 11) % 30));
+        }
+
+        configuration.setProperty(ExternalSorter.RUN_SIZE_KEY, "8");
+        final List<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> result;
+        try {
+            result = join(input0, input1);
+        } finally {
+            configuration.setProperty(ExternalSorter.RUN_SIZE_KEY, "1000000");
+        }
+
+        final List<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> expectedResult = Stream
+                .iterate(0, key -> key + 1).limit(20)
+                .flatMap(key -> input0.stream().filter(t0 -> t0.field0.equals(key))
+                        .flatMap(t0 -> input1.stream().filter(t1 -> t1.field1.equals(key))
+                                .map(t1 -> new Tuple2<>(t0, t1))))
+                .collect(Collectors.toList());
+        Assert.assertEquals(expectedResult, result);
+    }
+
+}
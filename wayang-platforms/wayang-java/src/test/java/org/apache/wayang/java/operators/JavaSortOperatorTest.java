@@ -23,8 +23,11 @@ import org.junit.Test;
 import org.apache.wayang.core.function.TransformationDescriptor;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.execution.ExternalSorter;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -59,4 +62,36 @@ public class JavaSortOperatorTest extends JavaExecutionOperatorTestBase {
 
     }
 
+    @Test
+    public void testExecutionWithSpilling() {
+        // Prepare test data.
+        final List<Integer> input = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            input.add((i * 37) % 101);
+        }
+
+        // Build the sort operator.
+        JavaSortOperator<Integer, Integer> sortOperator =
+                new JavaSortOperator<>(new TransformationDescriptor<Integer, Integer>(
+                        r->r,
+                        Integer.class, Integer.class),
+                        DataSetType.createDefaultUnchecked(Integer.class)
+                );
+
+        // Execute with runs of 10 data quanta.
+        configuration.setProperty(ExternalSorter.RUN_SIZE_KEY, "10");
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(input.stream())};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        try {
+            evaluate(sortOperator, inputs, outputs);
+        } finally {
+            configuration.setProperty(ExternalSorter.RUN_SIZE_KEY, "1000000");
+        }
+
+        // Verify the outcome.
+        final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+        Collections.sort(input);
+        Assert.assertEquals(input, result);
+    }
+
 }
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for {@link JavaStratifiedSampleOperator}.
+ */
+public class JavaStratifiedSampleOperatorTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    public void testExecution() {
+        // Prepare test data: stratum i comprises 10 * i + 1 data quanta.
+        Stream<Integer> inputStream = IntStream.range(0, 5)
+                .flatMap(stratum -> IntStream.rangeClosed(0, 10 * stratum).map(i -> 100 * i + stratum))
+                .boxed();
+        final int sampleSize = 5;
+
+        JavaStratifiedSampleOperator<Integer, Integer> sampleOperator =
+                new JavaStratifiedSampleOperator<>(
+                        iterationNumber -> sampleSize,
+                        DataSetType.createDefaultUnchecked(Integer.class),
+                        iterationNumber -> 42L,
+                        new TransformationDescriptor<>(i -> i % 100, Integer.class, Integer.class)
+                );
+
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{createStreamChannelInstance(inputStream)};
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+
+        // Execute.
+        evaluate(sampleOperator, inputs, outputs);
+
+        // Verify the outcome.
+        final List<Integer> result = outputs[0].<Integer>provideStream().collect(Collectors.toList());
+        final Map<Integer, Long> stratumSizes = result.stream()
+                .collect(Collectors.groupingBy(i -> i % 100, Collectors.counting()));
+        Assert.assertEquals(5, stratumSizes.size());
+        Assert.assertEquals(1L, (long) stratumSizes.get(0));
+        for (int stratum = 1; stratum < 5; stratum++) {
+            Assert.assertEquals(sampleSize, (long) stratumSizes.get(stratum));
+        }
+        Assert.assertEquals(result.size(), result.stream().distinct().count());
+    }
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.basic.operators.TextFileSource;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.util.fs.LocalFileSystem;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test suite for {@link JavaTextFileSource}.
+ */
+public class JavaTextFileSourceTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    public void testParallelReadingRetainsOrder() throws IOException {
+        List<String> expectedLines = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            expectedLines.add("line " + i);
+        }
+        File file = File.createTempFile("wayang-text", ".txt");
+        file.deleteOnExit();
+        Files.write(file.toPath(), expectedLines, StandardCharsets.UTF_8);
+
+        configuration.setProperty("wayang.java.textfilesource.parallel", "true");
+        configuration.setProperty("wayang.java.textfilesource.splitsize", "1000");
+        try {
+            Assert.assertEquals(expectedLines, this.readThroughSink(new JavaTextFileSource(LocalFileSystem.toURL(file))));
+        } finally {
+            configuration.setProperty("wayang.java.textfilesource.parallel", "false");
+            configuration.setProperty("wayang.java.textfilesource.splitsize", String.valueOf(128L << 20));
+        }
+    }
+
+    @Test
+    public void testReadingWithEncoding() throws IOException {
+        List<String> expectedLines = Arrays.asList("Grüße", "Ærø", "plain");
+        File file = File.createTempFile("wayang-text", ".txt");
+        file.deleteOnExit();
+        Files.write(file.toPath(), expectedLines, StandardCharsets.ISO_8859_1);
+
+        JavaTextFileSource source = new JavaTextFileSource(
+                new TextFileSource(LocalFileSystem.toURL(file), "ISO-8859-1")
+        );
+        Assert.assertEquals(expectedLines, this.readThroughSink(source));
+    }
+
+    /**
+     * Evaluates the {@code source} and feeds its output into a {@link JavaLocalCallbackSink}.
+     *
+     * @return the lines that arrived at the sink
+     */
+    private List<String> readThroughSink(JavaTextFileSource source) {
+        JavaChannelInstance[] sourceOutputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluate(source, new JavaChannelInstance[]{}, sourceOutputs);
+
+        // The collector is not thread-safe, so a leaking parallel stream would garble it.
+        List<String> collector = new ArrayList<>();
+        JavaLocalCallbackSink<String> sink = new JavaLocalCallbackSink<>(collector::add, DataSetType.createDefault(String.class));
+        evaluate(sink, sourceOutputs, new JavaChannelInstance[]{});
+        return collector;
+    }
+}
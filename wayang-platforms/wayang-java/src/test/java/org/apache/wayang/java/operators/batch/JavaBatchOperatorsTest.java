@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.wayang.java.operators.batch;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.data.RecordBatch;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.data.TypedRecord;
+import org.apache.wayang.basic.function.ProjectionDescriptor;
+import org.apache.wayang.basic.types.RecordType;
+import org.apache.wayang.core.function.PredicateDescriptor;
+import org.apache.wayang.core.function.ReduceDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.types.DataUnitType;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.channels.RecordBatchChannel;
+import org.apache.wayang.java.operators.JavaExecutionOperatorTestBase;
+import org.apache.wayang.java.test.ChannelFactory;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for the batch-at-a-time operators in this package.
+ */
+public class JavaBatchOperatorsTest extends JavaExecutionOperatorTestBase {
+
+    private static final RecordType TYPE = new RecordType(
+            new String[]{"id", "group", "value"},
+            new Class<?>[]{Long.class, Integer.class, Double.class}
+    );
+
+    private static List<Record> createRecords(int numRecords) {
+        List<Record> records = new ArrayList<>();
+        for (long id = 0; id < numRecords; id++) {
+            records.add(TYPE.createRecord(id, id % 7 == 0 ? null : (int) (id % 5), id / 2d));
+        }
+        return records;
+    }
+
+    private static RecordBatchChannel.Instance createBatchChannelInstance(List<Record> records) {
+        final JavaBatchRecordsOperator batchRecordsOperator = new JavaBatchRecordsOperator(DataSetType.createDefault(TYPE));
+        final RecordBatchChannel.Instance output = createBatchChannelInstance();
+        evaluate(batchRecordsOperator, new ChannelInstance[]{createCollectionChannelInstance(records)}, new ChannelInstance[]{output});
+        return output;
+    }
+
+    private static RecordBatchChannel.Instance createBatchChannelInstance() {
+        return ChannelFactory.createRecordBatchChannelInstance(configuration);
+    }
+
+    @Test
+    public void testBatching() {
+        final List<Record> records = createRecords(3000);
+        final List<RecordBatch> batches = createBatchChannelInstance(records).provideBatches().collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList(1024, 1024, 952), batches.stream().map(RecordBatch::size).collect(Collectors.toList()));
+
+        final JavaUnbatchRecordsOperator unbatchRecordsOperator = new JavaUnbatchRecordsOperator(DataSetType.createDefault(TYPE));
+        final JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluate(
+                unbatchRecordsOperator,
+                new ChannelInstance[]{ChannelFactory.createRecordBatchChannelInstance(batches.stream(), configuration)},
+                outputs
+        );
+        Assert.assertEquals(records, outputs[0].<Record>provideStream().collect(Collectors.toList()));
+    }
+
+    @Test
+    public void testFilterAndProjection() {
+        final List<Record> records = createRecords(3000);
+
+        final JavaBatchFilterOperator filterOperator = new JavaBatchFilterOperator(
+                DataSetType.createDefault(TYPE),
+                new PredicateDescriptor<>(record -> record.getField(1) != null && record.getDouble(2) >= 1000d, Record.class)
+        );
+        final RecordBatchChannel.Instance filtered = createBatchChannelInstance();
+        evaluate(filterOperator, new ChannelInstance[]{createBatchChannelInstance(records)}, new ChannelInstance[]{filtered});
+
+        final JavaBatchProjectionOperator projectionOperator = new JavaBatchProjectionOperator(
+                ProjectionDescriptor.createForRecords(TYPE, "value", "id")
+        );
+        final RecordBatchChannel.Instance projected = createBatchChannelInstance();
+        evaluate(projectionOperator, new ChannelInstance[]{filtered}, new ChannelInstance[]{projected});
+
+        final List<Record> result = projected.<Record>provideStream().collect(Collectors.toList());
+        final List<Record> expected = records.stream()
+                .filter(record -> record.getField(1) != null && record.getDouble(2) >= 1000d)
+                .map(record -> new Record(record.getField(2), record.getField(0)))
+                .collect(Collectors.toList());
+        Assert.assertEquals(expected, result);
+        Assert.assertTrue(result.get(0) instanceof TypedRecord);
+    }
+
+    @Test
+    public void testReduceByAndCount() {
+        final List<Record> records = createRecords(3000);
+
+        final JavaBatchReduceByOperator<Record> reduceByOperator = new JavaBatchReduceByOperator<>(
+                DataSetType.createDefault(TYPE),
+                ProjectionDescriptor.createForRecords(TYPE, "group"),
+                new ReduceDescriptor<>(
+                        (record1, record2) -> TYPE.createRecord(
+                                record1.getField(0), record1.getField(1), record1.getDouble(2) + record2.getDouble(2)
+                        ),
+                        DataUnitType.createGrouped(Record.class),
+                        DataUnitType.createBasic(Record.class)
+                )
+        );
+        final JavaChannelInstance[] outputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+        evaluate(reduceByOperator, new ChannelInstance[]{createBatchChannelInstance(records)}, outputs);
+
+        final Set<List<Object>> sums = outputs[0].<Record>provideStream()
+                .map(record -> Arrays.<Object>asList(record.getField(1), record.getDouble(2)))
+                .collect(Collectors.toSet());
+        final Set<List<Object>> expectedSums = records.stream()
+                .collect(Collectors.groupingBy(
+                        record -> Collections.singletonList(record.getField(1)),
+                        Collectors.summingDouble(record -> record.getDouble(2))
+                ))
+                .entrySet().stream()
+                .map(entry -> Arrays.<Object>asList(entry.getKey().get(0), entry.getValue()))
+                .collect(Collectors.toSet());
+        Assert.assertEquals(expectedSums, sums);
+
+        final JavaBatchCountOperator countOperator = new JavaBatchCountOperator(DataSetType.createDefault(TYPE));
+        final JavaChannelInstance[] countOutputs = new JavaChannelInstance[]{createCollectionChannelInstance()};
+        evaluate(countOperator, new ChannelInstance[]{createBatchChannelInstance(records)}, countOutputs);
+        Assert.assertEquals(3000L, countOutputs[0].provideStream().findFirst().get());
+    }
+
+    @Test
+    public void testJoin() {
+        final List<Record> records0 = createRecords(2000);
+        final List<Record> records1 = createRecords(10);
+
+        final JavaBatchJoinOperator<Record> joinOperator = new JavaBatchJoinOperator<>(
+                DataSetType.createDefault(TYPE),
+                DataSetType.createDefault(TYPE),
+                ProjectionDescriptor.createForRecords(TYPE, "group"),
+                ProjectionDescriptor.createForRecords(TYPE, "group")
+        );
+        final JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluate(
+                joinOperator,
+                new ChannelInstance[]{createBatchChannelInstance(records0), createBatchChannelInstance(records1)},
+                outputs
+        );
+
+        final Collection<Tuple2<Record, Record>> result = outputs[0].<Tuple2<Record, Record>>provideStream()
+                .collect(Collectors.toCollection(HashSet::new));
+        final Set<Tuple2<Record, Record>> expected = records0.stream()
+                .flatMap(record0 -> records1.stream()
+                        .filter(record1 -> Objects.equals(record0.getField(1), record1.getField(1)))
+                        .map(record1 -> new Tuple2<>(record0, record1)))
+                .collect(Collectors.toSet());
+        Assert.assertEquals(expected, result);
+    }
+
+}
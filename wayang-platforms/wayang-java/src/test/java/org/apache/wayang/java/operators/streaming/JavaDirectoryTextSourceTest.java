@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators.streaming;
+
+import org.apache.wayang.basic.operators.DirectoryTextSource;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.operators.JavaExecutionOperatorTestBase;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for {@link JavaDirectoryTextSource}.
+ */
+public class JavaDirectoryTextSourceTest extends JavaExecutionOperatorTestBase {
+
+    @Rule
+    public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+    @Test(timeout = 10000)
+    public void testExecution() throws Exception {
+        final File directory = this.temporaryFolder.newFolder();
+        Files.write(new File(directory, "a.txt").toPath(), Arrays.asList("a1", "a2"), StandardCharsets.UTF_8);
+        Files.write(new File(directory, "_b.txt").toPath(), Collections.singletonList("in progress"));
+
+        JavaDirectoryTextSource source = new JavaDirectoryTextSource(
+                new DirectoryTextSource(directory.toURI().toString(), "UTF-8", 10L)
+        );
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluate(source, new JavaChannelInstance[0], outputs);
+
+        final List<String> result = new ArrayList<>();
+        try (Stream<String> stream = outputs[0].provideStream()) {
+            final Iterator<String> iterator = stream.iterator();
+            result.add(iterator.next());
+            result.add(iterator.next());
+
+            // Files that are moved into the directory later on are picked up as well.
+            Files.move(new File(directory, "_b.txt").toPath(), new File(directory, "b.txt").toPath());
+            result.add(iterator.next());
+        }
+        Assert.assertEquals(Arrays.asList("a1", "a2", "in progress"), result);
+    }
+
+}
@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators.streaming;
+
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.operators.JavaExecutionOperatorTestBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link JavaSocketTextSource}.
+ */
+public class JavaSocketTextSourceTest extends JavaExecutionOperatorTestBase {
+
+    @Test(timeout = 10000)
+    public void testExecution() throws Exception {
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            final Thread server = new Thread(() -> {
+                try (Socket socket = serverSocket.accept();
+                     Writer writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+                    writer.write("Hello\nWorld\näöü\n");
+                } catch (IOException e) {
+                    throw new RuntimeException(e);
+                }
+            });
+            server.start();
+
+            JavaSocketTextSource source = new JavaSocketTextSource("localhost", serverSocket.getLocalPort());
+            JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+            evaluate(source, new JavaChannelInstance[0], outputs);
+
+            // The stream ends as soon as the server closes the connection.
+            final List<String> result = outputs[0].<String>provideStream().collect(Collectors.toList());
+            server.join();
+            Assert.assertEquals(Arrays.asList("Hello", "World", "äöü"), result);
+        }
+    }
+
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators.streaming;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.function.WindowDescriptor;
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.operators.JavaExecutionOperatorTestBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link JavaWindowedJoinOperator}.
+ */
+public class JavaWindowedJoinOperatorTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    public void testExecution() {
+        // Prepare {key, timestamp} records.
+        JavaChannelInstance[] inputs = new JavaChannelInstance[]{
+                createStreamChannelInstance(Arrays.asList(
+                        new Record("a", 10L), new Record("b", 20L), new Record("a", 120L)
+                ).stream()),
+                createStreamChannelInstance(Arrays.asList(
+                        new Record("a", 50L), new Record("a", 60L), new Record("b", 130L), new Record("a", 199L)
+                ).stream())
+        };
+
+        // Build the windowed join operator.
+        final DataSetType<Record> recordType = DataSetType.createDefault(Record.class);
+        JavaWindowedJoinOperator<Record, Record, String> joinOperator = new JavaWindowedJoinOperator<>(
+                recordType,
+                recordType,
+                new TransformationDescriptor<>(record -> record.getString(0), Record.class, String.class),
+                new TransformationDescriptor<>(record -> record.getString(0), Record.class, String.class),
+                new TransformationDescriptor<>(record -> record.getLong(1), Record.class, Long.class),
+                new TransformationDescriptor<>(record -> record.getLong(1), Record.class, Long.class),
+                WindowDescriptor.tumbling(100)
+        );
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluate(joinOperator, inputs, outputs);
+
+        // Verify the outcome: Only records with the same key and in the same window are joined.
+        final Set<Tuple2<Record, Record>> result = outputs[0].<Tuple2<Record, Record>>provideStream()
+                .collect(Collectors.toSet());
+        Assert.assertEquals(
+                new HashSet<>(Arrays.asList(
+                        new Tuple2<>(new Record("a", 10L), new Record("a", 50L)),
+                        new Tuple2<>(new Record("a", 10L), new Record("a", 60L)),
+                        new Tuple2<>(new Record("a", 120L), new Record("a", 199L))
+                )),
+                result
+        );
+    }
+
+}
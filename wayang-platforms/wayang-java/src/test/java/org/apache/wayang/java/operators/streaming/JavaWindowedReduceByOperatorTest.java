@@ -0,0 +1,89 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators.streaming;
+
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.function.WindowDescriptor;
+import org.apache.wayang.core.function.ReduceDescriptor;
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.types.DataUnitType;
+import org.apache.wayang.java.channels.JavaChannelInstance;
+import org.apache.wayang.java.operators.JavaExecutionOperatorTestBase;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.stream.Collectors;
+
+/**
+ * Test suite for {@link JavaQueueSource} and {@link JavaWindowedReduceByOperator}.
+ */
+public class JavaWindowedReduceByOperatorTest extends JavaExecutionOperatorTestBase {
+
+    @Test
+    public void testExecution() throws InterruptedException {
+        // Prepare a stream of {key, timestamp, count} records.
+        final BlockingQueue<Record> queue = new LinkedBlockingQueue<>();
+        JavaQueueSource<Record> source = new JavaQueueSource<>(queue, DataSetType.createDefault(Record.class));
+        JavaChannelInstance[] sourceOutputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluate(source, new JavaChannelInstance[0], sourceOutputs);
+
+        // Build the windowed reduce operator.
+        JavaWindowedReduceByOperator<Record, String> reduceByOperator = new JavaWindowedReduceByOperator<>(
+                DataSetType.createDefault(Record.class),
+                new TransformationDescriptor<>(record -> record.getString(0), Record.class, String.class),
+                new ReduceDescriptor<>(
+                        (a, b) -> new Record(a.getField(0), a.getLong(1), a.getInt(2) + b.getInt(2)),
+                        DataUnitType.createGroupedUnchecked(Record.class),
+                        DataUnitType.createBasic(Record.class)
+                ),
+                new TransformationDescriptor<>(record -> record.getLong(1), Record.class, Long.class),
+                WindowDescriptor.tumbling(100)
+        );
+        JavaChannelInstance[] outputs = new JavaChannelInstance[]{createStreamChannelInstance()};
+        evaluate(reduceByOperator, sourceOutputs, outputs);
+
+        // Feed the stream while it is being consumed.
+        final Thread feeder = new Thread(() -> {
+            for (Record record : Arrays.asList(
+                    new Record("a", 10L, 1), new Record("b", 20L, 1), new Record("a", 90L, 1),
+                    new Record("a", 110L, 1), new Record("b", 150L, 1), new Record("b", 210L, 1))) {
+                queue.add(record);
+            }
+            source.close();
+        });
+        feeder.start();
+
+        final List<Record> result = outputs[0].<Record>provideStream().collect(Collectors.toList());
+        feeder.join();
+        Assert.assertEquals(
+                Arrays.asList(
+                        new Record("a", 10L, 2), new Record("b", 20L, 1),
+                        new Record("a", 110L, 1), new Record("b", 150L, 1),
+                        new Record("b", 210L, 1)
+                ),
+                result
+        );
+    }
+
+}
@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators.streaming;
+
+import org.apache.wayang.core.api.exception.WayangException;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Test suite for {@link MicroBatchBuffer}.
+ */
+public class MicroBatchBufferTest {
+
+    @Test
+    public void testStreamEndsWhenAllProducersFinished() {
+        final List<MicroBatchBuffer.Producer<? extends Integer>> producers = Arrays.asList(
+                sink -> Arrays.asList(1, 2, 3).forEach(sink),
+                sink -> Arrays.asList(4, 5).forEach(sink)
+        );
+        final List<Integer> result = MicroBatchBuffer.<Integer>createStream("test", 2, 2, producers)
+                .sorted()
+                .collect(Collectors.toList());
+        Assert.assertEquals(Arrays.asList(1, 2, 3, 4, 5), result);
+    }
+
+    @Test
+    public void testProducerFailureIsPropagated() {
+        final List<MicroBatchBuffer.Producer<? extends Integer>> producers = Collections.singletonList(sink -> {
+            sink.accept(1);
+            throw new IllegalStateException("test failure");
+        });
+        final Iterator<Integer> iterator = new MicroBatchBuffer<>("test", 10, 10, producers);
+        final List<Integer> result = new ArrayList<>();
+        try {
+            while (iterator.hasNext()) {
+                result.add(iterator.next());
+            }
+            Assert.fail("Expected the producer failure to be propagated.");
+        } catch (WayangException e) {
+            Assert.assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        Assert.assertTrue(result.size() <= 1);
+    }
+
+    @Test(timeout = 10000)
+    public void testCloseStopsProducers() throws InterruptedException {
+        final CountDownLatch cancelLatch = new CountDownLatch(1);
+        final CountDownLatch stopLatch = new CountDownLatch(1);
+        final List<MicroBatchBuffer.Producer<? extends Integer>> producers = Collections.singletonList(
+                new MicroBatchBuffer.Producer<Integer>() {
+                    @Override
+                    public void produce(Consumer<Integer> sink) {
+                        // Produce endlessly, thereby blocking on the full buffer.
+                        try {
+                            for (int i = 0; ; i++) {
+                                sink.accept(i);
+                            }
+                        } finally {
+                            stopLatch.countDown();
+                        }
+                    }
+
+                    @Override
+                    public void cancel() {
+                        cancelLatch.countDown();
+                    }
+                }
+        );
+        try (Stream<Integer> stream = MicroBatchBuffer.createStream("test", 3, 2, producers)) {
+            Assert.assertEquals(Arrays.asList(0, 1, 2, 3, 4), stream.limit(5).collect(Collectors.toList()));
+        }
+        cancelLatch.await();
+        stopLatch.await();
+    }
+
+}
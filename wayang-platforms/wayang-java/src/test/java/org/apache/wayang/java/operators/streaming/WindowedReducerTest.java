@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.java.operators.streaming;
+
+import org.apache.wayang.basic.function.WindowDescriptor;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test suite for {@link WindowedReducer}.
+ */
+public class WindowedReducerTest {
+
+    /**
+     * Reduces {@code {key, timestamp, count}} arrays by summing up the counts.
+     */
+    private static List<long[]> reduce(WindowDescriptor windowDescriptor, long[]... dataQuanta) {
+        final WindowedReducer<long[], Long> reducer = new WindowedReducer<>(
+                Arrays.asList(dataQuanta).iterator(),
+                dataQuantum -> dataQuantum[0],
+                (a, b) -> new long[]{a[0], Math.min(a[1], b[1]), a[2] + b[2]},
+                dataQuantum -> dataQuantum[1],
+                windowDescriptor
+        );
+        final List<long[]> result = new ArrayList<>();
+        reducer.forEachRemaining(result::add);
+        return result;
+    }
+
+    private static void assertResult(List<long[]> result, long[]... expected) {
+        Assert.assertEquals(expected.length, result.size());
+        for (int i = 0; i < expected.length; i++) {
+            Assert.assertArrayEquals(expected[i], result.get(i));
+        }
+    }
+
+    @Test
+    public void testTumblingWindows() {
+        final List<long[]> result = reduce(
+                WindowDescriptor.tumbling(10),
+                new long[]{1, 0, 1}, new long[]{2, 3, 1}, new long[]{1, 9, 1},
+                new long[]{1, 10, 1}, new long[]{2, 25, 1}, new long[]{2, 27, 1}
+        );
+        assertResult(result,
+                new long[]{1, 0, 2}, new long[]{2, 3, 1},
+                new long[]{1, 10, 1},
+                new long[]{2, 25, 2}
+        );
+    }
+
+    @Test
+    public void testLateDataQuanta() {
+        // Without tolerance, the data quantum at 5 is late once the one at 12 has arrived...
+        Assert.assertEquals(2, reduce(
+                WindowDescriptor.tumbling(10),
+                new long[]{1, 1, 1}, new long[]{1, 12, 1}, new long[]{1, 5, 1}
+        ).size());
+
+        // ...but it is not with tolerance.
+        assertResult(reduce(
+                WindowDescriptor.tumbling(10).withMaxOutOfOrderness(5),
+                new long[]{1, 1, 1}, new long[]{1, 12, 1}, new long[]{1, 5, 1}
+        ), new long[]{1, 1, 2}, new long[]{1, 12, 1});
+    }
+
+    @Test
+    public void testSlidingWindows() {
+        // Each data quantum falls into two windows.
+        final List<long[]> result = reduce(
+                WindowDescriptor.sliding(10, 5),
+                new long[]{1, 3, 1}, new long[]{1, 7, 1}, new long[]{1, 12, 1}
+        );
+        assertResult(result,
+                new long[]{1, 3, 1},  // [-5, 5)
+                new long[]{1, 3, 2},  // [0, 10)
+                new long[]{1, 7, 2},  // [5, 15)
+                new long[]{1, 12, 1}  // [10, 20)
+        );
+    }
+
+}
@@ -21,7 +21,9 @@ package org.apache.wayang.java.test;
 import org.junit.Before;
 import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.plan.executionplan.Channel;
+import org.apache.wayang.basic.data.RecordBatch;
 import org.apache.wayang.java.channels.CollectionChannel;
+import org.apache.wayang.java.channels.RecordBatchChannel;
 import org.apache.wayang.java.channels.StreamChannel;
 import org.apache.wayang.java.execution.JavaExecutor;
 
@@ -66,4 +68,17 @@ public class ChannelFactory {
         return instance;
     }
 
+    public static RecordBatchChannel.Instance createRecordBatchChannelInstance(Configuration configuration) {
+        return (RecordBatchChannel.Instance) RecordBatchChannel.DESCRIPTOR
+                .createChannel(null, configuration)
+                .createInstance(executor, null, -1);
+    }
+
+    public static RecordBatchChannel.Instance createRecordBatchChannelInstance(Stream<RecordBatch> batches,
+                                                                               Configuration configuration) {
+        RecordBatchChannel.Instance instance = createRecordBatchChannelInstance(configuration);
+        instance.accept(batches);
+        return instance;
+    }
+
 }
@@ -20,6 +20,7 @@ package org.apache.wayang.spark.channels;
 
 import org.apache.spark.util.AccumulatorV2;
 import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.function.Function2;
 import org.apache.spark.util.LongAccumulator;
 import org.apache.wayang.core.api.exception.WayangException;
 import org.apache.wayang.core.optimizer.OptimizationContext;
@@ -32,6 +33,7 @@ import org.apache.wayang.core.platform.Executor;
 import org.apache.wayang.core.util.Actions;
 import org.apache.wayang.spark.execution.SparkExecutor;
 
+import java.util.Iterator;
 import java.util.OptionalLong;
 
 /**
@@ -40,6 +42,12 @@ import java.util.OptionalLong;
  */
 public class RddChannel extends Channel {
 
+    /**
+     * Configuration key for the fraction of partitions to count for {@link Channel}s whose instrumentation may be
+     * sampled.
+     */
+    public static final String SAMPLING_RATE_PROPERTY_KEY = "wayang.core.optimizer.instrumentation.samplingrate";
+
     public static final ChannelDescriptor UNCACHED_DESCRIPTOR = new ChannelDescriptor(
             RddChannel.class, false, false
     );
@@ -76,8 +84,16 @@ public class RddChannel extends Channel {
 
         private JavaRDD<?> rdd;
 
+        /**
+         * Sums up the sizes of the counted partitions of the {@link #rdd}.
+         */
         private LongAccumulator accumulator;
 
+        /**
+         * Counts the partitions of the {@link #rdd} that have been counted entirely.
+         */
+        private LongAccumulator partitionAccumulator;
+
         public Instance(SparkExecutor executor,
                         OptimizationContext.OperatorContext producerOperatorContext,
                         int producerOutputIndex) {
@@ -86,13 +102,16 @@ public class RddChannel extends Channel {
 
         public void accept(JavaRDD<?> rdd, SparkExecutor sparkExecutor) throws WayangException {
             if (this.isMarkedForInstrumentation() && !this.isRddCached()) {
-                final LongAccumulator accumulator = sparkExecutor.sc.sc().longAccumulator();
-                accumulator.setValue(0);
-                this.rdd = rdd.filter(dataQuantum -> {
-                    accumulator.add(1);
-                    return true;
-                });
-                this.accumulator = accumulator;
+                int partitionStride = 1;
+                if (this.getChannel().isInstrumentationSampled()) {
+                    final double samplingRate = sparkExecutor.getConfiguration().getDoubleProperty(SAMPLING_RATE_PROPERTY_KEY, 0.1d);
+                    partitionStride = (int) Math.max(1L, Math.round(1d / samplingRate));
+                }
+                this.accumulator = sparkExecutor.sc.sc().longAccumulator();
+                this.partitionAccumulator = sparkExecutor.sc.sc().longAccumulator();
+                this.rdd = rdd.mapPartitionsWithIndex(
+                        new PartitionCounter<>(this.accumulator, this.partitionAccumulator, partitionStride), true
+                );
             } else {
                 this.rdd = rdd;
             }
@@ -107,8 +126,10 @@ public class RddChannel extends Channel {
         @Override
         protected void doDispose() {
             if (this.accumulator != null) {
-                this.setMeasuredCardinality(this.accumulator.value());
+                this.updateMeasuredCardinality();
+                this.recordInstrumentation(this.accumulator.value());
                 this.accumulator = null;
+                this.partitionAccumulator = null;
             }
             if (this.isRddCached() && this.rdd != null) {
                 Actions.doSafe(this.rdd::unpersist);
@@ -120,11 +141,29 @@ public class RddChannel extends Channel {
         @Override
         public OptionalLong getMeasuredCardinality() {
             if (this.accumulator != null) {
-                this.setMeasuredCardinality(this.accumulator.value());
+                this.updateMeasuredCardinality();
             }
             return super.getMeasuredCardinality();
         }
 
+        /**
+         * Extrapolates the cardinality of the {@link #rdd} from its counted partitions. As both accumulators grow
+         * alike when partitions are recomputed, this also compensates for repeated evaluations of the {@link #rdd}.
+         */
+        private void updateMeasuredCardinality() {
+            final int numPartitions = this.rdd.getNumPartitions();
+            final long numCountedPartitions = this.partitionAccumulator.value();
+            if (numPartitions == 0) {
+                this.setMeasuredCardinality(0L);
+                return;
+            } else if (numCountedPartitions == 0) {
+                return;
+            }
+            this.setMeasuredCardinality(Math.round(
+                    this.accumulator.value() * (double) numPartitions / numCountedPartitions
+            ));
+        }
+
         @Override
         public RddChannel getChannel() {
             return RddChannel.this;
@@ -135,4 +174,50 @@ public class RddChannel extends Channel {
         }
     }
 
+    /**
+     * Counts the data quanta of every {@code stride}-th partition. Rather than updating the accumulators for every
+     * data quantum, it adds the partition size once the partition has been consumed entirely, which keeps the
+     * per-data-quantum overhead minimal and does not interfere with pipelining.
+     */
+    private static class PartitionCounter<T> implements Function2<Integer, Iterator<T>, Iterator<T>> {
+
+        private final LongAccumulator accumulator, partitionAccumulator;
+
+        private final int stride;
+
+        private PartitionCounter(LongAccumulator accumulator, LongAccumulator partitionAccumulator, int stride) {
+            this.accumulator = accumulator;
+            this.partitionAccumulator = partitionAccumulator;
+            this.stride = stride;
+        }
+
+        @Override
+        public Iterator<T> call(Integer partitionIndex, Iterator<T> iterator) {
+            if (partitionIndex % this.stride != 0) return iterator;
+            return new Iterator<T>() {
+
+                private long count = 0;
+
+                private boolean isReported = false;
+
+                @Override
+                public boolean hasNext() {
+                    final boolean hasNext = iterator.hasNext();
+                    if (!hasNext && !this.isReported) {
+                        PartitionCounter.this.accumulator.add(this.count);
+                        PartitionCounter.this.partitionAccumulator.add(1L);
+                        this.isReported = true;
+                    }
+                    return hasNext;
+                }
+
+                @Override
+                public T next() {
+                    this.count++;
+                    return iterator.next();
+                }
+            };
+        }
+    }
+
 }
@@ -0,0 +1,164 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.spark.channels;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.hadoop.ParquetInputFormat;
+import org.apache.parquet.hadoop.ParquetOutputFormat;
+import org.apache.parquet.hadoop.example.GroupReadSupport;
+import org.apache.parquet.hadoop.example.GroupWriteSupport;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.MessageTypeParser;
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.function.PairFunction;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.types.RecordType;
+import org.apache.wayang.basic.util.parquet.ParquetRecords;
+import org.apache.wayang.basic.util.parquet.ParquetSchemas;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.executionplan.Channel;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.Executor;
+import org.apache.wayang.core.platform.checkpoint.ChannelCheckpointer;
+import org.apache.wayang.core.platform.checkpoint.Checkpoint;
+import org.apache.wayang.core.platform.checkpoint.CheckpointFormat;
+import org.apache.wayang.core.types.DataUnitType;
+import org.apache.wayang.spark.execution.SparkExecutor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link ChannelCheckpointer} for {@link RddChannel}s. Object files are written via
+ * {@link JavaRDD#saveAsObjectFile(String)}; {@link Record}s can also be written as Parquet files.
+ */
+public class RddChannelCheckpointer implements ChannelCheckpointer {
+
+    @Override
+    public Collection<CheckpointFormat> getSupportedFormats(Channel channel) {
+        if (!(channel instanceof RddChannel)) return Collections.emptyList();
+        if (getRecordType(channel) != null) {
+            return Arrays.asList(CheckpointFormat.OBJECT_FILE, CheckpointFormat.COLUMNAR);
+        }
+        return Collections.singletonList(CheckpointFormat.OBJECT_FILE);
+    }
+
+    /**
+     * Determines the {@link DataUnitType} of a {@link Channel} if it contains {@link Record}s.
+     *
+     * @param channel the {@link Channel}
+     * @return the {@link DataUnitType} or {@code null} if the {@link Channel} does not contain {@link Record}s
+     */
+    private static DataUnitType<?> getRecordType(Channel channel) {
+        final DataUnitType<?> dataUnitType = channel.getDataSetType().getDataUnitType();
+        return dataUnitType.getTypeClass() == Record.class ? dataUnitType : null;
+    }
+
+    @Override
+    public void write(ChannelInstance channelInstance, Checkpoint checkpoint) throws Exception {
+        final JavaRDD<Object> rdd = ((RddChannel.Instance) channelInstance).provideRdd();
+        switch (checkpoint.getFormat()) {
+            case OBJECT_FILE:
+                rdd.saveAsObjectFile(checkpoint.getUrl());
+                break;
+            case COLUMNAR:
+                final List<Object> samples = rdd.take(1);
+                if (samples.isEmpty()) {
+                    throw new WayangException("Cannot infer a Parquet schema without data quanta.");
+                }
+                final DataUnitType<?> recordType = getRecordType(checkpoint.getChannel());
+                final MessageType schema = ParquetSchemas.inferSchema(
+                        recordType instanceof RecordType ? ((RecordType) recordType).getFieldNames() : null,
+                        (Record) samples.get(0)
+                );
+                final Configuration conf = new Configuration(rdd.context().hadoopConfiguration());
+                GroupWriteSupport.setSchema(schema, conf);
+                conf.set(ParquetOutputFormat.WRITE_SUPPORT_CLASS, GroupWriteSupport.class.getName());
+                conf.set(ParquetOutputFormat.COMPRESSION, CompressionCodecName.SNAPPY.name());
+                rdd.mapToPair(new GroupFormatter(schema.toString()))
+                        .saveAsNewAPIHadoopFile(checkpoint.getUrl(), Void.class, Group.class, ParquetOutputFormat.class, conf);
+                break;
+            default:
+                throw new WayangException(String.format("Unsupported format: %s.", checkpoint.getFormat()));
+        }
+        checkpoint.setCardinality(rdd.count());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public ChannelInstance read(Checkpoint checkpoint,
+                                Executor executor,
+                                OptimizationContext.OperatorContext producerOperatorContext) throws Exception {
+        final SparkExecutor sparkExecutor = (SparkExecutor) executor;
+        final JavaRDD<?> rdd;
+        if (checkpoint.getFormat() == CheckpointFormat.COLUMNAR) {
+            final Configuration conf = new Configuration(sparkExecutor.sc.hadoopConfiguration());
+            conf.set(ParquetInputFormat.READ_SUPPORT_CLASS, GroupReadSupport.class.getName());
+            rdd = sparkExecutor.sc.newAPIHadoopFile(
+                    checkpoint.getUrl(),
+                    (Class<ParquetInputFormat<Group>>) (Class<?>) ParquetInputFormat.class,
+                    Void.class,
+                    Group.class,
+                    conf
+            ).values().map(group -> ParquetRecords.toRecord(group, null));
+        } else {
+            rdd = sparkExecutor.sc.objectFile(checkpoint.getUrl());
+        }
+        final RddChannel.Instance channelInstance = ((RddChannel) checkpoint.getChannel()).createInstance(
+                sparkExecutor, producerOperatorContext, checkpoint.getProducerOutputIndex()
+        );
+        channelInstance.accept(rdd, sparkExecutor);
+        return channelInstance;
+    }
+
+    /**
+     * Converts {@link Record}s into Parquet {@link Group}s and fails on those that would not be restored as they are.
+     */
+    private static class GroupFormatter implements PairFunction<Object, Void, Group> {
+
+        /**
+         * The textual Parquet schema, because {@link MessageType}s are not serializable.
+         */
+        private final String schema;
+
+        private transient MessageType parsedSchema;
+
+        private GroupFormatter(String schema) {
+            this.schema = schema;
+        }
+
+        @Override
+        public scala.Tuple2<Void, Group> call(Object dataQuantum) throws Exception {
+            if (this.parsedSchema == null) {
+                this.parsedSchema = MessageTypeParser.parseMessageType(this.schema);
+            }
+            final Record record = (Record) dataQuantum;
+            if (!ParquetRecords.isLosslessConvertible(record, this.parsedSchema)) {
+                throw new WayangException(String.format("Cannot store %s losslessly as %s.", record, this.parsedSchema));
+            }
+            return new scala.Tuple2<>(null, ParquetRecords.toGroup(record, this.parsedSchema));
+        }
+    }
+
+}
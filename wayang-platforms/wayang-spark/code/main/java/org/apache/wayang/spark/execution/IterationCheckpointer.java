@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.spark.execution;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.rdd.RDD;
+import org.apache.spark.storage.StorageLevel;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.ExecutionResourceTemplate;
+import org.apache.wayang.core.platform.lineage.LazyExecutionLineageNode;
+import org.apache.wayang.core.util.Actions;
+import scala.collection.JavaConversions;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Truncates the lineage of the {@link JavaRDD}s that a Spark loop feeds back into its next iteration. Otherwise,
+ * every iteration appends its transformations to the lineage, so that job scheduling, task serialization, and
+ * recovery grow with the number of iterations until the driver overflows its stack.
+ * <p>Every {@value #INTERVAL_KEY}-th iteration and whenever the lineage grows deeper than {@value #MAX_DEPTH_KEY},
+ * the iteration {@link JavaRDD} is persisted and checkpointed: reliably, if the {@link org.apache.spark.SparkContext}
+ * has a checkpoint directory, and locally otherwise. Once a checkpoint has been materialized, the earlier ones are
+ * superseded and unpersisted right away.</p>
+ * <p>Once the loop has finished, {@link #release(ChannelInstance)} unpersists the remaining checkpoints as soon as the
+ * final loop output has been computed. As an {@link org.apache.wayang.core.platform.ExecutionResource} of the
+ * {@link SparkExecutor}, any checkpoints left over, e.g., because the job failed, are unpersisted when the latter is
+ * disposed.</p>
+ */
+public class IterationCheckpointer extends ExecutionResourceTemplate {
+
+    /**
+     * Configuration key for the number of iterations between two checkpoints. Values {@code <= 0} disable them.
+     */
+    public static final String INTERVAL_KEY = "wayang.spark.loop.checkpoint-interval";
+
+    /**
+     * Configuration key for the lineage depth that triggers a checkpoint. Values {@code <= 0} disable it.
+     */
+    public static final String MAX_DEPTH_KEY = "wayang.spark.loop.checkpoint-lineage-depth";
+
+    private final Logger logger = LogManager.getLogger(this.getClass());
+
+    private final SparkExecutor sparkExecutor;
+
+    private final long interval;
+
+    private final long maxDepth;
+
+    /**
+     * Whether checkpoints should be materialized with a dedicated Spark action rather than with the next action
+     * the loop issues anyway, e.g., to evaluate its convergence criterion.
+     */
+    private final boolean isMaterializeEagerly;
+
+    /**
+     * Counts the iterations seen so far.
+     */
+    private long numIterations = 0;
+
+    /**
+     * The checkpointed {@link JavaRDD}s that are still persisted, the latest being the last one.
+     */
+    private final Deque<JavaRDD<?>> checkpointedRdds = new ArrayDeque<>();
+
+    /**
+     * Creates a new instance.
+     *
+     * @param sparkExecutor        that executes the loop
+     * @param isMaterializeEagerly whether the loop lacks an action per iteration, so that checkpoints need to be
+     *                             materialized explicitly
+     */
+    public IterationCheckpointer(SparkExecutor sparkExecutor, boolean isMaterializeEagerly) {
+        super(sparkExecutor);
+        final Configuration configuration = sparkExecutor.getConfiguration();
+        this.sparkExecutor = sparkExecutor;
+        this.interval = configuration.getLongProperty(INTERVAL_KEY, 0L);
+        this.maxDepth = configuration.getLongProperty(MAX_DEPTH_KEY, 0L);
+        this.isMaterializeEagerly = isMaterializeEagerly;
+    }
+
+    /**
+     * Registers the {@link JavaRDD} that is fed into the next iteration and checkpoints it if it is due.
+     *
+     * @param rdd the iteration {@link JavaRDD}
+     * @return whether the {@code rdd} has been computed by a Spark action
+     */
+    public boolean checkpointIfDue(JavaRDD<?> rdd) {
+        this.numIterations++;
+        this.unpersistSuperseded();
+        if (!this.isDue(rdd)) return false;
+
+        if (this.sparkExecutor.sc.getCheckpointDir().isPresent()) {
+            if (rdd.getStorageLevel().equals(StorageLevel.NONE())) {
+                // Avoid computing the RDD twice, once for the action and once for writing the checkpoint.
+                rdd.persist(StorageLevel.MEMORY_AND_DISK());
+            }
+            rdd.checkpoint();
+        } else {
+            rdd.rdd().localCheckpoint();
+        }
+        this.checkpointedRdds.addLast(rdd);
+        this.logger.debug("Checkpointing {} in iteration {}.", rdd, this.numIterations);
+
+        if (this.isMaterializeEagerly) {
+            rdd.count();
+            this.unpersistSuperseded();
+            return true;
+        }
+        return false;
+    }
+
+    private boolean isDue(JavaRDD<?> rdd) {
+        if (rdd.rdd().isCheckpointed()) return false;
+        if (this.interval > 0 && this.numIterations % this.interval == 0) return true;
+        return this.maxDepth > 0 && this.getLineageDepth(rdd.rdd()) > this.maxDepth;
+    }
+
+    /**
+     * Unpersists all but the latest checkpointed {@link JavaRDD} as soon as the latter has been materialized, because
+     * it no longer depends on the earlier ones.
+     */
+    private void unpersistSuperseded() {
+        final JavaRDD<?> latestRdd = this.checkpointedRdds.peekLast();
+        if (latestRdd == null || !latestRdd.rdd().isCheckpointed()) return;
+        while (this.checkpointedRdds.peekFirst() != latestRdd) {
+            final JavaRDD<?> supersededRdd = this.checkpointedRdds.removeFirst();
+            Actions.doSafe(() -> supersededRdd.unpersist(false));
+            this.logger.debug("Unpersisted superseded {}.", supersededRdd);
+        }
+    }
+
+    /**
+     * Releases the checkpoints once the loop has finished. Reliable checkpoints are unpersisted as soon as the final
+     * loop output has been computed, because Spark can read them from the checkpoint directory thereafter. Local
+     * checkpoints, in contrast, exist only as persisted blocks and might still be needed by further consumers of the
+     * final loop output, so they are kept until this instance is disposed.
+     *
+     * @param finalOutput the final loop output
+     */
+    public void release(ChannelInstance finalOutput) {
+        this.unpersistSuperseded();
+        if (this.checkpointedRdds.isEmpty()) {
+            this.disposeIfUnreferenced();
+        } else {
+            finalOutput.getLineage().addPredecessor(new CheckpointReleaser(this));
+        }
+    }
+
+    /**
+     * Unpersists the reliably checkpointed {@link JavaRDD}s and disposes this instance if no others are left.
+     */
+    private void unpersistReliableCheckpoints() {
+        for (Iterator<JavaRDD<?>> iterator = this.checkpointedRdds.iterator(); iterator.hasNext(); ) {
+            final JavaRDD<?> checkpointedRdd = iterator.next();
+            if (checkpointedRdd.rdd().isCheckpointed() && checkpointedRdd.getCheckpointFile().isPresent()) {
+                iterator.remove();
+                Actions.doSafe(() -> checkpointedRdd.unpersist(false));
+                this.logger.debug("Unpersisted {} after the loop.", checkpointedRdd);
+            }
+        }
+        if (this.checkpointedRdds.isEmpty() && !this.isDisposed()) this.disposeIfUnreferenced();
+    }
+
+    @Override
+    protected void doDispose() {
+        while (!this.checkpointedRdds.isEmpty()) {
+            final JavaRDD<?> checkpointedRdd = this.checkpointedRdds.removeFirst();
+            Actions.doSafe(() -> checkpointedRdd.unpersist(false));
+            this.logger.debug("Unpersisted {} on disposal.", checkpointedRdd);
+        }
+    }
+
+    /**
+     * Determines the length of the longest dependency chain in the lineage of an {@link RDD}. Checkpoints that are
+     * still to be materialized also end the chain, as they will once the {@link RDD} is computed.
+     *
+     * @param rdd whose lineage should be inspected
+     * @return the lineage depth
+     */
+    long getLineageDepth(RDD<?> rdd) {
+        final Map<RDD<?>, Long> depths = new IdentityHashMap<>();
+        for (JavaRDD<?> checkpointedRdd : this.checkpointedRdds) {
+            depths.put(checkpointedRdd.rdd(), 0L);
+        }
+        // Traverse the lineage iteratively, as it might be too deep for recursion.
+        final Deque<RDD<?>> stack = new ArrayDeque<>();
+        stack.push(rdd);
+        while (!stack.isEmpty()) {
+            final RDD<?> next = stack.peek();
+            if (depths.containsKey(next)) {
+                stack.pop();
+                continue;
+            }
+            final List<RDD<?>> parents = getParents(next);
+            long depth = 0;
+            boolean isComplete = true;
+            for (RDD<?> parent : parents) {
+                final Long parentDepth = depths.get(parent);
+                if (parentDepth == null) {
+                    stack.push(parent);
+                    isComplete = false;
+                } else {
+                    depth = Math.max(depth, parentDepth + 1);
+                }
+            }
+            if (isComplete) {
+                depths.put(next, depth);
+                stack.pop();
+            }
+        }
+        return depths.get(rdd);
+    }
+
+    private static List<RDD<?>> getParents(RDD<?> rdd) {
+        final List<RDD<?>> parents = new ArrayList<>();
+        for (org.apache.spark.Dependency<?> dependency : JavaConversions.seqAsJavaList(rdd.dependencies())) {
+            parents.add(dependency.rdd());
+        }
+        return parents;
+    }
+
+    /**
+     * {@link LazyExecutionLineageNode} that releases the checkpoints of an {@link IterationCheckpointer} once the
+     * final loop output has been computed.
+     */
+    private static class CheckpointReleaser extends LazyExecutionLineageNode {
+
+        private final IterationCheckpointer iterationCheckpointer;
+
+        private CheckpointReleaser(IterationCheckpointer iterationCheckpointer) {
+            this.iterationCheckpointer = iterationCheckpointer;
+        }
+
+        @Override
+        protected <T> T accept(T accumulator, Aggregator<T> aggregator) {
+            return accumulator;
+        }
+
+        @Override
+        protected void markAsExecuted() {
+            super.markAsExecuted();
+            this.iterationCheckpointer.unpersistReliableCheckpoints();
+        }
+
+    }
+
+}
@@ -21,6 +21,7 @@ package org.apache.wayang.spark.execution;
 import org.apache.spark.api.java.JavaSparkContext;
 import org.apache.wayang.core.platform.CrossPlatformExecutor;
 import org.apache.wayang.core.platform.ExecutionResourceTemplate;
+import org.apache.wayang.core.platform.PlatformContextPool;
 
 /**
  * Wraps and manages a {@link JavaSparkContext} to avoid steady re-creation.
@@ -32,6 +33,11 @@ public class SparkContextReference extends ExecutionResourceTemplate {
      */
     private final JavaSparkContext sparkContext;
 
+    /**
+     * The {@link PlatformContextPool.Lease} for the {@link #sparkContext} or {@code null} if it is not pooled.
+     */
+    private final PlatformContextPool.Lease<JavaSparkContext> lease;
+
     /**
      * Creates a new instance.
      *
@@ -43,13 +49,51 @@ public class SparkContextReference extends ExecutionResourceTemplate {
             crossPlatformExecutor.registerGlobal(this);
         }
         this.sparkContext = sparkContext;
+        this.lease = null;
+    }
+
+    /**
+     * Creates a new instance that returns the pooled {@link JavaSparkContext} rather than closing it on disposal.
+     *
+     * @param lease for the {@link JavaSparkContext} to be wrapped
+     */
+    public SparkContextReference(CrossPlatformExecutor crossPlatformExecutor,
+                                 PlatformContextPool.Lease<JavaSparkContext> lease) {
+        super(null);
+        if (crossPlatformExecutor != null) {
+            crossPlatformExecutor.registerGlobal(this);
+        }
+        this.sparkContext = lease.get();
+        this.lease = lease;
     }
 
     @Override
     protected void doDispose() throws Throwable {
         assert !this.isDisposed();
 
-        this.sparkContext.close();
+        if (this.lease != null) {
+            this.lease.release();
+        } else {
+            this.sparkContext.close();
+        }
+    }
+
+    /**
+     * @return whether the {@link JavaSparkContext} had already been initialized before this instance was created
+     */
+    public boolean isWarmStart() {
+        return this.lease != null && this.lease.isWarmStart();
+    }
+
+    /**
+     * Adds a JAR file to the {@link JavaSparkContext} unless it has been added before.
+     *
+     * @param path path to the JAR file
+     */
+    public void addJar(String path) {
+        if (this.lease == null || this.lease.registerJar(path)) {
+            this.sparkContext.addJar(path);
+        }
     }
 
     /**
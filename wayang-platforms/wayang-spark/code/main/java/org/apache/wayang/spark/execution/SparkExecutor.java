@@ -21,10 +21,16 @@ package org.apache.wayang.spark.execution;
 import org.apache.spark.api.java.JavaSparkContext;
 import org.apache.wayang.core.api.Job;
 import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.monitor.ProgressTracker;
+import org.apache.wayang.core.monitor.metrics.ExecutionMetrics;
 import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.PartitionCountEstimator;
+import org.apache.wayang.core.optimizer.costs.ResourceCapacity;
+import org.apache.wayang.core.plan.executionplan.ExecutionStage;
 import org.apache.wayang.core.plan.executionplan.ExecutionTask;
 import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
 import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.ExecutionState;
 import org.apache.wayang.core.platform.Executor;
 import org.apache.wayang.core.platform.PartialExecution;
 import org.apache.wayang.core.platform.PushExecutorTemplate;
@@ -39,6 +45,10 @@ import org.apache.wayang.spark.platform.SparkPlatform;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * {@link Executor} implementation for the {@link SparkPlatform}.
@@ -72,24 +82,128 @@ public class SparkExecutor extends PushExecutorTemplate {
      */
     private final int numDefaultPartitions;
 
+    /**
+     * Sizes the outputs of shuffling {@link SparkExecutionOperator}s.
+     */
+    private final PartitionCountEstimator partitionCountEstimator;
+
+    /**
+     * Spark's thread-local property to select a fair scheduler pool.
+     */
+    private static final String SCHEDULER_POOL_PROPERTY = "spark.scheduler.pool";
+
+    /**
+     * Configuration key for the fair scheduler pool of the Spark jobs of a {@link Job}. If not given, each
+     * {@link Job} gets its own pool.
+     */
+    public static final String SCHEDULER_POOL_PROPERTY_KEY = "wayang.spark.scheduler.pool";
+
     /**
      * Counts the number of issued Spark actions.
      */
     private int numActions = 0;
 
+    /**
+     * Provides IDs for the Spark job groups of the {@link ExecutionStage}s executed by this instance.
+     */
+    private final AtomicInteger jobGroupIdGenerator = new AtomicInteger(0);
+
+    /**
+     * The Spark job group of the {@link ExecutionStage} that the current thread executes.
+     */
+    private final ThreadLocal<String> currentJobGroup = new ThreadLocal<>();
+
+    /**
+     * The Spark job groups of the {@link ExecutionStage}s being executed by {@link ExecutionState}.
+     */
+    private final Map<ExecutionState, String> activeJobGroups = new ConcurrentHashMap<>();
+
+    /**
+     * The Spark job groups that have been {@link #cancel(ExecutionState) cancelled}.
+     */
+    private final Set<String> cancelledJobGroups = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Feeds the Spark task metrics into the {@link ProgressTracker}s of this instance; {@code null} if the
+     * {@link #job} does not monitor its progress.
+     */
+    private final SparkProgressListener progressListener;
+
     public SparkExecutor(SparkPlatform platform, Job job) {
         super(job);
         this.platform = platform;
         this.sparkContextReference = this.platform.getSparkContext(job);
         this.sparkContextReference.noteObtainedReference();
         this.sc = this.sparkContextReference.get();
-        if (this.sc.getConf().contains("spark.executor.cores")) {
-            this.numDefaultPartitions = 2 * this.sc.getConf().getInt("spark.executor.cores", -1);
+        // Settings in the SparkConf (e.g., from spark-submit) override the declared ResourceCapacity.
+        final ResourceCapacity resourceCapacity = this.platform.getResourceCapacity(this.getConfiguration());
+        this.numDefaultPartitions = 2
+                * this.sc.getConf().getInt("spark.executor.instances", resourceCapacity.getNumExecutors())
+                * this.sc.getConf().getInt("spark.executor.cores", resourceCapacity.getCoresPerExecutor());
+        this.partitionCountEstimator = new PartitionCountEstimator(
+                this.getConfiguration(), this.platform, this.numDefaultPartitions
+        );
+        if (job != null && job.isMonitoringProgress()) {
+            this.progressListener = new SparkProgressListener();
+            this.sc.sc().addSparkListener(this.progressListener);
         } else {
-            this.numDefaultPartitions =
-                    (int) (2 * this.getConfiguration().getLongProperty("wayang.spark.machines")
-                            * this.getConfiguration().getLongProperty("wayang.spark.cores-per-machine"));
+            this.progressListener = null;
+        }
+    }
+
+    @Override
+    public void execute(ExecutionStage stage, OptimizationContext optimizationContext, ExecutionState executionState) {
+        final String jobId = this.job.getId();
+        if (jobId == null) {
+            super.execute(stage, optimizationContext, executionState);
+            return;
         }
+
+        final String jobGroup = jobId + "-" + this.jobGroupIdGenerator.getAndIncrement();
+        this.activeJobGroups.put(executionState, jobGroup);
+        this.currentJobGroup.set(jobGroup);
+        try {
+            super.execute(stage, optimizationContext, executionState);
+        } finally {
+            this.currentJobGroup.remove();
+            this.activeJobGroups.remove(executionState, jobGroup);
+            this.cancelledJobGroups.remove(jobGroup);
+        }
+    }
+
+    /**
+     * Cancels the Spark jobs of the {@link ExecutionStage} being executed into the given {@link ExecutionState}.
+     * Any further {@link ExecutionTask} of that {@link ExecutionStage} fails right away.
+     *
+     * @param executionState that has been passed to {@link #execute(ExecutionStage, OptimizationContext, ExecutionState)}
+     */
+    @Override
+    public void cancel(ExecutionState executionState) {
+        final String jobGroup = this.activeJobGroups.get(executionState);
+        if (jobGroup == null) return;
+        this.logger.info("Cancelling the Spark job group {}.", jobGroup);
+        this.cancelledJobGroups.add(jobGroup);
+        this.sc.cancelJobGroup(jobGroup);
+    }
+
+    /**
+     * Tags the Spark jobs issued from the current thread with the {@link Job}, so that concurrent {@link Job}s on a
+     * shared {@link JavaSparkContext} get their own fair scheduler pool and can be told apart in the Spark UI. The
+     * job group further identifies the {@link ExecutionStage}, so that it can be {@link #cancel(ExecutionState)
+     * cancelled}. Spark keeps these properties per thread, so we set them before each evaluation.
+     */
+    private void assignSparkJobsToWayangJob() {
+        final String jobId = this.job.getId();
+        if (jobId == null) return;
+        final String jobGroup = this.currentJobGroup.get();
+        if (jobGroup != null && this.cancelledJobGroups.contains(jobGroup)) {
+            throw new WayangException(String.format("The Spark job group %s has been cancelled.", jobGroup));
+        }
+        this.sc.setLocalProperty(
+                SCHEDULER_POOL_PROPERTY,
+                this.getConfiguration().getOptionalStringProperty(SCHEDULER_POOL_PROPERTY_KEY).orElse(jobId)
+        );
+        this.sc.setJobGroup(jobGroup == null ? jobId : jobGroup, this.job.getName(), false);
     }
 
     @Override
@@ -105,9 +219,21 @@ public class SparkExecutor extends PushExecutorTemplate {
         // Execute.
         final Collection<ExecutionLineageNode> executionLineageNodes;
         final Collection<ChannelInstance> producedChannelInstances;
-        // TODO: Use proper progress estimator.
-        this.job.reportProgress(task.getOperator().getName(), 50);
+        final ProgressTracker progressTracker =
+                this.startProgressTracking(task, inputChannelInstances, outputChannelInstances, producerOperatorContext);
 
+        this.assignSparkJobsToWayangJob();
+        if (this.progressListener != null) {
+            this.sc.setLocalProperty(
+                    SparkProgressListener.TRACKER_PROPERTY,
+                    progressTracker == null ? null : this.progressListener.register(progressTracker)
+            );
+        }
+        if (this.getExecutionMetrics() != null) {
+            this.sc.setLocalProperty(
+                    SparkMetricsListener.OPERATOR_PROPERTY, ExecutionMetrics.getOperatorLabel(task.getOperator())
+            );
+        }
         long startTime = System.currentTimeMillis();
         try {
             final Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> results =
@@ -125,12 +251,14 @@ public class SparkExecutor extends PushExecutorTemplate {
         }
         long endTime = System.currentTimeMillis();
         long executionDuration = endTime - startTime;
-        this.job.reportProgress(task.getOperator().getName(), 100);
+        this.completeProgressTracking(task, inputChannelInstances, executionLineageNodes);
 
         // Check how much we executed.
         PartialExecution partialExecution = this.createPartialExecution(executionLineageNodes, executionDuration);
         if (partialExecution != null && cast(task.getOperator()).containsAction()) {
-            if (this.numActions == 0) partialExecution.addInitializedPlatform(SparkPlatform.getInstance());
+            if (this.numActions == 0 && !this.sparkContextReference.isWarmStart()) {
+                partialExecution.addInitializedPlatform(SparkPlatform.getInstance());
+            }
             this.numActions++;
         }
 
@@ -159,6 +287,20 @@ public class SparkExecutor extends PushExecutorTemplate {
         return channelInstances.toArray(array);
     }
 
+    /**
+     * {@inheritDoc}
+     * <p>{@link RddChannel.Instance}s can be consumed again even if they are not cached, because Spark recomputes
+     * them from their lineage.</p>
+     */
+    @Override
+    protected boolean isRetryable(ExecutionTask task, List<ChannelInstance> inputChannelInstances) {
+        return !task.getOperator().isLoopHead() && inputChannelInstances.stream().allMatch(channelInstance ->
+                channelInstance == null
+                        || channelInstance instanceof RddChannel.Instance
+                        || channelInstance.getChannel().isReusable()
+        );
+    }
+
     /**
      * Utility method to forward a {@link RddChannel.Instance} to another.
      *
@@ -192,8 +334,22 @@ public class SparkExecutor extends PushExecutorTemplate {
         return this.numDefaultPartitions;
     }
 
+    /**
+     * Determines the number of partitions for the output of a shuffling {@link SparkExecutionOperator}.
+     *
+     * @param operatorContext of the {@link SparkExecutionOperator}
+     * @return the number of partitions
+     * @see PartitionCountEstimator
+     */
+    public int getNumPartitions(OptimizationContext.OperatorContext operatorContext) {
+        return this.partitionCountEstimator.estimate(operatorContext);
+    }
+
     @Override
     public void dispose() {
+        if (this.progressListener != null) {
+            this.sc.sc().removeSparkListener(this.progressListener);
+        }
         super.dispose();
         this.sparkContextReference.noteDiscardedReference(true);
     }
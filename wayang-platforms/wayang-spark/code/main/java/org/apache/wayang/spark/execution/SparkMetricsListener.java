@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.spark.execution;
+
+import org.apache.spark.executor.TaskMetrics;
+import org.apache.spark.scheduler.SparkListener;
+import org.apache.spark.scheduler.SparkListenerStageCompleted;
+import org.apache.spark.scheduler.SparkListenerStageSubmitted;
+import org.apache.spark.scheduler.SparkListenerTaskEnd;
+import org.apache.wayang.core.monitor.metrics.ExecutionMetrics;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Feeds the task metrics that Spark collects on its executors (via its internal accumulators) into
+ * {@link ExecutionMetrics}. Spark stages are attributed to the Wayang operator that was being evaluated when they
+ * were submitted (see {@link #OPERATOR_PROPERTY}).
+ */
+public class SparkMetricsListener extends SparkListener {
+
+    /**
+     * Spark local property that names the operator for which Spark jobs are triggered.
+     */
+    public static final String OPERATOR_PROPERTY = "wayang.operator";
+
+    private static final String UNKNOWN_OPERATOR = "unknown";
+
+    private final ExecutionMetrics metrics;
+
+    private final String platformName;
+
+    private final Map<Integer, String> stageOperators = new ConcurrentHashMap<>();
+
+    public SparkMetricsListener(ExecutionMetrics metrics, String platformName) {
+        this.metrics = metrics;
+        this.platformName = platformName;
+    }
+
+    @Override
+    public void onStageSubmitted(SparkListenerStageSubmitted stageSubmitted) {
+        final Properties properties = stageSubmitted.properties();
+        final String operator = properties == null ? null : properties.getProperty(OPERATOR_PROPERTY);
+        if (operator != null) {
+            this.stageOperators.put(stageSubmitted.stageInfo().stageId(), operator);
+        }
+    }
+
+    @Override
+    public void onTaskEnd(SparkListenerTaskEnd taskEnd) {
+        final TaskMetrics taskMetrics = taskEnd.taskMetrics();
+        if (taskMetrics == null) return;
+        this.metrics.recordRemoteWork(
+                this.platformName,
+                this.stageOperators.getOrDefault(taskEnd.stageId(), UNKNOWN_OPERATOR),
+                taskMetrics.executorCpuTime(),
+                taskMetrics.jvmGCTime(),
+                taskMetrics.memoryBytesSpilled() + taskMetrics.diskBytesSpilled(),
+                taskMetrics.inputMetrics().bytesRead() + taskMetrics.shuffleReadMetrics().totalBytesRead(),
+                taskMetrics.outputMetrics().bytesWritten() + taskMetrics.shuffleWriteMetrics().bytesWritten()
+        );
+    }
+
+    @Override
+    public void onStageCompleted(SparkListenerStageCompleted stageCompleted) {
+        this.stageOperators.remove(stageCompleted.stageInfo().stageId());
+    }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.spark.execution;
+
+import org.apache.spark.executor.TaskMetrics;
+import org.apache.spark.scheduler.SparkListener;
+import org.apache.spark.scheduler.SparkListenerStageCompleted;
+import org.apache.spark.scheduler.SparkListenerStageSubmitted;
+import org.apache.spark.scheduler.SparkListenerTaskEnd;
+import org.apache.wayang.core.monitor.ProgressTracker;
+
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Feeds the records and bytes that Spark tasks read into the {@link ProgressTracker} of the Wayang operator that
+ * triggered them (see {@link #TRACKER_PROPERTY}), so that the progress advances with every finished Spark task.
+ */
+public class SparkProgressListener extends SparkListener {
+
+    /**
+     * Spark local property that identifies the {@link ProgressTracker} for which Spark jobs are triggered.
+     */
+    public static final String TRACKER_PROPERTY = "wayang.progress.tracker";
+
+    /**
+     * Distinguishes the instances, as several of them may listen on a shared {@link org.apache.spark.SparkContext}.
+     */
+    private static final AtomicInteger instanceIdGenerator = new AtomicInteger(0);
+
+    private final String instanceId = "tracker-" + instanceIdGenerator.getAndIncrement();
+
+    private final AtomicInteger trackerIdGenerator = new AtomicInteger(0);
+
+    private final Map<String, ProgressTracker> trackers = new ConcurrentHashMap<>();
+
+    private final Map<Integer, ProgressTracker> stageTrackers = new ConcurrentHashMap<>();
+
+    /**
+     * Registers a {@link ProgressTracker} with this instance.
+     *
+     * @param progressTracker that should be fed
+     * @return the value for the {@link #TRACKER_PROPERTY}
+     */
+    public String register(ProgressTracker progressTracker) {
+        final String trackerId = this.instanceId + "-" + this.trackerIdGenerator.getAndIncrement();
+        this.trackers.put(trackerId, progressTracker);
+        return trackerId;
+    }
+
+    @Override
+    public void onStageSubmitted(SparkListenerStageSubmitted stageSubmitted) {
+        final Properties properties = stageSubmitted.properties();
+        final String trackerId = properties == null ? null : properties.getProperty(TRACKER_PROPERTY);
+        final ProgressTracker progressTracker = trackerId == null ? null : this.trackers.get(trackerId);
+        if (progressTracker != null) {
+            this.stageTrackers.put(stageSubmitted.stageInfo().stageId(), progressTracker);
+        }
+    }
+
+    @Override
+    public void onTaskEnd(SparkListenerTaskEnd taskEnd) {
+        final ProgressTracker progressTracker = this.stageTrackers.get(taskEnd.stageId());
+        final TaskMetrics taskMetrics = taskEnd.taskMetrics();
+        if (progressTracker == null || taskMetrics == null) return;
+        progressTracker.addBytes(
+                taskMetrics.inputMetrics().bytesRead() + taskMetrics.shuffleReadMetrics().totalBytesRead()
+        );
+        progressTracker.addRecords(
+                taskMetrics.inputMetrics().recordsRead() + taskMetrics.shuffleReadMetrics().recordsRead()
+        );
+    }
+
+    @Override
+    public void onStageCompleted(SparkListenerStageCompleted stageCompleted) {
+        this.stageTrackers.remove(stageCompleted.stageInfo().stageId());
+    }
+
+}
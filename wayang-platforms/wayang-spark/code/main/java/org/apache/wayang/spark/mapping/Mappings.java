@@ -32,6 +32,8 @@ public class Mappings {
     public static Collection<Mapping> BASIC_MAPPINGS = Arrays.asList(
             new TextFileSourceMapping(),
             new TextFileSinkMapping(),
+            new ParquetFileSourceMapping(),
+            new ParquetFileSinkMapping(),
             new MapMapping(),
             new MapPartitionsMapping(),
             new ReduceByMapping(),
@@ -49,6 +51,8 @@ public class Mappings {
             new IntersectMapping(),
             new CartesianMapping(),
             new JoinMapping(),
+            new BroadcastJoinMapping(),
+            new SkewJoinMapping(),
             new CoGroupMapping(),
             new LoopMapping(),
             new DoWhileMapping(),
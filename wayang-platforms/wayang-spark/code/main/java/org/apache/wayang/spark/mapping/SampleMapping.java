@@ -28,7 +28,9 @@ import org.apache.wayang.core.mapping.SubplanPattern;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.spark.operators.SparkBernoulliSampleOperator;
 import org.apache.wayang.spark.operators.SparkRandomPartitionSampleOperator;
+import org.apache.wayang.spark.operators.SparkReservoirSampleOperator;
 import org.apache.wayang.spark.operators.SparkShufflePartitionSampleOperator;
+import org.apache.wayang.spark.operators.SparkStratifiedSampleOperator;
 import org.apache.wayang.spark.platform.SparkPlatform;
 
 import java.util.Collection;
@@ -56,6 +58,9 @@ public class SampleMapping implements Mapping {
                 op.getSampleMethod() == SampleOperator.Methods.RANDOM
                         || op.getSampleMethod() == SampleOperator.Methods.SHUFFLE_PARTITION_FIRST
                         || op.getSampleMethod() == SampleOperator.Methods.BERNOULLI
+                        || op.getSampleMethod() == SampleOperator.Methods.RESERVOIR
+                        || op.getSampleMethod() == SampleOperator.Methods.PARALLEL_RESERVOIR
+                        || op.getSampleMethod() == SampleOperator.Methods.STRATIFIED
                         || op.getSampleMethod() == SampleOperator.Methods.ANY
         ); //TODO: check if the zero here affects execution
         return SubplanPattern.createSingleton(operatorPattern);
@@ -72,6 +77,11 @@ public class SampleMapping implements Mapping {
                             return new SparkShufflePartitionSampleOperator<>(matchedOperator);
                         case BERNOULLI:
                             return new SparkBernoulliSampleOperator<>(matchedOperator);
+                        case RESERVOIR:
+                        case PARALLEL_RESERVOIR:
+                            return new SparkReservoirSampleOperator<>(matchedOperator);
+                        case STRATIFIED:
+                            return new SparkStratifiedSampleOperator<>(matchedOperator);
                         default:
                             throw new WayangException(String.format(
                                     "%s sample method is not yet supported in Sample platform.",
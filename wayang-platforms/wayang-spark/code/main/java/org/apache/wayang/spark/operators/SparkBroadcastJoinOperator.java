@@ -0,0 +1,276 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.spark.operators;
+
+import org.apache.commons.lang3.Validate;
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.function.FlatMapFunction;
+import org.apache.spark.broadcast.Broadcast;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.operators.JoinOperator;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.platform.lineage.LazyExecutionLineageNode;
+import org.apache.wayang.core.util.Actions;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.java.channels.CollectionChannel;
+import org.apache.wayang.spark.channels.RddChannel;
+import org.apache.wayang.spark.compiler.FunctionCompiler;
+import org.apache.wayang.spark.execution.SparkExecutor;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Spark implementation of the {@link JoinOperator} that broadcasts a hash table of one input (the build input) and
+ * probes it with the other input. In contrast to the {@link SparkJoinOperator}, none of the inputs is shuffled, which
+ * pays off if the build input is small, e.g., a dimension table. The build input is provided as a
+ * {@link CollectionChannel}, so that the optimizer accounts for collecting it.
+ */
+public class SparkBroadcastJoinOperator<InputType0, InputType1, KeyType>
+        extends JoinOperator<InputType0, InputType1, KeyType>
+        implements SparkExecutionOperator {
+
+    /**
+     * The index of the input that is broadcast.
+     */
+    private final int buildInputIndex;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param that            the {@link JoinOperator} to be implemented
+     * @param buildInputIndex the index of the input to be broadcast
+     */
+    public SparkBroadcastJoinOperator(JoinOperator<InputType0, InputType1, KeyType> that, int buildInputIndex) {
+        super(that);
+        Validate.inclusiveBetween(0, 1, buildInputIndex);
+        this.buildInputIndex = buildInputIndex;
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public SparkBroadcastJoinOperator(SparkBroadcastJoinOperator<InputType0, InputType1, KeyType> that) {
+        this(that, that.getBuildInputIndex());
+    }
+
+    public int getBuildInputIndex() {
+        return this.buildInputIndex;
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            SparkExecutor sparkExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final CollectionChannel.Instance buildInput = (CollectionChannel.Instance) inputs[this.buildInputIndex];
+        final RddChannel.Instance probeInput = (RddChannel.Instance) inputs[1 - this.buildInputIndex];
+        final RddChannel.Instance output = (RddChannel.Instance) outputs[0];
+
+        final FunctionCompiler compiler = sparkExecutor.getCompiler();
+        final JavaRDD<Tuple2<InputType0, InputType1>> outputRdd;
+        if (this.buildInputIndex == 0) {
+            outputRdd = broadcastJoin(
+                    probeInput.<InputType1>provideRdd(),
+                    compiler.compileToKeyExtractor(this.keyDescriptor1),
+                    buildInput.<InputType0>provideCollection(),
+                    compiler.compileToKeyExtractor(this.keyDescriptor0),
+                    true,
+                    output.getLineage(),
+                    sparkExecutor
+            );
+        } else {
+            outputRdd = broadcastJoin(
+                    probeInput.<InputType0>provideRdd(),
+                    compiler.compileToKeyExtractor(this.keyDescriptor0),
+                    buildInput.<InputType1>provideCollection(),
+                    compiler.compileToKeyExtractor(this.keyDescriptor1),
+                    false,
+                    output.getLineage(),
+                    sparkExecutor
+            );
+        }
+        this.name(outputRdd);
+
+        output.accept(outputRdd, sparkExecutor);
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    /**
+     * Joins an {@link JavaRDD} with a {@link Collection} by broadcasting a hash table of the latter. The
+     * {@link Broadcast} is destroyed as soon as the join product has been materialized, i.e., when its lineage is
+     * marked as executed.
+     *
+     * @param probeRdd          the {@link JavaRDD} to join
+     * @param probeKeyExtractor extracts the join keys from the {@code probeRdd}
+     * @param buildCollection   the {@link Collection} to join
+     * @param buildKeyExtractor extracts the join keys from the {@code buildCollection}
+     * @param isBuildInput0     whether the {@code buildCollection} provides the first fields of the join product
+     * @param outputLineage     the {@link LazyExecutionLineageNode} of the {@link ChannelInstance} of the join product
+     * @param sparkExecutor     provides the {@link org.apache.spark.api.java.JavaSparkContext}
+     * @return the join product
+     */
+    static <BuildType, ProbeType, KeyType, InputType0, InputType1> JavaRDD<Tuple2<InputType0, InputType1>> broadcastJoin(
+            JavaRDD<ProbeType> probeRdd,
+            FunctionCompiler.KeyExtractor<ProbeType, KeyType> probeKeyExtractor,
+            Collection<BuildType> buildCollection,
+            FunctionCompiler.KeyExtractor<BuildType, KeyType> buildKeyExtractor,
+            boolean isBuildInput0,
+            LazyExecutionLineageNode outputLineage,
+            SparkExecutor sparkExecutor) {
+        final Map<KeyType, List<BuildType>> hashTable = new HashMap<>();
+        try {
+            for (BuildType dataQuantum : buildCollection) {
+                final KeyType key = buildKeyExtractor.call(dataQuantum)._1();
+                hashTable.computeIfAbsent(key, k -> new ArrayList<>(1)).add(dataQuantum);
+            }
+        } catch (Exception e) {
+            throw new WayangException("Could not build the hash table.", e);
+        }
+        final Broadcast<Map<KeyType, List<BuildType>>> broadcast = sparkExecutor.sc.broadcast(hashTable);
+        outputLineage.addPredecessor(new BroadcastDestroyer(broadcast));
+        return probeRdd.flatMap(new HashTableProber<>(broadcast, probeKeyExtractor, isBuildInput0));
+    }
+
+    /**
+     * Destroys a {@link Broadcast} once it is marked as executed, which happens when an action has consumed the
+     * {@link JavaRDD} that uses the {@link Broadcast}.
+     */
+    private static class BroadcastDestroyer extends LazyExecutionLineageNode {
+
+        private final Broadcast<?> broadcast;
+
+        private BroadcastDestroyer(Broadcast<?> broadcast) {
+            this.broadcast = broadcast;
+        }
+
+        @Override
+        protected <T> T accept(T accumulator, Aggregator<T> aggregator) {
+            return accumulator;
+        }
+
+        @Override
+        protected void markAsExecuted() {
+            super.markAsExecuted();
+            Actions.doSafe(this.broadcast::destroy);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%s[%s]", this.getClass().getSimpleName(), this.broadcast);
+        }
+    }
+
+    /**
+     * Probes a broadcast hash table and emits the join product.
+     */
+    private static class HashTableProber<BuildType, ProbeType, KeyType, InputType0, InputType1>
+            implements FlatMapFunction<ProbeType, Tuple2<InputType0, InputType1>> {
+
+        private final Broadcast<Map<KeyType, List<BuildType>>> hashTable;
+
+        private final FunctionCompiler.KeyExtractor<ProbeType, KeyType> keyExtractor;
+
+        private final boolean isBuildInput0;
+
+        private HashTableProber(Broadcast<Map<KeyType, List<BuildType>>> hashTable,
+                                FunctionCompiler.KeyExtractor<ProbeType, KeyType> keyExtractor,
+                                boolean isBuildInput0) {
+            this.hashTable = hashTable;
+            this.keyExtractor = keyExtractor;
+            this.isBuildInput0 = isBuildInput0;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public Iterator<Tuple2<InputType0, InputType1>> call(ProbeType probe) throws Exception {
+            final List<BuildType> matches = this.hashTable.value().get(this.keyExtractor.call(probe)._1());
+            if (matches == null) return Collections.emptyIterator();
+            final List<Tuple2<InputType0, InputType1>> joinProduct = new ArrayList<>(matches.size());
+            for (BuildType match : matches) {
+                joinProduct.add(this.isBuildInput0 ?
+                        new Tuple2<>((InputType0) match, (InputType1) probe) :
+                        new Tuple2<>((InputType0) probe, (InputType1) match));
+            }
+            return joinProduct.iterator();
+        }
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new SparkBroadcastJoinOperator<>(this);
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return String.format("wayang.spark.broadcastjoin.build%d.load", this.buildInputIndex);
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                SparkExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor0, configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor1, configuration);
+        return optEstimator;
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        if (index == this.buildInputIndex) {
+            return Collections.singletonList(CollectionChannel.DESCRIPTOR);
+        }
+        return Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(RddChannel.UNCACHED_DESCRIPTOR);
+    }
+
+    @Override
+    public boolean containsAction() {
+        return false;
+    }
+
+}
@@ -107,7 +107,7 @@ public class SparkCoGroupOperator<In0, In1, Key> extends CoGroupOperator<In0, In
         JavaPairRDD<Key, In1> pairRdd1 = inputRdd1.mapToPair(keyExtractor1);
 
         final JavaPairRDD<Key, scala.Tuple2<Iterable<In0>, Iterable<In1>>> outputPair =
-                pairRdd0.cogroup(pairRdd1, sparkExecutor.getNumDefaultPartitions());
+                pairRdd0.cogroup(pairRdd1, sparkExecutor.getNumPartitions(operatorContext));
         this.name(outputPair);
 
         // Map the output to what Wayang expects.
@@ -75,7 +75,7 @@ public class SparkDistinctOperator<Type>
         final RddChannel.Instance output = (RddChannel.Instance) outputs[0];
 
         final JavaRDD<Type> inputRdd = input.provideRdd();
-        final JavaRDD<Type> outputRdd = inputRdd.distinct(sparkExecutor.getNumDefaultPartitions());
+        final JavaRDD<Type> outputRdd = inputRdd.distinct(sparkExecutor.getNumPartitions(operatorContext));
         this.name(outputRdd);
         output.accept(outputRdd, sparkExecutor);
 
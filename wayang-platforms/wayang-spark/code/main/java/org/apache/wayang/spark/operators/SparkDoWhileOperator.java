@@ -34,6 +34,7 @@ import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.spark.channels.RddChannel;
+import org.apache.wayang.spark.execution.IterationCheckpointer;
 import org.apache.wayang.spark.execution.SparkExecutor;
 
 import java.util.Arrays;
@@ -49,6 +50,10 @@ public class SparkDoWhileOperator<InputType, ConvergenceType>
         extends DoWhileOperator<InputType, ConvergenceType>
         implements SparkExecutionOperator {
 
+    /**
+     * Truncates the lineage of the iteration {@link org.apache.spark.api.java.JavaRDD}s.
+     */
+    private IterationCheckpointer iterationCheckpointer;
 
     /**
      * Creates a new instance.
@@ -96,6 +101,7 @@ public class SparkDoWhileOperator<InputType, ConvergenceType>
                 assert inputs[INITIAL_INPUT_INDEX] != null;
 
                 iterationInput = (RddChannel.Instance) inputs[INITIAL_INPUT_INDEX];
+                this.iterationCheckpointer = new IterationCheckpointer(sparkExecutor, false);
                 break;
             case RUNNING:
                 assert inputs[ITERATION_INPUT_INDEX] != null;
@@ -119,10 +125,13 @@ public class SparkDoWhileOperator<InputType, ConvergenceType>
         if (endloop) {
             // final loop output
             sparkExecutor.forward(iterationInput, outputs[FINAL_OUTPUT_INDEX]);
+            this.iterationCheckpointer.release(outputs[FINAL_OUTPUT_INDEX]);
             outputs[ITERATION_OUTPUT_INDEX] = null;
             this.setState(State.FINISHED);
         } else {
             outputs[FINAL_OUTPUT_INDEX] = null;
+            // The next evaluation of the stopping condition materializes due checkpoints.
+            this.iterationCheckpointer.checkpointIfDue(iterationInput.provideRdd());
             sparkExecutor.forward(iterationInput, outputs[ITERATION_OUTPUT_INDEX]);
             this.setState(State.RUNNING);
         }
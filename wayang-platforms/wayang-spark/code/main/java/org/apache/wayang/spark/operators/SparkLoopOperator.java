@@ -35,6 +35,7 @@ import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.java.channels.CollectionChannel;
 import org.apache.wayang.java.operators.JavaExecutionOperator;
 import org.apache.wayang.spark.channels.RddChannel;
+import org.apache.wayang.spark.execution.IterationCheckpointer;
 import org.apache.wayang.spark.execution.SparkExecutor;
 
 import java.util.Arrays;
@@ -50,6 +51,10 @@ public class SparkLoopOperator<InputType, ConvergenceType>
         extends LoopOperator<InputType, ConvergenceType>
         implements SparkExecutionOperator {
 
+    /**
+     * Truncates the lineage of the iteration {@link org.apache.spark.api.java.JavaRDD}s.
+     */
+    private IterationCheckpointer iterationCheckpointer;
 
     /**
      * Creates a new instance.
@@ -102,6 +107,7 @@ public class SparkLoopOperator<InputType, ConvergenceType>
                 assert inputs[INITIAL_CONVERGENCE_INPUT_INDEX] != null;
 
                 input = (RddChannel.Instance) inputs[INITIAL_INPUT_INDEX];
+                this.iterationCheckpointer = new IterationCheckpointer(sparkExecutor, false);
                 JavaExecutionOperator.forward(inputs[INITIAL_CONVERGENCE_INPUT_INDEX], outputs[ITERATION_CONVERGENCE_OUTPUT_INDEX]);
                 break;
             case RUNNING:
@@ -127,11 +133,14 @@ public class SparkLoopOperator<InputType, ConvergenceType>
         if (endloop) {
             // final loop output
             sparkExecutor.forward(input, outputs[FINAL_OUTPUT_INDEX]);
+            this.iterationCheckpointer.release(outputs[FINAL_OUTPUT_INDEX]);
             outputs[ITERATION_OUTPUT_INDEX] = null;
             outputs[ITERATION_CONVERGENCE_OUTPUT_INDEX] = null;
             this.setState(State.FINISHED);
         } else {
             outputs[FINAL_OUTPUT_INDEX] = null;
+            // The next evaluation of the stopping condition materializes due checkpoints.
+            this.iterationCheckpointer.checkpointIfDue(input.provideRdd());
             sparkExecutor.forward(input, outputs[ITERATION_OUTPUT_INDEX]);
             this.setState(State.RUNNING);
         }
@@ -83,7 +83,7 @@ public class SparkMaterializedGroupByOperator<Type, KeyType>
         final Function<Type, KeyType> keyExtractor =
                 sparkExecutor.getCompiler().compile(this.keyDescriptor, this, operatorContext, inputs);
         final Function<scala.Tuple2<KeyType, Iterable<Type>>, Iterable<Type>> projector = new GroupProjector<>();
-        final JavaPairRDD<KeyType, Iterable<Type>> groupedKeyRdd = inputRdd.groupBy(keyExtractor, sparkExecutor.getNumDefaultPartitions());
+        final JavaPairRDD<KeyType, Iterable<Type>> groupedKeyRdd = inputRdd.groupBy(keyExtractor, sparkExecutor.getNumPartitions(operatorContext));
         this.name(groupedKeyRdd);
         final JavaRDD<Iterable<Type>> outputRdd = groupedKeyRdd.map(projector);
         this.name(outputRdd);
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.spark.operators;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.hadoop.ParquetOutputFormat;
+import org.apache.parquet.hadoop.example.GroupWriteSupport;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.MessageTypeParser;
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.function.PairFunction;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.operators.ParquetFileSink;
+import org.apache.wayang.basic.util.parquet.ParquetRecords;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.spark.channels.RddChannel;
+import org.apache.wayang.spark.execution.SparkExecutor;
+import org.apache.wayang.spark.platform.SparkPlatform;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Implementation of the {@link ParquetFileSink} for the {@link SparkPlatform}. It writes a directory with one
+ * Parquet file per partition. If no schema is specified, it is inferred from the first {@link Record}, which
+ * requires an additional Spark job.
+ */
+public class SparkParquetFileSink extends ParquetFileSink implements SparkExecutionOperator {
+
+    public SparkParquetFileSink(String outputUrl, String schema) {
+        super(outputUrl, schema);
+    }
+
+    public SparkParquetFileSink(ParquetFileSink that) {
+        super(that);
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            SparkExecutor sparkExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == 1;
+        assert outputs.length == 0;
+        JavaRDD<Record> inputRdd = ((RddChannel.Instance) inputs[0]).provideRdd();
+
+        final MessageType schema;
+        if (this.isSchemaSpecified()) {
+            schema = this.getSchema(null);
+        } else {
+            final List<Record> samples = inputRdd.take(1);
+            if (samples.isEmpty()) {
+                throw new WayangException(String.format(
+                        "Cannot infer the Parquet schema for %s from an empty input; please specify it.", this.outputUrl
+                ));
+            }
+            schema = this.getSchema(samples.get(0));
+        }
+
+        final Configuration conf = new Configuration(sparkExecutor.sc.hadoopConfiguration());
+        GroupWriteSupport.setSchema(schema, conf);
+        conf.set(ParquetOutputFormat.WRITE_SUPPORT_CLASS, GroupWriteSupport.class.getName());
+        conf.set(ParquetOutputFormat.COMPRESSION, this.compressionCodec.name());
+        inputRdd.mapToPair(new GroupFormatter(schema.toString()))
+                .saveAsNewAPIHadoopFile(this.outputUrl, Void.class, Group.class, ParquetOutputFormat.class, conf);
+
+        return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+    }
+
+    /**
+     * Converts {@link Record}s into Parquet {@link Group}s.
+     */
+    private static class GroupFormatter implements PairFunction<Record, Void, Group> {
+
+        /**
+         * The textual Parquet schema, because {@link MessageType}s are not serializable.
+         */
+        private final String schema;
+
+        private transient MessageType parsedSchema;
+
+        private GroupFormatter(String schema) {
+            this.schema = schema;
+        }
+
+        @Override
+        public scala.Tuple2<Void, Group> call(Record record) throws Exception {
+            if (this.parsedSchema == null) {
+                this.parsedSchema = MessageTypeParser.parseMessageType(this.schema);
+            }
+            return new scala.Tuple2<>(null, ParquetRecords.toGroup(record, this.parsedSchema));
+        }
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        throw new UnsupportedOperationException("This operator has no outputs.");
+    }
+
+    @Override
+    public boolean containsAction() {
+        return true;
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.spark.parquetfilesink.load";
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new SparkParquetFileSink(this);
+    }
+
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.spark.operators;
+
+import org.apache.hadoop.conf.Configuration;
+import org.apache.parquet.example.data.Group;
+import org.apache.parquet.hadoop.ParquetInputFormat;
+import org.apache.parquet.hadoop.example.GroupReadSupport;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.function.Function;
+import org.apache.wayang.basic.data.Record;
+import org.apache.wayang.basic.operators.ParquetFileSource;
+import org.apache.wayang.basic.util.parquet.ParquetRecords;
+import org.apache.wayang.basic.util.parquet.ParquetSchemas;
+import org.apache.wayang.core.api.exception.WayangException;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.spark.channels.RddChannel;
+import org.apache.wayang.spark.execution.SparkExecutor;
+import org.apache.wayang.spark.platform.SparkPlatform;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Implementation of the {@link ParquetFileSource} for the {@link SparkPlatform}. Row groups are distributed
+ * across tasks via Parquet's {@link ParquetInputFormat}.
+ */
+public class SparkParquetFileSource extends ParquetFileSource implements SparkExecutionOperator {
+
+    public SparkParquetFileSource(String inputUrl, String... columnNames) {
+        super(inputUrl, columnNames);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public SparkParquetFileSource(ParquetFileSource that) {
+        super(that);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            SparkExecutor sparkExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final String url = this.getInputUrl().trim();
+        final Configuration conf = new Configuration(sparkExecutor.sc.hadoopConfiguration());
+        final String[] columnNames;
+        try {
+            columnNames = ParquetSchemas.getFieldNames(this.configureRead(conf));
+        } catch (IOException e) {
+            throw new WayangException(String.format("Reading %s failed.", url), e);
+        }
+        conf.set(ParquetInputFormat.READ_SUPPORT_CLASS, GroupReadSupport.class.getName());
+
+        final JavaPairRDD<Void, Group> groupRdd = sparkExecutor.sc.newAPIHadoopFile(
+                url, (Class<ParquetInputFormat<Group>>) (Class<?>) ParquetInputFormat.class, Void.class, Group.class, conf
+        );
+        JavaRDD<Record> rdd = groupRdd.values().map(new GroupConverter(columnNames));
+        if (this.getPredicateDescriptor() != null) {
+            // Parquet only skips what the pushed-down predicate rules out, so we apply the exact predicate, too.
+            rdd = rdd.filter(sparkExecutor.getCompiler().compile(
+                    this.getPredicateDescriptor(), this, operatorContext, inputs
+            ));
+        }
+        this.name(rdd);
+        ((RddChannel.Instance) outputs[0]).accept(rdd, sparkExecutor);
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    /**
+     * Converts Parquet {@link Group}s into {@link Record}s.
+     */
+    private static class GroupConverter implements Function<Group, Record> {
+
+        private final String[] columnNames;
+
+        private GroupConverter(String[] columnNames) {
+            this.columnNames = columnNames;
+        }
+
+        @Override
+        public Record call(Group group) throws Exception {
+            return ParquetRecords.toRecord(group, this.columnNames);
+        }
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.spark.parquetfilesource.load";
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(org.apache.wayang.core.api.Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                SparkExecutionOperator.super.createLoadProfileEstimator(configuration);
+        if (this.getPredicateDescriptor() != null) {
+            LoadProfileEstimators.nestUdfEstimator(optEstimator, this.getPredicateDescriptor(), configuration);
+        }
+        return optEstimator;
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new SparkParquetFileSource(this);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        throw new UnsupportedOperationException(String.format("%s does not have input channels.", this));
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Collections.singletonList(RddChannel.UNCACHED_DESCRIPTOR);
+    }
+
+    @Override
+    public boolean containsAction() {
+        return false;
+    }
+
+}
@@ -95,7 +95,7 @@ public class SparkReduceByOperator<Type, KeyType>
         final JavaPairRDD<KeyType, Type> pairRdd = inputStream.mapToPair(keyExtractor);
         this.name(pairRdd);
         final JavaPairRDD<KeyType, Type> reducedPairRdd =
-                pairRdd.reduceByKey(reduceFunc, sparkExecutor.getNumDefaultPartitions());
+                pairRdd.reduceByKey(reduceFunc, sparkExecutor.getNumPartitions(operatorContext));
         this.name(reducedPairRdd);
         final JavaRDD<Type> outputRdd = reducedPairRdd.map(new TupleConverter<>());
         this.name(outputRdd);
@@ -27,6 +27,7 @@ import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.core.util.Tuple;
 import org.apache.wayang.spark.channels.RddChannel;
+import org.apache.wayang.spark.execution.IterationCheckpointer;
 import org.apache.wayang.spark.execution.SparkExecutor;
 
 import java.util.Arrays;
@@ -46,6 +47,11 @@ public class SparkRepeatOperator<Type>
      */
     private int iterationCounter;
 
+    /**
+     * Truncates the lineage of the iteration {@link org.apache.spark.api.java.JavaRDD}s.
+     */
+    private IterationCheckpointer iterationCheckpointer;
+
     public SparkRepeatOperator(int numIterations, DataSetType<Type> type) {
         super(numIterations, type);
     }
@@ -74,6 +80,7 @@ public class SparkRepeatOperator<Type>
                 assert inputs[INITIAL_INPUT_INDEX] != null;
                 iterationInput = (RddChannel.Instance) inputs[INITIAL_INPUT_INDEX];
                 this.iterationCounter = 0;
+                this.iterationCheckpointer = new IterationCheckpointer(sparkExecutor, true);
                 break;
             case RUNNING:
                 assert inputs[ITERATION_INPUT_INDEX] != null;
@@ -88,10 +95,15 @@ public class SparkRepeatOperator<Type>
         if (this.iterationCounter >= this.getNumIterations()) {
             // final loop output
             sparkExecutor.forward(iterationInput, outputs[FINAL_OUTPUT_INDEX]);
+            this.iterationCheckpointer.release(outputs[FINAL_OUTPUT_INDEX]);
             outputs[ITERATION_OUTPUT_INDEX] = null;
             this.setState(State.FINISHED);
         } else {
             outputs[FINAL_OUTPUT_INDEX] = null;
+            // There is no action per iteration, so due checkpoints are materialized right away.
+            if (this.iterationCheckpointer.checkpointIfDue(iterationInput.provideRdd())) {
+                executionLineageNode.addPredecessor(iterationInput.getLineage());
+            }
             sparkExecutor.forward(iterationInput, outputs[ITERATION_OUTPUT_INDEX]);
             this.setState(State.RUNNING);
         }
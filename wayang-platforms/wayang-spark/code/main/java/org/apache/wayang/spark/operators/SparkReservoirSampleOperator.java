@@ -0,0 +1,147 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.spark.operators;
+
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.function.Function2;
+import org.apache.wayang.basic.operators.SampleOperator;
+import org.apache.wayang.basic.util.sketch.Reservoir;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.java.channels.CollectionChannel;
+import org.apache.wayang.spark.channels.RddChannel;
+import org.apache.wayang.spark.execution.SparkExecutor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Spark implementation of the {@link SampleOperator} with {@link Methods#RESERVOIR} and
+ * {@link Methods#PARALLEL_RESERVOIR} sampling. Each partition is sampled into a {@link Reservoir} in a single pass,
+ * and the partial samples are merged in proportion to the partition sizes. Hence, the dataset size need not be known.
+ */
+public class SparkReservoirSampleOperator<Type>
+        extends SampleOperator<Type>
+        implements SparkExecutionOperator {
+
+    /**
+     * Creates a new instance.
+     */
+    public SparkReservoirSampleOperator(IntUnaryOperator sampleSizeFunction, DataSetType<Type> type, LongUnaryOperator seedFunction) {
+        super(sampleSizeFunction, type, Methods.PARALLEL_RESERVOIR, seedFunction);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public SparkReservoirSampleOperator(SampleOperator<Type> that) {
+        super(that);
+        assert that.getSampleMethod() == Methods.RESERVOIR
+                || that.getSampleMethod() == Methods.PARALLEL_RESERVOIR
+                || that.getSampleMethod() == Methods.ANY;
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            SparkExecutor sparkExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final JavaRDD<Type> inputRdd = ((RddChannel.Instance) inputs[0]).provideRdd();
+        final int sampleSize = this.getSampleSize(operatorContext);
+        final long seed = this.getSeed(operatorContext);
+
+        final JavaRDD<Reservoir<Type>> reservoirRdd = inputRdd.mapPartitionsWithIndex(
+                new PartitionSampler<>(sampleSize, seed), false
+        );
+        this.name(reservoirRdd);
+        final Reservoir<Type> reservoir = reservoirRdd.fold(new Reservoir<>(sampleSize, seed), Reservoir::merge);
+
+        // assuming the sample is small better use a collection instance, the optimizer can transform the output if necessary
+        ((CollectionChannel.Instance) outputs[0]).accept(reservoir.getSample());
+
+        return ExecutionOperator.modelEagerExecution(inputs, outputs, operatorContext);
+    }
+
+    /**
+     * Samples a partition into a {@link Reservoir} with a partition-specific seed.
+     */
+    private static class PartitionSampler<Type>
+            implements Function2<Integer, Iterator<Type>, Iterator<Reservoir<Type>>> {
+
+        private final int sampleSize;
+
+        private final long seed;
+
+        private PartitionSampler(int sampleSize, long seed) {
+            this.sampleSize = sampleSize;
+            this.seed = seed;
+        }
+
+        @Override
+        public Iterator<Reservoir<Type>> call(Integer partitionIndex, Iterator<Type> iterator) {
+            final Reservoir<Type> reservoir = new Reservoir<>(this.sampleSize, this.seed + partitionIndex + 1);
+            iterator.forEachRemaining(reservoir::add);
+            return Collections.singletonList(reservoir).iterator();
+        }
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new SparkReservoirSampleOperator<>(this);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        return Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(CollectionChannel.DESCRIPTOR);
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.spark.reservoir-sample.load";
+    }
+
+    @Override
+    public boolean containsAction() {
+        return true;
+    }
+
+}
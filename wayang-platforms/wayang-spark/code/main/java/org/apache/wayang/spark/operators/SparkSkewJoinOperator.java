@@ -0,0 +1,357 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.spark.operators;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.function.Function;
+import org.apache.spark.api.java.function.PairFlatMapFunction;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.operators.JoinOperator;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.cardinality.CardinalityEstimate;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.util.HeavyHitters;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.spark.channels.RddChannel;
+import org.apache.wayang.spark.compiler.FunctionCompiler;
+import org.apache.wayang.spark.execution.SparkExecutor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Spark implementation of the {@link JoinOperator} that copes with skewed join keys. It samples the join keys of
+ * both inputs to detect heavy hitters. The data quanta with heavy-hitter keys are joined via a broadcast of the
+ * matching data quanta of the other input (see {@link SparkBroadcastJoinOperator}), so that they are not shuffled
+ * into a single straggling partition. All other data quanta are joined via a shuffle. Without heavy hitters, this
+ * operator behaves like the {@link SparkJoinOperator}.
+ * <p>The sampling is configured via {@code wayang.spark.skewjoin.sample-size} (the desired number of sampled keys per
+ * input), {@code wayang.spark.skewjoin.sample-fraction} (used if the input cardinality is unknown), and
+ * {@code wayang.spark.skewjoin.heavy-hitter-frequency} (the minimum share of a heavy hitter among the samples).
+ * At most {@code wayang.spark.skewjoin.max-broadcast-size} data quanta are broadcast; beyond that, the heavy hitters
+ * are spread over {@code wayang.spark.skewjoin.num-salts} salts and joined via a shuffle.</p>
+ */
+public class SparkSkewJoinOperator<InputType0, InputType1, KeyType>
+        extends JoinOperator<InputType0, InputType1, KeyType>
+        implements SparkExecutionOperator {
+
+    /**
+     * Creates a new instance.
+     *
+     * @param that the {@link JoinOperator} to be implemented
+     */
+    public SparkSkewJoinOperator(JoinOperator<InputType0, InputType1, KeyType> that) {
+        super(that);
+    }
+
+    @Override
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            SparkExecutor sparkExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final RddChannel.Instance input0 = (RddChannel.Instance) inputs[0];
+        final RddChannel.Instance input1 = (RddChannel.Instance) inputs[1];
+        final RddChannel.Instance output = (RddChannel.Instance) outputs[0];
+
+        final JavaRDD<InputType0> inputRdd0 = input0.provideRdd();
+        final JavaRDD<InputType1> inputRdd1 = input1.provideRdd();
+
+        final FunctionCompiler compiler = sparkExecutor.getCompiler();
+        final FunctionCompiler.KeyExtractor<InputType0, KeyType> keyExtractor0 = compiler.compileToKeyExtractor(this.keyDescriptor0);
+        final FunctionCompiler.KeyExtractor<InputType1, KeyType> keyExtractor1 = compiler.compileToKeyExtractor(this.keyDescriptor1);
+
+        // Find the heavy hitters of the more skewed input.
+        final Map<KeyType, Double> heavyHitters0 = this.sampleHeavyHitters(
+                inputRdd0, keyExtractor0, operatorContext.getInputCardinality(0), sparkExecutor
+        );
+        final Map<KeyType, Double> heavyHitters1 = this.sampleHeavyHitters(
+                inputRdd1, keyExtractor1, operatorContext.getInputCardinality(1), sparkExecutor
+        );
+        final boolean isSkewedInput0 = HeavyHitters.getMass(heavyHitters0) >= HeavyHitters.getMass(heavyHitters1);
+        final Set<KeyType> heavyHitters = new HashSet<>((isSkewedInput0 ? heavyHitters0 : heavyHitters1).keySet());
+        LogManager.getLogger(this.getClass()).info("Detected {} heavy hitter(s) for {}.", heavyHitters.size(), this);
+
+        // Join the data quanta with regular keys via a shuffle.
+        final JavaPairRDD<KeyType, InputType0> pairRdd0 = inputRdd0
+                .filter(new KeyFilter<>(keyExtractor0, heavyHitters, false))
+                .mapToPair(keyExtractor0);
+        final JavaPairRDD<KeyType, InputType1> pairRdd1 = inputRdd1
+                .filter(new KeyFilter<>(keyExtractor1, heavyHitters, false))
+                .mapToPair(keyExtractor1);
+        JavaRDD<Tuple2<InputType0, InputType1>> outputRdd = pairRdd0
+                .join(pairRdd1, sparkExecutor.getNumPartitions(operatorContext))
+                .map(scalaTuple -> new Tuple2<>(scalaTuple._2._1, scalaTuple._2._2));
+
+        // Join the data quanta with heavy-hitter keys by broadcasting the matching data quanta of the other input.
+        if (!heavyHitters.isEmpty()) {
+            final Configuration configuration = sparkExecutor.getConfiguration();
+            final int maxBroadcastSize =
+                    (int) configuration.getLongProperty("wayang.spark.skewjoin.max-broadcast-size", 100000L);
+            final int numSalts = (int) configuration.getLongProperty("wayang.spark.skewjoin.num-salts", 16L);
+            final JavaRDD<Tuple2<InputType0, InputType1>> heavyHitterRdd;
+            if (isSkewedInput0) {
+                heavyHitterRdd = joinHeavyHitters(
+                        inputRdd0.filter(new KeyFilter<>(keyExtractor0, heavyHitters, true)),
+                        keyExtractor0,
+                        inputRdd1.filter(new KeyFilter<>(keyExtractor1, heavyHitters, true)),
+                        keyExtractor1,
+                        true,
+                        maxBroadcastSize,
+                        numSalts,
+                        output,
+                        sparkExecutor,
+                        operatorContext
+                );
+            } else {
+                heavyHitterRdd = joinHeavyHitters(
+                        inputRdd1.filter(new KeyFilter<>(keyExtractor1, heavyHitters, true)),
+                        keyExtractor1,
+                        inputRdd0.filter(new KeyFilter<>(keyExtractor0, heavyHitters, true)),
+                        keyExtractor0,
+                        false,
+                        maxBroadcastSize,
+                        numSalts,
+                        output,
+                        sparkExecutor,
+                        operatorContext
+                );
+            }
+            outputRdd = outputRdd.union(heavyHitterRdd);
+        }
+        this.name(outputRdd);
+
+        output.accept(outputRdd, sparkExecutor);
+
+        return ExecutionOperator.modelQuasiEagerExecution(inputs, outputs, operatorContext);
+    }
+
+    /**
+     * Joins the data quanta with heavy-hitter keys. If few data quanta of the other input match the heavy hitters,
+     * they are broadcast. Otherwise, collecting them could overwhelm the driver, so that the heavy hitters are
+     * salted instead: Each data quantum of the skewed input is assigned to one of {@code numSalts} salts, and each
+     * data quantum of the other input is replicated for all salts. This spreads the heavy hitters over up to
+     * {@code numSalts} partitions.
+     *
+     * @param isSkewedInput0 whether the {@code skewedRdd} provides the first fields of the join product
+     */
+    @SuppressWarnings("unchecked")
+    private static <SkewedType, OtherType, KeyType, InputType0, InputType1>
+    JavaRDD<Tuple2<InputType0, InputType1>> joinHeavyHitters(
+            JavaRDD<SkewedType> skewedRdd,
+            FunctionCompiler.KeyExtractor<SkewedType, KeyType> skewedKeyExtractor,
+            JavaRDD<OtherType> otherRdd,
+            FunctionCompiler.KeyExtractor<OtherType, KeyType> otherKeyExtractor,
+            boolean isSkewedInput0,
+            int maxBroadcastSize,
+            int numSalts,
+            RddChannel.Instance output,
+            SparkExecutor sparkExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        final List<OtherType> otherDataQuanta = otherRdd.take(maxBroadcastSize + 1);
+        if (otherDataQuanta.size() <= maxBroadcastSize) {
+            return SparkBroadcastJoinOperator.broadcastJoin(
+                    skewedRdd,
+                    skewedKeyExtractor,
+                    otherDataQuanta,
+                    otherKeyExtractor,
+                    !isSkewedInput0,
+                    output.getLineage(),
+                    sparkExecutor
+            );
+        }
+
+        LogManager.getLogger(SparkSkewJoinOperator.class).info(
+                "More than {} data quanta match the heavy hitters, salting them instead of broadcasting them.",
+                maxBroadcastSize
+        );
+        final JavaPairRDD<Tuple2<KeyType, Integer>, SkewedType> saltedRdd = skewedRdd
+                .mapToPair(skewedKeyExtractor)
+                .mapPartitionsToPair(new Salter<>(numSalts));
+        final JavaPairRDD<Tuple2<KeyType, Integer>, OtherType> replicatedRdd = otherRdd
+                .mapToPair(otherKeyExtractor)
+                .flatMapToPair(new SaltReplicator<>(numSalts));
+        return saltedRdd
+                .join(replicatedRdd, sparkExecutor.getNumPartitions(operatorContext))
+                .map(scalaTuple -> isSkewedInput0 ?
+                        new Tuple2<>((InputType0) scalaTuple._2._1, (InputType1) scalaTuple._2._2) :
+                        new Tuple2<>((InputType0) scalaTuple._2._2, (InputType1) scalaTuple._2._1));
+    }
+
+    /**
+     * Assigns the data quanta of a partition to the salts in a round-robin fashion, which is deterministic in
+     * contrast to random salts and thus safe for recomputations.
+     */
+    private static class Salter<KeyType, T>
+            implements PairFlatMapFunction<Iterator<scala.Tuple2<KeyType, T>>, Tuple2<KeyType, Integer>, T> {
+
+        private final int numSalts;
+
+        private Salter(int numSalts) {
+            this.numSalts = numSalts;
+        }
+
+        @Override
+        public Iterator<scala.Tuple2<Tuple2<KeyType, Integer>, T>> call(Iterator<scala.Tuple2<KeyType, T>> partition) {
+            return new Iterator<scala.Tuple2<Tuple2<KeyType, Integer>, T>>() {
+
+                private int salt = 0;
+
+                @Override
+                public boolean hasNext() {
+                    return partition.hasNext();
+                }
+
+                @Override
+                public scala.Tuple2<Tuple2<KeyType, Integer>, T> next() {
+                    final scala.Tuple2<KeyType, T> keyedDataQuantum = partition.next();
+                    final int salt = this.salt;
+                    this.salt = (this.salt + 1) % Salter.this.numSalts;
+                    return new scala.Tuple2<>(new Tuple2<>(keyedDataQuantum._1, salt), keyedDataQuantum._2);
+                }
+            };
+        }
+    }
+
+    /**
+     * Replicates data quanta for all salts.
+     */
+    private static class SaltReplicator<KeyType, T>
+            implements PairFlatMapFunction<scala.Tuple2<KeyType, T>, Tuple2<KeyType, Integer>, T> {
+
+        private final int numSalts;
+
+        private SaltReplicator(int numSalts) {
+            this.numSalts = numSalts;
+        }
+
+        @Override
+        public Iterator<scala.Tuple2<Tuple2<KeyType, Integer>, T>> call(scala.Tuple2<KeyType, T> keyedDataQuantum) {
+            final List<scala.Tuple2<Tuple2<KeyType, Integer>, T>> replicas = new ArrayList<>(this.numSalts);
+            for (int salt = 0; salt < this.numSalts; salt++) {
+                replicas.add(new scala.Tuple2<>(new Tuple2<>(keyedDataQuantum._1, salt), keyedDataQuantum._2));
+            }
+            return replicas.iterator();
+        }
+    }
+
+    /**
+     * Detects heavy-hitter keys in a sample of the given {@link JavaRDD}.
+     */
+    private <T> Map<KeyType, Double> sampleHeavyHitters(JavaRDD<T> rdd,
+                                                        FunctionCompiler.KeyExtractor<T, KeyType> keyExtractor,
+                                                        CardinalityEstimate cardinality,
+                                                        SparkExecutor sparkExecutor) {
+        final Configuration configuration = sparkExecutor.getConfiguration();
+        final long estimatedSize = cardinality == null || cardinality.getCorrectnessProbability() == 0d ?
+                -1L :
+                cardinality.getGeometricMeanEstimate();
+        final double sampleFraction = HeavyHitters.getSampleFraction(
+                (int) configuration.getLongProperty("wayang.spark.skewjoin.sample-size", 10000L),
+                estimatedSize,
+                configuration.getDoubleProperty("wayang.spark.skewjoin.sample-fraction", 0.01d)
+        );
+        final List<KeyType> sampledKeys = rdd.sample(false, sampleFraction).mapToPair(keyExtractor).keys().collect();
+        return HeavyHitters.detect(
+                sampledKeys,
+                configuration.getDoubleProperty("wayang.spark.skewjoin.heavy-hitter-frequency", 0.01d)
+        );
+    }
+
+    /**
+     * Retains data quanta depending on whether their keys are heavy hitters.
+     */
+    private static class KeyFilter<T, KeyType> implements Function<T, Boolean> {
+
+        private final FunctionCompiler.KeyExtractor<T, KeyType> keyExtractor;
+
+        private final Set<KeyType> heavyHitters;
+
+        private final boolean isRetainingHeavyHitters;
+
+        private KeyFilter(FunctionCompiler.KeyExtractor<T, KeyType> keyExtractor,
+                          Set<KeyType> heavyHitters,
+                          boolean isRetainingHeavyHitters) {
+            this.keyExtractor = keyExtractor;
+            this.heavyHitters = heavyHitters;
+            this.isRetainingHeavyHitters = isRetainingHeavyHitters;
+        }
+
+        @Override
+        public Boolean call(T dataQuantum) throws Exception {
+            return this.heavyHitters.contains(this.keyExtractor.call(dataQuantum)._1()) == this.isRetainingHeavyHitters;
+        }
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new SparkSkewJoinOperator<>(this);
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.spark.skewjoin.load";
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                SparkExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor0, configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.keyDescriptor1, configuration);
+        return optEstimator;
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        assert index <= this.getNumInputs() || (index == 0 && this.getNumInputs() == 0);
+        // The inputs are scanned twice, so they should be cached.
+        return Collections.singletonList(RddChannel.CACHED_DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        assert index <= this.getNumOutputs() || (index == 0 && this.getNumOutputs() == 0);
+        return Collections.singletonList(RddChannel.UNCACHED_DESCRIPTOR);
+    }
+
+    @Override
+    public boolean containsAction() {
+        return true;
+    }
+
+}
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.spark.operators;
+
+import org.apache.spark.api.java.JavaPairRDD;
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.function.Function;
+import org.apache.spark.api.java.function.Function2;
+import org.apache.wayang.basic.operators.SampleOperator;
+import org.apache.wayang.basic.util.sketch.Reservoir;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.function.TransformationDescriptor;
+import org.apache.wayang.core.optimizer.OptimizationContext;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimator;
+import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
+import org.apache.wayang.core.plan.wayangplan.ExecutionOperator;
+import org.apache.wayang.core.platform.ChannelDescriptor;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.spark.channels.RddChannel;
+import org.apache.wayang.spark.execution.SparkExecutor;
+import scala.Tuple2;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Random;
+import java.util.function.IntUnaryOperator;
+import java.util.function.LongUnaryOperator;
+
+/**
+ * Spark implementation of the {@link SampleOperator} with {@link Methods#STRATIFIED} sampling. Each partition keeps a
+ * {@link Reservoir} per stratum, and only these partial samples are shuffled to be merged per stratum.
+ */
+public class SparkStratifiedSampleOperator<Type, KeyType>
+        extends SampleOperator<Type>
+        implements SparkExecutionOperator {
+
+    /**
+     * Creates a new instance.
+     *
+     * @param sampleSizeFunction   size of the sample of each stratum in dependence of the current iteration number
+     * @param stratumKeyDescriptor extracts the stratum of data quanta
+     */
+    public SparkStratifiedSampleOperator(IntUnaryOperator sampleSizeFunction,
+                                         DataSetType<Type> type,
+                                         LongUnaryOperator seedFunction,
+                                         TransformationDescriptor<Type, KeyType> stratumKeyDescriptor) {
+        super(sampleSizeFunction, type, Methods.STRATIFIED, seedFunction);
+        this.setStratumKeyDescriptor(stratumKeyDescriptor);
+    }
+
+    /**
+     * Copies an instance (exclusive of broadcasts).
+     *
+     * @param that that should be copied
+     */
+    public SparkStratifiedSampleOperator(SampleOperator<Type> that) {
+        super(that);
+        assert that.getSampleMethod() == Methods.STRATIFIED && that.getStratumKeyDescriptor() != null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Tuple<Collection<ExecutionLineageNode>, Collection<ChannelInstance>> evaluate(
+            ChannelInstance[] inputs,
+            ChannelInstance[] outputs,
+            SparkExecutor sparkExecutor,
+            OptimizationContext.OperatorContext operatorContext) {
+        assert inputs.length == this.getNumInputs();
+        assert outputs.length == this.getNumOutputs();
+
+        final JavaRDD<Type> inputRdd = ((RddChannel.Instance) inputs[0]).provideRdd();
+        final Function<Type, KeyType> keyExtractor = sparkExecutor.getCompiler().compile(
+                (TransformationDescriptor<Type, KeyType>) this.getStratumKeyDescriptor(), this, operatorContext, inputs
+        );
+        final int sampleSize = this.getSampleSize(operatorContext);
+        final long seed = this.getSeed(operatorContext);
+
+        final JavaRDD<Tuple2<KeyType, Reservoir<Type>>> partialSampleRdd = inputRdd.mapPartitionsWithIndex(
+                new PartitionSampler<>(keyExtractor, sampleSize, seed), false
+        );
+        this.name(partialSampleRdd);
+        final JavaPairRDD<KeyType, Reservoir<Type>> sampleRdd = JavaPairRDD.fromJavaRDD(partialSampleRdd)
+                .reduceByKey(Reservoir::merge, sparkExecutor.getNumPartitions(operatorContext));
+        this.name(sampleRdd);
+        final JavaRDD<Type> outputRdd = sampleRdd.values().flatMap(reservoir -> reservoir.getSample().iterator());
+        this.name(outputRdd);
+
+        ((RddChannel.Instance) outputs[0]).accept(outputRdd, sparkExecutor);
+
+        return ExecutionOperator.modelLazyExecution(inputs, outputs, operatorContext);
+    }
+
+    /**
+     * Samples each stratum within a partition into a {@link Reservoir}.
+     */
+    private static class PartitionSampler<Type, KeyType>
+            implements Function2<Integer, Iterator<Type>, Iterator<Tuple2<KeyType, Reservoir<Type>>>> {
+
+        private final Function<Type, KeyType> keyExtractor;
+
+        private final int sampleSize;
+
+        private final long seed;
+
+        private PartitionSampler(Function<Type, KeyType> keyExtractor, int sampleSize, long seed) {
+            this.keyExtractor = keyExtractor;
+            this.sampleSize = sampleSize;
+            this.seed = seed;
+        }
+
+        @Override
+        public Iterator<Tuple2<KeyType, Reservoir<Type>>> call(Integer partitionIndex, Iterator<Type> iterator)
+                throws Exception {
+            final Random random = new Random(this.seed + partitionIndex);
+            final Map<KeyType, Reservoir<Type>> reservoirs = new HashMap<>();
+            while (iterator.hasNext()) {
+                final Type dataQuantum = iterator.next();
+                reservoirs.computeIfAbsent(
+                        this.keyExtractor.call(dataQuantum), key -> new Reservoir<>(this.sampleSize, random)
+                ).add(dataQuantum);
+            }
+            final List<Tuple2<KeyType, Reservoir<Type>>> partialSamples = new ArrayList<>(reservoirs.size());
+            reservoirs.forEach((key, reservoir) -> partialSamples.add(new Tuple2<>(key, reservoir)));
+            return partialSamples.iterator();
+        }
+    }
+
+    @Override
+    public Optional<LoadProfileEstimator> createLoadProfileEstimator(Configuration configuration) {
+        final Optional<LoadProfileEstimator> optEstimator =
+                SparkExecutionOperator.super.createLoadProfileEstimator(configuration);
+        LoadProfileEstimators.nestUdfEstimator(optEstimator, this.getStratumKeyDescriptor(), configuration);
+        return optEstimator;
+    }
+
+    @Override
+    protected ExecutionOperator createCopy() {
+        return new SparkStratifiedSampleOperator<>(this);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedInputChannels(int index) {
+        return Arrays.asList(RddChannel.UNCACHED_DESCRIPTOR, RddChannel.CACHED_DESCRIPTOR);
+    }
+
+    @Override
+    public List<ChannelDescriptor> getSupportedOutputChannels(int index) {
+        return Collections.singletonList(RddChannel.UNCACHED_DESCRIPTOR);
+    }
+
+    @Override
+    public String getLoadProfileEstimatorConfigurationKey() {
+        return "wayang.spark.stratified-sample.load";
+    }
+
+    @Override
+    public boolean containsAction() {
+        return false;
+    }
+
+}
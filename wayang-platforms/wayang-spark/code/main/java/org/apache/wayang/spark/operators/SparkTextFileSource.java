@@ -19,6 +19,8 @@
 package org.apache.wayang.spark.operators;
 
 import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.api.java.function.FlatMapFunction;
+import org.apache.spark.input.PortableDataStream;
 import org.apache.wayang.basic.operators.TextFileSource;
 import org.apache.wayang.core.optimizer.OptimizationContext;
 import org.apache.wayang.core.optimizer.costs.LoadProfileEstimators;
@@ -27,12 +29,15 @@ import org.apache.wayang.core.platform.ChannelDescriptor;
 import org.apache.wayang.core.platform.ChannelInstance;
 import org.apache.wayang.core.platform.lineage.ExecutionLineageNode;
 import org.apache.wayang.core.util.Tuple;
+import org.apache.wayang.core.util.fs.Compression;
+import org.apache.wayang.core.util.fs.FileUtils;
 import org.apache.wayang.spark.channels.RddChannel;
 import org.apache.wayang.spark.execution.SparkExecutor;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 
 /**
@@ -67,7 +72,25 @@ public class SparkTextFileSource extends TextFileSource implements SparkExecutio
         assert outputs.length == this.getNumOutputs();
 
         RddChannel.Instance output = (RddChannel.Instance) outputs[0];
-        final JavaRDD<String> rdd = sparkExecutor.sc.textFile(this.getInputUrl());
+        final Compression compression = this.getCompression();
+        JavaRDD<String> rdd;
+        switch (compression) {
+            case NONE:
+            case GZIP:
+            case BZIP2:
+                // Hadoop's codecs take care of these formats (and split BZip2 files).
+                rdd = sparkExecutor.sc.textFile(this.getInputUrl());
+                break;
+            default:
+                // Hadoop lacks (pure Java) codecs for the other formats, so we decompress them ourselves.
+                rdd = sparkExecutor.sc.binaryFiles(this.getInputUrl())
+                        .values()
+                        .flatMap(new LineDecompressor(compression));
+        }
+        if (!compression.isSplittable() && compression != Compression.NONE) {
+            // Compressed files are read by a single task each, so we spread their lines.
+            rdd = rdd.repartition(sparkExecutor.getNumDefaultPartitions());
+        }
         this.name(rdd);
         output.accept(rdd, sparkExecutor);
 
@@ -84,6 +107,23 @@ public class SparkTextFileSource extends TextFileSource implements SparkExecutio
         return prepareLineageNode.collectAndMark();
     }
 
+    /**
+     * Decompresses files and splits them into lines.
+     */
+    private static class LineDecompressor implements FlatMapFunction<PortableDataStream, String> {
+
+        private final Compression compression;
+
+        private LineDecompressor(Compression compression) {
+            this.compression = compression;
+        }
+
+        @Override
+        public Iterator<String> call(PortableDataStream portableDataStream) throws Exception {
+            return FileUtils.createLineIterator(this.compression.decompress(portableDataStream.open()));
+        }
+    }
+
     @Override
     protected ExecutionOperator createCopy() {
         return new SparkTextFileSource(this.getInputUrl(), this.getEncoding());
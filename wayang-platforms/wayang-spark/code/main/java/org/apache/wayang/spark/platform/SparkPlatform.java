@@ -19,29 +19,40 @@
 package org.apache.wayang.spark.platform;
 
 import org.apache.spark.SparkConf;
+import org.apache.spark.SparkContext;
 import org.apache.spark.api.java.JavaSparkContext;
+import org.apache.spark.network.util.JavaUtils;
 import org.apache.wayang.basic.plugin.WayangBasic;
 import org.apache.wayang.core.api.Configuration;
 import org.apache.wayang.core.api.Job;
 import org.apache.wayang.core.api.WayangContext;
 import org.apache.wayang.core.optimizer.costs.LoadProfileToTimeConverter;
 import org.apache.wayang.core.optimizer.costs.LoadToTimeConverter;
+import org.apache.wayang.core.optimizer.costs.ResourceCapacity;
 import org.apache.wayang.core.optimizer.costs.TimeToCostConverter;
 import org.apache.wayang.core.plan.wayangplan.WayangPlan;
 import org.apache.wayang.core.platform.Executor;
 import org.apache.wayang.core.platform.Platform;
+import org.apache.wayang.core.platform.PlatformContextPool;
+import org.apache.wayang.core.platform.checkpoint.ChannelCheckpointer;
 import org.apache.wayang.core.types.DataSetType;
 import org.apache.wayang.core.util.Formats;
 import org.apache.wayang.core.util.ReflectionUtils;
+import org.apache.wayang.spark.channels.RddChannelCheckpointer;
 import org.apache.wayang.spark.execution.SparkContextReference;
 import org.apache.wayang.spark.execution.SparkExecutor;
+import org.apache.wayang.spark.execution.SparkMetricsListener;
 import org.apache.wayang.spark.operators.SparkCollectionSource;
 import org.apache.wayang.spark.operators.SparkLocalCallbackSink;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.Set;
+import java.util.WeakHashMap;
+import java.util.stream.Collectors;
 
 /**
  * {@link Platform} for Apache Spark.
@@ -83,15 +94,25 @@ public class SparkPlatform extends Platform {
             "spark.io.compression.codec",
             "spark.driver.memory",
             "spark.executor.heartbeatInterval",
-            "spark.network.timeout"
+            "spark.network.timeout",
+            "spark.scheduler.mode",
+            "spark.scheduler.allocation.file"
     };
 
     /**
-     * <i>Lazy-initialized.</i> Maintains a reference to a {@link JavaSparkContext}. This instance's reference, however,
-     * does not hold a counted reference, so it might be disposed.
+     * <i>Lazy-initialized.</i> Maintains a reference to a {@link JavaSparkContext} for {@link Job}s without
+     * {@link PlatformContextPool}. This instance's reference, however, does not hold a counted reference, so it
+     * might be disposed.
      */
     private SparkContextReference sparkContextReference;
 
+    /**
+     * The {@link SparkContext}s that already have a {@link SparkMetricsListener}. A {@link SparkContext} may serve
+     * several {@link Job}s, and only some of them might request metrics.
+     */
+    private final Set<SparkContext> sparkContextsWithMetricsListener =
+            Collections.synchronizedSet(Collections.newSetFromMap(new WeakHashMap<>()));
+
     private Logger logger = LogManager.getLogger(this.getClass());
 
     public static SparkPlatform getInstance() {
@@ -106,62 +127,107 @@ public class SparkPlatform extends Platform {
     }
 
     /**
-     * Configures the single maintained {@link JavaSparkContext} according to the {@code job} and returns it.
+     * Configures the single maintained {@link JavaSparkContext} according to the {@code job} and returns it. If
+     * the {@code job} has a {@link PlatformContextPool}, a warm {@link JavaSparkContext} is reused from there.
      *
      * @return a {@link SparkContextReference} wrapping the {@link JavaSparkContext}
      */
     public SparkContextReference getSparkContext(Job job) {
-
-        // NB: There must be only one JavaSparkContext per JVM. Therefore, it is not local to the executor.
-        final SparkConf sparkConf;
         final Configuration configuration = job.getConfiguration();
-        if (this.sparkContextReference != null && !this.sparkContextReference.isDisposed()) {
-            final JavaSparkContext sparkContext = this.sparkContextReference.get();
-            this.logger.warn(
-                    "There is already a SparkContext (master: {}): , which will be reused. " +
-                            "Not all settings might be effective.", sparkContext.getConf().get("spark.master"));
-            sparkConf = sparkContext.getConf();
-        } else {
-            sparkConf = new SparkConf(true);
-        }
+        final PlatformContextPool platformContextPool =
+                job.getWayangContext() == null ? null : job.getWayangContext().getPlatformContextPool();
 
-        for (String property : REQUIRED_SPARK_PROPERTIES) {
-            sparkConf.set(property, configuration.getStringProperty(property));
-        }
-        for (String property : OPTIONAL_SPARK_PROPERTIES) {
-            configuration.getOptionalStringProperty(property).ifPresent(
-                    value -> sparkConf.set(property, value)
+        final SparkContextReference sparkContextReference;
+        if (platformContextPool != null) {
+            final SparkConf sparkConf = this.createSparkConf(new SparkConf(true), configuration);
+            final PlatformContextPool.Lease<JavaSparkContext> lease = platformContextPool.acquire(
+                    this,
+                    this.getContextKey(sparkConf),
+                    configuration,
+                    () -> this.createSparkContext(sparkConf, job),
+                    sparkContext -> !sparkContext.sc().isStopped(),
+                    JavaSparkContext::close
             );
+            sparkContextReference = new SparkContextReference(job.getCrossPlatformExecutor(), lease);
+        } else {
+            // NB: There must be only one JavaSparkContext per JVM. Therefore, it is not local to the executor.
+            final SparkConf sparkConf;
+            if (this.sparkContextReference != null && !this.sparkContextReference.isDisposed()) {
+                final JavaSparkContext sparkContext = this.sparkContextReference.get();
+                this.logger.warn(
+                        "There is already a SparkContext (master: {}): , which will be reused. " +
+                                "Not all settings might be effective.", sparkContext.getConf().get("spark.master"));
+                sparkConf = this.createSparkConf(sparkContext.getConf(), configuration);
+            } else {
+                sparkConf = this.createSparkConf(new SparkConf(true), configuration);
+                this.sparkContextReference = new SparkContextReference(
+                        job.getCrossPlatformExecutor(), this.createSparkContext(sparkConf, job)
+                );
+            }
+            sparkContextReference = this.sparkContextReference;
         }
-        if (job.getName() != null) {
-            sparkConf.set("spark.app.name", job.getName());
-        }
-
-        if (this.sparkContextReference == null || this.sparkContextReference.isDisposed()) {
-            this.sparkContextReference = new SparkContextReference(job.getCrossPlatformExecutor(), new JavaSparkContext(sparkConf));
+        final JavaSparkContext sparkContext = sparkContextReference.get();
+        if (job.getExecutionMetrics() != null && this.sparkContextsWithMetricsListener.add(sparkContext.sc())) {
+            sparkContext.sc().addSparkListener(new SparkMetricsListener(job.getExecutionMetrics(), this.getName()));
         }
-        final JavaSparkContext sparkContext = this.sparkContextReference.get();
 
         // Set up the JAR files.
         //sparkContext.clearJars();
         if (!sparkContext.isLocal()) {
             // Add Wayang JAR files.
-            this.registerJarIfNotNull(ReflectionUtils.getDeclaringJar(SparkPlatform.class)); // wayang-spark
-            this.registerJarIfNotNull(ReflectionUtils.getDeclaringJar(WayangBasic.class)); // wayang-basic
-            this.registerJarIfNotNull(ReflectionUtils.getDeclaringJar(WayangContext.class)); // wayang-core
+            registerJarIfNotNull(sparkContextReference, ReflectionUtils.getDeclaringJar(SparkPlatform.class)); // wayang-spark
+            registerJarIfNotNull(sparkContextReference, ReflectionUtils.getDeclaringJar(WayangBasic.class)); // wayang-basic
+            registerJarIfNotNull(sparkContextReference, ReflectionUtils.getDeclaringJar(WayangContext.class)); // wayang-core
             final Set<String> udfJarPaths = job.getUdfJarPaths();
             if (udfJarPaths.isEmpty()) {
                 this.logger.warn("Non-local SparkContext but not UDF JARs have been declared.");
             } else {
-                udfJarPaths.forEach(this::registerJarIfNotNull);
+                udfJarPaths.forEach(path -> registerJarIfNotNull(sparkContextReference, path));
             }
         }
 
-        return this.sparkContextReference;
+        return sparkContextReference;
     }
 
-    private void registerJarIfNotNull(String path) {
-        if (path != null) this.sparkContextReference.get().addJar(path);
+    /**
+     * Applies the Spark settings from the {@link Configuration} (and the {@link Job} name) to the given
+     * {@link SparkConf}.
+     *
+     * @return the {@code sparkConf}
+     */
+    private SparkConf createSparkConf(SparkConf sparkConf, Configuration configuration) {
+        for (String property : REQUIRED_SPARK_PROPERTIES) {
+            sparkConf.set(property, configuration.getStringProperty(property));
+        }
+        for (String property : OPTIONAL_SPARK_PROPERTIES) {
+            configuration.getOptionalStringProperty(property).ifPresent(
+                    value -> sparkConf.set(property, value)
+            );
+        }
+        return sparkConf;
+    }
+
+    private JavaSparkContext createSparkContext(SparkConf sparkConf, Job job) {
+        if (job.getName() != null) {
+            sparkConf.set("spark.app.name", job.getName());
+        }
+        return new JavaSparkContext(sparkConf);
+    }
+
+    /**
+     * Describes the settings of a {@link SparkConf} so as to detect whether a warm {@link JavaSparkContext} can be
+     * reused. The application name is not relevant.
+     */
+    private String getContextKey(SparkConf sparkConf) {
+        return Arrays.stream(sparkConf.getAll())
+                .filter(setting -> !"spark.app.name".equals(setting._1()))
+                .map(setting -> setting._1() + "=" + setting._2())
+                .sorted()
+                .collect(Collectors.joining(";"));
+    }
+
+    private static void registerJarIfNotNull(SparkContextReference sparkContextReference, String path) {
+        if (path != null) sparkContextReference.addJar(path);
     }
 
     @Override
@@ -172,8 +238,8 @@ public class SparkPlatform extends Platform {
     @Override
     public LoadProfileToTimeConverter createLoadProfileToTimeConverter(Configuration configuration) {
         int cpuMhz = (int) configuration.getLongProperty("wayang.spark.cpu.mhz");
-        int numMachines = (int) configuration.getLongProperty("wayang.spark.machines");
-        int numCores = (int) (numMachines * configuration.getLongProperty("wayang.spark.cores-per-machine"));
+        final ResourceCapacity resourceCapacity = this.getResourceCapacity(configuration);
+        int numCores = resourceCapacity.getNumCores();
         double hdfsMsPerMb = configuration.getDoubleProperty("wayang.spark.hdfs.ms-per-mb");
         double networkMsPerMb = configuration.getDoubleProperty("wayang.spark.network.ms-per-mb");
         double stretch = configuration.getDoubleProperty("wayang.spark.stretch");
@@ -183,6 +249,32 @@ public class SparkPlatform extends Platform {
                 LoadToTimeConverter.createLinearCoverter(networkMsPerMb / 1000000d),
                 (cpuEstimate, diskEstimate, networkEstimate) -> cpuEstimate.plus(diskEstimate).plus(networkEstimate),
                 stretch
+        ).withMemoryLimit(resourceCapacity, configuration.getDoubleProperty("wayang.spark.memory.spill-factor", 0d));
+    }
+
+    /**
+     * {@inheritDoc}
+     * <p>The executors are described by {@code spark.executor.instances}, {@code spark.executor.cores}, and
+     * {@code spark.executor.memory} if they are configured and by the {@code wayang.spark.machines} and
+     * {@code wayang.spark.*-per-machine} settings otherwise.</p>
+     */
+    @Override
+    public ResourceCapacity getResourceCapacity(Configuration configuration) {
+        final long numExecutors = configuration.getLongProperty(
+                "spark.executor.instances", configuration.getLongProperty("wayang.spark.machines")
+        );
+        final long coresPerExecutor = configuration.getLongProperty(
+                "spark.executor.cores", configuration.getLongProperty("wayang.spark.cores-per-machine")
+        );
+        final long memoryBytesPerExecutor = configuration.getOptionalStringProperty("spark.executor.memory")
+                .map(JavaUtils::byteStringAsBytes)
+                .orElseGet(() -> configuration.getLongProperty("wayang.spark.memory-per-machine.mb", 0L) * 1024 * 1024);
+        return new ResourceCapacity(
+                (int) numExecutors,
+                (int) coresPerExecutor,
+                memoryBytesPerExecutor <= 0 ?
+                        Long.MAX_VALUE :
+                        Math.round(memoryBytesPerExecutor * configuration.getDoubleProperty("wayang.spark.memory.fraction", 1d))
         );
     }
 
@@ -199,6 +291,11 @@ public class SparkPlatform extends Platform {
         return job -> new SparkExecutor(this, job);
     }
 
+    @Override
+    public Collection<ChannelCheckpointer> getChannelCheckpointers() {
+        return Collections.singletonList(new RddChannelCheckpointer());
+    }
+
     @Override
     public void warmUp(Configuration configuration) {
         super.warmUp(configuration);
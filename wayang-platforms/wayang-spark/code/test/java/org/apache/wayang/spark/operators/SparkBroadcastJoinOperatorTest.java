@@ -0,0 +1,129 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.spark.operators;
+
+import org.apache.spark.SparkException;
+import org.apache.spark.api.java.JavaRDD;
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.function.ProjectionDescriptor;
+import org.apache.wayang.basic.operators.JoinOperator;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.types.DataUnitType;
+import org.apache.wayang.java.channels.CollectionChannel;
+import org.apache.wayang.spark.channels.RddChannel;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+
+/**
+ * Test suite for {@link SparkBroadcastJoinOperator}.
+ */
+public class SparkBroadcastJoinOperatorTest extends SparkOperatorTestBase {
+
+    private static final List<Tuple2<Integer, String>> INPUT0 = Arrays.asList(
+            new Tuple2<>(1, "b"), new Tuple2<>(1, "c"), new Tuple2<>(2, "d"), new Tuple2<>(3, "e")
+    );
+
+    private static final List<Tuple2<String, Integer>> INPUT1 = Arrays.asList(
+            new Tuple2<>("x", 1), new Tuple2<>("y", 1), new Tuple2<>("z", 2), new Tuple2<>("w", 4)
+    );
+
+    private static final List<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> EXPECTED_OUTPUT = Arrays.asList(
+            new Tuple2<>(new Tuple2<>(1, "b"), new Tuple2<>("x", 1)),
+            new Tuple2<>(new Tuple2<>(1, "b"), new Tuple2<>("y", 1)),
+            new Tuple2<>(new Tuple2<>(1, "c"), new Tuple2<>("x", 1)),
+            new Tuple2<>(new Tuple2<>(1, "c"), new Tuple2<>("y", 1)),
+            new Tuple2<>(new Tuple2<>(2, "d"), new Tuple2<>("z", 2))
+    );
+
+    private static JoinOperator<Tuple2, Tuple2, Integer> createJoinOperator() {
+        return new JoinOperator<>(
+                new ProjectionDescriptor<>(
+                        DataUnitType.createBasicUnchecked(Tuple2.class),
+                        DataUnitType.createBasic(Integer.class),
+                        "field0"),
+                new ProjectionDescriptor<>(
+                        DataUnitType.createBasicUnchecked(Tuple2.class),
+                        DataUnitType.createBasic(Integer.class),
+                        "field1"),
+                DataSetType.createDefaultUnchecked(Tuple2.class),
+                DataSetType.createDefaultUnchecked(Tuple2.class)
+        );
+    }
+
+    @Test
+    public void testBroadcastingInput1() {
+        RddChannel.Instance input0 = this.createRddChannelInstance(INPUT0);
+        CollectionChannel.Instance input1 = this.createCollectionChannelInstance(INPUT1);
+        RddChannel.Instance output = this.createRddChannelInstance();
+
+        SparkBroadcastJoinOperator<Tuple2, Tuple2, Integer> join =
+                new SparkBroadcastJoinOperator<>(createJoinOperator(), 1);
+        this.evaluate(join, new ChannelInstance[]{input0, input1}, new ChannelInstance[]{output});
+
+        final List<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> result =
+                output.<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>>provideRdd().collect();
+        Assert.assertEquals(EXPECTED_OUTPUT.size(), result.size());
+        Assert.assertEquals(new HashSet<>(EXPECTED_OUTPUT), new HashSet<>(result));
+    }
+
+    @Test
+    public void testBroadcastingInput0() {
+        CollectionChannel.Instance input0 = this.createCollectionChannelInstance(INPUT0);
+        RddChannel.Instance input1 = this.createRddChannelInstance(INPUT1);
+        RddChannel.Instance output = this.createRddChannelInstance();
+
+        SparkBroadcastJoinOperator<Tuple2, Tuple2, Integer> join =
+                new SparkBroadcastJoinOperator<>(createJoinOperator(), 0);
+        this.evaluate(join, new ChannelInstance[]{input0, input1}, new ChannelInstance[]{output});
+
+        final List<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> result =
+                output.<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>>provideRdd().collect();
+        Assert.assertEquals(EXPECTED_OUTPUT.size(), result.size());
+        Assert.assertEquals(new HashSet<>(EXPECTED_OUTPUT), new HashSet<>(result));
+    }
+
+    @Test
+    public void testBroadcastIsDestroyedOnceExecuted() {
+        RddChannel.Instance input0 = this.createRddChannelInstance(INPUT0);
+        CollectionChannel.Instance input1 = this.createCollectionChannelInstance(INPUT1);
+        RddChannel.Instance output = this.createRddChannelInstance();
+
+        SparkBroadcastJoinOperator<Tuple2, Tuple2, Integer> join =
+                new SparkBroadcastJoinOperator<>(createJoinOperator(), 1);
+        this.evaluate(join, new ChannelInstance[]{input0, input1}, new ChannelInstance[]{output});
+
+        final JavaRDD<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> outputRdd = output.provideRdd();
+        Assert.assertEquals(EXPECTED_OUTPUT.size(), outputRdd.count());
+
+        // Once an action has consumed the join product, its broadcast hash table is destroyed.
+        output.getLineage().collectAndMark();
+        try {
+            outputRdd.count();
+            Assert.fail("The broadcast should have been destroyed.");
+        } catch (Exception e) {
+            Assert.assertTrue(e instanceof SparkException);
+        }
+    }
+
+}
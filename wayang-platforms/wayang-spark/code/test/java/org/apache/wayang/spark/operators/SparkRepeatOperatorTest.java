@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.spark.operators;
+
+import org.apache.spark.api.java.JavaRDD;
+import org.apache.spark.storage.StorageLevel;
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.basic.operators.RepeatOperator;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.spark.channels.RddChannel;
+import org.apache.wayang.spark.execution.IterationCheckpointer;
+import org.apache.wayang.spark.execution.SparkExecutor;
+import org.apache.wayang.spark.platform.SparkPlatform;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test suite for {@link SparkRepeatOperator}.
+ */
+public class SparkRepeatOperatorTest extends SparkOperatorTestBase {
+
+    @Test
+    public void testLineageTruncation() {
+        this.configuration.setProperty(IterationCheckpointer.INTERVAL_KEY, "2");
+
+        List<JavaRDD<Integer>> iterationRdds = new ArrayList<>();
+        final RddChannel.Instance output = this.runLoop(this.sparkExecutor, iterationRdds);
+
+        // Verify the outcome.
+        final List<Integer> result = output.<Integer>provideRdd().collect();
+        Assert.assertEquals(Arrays.asList(7, 8, 9), result);
+
+        // Every second iteration should be checkpointed and only the latest checkpoint should remain persisted.
+        Assert.assertEquals(6, iterationRdds.size());
+        for (int i = 0; i < iterationRdds.size(); i++) {
+            final JavaRDD<Integer> iterationRdd = iterationRdds.get(i);
+            Assert.assertEquals(i % 2 == 1, iterationRdd.rdd().isCheckpointed());
+            Assert.assertEquals(i == 5, !iterationRdd.getStorageLevel().equals(StorageLevel.NONE()));
+        }
+    }
+
+    @Test
+    public void testCheckpointsAreReleasedOnDisposal() {
+        this.configuration.setProperty(IterationCheckpointer.INTERVAL_KEY, "2");
+        final SparkExecutor sparkExecutor =
+                (SparkExecutor) SparkPlatform.getInstance().getExecutorFactory().create(this.mockJob());
+
+        List<JavaRDD<Integer>> iterationRdds = new ArrayList<>();
+        final RddChannel.Instance output = this.runLoop(sparkExecutor, iterationRdds);
+        Assert.assertEquals(Arrays.asList(7, 8, 9), output.<Integer>provideRdd().collect());
+        final JavaRDD<Integer> latestCheckpoint = iterationRdds.get(5);
+        Assert.assertNotEquals(StorageLevel.NONE(), latestCheckpoint.getStorageLevel());
+
+        // Disposing the executor, e.g., after a failed job, should release the checkpoints.
+        sparkExecutor.dispose();
+        Assert.assertEquals(StorageLevel.NONE(), latestCheckpoint.getStorageLevel());
+    }
+
+    @Test
+    public void testReliableCheckpointsAreReleasedOnceExecuted() throws IOException {
+        this.configuration.setProperty(IterationCheckpointer.INTERVAL_KEY, "2");
+        this.getSC().setCheckpointDir(Files.createTempDirectory("wayang-checkpoints").toString());
+
+        List<JavaRDD<Integer>> iterationRdds = new ArrayList<>();
+        final RddChannel.Instance output = this.runLoop(this.sparkExecutor, iterationRdds);
+        final JavaRDD<Integer> latestCheckpoint = iterationRdds.get(5);
+        Assert.assertTrue(latestCheckpoint.getCheckpointFile().isPresent());
+        Assert.assertNotEquals(StorageLevel.NONE(), latestCheckpoint.getStorageLevel());
+
+        // Once the final loop output has been computed, the checkpoint files suffice.
+        Assert.assertEquals(Arrays.asList(7, 8, 9), output.<Integer>provideRdd().collect());
+        output.getLineage().collectAndMark();
+        Assert.assertEquals(StorageLevel.NONE(), latestCheckpoint.getStorageLevel());
+        Assert.assertEquals(Arrays.asList(7, 8, 9), output.<Integer>provideRdd().collect());
+    }
+
+    /**
+     * Runs a {@link SparkRepeatOperator} with six iterations over a loop body that increments every data quantum.
+     *
+     * @param sparkExecutor  that should run the loop
+     * @param iterationRdds  collects the {@link JavaRDD}s fed into the loop body
+     * @return the final loop output
+     */
+    private RddChannel.Instance runLoop(SparkExecutor sparkExecutor, List<JavaRDD<Integer>> iterationRdds) {
+        SparkRepeatOperator<Integer> repeatOperator =
+                new SparkRepeatOperator<>(6, DataSetType.createDefault(Integer.class));
+        RddChannel.Instance input = this.createRddChannelInstance(Arrays.asList(1, 2, 3));
+        ChannelInstance[] inputs = new ChannelInstance[]{input, null};
+        ChannelInstance[] outputs;
+        while (true) {
+            outputs = new ChannelInstance[]{this.createRddChannelInstance(), this.createRddChannelInstance()};
+            repeatOperator.evaluate(inputs, outputs, sparkExecutor, this.createOperatorContext(repeatOperator));
+            if (repeatOperator.getState() == RepeatOperator.State.FINISHED) break;
+
+            final JavaRDD<Integer> iterationRdd =
+                    ((RddChannel.Instance) outputs[RepeatOperator.ITERATION_OUTPUT_INDEX]).provideRdd();
+            iterationRdds.add(iterationRdd);
+            RddChannel.Instance nextInput = this.createRddChannelInstance();
+            nextInput.accept(iterationRdd.map(i -> i + 1), sparkExecutor);
+            inputs = new ChannelInstance[]{null, nextInput};
+        }
+        return (RddChannel.Instance) outputs[RepeatOperator.FINAL_OUTPUT_INDEX];
+    }
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.spark.operators;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.function.ProjectionDescriptor;
+import org.apache.wayang.basic.operators.JoinOperator;
+import org.apache.wayang.core.platform.ChannelInstance;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.types.DataUnitType;
+import org.apache.wayang.spark.channels.RddChannel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Test suite for {@link SparkSkewJoinOperator}.
+ */
+public class SparkSkewJoinOperatorTest extends SparkOperatorTestBase {
+
+    @Test
+    public void testExecutionWithHeavyHitter() {
+        this.testExecutionWithHeavyHitter(100000);
+    }
+
+    @Test
+    public void testExecutionWithSaltedHeavyHitter() {
+        // Only one of the two matching data quanta of the second input may be broadcast.
+        this.testExecutionWithHeavyHitter(1);
+    }
+
+    private void testExecutionWithHeavyHitter(int maxBroadcastSize) {
+        // Key 1 is a heavy hitter in the first input.
+        List<Tuple2<Integer, String>> inputData0 = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            inputData0.add(new Tuple2<>(1, "a" + i));
+        }
+        for (int key = 2; key < 12; key++) {
+            inputData0.add(new Tuple2<>(key, "b" + key));
+        }
+        RddChannel.Instance input0 = this.createRddChannelInstance(inputData0);
+        RddChannel.Instance input1 = this.createRddChannelInstance(Arrays.asList(
+                new Tuple2<>("x", 1), new Tuple2<>("y", 1), new Tuple2<>("z", 2), new Tuple2<>("w", 40)));
+        RddChannel.Instance output = this.createRddChannelInstance();
+
+        // Sample everything, as the inputs have no cardinality estimates.
+        this.configuration.setProperty("wayang.spark.skewjoin.sample-fraction", "1");
+        this.configuration.setProperty("wayang.spark.skewjoin.max-broadcast-size", String.valueOf(maxBroadcastSize));
+
+        SparkSkewJoinOperator<Tuple2, Tuple2, Integer> join = new SparkSkewJoinOperator<>(new JoinOperator<>(
+                new ProjectionDescriptor<>(
+                        DataUnitType.createBasicUnchecked(Tuple2.class),
+                        DataUnitType.createBasic(Integer.class),
+                        "field0"),
+                new ProjectionDescriptor<>(
+                        DataUnitType.createBasicUnchecked(Tuple2.class),
+                        DataUnitType.createBasic(Integer.class),
+                        "field1"),
+                DataSetType.createDefaultUnchecked(Tuple2.class),
+                DataSetType.createDefaultUnchecked(Tuple2.class)
+        ));
+        this.evaluate(join, new ChannelInstance[]{input0, input1}, new ChannelInstance[]{output});
+
+        final List<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>> result =
+                output.<Tuple2<Tuple2<Integer, String>, Tuple2<String, Integer>>>provideRdd().collect();
+        Assert.assertEquals(101, result.size());
+        Assert.assertEquals(100, result.stream().filter(tuple -> tuple.field0.field0 == 1).count());
+        Assert.assertTrue(result.contains(new Tuple2<>(new Tuple2<>(2, "b2"), new Tuple2<>("z", 2))));
+        Assert.assertTrue(result.contains(new Tuple2<>(new Tuple2<>(1, "a7"), new Tuple2<>("y", 1))));
+    }
+
+}
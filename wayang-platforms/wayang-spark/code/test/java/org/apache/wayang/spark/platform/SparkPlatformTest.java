@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.spark.platform;
+
+import org.apache.spark.api.java.JavaSparkContext;
+import org.apache.wayang.core.api.Configuration;
+import org.apache.wayang.core.api.Job;
+import org.apache.wayang.core.monitor.metrics.ExecutionMetrics;
+import org.apache.wayang.core.monitor.metrics.Histogram;
+import org.apache.wayang.core.monitor.metrics.MetricsRegistry;
+import org.apache.wayang.core.platform.CrossPlatformExecutor;
+import org.apache.wayang.core.profiling.FullInstrumentationStrategy;
+import org.apache.wayang.spark.execution.SparkContextReference;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.Arrays;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Test suite for {@link SparkPlatform}.
+ */
+public class SparkPlatformTest {
+
+    private static Job mockJob(ExecutionMetrics executionMetrics) {
+        final Configuration configuration = new Configuration();
+        final Job job = mock(Job.class);
+        when(job.getConfiguration()).thenReturn(configuration);
+        when(job.getCrossPlatformExecutor()).thenReturn(new CrossPlatformExecutor(job, new FullInstrumentationStrategy()));
+        when(job.getExecutionMetrics()).thenReturn(executionMetrics);
+        return job;
+    }
+
+    @Test
+    public void testMetricsListenerIsRegisteredOnFirstRequest() throws InterruptedException {
+        final SparkPlatform sparkPlatform = SparkPlatform.getInstance();
+
+        // The first job does not request metrics, but it might create the SparkContext.
+        final SparkContextReference firstReference = sparkPlatform.getSparkContext(mockJob(null));
+        firstReference.noteObtainedReference();
+
+        // A later job on the same SparkContext requests metrics.
+        final ExecutionMetrics executionMetrics = new ExecutionMetrics(new MetricsRegistry());
+        final SparkContextReference secondReference = sparkPlatform.getSparkContext(mockJob(executionMetrics));
+        final JavaSparkContext sparkContext = secondReference.get();
+        Assert.assertSame(firstReference.get(), sparkContext);
+        Assert.assertEquals(10L, sparkContext.parallelize(Arrays.asList(1, 2, 3, 4, 5, 6, 7, 8, 9, 10), 2).count());
+
+        // Spark notifies its listeners asynchronously.
+        final Histogram cpuTime = executionMetrics.getRegistry()
+                .histogram("wayang_task_cpu_time_seconds", "", 1e6, "platform", "operator")
+                .labels(sparkPlatform.getName(), "unknown");
+        for (int i = 0; i < 100 && cpuTime.getCount() < 2; i++) {
+            Thread.sleep(100);
+        }
+        Assert.assertEquals(2, cpuTime.getCount());
+
+        firstReference.noteDiscardedReference(false);
+    }
+
+}
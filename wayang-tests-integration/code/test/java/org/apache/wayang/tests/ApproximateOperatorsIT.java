@@ -0,0 +1,138 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.tests;
+
+import org.apache.wayang.basic.data.Estimate;
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.operators.ApproximateDistinctCountOperator;
+import org.apache.wayang.basic.operators.ApproximateQuantilesOperator;
+import org.apache.wayang.basic.operators.ApproximateTopKOperator;
+import org.apache.wayang.basic.operators.CollectionSource;
+import org.apache.wayang.basic.operators.LocalCallbackSink;
+import org.apache.wayang.core.api.WayangContext;
+import org.apache.wayang.core.plan.wayangplan.Operator;
+import org.apache.wayang.core.plan.wayangplan.WayangPlan;
+import org.apache.wayang.core.types.DataSetType;
+import org.apache.wayang.core.util.ReflectionUtils;
+import org.apache.wayang.java.Java;
+import org.apache.wayang.spark.Spark;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Integration tests for the {@link ApproximateDistinctCountOperator}, {@link ApproximateTopKOperator}, and
+ * {@link ApproximateQuantilesOperator}.
+ */
+public class ApproximateOperatorsIT {
+
+    /**
+     * Creates the values in {@code [0, 10000)}, whereof {@code 100}, {@code 200}, and {@code 300} occur
+     * {@code 1001}, {@code 2001}, and {@code 3001} times, respectively, and all others once.
+     */
+    private static List<Integer> createValues() {
+        List<Integer> values = new ArrayList<>();
+        for (int i = 0; i < 10000; i++) {
+            values.add(i);
+        }
+        for (int i = 1; i <= 3; i++) {
+            values.addAll(Collections.nCopies(i * 1000, i * 100));
+        }
+        Collections.shuffle(values, new Random(42));
+        return values;
+    }
+
+    private <T> List<T> execute(WayangContext wayangContext, Operator operator, DataSetType<T> outputType) {
+        CollectionSource<Integer> source = new CollectionSource<>(createValues(), Integer.class);
+        List<T> collector = new LinkedList<>();
+        LocalCallbackSink<T> sink = LocalCallbackSink.createCollectingSink(collector, outputType);
+        source.connectTo(0, operator, 0);
+        operator.connectTo(0, sink, 0);
+        wayangContext.execute(new WayangPlan(sink));
+        return collector;
+    }
+
+    @Test
+    public void testDistinctCountOnJava() {
+        this.testDistinctCount(new WayangContext().with(Java.basicPlugin()));
+    }
+
+    @Test
+    public void testDistinctCountOnSpark() {
+        this.testDistinctCount(new WayangContext().with(Spark.basicPlugin()));
+    }
+
+    private void testDistinctCount(WayangContext wayangContext) {
+        final List<Estimate> result = this.execute(
+                wayangContext,
+                new ApproximateDistinctCountOperator<>(Integer.class),
+                DataSetType.createDefault(Estimate.class)
+        );
+
+        Assert.assertEquals(1, result.size());
+        final Estimate estimate = result.get(0);
+        Assert.assertTrue(String.format("%s does not contain 10000.", estimate),
+                estimate.getLowerBound() <= 10000 && 10000 <= estimate.getUpperBound());
+    }
+
+    @Test
+    public void testTopKOnJava() {
+        final List<Tuple2<Integer, Estimate>> result = this.execute(
+                new WayangContext().with(Java.basicPlugin()),
+                new ApproximateTopKOperator<>(3, Integer.class),
+                DataSetType.createDefault(ReflectionUtils.specify(Tuple2.class))
+        );
+
+        Assert.assertEquals(3, result.size());
+        for (int i = 0; i < 3; i++) {
+            final Tuple2<Integer, Estimate> valueAndFrequency = result.get(i);
+            Assert.assertEquals(300 - 100 * i, valueAndFrequency.field0.intValue());
+            final int frequency = 3001 - 1000 * i;
+            Assert.assertTrue(String.format("%s does not contain %d.", valueAndFrequency.field1, frequency),
+                    valueAndFrequency.field1.getLowerBound() <= frequency
+                            && frequency <= valueAndFrequency.field1.getUpperBound());
+        }
+    }
+
+    @Test
+    public void testQuantilesOnJava() {
+        final List<Tuple2<Double, Estimate>> result = this.execute(
+                new WayangContext().with(Java.basicPlugin()),
+                new ApproximateQuantilesOperator<>(Integer::doubleValue, Integer.class, 0d, 0.5d, 1d),
+                DataSetType.createDefault(ReflectionUtils.specify(Tuple2.class))
+        );
+
+        Assert.assertEquals(3, result.size());
+        result.sort((t1, t2) -> Double.compare(t1.field0, t2.field0));
+        Assert.assertEquals(0d, result.get(0).field1.getValue(), 0d);
+        Assert.assertEquals(9999d, result.get(2).field1.getValue(), 0d);
+        final List<Integer> sortedValues = createValues();
+        Collections.sort(sortedValues);
+        final int exactMedian = sortedValues.get(sortedValues.size() / 2);
+        final Estimate median = result.get(1).field1;
+        Assert.assertTrue(String.format("%s does not contain %d.", median, exactMedian),
+                median.getLowerBound() <= exactMedian && exactMedian <= median.getUpperBound());
+    }
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.wayang.tests;
+
+import org.apache.wayang.basic.data.Tuple2;
+import org.apache.wayang.basic.incremental.IncrementalPlan;
+import org.apache.wayang.basic.operators.CountOperator;
+import org.apache.wayang.basic.operators.FlatMapOperator;
+import org.apache.wayang.basic.operators.LocalCallbackSink;
+import org.apache.wayang.basic.operators.MapOperator;
+import org.apache.wayang.basic.operators.ReduceByOperator;
+import org.apache.wayang.core.api.WayangContext;
+import org.apache.wayang.core.api.state.FileStateStore;
+import org.apache.wayang.core.api.state.StateStore;
+import org.apache.wayang.core.plan.wayangplan.Operator;
+import org.apache.wayang.core.util.ReflectionUtils;
+import org.apache.wayang.java.Java;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Integration tests for the incremental recomputation via {@link IncrementalPlan}s.
+ */
+public class IncrementalIT {
+
+    private Path inputDirectory;
+
+    private StateStore stateStore;
+
+    @Before
+    public void setUp() throws IOException {
+        this.inputDirectory = Files.createTempDirectory("wayang-incremental-input");
+        this.inputDirectory.toFile().deleteOnExit();
+        final Path stateDirectory = Files.createTempDirectory("wayang-incremental-state");
+        stateDirectory.toFile().deleteOnExit();
+        this.stateStore = new FileStateStore(stateDirectory.toUri().toString());
+    }
+
+    @Test
+    public void testIncrementalWordCount() throws IOException {
+        Files.write(this.inputDirectory.resolve("log-1.txt"), Arrays.asList("a b", "b"));
+        Files.write(this.inputDirectory.resolve("_log-2.txt"), Collections.singletonList("in progress"));
+        Assert.assertEquals(this.createWordCounts("a", 1, "b", 2), this.runWordCount());
+
+        Files.write(this.inputDirectory.resolve("log-2.txt"), Arrays.asList("a c", "c c"));
+        Assert.assertEquals(this.createWordCounts("a", 2, "b", 2, "c", 3), this.runWordCount());
+
+        // Without new input, the results are retained.
+        Assert.assertEquals(this.createWordCounts("a", 2, "b", 2, "c", 3), this.runWordCount());
+    }
+
+    @Test
+    public void testIncrementalCount() throws IOException {
+        Files.write(this.inputDirectory.resolve("log-1.txt"), Arrays.asList("a", "b", "c"));
+        Assert.assertEquals(3L, this.runLineCount());
+        Files.write(this.inputDirectory.resolve("log-2.txt"), Arrays.asList("d", "e"));
+        Assert.assertEquals(5L, this.runLineCount());
+        Assert.assertEquals(5L, this.runLineCount());
+    }
+
+    private Map<String, Integer> runWordCount() {
+        final WayangContext wayangContext = new WayangContext().with(Java.basicPlugin());
+        final IncrementalPlan incrementalPlan = new IncrementalPlan("word-count", this.stateStore);
+
+        final Operator lines = incrementalPlan.readNewTextFiles(this.inputDirectory.toUri().toString());
+        final FlatMapOperator<String, String> split = new FlatMapOperator<>(
+                line -> Arrays.asList(line.split(" ")), String.class, String.class
+        );
+        lines.connectTo(0, split, 0);
+        final MapOperator<String, Tuple2<String, Integer>> pair = new MapOperator<>(
+                word -> new Tuple2<>(word, 1), String.class, ReflectionUtils.specify(Tuple2.class)
+        );
+        split.connectTo(0, pair, 0);
+        final ReduceByOperator<Tuple2<String, Integer>, String> sum = new ReduceByOperator<>(
+                Tuple2::getField0,
+                (t1, t2) -> new Tuple2<>(t1.getField0(), t1.getField1() + t2.getField1()),
+                String.class,
+                ReflectionUtils.specify(Tuple2.class)
+        );
+        pair.connectTo(0, sum, 0);
+        final Operator wordCounts = incrementalPlan.mergeReduceBy("counts", sum);
+
+        final List<Tuple2<String, Integer>> collector = new ArrayList<>();
+        final LocalCallbackSink<Tuple2<String, Integer>> sink = LocalCallbackSink.createCollectingSink(
+                collector, ReflectionUtils.specify(Tuple2.class)
+        );
+        wordCounts.connectTo(0, sink, 0);
+
+        incrementalPlan.execute(wayangContext, "incremental word count", sink);
+
+        final Map<String, Integer> result = new HashMap<>();
+        collector.forEach(wordCount -> result.put(wordCount.getField0(), wordCount.getField1()));
+        return result;
+    }
+
+    private long runLineCount() {
+        final WayangContext wayangContext = new WayangContext().with(Java.basicPlugin());
+        final IncrementalPlan incrementalPlan = new IncrementalPlan("line-count", this.stateStore);
+
+        final Operator lines = incrementalPlan.readNewTextFiles(this.inputDirectory.toUri().toString());
+        final CountOperator<String> count = new CountOperator<>(String.class);
+        lines.connectTo(0, count, 0);
+        final Operator lineCount = incrementalPlan.mergeCount("count", count);
+
+        final List<Long> collector = new ArrayList<>();
+        final LocalCallbackSink<Long> sink = LocalCallbackSink.createCollectingSink(collector, Long.class);
+        lineCount.connectTo(0, sink, 0);
+
+        incrementalPlan.execute(wayangContext, "incremental line count", sink);
+
+        Assert.assertEquals(1, collector.size());
+        return collector.get(0);
+    }
+
+    private Map<String, Integer> createWordCounts(Object... wordsAndCounts) {
+        final Map<String, Integer> wordCounts = new HashMap<>();
+        for (int i = 0; i < wordsAndCounts.length; i += 2) {
+            wordCounts.put((String) wordsAndCounts[i], (Integer) wordsAndCounts[i + 1]);
+        }
+        return wordCounts;
+    }
+
+}